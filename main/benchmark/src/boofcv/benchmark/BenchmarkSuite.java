@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.benchmark;
+
+import com.google.caliper.Runner;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>
+ * Runs the standard set of benchmarks and saves the results of each one as JSON, which can then be compared
+ * against the results from another commit using {@link CompareBenchmarkResults}.  Each benchmark is run
+ * by Caliper, which warms up the JIT and measures each scenario in its own VM.
+ * </p>
+ *
+ * <p>
+ * Usage: BenchmarkSuite &lt;output directory&gt; [benchmark class] ... [-- caliper arguments]<br>
+ * If no benchmark classes are specified then all of the ones in {@link #DEFAULT} are run.  Arguments after
+ * "--" are passed to Caliper, e.g. "-Dsize=640x480" to only run one image size.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class BenchmarkSuite {
+
+	/**
+	 * Benchmarks which are run by default
+	 */
+	public static final String DEFAULT[] = new String[]{
+			"boofcv.alg.filter.convolve.BenchmarkConvolve",
+			"boofcv.alg.filter.convolve.BenchmarkConvolveConcurrent",
+			"boofcv.alg.distort.BenchmarkImageDistort",
+			"boofcv.alg.feature.detect.intensity.BenchmarkFastIntensity",
+			"boofcv.alg.feature.disparity.BenchmarkDisparityAlgs",
+			"boofcv.alg.feature.associate.BenchmarkAssociationSpeedSurf",
+			"boofcv.alg.geo.BenchmarkRuntimePose"};
+
+	/**
+	 * Runs a single benchmark and saves its results.
+	 *
+	 * @param benchmark Name of the benchmark class.
+	 * @param outputDir Directory the results are saved in.  The file will have the same name as the class.
+	 * @param caliperArgs Additional arguments passed to caliper.
+	 * @return The file the results were saved to.
+	 */
+	public static File run( String benchmark , File outputDir , List<String> caliperArgs ) {
+		File output = new File(outputDir,benchmark+".json");
+
+		List<String> args = new ArrayList<String>();
+		args.addAll(caliperArgs);
+		args.add("--saveResults");
+		args.add(output.getPath());
+		args.add(benchmark);
+
+		new Runner().run(args.toArray(new String[args.size()]));
+
+		return output;
+	}
+
+	public static void main( String args[] ) {
+		if( args.length < 1 ) {
+			System.out.println("BenchmarkSuite <output directory> [benchmark class] ... [-- caliper arguments]");
+			System.exit(1);
+		}
+
+		File outputDir = new File(args[0]);
+		if( !outputDir.exists() && !outputDir.mkdirs() )
+			throw new RuntimeException("Can't create directory "+outputDir.getPath());
+
+		List<String> benchmarks = new ArrayList<String>();
+		List<String> caliperArgs = new ArrayList<String>();
+
+		int i = 1;
+		for( ; i < args.length && !args[i].equals("--"); i++ ) {
+			benchmarks.add(args[i]);
+		}
+		for( i++; i < args.length; i++ ) {
+			caliperArgs.add(args[i]);
+		}
+
+		if( benchmarks.isEmpty() ) {
+			for( String s : DEFAULT )
+				benchmarks.add(s);
+		}
+
+		for( String s : benchmarks ) {
+			System.out.println("=========  "+s);
+			File f = run(s,outputDir,caliperArgs);
+			System.out.println("Saved "+f.getPath());
+		}
+	}
+}
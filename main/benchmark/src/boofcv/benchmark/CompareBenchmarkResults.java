@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.benchmark;
+
+import com.google.caliper.*;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.*;
+
+/**
+ * <p>
+ * Compares the JSON results from two runs of {@link BenchmarkSuite}, typically the results from two different
+ * commits.  The median time of each scenario in the baseline is compared against the same scenario in the
+ * new results.  If any scenario slowed down by more than the tolerance then the application exits with
+ * a non-zero status, which allows it to be used to catch performance regressions.
+ * </p>
+ *
+ * <p>
+ * Usage: CompareBenchmarkResults &lt;baseline directory&gt; &lt;current directory&gt; [tolerance]<br>
+ * The tolerance is the allowed fractional increase in time, e.g. 0.1 = 10% slower.  Default is 0.1
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class CompareBenchmarkResults {
+
+	// allowed fractional increase in run time
+	double tolerance;
+
+	// number of scenarios which got slower by more than the tolerance
+	int totalRegressions;
+	// number of scenarios compared
+	int totalCompared;
+
+	public CompareBenchmarkResults(double tolerance) {
+		this.tolerance = tolerance;
+	}
+
+	/**
+	 * Loads the median time of each scenario in the results file.
+	 *
+	 * @return Map from a description of the scenario to its median time in nanoseconds.
+	 */
+	public static Map<String,Double> load( File file ) throws IOException {
+		Reader reader = new FileReader(file);
+		Result result;
+		try {
+			result = Json.getGsonInstance().fromJson(reader, Result.class);
+		} finally {
+			reader.close();
+		}
+
+		Map<String,Double> ret = new TreeMap<String, Double>();
+		Run run = result.getRun();
+		for( Map.Entry<Scenario,ScenarioResult> e : run.getMeasurements().entrySet() ) {
+			MeasurementSet set = e.getValue().getMeasurementSet(MeasurementType.TIME);
+			if( set == null )
+				continue;
+			ret.put(describe(e.getKey()), set.medianRaw());
+		}
+		return ret;
+	}
+
+	/**
+	 * Creates a description of the scenario which does not depend on the order of its variables
+	 */
+	private static String describe( Scenario scenario ) {
+		return new TreeMap<String,String>(scenario.getVariables()).toString();
+	}
+
+	/**
+	 * Compares results from a single benchmark and prints the change in time for each scenario
+	 */
+	public void compare( String name , Map<String,Double> baseline , Map<String,Double> current ) {
+		System.out.println("=========  "+name);
+		for( Map.Entry<String,Double> e : baseline.entrySet() ) {
+			Double found = current.get(e.getKey());
+			if( found == null ) {
+				System.out.println("  missing    "+e.getKey());
+				continue;
+			}
+
+			double change = (found - e.getValue())/e.getValue();
+			boolean regression = change > tolerance;
+
+			totalCompared++;
+			if( regression )
+				totalRegressions++;
+
+			System.out.printf("  %s %+7.1f%%  %s\n", regression ? "SLOWER" : "      ", 100*change, e.getKey());
+		}
+	}
+
+	/**
+	 * Compares all the results which are in both directories.
+	 */
+	public void compare( File baselineDir , File currentDir ) throws IOException {
+		File files[] = baselineDir.listFiles();
+		if( files == null )
+			throw new IllegalArgumentException("Not a directory: "+baselineDir.getPath());
+		Arrays.sort(files);
+
+		for( File f : files ) {
+			if( !f.getName().endsWith(".json"))
+				continue;
+
+			File c = new File(currentDir,f.getName());
+			if( !c.exists() ) {
+				System.out.println("No current results for "+f.getName());
+				continue;
+			}
+
+			String name = f.getName().substring(0,f.getName().length()-5);
+			compare(name,load(f),load(c));
+		}
+	}
+
+	public int getTotalRegressions() {
+		return totalRegressions;
+	}
+
+	public int getTotalCompared() {
+		return totalCompared;
+	}
+
+	public static void main( String args[] ) throws IOException {
+		if( args.length < 2 ) {
+			System.out.println("CompareBenchmarkResults <baseline directory> <current directory> [tolerance]");
+			System.exit(1);
+		}
+
+		double tolerance = args.length > 2 ? Double.parseDouble(args[2]) : 0.1;
+
+		CompareBenchmarkResults app = new CompareBenchmarkResults(tolerance);
+		app.compare(new File(args[0]),new File(args[1]));
+
+		System.out.println();
+		System.out.println("Compared "+app.getTotalCompared()+"  regressions "+app.getTotalRegressions());
+
+		if( app.getTotalRegressions() > 0 )
+			System.exit(2);
+	}
+}
@@ -90,7 +90,12 @@ public class BenchmarkAssociationSpeedRandom {
 
 		ProfileOperation.printOpsPerSec(new General("Greedy", FactoryAssociation.greedy(score, Double.MAX_VALUE, false)),TEST_TIME);
 		ProfileOperation.printOpsPerSec(new General("Greedy Backwards", FactoryAssociation.greedy(score, Double.MAX_VALUE, true)),TEST_TIME);
+		ProfileOperation.printOpsPerSec(new General("Greedy Backwards Ratio", FactoryAssociation.greedy(score, Double.MAX_VALUE, 0.8, true, false)),TEST_TIME);
+		ProfileOperation.printOpsPerSec(new General("Greedy MT", FactoryAssociation.greedy(score, Double.MAX_VALUE, 1.0, false, true)),TEST_TIME);
+		ProfileOperation.printOpsPerSec(new General("Greedy Backwards MT", FactoryAssociation.greedy(score, Double.MAX_VALUE, 1.0, true, true)),TEST_TIME);
 		ProfileOperation.printOpsPerSec(new General("Random Forest", FactoryAssociation.kdRandomForest(DOF,500,15,5,1233445565)),TEST_TIME);
+		ProfileOperation.printOpsPerSec(new General("KD Forest", FactoryAssociation.<TupleDesc_F64>kdForest(DOF,500,4,5,1.0,1233445565,false)),TEST_TIME);
+		ProfileOperation.printOpsPerSec(new General("KD Forest MT", FactoryAssociation.<TupleDesc_F64>kdForest(DOF,500,4,5,1.0,1233445565,true)),TEST_TIME);
 		
 	}
 }
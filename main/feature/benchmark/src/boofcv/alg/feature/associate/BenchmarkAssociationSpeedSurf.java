@@ -24,11 +24,11 @@ import boofcv.abst.feature.detdesc.DetectDescribePoint;
 import boofcv.core.image.ConvertBufferedImage;
 import boofcv.factory.feature.associate.FactoryAssociation;
 import boofcv.factory.feature.detdesc.FactoryDetectDescribe;
-import boofcv.misc.Performer;
-import boofcv.misc.ProfileOperation;
 import boofcv.struct.FastQueue;
 import boofcv.struct.feature.TupleDesc_F64;
 import boofcv.struct.image.ImageFloat32;
+import com.google.caliper.Runner;
+import com.google.caliper.SimpleBenchmark;
 
 import javax.imageio.ImageIO;
 import java.awt.image.BufferedImage;
@@ -37,58 +37,57 @@ import java.io.IOException;
 
 
 /**
+ * Benchmark for associating SURF features between two images.
+ *
  * @author Peter Abeles
  */
-public class BenchmarkAssociationSpeedSurf {
+@SuppressWarnings({"UnusedDeclaration"})
+public class BenchmarkAssociationSpeedSurf extends SimpleBenchmark {
 
 	static final String image1 = "../data/applet/apartment_building_01.jpg";
 	static final String image2 = "../data/applet/apartment_building_02.jpg";
 
-
-	static final long TEST_TIME = 1000;
-
 	FastQueue<TupleDesc_F64> listA;
 	FastQueue<TupleDesc_F64> listB;
 
 	DetectDescribePoint<ImageFloat32,TupleDesc_F64> detector;
 
-	public BenchmarkAssociationSpeedSurf() {
+	AssociateDescription<TupleDesc_F64> greedy;
+	AssociateDescription<TupleDesc_F64> greedyBackwards;
+	AssociateDescription<TupleDesc_F64> randomForest;
+
+	@Override protected void setUp() throws Exception {
 		detector = (DetectDescribePoint)FactoryDetectDescribe.surfStable(null,null,null,ImageFloat32.class);
 		listA = createSet(image1);
 		listB = createSet(image2);
-		
-		System.out.println("Size A = "+listA.size()+"  B = "+listB.size());
-	}
 
-	public Performer createProfile( String name, AssociateDescription<TupleDesc_F64> alg ) {
-		return new General(name,alg);
-	}
+		ScoreAssociation<TupleDesc_F64> score = FactoryAssociation.scoreEuclidean(TupleDesc_F64.class,true);
+		int DOF = detector.getDescriptionLength();
 
-	public int getFeatureLength() {
-		return detector.getDescriptionLength();
+		greedy = FactoryAssociation.greedy(score, Double.MAX_VALUE, false);
+		greedyBackwards = FactoryAssociation.greedy(score, Double.MAX_VALUE, true);
+		randomForest = FactoryAssociation.kdRandomForest(DOF, 500, 15, 5, 1233445565);
 	}
 
-	public class General implements Performer {
-
-		AssociateDescription<TupleDesc_F64> alg;
-		String name;
-
-		public General(String name, AssociateDescription<TupleDesc_F64> alg) {
-			this.alg = alg;
-			this.name = name;
-		}
-
-		@Override
-		public void process() {
+	private int associate( AssociateDescription<TupleDesc_F64> alg , int reps ) {
+		for( int i = 0; i < reps; i++ ) {
 			alg.setSource(listA);
 			alg.setDestination(listB);
 			alg.associate();
 		}
+		return alg.getMatches().size();
+	}
 
-		@Override
-		public String getName() {
-			return name;
-		}
+	public int timeGreedy(int reps) {
+		return associate(greedy,reps);
+	}
+
+	public int timeGreedyBackwards(int reps) {
+		return associate(greedyBackwards,reps);
+	}
+
+	public int timeRandomForest(int reps) {
+		return associate(randomForest,reps);
 	}
 
 	private FastQueue<TupleDesc_F64> createSet( String imageName ) {
@@ -112,19 +111,7 @@ public class BenchmarkAssociationSpeedSurf {
 		}
 	}
 
-	public static void main( String argsp[ ] ) {
-		BenchmarkAssociationSpeedSurf app = new BenchmarkAssociationSpeedSurf();
-
-		ScoreAssociation<TupleDesc_F64> score = FactoryAssociation.scoreEuclidean(TupleDesc_F64.class,true);
-		
-		int DOF = app.getFeatureLength();
-
-		ProfileOperation.printOpsPerSec(app.createProfile("Greedy",
-				FactoryAssociation.greedy(score, Double.MAX_VALUE,  false)),TEST_TIME);
-		ProfileOperation.printOpsPerSec(app.createProfile("Greedy Backwards",
-				FactoryAssociation.greedy(score, Double.MAX_VALUE,  true)),TEST_TIME);
-		ProfileOperation.printOpsPerSec(app.createProfile("Random Forest",
-				FactoryAssociation.kdRandomForest(DOF, 500, 15, 5, 1233445565)),TEST_TIME);
-		
+	public static void main( String args[] ) {
+		Runner.main(BenchmarkAssociationSpeedSurf.class, args);
 	}
 }
@@ -86,6 +86,24 @@ public class BenchmarkFeatureScore {
 		}
 	}
 
+	public static class BriefPacked extends PerformerBase {
+
+		PackedTupleArray_B packedA = new PackedTupleArray_B(DOF_BRIEF);
+		PackedTupleArray_B packedB = new PackedTupleArray_B(DOF_BRIEF);
+
+		public BriefPacked() {
+			packedA.setTo(briefA);
+			packedB.setTo(briefB);
+		}
+
+		@Override
+		public void process() {
+			for( int i = 0; i < packedA.size; i++ )
+				for( int j = 0; j < packedB.size; j++ )
+					DescriptorDistance.hamming(packedA,i,packedB,j);
+		}
+	}
+
 	public static class Ncc extends PerformerBase {
 
 		ScoreAssociateNccFeature scorer = new ScoreAssociateNccFeature();
@@ -149,6 +167,7 @@ public class BenchmarkFeatureScore {
 		ProfileOperation.printOpsPerSec(new General("Euclidean", new ScoreAssociateEuclidean_F64()),TEST_TIME);
 		ProfileOperation.printOpsPerSec(new General("Euclidean Sq", new ScoreAssociateEuclideanSq_F64()),TEST_TIME);
 		ProfileOperation.printOpsPerSec(new Brief(),TEST_TIME);
+		ProfileOperation.printOpsPerSec(new BriefPacked(),TEST_TIME);
 		ProfileOperation.printOpsPerSec(new Ncc(),TEST_TIME);
 
 	}
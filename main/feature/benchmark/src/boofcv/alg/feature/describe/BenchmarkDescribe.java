@@ -20,6 +20,7 @@ package boofcv.alg.feature.describe;
 
 import boofcv.abst.feature.describe.ConfigSurfDescribe;
 import boofcv.abst.feature.describe.DescribeRegionPoint;
+import boofcv.abst.feature.orientation.OrientationIntegral;
 import boofcv.alg.feature.describe.brief.FactoryBriefDefinition;
 import boofcv.alg.filter.derivative.GImageDerivativeOps;
 import boofcv.alg.misc.GImageMiscOps;
@@ -27,16 +28,20 @@ import boofcv.alg.transform.ii.GIntegralImageOps;
 import boofcv.core.image.GeneralizedImageOps;
 import boofcv.factory.feature.describe.FactoryDescribePointAlgs;
 import boofcv.factory.feature.describe.FactoryDescribeRegionPoint;
+import boofcv.factory.feature.orientation.FactoryOrientationAlgs;
 import boofcv.factory.filter.blur.FactoryBlurFilter;
 import boofcv.misc.Performer;
 import boofcv.misc.PerformerBase;
 import boofcv.misc.ProfileOperation;
+import boofcv.struct.feature.ScalePoint;
 import boofcv.struct.feature.TupleDesc;
 import boofcv.struct.feature.TupleDesc_B;
 import boofcv.struct.image.ImageFloat32;
 import boofcv.struct.image.ImageSingleBand;
 import georegression.struct.point.Point2D_I32;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 
 
@@ -147,6 +152,51 @@ public class BenchmarkDescribe<I extends ImageSingleBand, D extends ImageSingleB
 		}
 	}
 
+	/**
+	 * Computes the orientation and description of all the points at once, optionally concurrently
+	 */
+	public class SurfAll implements Performer {
+
+		OrientDescribeSurf<II> alg;
+		String name;
+		II ii;
+		List<ScalePoint> points = new ArrayList<ScalePoint>();
+
+		public SurfAll(String name, boolean concurrent) {
+			this.name = name;
+			if( concurrent ) {
+				alg = new OrientDescribeSurf_MT<II>(new OrientDescribeSurf_MT.Factory<II>() {
+					@Override
+					public OrientationIntegral<II> createOrientation() {
+						return FactoryOrientationAlgs.sliding_ii(null, integralType);
+					}
+
+					@Override
+					public DescribePointSurf<II> createDescribe() {
+						return FactoryDescribePointAlgs.surfStability(null, integralType);
+					}
+				});
+			} else {
+				alg = new OrientDescribeSurf<II>(FactoryOrientationAlgs.sliding_ii(null, integralType),
+						FactoryDescribePointAlgs.<II>surfStability(null, integralType));
+			}
+			ii = GIntegralImageOps.transform(image, null);
+			for( int i = 0; i < pts.length; i++ ) {
+				points.add(new ScalePoint(pts[i].x,pts[i].y,scales[i]));
+			}
+		}
+
+		@Override
+		public void process() {
+			alg.process(ii,points);
+		}
+
+		@Override
+		public String getName() {
+			return name;
+		}
+	}
+
 	public void perform() {
 		System.out.println("=========  Profile Image Size " + width + " x " + height + " ========== "+imageType.getSimpleName());
 		System.out.println();
@@ -156,6 +206,8 @@ public class BenchmarkDescribe<I extends ImageSingleBand, D extends ImageSingleB
 
 		ProfileOperation.printOpsPerSec(new Describe("SURF", FactoryDescribeRegionPoint.<I,II>surfFast(surfSpeed, imageType)),TEST_TIME);
 		ProfileOperation.printOpsPerSec(new Describe("MSURF", FactoryDescribeRegionPoint.<I,II>surfStable(surfStable, imageType)),TEST_TIME);
+		ProfileOperation.printOpsPerSec(new SurfAll("MSURF Orient+Describe", false),TEST_TIME);
+		ProfileOperation.printOpsPerSec(new SurfAll("MSURF Orient+Describe MT", true),TEST_TIME);
 		if( imageType == ImageFloat32.class )
 			ProfileOperation.printOpsPerSec(new Describe("SIFT", FactoryDescribeRegionPoint.sift(null,null)),TEST_TIME);
 		ProfileOperation.printOpsPerSec(new Brief512(),TEST_TIME);
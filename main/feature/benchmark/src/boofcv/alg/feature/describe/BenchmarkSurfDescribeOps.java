@@ -48,6 +48,8 @@ public class BenchmarkSurfDescribeOps<T extends ImageSingleBand>
 	int regionSize = 20;
 	double kernelWidth = 5;
 	double derivX[] = new double[ regionSize*regionSize ];
+	int sampleX[] = new int[ regionSize*regionSize ];
+	int sampleY[] = new int[ regionSize*regionSize ];
 	double derivY[] = new double[ regionSize*regionSize ];
 
 	// kernel used to manually sample
@@ -69,14 +71,14 @@ public class BenchmarkSurfDescribeOps<T extends ImageSingleBand>
 	public int timeGradient_NotHaar(int reps) {
 		for( int i = 0; i < reps; i++ )
 			SurfDescribeOps.gradient(input, tl_x, tl_y, period, regionSize,
-					kernelWidth, false, derivX, derivY);
+					kernelWidth, false, derivX, derivY, sampleX, sampleY);
 		return 0;
 	}
 
 	public int timeGradient_Haar(int reps) {
 		for( int i = 0; i < reps; i++ )
 			SurfDescribeOps.gradient(input, tl_x , tl_y , period, regionSize,
-					kernelWidth,true,derivX,derivY);
+					kernelWidth,true,derivX,derivY,sampleX,sampleY);
 		return 0;
 	}
 
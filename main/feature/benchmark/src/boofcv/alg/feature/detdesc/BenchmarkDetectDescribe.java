@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detdesc;
+
+import boofcv.abst.feature.detdesc.DetectDescribePoint;
+import boofcv.alg.filter.blur.BlurImageOps;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.factory.feature.detdesc.FactoryDetectDescribe;
+import boofcv.misc.Performer;
+import boofcv.misc.ProfileOperation;
+import boofcv.struct.image.ImageFloat32;
+
+import java.util.Random;
+
+/**
+ * Compares the single threaded and concurrent implementations of combined detectors and describers
+ *
+ * @author Peter Abeles
+ */
+public class BenchmarkDetectDescribe {
+
+	static final long TEST_TIME = 2000;
+	static Random rand = new Random(234234);
+
+	final static int width = 640;
+	final static int height = 480;
+
+	static ImageFloat32 image;
+
+	public static class General implements Performer {
+
+		DetectDescribePoint<ImageFloat32,?> alg;
+		String name;
+
+		public General(String name, DetectDescribePoint<ImageFloat32,?> alg) {
+			this.alg = alg;
+			this.name = name;
+		}
+
+		@Override
+		public void process() {
+			alg.detect(image);
+		}
+
+		@Override
+		public String getName() {
+			return name;
+		}
+	}
+
+	public static void main( String args[] ) {
+		ImageFloat32 noise = new ImageFloat32(width,height);
+		ImageMiscOps.fillUniform(noise, rand, 0, 255);
+		image = BlurImageOps.gaussian(noise,null,-1,2,null);
+
+		System.out.println("=========  Profile Image Size " + width + " x " + height + " ==========");
+		System.out.println();
+
+		ProfileOperation.printOpsPerSec(new General("SURF", FactoryDetectDescribe.surfStable(null, null, null, ImageFloat32.class, false)),TEST_TIME);
+		ProfileOperation.printOpsPerSec(new General("SURF MT", FactoryDetectDescribe.surfStable(null, null, null, ImageFloat32.class, true)),TEST_TIME);
+		ProfileOperation.printOpsPerSec(new General("SIFT", FactoryDetectDescribe.sift(null, null, null, null, false)),TEST_TIME);
+		ProfileOperation.printOpsPerSec(new General("SIFT MT", FactoryDetectDescribe.sift(null, null, null, null, true)),TEST_TIME);
+	}
+}
@@ -21,75 +21,60 @@ package boofcv.alg.feature.detect.intensity;
 import boofcv.alg.feature.detect.intensity.impl.ImplFastHelper_U8;
 import boofcv.alg.feature.detect.intensity.impl.ImplFastIntensity12;
 import boofcv.alg.feature.detect.intensity.impl.ImplFastIntensity9;
-import boofcv.alg.misc.GImageMiscOps;
-import boofcv.core.image.GeneralizedImageOps;
-import boofcv.misc.PerformerBase;
-import boofcv.misc.ProfileOperation;
+import boofcv.alg.misc.ImageMiscOps;
 import boofcv.struct.image.ImageFloat32;
-import boofcv.struct.image.ImageSingleBand;
 import boofcv.struct.image.ImageUInt8;
+import com.google.caliper.Param;
+import com.google.caliper.Runner;
+import com.google.caliper.SimpleBenchmark;
 
 import java.util.Random;
 
 /**
+ * Benchmark for FAST corner intensity.
+ *
  * @author Peter Abeles
  */
-public class BenchmarkFastIntensity< T extends ImageSingleBand> {
-	static int imgWidth = 640;
-	static int imgHeight = 480;
-	static long TEST_TIME = 1000;
+@SuppressWarnings({"UnusedDeclaration"})
+public class BenchmarkFastIntensity extends SimpleBenchmark {
+
+	@Param({"640x480", "1920x1080"}) private String size;
 
-	T input;
+	ImageUInt8 input;
 	ImageFloat32 intensity;
 
-	public BenchmarkFastIntensity(Class<T> imageType) {
-		input = GeneralizedImageOps.createSingleBand(imageType,imgWidth,imgHeight);
+	DetectorFastNaive naive9 = new DetectorFastNaive(3,9,60);
+	ImplFastIntensity9<ImageUInt8> fast9 = new ImplFastIntensity9<ImageUInt8>(new ImplFastHelper_U8(60));
+	ImplFastIntensity12<ImageUInt8> fast12 = new ImplFastIntensity12<ImageUInt8>(new ImplFastHelper_U8(60));
+
+	@Override protected void setUp() throws Exception {
+		String s[] = size.split("x");
+		input = new ImageUInt8(Integer.parseInt(s[0]),Integer.parseInt(s[1]));
 		intensity = new ImageFloat32(input.width,input.height);
 
 		Random rand = new Random(234);
-		GImageMiscOps.fillUniform(input, rand, 0, 255);
+		ImageMiscOps.fillUniform(input, rand, 0, 255);
 	}
 
-	public class FAST_NAIVE_9 extends PerformerBase {
-		DetectorFastNaive corner = new DetectorFastNaive(3,9,60);
-
-		@Override
-		public void process() {
-			corner.process((ImageUInt8)input);
-		}
+	public int timeFastNaive9(int reps) {
+		for( int i = 0; i < reps; i++ )
+			naive9.process(input);
+		return naive9.getCandidates().size();
 	}
 
-	public class FAST9 extends PerformerBase {
-		ImplFastIntensity9<ImageUInt8> corner = new ImplFastIntensity9<ImageUInt8>(new ImplFastHelper_U8(60));
-
-		@Override
-		public void process() {
-			corner.process((ImageUInt8)input,intensity);
-		}
+	public float timeFast9(int reps) {
+		for( int i = 0; i < reps; i++ )
+			fast9.process(input,intensity);
+		return intensity.get(intensity.width/2,intensity.height/2);
 	}
 
-	public class FAST12 extends PerformerBase {
-		ImplFastIntensity12<ImageUInt8> corner = new ImplFastIntensity12<ImageUInt8>(new ImplFastHelper_U8(60));
-
-		@Override
-		public void process() {
-			corner.process((ImageUInt8)input,intensity);
-		}
-	}
-
-	public void evaluate() {
-		System.out.println("=========  Profile Image Size " + imgWidth + " x " + imgHeight + " ==========");
-		System.out.println();
-
-		ProfileOperation.printOpsPerSec(new FAST_NAIVE_9(), TEST_TIME);
-		ProfileOperation.printOpsPerSec(new FAST9(), TEST_TIME);
-		ProfileOperation.printOpsPerSec(new FAST12(), TEST_TIME);
-
+	public float timeFast12(int reps) {
+		for( int i = 0; i < reps; i++ )
+			fast12.process(input,intensity);
+		return intensity.get(intensity.width/2,intensity.height/2);
 	}
 
 	public static void main( String args[] ) {
-		BenchmarkFastIntensity benchmark = new BenchmarkFastIntensity(ImageUInt8.class);
-
-		benchmark.evaluate();
+		Runner.main(BenchmarkFastIntensity.class, args);
 	}
 }
@@ -18,10 +18,12 @@
 
 package boofcv.alg.feature.detect.interest;
 
+import boofcv.abst.feature.detect.interest.ConfigFastHessian;
 import boofcv.alg.feature.detect.intensity.IntegralImageFeatureIntensity;
 import boofcv.alg.feature.detect.intensity.impl.ImplIntegralImageFeatureIntensity;
 import boofcv.alg.misc.ImageMiscOps;
 import boofcv.alg.transform.ii.IntegralImageOps;
+import boofcv.factory.feature.detect.interest.FactoryInterestPointAlgs;
 import boofcv.misc.PerformerBase;
 import boofcv.misc.ProfileOperation;
 import boofcv.struct.image.ImageFloat32;
@@ -62,6 +64,27 @@ public class BenchmarkFastHessianFeatureIntensity {
 		}
 	}
 
+	public static class Detector extends PerformerBase {
+
+		FastHessianFeatureDetector<ImageFloat32> alg;
+		String name;
+
+		public Detector(String name, boolean concurrent) {
+			this.name = name;
+			alg = FactoryInterestPointAlgs.fastHessian(new ConfigFastHessian(1, 2, -1, 1, 9, 4, 4),concurrent);
+		}
+
+		@Override
+		public void process() {
+			alg.detect(integral);
+		}
+
+		@Override
+		public String getName() {
+			return name;
+		}
+	}
+
 	public static void main(String args[]) {
 		ImageMiscOps.fillUniform(original,rand,0,200);
 		IntegralImageOps.transform(original,integral);
@@ -72,5 +95,7 @@ public class BenchmarkFastHessianFeatureIntensity {
 
 		ProfileOperation.printOpsPerSec(new Naive(), TEST_TIME);
 		ProfileOperation.printOpsPerSec(new Standard(), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new Detector("Detector",false), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new Detector("Detector MT",true), TEST_TIME);
 	}
 }
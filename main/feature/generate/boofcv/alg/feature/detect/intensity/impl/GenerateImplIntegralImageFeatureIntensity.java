@@ -45,6 +45,8 @@ public class GenerateImplIntegralImageFeatureIntensity extends CodeGeneratorBase
 
 		printFuncs(AutoTypeImage.F32);
 		printFuncs(AutoTypeImage.S32);
+		printFuncs(AutoTypeImage.F64);
+		printFuncs(AutoTypeImage.S64);
 
 		out.print("\n" +
 				"}\n");
@@ -52,7 +54,7 @@ public class GenerateImplIntegralImageFeatureIntensity extends CodeGeneratorBase
 
 	private void printPreamble() {
 		out.print(CodeGeneratorUtil.copyright);
-		out.print("package boofcv.alg.detect.intensity.impl;\n" +
+		out.print("package boofcv.alg.feature.detect.intensity.impl;\n" +
 				"\n" +
 				"import boofcv.alg.transform.ii.DerivativeIntegralImage;\n" +
 				"import boofcv.alg.transform.ii.IntegralImageOps;\n" +
@@ -159,10 +161,14 @@ public class GenerateImplIntegralImageFeatureIntensity extends CodeGeneratorBase
 	}
 
 	private void computeIntensity( AutoTypeImage input ) {
+		// double can't be implicitly converted into a float
+		String open = input == AutoTypeImage.F64 ? "(float)(" : "";
+		String close = input == AutoTypeImage.F64 ? ")" : "";
+
 		out.print("\tprivate static void computeHessian("+input.getImageName()+" integral, ImageFloat32 intensity, IntegralKernel kerXX, IntegralKernel kerYY, IntegralKernel kerXY, float norm, int y, int yy, int x, int xx) {\n" +
-				"\t\tfloat Dxx = IntegralImageOps.convolveSparse(integral,kerXX,xx,yy);\n" +
-				"\t\tfloat Dyy = IntegralImageOps.convolveSparse(integral,kerYY,xx,yy);\n" +
-				"\t\tfloat Dxy = IntegralImageOps.convolveSparse(integral,kerXY,xx,yy);\n" +
+				"\t\tfloat Dxx = "+open+"IntegralImageOps.convolveSparse(integral,kerXX,xx,yy)"+close+";\n" +
+				"\t\tfloat Dyy = "+open+"IntegralImageOps.convolveSparse(integral,kerYY,xx,yy)"+close+";\n" +
+				"\t\tfloat Dxy = "+open+"IntegralImageOps.convolveSparse(integral,kerXY,xx,yy)"+close+";\n" +
 				"\n" +
 				"\t\tDxx *= norm;\n" +
 				"\t\tDxy *= norm;\n" +
@@ -175,6 +181,9 @@ public class GenerateImplIntegralImageFeatureIntensity extends CodeGeneratorBase
 	}
 
 	private void inner( AutoTypeImage input ) {
+		// double can't be implicitly converted into a float
+		String open = input == AutoTypeImage.F64 ? "(float)(" : "";
+		String close = input == AutoTypeImage.F64 ? ")" : "";
 
 		out.print("\t/**\n" +
 				"\t * Optimizes intensity for the inner image.  \n" +
@@ -230,16 +239,16 @@ public class GenerateImplIntegralImageFeatureIntensity extends CodeGeneratorBase
 				"\t\t\tint indexY4 = indexY3 + blockSmall*integral.stride;\n" +
 				"\n" +
 				"\t\t\tfor( int x = border; x < endX; x++ , indexDst++) {\n" +
-				"\t\t\t\tfloat Dxx = integral.data[indexBottom+blockW3] - integral.data[indexTop+blockW3] - integral.data[indexBottom] + integral.data[indexTop];\n" +
+				"\t\t\t\tfloat Dxx = "+open+"integral.data[indexBottom+blockW3] - integral.data[indexTop+blockW3] - integral.data[indexBottom] + integral.data[indexTop]"+close+";\n" +
 				"\t\t\t\tDxx -= 3*(integral.data[indexBottom+blockW2] - integral.data[indexTop+blockW2] - integral.data[indexBottom+blockSmall] + integral.data[indexTop+blockSmall]);\n" +
 				"\n" +
-				"\t\t\t\tfloat Dyy = integral.data[indexR+rowOff3] - integral.data[indexL+rowOff3] - integral.data[indexR] + integral.data[indexL];\n" +
+				"\t\t\t\tfloat Dyy = "+open+"integral.data[indexR+rowOff3] - integral.data[indexL+rowOff3] - integral.data[indexR] + integral.data[indexL]"+close+";\n" +
 				"\t\t\t\tDyy -= 3*(integral.data[indexR+rowOff2] - integral.data[indexL+rowOff2] - integral.data[indexR+rowOff1] + integral.data[indexL+rowOff1]);\n" +
 				"\n" +
 				"\t\t\t\tint x3 = blockSmall+1;\n" +
 				"\t\t\t\tint x4 = x3+blockSmall;\n" +
 				"\n" +
-				"\t\t\t\tfloat Dxy = integral.data[indexY2+blockSmall] - integral.data[indexY1+blockSmall] - integral.data[indexY2] + integral.data[indexY1];\n" +
+				"\t\t\t\tfloat Dxy = "+open+"integral.data[indexY2+blockSmall] - integral.data[indexY1+blockSmall] - integral.data[indexY2] + integral.data[indexY1]"+close+";\n" +
 				"\t\t\t\tDxy -= integral.data[indexY2+x4] - integral.data[indexY1+x4] - integral.data[indexY2+x3] + integral.data[indexY1+x3];\n" +
 				"\t\t\t\tDxy += integral.data[indexY4+x4] - integral.data[indexY3+x4] - integral.data[indexY4+x3] + integral.data[indexY3+x3];\n" +
 				"\t\t\t\tDxy -= integral.data[indexY4+blockSmall] - integral.data[indexY3+blockSmall] - integral.data[indexY4] + integral.data[indexY3];\n" +
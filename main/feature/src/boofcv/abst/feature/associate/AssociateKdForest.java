@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.abst.feature.associate;
+
+import boofcv.alg.feature.associate.FindUnassociated;
+import boofcv.alg.feature.associate.KdForestIndex_F32;
+import boofcv.struct.FastQueue;
+import boofcv.struct.GrowQueue_F32;
+import boofcv.struct.GrowQueue_I32;
+import boofcv.struct.feature.AssociatedIndex;
+import boofcv.struct.feature.MatchScoreType;
+import boofcv.struct.feature.TupleDesc;
+
+/**
+ * <p>
+ * Approximate association using {@link KdForestIndex_F32}, a forest of randomized K-D trees.  The source features
+ * are added to the index and each destination feature is then searched for.  Descriptors of any
+ * {@link TupleDesc} type are converted into floats.  Multiple matches for source features are possible while there
+ * will only be a unique match for each destination feature.  The score is the Euclidean distance.
+ * </p>
+ *
+ * <p>
+ * The index can also be built ahead of time, e.g. a large database which was loaded from disk, and
+ * passed in to the constructor.  In that case {@link #setSource} should not be called, since it replaces the
+ * contents of the index.
+ * </p>
+ *
+ * <p>
+ * Optionally, the ratio test can be used to reject ambiguous matches.  A match is rejected if the distance to the
+ * best source feature is not less than ratioTest times the distance to the second best.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class AssociateKdForest<D extends TupleDesc> implements AssociateDescription<D> {
+
+	// the index which contains the source features
+	private KdForestIndex_F32 index;
+	// maximum number of leaves examined in each search
+	private int maxLeaves;
+	// if true then destination features are searched for in multiple threads
+	private boolean concurrent;
+
+	// associations must have a Euclidean distance less than this
+	private double maxDistance = Double.MAX_VALUE;
+	// ratio of the Euclidean distance between the best and second best match.  1 = disabled
+	private double ratioTest = 1.0;
+
+	// list of features in destination set that are to be searched for in the source list
+	private FastQueue<D> listDst;
+
+	// destination features converted into floats
+	private GrowQueue_F32 queries = new GrowQueue_F32(10);
+	// results of the search
+	private GrowQueue_I32 neighbors = new GrowQueue_I32(10);
+	private GrowQueue_F32 distances = new GrowQueue_F32(10);
+
+	// List of final associated points
+	private FastQueue<AssociatedIndex> matches = new FastQueue<AssociatedIndex>(100,AssociatedIndex.class,true);
+
+	// creates a list of unassociated features from the list of matches
+	private FindUnassociated unassociated = new FindUnassociated();
+
+	/**
+	 * Specifies the index and search parameters
+	 *
+	 * @param index Index which will contain the source features.
+	 * @param maxLeaves Maximum number of leaves examined in each search.  Controls speed and accuracy.
+	 * @param concurrent If true then destination features are searched for in multiple threads.
+	 */
+	public AssociateKdForest(KdForestIndex_F32 index, int maxLeaves, boolean concurrent) {
+		this.index = index;
+		this.maxLeaves = maxLeaves;
+		this.concurrent = concurrent;
+	}
+
+	@Override
+	public void setSource(FastQueue<D> listSrc) {
+		index.reset();
+		for( int i = 0; i < listSrc.size; i++ ) {
+			index.add(listSrc.data[i]);
+		}
+		index.build();
+	}
+
+	@Override
+	public void setDestination(FastQueue<D> listDst) {
+		this.listDst = listDst;
+	}
+
+	@Override
+	public void associate() {
+		int dof = index.getDof();
+		int numDst = listDst.size;
+		int k = ratioTest < 1.0 ? 2 : 1;
+
+		queries.resize(numDst*dof);
+		for( int i = 0; i < numDst; i++ ) {
+			KdForestIndex_F32.copy(listDst.data[i],queries.data,i*dof);
+		}
+
+		neighbors.resize(numDst*k);
+		distances.resize(numDst*k);
+		index.findNearest(queries.data,numDst,k,maxLeaves,neighbors.data,distances.data,concurrent);
+
+		// the index returns the distance squared
+		double ratioSq = ratioTest*ratioTest;
+
+		matches.reset();
+		for( int i = 0; i < numDst; i++ ) {
+			int indexSrc = neighbors.data[i*k];
+			if( indexSrc == -1 )
+				continue;
+			double distanceSq = distances.data[i*k];
+			if( k == 2 && neighbors.data[i*k+1] != -1 && distanceSq >= ratioSq*distances.data[i*k+1] )
+				continue;
+			double distance = Math.sqrt(distanceSq);
+			if( distance >= maxDistance )
+				continue;
+			matches.grow().setAssociation(indexSrc,i,distance);
+		}
+	}
+
+	@Override
+	public FastQueue<AssociatedIndex> getMatches() {
+		return matches;
+	}
+
+	@Override
+	public GrowQueue_I32 getUnassociatedSource() {
+		return unassociated.checkSource(matches,index.size());
+	}
+
+	@Override
+	public GrowQueue_I32 getUnassociatedDestination() {
+		return unassociated.checkDestination(matches,listDst.size());
+	}
+
+	@Override
+	public void setThreshold(double score) {
+		this.maxDistance = score < 0 ? Double.MAX_VALUE : score;
+	}
+
+	/**
+	 * Specifies the ratio test.  Set to 1 to disable.
+	 *
+	 * @param ratioTest Ratio of the Euclidean distance of the best to second best source feature.  Try 0.8
+	 */
+	public void setRatioTest(double ratioTest) {
+		if( ratioTest <= 0 || ratioTest > 1 )
+			throw new IllegalArgumentException("ratioTest must be more than 0 and at most 1");
+		this.ratioTest = ratioTest;
+	}
+
+	public KdForestIndex_F32 getIndex() {
+		return index;
+	}
+
+	@Override
+	public MatchScoreType getScoreType() {
+		return MatchScoreType.NORM_ERROR;
+	}
+
+	@Override
+	public boolean uniqueSource() {
+		return false;
+	}
+
+	@Override
+	public boolean uniqueDestination() {
+		return true;
+	}
+}
@@ -18,7 +18,7 @@
 
 package boofcv.abst.feature.associate;
 
-import boofcv.alg.feature.associate.HammingTable16;
+import boofcv.alg.feature.associate.DescriptorDistance;
 import boofcv.struct.feature.MatchScoreType;
 import boofcv.struct.feature.TupleDesc_B;
 
@@ -26,26 +26,15 @@ import boofcv.struct.feature.TupleDesc_B;
  * Score association between two BRIEF features.  Scoring is done using the Hamming distance.
  * Hamming distance is the number of bits in the descriptor which do not have the same value.
  *
+ * @see DescriptorDistance#hamming(TupleDesc_B, TupleDesc_B)
+ *
  * @author Peter Abeles
  */
 public class ScoreAssociateHamming_B implements ScoreAssociation<TupleDesc_B>{
 
-	HammingTable16 table = new HammingTable16();
-
 	@Override
 	public double score(TupleDesc_B a, TupleDesc_B b) {
-
-		int score = 0;
-
-		for( int i = 0; i < a.data.length; i++ ) {
-			int dataA = a.data[i];
-			int dataB = b.data[i];
-
-			score += table.lookup( (short)dataA , (short)dataB );
-			score += table.lookup( (short)(dataA >> 16) , (short)(dataB >> 16) );
-		}
-
-		return score;
+		return DescriptorDistance.hamming(a,b);
 	}
 
 	@Override
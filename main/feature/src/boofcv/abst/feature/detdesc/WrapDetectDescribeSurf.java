@@ -20,12 +20,11 @@ package boofcv.abst.feature.detdesc;
 
 import boofcv.abst.feature.orientation.OrientationIntegral;
 import boofcv.alg.feature.describe.DescribePointSurf;
+import boofcv.alg.feature.describe.OrientDescribeSurf;
 import boofcv.alg.feature.detect.interest.FastHessianFeatureDetector;
 import boofcv.alg.transform.ii.GIntegralImageOps;
-import boofcv.struct.GrowQueue_F64;
 import boofcv.struct.feature.ScalePoint;
 import boofcv.struct.feature.SurfFeature;
-import boofcv.struct.feature.SurfFeatureQueue;
 import boofcv.struct.image.ImageSingleBand;
 import georegression.struct.point.Point2D_F64;
 
@@ -37,6 +36,7 @@ import java.util.List;
  * @link FastHessianFeatureDetector
  * @link OrientationIntegral
  * @link DescribePointSurf
+ * @link OrientDescribeSurf
  *
  * @author Peter Abeles
  */
@@ -46,28 +46,32 @@ public class WrapDetectDescribeSurf
 {
 	// SURF algorithms
 	private FastHessianFeatureDetector<II> detector;
-	private OrientationIntegral<II> orientation;
-	private DescribePointSurf<II> describe;
+	private OrientDescribeSurf<II> describe;
 
 	// storage for integral image
 	private II ii;
 
-	// storage for computed features
-	private SurfFeatureQueue features;
 	// detected scale points
 	private List<ScalePoint> foundPoints;
-	// orientation of features
-	private GrowQueue_F64 featureAngles = new GrowQueue_F64(10);
 
 	public WrapDetectDescribeSurf(FastHessianFeatureDetector<II> detector,
 								  OrientationIntegral<II> orientation,
 								  DescribePointSurf<II> describe)
+	{
+		this(detector, new OrientDescribeSurf<II>(orientation,describe));
+	}
+
+	/**
+	 * Specifies the detector and algorithm for computing the orientation and description of each feature.
+	 *
+	 * @param detector Feature detector
+	 * @param describe Computes the orientation and description of the detected features.  Can be concurrent.
+	 */
+	public WrapDetectDescribeSurf(FastHessianFeatureDetector<II> detector,
+								  OrientDescribeSurf<II> describe)
 	{
 		this.detector = detector;
-		this.orientation = orientation;
 		this.describe = describe;
-
-		features = new SurfFeatureQueue(describe.getDescriptionLength());
 	}
 
 	@Override
@@ -77,7 +81,7 @@ public class WrapDetectDescribeSurf
 
 	@Override
 	public SurfFeature getDescription(int index) {
-		return features.get(index);
+		return describe.getFeatures().get(index);
 	}
 
 	@Override
@@ -98,25 +102,13 @@ public class WrapDetectDescribeSurf
 
 		// compute integral image
 		ii = GIntegralImageOps.transform(input, ii);
-		orientation.setImage(ii);
-		describe.setImage(ii);
-		features.reset();
-		featureAngles.reset();
 
 		// detect features
 		detector.detect(ii);
 
 		// describe the found interest points
 		foundPoints = detector.getFoundPoints();
-
-		for( int i = 0; i < foundPoints.size(); i++ ) {
-			ScalePoint p = foundPoints.get(i);
-
-			orientation.setScale(p.scale);
-			double angle = orientation.compute(p.x,p.y);
-			describe.describe(p.x,p.y, angle, p.scale, features.grow());
-			featureAngles.push(angle);
-		}
+		describe.process(ii,foundPoints);
 	}
 
 	@Override
@@ -136,7 +128,7 @@ public class WrapDetectDescribeSurf
 
 	@Override
 	public double getOrientation(int featureIndex) {
-		return featureAngles.get(featureIndex);
+		return describe.getAngles().get(featureIndex);
 	}
 
 	@Override
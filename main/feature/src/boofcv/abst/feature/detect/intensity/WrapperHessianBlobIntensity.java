@@ -21,13 +21,12 @@ package boofcv.abst.feature.detect.intensity;
 import boofcv.alg.feature.detect.intensity.HessianBlobIntensity;
 import boofcv.struct.QueueCorner;
 import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageSInt16;
 import boofcv.struct.image.ImageSingleBand;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-
 /**
  * Wrapper around {@link boofcv.alg.feature.detect.intensity.HessianBlobIntensity} for {@link GeneralFeatureIntensity}.
+ * The function for the derivative type is selected when the wrapper is created.
  *
  * @author Peter Abeles
  */
@@ -36,50 +35,60 @@ public class WrapperHessianBlobIntensity<I extends ImageSingleBand, D extends Im
 {
 
 	HessianBlobIntensity.Type type;
-	Method m;
+	// computes the intensity for the type of Hessian and derivative
+	Function function;
 	boolean minimum;
 
 	public WrapperHessianBlobIntensity(HessianBlobIntensity.Type type, Class<D> derivType) {
 		this.type = type;
-		try {
-			switch( type ) {
-				case DETERMINANT:
-					minimum = false;
-					m = HessianBlobIntensity.class.getMethod("determinant",ImageFloat32.class,derivType,derivType,derivType);
-					break;
-
-				case TRACE:
-					minimum = true;
-					m = HessianBlobIntensity.class.getMethod("trace",ImageFloat32.class,derivType,derivType);
-					break;
-
-				default:
-					throw new RuntimeException("Not supported yet");
-			}
-		} catch (NoSuchMethodException e) {
-			throw new RuntimeException(e);
+		switch( type ) {
+			case DETERMINANT:
+				minimum = false;
+				if( derivType == ImageFloat32.class ) {
+					function = new Function() {
+						public void process(ImageFloat32 intensity, ImageSingleBand xx, ImageSingleBand yy, ImageSingleBand xy) {
+							HessianBlobIntensity.determinant(intensity,(ImageFloat32)xx,(ImageFloat32)yy,(ImageFloat32)xy);
+						}
+					};
+				} else if( derivType == ImageSInt16.class ) {
+					function = new Function() {
+						public void process(ImageFloat32 intensity, ImageSingleBand xx, ImageSingleBand yy, ImageSingleBand xy) {
+							HessianBlobIntensity.determinant(intensity,(ImageSInt16)xx,(ImageSInt16)yy,(ImageSInt16)xy);
+						}
+					};
+				}
+				break;
+
+			case TRACE:
+				minimum = true;
+				if( derivType == ImageFloat32.class ) {
+					function = new Function() {
+						public void process(ImageFloat32 intensity, ImageSingleBand xx, ImageSingleBand yy, ImageSingleBand xy) {
+							HessianBlobIntensity.trace(intensity,(ImageFloat32)xx,(ImageFloat32)yy);
+						}
+					};
+				} else if( derivType == ImageSInt16.class ) {
+					function = new Function() {
+						public void process(ImageFloat32 intensity, ImageSingleBand xx, ImageSingleBand yy, ImageSingleBand xy) {
+							HessianBlobIntensity.trace(intensity,(ImageSInt16)xx,(ImageSInt16)yy);
+						}
+					};
+				}
+				break;
+
+			default:
+				throw new RuntimeException("Not supported yet");
 		}
+
+		if( function == null )
+			throw new IllegalArgumentException("Unsupported derivative type "+derivType.getSimpleName());
 	}
 
 	@Override
 	public void process(I image, D derivX, D derivY, D derivXX, D derivYY, D derivXY) {
 		init(image.width,image.height);
 
-		try {
-			switch( type ) {
-				case DETERMINANT:
-					m.invoke(null,intensity,derivXX,derivYY,derivXY);
-					break;
-
-				case TRACE:
-					m.invoke(null,intensity,derivXX,derivYY);
-					break;
-			}
-		} catch (IllegalAccessException e) {
-			throw new RuntimeException(e);
-		} catch (InvocationTargetException e) {
-			throw new RuntimeException(e);
-		}
+		function.process(intensity,derivXX,derivYY,derivXY);
 	}
 
 	@Override
@@ -124,4 +133,8 @@ public class WrapperHessianBlobIntensity<I extends ImageSingleBand, D extends Im
 	public boolean localMaximums() {
 		return true;
 	}
+
+	private static interface Function {
+		void process(ImageFloat32 intensity, ImageSingleBand hessianXX, ImageSingleBand hessianYY, ImageSingleBand hessianXY);
+	}
 }
@@ -21,26 +21,40 @@ package boofcv.abst.feature.detect.intensity;
 import boofcv.alg.feature.detect.intensity.KitRosCornerIntensity;
 import boofcv.struct.QueueCorner;
 import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageSInt16;
 import boofcv.struct.image.ImageSingleBand;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-
 /**
- * Wrapper around children of {@link boofcv.alg.feature.detect.intensity.GradientCornerIntensity}.
+ * Wrapper around children of {@link boofcv.alg.feature.detect.intensity.GradientCornerIntensity}.  The function for
+ * the derivative type is selected when the wrapper is created.
  * 
  * @author Peter Abeles
  */
 public class WrapperKitRosCornerIntensity<I extends ImageSingleBand,D extends ImageSingleBand>
 		extends BaseGeneralFeatureIntensity<I,D>
 {
-	Method m;
+	// computes the intensity for the derivative type
+	Function function;
 
 	public WrapperKitRosCornerIntensity(Class<D> derivType ) {
-		try {
-			m = KitRosCornerIntensity.class.getMethod("process",ImageFloat32.class,derivType,derivType,derivType,derivType,derivType);
-		} catch (NoSuchMethodException e) {
-			throw new RuntimeException(e);
+		if( derivType == ImageFloat32.class ) {
+			function = new Function() {
+				public void process(ImageFloat32 intensity, ImageSingleBand x, ImageSingleBand y,
+									ImageSingleBand xx, ImageSingleBand yy, ImageSingleBand xy) {
+					KitRosCornerIntensity.process(intensity,(ImageFloat32)x,(ImageFloat32)y,
+							(ImageFloat32)xx,(ImageFloat32)yy,(ImageFloat32)xy);
+				}
+			};
+		} else if( derivType == ImageSInt16.class ) {
+			function = new Function() {
+				public void process(ImageFloat32 intensity, ImageSingleBand x, ImageSingleBand y,
+									ImageSingleBand xx, ImageSingleBand yy, ImageSingleBand xy) {
+					KitRosCornerIntensity.process(intensity,(ImageSInt16)x,(ImageSInt16)y,
+							(ImageSInt16)xx,(ImageSInt16)yy,(ImageSInt16)xy);
+				}
+			};
+		} else {
+			throw new IllegalArgumentException("Unsupported derivative type "+derivType.getSimpleName());
 		}
 	}
 
@@ -48,13 +62,7 @@ public class WrapperKitRosCornerIntensity<I extends ImageSingleBand,D extends Im
 	public void process(I image , D derivX, D derivY, D derivXX, D derivYY, D derivXY ) {
 		init(image.width,image.height);
 
-		try {
-			m.invoke(null,intensity,derivX,derivY,derivXX,derivYY,derivXY);
-		} catch (IllegalAccessException e) {
-			throw new RuntimeException(e);
-		} catch (InvocationTargetException e) {
-			throw new RuntimeException(e);
-		}
+		function.process(intensity,derivX,derivY,derivXX,derivYY,derivXY);
 	}
 
 	@Override
@@ -99,4 +107,9 @@ public class WrapperKitRosCornerIntensity<I extends ImageSingleBand,D extends Im
 	public boolean localMaximums() {
 		return true;
 	}
+
+	private static interface Function {
+		void process(ImageFloat32 intensity, ImageSingleBand derivX, ImageSingleBand derivY,
+					 ImageSingleBand derivXX, ImageSingleBand derivYY, ImageSingleBand derivXY);
+	}
 }
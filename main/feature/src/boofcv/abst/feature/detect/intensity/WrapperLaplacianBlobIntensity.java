@@ -25,23 +25,54 @@ import boofcv.struct.image.ImageSingleBand;
 import boofcv.struct.image.ImageUInt8;
 
 /**
- *
+ * Wrapper around {@link LaplacianEdge} for {@link GeneralFeatureIntensity}.  The function for the image type is
+ * selected when the wrapper is created, or if the type isn't specified, when the first image is processed.
  *
  * @author Peter Abeles
  */
 public class WrapperLaplacianBlobIntensity<I extends ImageSingleBand>
 		extends BaseGeneralFeatureIntensity<I,ImageSingleBand> {
 
-	@Override
-	public void process(I image, ImageSingleBand derivX, ImageSingleBand derivY, ImageSingleBand derivXX, ImageSingleBand derivYY, ImageSingleBand derivXY) {
-		init(image.width,image.height);
-		if( image instanceof ImageUInt8 ) {
-			LaplacianEdge.process((ImageUInt8)image,intensity);
-		} else if( image instanceof ImageFloat32 ) {
-			LaplacianEdge.process((ImageFloat32)image,intensity);
+	// type of image the function was selected for
+	Class imageType;
+	// computes the intensity for the image type
+	Function function;
+
+	/**
+	 * Selects the function for the type of the first image which is processed
+	 */
+	public WrapperLaplacianBlobIntensity() {
+	}
+
+	public WrapperLaplacianBlobIntensity( Class<I> imageType ) {
+		selectFunction(imageType);
+	}
+
+	private void selectFunction( Class imageType ) {
+		if( imageType == ImageUInt8.class ) {
+			function = new Function() {
+				public void process(ImageSingleBand image, ImageFloat32 intensity) {
+					LaplacianEdge.process((ImageUInt8)image,intensity);
+				}
+			};
+		} else if( imageType == ImageFloat32.class ) {
+			function = new Function() {
+				public void process(ImageSingleBand image, ImageFloat32 intensity) {
+					LaplacianEdge.process((ImageFloat32)image,intensity);
+				}
+			};
 		} else {
 			throw new IllegalArgumentException("Unsupported input image type");
 		}
+		this.imageType = imageType;
+	}
+
+	@Override
+	public void process(I image, ImageSingleBand derivX, ImageSingleBand derivY, ImageSingleBand derivXX, ImageSingleBand derivYY, ImageSingleBand derivXY) {
+		init(image.width,image.height);
+		if( image.getClass() != imageType )
+			selectFunction(image.getClass());
+		function.process(image,intensity);
 	}
 
 	@Override
@@ -83,4 +114,8 @@ public class WrapperLaplacianBlobIntensity<I extends ImageSingleBand>
 	public boolean localMaximums() {
 		return true;
 	}
+
+	private static interface Function {
+		void process(ImageSingleBand image, ImageFloat32 intensity);
+	}
 }
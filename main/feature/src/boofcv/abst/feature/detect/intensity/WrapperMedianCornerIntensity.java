@@ -23,30 +23,40 @@ import boofcv.alg.feature.detect.intensity.MedianCornerIntensity;
 import boofcv.struct.QueueCorner;
 import boofcv.struct.image.ImageFloat32;
 import boofcv.struct.image.ImageSingleBand;
-
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import boofcv.struct.image.ImageUInt8;
 
 /**
  * Wrapper around children of {@link boofcv.alg.feature.detect.intensity.MedianCornerIntensity}.  This is a bit of a hack since
- * the median image is not provided as a standard input so it has to compute it internally
+ * the median image is not provided as a standard input so it has to compute it internally.  The function for the
+ * image type is selected when the wrapper is created.
  * 
  * @author Peter Abeles
  */
 public class WrapperMedianCornerIntensity<I extends ImageSingleBand, D extends ImageSingleBand>
 		extends BaseGeneralFeatureIntensity<I,D>  {
 
-	Method m;
+	// computes the intensity for the image type
+	Function function;
 	MedianImageFilter<I> medianFilter;
 	I medianImage;
 
 	public WrapperMedianCornerIntensity(MedianImageFilter<I> medianFilter ,
 										Class<I> imageType ) {
 		this.medianFilter = medianFilter;
-		try {
-			m = MedianCornerIntensity.class.getMethod("process",ImageFloat32.class,imageType,imageType);
-		} catch (NoSuchMethodException e) {
-			throw new RuntimeException(e);
+		if( imageType == ImageFloat32.class ) {
+			function = new Function() {
+				public void process(ImageFloat32 intensity, ImageSingleBand original, ImageSingleBand median) {
+					MedianCornerIntensity.process(intensity,(ImageFloat32)original,(ImageFloat32)median);
+				}
+			};
+		} else if( imageType == ImageUInt8.class ) {
+			function = new Function() {
+				public void process(ImageFloat32 intensity, ImageSingleBand original, ImageSingleBand median) {
+					MedianCornerIntensity.process(intensity,(ImageUInt8)original,(ImageUInt8)median);
+				}
+			};
+		} else {
+			throw new IllegalArgumentException("Unsupported image type "+imageType.getSimpleName());
 		}
 	}
 
@@ -61,13 +71,7 @@ public class WrapperMedianCornerIntensity<I extends ImageSingleBand, D extends I
 		}
 		
 		medianFilter.process(input,medianImage);
-		try {
-			m.invoke(null,intensity,input,medianImage);
-		} catch (IllegalAccessException e) {
-			throw new RuntimeException(e);
-		} catch (InvocationTargetException e) {
-			throw new RuntimeException(e);
-		}
+		function.process(intensity,input,medianImage);
 	}
 
 	@Override
@@ -109,4 +113,8 @@ public class WrapperMedianCornerIntensity<I extends ImageSingleBand, D extends I
 	public boolean localMaximums() {
 		return true;
 	}
+
+	private static interface Function {
+		void process(ImageFloat32 intensity, ImageSingleBand originalImage, ImageSingleBand medianImage);
+	}
 }
@@ -39,24 +39,43 @@ import boofcv.struct.feature.TupleDesc_F64;
  * associated with feature in src.
  * </p>
  *
+ * <p>
+ * Optionally, a ratio test can be used to reject ambiguous associations.  An association is rejected if
+ * the best fit score is not significantly better than the second best fit score for the same src feature.
+ * Only supported by scores which are zero at a perfect fit, see {@link boofcv.struct.feature.MatchScoreType#isZeroBest()}.
+ * </p>
+ *
+ * <p>
+ * The score matrix is never saved.  Instead scores are computed in square blocks, which keeps the descriptions
+ * being compared in the cache, and the best and second best scores for each row (src) and column (dst) are
+ * updated as they are computed.  Memory usage is linear in the number of features.
+ * </p>
+ *
  * @param <D> Feature description type.
  *
  * @author Peter Abeles
  */
 public class AssociateGreedy<D> {
 
+	// number of src and dst features in a block of scores
+	protected static final int BLOCK_SIZE = 64;
+
 	// computes association score
-	private ScoreAssociation<D> score;
+	protected ScoreAssociation<D> score;
 	// worst allowed fit score to associate
-	private double maxFitError = Double.MAX_VALUE;
+	protected double maxFitError = Double.MAX_VALUE;
+	// best fit score has to be less than this fraction of the second best fit score.  1 = disabled
+	protected double ratioTest = 1.0;
 	// stores the quality of fit score
-	private GrowQueue_F64 fitQuality = new GrowQueue_F64(100);
+	protected GrowQueue_F64 fitQuality = new GrowQueue_F64(100);
 	// stores indexes of associated
-	private GrowQueue_I32 pairs = new GrowQueue_I32(100);
-	// various
-	private GrowQueue_F64 workBuffer = new GrowQueue_F64(100);
+	protected GrowQueue_I32 pairs = new GrowQueue_I32(100);
+	// second best fit score for each src feature
+	protected GrowQueue_F64 secondQuality = new GrowQueue_F64(100);
+	// best fit score for each dst feature, used for backwards validation
+	protected ColumnScores columns = new ColumnScores();
 	// if true backwardsValidation is done
-	private boolean backwardsValidation;
+	protected boolean backwardsValidation;
 
 	/**
 	 * Configure association
@@ -79,47 +98,130 @@ public class AssociateGreedy<D> {
 	public void associate( FastQueue<D> src ,
 						   FastQueue<D> dst )
 	{
-		fitQuality.reset();
-		pairs.reset();
-		workBuffer.reset();
-
-//		System.out.println("Associate: "+src.size+"*"+dst.size+" = "+(src.size*dst.size)+" or "+(src.size*dst.size*8/1024/1024)+"MB");
-		fitQuality.setMaxSize(src.size);
-		workBuffer.setMaxSize(src.size*dst.size);
-		for( int i = 0; i < src.size; i++ ) {
-			D a = src.data[i];
-			double bestScore = maxFitError;
-			int bestIndex = -1;
-
-			for( int j = 0; j < dst.size; j++ ) {
-				D b = dst.data[j];
-
-				double fit = score.score(a,b);
-				workBuffer.push(fit);
-
-				if( fit < bestScore ) {
-					bestIndex = j;
-					bestScore = fit;
-				}
+		initialize(src.size, dst.size);
+		computeScores(src, dst);
+		selectMatches(src.size);
+	}
+
+	/**
+	 * Resets the best scores for each src and dst feature.
+	 */
+	protected void initialize( int numSrc , int numDst ) {
+		fitQuality.resize(numSrc);
+		secondQuality.resize(numSrc);
+		pairs.resize(numSrc);
+
+		for( int i = 0; i < numSrc; i++ ) {
+			fitQuality.data[i] = Double.MAX_VALUE;
+			secondQuality.data[i] = Double.MAX_VALUE;
+			pairs.data[i] = -1;
+		}
+
+		if( backwardsValidation )
+			columns.reset(numDst);
+	}
+
+	/**
+	 * Selects the associations using the best scores and removes the ones which are rejected.
+	 */
+	protected void selectMatches( int numSrc ) {
+		for( int i = 0; i < numSrc; i++ ) {
+			int match = pairs.data[i];
+			double bestScore = fitQuality.data[i];
+
+			if( match == -1 || bestScore >= maxFitError ) {
+				pairs.data[i] = -1;
+				fitQuality.data[i] = maxFitError;
+			} else if( (ratioTest < 1.0 && bestScore > ratioTest*secondQuality.data[i]) ||
+					(backwardsValidation && !columns.isUniqueBest(match,i)) ) {
+				pairs.data[i] = -1;
+				fitQuality.data[i] = Double.MAX_VALUE;
 			}
-			pairs.push(bestIndex);
-			fitQuality.push(bestScore);
 		}
+	}
+
+	/**
+	 * Computes the fit score between every src and dst feature.  Can be overridden to compute blocks of rows
+	 * at the same time.
+	 */
+	protected void computeScores( FastQueue<D> src , FastQueue<D> dst ) {
+		scoreRows(src, dst, 0, src.size, backwardsValidation ? columns : null);
+	}
+
+	/**
+	 * Computes the fit scores between src features in the specified range and all the dst features.  The best
+	 * and second best scores for each src feature are updated, along with the best scores for each dst feature.
+	 *
+	 * @param src Source list.
+	 * @param dst Destination list.
+	 * @param row0 First src feature.
+	 * @param row1 One past the last src feature.
+	 * @param columns Best scores for each dst feature. If null then they are not computed.
+	 */
+	protected void scoreRows( FastQueue<D> src , FastQueue<D> dst , int row0 , int row1 , ColumnScores columns ) {
+		final double rowBest[] = fitQuality.data;
+		final double rowSecond[] = secondQuality.data;
+		final int rowIndex[] = pairs.data;
+
+		for( int i0 = row0; i0 < row1; i0 += BLOCK_SIZE ) {
+			int i1 = Math.min(row1, i0 + BLOCK_SIZE);
+
+			for( int j0 = 0; j0 < dst.size; j0 += BLOCK_SIZE ) {
+				int j1 = Math.min(dst.size, j0 + BLOCK_SIZE);
 
-		if( backwardsValidation ) {
-			for( int i = 0; i < src.size; i++ ) {
-				int match = pairs.data[i];
-				if( match == -1 )
-					continue;
+				for( int i = i0; i < i1; i++ ) {
+					D a = src.data[i];
+					double bestScore = rowBest[i];
+					double secondScore = rowSecond[i];
+					int bestIndex = rowIndex[i];
 
-				double scoreToBeat = workBuffer.data[i*dst.size+match];
+					if( columns == null ) {
+						for( int j = j0; j < j1; j++ ) {
+							double fit = score.score(a,dst.data[j]);
 
-				for( int j = 0; j < src.size; j++ , match += dst.size ) {
-					if( workBuffer.data[match] <= scoreToBeat && j != i) {
-						pairs.data[i] = -1;
-						fitQuality.data[i] = Double.MAX_VALUE;
-						break;
+							if( fit < secondScore ) {
+								if( fit < bestScore ) {
+									secondScore = bestScore;
+									bestScore = fit;
+									bestIndex = j;
+								} else {
+									secondScore = fit;
+								}
+							}
+						}
+					} else {
+						final double colBest[] = columns.best.data;
+						final double colSecond[] = columns.second.data;
+						final int colIndex[] = columns.index.data;
+
+						for( int j = j0; j < j1; j++ ) {
+							double fit = score.score(a,dst.data[j]);
+
+							if( fit < secondScore ) {
+								if( fit < bestScore ) {
+									secondScore = bestScore;
+									bestScore = fit;
+									bestIndex = j;
+								} else {
+									secondScore = fit;
+								}
+							}
+
+							if( fit < colSecond[j] ) {
+								if( fit < colBest[j] ) {
+									colSecond[j] = colBest[j];
+									colBest[j] = fit;
+									colIndex[j] = i;
+								} else {
+									colSecond[j] = fit;
+								}
+							}
+						}
 					}
+
+					rowBest[i] = bestScore;
+					rowSecond[i] = secondScore;
+					rowIndex[i] = bestIndex;
 				}
 			}
 		}
@@ -150,6 +252,24 @@ public class AssociateGreedy<D> {
 		this.maxFitError = maxFitError;
 	}
 
+	/**
+	 * Specifies the ratio test.  An association is rejected if its fit score is more than this fraction of the
+	 * second best fit score.
+	 *
+	 * @param ratioTest Value from 0 to 1.  Try 0.8.  Set to 1 to disable.
+	 */
+	public void setRatioTest(double ratioTest) {
+		if( ratioTest <= 0 || ratioTest > 1 )
+			throw new IllegalArgumentException("ratioTest must be more than 0 and at most 1");
+		if( ratioTest < 1 && !score.getScoreType().isZeroBest() )
+			throw new IllegalArgumentException("The ratio test requires a score which is zero at the best fit");
+		this.ratioTest = ratioTest;
+	}
+
+	public double getRatioTest() {
+		return ratioTest;
+	}
+
 	public ScoreAssociation<D> getScore() {
 		return score;
 	}
@@ -157,4 +277,52 @@ public class AssociateGreedy<D> {
 	public boolean isBackwardsValidation() {
 		return backwardsValidation;
 	}
+
+	/**
+	 * Best and second best fit scores for each dst feature.
+	 */
+	protected static class ColumnScores {
+		// best fit score
+		public GrowQueue_F64 best = new GrowQueue_F64(100);
+		// second best fit score
+		public GrowQueue_F64 second = new GrowQueue_F64(100);
+		// index of the src feature with the best score
+		public GrowQueue_I32 index = new GrowQueue_I32(100);
+
+		public void reset( int numColumns ) {
+			best.resize(numColumns);
+			second.resize(numColumns);
+			index.resize(numColumns);
+
+			for( int j = 0; j < numColumns; j++ ) {
+				best.data[j] = Double.MAX_VALUE;
+				second.data[j] = Double.MAX_VALUE;
+				index.data[j] = -1;
+			}
+		}
+
+		/**
+		 * Adds the scores found for a different set of src features.
+		 */
+		public void merge( ColumnScores other ) {
+			for( int j = 0; j < best.size; j++ ) {
+				double b = other.best.data[j];
+				if( b < best.data[j] ) {
+					second.data[j] = Math.min(best.data[j],other.second.data[j]);
+					best.data[j] = b;
+					index.data[j] = other.index.data[j];
+				} else {
+					second.data[j] = Math.min(second.data[j],b);
+				}
+			}
+		}
+
+		/**
+		 * True if the specified src feature has a better score than any other src feature.  Ties
+		 * are not unique.
+		 */
+		public boolean isUniqueBest( int column , int row ) {
+			return index.data[column] == row && second.data[column] > best.data[column];
+		}
+	}
 }
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.associate;
+
+import boofcv.abst.feature.associate.ScoreAssociateHamming_B;
+import boofcv.struct.FastQueue;
+import boofcv.struct.feature.PackedTupleArray_B;
+import boofcv.struct.feature.TupleDesc_B;
+
+/**
+ * <p>
+ * Version of {@link AssociateGreedy} for binary descriptors which are scored using the Hamming distance.  The
+ * descriptors are copied into a {@link PackedTupleArray_B} and the distance is computed inline 64 bits at a time,
+ * instead of calling {@link ScoreAssociateHamming_B} for each pair.  Descriptors which are already packed, e.g.
+ * from {@link boofcv.alg.feature.describe.DescribePointBrief}, can be associated directly.
+ * </p>
+ *
+ * <p>
+ * Produces the same results as {@link AssociateGreedy} with {@link ScoreAssociateHamming_B}.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class AssociateGreedyHamming_B extends AssociateGreedy<TupleDesc_B> {
+
+	// storage for descriptors which are passed in as a list
+	private PackedTupleArray_B packedSrc = new PackedTupleArray_B(0);
+	private PackedTupleArray_B packedDst = new PackedTupleArray_B(0);
+
+	/**
+	 * Configure association
+	 *
+	 * @param backwardsValidation If true then backwards validation is performed.
+	 */
+	public AssociateGreedyHamming_B(boolean backwardsValidation) {
+		super(new ScoreAssociateHamming_B(), backwardsValidation);
+	}
+
+	/**
+	 * Associates the two sets objects against each other by minimizing the Hamming distance.
+	 *
+	 * @param src Source list.
+	 * @param dst Destination list.
+	 */
+	public void associate( PackedTupleArray_B src ,
+						   PackedTupleArray_B dst )
+	{
+		if( src.numBits != dst.numBits )
+			throw new IllegalArgumentException("Descriptors have a different number of bits");
+
+		initialize(src.size, dst.size);
+		scoreRows(src, dst, 0, src.size, backwardsValidation ? columns : null);
+		selectMatches(src.size);
+	}
+
+	@Override
+	protected void computeScores(FastQueue<TupleDesc_B> src, FastQueue<TupleDesc_B> dst) {
+		if( src.size == 0 || dst.size == 0 )
+			return;
+
+		int numBits = src.data[0].numBits;
+		if( packedSrc.numBits != numBits ) {
+			packedSrc = new PackedTupleArray_B(numBits,src.size);
+			packedDst = new PackedTupleArray_B(numBits,dst.size);
+		}
+		packedSrc.setTo(src);
+		packedDst.setTo(dst);
+
+		scoreRows(packedSrc, packedDst, 0, src.size, backwardsValidation ? columns : null);
+	}
+
+	/**
+	 * Computes the Hamming distance between src descriptors in the specified range and all the dst descriptors.
+	 * See {@link #scoreRows(FastQueue, FastQueue, int, int, ColumnScores)}.
+	 */
+	protected void scoreRows( PackedTupleArray_B src , PackedTupleArray_B dst , int row0 , int row1 ,
+							  ColumnScores columns ) {
+		final double rowBest[] = fitQuality.data;
+		final double rowSecond[] = secondQuality.data;
+		final int rowIndex[] = pairs.data;
+
+		for( int i0 = row0; i0 < row1; i0 += BLOCK_SIZE ) {
+			int i1 = Math.min(row1, i0 + BLOCK_SIZE);
+
+			for( int j0 = 0; j0 < dst.size; j0 += BLOCK_SIZE ) {
+				int j1 = Math.min(dst.size, j0 + BLOCK_SIZE);
+
+				for( int i = i0; i < i1; i++ ) {
+					if( columns == null )
+						scoreRow(src, dst, i, j0, j1, rowBest, rowSecond, rowIndex);
+					else
+						scoreRow(src, dst, i, j0, j1, rowBest, rowSecond, rowIndex, columns);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Scores a src descriptor against a block of dst descriptors
+	 */
+	private static void scoreRow( PackedTupleArray_B src , PackedTupleArray_B dst , int i , int j0 , int j1 ,
+								  double rowBest[] , double rowSecond[] , int rowIndex[] ) {
+		final int numWords = src.numWords;
+		final long dataA[] = src.data;
+		final long dataB[] = dst.data;
+		final int offsetA = i*numWords;
+
+		double bestScore = rowBest[i];
+		double secondScore = rowSecond[i];
+		int bestIndex = rowIndex[i];
+
+		for( int j = j0; j < j1; j++ ) {
+			final int offsetB = j*numWords;
+			int fit = 0;
+			for( int k = 0; k < numWords; k++ ) {
+				fit += Long.bitCount(dataA[offsetA+k] ^ dataB[offsetB+k]);
+			}
+
+			if( fit < secondScore ) {
+				if( fit < bestScore ) {
+					secondScore = bestScore;
+					bestScore = fit;
+					bestIndex = j;
+				} else {
+					secondScore = fit;
+				}
+			}
+		}
+
+		rowBest[i] = bestScore;
+		rowSecond[i] = secondScore;
+		rowIndex[i] = bestIndex;
+	}
+
+	/**
+	 * Scores a src descriptor against a block of dst descriptors and updates the best scores of the dst descriptors
+	 */
+	private static void scoreRow( PackedTupleArray_B src , PackedTupleArray_B dst , int i , int j0 , int j1 ,
+								  double rowBest[] , double rowSecond[] , int rowIndex[] ,
+								  ColumnScores columns ) {
+		final int numWords = src.numWords;
+		final long dataA[] = src.data;
+		final long dataB[] = dst.data;
+		final double colBest[] = columns.best.data;
+		final double colSecond[] = columns.second.data;
+		final int colIndex[] = columns.index.data;
+		final int offsetA = i*numWords;
+
+		double bestScore = rowBest[i];
+		double secondScore = rowSecond[i];
+		int bestIndex = rowIndex[i];
+
+		for( int j = j0; j < j1; j++ ) {
+			final int offsetB = j*numWords;
+			int fit = 0;
+			for( int k = 0; k < numWords; k++ ) {
+				fit += Long.bitCount(dataA[offsetA+k] ^ dataB[offsetB+k]);
+			}
+
+			if( fit < secondScore ) {
+				if( fit < bestScore ) {
+					secondScore = bestScore;
+					bestScore = fit;
+					bestIndex = j;
+				} else {
+					secondScore = fit;
+				}
+			}
+
+			if( fit < colSecond[j] ) {
+				if( fit < colBest[j] ) {
+					colSecond[j] = colBest[j];
+					colBest[j] = fit;
+					colIndex[j] = i;
+				} else {
+					colSecond[j] = fit;
+				}
+			}
+		}
+
+		rowBest[i] = bestScore;
+		rowSecond[i] = secondScore;
+		rowIndex[i] = bestIndex;
+	}
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.associate;
+
+import boofcv.abst.feature.associate.ScoreAssociation;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
+import boofcv.concurrency.WorkerPool;
+import boofcv.struct.FastQueue;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link AssociateGreedy}.  The src features are split into blocks which are
+ * scored against all the dst features at the same time.  Each block keeps track of the best scores for
+ * each dst feature on its own and these are combined once all the blocks are done.  Produces the same
+ * results as {@link AssociateGreedy}.
+ * </p>
+ *
+ * <p>
+ * NOTE: {@link ScoreAssociation} is called by multiple threads at the same time and must be thread safe.
+ * </p>
+ *
+ * @param <D> Feature description type.
+ *
+ * @author Peter Abeles
+ */
+public class AssociateGreedy_MT<D> extends AssociateGreedy<D> {
+
+	// best scores for dst features found by each block of src features
+	private final WorkerPool<ColumnScores> blockColumns = new WorkerPool<ColumnScores>() {
+		@Override
+		protected ColumnScores createWorker() {
+			return new ColumnScores();
+		}
+	};
+
+	/**
+	 * Configure association
+	 *
+	 * @param score Computes the association score.  Must be thread safe.
+	 * @param backwardsValidation If true then backwards validation is performed.
+	 */
+	public AssociateGreedy_MT(ScoreAssociation<D> score, boolean backwardsValidation) {
+		super(score, backwardsValidation);
+	}
+
+	@Override
+	protected void computeScores( final FastQueue<D> src , final FastQueue<D> dst ) {
+		blockColumns.reset();
+
+		BoofConcurrency.loopBlocks(0, src.size, BLOCK_SIZE, new IntRangeTask() {
+			@Override
+			public void run(int row0, int row1) {
+				ColumnScores c = null;
+				if( backwardsValidation ) {
+					c = blockColumns.claim();
+					c.reset(dst.size);
+				}
+				scoreRows(src, dst, row0, row1, c);
+			}
+		});
+
+		if( backwardsValidation ) {
+			for( int i = 0; i < blockColumns.getClaimed(); i++ ) {
+				columns.merge(blockColumns.getClaimed(i));
+			}
+		}
+	}
+}
@@ -209,12 +209,39 @@ public class DescriptorDistance {
 	 * @return The hamming distance
 	 */
 	public static int hamming( int val ) {
-		int distance = 0;
+		return Integer.bitCount(val);
+	}
+
+	/**
+	 * Computes the hamming distance.  A bit = 0 is a match and 1 is not match
+	 *
+	 * @param val Hamming encoding
+	 * @return The hamming distance
+	 */
+	public static int hamming( long val ) {
+		return Long.bitCount(val);
+	}
 
-		while( val != 0 ) {
-			val &= val - 1;
-			distance++;
+	/**
+	 * Computes the hamming distance between two binary feature descriptors which are stored in packed arrays.
+	 *
+	 * @param a First set of descriptors
+	 * @param indexA Index of the descriptor in the first set
+	 * @param b Second set of descriptors
+	 * @param indexB Index of the descriptor in the second set
+	 * @return The hamming distance
+	 */
+	public static int hamming( PackedTupleArray_B a, int indexA , PackedTupleArray_B b , int indexB ) {
+		final int N = a.numWords;
+		final long dataA[] = a.data;
+		final long dataB[] = b.data;
+		int offsetA = indexA*N;
+		int offsetB = indexB*N;
+
+		int score = 0;
+		for( int i = 0; i < N; i++ ) {
+			score += Long.bitCount(dataA[offsetA+i] ^ dataB[offsetB+i]);
 		}
-		return distance;
+		return score;
 	}
 }
@@ -0,0 +1,828 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.associate;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
+import boofcv.concurrency.WorkerPool;
+import boofcv.struct.GrowQueue_F32;
+import boofcv.struct.GrowQueue_I32;
+import boofcv.struct.feature.TupleDesc;
+import boofcv.struct.feature.TupleDesc_F32;
+import boofcv.struct.feature.TupleDesc_F64;
+
+import java.io.*;
+import java.util.Random;
+
+/**
+ * <p>
+ * Approximate nearest-neighbor index for float descriptors which uses a forest of randomized K-D trees [1] and a
+ * best-bin-first search.  All the trees are searched at the same time using a single priority queue and the
+ * search stops after a fixed number of leaves has been examined.  More trees and leaves improve accuracy at the
+ * cost of speed.  Distances are the Euclidean distance squared.
+ * </p>
+ *
+ * <p>
+ * Points are saved in a single float array, point 'i' starts at element i*dof.  Each tree has a single point in
+ * each leaf and is stored in a set of primitive arrays.  Only the splitting nodes are saved in the arrays, a leaf
+ * is encoded in its parent as the negative index of its point, which keeps memory usage low for large data bases.
+ * When a tree is built the splitting dimension of each node is randomly selected from the dimensions with the
+ * largest variance and the split is at the mean.  If the mean does not split the points then the dimension with
+ * the largest range is split at its middle.  Points added after the trees have been built are inserted into
+ * the existing trees, use {@link #build()} to rebuild them.  The index can be saved and loaded from a stream.
+ * </p>
+ *
+ * <p>
+ * Searches are done using a {@link Search}, which contains the work space.  Each thread should use
+ * its own search.
+ * </p>
+ *
+ * <p>
+ * [1] Silpa-Anan, C. and Hartley, R. "Optimised KD-trees for fast image descriptor matching" CVPR 2008
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class KdForestIndex_F32 {
+
+	// identifies a stream created by save()
+	private static final int FILE_ID = 0xB00FF0E5;
+	private static final int FILE_VERSION = 2;
+
+	// maximum number of points used to estimate the variance when building a tree
+	private static final int VARIANCE_SAMPLES = 100;
+
+	// number of elements in each point
+	private int dof;
+	// number of dimensions with the largest variance that are considered when splitting a node
+	private int numConsiderSplit;
+	// used to select the splitting dimension
+	private long randomSeed;
+	private Random rand;
+
+	// all the points
+	private GrowQueue_F32 points = new GrowQueue_F32(10);
+	// number of points
+	private int size;
+
+	// the trees
+	private Tree trees[];
+	// true if the trees have been built
+	private boolean built = false;
+
+	// work space for building trees
+	private GrowQueue_I32 work = new GrowQueue_I32(10);
+	private GrowQueue_I32 stack = new GrowQueue_I32(10);
+	private double mean[];
+	private double variance[];
+	private int candidates[];
+
+	/**
+	 * Configures the index.
+	 *
+	 * @param dof Number of elements in each point.
+	 * @param numTrees Number of trees in the forest.  Try 8
+	 * @param numConsiderSplit Number of dimensions with the largest variance that are considered when splitting.
+	 *                         Try 5
+	 * @param randomSeed Seed used by the random number generator
+	 */
+	public KdForestIndex_F32( int dof , int numTrees , int numConsiderSplit , long randomSeed ) {
+		if( numTrees < 1 )
+			throw new IllegalArgumentException("There must be at least one tree");
+		if( numConsiderSplit < 1 )
+			throw new IllegalArgumentException("numConsiderSplit must be at least one");
+
+		this.dof = dof;
+		this.numConsiderSplit = Math.min(dof,numConsiderSplit);
+		this.randomSeed = randomSeed;
+		this.rand = new Random(randomSeed);
+
+		trees = new Tree[numTrees];
+		for( int i = 0; i < numTrees; i++ )
+			trees[i] = new Tree();
+
+		mean = new double[dof];
+		variance = new double[dof];
+		candidates = new int[this.numConsiderSplit];
+	}
+
+	/**
+	 * Removes all the points and trees.
+	 */
+	public void reset() {
+		size = 0;
+		points.reset();
+		for( Tree t : trees )
+			t.reset();
+		built = false;
+	}
+
+	/**
+	 * Adds a point.  If the trees have already been built then the point is inserted into them.
+	 *
+	 * @param point The point.  Must have 'dof' elements.  Is copied.
+	 * @return Index of the point.
+	 */
+	public int add( float[] point ) {
+		if( point.length != dof )
+			throw new IllegalArgumentException("Expected a point with "+dof+" elements");
+		int index = allocatePoint();
+		System.arraycopy(point,0,points.data,index*dof,dof);
+		insert(index);
+		return index;
+	}
+
+	/**
+	 * Adds a point.  If the trees have already been built then the point is inserted into them.
+	 *
+	 * @param desc The point.  Must have 'dof' elements.  Is copied.
+	 * @return Index of the point.
+	 */
+	public int add( TupleDesc desc ) {
+		if( desc.size() != dof )
+			throw new IllegalArgumentException("Expected a descriptor with "+dof+" elements");
+		int index = allocatePoint();
+		copy(desc,points.data,index*dof);
+		insert(index);
+		return index;
+	}
+
+	/**
+	 * Copies the descriptor into a float array.
+	 *
+	 * @param desc The descriptor
+	 * @param output Where the descriptor is written to
+	 * @param offset Index of the first element in output
+	 */
+	public static void copy( TupleDesc desc , float[] output , int offset ) {
+		if( desc instanceof TupleDesc_F32 ) {
+			float value[] = ((TupleDesc_F32)desc).value;
+			System.arraycopy(value,0,output,offset,value.length);
+		} else if( desc instanceof TupleDesc_F64 ) {
+			double value[] = ((TupleDesc_F64)desc).value;
+			for( int i = 0; i < value.length; i++ )
+				output[offset+i] = (float)value[i];
+		} else {
+			int N = desc.size();
+			for( int i = 0; i < N; i++ )
+				output[offset+i] = (float)desc.getDouble(i);
+		}
+	}
+
+	private int allocatePoint() {
+		if( points.data.length < (size+1)*dof ) {
+			float tmp[] = new float[ Math.max(10,size*2)*dof ];
+			System.arraycopy(points.data,0,tmp,0,size*dof);
+			points.data = tmp;
+		}
+		points.size = (size+1)*dof;
+		return size++;
+	}
+
+	/**
+	 * Builds all the trees from scratch using all the points
+	 */
+	public void build() {
+		for( Tree t : trees ) {
+			t.reset();
+			if( size > 0 )
+				buildTree(t);
+		}
+		built = true;
+	}
+
+	/**
+	 * Builds a tree using all the points.  Instead of recursion a stack of nodes which need to be split
+	 * is used, so that very deep trees do not overflow the call stack.
+	 */
+	private void buildTree( Tree tree ) {
+		// the order the points are visited in is randomized for each tree
+		work.resize(size);
+		int indexes[] = work.data;
+		for( int i = 0; i < size; i++ )
+			indexes[i] = i;
+		for( int i = size-1; i > 0; i-- ) {
+			int j = rand.nextInt(i+1);
+			int tmp = indexes[i]; indexes[i] = indexes[j]; indexes[j] = tmp;
+		}
+
+		// each element on the stack is (node, first index, last index + 1)
+		stack.reset();
+		tree.root = child(tree,indexes,0,size);
+
+		while( stack.size > 0 ) {
+			int end = stack.pop();
+			int start = stack.pop();
+			int node = stack.pop();
+
+			int split = selectSplit(indexes, start, end);
+			float splitValue = (float)mean[split];
+			int middle = partition(indexes,start,end,split,splitValue);
+
+			// The mean is estimated from a sample and can fail to split the points, e.g. when all the sampled
+			// points are identical.  Split the dimension with the largest range at its middle instead.
+			if( middle == start || middle == end ) {
+				split = selectRange(indexes,start,end);
+				splitValue = splitBetween((float)mean[split],(float)variance[split]);
+				middle = partition(indexes,start,end,split,splitValue);
+
+				// all the points are identical.  Arbitrarily split them in half
+				if( middle == start || middle == end )
+					middle = (start+end)/2;
+			}
+
+			tree.setSplit(node,split,splitValue,child(tree,indexes,start,middle),child(tree,indexes,middle,end));
+		}
+	}
+
+	/**
+	 * Creates the child which contains the specified points.  A single point is encoded as a leaf, otherwise
+	 * a node is added and pushed onto the stack so that it will be split.
+	 */
+	private int child( Tree tree , int indexes[] , int start , int end ) {
+		if( end - start == 1 )
+			return leaf(indexes[start]);
+
+		int node = tree.addNode();
+		stack.push(node); stack.push(start); stack.push(end);
+		return node;
+	}
+
+	/**
+	 * Moves points with a value less than the split to the start of the range
+	 *
+	 * @return Index of the first point with a value greater than or equal to the split
+	 */
+	private int partition( int indexes[] , int start , int end , int split , float splitValue ) {
+		int middle = start;
+		for( int i = start; i < end; i++ ) {
+			int p = indexes[i];
+			if( points.data[p*dof+split] < splitValue ) {
+				indexes[i] = indexes[middle];
+				indexes[middle++] = p;
+			}
+		}
+		return middle;
+	}
+
+	/**
+	 * Selects the dimension with the largest range of values.  The minimum of each dimension is saved in 'mean'
+	 * and the maximum in 'variance'.
+	 */
+	private int selectRange( int indexes[] , int start , int end ) {
+		float data[] = points.data;
+
+		for( int k = 0; k < dof; k++ ) {
+			mean[k] = Double.MAX_VALUE;
+			variance[k] = -Double.MAX_VALUE;
+		}
+		for( int i = start; i < end; i++ ) {
+			int offset = indexes[i]*dof;
+			for( int k = 0; k < dof; k++ ) {
+				float v = data[offset+k];
+				if( v < mean[k] ) mean[k] = v;
+				if( v > variance[k] ) variance[k] = v;
+			}
+		}
+
+		int best = 0;
+		for( int k = 1; k < dof; k++ ) {
+			if( variance[k]-mean[k] > variance[best]-mean[best] )
+				best = k;
+		}
+		return best;
+	}
+
+	/**
+	 * Returns a value which is greater than 'lower' and at most 'upper', so that a point with the lower value goes
+	 * into the left child and a point with the upper value into the right.  If the values are the same then
+	 * the value is returned.
+	 */
+	private static float splitBetween( float lower , float upper ) {
+		float middle = (lower+upper)/2.0f;
+		return middle > lower ? middle : upper;
+	}
+
+	/**
+	 * Encodes a point as a leaf
+	 */
+	private static int leaf( int point ) {
+		return -(point+1);
+	}
+
+	/**
+	 * Randomly selects one of the dimensions with the largest variance.  The mean is saved in 'mean'.
+	 */
+	private int selectSplit( int indexes[] , int start , int end ) {
+		int N = Math.min(end-start, VARIANCE_SAMPLES);
+		float data[] = points.data;
+
+		for( int k = 0; k < dof; k++ ) {
+			mean[k] = 0;
+			variance[k] = 0;
+		}
+		for( int i = 0; i < N; i++ ) {
+			int offset = indexes[start+i]*dof;
+			for( int k = 0; k < dof; k++ )
+				mean[k] += data[offset+k];
+		}
+		for( int k = 0; k < dof; k++ )
+			mean[k] /= N;
+		for( int i = 0; i < N; i++ ) {
+			int offset = indexes[start+i]*dof;
+			for( int k = 0; k < dof; k++ ) {
+				double d = data[offset+k] - mean[k];
+				variance[k] += d*d;
+			}
+		}
+
+		return selectLargest(variance);
+	}
+
+	/**
+	 * Randomly selects one of the 'numConsiderSplit' elements with the largest values
+	 */
+	private int selectLargest( double values[] ) {
+		int numCandidates = 0;
+		for( int k = 0; k < dof; k++ ) {
+			double v = values[k];
+			if( numCandidates < candidates.length ) {
+				candidates[numCandidates++] = k;
+			} else if( v > values[candidates[numCandidates-1]] ) {
+				candidates[numCandidates-1] = k;
+			} else {
+				continue;
+			}
+			// keep the candidates sorted from largest to smallest
+			for( int i = numCandidates-1; i > 0 && values[candidates[i]] > values[candidates[i-1]]; i-- ) {
+				int tmp = candidates[i]; candidates[i] = candidates[i-1]; candidates[i-1] = tmp;
+			}
+		}
+		return candidates[rand.nextInt(numCandidates)];
+	}
+
+	/**
+	 * Inserts the point into all the trees, if they have been built.  The leaf the point falls into is replaced
+	 * by a node which splits the two points along a dimension where they are very different.
+	 */
+	private void insert( int index ) {
+		if( !built )
+			return;
+
+		float data[] = points.data;
+		int offsetA = index*dof;
+
+		for( Tree tree : trees ) {
+			if( tree.root == Tree.EMPTY ) {
+				tree.root = leaf(index);
+				continue;
+			}
+
+			int parent = -1;
+			boolean parentLeft = false;
+			int node = tree.root;
+			while( node >= 0 ) {
+				parent = node;
+				parentLeft = data[offsetA+tree.dim.data[node]] < tree.split.data[node];
+				node = parentLeft ? tree.left.data[node] : tree.right.data[node];
+			}
+
+			int other = -(node+1);
+			int offsetB = other*dof;
+			for( int k = 0; k < dof; k++ )
+				variance[k] = Math.abs(data[offsetA+k]-data[offsetB+k]);
+			int split = selectLargest(variance);
+			// the points must be different along the split if they are different at all
+			if( variance[split] == 0 )
+				split = candidates[0];
+
+			int created = tree.addNode();
+			if( data[offsetA+split] < data[offsetB+split] ) {
+				tree.setSplit(created,split,splitBetween(data[offsetA+split],data[offsetB+split]),
+						leaf(index),leaf(other));
+			} else {
+				tree.setSplit(created,split,splitBetween(data[offsetB+split],data[offsetA+split]),
+						leaf(other),leaf(index));
+			}
+
+			if( parent == -1 )
+				tree.root = created;
+			else if( parentLeft )
+				tree.left.data[parent] = created;
+			else
+				tree.right.data[parent] = created;
+		}
+	}
+
+	/**
+	 * Creates a new search.  Searches are not thread safe and each thread should have its own.
+	 */
+	public Search createSearch() {
+		return new Search();
+	}
+
+	/**
+	 * Finds the k-nearest neighbors of a set of points.  Optionally, blocks of points are searched for
+	 * in different threads.  The searches are created for each call, so multiple threads can call this
+	 * function at the same time as long as points are not being added.
+	 *
+	 * @param queries Points being searched for.  Point 'i' starts at element i*dof.
+	 * @param numQueries Number of points being searched for.
+	 * @param k Number of neighbors.
+	 * @param maxLeaves Maximum number of leaves which are examined for each point.
+	 * @param neighbors (Output) Index of neighbor j for point i is stored at i*k + j, sorted by distance.
+	 *                  -1 if there is no neighbor.
+	 * @param distances (Output) Euclidean distance squared for each neighbor.
+	 * @param concurrent If true then multiple threads are used.
+	 */
+	public void findNearest( final float queries[] , int numQueries , final int k , final int maxLeaves ,
+							 final int neighbors[] , final float distances[] , boolean concurrent ) {
+		if( !built )
+			throw new IllegalArgumentException("build() must be called first");
+
+		final WorkerPool<Search> searches = new WorkerPool<Search>() {
+			@Override
+			protected Search createWorker() {
+				return createSearch();
+			}
+		};
+
+		IntRangeTask task = new IntRangeTask() {
+			@Override
+			public void run(int index0, int index1) {
+				Search search = searches.claim();
+				float query[] = new float[dof];
+				for( int i = index0; i < index1; i++ ) {
+					System.arraycopy(queries,i*dof,query,0,dof);
+					search.findNearest(query,k,maxLeaves);
+					for( int j = 0; j < k; j++ ) {
+						if( j < search.numFound ) {
+							neighbors[i*k+j] = search.neighbors[j];
+							distances[i*k+j] = search.distances[j];
+						} else {
+							neighbors[i*k+j] = -1;
+							distances[i*k+j] = Float.MAX_VALUE;
+						}
+					}
+				}
+			}
+		};
+
+		if( concurrent )
+			BoofConcurrency.loopBlocks(0,numQueries,task);
+		else
+			task.run(0,numQueries);
+	}
+
+	/**
+	 * Saves the points and trees to the stream.  The stream is not closed.
+	 *
+	 * @param stream Where the index is written to
+	 */
+	public void save( OutputStream stream ) {
+		try {
+			DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream));
+			out.writeInt(FILE_ID);
+			out.writeInt(FILE_VERSION);
+			out.writeInt(dof);
+			out.writeInt(trees.length);
+			out.writeInt(numConsiderSplit);
+			out.writeLong(randomSeed);
+			out.writeBoolean(built);
+			out.writeInt(size);
+			for( int i = 0; i < size*dof; i++ )
+				out.writeFloat(points.data[i]);
+			for( Tree t : trees ) {
+				out.writeInt(t.root);
+				out.writeInt(t.dim.size);
+				for( int i = 0; i < t.dim.size; i++ ) {
+					out.writeInt(t.dim.data[i]);
+					out.writeFloat(t.split.data[i]);
+					out.writeInt(t.left.data[i]);
+					out.writeInt(t.right.data[i]);
+				}
+			}
+			out.flush();
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Reads in an index which was written by {@link #save(OutputStream)}.  The stream is not closed.
+	 *
+	 * @param stream Where the index is read from
+	 * @return The index
+	 */
+	public static KdForestIndex_F32 load( InputStream stream ) {
+		try {
+			DataInputStream in = new DataInputStream(new BufferedInputStream(stream));
+			if( in.readInt() != FILE_ID )
+				throw new IllegalArgumentException("Not a saved KdForestIndex_F32");
+			int version = in.readInt();
+			if( version != FILE_VERSION )
+				throw new IllegalArgumentException("Unsupported version "+version);
+
+			int dof = in.readInt();
+			int numTrees = in.readInt();
+			int numConsiderSplit = in.readInt();
+			long randomSeed = in.readLong();
+			KdForestIndex_F32 ret = new KdForestIndex_F32(dof,numTrees,numConsiderSplit,randomSeed);
+			ret.built = in.readBoolean();
+
+			int size = in.readInt();
+			ret.points.resize(size*dof);
+			ret.size = size;
+			for( int i = 0; i < size*dof; i++ )
+				ret.points.data[i] = in.readFloat();
+
+			for( Tree t : ret.trees ) {
+				t.root = in.readInt();
+				int numNodes = in.readInt();
+				for( int i = 0; i < numNodes; i++ ) {
+					int node = t.addNode();
+					t.dim.data[node] = in.readInt();
+					t.split.data[node] = in.readFloat();
+					t.left.data[node] = in.readInt();
+					t.right.data[node] = in.readInt();
+				}
+			}
+			return ret;
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Number of points in the index
+	 */
+	public int size() {
+		return size;
+	}
+
+	public int getDof() {
+		return dof;
+	}
+
+	public int getNumTrees() {
+		return trees.length;
+	}
+
+	/**
+	 * True if the trees have been built and searches can be performed
+	 */
+	public boolean isBuilt() {
+		return built;
+	}
+
+	/**
+	 * Returns the point with the specified index.
+	 *
+	 * @param index Index of the point
+	 * @param output Storage for the point.  If null a new array is declared.
+	 * @return The point
+	 */
+	public float[] getPoint( int index , float output[] ) {
+		if( output == null )
+			output = new float[dof];
+		System.arraycopy(points.data,index*dof,output,0,dof);
+		return output;
+	}
+
+	/**
+	 * Randomized K-D tree.  Points with a value less than split[i] along dimension dim[i] are in the left child of
+	 * node 'i'.  A child or the root which is negative is a leaf, the index of its point is -(child+1).
+	 */
+	private static class Tree {
+		// value of root when the tree has no points
+		static final int EMPTY = Integer.MIN_VALUE;
+
+		GrowQueue_I32 dim = new GrowQueue_I32(10);
+		GrowQueue_F32 split = new GrowQueue_F32(10);
+		GrowQueue_I32 left = new GrowQueue_I32(10);
+		GrowQueue_I32 right = new GrowQueue_I32(10);
+		int root = EMPTY;
+
+		public void reset() {
+			dim.reset();
+			split.reset();
+			left.reset();
+			right.reset();
+			root = EMPTY;
+		}
+
+		public int addNode() {
+			dim.push(-1);
+			split.push(0);
+			left.push(-1);
+			right.push(-1);
+			return dim.size-1;
+		}
+
+		public void setSplit( int node , int dimension , float value , int left , int right ) {
+			this.dim.data[node] = dimension;
+			this.split.data[node] = value;
+			this.left.data[node] = left;
+			this.right.data[node] = right;
+		}
+	}
+
+	/**
+	 * Best-bin-first search of all the trees.  The results are sorted from closest to farthest.
+	 */
+	public class Search {
+		/** Index of each neighbor which was found */
+		public int neighbors[] = new int[1];
+		/** Euclidean distance squared of each neighbor */
+		public float distances[] = new float[1];
+		/** Number of neighbors which were found */
+		public int numFound;
+
+		// priority queue of branches which have not been explored, ordered by their distance
+		private float queueDistance[] = new float[100];
+		private int queueTree[] = new int[100];
+		private int queueNode[] = new int[100];
+		private int queueSize;
+
+		// point being searched for
+		private float query[];
+		// number of neighbors being searched for
+		private int k;
+		// number of leaves examined
+		private int leavesChecked;
+
+		/**
+		 * Finds the approximate k-nearest neighbors of the point
+		 *
+		 * @param query The point being searched for
+		 * @param k Number of neighbors
+		 * @param maxLeaves Maximum number of leaves which are examined.  Must be at least the number of trees.
+		 * @return Number of neighbors found
+		 */
+		public int findNearest( float query[] , int k , int maxLeaves ) {
+			if( neighbors.length < k ) {
+				neighbors = new int[k];
+				distances = new float[k];
+			}
+			this.query = query;
+			this.k = k;
+			numFound = 0;
+			queueSize = 0;
+			leavesChecked = 0;
+
+			if( size == 0 )
+				return 0;
+
+			// descend each tree once
+			for( int i = 0; i < trees.length; i++ ) {
+				if( trees[i].root != Tree.EMPTY )
+					descend(i,trees[i].root,0);
+			}
+
+			// examine the branches which are the closest, across all trees
+			while( queueSize > 0 && leavesChecked < maxLeaves ) {
+				float bound = queueDistance[0];
+				int tree = queueTree[0];
+				int node = queueNode[0];
+				popQueue();
+
+				if( numFound == k && bound >= distances[k-1] )
+					break;
+
+				descend(tree,node,bound);
+			}
+
+			return numFound;
+		}
+
+		/**
+		 * Goes down to the closest leaf and adds the other branches to the queue
+		 */
+		private void descend( int treeIndex , int node , float bound ) {
+			Tree tree = trees[treeIndex];
+			final int dim[] = tree.dim.data;
+
+			while( node >= 0 ) {
+				float diff = query[dim[node]] - tree.split.data[node];
+				int near,far;
+				if( diff < 0 ) {
+					near = tree.left.data[node];
+					far = tree.right.data[node];
+				} else {
+					near = tree.right.data[node];
+					far = tree.left.data[node];
+				}
+
+				float farBound = bound + diff*diff;
+				if( numFound < k || farBound < distances[numFound-1] )
+					pushQueue(farBound,treeIndex,far);
+				node = near;
+			}
+
+			leavesChecked++;
+			checkPoint(-(node+1));
+		}
+
+		/**
+		 * Computes the distance to the point and saves it if it is one of the k-closest
+		 */
+		private void checkPoint( int index ) {
+			// the same point can be found in multiple trees
+			for( int i = 0; i < numFound; i++ ) {
+				if( neighbors[i] == index )
+					return;
+			}
+
+			final float data[] = points.data;
+			final float worst = numFound < k ? Float.MAX_VALUE : distances[numFound-1];
+			final int offset = index*dof;
+
+			float distance = 0;
+			for( int i = 0; i < dof; i++ ) {
+				float d = query[i] - data[offset+i];
+				distance += d*d;
+			}
+			if( distance >= worst )
+				return;
+
+			// insert into the sorted list
+			int i = numFound < k ? numFound++ : k-1;
+			for( ; i > 0 && distances[i-1] > distance; i-- ) {
+				distances[i] = distances[i-1];
+				neighbors[i] = neighbors[i-1];
+			}
+			distances[i] = distance;
+			neighbors[i] = index;
+		}
+
+		private void pushQueue( float distance , int tree , int node ) {
+			if( queueSize == queueDistance.length ) {
+				int N = queueSize*2;
+				float d[] = new float[N]; int t[] = new int[N]; int n[] = new int[N];
+				System.arraycopy(queueDistance,0,d,0,queueSize);
+				System.arraycopy(queueTree,0,t,0,queueSize);
+				System.arraycopy(queueNode,0,n,0,queueSize);
+				queueDistance = d; queueTree = t; queueNode = n;
+			}
+
+			// binary min-heap
+			int i = queueSize++;
+			while( i > 0 ) {
+				int parent = (i-1)/2;
+				if( queueDistance[parent] <= distance )
+					break;
+				queueDistance[i] = queueDistance[parent];
+				queueTree[i] = queueTree[parent];
+				queueNode[i] = queueNode[parent];
+				i = parent;
+			}
+			queueDistance[i] = distance;
+			queueTree[i] = tree;
+			queueNode[i] = node;
+		}
+
+		private void popQueue() {
+			queueSize--;
+			if( queueSize == 0 )
+				return;
+
+			float distance = queueDistance[queueSize];
+			int tree = queueTree[queueSize];
+			int node = queueNode[queueSize];
+
+			int i = 0;
+			while( true ) {
+				int child = 2*i+1;
+				if( child >= queueSize )
+					break;
+				if( child+1 < queueSize && queueDistance[child+1] < queueDistance[child] )
+					child++;
+				if( queueDistance[child] >= distance )
+					break;
+				queueDistance[i] = queueDistance[child];
+				queueTree[i] = queueTree[child];
+				queueNode[i] = queueNode[child];
+				i = child;
+			}
+			queueDistance[i] = distance;
+			queueTree[i] = tree;
+			queueNode[i] = node;
+		}
+	}
+}
@@ -22,6 +22,7 @@ import boofcv.abst.filter.blur.BlurFilter;
 import boofcv.alg.feature.describe.brief.BriefDefinition_I32;
 import boofcv.core.image.GeneralizedImageOps;
 import boofcv.misc.BoofMiscOps;
+import boofcv.struct.feature.PackedTupleArray_B;
 import boofcv.struct.feature.TupleDesc_B;
 import boofcv.struct.image.ImageSingleBand;
 import georegression.struct.point.Point2D_I32;
@@ -59,6 +60,9 @@ public abstract class DescribePointBrief<T extends ImageSingleBand> {
 	protected int offsetsA[];
 	protected int offsetsB[];
 
+	// storage for a description before it is packed
+	private TupleDesc_B work;
+
 	public DescribePointBrief(BriefDefinition_I32 definition, BlurFilter<T> filterBlur) {
 		this.definition = definition;
 		this.filterBlur = filterBlur;
@@ -68,6 +72,7 @@ public abstract class DescribePointBrief<T extends ImageSingleBand> {
 		offsets = new int[ definition.samplePoints.length ];
 		offsetsA = new int[ definition.compare.length ];
 		offsetsB = new int[ definition.compare.length ];
+		work = createFeature();
 	}
 
 	/**
@@ -79,6 +84,27 @@ public abstract class DescribePointBrief<T extends ImageSingleBand> {
 		return new TupleDesc_B(definition.getLength());
 	}
 
+	/**
+	 * Creates an array which can store packed descriptions of the appropriate size.
+	 *
+	 * @return A new empty array.
+	 */
+	public PackedTupleArray_B createPackedArray() {
+		return new PackedTupleArray_B(definition.getLength());
+	}
+
+	/**
+	 * Computes the descriptor at the specified point and adds it to the end of the packed array.
+	 *
+	 * @param c_x Center of region being described.
+	 * @param c_y Center of region being described.
+	 * @param features Packed array the descriptor is added to.
+	 */
+	public void process( double c_x , double c_y , PackedTupleArray_B features ) {
+		process(c_x,c_y,work);
+		features.add(work);
+	}
+
 	/**
 	 * Specifies the image from which feature descriptions are to be created.
 	 *
@@ -23,6 +23,7 @@ import boofcv.alg.feature.describe.brief.BriefDefinition_I32;
 import boofcv.alg.interpolate.InterpolatePixel;
 import boofcv.core.image.GeneralizedImageOps;
 import boofcv.misc.BoofMiscOps;
+import boofcv.struct.feature.PackedTupleArray_B;
 import boofcv.struct.feature.TupleDesc_B;
 import boofcv.struct.image.ImageSingleBand;
 import georegression.struct.point.Point2D_I32;
@@ -56,6 +57,8 @@ public class DescribePointBriefSO<T extends ImageSingleBand> {
 
 	// values at each sample point
 	float values[];
+	// storage for a description before it is packed
+	private TupleDesc_B work;
 
 	public DescribePointBriefSO(BriefDefinition_I32 definition,
 								BlurFilter<T> filterBlur,
@@ -66,6 +69,7 @@ public class DescribePointBriefSO<T extends ImageSingleBand> {
 
 		blur = GeneralizedImageOps.createSingleBand(filterBlur.getInputType(), 1, 1);
 		values = new float[ definition.samplePoints.length ];
+		work = createFeature();
 	}
 
 	public TupleDesc_B createFeature() {
@@ -123,6 +127,27 @@ public class DescribePointBriefSO<T extends ImageSingleBand> {
 		}
 	}
 
+	/**
+	 * Creates an array which can store packed descriptions of the appropriate size.
+	 */
+	public PackedTupleArray_B createPackedArray() {
+		return new PackedTupleArray_B(definition.getLength());
+	}
+
+	/**
+	 * Computes the descriptor at the specified point and adds it to the end of the packed array.
+	 *
+	 * @param c_x Center of region being described.
+	 * @param c_y Center of region being described.
+	 * @param orientation Orientation of the region.
+	 * @param scale Scale of the region.
+	 * @param features Packed array the descriptor is added to.
+	 */
+	public void process( float c_x , float c_y , float orientation , float scale , PackedTupleArray_B features ) {
+		process(c_x,c_y,orientation,scale,work);
+		features.add(work);
+	}
+
 	public BriefDefinition_I32 getDefinition() {
 		return definition;
 	}
@@ -25,7 +25,6 @@ import boofcv.factory.filter.kernel.FactoryKernelGaussian;
 import boofcv.struct.convolve.Kernel2D_F64;
 import boofcv.struct.feature.SurfFeature;
 import boofcv.struct.image.ImageSingleBand;
-import boofcv.struct.sparse.GradientValue;
 import boofcv.struct.sparse.SparseGradientSafe;
 import boofcv.struct.sparse.SparseImageGradient;
 import boofcv.struct.sparse.SparseScaleGradient;
@@ -82,6 +81,15 @@ public class DescribePointSurf<II extends ImageSingleBand> {
 
 
 	protected SparseScaleGradient<II,?> gradient;
+	// checks the image border before sampling the gradient
+	protected SparseImageGradient<II,?> gradientSafe;
+
+	// pixel coordinate of each sample point in the region
+	private int sampleX[];
+	private int sampleY[];
+	// gradient at each sample point
+	private double sampleDX[];
+	private double sampleDY[];
 
 	/**
 	 * Creates a SURF descriptor of arbitrary dimension by changing how the local region is sampled.
@@ -114,6 +122,13 @@ public class DescribePointSurf<II extends ImageSingleBand> {
 
 		// create the function that the gradient is sampled with
 		gradient = SurfDescribeOps.createGradient(useHaar,widthSample, inputType);
+		gradientSafe = new SparseGradientSafe(gradient);
+
+		int regionSize = widthLargeGrid*widthSubRegion;
+		sampleX = new int[ regionSize*regionSize ];
+		sampleY = new int[ regionSize*regionSize ];
+		sampleDX = new double[ regionSize*regionSize ];
+		sampleDY = new double[ regionSize*regionSize ];
 	}
 
 	/**
@@ -163,8 +178,7 @@ public class DescribePointSurf<II extends ImageSingleBand> {
 		gradient.setScale(scale);
 
 		// use a safe method if its along the image border
-		SparseImageGradient gradient = isInBounds ?
-				this.gradient : new SparseGradientSafe(this.gradient);
+		SparseImageGradient gradient = isInBounds ? this.gradient : gradientSafe;
 
 		// extract descriptor
 		features(x, y, c, s, scale, gradient , ret.value);
@@ -218,27 +232,38 @@ public class DescribePointSurf<II extends ImageSingleBand> {
 		c_x += 0.5;
 		c_y += 0.5;
 
-		// step through the sub-regions
+		// find the location of every sample point then compute the wavelets all at once
+		int sampleIndex = 0;
 		for( int rY = -regionR; rY < regionEnd; rY += widthSubRegion ) {
 			for( int rX = -regionR; rX < regionEnd; rX += widthSubRegion ) {
-				double sum_dx = 0, sum_dy=0, sum_adx=0, sum_ady=0;
-
-				// compute and sum up the response  inside the sub-region
 				for( int i = 0; i < widthSubRegion; i++ ) {
 					double regionY = (rY + i)*scale;
-					for( int j = 0; j < widthSubRegion; j++ ) {
-						double w = weight.get(regionR+rX + j, regionR+rY + i);
-
+					for( int j = 0; j < widthSubRegion; j++ , sampleIndex++ ) {
 						double regionX = (rX + j)*scale;
 
 						// rotate the pixel along the feature's direction
-						int pixelX = (int)(c_x + c*regionX - s*regionY);
-						int pixelY = (int)(c_y + s*regionX + c*regionY);
+						sampleX[sampleIndex] = (int)(c_x + c*regionX - s*regionY);
+						sampleY[sampleIndex] = (int)(c_y + s*regionX + c*regionY);
+					}
+				}
+			}
+		}
+		gradient.compute(sampleX,sampleY,sampleIndex,sampleDX,sampleDY);
+
+		// step through the sub-regions
+		sampleIndex = 0;
+		for( int rY = -regionR; rY < regionEnd; rY += widthSubRegion ) {
+			for( int rX = -regionR; rX < regionEnd; rX += widthSubRegion ) {
+				double sum_dx = 0, sum_dy=0, sum_adx=0, sum_ady=0;
+
+				// sum up the response inside the sub-region
+				for( int i = 0; i < widthSubRegion; i++ ) {
+					for( int j = 0; j < widthSubRegion; j++ , sampleIndex++ ) {
+						double w = weight.get(regionR+rX + j, regionR+rY + i);
 
-						// compute the wavelet and multiply by the weighting factor
-						GradientValue g = gradient.compute(pixelX,pixelY);
-						double dx = w*g.getX();
-						double dy = w*g.getY();
+						// multiply the wavelet by the weighting factor
+						double dx = w*sampleDX[sampleIndex];
+						double dy = w*sampleDY[sampleIndex];
 
 						// align the gradient along image patch
 						// note the transform is transposed
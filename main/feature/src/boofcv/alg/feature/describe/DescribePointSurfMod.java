@@ -22,8 +22,6 @@ import boofcv.factory.filter.kernel.FactoryKernelGaussian;
 import boofcv.struct.convolve.Kernel2D_F64;
 import boofcv.struct.feature.SurfFeature;
 import boofcv.struct.image.ImageSingleBand;
-import boofcv.struct.sparse.GradientValue;
-import boofcv.struct.sparse.SparseGradientSafe;
 import boofcv.struct.sparse.SparseImageGradient;
 
 /**
@@ -52,6 +50,9 @@ public class DescribePointSurfMod<II extends ImageSingleBand> extends DescribePo
 
 	private double samplesX[];
 	private double samplesY[];
+	// pixel coordinate of each sample
+	private int pixelsX[];
+	private int pixelsY[];
 
 	// how wide the grid is that's being sampled in units of samples
 	int sampleWidth;
@@ -90,6 +91,8 @@ public class DescribePointSurfMod<II extends ImageSingleBand> extends DescribePo
 		sampleWidth = widthLargeGrid*widthSubRegion+overLap*2;
 		samplesX = new double[sampleWidth*sampleWidth];
 		samplesY = new double[sampleWidth*sampleWidth];
+		pixelsX = new int[sampleWidth*sampleWidth];
+		pixelsY = new int[sampleWidth*sampleWidth];
 	}
 
 	/**
@@ -130,8 +133,7 @@ public class DescribePointSurfMod<II extends ImageSingleBand> extends DescribePo
 		gradient.setScale(scale);
 
 		// use a safe method if its along the image border
-		SparseImageGradient gradient = isInBounds ?
-				this.gradient : new SparseGradientSafe(this.gradient);
+		SparseImageGradient gradient = isInBounds ? this.gradient : gradientSafe;
 
 		// compute image features
 		features(x, y, c, s, scale, gradient , ret.value);
@@ -185,14 +187,11 @@ public class DescribePointSurfMod<II extends ImageSingleBand> extends DescribePo
 				double regionX = rX*scale;
 
 				// rotate the pixel along the feature's direction
-				int pixelX = (int)(c_x + c*regionX - s*regionY);
-				int pixelY = (int)(c_y + s*regionX + c*regionY);
-
-				GradientValue g = gradient.compute(pixelX,pixelY);
-				samplesX[index] = g.getX();
-				samplesY[index] = g.getY();
+				pixelsX[index] = (int)(c_x + c*regionX - s*regionY);
+				pixelsY[index] = (int)(c_y + s*regionX + c*regionY);
 			}
 		}
+		gradient.compute(pixelsX,pixelsY,index,samplesX,samplesY);
 
 		// compute descriptor using precomputed samples
 		int indexGridWeight = 0;
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.describe;
+
+import boofcv.abst.feature.orientation.OrientationIntegral;
+import boofcv.struct.GrowQueue_F64;
+import boofcv.struct.feature.ScalePoint;
+import boofcv.struct.feature.SurfFeature;
+import boofcv.struct.feature.SurfFeatureQueue;
+import boofcv.struct.image.ImageSingleBand;
+
+import java.util.List;
+
+/**
+ * Estimates the orientation of and then describes a list of SURF interest points.  The description of
+ * the i<sup>th</sup> point is stored in the i<sup>th</sup> element of {@link #getFeatures()}.
+ *
+ * @see OrientationIntegral
+ * @see DescribePointSurf
+ *
+ * @author Peter Abeles
+ */
+public class OrientDescribeSurf<II extends ImageSingleBand> {
+
+	// estimates the orientation of each point
+	protected OrientationIntegral<II> orientation;
+	// computes the description of each point
+	protected DescribePointSurf<II> describe;
+
+	// storage for computed features
+	protected SurfFeatureQueue features;
+	// orientation of features
+	protected GrowQueue_F64 angles = new GrowQueue_F64(10);
+
+	public OrientDescribeSurf(OrientationIntegral<II> orientation, DescribePointSurf<II> describe) {
+		this.orientation = orientation;
+		this.describe = describe;
+
+		features = new SurfFeatureQueue(describe.getDescriptionLength());
+	}
+
+	/**
+	 * Computes the orientation and description of each point.
+	 *
+	 * @param ii Integral image of the input image.
+	 * @param points Location and scale of the interest points.
+	 */
+	public void process( II ii , List<ScalePoint> points ) {
+		orientation.setImage(ii);
+		describe.setImage(ii);
+		features.reset();
+		angles.reset();
+
+		for( int i = 0; i < points.size(); i++ ) {
+			ScalePoint p = points.get(i);
+
+			orientation.setScale(p.scale);
+			double angle = orientation.compute(p.x,p.y);
+			describe.describe(p.x,p.y, angle, p.scale, features.grow());
+			angles.push(angle);
+		}
+	}
+
+	/**
+	 * Descriptions of the points passed into {@link #process}
+	 */
+	public SurfFeatureQueue getFeatures() {
+		return features;
+	}
+
+	/**
+	 * Orientations of the points passed into {@link #process}
+	 */
+	public GrowQueue_F64 getAngles() {
+		return angles;
+	}
+
+	public SurfFeature createDescription() {
+		return describe.createDescription();
+	}
+
+	public int getDescriptionLength() {
+		return describe.getDescriptionLength();
+	}
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.describe;
+
+import boofcv.abst.feature.orientation.OrientationIntegral;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
+import boofcv.concurrency.WorkerPool;
+import boofcv.struct.feature.ScalePoint;
+import boofcv.struct.image.ImageSingleBand;
+
+import java.util.List;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link OrientDescribeSurf}.  The points are split into blocks which are
+ * processed at the same time, each by its own orientation and describe algorithm.  Since every point is
+ * processed independently and its results are written into the same element as the single threaded version
+ * the results are identical.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class OrientDescribeSurf_MT<II extends ImageSingleBand> extends OrientDescribeSurf<II> {
+
+	// minimum number of points processed by a block
+	private static final int MIN_BLOCK = 16;
+
+	// creates the algorithms used by each block
+	private Factory<II> factory;
+
+	// algorithms used by the blocks.  The first one reuses the single threaded algorithms
+	private final WorkerPool<Worker> workers = new WorkerPool<Worker>() {
+		@Override
+		protected Worker createWorker() {
+			if( !createdFirst ) {
+				createdFirst = true;
+				return new Worker(orientation,describe);
+			}
+			return new Worker(factory.createOrientation(),factory.createDescribe());
+		}
+	};
+	// true if a worker which uses the single threaded algorithms has been created
+	private boolean createdFirst;
+
+	/**
+	 * Configures the algorithm
+	 *
+	 * @param factory Creates a new instance of the orientation and describe algorithms each time it's called.
+	 */
+	public OrientDescribeSurf_MT(Factory<II> factory) {
+		super(factory.createOrientation(), factory.createDescribe());
+		this.factory = factory;
+	}
+
+	@Override
+	public void process( final II ii , final List<ScalePoint> points ) {
+		features.reset();
+		for( int i = 0; i < points.size(); i++ ) {
+			features.grow();
+		}
+		angles.resize(points.size());
+
+		workers.reset();
+
+		BoofConcurrency.loopBlocks(0, points.size(), MIN_BLOCK, new IntRangeTask() {
+			@Override
+			public void run(int i0, int i1) {
+				Worker w = workers.claim();
+				w.orientation.setImage(ii);
+				w.describe.setImage(ii);
+
+				for( int i = i0; i < i1; i++ ) {
+					ScalePoint p = points.get(i);
+
+					w.orientation.setScale(p.scale);
+					double angle = w.orientation.compute(p.x,p.y);
+					w.describe.describe(p.x,p.y, angle, p.scale, features.get(i));
+					angles.data[i] = angle;
+				}
+			}
+		});
+	}
+
+	/**
+	 * Creates the algorithms used to process a block of points.  A new instance must be returned each time.
+	 */
+	public static interface Factory<II extends ImageSingleBand> {
+		OrientationIntegral<II> createOrientation();
+
+		DescribePointSurf<II> createDescribe();
+	}
+
+	private class Worker {
+		OrientationIntegral<II> orientation;
+		DescribePointSurf<II> describe;
+
+		private Worker(OrientationIntegral<II> orientation, DescribePointSurf<II> describe) {
+			this.orientation = orientation;
+			this.describe = describe;
+		}
+	}
+}
@@ -63,6 +63,24 @@ public class SurfDescribeOps {
 		ImplSurfDescribeOps.naiveGradient(ii, tl_x, tl_y, samplePeriod , regionSize, kernelWidth, useHaar, derivX, derivY);
 	}
 
+	/**
+	 * Same as {@link #gradient(ImageSingleBand, double, double, double, int, double, boolean, double[], double[])}
+	 * but the arrays used to store the coordinate of each sample point are provided by the caller, so that they
+	 * can be recycled between calls.
+	 *
+	 * @param sampleX Work space for x-coordinates.  Length at least regionSize*regionSize.  Modified.
+	 * @param sampleY Work space for y-coordinates.  Length at least regionSize*regionSize.  Modified.
+	 */
+	public static <T extends ImageSingleBand>
+	void gradient(T ii, double tl_x, double tl_y, double samplePeriod ,
+				  int regionSize, double kernelWidth,
+				  boolean useHaar, double[] derivX, double derivY[],
+				  int[] sampleX , int[] sampleY )
+	{
+		ImplSurfDescribeOps.naiveGradient(ii, tl_x, tl_y, samplePeriod , regionSize, kernelWidth, useHaar,
+				derivX, derivY, sampleX, sampleY);
+	}
+
 	/**
 	 * Faster version of {@lin #gradient} which assumes the region is entirely contained inside the
 	 * of the image.  This includes the convolution kernel's radius.
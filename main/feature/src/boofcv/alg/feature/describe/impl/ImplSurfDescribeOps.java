@@ -22,7 +22,6 @@ import boofcv.alg.feature.describe.SurfDescribeOps;
 import boofcv.struct.image.ImageFloat32;
 import boofcv.struct.image.ImageSInt32;
 import boofcv.struct.image.ImageSingleBand;
-import boofcv.struct.sparse.GradientValue;
 import boofcv.struct.sparse.SparseGradientSafe;
 import boofcv.struct.sparse.SparseImageGradient;
 
@@ -162,6 +161,21 @@ public class ImplSurfDescribeOps {
 	void naiveGradient(T ii, double tl_x, double tl_y, double samplePeriod ,
 					   int regionSize, double kernelSize,
 					   boolean useHaar, double[] derivX, double derivY[])
+	{
+		int N = regionSize*regionSize;
+		naiveGradient(ii,tl_x,tl_y,samplePeriod,regionSize,kernelSize,useHaar,derivX,derivY,new int[N],new int[N]);
+	}
+
+	/**
+	 * Simple algorithm for computing the gradient of a region.  Can handle image borders.  The pixel
+	 * coordinate of each sample point is written into the provided arrays, which must have at least
+	 * regionSize*regionSize elements.
+	 */
+	public static <T extends ImageSingleBand>
+	void naiveGradient(T ii, double tl_x, double tl_y, double samplePeriod ,
+					   int regionSize, double kernelSize,
+					   boolean useHaar, double[] derivX, double derivY[],
+					   int[] pixelsX , int[] pixelsY )
 	{
 		SparseImageGradient<T,?> g =  SurfDescribeOps.createGradient(useHaar,(int)(kernelSize+0.5),(Class<T>)ii.getClass());
 		g.setImage(ii);
@@ -172,18 +186,19 @@ public class ImplSurfDescribeOps {
 		tl_x += 0.5;
 		tl_y += 0.5;
 
+		int N = regionSize*regionSize;
+		if( pixelsX.length < N || pixelsY.length < N )
+			throw new IllegalArgumentException("Sample arrays must have at least "+N+" elements");
+
 		int i = 0;
 		for( int y = 0; y < regionSize; y++ ) {
 			for( int x = 0; x < regionSize; x++ , i++) {
-				int xx = (int)(tl_x + x * samplePeriod);
-				int yy = (int)(tl_y + y * samplePeriod);
-
-				GradientValue deriv = g.compute(xx,yy);
-				derivX[i] = deriv.getX();
-				derivY[i] = deriv.getY();
-//				System.out.printf("%2d %2d %2d %2d dx = %6.2f  dy = %6.2f\n",x,y,xx,yy,derivX[i],derivY[i]);
+				pixelsX[i] = (int)(tl_x + x * samplePeriod);
+				pixelsY[i] = (int)(tl_y + y * samplePeriod);
 			}
 		}
+
+		g.compute(pixelsX,pixelsY,N,derivX,derivY);
 	}
 
 }
@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detdesc;
+
+import boofcv.alg.feature.describe.DescribePointSift;
+import boofcv.alg.feature.detect.interest.SiftDetector;
+import boofcv.alg.feature.detect.interest.SiftImageScaleSpace;
+import boofcv.alg.feature.orientation.OrientationHistogramSift;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
+import boofcv.concurrency.WorkerPool;
+import boofcv.struct.FastQueue;
+import boofcv.struct.GrowQueue_F64;
+import boofcv.struct.GrowQueue_I32;
+import boofcv.struct.feature.ScalePoint;
+import boofcv.struct.feature.SurfFeature;
+import boofcv.struct.image.ImageFloat32;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link DetectDescribeSift}.  Produces the same features in the same order.
+ * </p>
+ *
+ * <p>
+ * Processing is done in the following steps:
+ * <ol>
+ * <li>The scale-space is constructed.  Pass in {@link boofcv.alg.feature.detect.interest.SiftImageScaleSpace_MT}
+ * for it to be done concurrently.</li>
+ * <li>Features are detected in each scale at the same time.  The features from each scale are then added
+ * to the list of found points in the same order as {@link SiftDetector#process}.</li>
+ * <li>The orientations of all the found points are estimated concurrently.</li>
+ * <li>Since the number of orientations for each point is now known, the index of each description is known
+ * and all of them can be computed concurrently.</li>
+ * </ol>
+ * Each block of work is given its own detector, orientation, and describe algorithm.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class DetectDescribeSift_MT extends DetectDescribeSift {
+
+	// creates the algorithms used by each block
+	private Factory factory;
+
+	// algorithms used by the blocks.  The first one reuses the single threaded algorithms
+	private final WorkerPool<Worker> workers = new WorkerPool<Worker>() {
+		@Override
+		protected Worker createWorker() {
+			if( !createdFirst ) {
+				createdFirst = true;
+				return new Worker(detector,orientation,describe);
+			}
+			return new Worker(factory.createDetector(),factory.createOrientation(),factory.createDescribe());
+		}
+	};
+	// true if a worker which uses the single threaded algorithms has been created
+	private boolean createdFirst;
+
+	// features found in each scale
+	private final List<FastQueue<ScalePoint>> scalePoints = new ArrayList<FastQueue<ScalePoint>>();
+	// all the found points
+	private FastQueue<ScalePoint> found = new FastQueue<ScalePoint>(100,ScalePoint.class,true);
+
+	// orientations for each found point
+	private FastQueue<GrowQueue_F64> pointAngles = new FastQueue<GrowQueue_F64>(100,GrowQueue_F64.class,true);
+	// image index and pixel scale of each found point
+	private GrowQueue_I32 pointImageIndex = new GrowQueue_I32(100);
+	private GrowQueue_F64 pointPixelScale = new GrowQueue_F64(100);
+	// index of the first description of each found point
+	private GrowQueue_I32 pointOffset = new GrowQueue_I32(100);
+
+	/**
+	 * Configures the algorithm
+	 *
+	 * @param ss Computes the scale-space.  Can be concurrent.
+	 * @param factory Creates a new instance of the detector, orientation, and describe algorithms each time
+	 *                it's called.
+	 */
+	public DetectDescribeSift_MT(SiftImageScaleSpace ss, Factory factory) {
+		super(ss, factory.createDetector(), factory.createOrientation(), factory.createDescribe());
+		this.factory = factory;
+	}
+
+	@Override
+	public void process( ImageFloat32 input ) {
+
+		features.reset();
+		featureScales.reset();
+		featureAngles.reset();
+		location.reset();
+
+		ss.constructPyramid(input);
+		ss.computeFeatureIntensity();
+		ss.computeDerivatives();
+
+		detectFeatures();
+		computeOrientations();
+
+		// find where the descriptions of each point start
+		pointOffset.resize(found.size);
+		int total = 0;
+		for( int i = 0; i < found.size; i++ ) {
+			pointOffset.data[i] = total;
+			total += pointAngles.get(i).size;
+		}
+
+		for( int i = 0; i < total; i++ ) {
+			features.grow();
+			location.grow();
+		}
+		featureScales.resize(total);
+		featureAngles.resize(total);
+
+		describeFeatures();
+	}
+
+	/**
+	 * Detects features in all the scales at the same time then combines them into a single list
+	 */
+	private void detectFeatures() {
+		final int numScales = ss.getNumScales()-3;
+		int numJobs = ss.getActualOctaves()*numScales;
+
+		while( scalePoints.size() < numJobs ) {
+			scalePoints.add(new FastQueue<ScalePoint>(10,ScalePoint.class,true));
+		}
+		for( int i = 0; i < numJobs; i++ ) {
+			scalePoints.get(i).reset();
+		}
+
+		workers.reset();
+		BoofConcurrency.loopBlocks(0, numJobs, new IntRangeTask() {
+			@Override
+			public void run(int i0, int i1) {
+				SiftDetector detector = workers.claim().detector;
+
+				for( int i = i0; i < i1; i++ ) {
+					int octave = i / numScales;
+					int scale = i % numScales + 1;
+
+					FastQueue<ScalePoint> detected = detector.getFoundPoints();
+					detected.reset();
+					detector.processScale(ss, octave, scale);
+
+					FastQueue<ScalePoint> output = scalePoints.get(i);
+					for( int j = 0; j < detected.size; j++ ) {
+						output.grow().set(detected.get(j));
+					}
+				}
+			}
+		});
+
+		found.reset();
+		for( int i = 0; i < numJobs; i++ ) {
+			FastQueue<ScalePoint> points = scalePoints.get(i);
+			for( int j = 0; j < points.size; j++ ) {
+				found.grow().set(points.get(j));
+			}
+		}
+	}
+
+	/**
+	 * Computes the orientations of each found point at the same time
+	 */
+	private void computeOrientations() {
+		pointAngles.reset();
+		for( int i = 0; i < found.size; i++ ) {
+			pointAngles.grow().reset();
+		}
+		pointImageIndex.resize(found.size);
+		pointPixelScale.resize(found.size);
+
+		workers.reset();
+		BoofConcurrency.loopBlocks(0, found.size, new IntRangeTask() {
+			@Override
+			public void run(int i0, int i1) {
+				OrientationHistogramSift orientation = workers.claim().orientation;
+				orientation.setScaleSpace(ss);
+
+				for( int i = i0; i < i1; i++ ) {
+					ScalePoint sp = found.data[i];
+					orientation.process(sp.x,sp.y,sp.scale);
+
+					GrowQueue_F64 angles = orientation.getOrientations();
+					GrowQueue_F64 output = pointAngles.get(i);
+					for( int j = 0; j < angles.size; j++ ) {
+						output.push(angles.data[j]);
+					}
+					pointImageIndex.data[i] = orientation.getImageIndex();
+					pointPixelScale.data[i] = orientation.getPixelScale();
+				}
+			}
+		});
+	}
+
+	/**
+	 * Computes the description for each orientation of each found point at the same time
+	 */
+	private void describeFeatures() {
+		workers.reset();
+		BoofConcurrency.loopBlocks(0, found.size, new IntRangeTask() {
+			@Override
+			public void run(int i0, int i1) {
+				DescribePointSift describe = workers.claim().describe;
+				describe.setScaleSpace(ss);
+
+				for( int i = i0; i < i1; i++ ) {
+					ScalePoint sp = found.data[i];
+					GrowQueue_F64 angles = pointAngles.get(i);
+					int imageIndex = pointImageIndex.data[i];
+					double pixelScale = pointPixelScale.data[i];
+
+					int index = pointOffset.data[i];
+					for( int j = 0; j < angles.size; j++ , index++ ) {
+						SurfFeature desc = features.data[index];
+
+						double yaw = angles.data[j];
+
+						describe.process(sp.x,sp.y,sp.scale,yaw,imageIndex,pixelScale,desc);
+
+						desc.laplacianPositive = sp.white;
+						featureScales.data[index] = sp.scale;
+						featureAngles.data[index] = yaw;
+						location.data[index].set(sp.x,sp.y);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Creates the algorithms used to process a block of work.  A new instance must be returned each time.
+	 */
+	public static interface Factory {
+		SiftDetector createDetector();
+
+		OrientationHistogramSift createOrientation();
+
+		DescribePointSift createDescribe();
+	}
+
+	private static class Worker {
+		SiftDetector detector;
+		OrientationHistogramSift orientation;
+		DescribePointSift describe;
+
+		private Worker(SiftDetector detector, OrientationHistogramSift orientation, DescribePointSift describe) {
+			this.detector = detector;
+			this.orientation = orientation;
+			this.describe = describe;
+		}
+	}
+}
@@ -19,7 +19,9 @@
 package boofcv.alg.feature.detect.intensity;
 
 import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageFloat64;
 import boofcv.struct.image.ImageSInt32;
+import boofcv.struct.image.ImageSInt64;
 import boofcv.struct.image.ImageSingleBand;
 
 
@@ -43,6 +45,10 @@ public class GIntegralImageFeatureIntensity {
 			IntegralImageFeatureIntensity.hessian((ImageFloat32)integral,skip,size,intensity);
 		} else if( integral instanceof ImageSInt32) {
 			IntegralImageFeatureIntensity.hessian((ImageSInt32)integral,skip,size,intensity);
+		} else if( integral instanceof ImageFloat64 ) {
+			IntegralImageFeatureIntensity.hessian((ImageFloat64)integral,skip,size,intensity);
+		} else if( integral instanceof ImageSInt64 ) {
+			IntegralImageFeatureIntensity.hessian((ImageSInt64)integral,skip,size,intensity);
 		} else {
 			throw new IllegalArgumentException("Unsupported input type");
 		}
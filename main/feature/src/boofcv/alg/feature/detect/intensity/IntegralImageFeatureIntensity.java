@@ -20,7 +20,9 @@ package boofcv.alg.feature.detect.intensity;
 
 import boofcv.alg.feature.detect.intensity.impl.ImplIntegralImageFeatureIntensity;
 import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageFloat64;
 import boofcv.struct.image.ImageSInt32;
+import boofcv.struct.image.ImageSInt64;
 
 
 /**
@@ -65,4 +67,40 @@ public class IntegralImageFeatureIntensity {
 		ImplIntegralImageFeatureIntensity.hessianBorder(integral,skip,size,intensity);
 		ImplIntegralImageFeatureIntensity.hessianInner(integral,skip,size,intensity);
 	}
+
+	/**
+	 * Computes an approximation to the Hessian's determinant.
+	 *
+	 * @param integral Integral image transform of input image. Not modified.
+	 * @param skip How many pixels should it skip over.
+	 * @param size Hessian kernel's size.
+	 * @param intensity Output intensity image.
+	 */
+	public static void hessian( ImageFloat64 integral, int skip , int size ,
+								ImageFloat32 intensity)
+	{
+		// todo check size with skip
+//		InputSanityCheck.checkSameShape(integral,intensity);
+
+		ImplIntegralImageFeatureIntensity.hessianBorder(integral,skip,size,intensity);
+		ImplIntegralImageFeatureIntensity.hessianInner(integral,skip,size,intensity);
+	}
+
+	/**
+	 * Computes an approximation to the Hessian's determinant.
+	 *
+	 * @param integral Integral image transform of input image. Not modified.
+	 * @param skip How many pixels should it skip over.
+	 * @param size Hessian kernel's size.
+	 * @param intensity Output intensity image.
+	 */
+	public static void hessian( ImageSInt64 integral, int skip , int size ,
+								ImageFloat32 intensity)
+	{
+		// todo check size with skip
+//		InputSanityCheck.checkSameShape(integral,intensity);
+
+		ImplIntegralImageFeatureIntensity.hessianBorder(integral,skip,size,intensity);
+		ImplIntegralImageFeatureIntensity.hessianInner(integral,skip,size,intensity);
+	}
 }
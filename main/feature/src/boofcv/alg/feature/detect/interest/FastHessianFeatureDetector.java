@@ -151,12 +151,6 @@ public class FastHessianFeatureDetector<II extends ImageSingleBand> {
 	 * @param integral Image transformed into an integral image.
 	 */
 	public void detect( II integral ) {
-		if( intensity == null ) {
-			intensity = new ImageFloat32[3];
-			for( int i = 0; i < intensity.length; i++ ) {
-				intensity[i] = new ImageFloat32(integral.width,integral.height);
-			}
-		}
 		foundPoints.reset();
 
 		// computes feature intensity every 'skip' pixels
@@ -197,6 +191,13 @@ public class FastHessianFeatureDetector<II extends ImageSingleBand> {
 		int w = integral.width/skip;
 		int h = integral.height/skip;
 
+		if( intensity == null ) {
+			intensity = new ImageFloat32[3];
+			for( int i = 0; i < intensity.length; i++ ) {
+				intensity[i] = new ImageFloat32(w,h);
+			}
+		}
+
 		// resize the output intensity image taking in account subsampling
 		for( int i = 0; i < intensity.length; i++ ) {
 			intensity[i].reshape(w,h);
@@ -212,7 +213,10 @@ public class FastHessianFeatureDetector<II extends ImageSingleBand> {
 
 			// find maximum in scale space
 			if( i >= 2 ) {
-				findLocalScaleSpaceMax(featureSize,i-1,skip);
+				ImageFloat32 inten0 = intensity[spaceIndex];
+				ImageFloat32 inten1 = intensity[(spaceIndex + 1) % 3];
+				ImageFloat32 inten2 = intensity[(spaceIndex + 2) % 3];
+				findLocalScaleSpaceMax(featureSize,i-1,skip,inten0,inten1,inten2);
 			}
 		}
 	}
@@ -223,22 +227,24 @@ public class FastHessianFeatureDetector<II extends ImageSingleBand> {
 	 * @param size Size of features in different scale-spaces.
 	 * @param level Which level in the scale-space
 	 * @param skip How many pixels are skipped over.
+	 * @param intensityLower Feature intensity in the level below
+	 * @param intensityLevel Feature intensity in the level being searched
+	 * @param intensityUpper Feature intensity in the level above
 	 */
-	private void findLocalScaleSpaceMax(int []size, int level, int skip) {
-		int index0 = spaceIndex;
-		int index1 = (spaceIndex + 1) % 3;
-		int index2 = (spaceIndex + 2) % 3;
-
-		ImageBorder_F32 inten0 = (ImageBorder_F32)FactoryImageBorderAlgs.value(intensity[index0], 0);
-		ImageFloat32 inten1 = intensity[index1];
-		ImageBorder_F32 inten2 = (ImageBorder_F32)FactoryImageBorderAlgs.value(intensity[index2], 0);
+	protected void findLocalScaleSpaceMax(int []size, int level, int skip,
+										  ImageFloat32 intensityLower,
+										  ImageFloat32 intensityLevel,
+										  ImageFloat32 intensityUpper ) {
+		ImageBorder_F32 inten0 = (ImageBorder_F32)FactoryImageBorderAlgs.value(intensityLower, 0);
+		ImageFloat32 inten1 = intensityLevel;
+		ImageBorder_F32 inten2 = (ImageBorder_F32)FactoryImageBorderAlgs.value(intensityUpper, 0);
 
 		// find local maximums in image 2D space.  Borders need to be ignored since
 		// false positives are found around them as an artifact of pixels outside being
 		// treated as being zero.
 		foundFeatures.reset();
 		extractor.setIgnoreBorder(size[level] / (2 * skip)+extractor.getSearchRadius());
-		extractor.process(intensity[index1],null,null,null,foundFeatures);
+		extractor.process(inten1,null,null,null,foundFeatures);
 
 		// number of features which can be added
 		int numberRemaining;
@@ -246,7 +252,7 @@ public class FastHessianFeatureDetector<II extends ImageSingleBand> {
 		// if configured to do so, only select the features with the highest intensity
 		QueueCorner features;
 		if( sortBest != null ) {
-			sortBest.process(intensity[index1],foundFeatures,true);
+			sortBest.process(inten1,foundFeatures,true);
 			features = sortBest.getBestCorners();
 			numberRemaining = maxFeaturesPerScale;
 		} else {
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.interest;
+
+import boofcv.abst.feature.detect.extract.NonMaxSuppression;
+import boofcv.alg.feature.detect.intensity.GIntegralImageFeatureIntensity;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageSingleBand;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link FastHessianFeatureDetector}.  The feature intensity of every scale in an
+ * octave is computed at the same time from the shared integral image.  Each scale has its own intensity image
+ * instead of the three image ring buffer used by the single threaded version.  Local maximums are then found
+ * one scale at a time, in the same order, so the same features are returned in the same order as
+ * {@link FastHessianFeatureDetector}.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class FastHessianFeatureDetector_MT<II extends ImageSingleBand> extends FastHessianFeatureDetector<II> {
+
+	// feature intensity for each scale in the octave being processed
+	private ImageFloat32 scaleIntensity[] = new ImageFloat32[0];
+
+	/**
+	 * See {@link FastHessianFeatureDetector#FastHessianFeatureDetector} for a description of each parameter.
+	 */
+	public FastHessianFeatureDetector_MT(NonMaxSuppression extractor, int maxFeaturesPerScale,
+										 int initialSampleRate, int initialSize,
+										 int numberScalesPerOctave,
+										 int numberOfOctaves) {
+		super(extractor, maxFeaturesPerScale, initialSampleRate, initialSize, numberScalesPerOctave, numberOfOctaves);
+	}
+
+	@Override
+	protected void detectOctave( final II integral , final int skip , final int ...featureSize ) {
+
+		int w = integral.width/skip;
+		int h = integral.height/skip;
+
+		if( scaleIntensity.length != featureSize.length ) {
+			scaleIntensity = new ImageFloat32[ featureSize.length ];
+			for( int i = 0; i < scaleIntensity.length; i++ ) {
+				scaleIntensity[i] = new ImageFloat32(w,h);
+			}
+		}
+
+		// resize the output intensity image taking in account subsampling
+		for( int i = 0; i < scaleIntensity.length; i++ ) {
+			scaleIntensity[i].reshape(w,h);
+		}
+
+		// compute feature intensity in each level at the same time
+		BoofConcurrency.loopBlocks(0, featureSize.length, new IntRangeTask() {
+			@Override
+			public void run(int i0, int i1) {
+				for( int i = i0; i < i1; i++ ) {
+					GIntegralImageFeatureIntensity.hessian(integral,skip,featureSize[i],scaleIntensity[i]);
+				}
+			}
+		});
+
+		// find maximum in scale space
+		for( int i = 1; i < featureSize.length-1; i++ ) {
+			findLocalScaleSpaceMax(featureSize,i,skip,scaleIntensity[i-1],scaleIntensity[i],scaleIntensity[i+1]);
+		}
+	}
+}
@@ -153,35 +153,48 @@ public class SiftDetector {
 	public void process( SiftImageScaleSpace ss ) {
 		// set up data structures
 		foundPoints.reset();
-		this.ss = ss;
-		octavePixelOffset = 0;
 
 		// extract features in each octave
 		for( int octave = 0; octave < ss.actualOctaves; octave++ ) {
 			// start processing at the second DOG since it needs the scales above and below
-			int indexDOG = octave*(ss.numScales-1)+1;
-			int indexScale = octave*ss.numScales+1;
+			for( int scale = 1; scale < ss.numScales-2; scale++ ) {
+				processScale(ss,octave,scale);
+			}
+		}
+	}
 
-			currentPixelScale = ss.pixelScale[octave];
+	/**
+	 * Detects features inside a single scale and adds them to the list of found points.  The list is
+	 * not reset.  Calling this function for every octave and scale, in order, is the same as
+	 * calling {@link #process}.
+	 *
+	 * @param ss Scale-space with feature intensity and derivatives already computed.
+	 * @param octave The octave the scale is in.
+	 * @param scale The scale inside the octave.  From 1 to numScales-3, inclusive.
+	 */
+	public void processScale( SiftImageScaleSpace ss , int octave , int scale ) {
+		this.ss = ss;
 
-			ss.storage.reshape( ss.scale[indexScale].width , ss.scale[indexScale].height );
+		int indexDOG = octave*(ss.numScales-1)+scale;
+		int indexScale = octave*ss.numScales+scale;
 
-			for( int scale = 1; scale < ss.numScales-2; scale++ , indexScale++,indexDOG++ ) {
+		// when the images are sub-sampled between octaves the sampling starts at pixel 1 in (x,y)
+		octavePixelOffset = 0;
+		for( int i = 0; i < octave; i++ ) {
+			octavePixelOffset += ss.pixelScale[i];
+		}
 
-				// use the scale-space image as input for derivatives
-				derivXX.setImage(ss.scale[indexScale]);
-				derivXY.setImage(ss.scale[indexScale]);
-				derivYY.setImage(ss.scale[indexScale]);
+		currentPixelScale = ss.pixelScale[octave];
 
-				// the current scale factor being considered
-				currentSigma = ss.computeScaleSigma(octave,scale);
+		// use the scale-space image as input for derivatives
+		derivXX.setImage(ss.scale[indexScale]);
+		derivXY.setImage(ss.scale[indexScale]);
+		derivYY.setImage(ss.scale[indexScale]);
 
-				detectFeatures(indexDOG);
-			}
+		// the current scale factor being considered
+		currentSigma = ss.computeScaleSigma(octave,scale);
 
-			// when the images are sub-sampled between octaves the sampling starts at pixel 1 in (x,y)
-			octavePixelOffset += currentPixelScale;
-		}
+		detectFeatures(indexDOG);
 	}
 
 	/**
@@ -25,6 +25,7 @@ import boofcv.factory.filter.derivative.FactoryDerivative;
 import boofcv.factory.filter.kernel.FactoryKernelGaussian;
 import boofcv.struct.convolve.Kernel1D_F32;
 import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImagePool;
 
 /**
  * Constructs the scale-space in which SIFT detects features.  An octave contains a set of scales.
@@ -81,8 +82,6 @@ public class SiftImageScaleSpace {
 	// Computes the image derivative
 	private ImageGradient<ImageFloat32,ImageFloat32> gradient = FactoryDerivative.three_F32();
 
-	// storage for applying blur
-	protected ImageFloat32 storage;
 
 	/**
 	 * Configures the scale-space.
@@ -129,7 +128,6 @@ public class SiftImageScaleSpace {
 		for( int i = 0; i < dog.length; i++ ) {
 			dog[i] = new ImageFloat32(1,1);
 		}
-		storage = new ImageFloat32(1,1);
 
 		layerSigma = new double[totalImages];
 		for( int o = 0; o < numOctaves; o++ ) {
@@ -184,15 +182,25 @@ public class SiftImageScaleSpace {
 	public void computeDerivatives() {
 		int maxScales = actualOctaves*numScales;
 		for( int i = 0; i < maxScales; i++ ) {
-			ImageFloat32 input = scale[i];
-			ImageFloat32 dx = derivX[i];
-			ImageFloat32 dy = derivY[i];
+			computeDerivative(i,gradient);
+		}
+	}
 
-			dx.reshape(input.width,input.height);
-			dy.reshape(input.width,input.height);
+	/**
+	 * Computes the image derivative of a single layer in the pyramid.
+	 *
+	 * @param index Index of the layer
+	 * @param gradient Used to compute the gradient
+	 */
+	protected void computeDerivative( int index , ImageGradient<ImageFloat32,ImageFloat32> gradient ) {
+		ImageFloat32 input = scale[index];
+		ImageFloat32 dx = derivX[index];
+		ImageFloat32 dy = derivY[index];
 
-			gradient.process(input,dx,dy);
-		}
+		dx.reshape(input.width,input.height);
+		dy.reshape(input.width,input.height);
+
+		gradient.process(input,dx,dy);
 	}
 
 	/**
@@ -215,11 +223,26 @@ public class SiftImageScaleSpace {
 	 * Applies the specified amount of blur to the input image and stores the results in
 	 * the output image
 	 */
-	private void blurImage( ImageFloat32 input , ImageFloat32 output , double sigma ) {
+	protected void blurImage( ImageFloat32 input , ImageFloat32 output , double sigma ) {
 		Kernel1D_F32 kernel = FactoryKernelGaussian.gaussian(Kernel1D_F32.class, sigma, -1);
 
-		storage.reshape(input.width,input.height);
-		ConvolveNormalized.horizontal(kernel, input, storage);
+		// storage for applying blur
+		ImagePool pool = ImagePool.getShared();
+		ImageFloat32 storage = pool.borrow(ImageFloat32.class,input.width,input.height);
+		try {
+			convolve(kernel,input,storage,output);
+		} finally {
+			pool.release(storage);
+		}
+	}
+
+	/**
+	 * Convolves the kernel along the rows of the input image and then along the columns.
+	 *
+	 * @param storage Storage for the horizontal convolution.  Same size as the input.
+	 */
+	protected void convolve( Kernel1D_F32 kernel , ImageFloat32 input , ImageFloat32 storage , ImageFloat32 output ) {
+		ConvolveNormalized.horizontal(kernel,input,storage);
 		ConvolveNormalized.vertical(kernel,storage,output);
 	}
 
@@ -227,22 +250,31 @@ public class SiftImageScaleSpace {
 	 * Compute difference of Gaussian feature intensity across scale space
 	 */
 	public void computeFeatureIntensity() {
-		int indexDog = 0;
-		for( int o = 0; o < actualOctaves; o++ ) {
-			for( int i = 1; i < numScales; i++ , indexDog++ ) {
-				int indexScale = o*numScales + i;
+		int numDog = actualOctaves*(numScales-1);
+		for( int indexDog = 0; indexDog < numDog; indexDog++ ) {
+			computeDog(indexDog);
+		}
+	}
 
-				PixelMath.subtract(scale[indexScale],scale[indexScale-1],dog[indexDog]);
+	/**
+	 * Computes a single difference of Gaussian image from the two scales it lies between.
+	 *
+	 * @param indexDog Index of the DOG image being computed
+	 */
+	protected void computeDog( int indexDog ) {
+		int o = indexDog/(numScales-1);
+		int i = indexDog%(numScales-1) + 1;
+		int indexScale = o*numScales + i;
 
-				// NOTE: In SIFT paper it states you don't need to do this adjustment.  However, since the difference
-				// between scales is not a constant factor in this implementation you do need to do it.
+		PixelMath.subtract(scale[indexScale],scale[indexScale-1],dog[indexDog]);
 
-				// compute adjustment to make it better approximate of the Laplacian of Gaussian detector
-				double k = (i+1)/(double)i;
-				double adjustment = k-1;
-				PixelMath.divide(dog[indexDog], (float) adjustment, dog[indexDog]);
-			}
-		}
+		// NOTE: In SIFT paper it states you don't need to do this adjustment.  However, since the difference
+		// between scales is not a constant factor in this implementation you do need to do it.
+
+		// compute adjustment to make it better approximate of the Laplacian of Gaussian detector
+		double k = (i+1)/(double)i;
+		double adjustment = k-1;
+		PixelMath.divide(dog[indexDog], (float) adjustment, dog[indexDog]);
 	}
 
 	/**
@@ -327,6 +359,14 @@ public class SiftImageScaleSpace {
 		return numScales;
 	}
 
+	/**
+	 * Number of octaves in the most recently constructed pyramid.  Can be less than {@link #getNumOctaves()}
+	 * for small images.
+	 */
+	public int getActualOctaves() {
+		return actualOctaves;
+	}
+
 	public ImageFloat32 getPyramidLayer(int index) {
 		return scale[index];
 	}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.interest;
+
+import boofcv.abst.filter.derivative.ImageGradient;
+import boofcv.alg.filter.convolve.ConvolveNormalized_MT;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
+import boofcv.concurrency.WorkerPool;
+import boofcv.factory.filter.derivative.FactoryDerivative;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.image.ImageFloat32;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link SiftImageScaleSpace}.  Each scale depends on the previous one, so the
+ * pyramid is still constructed one scale at a time, but the blur is applied to bands of rows at the same time.
+ * Difference of Gaussian images and image derivatives only depend on the pyramid and every layer is
+ * computed at the same time.  Produces the same results as {@link SiftImageScaleSpace}.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class SiftImageScaleSpace_MT extends SiftImageScaleSpace {
+
+	// computes the image derivative for each block
+	private final WorkerPool<ImageGradient<ImageFloat32,ImageFloat32>> gradients =
+			new WorkerPool<ImageGradient<ImageFloat32,ImageFloat32>>() {
+				@Override
+				protected ImageGradient<ImageFloat32,ImageFloat32> createWorker() {
+					return FactoryDerivative.three_F32();
+				}
+			};
+
+	/**
+	 * See {@link SiftImageScaleSpace#SiftImageScaleSpace} for a description of each parameter.
+	 */
+	public SiftImageScaleSpace_MT(float blurSigma, int numScales, int numOctaves, boolean doubleInputImage) {
+		super(blurSigma, numScales, numOctaves, doubleInputImage);
+	}
+
+	@Override
+	public void computeDerivatives() {
+		gradients.reset();
+
+		BoofConcurrency.loopBlocks(0, actualOctaves*numScales, new IntRangeTask() {
+			@Override
+			public void run(int i0, int i1) {
+				ImageGradient<ImageFloat32,ImageFloat32> gradient = gradients.claim();
+				for( int i = i0; i < i1; i++ ) {
+					computeDerivative(i,gradient);
+				}
+			}
+		});
+	}
+
+	@Override
+	public void computeFeatureIntensity() {
+		BoofConcurrency.loopBlocks(0, actualOctaves*(numScales-1), new IntRangeTask() {
+			@Override
+			public void run(int i0, int i1) {
+				for( int i = i0; i < i1; i++ ) {
+					computeDog(i);
+				}
+			}
+		});
+	}
+
+	@Override
+	protected void convolve( Kernel1D_F32 kernel , ImageFloat32 input , ImageFloat32 storage , ImageFloat32 output ) {
+		ConvolveNormalized_MT.horizontal(kernel,input,storage);
+		ConvolveNormalized_MT.vertical(kernel,storage,output);
+	}
+}
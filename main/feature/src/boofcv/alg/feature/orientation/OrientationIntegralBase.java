@@ -24,6 +24,8 @@ import boofcv.factory.filter.kernel.FactoryKernelGaussian;
 import boofcv.struct.convolve.Kernel2D_F64;
 import boofcv.struct.image.ImageSingleBand;
 import boofcv.struct.sparse.GradientValue;
+import boofcv.struct.sparse.SparseGradientSafe;
+import boofcv.struct.sparse.SparseImageGradient;
 import boofcv.struct.sparse.SparseScaleGradient;
 
 
@@ -58,6 +60,15 @@ public abstract class OrientationIntegralBase<II extends ImageSingleBand,G exten
 
 	// used to sample the image when it's on the image's border
 	protected SparseScaleGradient<II,G> g;
+	// checks the image border before sampling the gradient
+	protected SparseImageGradient<II,G> gSafe;
+
+	// pixel coordinate of each sample point in the region
+	protected int sampleX[];
+	protected int sampleY[];
+	// gradient at each sample point in the region
+	protected double derivX[];
+	protected double derivY[];
 
 	Class<II> integralType;
 	/**
@@ -80,6 +91,46 @@ public abstract class OrientationIntegralBase<II extends ImageSingleBand,G exten
 			this.weights = FactoryKernelGaussian.gaussian(2,true, 64, weightSigma,radius);
 
 		g = (SparseScaleGradient<II,G>)SurfDescribeOps.createGradient(false, sampleWidth, integralType);
+		gSafe = new SparseGradientSafe<II,G>(g);
+
+		sampleX = new int[ width*width ];
+		sampleY = new int[ width*width ];
+		derivX = new double[ width*width ];
+		derivY = new double[ width*width ];
+	}
+
+	/**
+	 * Computes the gradient at every sample point in the region and writes the results into
+	 * {@link #derivX} and {@link #derivY}.  The image border is checked once for the whole region and
+	 * the gradient is zero at sample points which are outside the image.
+	 *
+	 * @param tl_x Top left corner of the region.
+	 * @param tl_y Top left corner of the region.
+	 * @param samplePeriod Distance between sample points in pixels.
+	 */
+	protected void computeGradient( double tl_x , double tl_y , double samplePeriod ) {
+		SparseImageGradient<II,G> g;
+		// use a faster algorithm if it is entirely inside
+		if( SurfDescribeOps.isInside(ii.width,ii.height,tl_x,tl_y,width*samplePeriod,sampleWidth*scale) )
+			g = this.g;
+		else
+			g = gSafe;
+
+		// add 0.5 to c_x and c_y to have it round when converted to an integer pixel
+		tl_x += 0.5;
+		tl_y += 0.5;
+
+		int i = 0;
+		for( int y = 0; y < width; y++ ) {
+			int pixelsY = (int)(tl_y + y * samplePeriod);
+
+			for( int x = 0; x < width; x++ , i++ ) {
+				sampleX[i] = (int)(tl_x + x * samplePeriod);
+				sampleY[i] = pixelsY;
+			}
+		}
+
+		g.compute(sampleX,sampleY,i,derivX,derivY);
 	}
 	
 	@Override
@@ -18,12 +18,9 @@
 
 package boofcv.alg.feature.orientation.impl;
 
-import boofcv.alg.feature.describe.SurfDescribeOps;
 import boofcv.alg.feature.orientation.OrientationIntegralBase;
 import boofcv.struct.image.ImageSingleBand;
 import boofcv.struct.sparse.GradientValue;
-import boofcv.struct.sparse.SparseGradientSafe;
-import boofcv.struct.sparse.SparseImageGradient;
 
 
 /**
@@ -55,70 +52,39 @@ public class ImplOrientationAverageGradientIntegral<T extends ImageSingleBand,G
 		double tl_x = c_x - radius*period;
 		double tl_y = c_y - radius*period;
 
-		SparseImageGradient<T,G> g;
-		// use a faster algorithm if it is entirely inside
-		if( !SurfDescribeOps.isInside(ii.width,ii.height,tl_x,tl_y,width*period,sampleWidth*scale))  {
-			g = new SparseGradientSafe<T, G>(this.g);
-		} else {
-			g = this.g;
-		}
+		computeGradient(tl_x,tl_y,period);
 
 		if( weights == null )
-			return computeUnweighted(tl_x,tl_y,period,g);
+			return computeUnweighted();
 		else
-			return computeWeighted(tl_x, tl_y, period,g);
+			return computeWeighted();
 	}
 
 	/**
-	 * Compute the gradient while checking for border conditions
+	 * Compute the average of the sampled gradient
 	 */
-	protected double computeUnweighted( double tl_x, double tl_y, 
-										double samplePeriod ,
-										SparseImageGradient<T,G> g)
+	protected double computeUnweighted()
 	{
-		// add 0.5 to c_x and c_y to have it round
-		tl_x += 0.5;
-		tl_y += 0.5;
-
 		double Dx=0,Dy=0;
-		for( int y = 0; y < width; y++ ) {
-			int pixelsY = (int)(tl_y + y * samplePeriod);
-
-			for( int x = 0; x < width; x++ ) {
-				int pixelsX = (int)(tl_x + x * samplePeriod);
-
-				GradientValue v = g.compute(pixelsX,pixelsY);
-				Dx += v.getX();
-				Dy += v.getY();
-			}
+		final int N = width*width;
+		for( int i = 0; i < N; i++ ) {
+			Dx += derivX[i];
+			Dy += derivY[i];
 		}
 		return Math.atan2(Dy,Dx);
 	}
 
 	/**
-	 * Compute the gradient while checking for border conditions
+	 * Compute the weighted average of the sampled gradient
 	 */
-	protected double computeWeighted( double tl_x, double tl_y, 
-									  double samplePeriod , 
-									  SparseImageGradient<T,G> g )
+	protected double computeWeighted()
 	{
-		// add 0.5 to c_x and c_y to have it round
-		tl_x += 0.5;
-		tl_y += 0.5;
-
 		double Dx=0,Dy=0;
-		int i = 0;
-		for( int y = 0; y < width; y++ ) {
-			int pixelsY = (int)(tl_y + y * samplePeriod);
-
-			for( int x = 0; x < width; x++ , i++ ) {
-				int pixelsX = (int)(tl_x + x * samplePeriod);
-
-				double w = weights.data[i];
-				GradientValue v = g.compute(pixelsX,pixelsY);
-				Dx += w*v.getX();
-				Dy += w*v.getY();
-			}
+		final int N = width*width;
+		for( int i = 0; i < N; i++ ) {
+			double w = weights.data[i];
+			Dx += w*derivX[i];
+			Dy += w*derivY[i];
 		}
 
 		return Math.atan2(Dy,Dx);
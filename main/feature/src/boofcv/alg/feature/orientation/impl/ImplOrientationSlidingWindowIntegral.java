@@ -37,10 +37,6 @@ public class ImplOrientationSlidingWindowIntegral
 		<T extends ImageSingleBand,G extends GradientValue>
 		extends OrientationIntegralBase<T,G>
 {
-	// where the output from the derivative is stored
-	double[] derivX;
-	double[] derivY;
-
 	// the size of the angle window it will consider in radians
 	protected double windowSize;
 	// the angle each pixel is pointing
@@ -69,9 +65,6 @@ public class ImplOrientationSlidingWindowIntegral
 		super(radius,samplePeriod,sampleKernelWidth,weightSigma,integralType);
 		this.windowSize = windowSize;
 
-		derivX = new double[width*width];
-		derivY = new double[width*width];
-
 		angles = new double[ width*width ];
 		order = new int[ angles.length ];
 	}
@@ -85,6 +78,7 @@ public class ImplOrientationSlidingWindowIntegral
 		double tl_y = c_y - radius*period;
 
 		computeGradient(tl_x,tl_y,period);
+		total = width*width;
 
 		// apply weight to each gradient dependent on its position
 		if( weights != null ) {
@@ -105,41 +99,6 @@ public class ImplOrientationSlidingWindowIntegral
 		return estimateAngle();
 	}
 
-	private void computeGradient( double tl_x , double tl_y , double samplePeriod ) 
-	{
-		// add 0.5 to c_x and c_y to have it round when converted to an integer pixel
-		// this is faster than the straight forward method
-		tl_x += 0.5;
-		tl_y += 0.5;
-
-		int thresh = radius*radius;
-		
-		total = 0;
-		for( int y = 0; y < width; y++ ) {
-			int ry = y-radius;
-			
-			for( int x = 0; x < width; x++ , total++ ) {
-				int rx = x-radius;
-
-				int xx = (int)(tl_x + x * samplePeriod);
-				int yy = (int)(tl_y + y * samplePeriod);
-
-//				if( ry*ry + rx*rx <= thresh && gradient.isInBounds(xx,yy) ) {
-				if( g.isInBounds(xx,yy) ) {
-					GradientValue deriv = g.compute(xx,yy);
-					double dx = deriv.getX();
-					double dy = deriv.getY();
-
-					derivX[total] = dx;
-					derivY[total] = dy;
-				} else {
-					derivX[total] = 0;
-					derivY[total] = 0;
-				}
-			}
-		}
-	}
-	
 	private double estimateAngle() {
 		int start = 0;
 		int end = 1;
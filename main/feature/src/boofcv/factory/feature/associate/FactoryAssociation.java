@@ -20,6 +20,10 @@ package boofcv.factory.feature.associate;
 
 import boofcv.abst.feature.associate.*;
 import boofcv.alg.feature.associate.AssociateGreedy;
+import boofcv.alg.feature.associate.AssociateGreedyHamming_B;
+import boofcv.alg.feature.associate.AssociateGreedy_MT;
+import boofcv.alg.feature.associate.KdForestIndex_F32;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.feature.*;
 import org.ddogleg.nn.FactoryNearestNeighbor;
 import org.ddogleg.nn.NearestNeighbor;
@@ -49,8 +53,40 @@ public class FactoryAssociation {
 			double maxError ,
 			boolean backwardsValidation )
 	{
-		AssociateGreedy<D> alg = new AssociateGreedy<D>(score,backwardsValidation);
+		return greedy(score,maxError,1.0,backwardsValidation,BoofConcurrency.USE_CONCURRENT);
+	}
+
+	/**
+	 * Returns an algorithm for associating features together which uses a brute force greedy algorithm.
+	 * See {@link AssociateGreedy} for details.  If the Hamming distance is used to score binary descriptors then
+	 * {@link AssociateGreedyHamming_B} is used when not concurrent.
+	 *
+	 * @param score Computes the fit score between two features.  Must be thread safe if concurrent is true.
+	 * @param maxError Maximum allowed error/fit score between two features.  To disable set to Double.MAX_VALUE
+	 * @param ratioTest Associations are rejected if the best fit score is more than this fraction of the second
+	 *                  best fit score. Only for scores which are zero at the best fit.  Try 0.8.  To disable set to 1.
+	 * @param backwardsValidation If true associations are validated by associating in the reverse direction.  If the
+	 *                  forward and reverse matches fit an association is excepted.
+	 * @param concurrent If true then blocks of src features will be scored using multiple threads.
+	 * @param <D> Data structure being associated
+	 * @return Greedy association
+	 */
+	public static <D> AssociateDescription<D>
+	greedy( ScoreAssociation<D> score ,
+			double maxError ,
+			double ratioTest ,
+			boolean backwardsValidation ,
+			boolean concurrent )
+	{
+		AssociateGreedy<D> alg;
+		if( concurrent )
+			alg = new AssociateGreedy_MT<D>(score,backwardsValidation);
+		else if( score instanceof ScoreAssociateHamming_B )
+			alg = (AssociateGreedy)new AssociateGreedyHamming_B(backwardsValidation);
+		else
+			alg = new AssociateGreedy<D>(score,backwardsValidation);
 		alg.setMaxFitError(maxError);
+		alg.setRatioTest(ratioTest);
 		WrapAssociateGreedy<D> ret = new WrapAssociateGreedy<D>(alg);
 		return ret;
 	}
@@ -99,6 +135,51 @@ public class FactoryAssociation {
 		return new AssociateNearestNeighbor<TupleDesc_F64>(nn,dimension);
 	}
 
+	/**
+	 * Approximate association using a randomized K-D forest which stores descriptors as floats.  Unlike
+	 * {@link #kdRandomForest} any {@link TupleDesc} can be used, features can be added after the trees are built,
+	 * the index can be saved to disk, and destination features are searched for in parallel.
+	 *
+	 * @see AssociateKdForest
+	 * @see KdForestIndex_F32
+	 *
+	 * @param dimension Number of elements in the feature vector
+	 * @param maxLeaves Maximum number of leaves it will examine per search.  Controls speed and accuracy.  Try 200
+	 * @param numTrees Number of trees that are considered.  Try 4 and tune.
+	 * @param numConsiderSplit Number of dimensions with the largest variance that a split is randomly selected
+	 *                         from. Try 5
+	 * @param ratioTest Ratio between the best and second best match distance.  Set to 1 to disable.
+	 * @param randomSeed Seed used by random number generator
+	 * @param concurrent If true the search for destination features will be done in parallel
+	 * @return Association using approximate nearest neighbor
+	 */
+	public static <D extends TupleDesc> AssociateDescription<D> kdForest( int dimension,
+																		  int maxLeaves ,
+																		  int numTrees ,
+																		  int numConsiderSplit ,
+																		  double ratioTest ,
+																		  long randomSeed ,
+																		  boolean concurrent ) {
+		KdForestIndex_F32 index = new KdForestIndex_F32(dimension,numTrees,numConsiderSplit,randomSeed);
+		AssociateKdForest<D> alg = new AssociateKdForest<D>(index,maxLeaves,concurrent);
+		alg.setRatioTest(ratioTest);
+		return alg;
+	}
+
+	/**
+	 * Same as {@link #kdForest(int, int, int, int, double, long, boolean)} but the search is done in parallel
+	 * if {@link BoofConcurrency#USE_CONCURRENT} is true.
+	 */
+	public static <D extends TupleDesc> AssociateDescription<D> kdForest( int dimension,
+																		  int maxLeaves ,
+																		  int numTrees ,
+																		  int numConsiderSplit ,
+																		  double ratioTest ,
+																		  long randomSeed ) {
+		return kdForest(dimension,maxLeaves,numTrees,numConsiderSplit,ratioTest,randomSeed,
+				BoofConcurrency.USE_CONCURRENT);
+	}
+
 	/**
 	 * Given a feature descriptor type it returns a "reasonable" default {@link ScoreAssociation}.
 	 *
@@ -32,12 +32,18 @@ import boofcv.abst.feature.detect.interest.InterestPointDetector;
 import boofcv.abst.feature.orientation.*;
 import boofcv.alg.feature.describe.DescribePointSift;
 import boofcv.alg.feature.describe.DescribePointSurf;
+import boofcv.alg.feature.describe.OrientDescribeSurf;
+import boofcv.alg.feature.describe.OrientDescribeSurf_MT;
 import boofcv.alg.feature.detdesc.DetectDescribeSift;
+import boofcv.alg.feature.detdesc.DetectDescribeSift_MT;
 import boofcv.alg.feature.detect.interest.FastHessianFeatureDetector;
+import boofcv.alg.feature.detect.interest.FastHessianFeatureDetector_MT;
 import boofcv.alg.feature.detect.interest.SiftDetector;
 import boofcv.alg.feature.detect.interest.SiftImageScaleSpace;
+import boofcv.alg.feature.detect.interest.SiftImageScaleSpace_MT;
 import boofcv.alg.feature.orientation.OrientationHistogramSift;
 import boofcv.alg.transform.ii.GIntegralImageOps;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.factory.feature.describe.FactoryDescribePointAlgs;
 import boofcv.factory.feature.detect.interest.FactoryInterestPointAlgs;
 import boofcv.factory.feature.orientation.FactoryOrientationAlgs;
@@ -67,20 +73,60 @@ public class FactoryDetectDescribe {
 		  ConfigSiftDetector configDetector ,
 		  ConfigSiftOrientation configOri ,
 		  ConfigSiftDescribe configDesc) {
+		return sift(configSS,configDetector,configOri,configDesc,BoofConcurrency.USE_CONCURRENT);
+	}
+
+	/**
+	 * Same as {@link #sift(ConfigSiftScaleSpace, ConfigSiftDetector, ConfigSiftOrientation, ConfigSiftDescribe)}
+	 * but lets you specify if the concurrent implementation should be used.  If concurrent then the
+	 * scale-space, detection, orientation, and description are all done using multiple threads.
+	 *
+	 * @see SiftImageScaleSpace_MT
+	 * @see DetectDescribeSift_MT
+	 */
+	public static DetectDescribePoint<ImageFloat32,SurfFeature>
+	sift( ConfigSiftScaleSpace configSS,
+		  final ConfigSiftDetector configDetector ,
+		  final ConfigSiftOrientation configOri ,
+		  final ConfigSiftDescribe configDesc,
+		  boolean concurrent ) {
 
 		if( configSS == null )
 			configSS = new ConfigSiftScaleSpace();
 		configSS.checkValidity();
 
-		SiftImageScaleSpace ss = new SiftImageScaleSpace(configSS.blurSigma, configSS.numScales, configSS.numOctaves,
-				configSS.doubleInputImage);
+		DetectDescribeSift combined;
+		if( concurrent ) {
+			SiftImageScaleSpace ss = new SiftImageScaleSpace_MT(configSS.blurSigma, configSS.numScales,
+					configSS.numOctaves, configSS.doubleInputImage);
 
-		SiftDetector detector = FactoryInterestPointAlgs.siftDetector(configDetector);
+			combined = new DetectDescribeSift_MT(ss,new DetectDescribeSift_MT.Factory() {
+				@Override
+				public SiftDetector createDetector() {
+					return FactoryInterestPointAlgs.siftDetector(configDetector);
+				}
 
-		OrientationHistogramSift orientation = FactoryOrientationAlgs.sift(configOri);
-		DescribePointSift describe = FactoryDescribePointAlgs.sift(configDesc);
+				@Override
+				public OrientationHistogramSift createOrientation() {
+					return FactoryOrientationAlgs.sift(configOri);
+				}
 
-		DetectDescribeSift combined = new DetectDescribeSift(ss,detector,orientation,describe);
+				@Override
+				public DescribePointSift createDescribe() {
+					return FactoryDescribePointAlgs.sift(configDesc);
+				}
+			});
+		} else {
+			SiftImageScaleSpace ss = new SiftImageScaleSpace(configSS.blurSigma, configSS.numScales,
+					configSS.numOctaves, configSS.doubleInputImage);
+
+			SiftDetector detector = FactoryInterestPointAlgs.siftDetector(configDetector);
+
+			OrientationHistogramSift orientation = FactoryOrientationAlgs.sift(configOri);
+			DescribePointSift describe = FactoryDescribePointAlgs.sift(configDesc);
+
+			combined = new DetectDescribeSift(ss,detector,orientation,describe);
+		}
 
 		return new WrapDetectDescribeSift(combined);
 	}
@@ -108,13 +154,47 @@ public class FactoryDetectDescribe {
 												 ConfigSurfDescribe.Speed configDesc,
 												 ConfigAverageIntegral configOrientation,
 												 Class<T> imageType) {
+		return surfFast(configDetector,configDesc,configOrientation,imageType,BoofConcurrency.USE_CONCURRENT);
+	}
+
+	/**
+	 * Same as {@link #surfFast(ConfigFastHessian, ConfigSurfDescribe.Speed, ConfigAverageIntegral, Class)} but
+	 * lets you specify if the concurrent implementation should be used.  If concurrent then the intensity of each
+	 * scale is computed at the same time and the detected features are described in parallel.
+	 *
+	 * @see FastHessianFeatureDetector_MT
+	 * @see OrientDescribeSurf_MT
+	 */
+	public static <T extends ImageSingleBand, II extends ImageSingleBand>
+	DetectDescribePoint<T,SurfFeature> surfFast( ConfigFastHessian configDetector ,
+												 final ConfigSurfDescribe.Speed configDesc,
+												 final ConfigAverageIntegral configOrientation,
+												 Class<T> imageType,
+												 boolean concurrent ) {
+
+		final Class<II> integralType = GIntegralImageOps.getIntegralType(imageType);
+		FastHessianFeatureDetector<II> detector = FactoryInterestPointAlgs.fastHessian(configDetector,concurrent);
 
-		Class<II> integralType = GIntegralImageOps.getIntegralType(imageType);
-		OrientationIntegral<II> orientation = FactoryOrientationAlgs.average_ii(configOrientation, integralType);
-		DescribePointSurf<II> describe = FactoryDescribePointAlgs.surfSpeed(configDesc, integralType);
-		FastHessianFeatureDetector<II> detector = FactoryInterestPointAlgs.fastHessian(configDetector);
+		OrientDescribeSurf<II> describe;
+		if( concurrent ) {
+			describe = new OrientDescribeSurf_MT<II>(new OrientDescribeSurf_MT.Factory<II>() {
+				@Override
+				public OrientationIntegral<II> createOrientation() {
+					return FactoryOrientationAlgs.average_ii(configOrientation, integralType);
+				}
 
-		return new WrapDetectDescribeSurf<T,II>( detector, orientation, describe );
+				@Override
+				public DescribePointSurf<II> createDescribe() {
+					return FactoryDescribePointAlgs.surfSpeed(configDesc, integralType);
+				}
+			});
+		} else {
+			OrientationIntegral<II> orientation = FactoryOrientationAlgs.average_ii(configOrientation, integralType);
+			describe = new OrientDescribeSurf<II>(orientation,
+					FactoryDescribePointAlgs.<II>surfSpeed(configDesc, integralType));
+		}
+
+		return new WrapDetectDescribeSurf<T,II>( detector, describe );
 	}
 
 	/**
@@ -140,13 +220,47 @@ public class FactoryDetectDescribe {
 												   ConfigSurfDescribe.Stablility configDescribe,
 												   ConfigSlidingIntegral configOrientation,
 												   Class<T> imageType) {
+		return surfStable(configDetector,configDescribe,configOrientation,imageType,BoofConcurrency.USE_CONCURRENT);
+	}
+
+	/**
+	 * Same as {@link #surfStable(ConfigFastHessian, ConfigSurfDescribe.Stablility, ConfigSlidingIntegral, Class)}
+	 * but lets you specify if the concurrent implementation should be used.  If concurrent then the intensity of
+	 * each scale is computed at the same time and the detected features are described in parallel.
+	 *
+	 * @see FastHessianFeatureDetector_MT
+	 * @see OrientDescribeSurf_MT
+	 */
+	public static <T extends ImageSingleBand, II extends ImageSingleBand>
+	DetectDescribePoint<T,SurfFeature> surfStable( ConfigFastHessian configDetector,
+												   final ConfigSurfDescribe.Stablility configDescribe,
+												   final ConfigSlidingIntegral configOrientation,
+												   Class<T> imageType,
+												   boolean concurrent ) {
+
+		final Class<II> integralType = GIntegralImageOps.getIntegralType(imageType);
+		FastHessianFeatureDetector<II> detector = FactoryInterestPointAlgs.fastHessian(configDetector,concurrent);
+
+		OrientDescribeSurf<II> describe;
+		if( concurrent ) {
+			describe = new OrientDescribeSurf_MT<II>(new OrientDescribeSurf_MT.Factory<II>() {
+				@Override
+				public OrientationIntegral<II> createOrientation() {
+					return FactoryOrientationAlgs.sliding_ii(configOrientation, integralType);
+				}
 
-		Class<II> integralType = GIntegralImageOps.getIntegralType(imageType);
-		FastHessianFeatureDetector<II> detector = FactoryInterestPointAlgs.fastHessian(configDetector);
-		DescribePointSurf<II> describe = FactoryDescribePointAlgs.surfStability(configDescribe, integralType);
-		OrientationIntegral<II> orientation = FactoryOrientationAlgs.sliding_ii(configOrientation, integralType);
+				@Override
+				public DescribePointSurf<II> createDescribe() {
+					return FactoryDescribePointAlgs.surfStability(configDescribe, integralType);
+				}
+			});
+		} else {
+			OrientationIntegral<II> orientation = FactoryOrientationAlgs.sliding_ii(configOrientation, integralType);
+			describe = new OrientDescribeSurf<II>(orientation,
+					FactoryDescribePointAlgs.<II>surfStability(configDescribe, integralType));
+		}
 
-		return new WrapDetectDescribeSurf<T,II>( detector, orientation, describe );
+		return new WrapDetectDescribeSurf<T,II>( detector, describe );
 	}
 
 	/**
@@ -137,4 +137,15 @@ public class FactoryIntensityPoint {
 	GeneralFeatureIntensity<I,?> laplacian() {
 		return new WrapperLaplacianBlobIntensity<I>();
 	}
+
+	/**
+	 * Blob detector which uses a 3x3 kernel to approximate the second order derivatives and compute a Laplacian
+	 * blob.
+	 *
+	 * @param imageType Type of input image.
+	 */
+	public static <I extends ImageSingleBand>
+	GeneralFeatureIntensity<I,?> laplacian( Class<I> imageType ) {
+		return new WrapperLaplacianBlobIntensity<I>(imageType);
+	}
 }
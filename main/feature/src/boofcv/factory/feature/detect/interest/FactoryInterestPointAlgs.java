@@ -31,6 +31,7 @@ import boofcv.alg.feature.detect.intensity.GradientCornerIntensity;
 import boofcv.alg.feature.detect.intensity.HessianBlobIntensity;
 import boofcv.alg.feature.detect.interest.*;
 import boofcv.alg.filter.derivative.GImageDerivativeOps;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.core.image.inst.FactoryImageGenerator;
 import boofcv.factory.feature.detect.extract.FactoryFeatureExtractor;
 import boofcv.factory.feature.detect.intensity.FactoryIntensityPointAlg;
@@ -272,6 +273,21 @@ public class FactoryInterestPointAlgs {
 	 */
 	public static <II extends ImageSingleBand>
 	FastHessianFeatureDetector<II> fastHessian( ConfigFastHessian config ) {
+		return fastHessian(config, BoofConcurrency.USE_CONCURRENT);
+	}
+
+	/**
+	 * Creates a Fast Hessian blob detector used by SURF.
+	 *
+	 * @see FastHessianFeatureDetector_MT
+	 *
+	 * @param config Configuration for detector. Pass in null for default options.
+	 * @param concurrent If true the intensity of each scale is computed concurrently.
+	 * @param <II> Integral Image
+	 * @return The feature detector
+	 */
+	public static <II extends ImageSingleBand>
+	FastHessianFeatureDetector<II> fastHessian( ConfigFastHessian config , boolean concurrent ) {
 
 		if( config == null )
 			config = new ConfigFastHessian();
@@ -279,8 +295,12 @@ public class FactoryInterestPointAlgs {
 
 		NonMaxSuppression extractor = FactoryFeatureExtractor.nonmax(
 				new ConfigExtract(config.extractRadius, config.detectThreshold, 5, true));
-		return new FastHessianFeatureDetector<II>(extractor, config.maxFeaturesPerScale,
-				config.initialSampleSize, config.initialSize, config.numberScalesPerOctave, config.numberOfOctaves);
+		if( concurrent )
+			return new FastHessianFeatureDetector_MT<II>(extractor, config.maxFeaturesPerScale,
+					config.initialSampleSize, config.initialSize, config.numberScalesPerOctave, config.numberOfOctaves);
+		else
+			return new FastHessianFeatureDetector<II>(extractor, config.maxFeaturesPerScale,
+					config.initialSampleSize, config.initialSize, config.numberScalesPerOctave, config.numberOfOctaves);
 	}
 
 	/**
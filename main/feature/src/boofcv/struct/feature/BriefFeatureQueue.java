@@ -31,9 +31,9 @@ public class BriefFeatureQueue extends FastQueue<TupleDesc_B> {
 	int numBits;
 
 	public BriefFeatureQueue(int numBits) {
-		super(TupleDesc_B.class,true);
+		// initialization is delayed until numBits has been set
 		this.numBits = numBits;
-		growArray(10);
+		init(10,TupleDesc_B.class,true);
 	}
 
 	@Override
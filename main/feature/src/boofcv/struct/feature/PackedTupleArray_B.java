@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.struct.feature;
+
+import boofcv.struct.FastQueue;
+
+/**
+ * <p>
+ * Stores a set of binary descriptors in a single array of longs.  Descriptor i is stored in the elements from
+ * i*numWords to (i+1)*numWords-1.  Bit 'k' of a descriptor is stored in word k/64 at bit k%64, the same order
+ * as in {@link TupleDesc_B}.
+ * </p>
+ *
+ * <p>
+ * Keeping all the descriptors in one primitive array avoids following a reference for each descriptor and
+ * allows the Hamming distance to be computed 64 bits at a time.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class PackedTupleArray_B {
+	// packed descriptors
+	public long data[];
+	// number of bits in each descriptor
+	public int numBits;
+	// number of longs used to store each descriptor
+	public int numWords;
+	// number of descriptors
+	public int size;
+
+	/**
+	 * Declares storage for the descriptors.
+	 *
+	 * @param numBits Number of bits in each descriptor.
+	 * @param initialMaxSize Number of descriptors storage is initially declared for.
+	 */
+	public PackedTupleArray_B( int numBits , int initialMaxSize ) {
+		this.numBits = numBits;
+		this.numWords = numBits/64 + (numBits % 64 != 0 ? 1 : 0);
+		this.data = new long[ numWords*Math.max(1,initialMaxSize) ];
+	}
+
+	public PackedTupleArray_B( int numBits ) {
+		this(numBits,10);
+	}
+
+	/**
+	 * Removes all the descriptors.  Storage is not released.
+	 */
+	public void reset() {
+		size = 0;
+	}
+
+	/**
+	 * Makes sure the storage is large enough for the specified number of descriptors.  Descriptors
+	 * already saved are kept.
+	 */
+	public void setMaxSize( int maxSize ) {
+		if( data.length < maxSize*numWords ) {
+			long tmp[] = new long[ maxSize*numWords ];
+			System.arraycopy(data,0,tmp,0,size*numWords);
+			data = tmp;
+		}
+	}
+
+	/**
+	 * Adds a copy of the descriptor to the end of the list.
+	 */
+	public void add( TupleDesc_B desc ) {
+		if( data.length < (size+1)*numWords )
+			setMaxSize(Math.max(10,size*2));
+		set(size++,desc);
+	}
+
+	/**
+	 * Replaces all the descriptors with the ones in the list.
+	 */
+	public void setTo( FastQueue<TupleDesc_B> list ) {
+		size = 0;
+		setMaxSize(list.size);
+		for( int i = 0; i < list.size; i++ ) {
+			set(i,list.data[i]);
+		}
+		size = list.size;
+	}
+
+	/**
+	 * Copies the descriptor into the specified index.
+	 *
+	 * @param index Index of the descriptor being written to.
+	 * @param desc The descriptor.  Must have the same number of bits.
+	 */
+	public void set( int index , TupleDesc_B desc ) {
+		if( desc.numBits != numBits )
+			throw new IllegalArgumentException("Descriptor has a different number of bits");
+
+		int[] src = desc.data;
+		int offset = index*numWords;
+
+		for( int w = 0; w < numWords; w++ ) {
+			int i = w*2;
+			long lower = i < src.length ? src[i] & 0xFFFFFFFFL : 0;
+			long upper = i+1 < src.length ? (long)src[i+1] << 32 : 0;
+			data[offset+w] = lower | upper;
+		}
+	}
+
+	/**
+	 * Copies the specified descriptor into the {@link TupleDesc_B}.
+	 *
+	 * @param index Index of the descriptor being read.
+	 * @param desc Storage for the descriptor.  Must have the same number of bits.
+	 */
+	public void get( int index , TupleDesc_B desc ) {
+		if( desc.numBits != numBits )
+			throw new IllegalArgumentException("Descriptor has a different number of bits");
+
+		int[] dst = desc.data;
+		int offset = index*numWords;
+
+		for( int i = 0; i < dst.length; i++ ) {
+			if( i/2 < numWords )
+				dst[i] = (int)(data[offset + i/2] >>> (32*(i%2)));
+			else
+				dst[i] = 0;
+		}
+	}
+
+	public boolean isBitTrue( int index , int bit ) {
+		return ((data[index*numWords + bit/64] >>> (bit%64)) & 0x01L) == 1;
+	}
+
+	public int size() {
+		return size;
+	}
+}
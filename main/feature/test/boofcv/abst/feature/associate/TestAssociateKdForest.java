@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.abst.feature.associate;
+
+import boofcv.alg.feature.associate.KdForestIndex_F32;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.FastQueue;
+import boofcv.struct.feature.AssociatedIndex;
+import boofcv.struct.feature.TupleDesc_F32;
+import boofcv.struct.feature.TupleDesc_F64;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestAssociateKdForest extends StandardAssociateDescriptionChecks<TupleDesc_F64> {
+
+	Random rand = new Random(234);
+
+	public TestAssociateKdForest() {
+		super(TupleDesc_F64.class);
+	}
+
+	@Override
+	public AssociateDescription<TupleDesc_F64> createAlg() {
+		// with only one dimension and a large number of leaves the results will be perfect
+		KdForestIndex_F32 index = new KdForestIndex_F32(1,4,1,234);
+		return new AssociateKdForest<TupleDesc_F64>(index,200,false);
+	}
+
+	@Override
+	protected TupleDesc_F64 c(double value) {
+		TupleDesc_F64 s = new TupleDesc_F64(1);
+		s.value[0] = value;
+		return s;
+	}
+
+	@Test
+	public void ratioTest() {
+		FastQueue<TupleDesc_F32> src = new FastQueue<TupleDesc_F32>(TupleDesc_F32.class,false);
+		FastQueue<TupleDesc_F32> dst = new FastQueue<TupleDesc_F32>(TupleDesc_F32.class,false);
+
+		src.add(f32(0,0));
+		src.add(f32(10,0));
+		src.add(f32(12,0));
+
+		// unambiguous
+		dst.add(f32(0.5f,0));
+		// ambiguous
+		dst.add(f32(11,0));
+
+		KdForestIndex_F32 index = new KdForestIndex_F32(2,2,2,234);
+		AssociateKdForest<TupleDesc_F32> alg = new AssociateKdForest<TupleDesc_F32>(index,100,false);
+		alg.setRatioTest(0.8);
+		alg.setSource(src);
+		alg.setDestination(dst);
+		alg.associate();
+
+		assertEquals(1,alg.getMatches().size);
+		AssociatedIndex a = alg.getMatches().get(0);
+		assertEquals(0,a.src);
+		assertEquals(0,a.dst);
+		assertEquals(0.5,a.fitScore,1e-5);
+
+		alg.setRatioTest(1);
+		alg.associate();
+		assertEquals(2,alg.getMatches().size);
+	}
+
+	/**
+	 * The index is built ahead of time and setSource() is never called
+	 */
+	@Test
+	public void prebuiltIndex() {
+		KdForestIndex_F32 index = new KdForestIndex_F32(3,4,2,234);
+		for( int i = 0; i < 50; i++ ) {
+			index.add(new float[]{i,2*i,-i});
+		}
+		index.build();
+
+		FastQueue<TupleDesc_F64> dst = new FastQueue<TupleDesc_F64>(TupleDesc_F64.class,false);
+		for( int i = 0; i < 50; i += 5 ) {
+			TupleDesc_F64 d = new TupleDesc_F64(3);
+			d.value[0] = i; d.value[1] = 2*i+0.1; d.value[2] = -i;
+			dst.add(d);
+		}
+
+		AssociateKdForest<TupleDesc_F64> alg = new AssociateKdForest<TupleDesc_F64>(index,100,false);
+		alg.setDestination(dst);
+		alg.associate();
+
+		assertEquals(dst.size,alg.getMatches().size);
+		for( int i = 0; i < dst.size; i++ ) {
+			AssociatedIndex a = alg.getMatches().get(i);
+			assertEquals(i*5,a.src);
+			assertEquals(i,a.dst);
+		}
+		assertEquals(50-dst.size,alg.getUnassociatedSource().size);
+	}
+
+	/**
+	 * The concurrent search should produce the same results
+	 */
+	@Test
+	public void concurrent() {
+		int originalThreads = BoofConcurrency.getMaxThreads();
+		BoofConcurrency.setMaxThreads(3);
+		try {
+			FastQueue<TupleDesc_F32> src = createRandom(300);
+			FastQueue<TupleDesc_F32> dst = createRandom(200);
+
+			AssociateKdForest<TupleDesc_F32> expected =
+					new AssociateKdForest<TupleDesc_F32>(new KdForestIndex_F32(10,4,3,234),40,false);
+			AssociateKdForest<TupleDesc_F32> found =
+					new AssociateKdForest<TupleDesc_F32>(new KdForestIndex_F32(10,4,3,234),40,true);
+
+			expected.setSource(src); expected.setDestination(dst); expected.associate();
+			found.setSource(src); found.setDestination(dst); found.associate();
+
+			assertEquals(expected.getMatches().size,found.getMatches().size);
+			assertTrue(found.getMatches().size > 0);
+			for( int i = 0; i < expected.getMatches().size; i++ ) {
+				AssociatedIndex a = expected.getMatches().get(i);
+				AssociatedIndex b = found.getMatches().get(i);
+				assertEquals(a.src,b.src);
+				assertEquals(a.dst,b.dst);
+				assertEquals(a.fitScore,b.fitScore,1e-8);
+			}
+		} finally {
+			BoofConcurrency.setMaxThreads(originalThreads);
+		}
+	}
+
+	private FastQueue<TupleDesc_F32> createRandom( int total ) {
+		FastQueue<TupleDesc_F32> ret = new FastQueue<TupleDesc_F32>(TupleDesc_F32.class,false);
+		for( int i = 0; i < total; i++ ) {
+			TupleDesc_F32 d = new TupleDesc_F32(10);
+			for( int j = 0; j < d.value.length; j++ )
+				d.value[j] = rand.nextFloat();
+			ret.add(d);
+		}
+		return ret;
+	}
+
+	private static TupleDesc_F32 f32( float ...values ) {
+		TupleDesc_F32 ret = new TupleDesc_F32(values.length);
+		ret.set(values);
+		return ret;
+	}
+}
@@ -19,9 +19,14 @@
 package boofcv.abst.feature.detdesc;
 
 import boofcv.abst.feature.detect.interest.ConfigSiftDetector;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.factory.feature.detdesc.FactoryDetectDescribe;
 import boofcv.struct.feature.SurfFeature;
 import boofcv.struct.image.ImageFloat32;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 /**
  * @author Peter Abeles
@@ -36,4 +41,40 @@ public class TestWrapDetectDescribeSift extends GenericTestsDetectDescribePoint<
 	public DetectDescribePoint<ImageFloat32, SurfFeature> createDetDesc() {
 		return FactoryDetectDescribe.sift(null,new ConfigSiftDetector(2,0,500,5),null,null);
 	}
+
+	/**
+	 * The concurrent implementation should produce the same features in the same order
+	 */
+	@Test
+	public void concurrent() {
+		int originalThreads = BoofConcurrency.getMaxThreads();
+		BoofConcurrency.setMaxThreads(3);
+		try {
+			ConfigSiftDetector config = new ConfigSiftDetector(2,0,500,5);
+			DetectDescribePoint<ImageFloat32, SurfFeature> expected =
+					FactoryDetectDescribe.sift(null,config,null,null,false);
+			DetectDescribePoint<ImageFloat32, SurfFeature> found =
+					FactoryDetectDescribe.sift(null,config,null,null,true);
+
+			expected.detect(image);
+			found.detect(image);
+
+			assertTrue(expected.getNumberOfFeatures() > 0);
+			assertEquals(expected.getNumberOfFeatures(),found.getNumberOfFeatures());
+
+			for( int i = 0; i < expected.getNumberOfFeatures(); i++ ) {
+				assertEquals(expected.getLocation(i).x,found.getLocation(i).x,1e-8);
+				assertEquals(expected.getLocation(i).y,found.getLocation(i).y,1e-8);
+				assertEquals(expected.getScale(i),found.getScale(i),1e-8);
+				assertEquals(expected.getOrientation(i),found.getOrientation(i),1e-8);
+
+				SurfFeature e = expected.getDescription(i);
+				SurfFeature f = found.getDescription(i);
+				for( int j = 0; j < e.size(); j++ )
+					assertEquals(e.value[j],f.value[j],1e-8);
+			}
+		} finally {
+			BoofConcurrency.setMaxThreads(originalThreads);
+		}
+	}
 }
@@ -18,9 +18,14 @@
 
 package boofcv.abst.feature.detdesc;
 
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.factory.feature.detdesc.FactoryDetectDescribe;
 import boofcv.struct.feature.SurfFeature;
 import boofcv.struct.image.ImageFloat32;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 /**
  * @author Peter Abeles
@@ -36,4 +41,43 @@ public class TestWrapDetectDescribeSurf extends GenericTestsDetectDescribePoint<
 	public DetectDescribePoint<ImageFloat32, SurfFeature> createDetDesc() {
 		return FactoryDetectDescribe.surfStable(null,null,null, ImageFloat32.class);
 	}
+
+	/**
+	 * The concurrent implementation should produce the same features in the same order
+	 */
+	@Test
+	public void concurrent() {
+		int originalThreads = BoofConcurrency.getMaxThreads();
+		BoofConcurrency.setMaxThreads(3);
+		try {
+			compareConcurrent(FactoryDetectDescribe.surfStable(null, null, null, ImageFloat32.class, false),
+					FactoryDetectDescribe.surfStable(null, null, null, ImageFloat32.class, true));
+			compareConcurrent(FactoryDetectDescribe.surfFast(null, null, null, ImageFloat32.class, false),
+					FactoryDetectDescribe.surfFast(null, null, null, ImageFloat32.class, true));
+		} finally {
+			BoofConcurrency.setMaxThreads(originalThreads);
+		}
+	}
+
+	private void compareConcurrent( DetectDescribePoint<ImageFloat32, SurfFeature> expected ,
+									DetectDescribePoint<ImageFloat32, SurfFeature> found ) {
+		expected.detect(image);
+		found.detect(image);
+
+		assertTrue(expected.getNumberOfFeatures() > 0);
+		assertEquals(expected.getNumberOfFeatures(),found.getNumberOfFeatures());
+
+		for( int i = 0; i < expected.getNumberOfFeatures(); i++ ) {
+			assertEquals(expected.getLocation(i).x,found.getLocation(i).x,1e-8);
+			assertEquals(expected.getLocation(i).y,found.getLocation(i).y,1e-8);
+			assertEquals(expected.getScale(i),found.getScale(i),1e-8);
+			assertEquals(expected.getOrientation(i),found.getOrientation(i),1e-8);
+
+			SurfFeature e = expected.getDescription(i);
+			SurfFeature f = found.getDescription(i);
+			assertEquals(e.laplacianPositive,f.laplacianPositive);
+			for( int j = 0; j < e.size(); j++ )
+				assertEquals(e.value[j],f.value[j],1e-8);
+		}
+	}
 }
@@ -37,6 +37,6 @@ public class TestWrapperLaplacianBlobIntensity<I extends ImageSingleBand, D exte
 
 	@Override
 	public GeneralFeatureIntensity<I,D> createAlg(Class<I> imageType, Class<D> derivType) {
-		return (GeneralFeatureIntensity)FactoryIntensityPoint.laplacian();
+		return (GeneralFeatureIntensity)FactoryIntensityPoint.laplacian(imageType);
 	}
 }
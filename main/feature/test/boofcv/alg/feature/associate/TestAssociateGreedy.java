@@ -18,12 +18,15 @@
 
 package boofcv.alg.feature.associate;
 
+import boofcv.abst.feature.associate.ScoreAssociateCorrelation;
 import boofcv.abst.feature.associate.ScoreAssociateEuclidean_F64;
 import boofcv.abst.feature.associate.ScoreAssociation;
 import boofcv.struct.FastQueue;
 import boofcv.struct.feature.TupleDesc_F64;
 import org.junit.Test;
 
+import java.util.Random;
+
 import static org.junit.Assert.assertEquals;
 
 
@@ -101,6 +104,119 @@ public class TestAssociateGreedy {
 		assertEquals(2,fitScore[3],1e-5);
 	}
 
+	/**
+	 * Compare against a brute force implementation which saves the entire score matrix.  Integer values
+	 * are used so that there are lots of ties.
+	 */
+	@Test
+	public void compareToBruteForce() {
+		Random rand = new Random(234);
+
+		for( int size : new int[]{5,70,150} ) {
+			FastQueue<TupleDesc_F64> a = createRandom(rand,size,4);
+			FastQueue<TupleDesc_F64> b = createRandom(rand,size+13,4);
+
+			for( boolean backwards : new boolean[]{false,true} ) {
+				AssociateGreedy<TupleDesc_F64> alg = new AssociateGreedy<TupleDesc_F64>(score,backwards);
+				alg.setMaxFitError(3);
+				alg.associate(a,b);
+
+				int expectedPairs[] = new int[a.size];
+				double expectedFit[] = new double[a.size];
+				bruteForce(a,b,3,backwards,expectedPairs,expectedFit);
+
+				for( int i = 0; i < a.size; i++ ) {
+					assertEquals(expectedPairs[i],alg.getPairs()[i]);
+					assertEquals(expectedFit[i],alg.getFitQuality()[i],1e-8);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void ratioTest() {
+		FastQueue<TupleDesc_F64> a = createData(1,2,4,10);
+		FastQueue<TupleDesc_F64> b = createData(1.25,2.25,3.5,4.5,20);
+
+		AssociateGreedy<TupleDesc_F64> alg = new AssociateGreedy<TupleDesc_F64>(score,false);
+		alg.setRatioTest(0.5);
+		alg.associate(a,b);
+
+		int pairs[] = alg.getPairs();
+
+		assertEquals(0,pairs[0]);
+		assertEquals(1,pairs[1]);
+		// 3.5 and 4.5 are both equally close
+		assertEquals(-1,pairs[2]);
+		assertEquals(-1,pairs[3]);
+
+		// with the test disabled everything is matched
+		alg.setRatioTest(1);
+		alg.associate(a,b);
+		assertEquals(2,alg.getPairs()[2]);
+		assertEquals(3,alg.getPairs()[3]);
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void ratioTest_correlation() {
+		AssociateGreedy<TupleDesc_F64> alg =
+				new AssociateGreedy<TupleDesc_F64>(new ScoreAssociateCorrelation(),false);
+		alg.setRatioTest(0.8);
+	}
+
+	/**
+	 * The original implementation, which computes the full score matrix
+	 */
+	private void bruteForce( FastQueue<TupleDesc_F64> src , FastQueue<TupleDesc_F64> dst ,
+							 double maxFitError , boolean backwards ,
+							 int pairs[] , double fitQuality[] ) {
+		double scores[] = new double[src.size*dst.size];
+
+		for( int i = 0; i < src.size; i++ ) {
+			double bestScore = maxFitError;
+			int bestIndex = -1;
+
+			for( int j = 0; j < dst.size; j++ ) {
+				double fit = score.score(src.get(i),dst.get(j));
+				scores[i*dst.size+j] = fit;
+
+				if( fit < bestScore ) {
+					bestIndex = j;
+					bestScore = fit;
+				}
+			}
+			pairs[i] = bestIndex;
+			fitQuality[i] = bestScore;
+		}
+
+		if( backwards ) {
+			for( int i = 0; i < src.size; i++ ) {
+				int match = pairs[i];
+				if( match == -1 )
+					continue;
+
+				double scoreToBeat = scores[i*dst.size+match];
+
+				for( int j = 0; j < src.size; j++ , match += dst.size ) {
+					if( scores[match] <= scoreToBeat && j != i) {
+						pairs[i] = -1;
+						fitQuality[i] = Double.MAX_VALUE;
+						break;
+					}
+				}
+			}
+		}
+	}
+
+	private FastQueue<TupleDesc_F64> createRandom( Random rand , int total , int range ) {
+		FastQueue<TupleDesc_F64> ret = createData();
+		for( int i = 0; i < total; i++ ) {
+			TupleDesc_F64 d = ret.grow();
+			d.value[0] = rand.nextInt(range*total/4);
+		}
+		return ret;
+	}
+
 	private FastQueue<TupleDesc_F64> createData( double ...values )
 	{
 		FastQueue<TupleDesc_F64> ret = new FastQueue<TupleDesc_F64>(10,TupleDesc_F64.class, true) {
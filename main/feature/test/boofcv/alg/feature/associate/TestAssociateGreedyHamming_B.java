@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.associate;
+
+import boofcv.abst.feature.associate.ScoreAssociateHamming_B;
+import boofcv.struct.FastQueue;
+import boofcv.struct.feature.PackedTupleArray_B;
+import boofcv.struct.feature.TupleDesc_B;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Compares the results against {@link AssociateGreedy}
+ *
+ * @author Peter Abeles
+ */
+public class TestAssociateGreedyHamming_B {
+
+	Random rand = new Random(234);
+
+	int numBits = 100;
+
+	@Test
+	public void compare() {
+		for( int size : new int[]{10,100} ) {
+			FastQueue<TupleDesc_B> a = createRandom(size);
+			FastQueue<TupleDesc_B> b = createRandom(size+20);
+
+			for( boolean backwards : new boolean[]{false,true} ) {
+				for( double ratio : new double[]{1,0.9} ) {
+					AssociateGreedy<TupleDesc_B> expected =
+							new AssociateGreedy<TupleDesc_B>(new ScoreAssociateHamming_B(),backwards);
+					AssociateGreedyHamming_B found = new AssociateGreedyHamming_B(backwards);
+
+					expected.setMaxFitError(45);
+					found.setMaxFitError(45);
+					expected.setRatioTest(ratio);
+					found.setRatioTest(ratio);
+
+					expected.associate(a,b);
+					found.associate(a,b);
+					checkSame(a.size,expected,found);
+
+					// already packed descriptors
+					PackedTupleArray_B packedA = new PackedTupleArray_B(numBits);
+					PackedTupleArray_B packedB = new PackedTupleArray_B(numBits);
+					packedA.setTo(a);
+					packedB.setTo(b);
+
+					found.associate(packedA,packedB);
+					checkSame(a.size,expected,found);
+				}
+			}
+		}
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void packed_differentNumberOfBits() {
+		AssociateGreedyHamming_B alg = new AssociateGreedyHamming_B(false);
+		alg.associate(new PackedTupleArray_B(100),new PackedTupleArray_B(90));
+	}
+
+	private void checkSame( int N , AssociateGreedy<TupleDesc_B> expected , AssociateGreedy<TupleDesc_B> found ) {
+		for( int i = 0; i < N; i++ ) {
+			assertEquals(expected.getPairs()[i],found.getPairs()[i]);
+			assertEquals(expected.getFitQuality()[i],found.getFitQuality()[i],1e-8);
+		}
+	}
+
+	private FastQueue<TupleDesc_B> createRandom( int total ) {
+		FastQueue<TupleDesc_B> ret = new FastQueue<TupleDesc_B>(10,TupleDesc_B.class, true) {
+			@Override
+			protected TupleDesc_B createInstance() {
+				return new TupleDesc_B(numBits);
+			}
+		};
+
+		for( int i = 0; i < total; i++ ) {
+			TupleDesc_B d = ret.grow();
+			for( int j = 0; j < numBits; j++ ) {
+				if( rand.nextBoolean() )
+					d.data[j/32] |= 1 << (j%32);
+			}
+		}
+
+		return ret;
+	}
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.associate;
+
+import boofcv.abst.feature.associate.ScoreAssociateEuclideanSq_F64;
+import boofcv.abst.feature.associate.ScoreAssociation;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.FastQueue;
+import boofcv.struct.feature.TupleDesc_F64;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Compares the results against {@link AssociateGreedy}
+ *
+ * @author Peter Abeles
+ */
+public class TestAssociateGreedy_MT {
+
+	Random rand = new Random(234);
+
+	ScoreAssociation<TupleDesc_F64> score = new ScoreAssociateEuclideanSq_F64();
+
+	int originalThreads;
+
+	@Before
+	public void before() {
+		originalThreads = BoofConcurrency.getMaxThreads();
+		BoofConcurrency.setMaxThreads(3);
+	}
+
+	@After
+	public void after() {
+		BoofConcurrency.setMaxThreads(originalThreads);
+	}
+
+	@Test
+	public void compare() {
+		for( int size : new int[]{10,100,301} ) {
+			FastQueue<TupleDesc_F64> a = createRandom(size);
+			FastQueue<TupleDesc_F64> b = createRandom(size+20);
+
+			for( boolean backwards : new boolean[]{false,true} ) {
+				for( double ratio : new double[]{1,0.8} ) {
+					AssociateGreedy<TupleDesc_F64> expected = new AssociateGreedy<TupleDesc_F64>(score,backwards);
+					AssociateGreedy<TupleDesc_F64> found = new AssociateGreedy_MT<TupleDesc_F64>(score,backwards);
+
+					expected.setMaxFitError(20);
+					found.setMaxFitError(20);
+					expected.setRatioTest(ratio);
+					found.setRatioTest(ratio);
+
+					expected.associate(a,b);
+					found.associate(a,b);
+
+					// the second call should produce the same results
+					for( int trial = 0; trial < 2; trial++ ) {
+						for( int i = 0; i < a.size; i++ ) {
+							assertEquals(expected.getPairs()[i],found.getPairs()[i]);
+							assertEquals(expected.getFitQuality()[i],found.getFitQuality()[i],1e-8);
+						}
+						found.associate(a,b);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Creates random descriptors with integer values so that there are ties
+	 */
+	private FastQueue<TupleDesc_F64> createRandom( int total ) {
+		FastQueue<TupleDesc_F64> ret = new FastQueue<TupleDesc_F64>(10,TupleDesc_F64.class, true) {
+			@Override
+			protected TupleDesc_F64 createInstance() {
+				return new TupleDesc_F64(3);
+			}
+		};
+
+		for( int i = 0; i < total; i++ ) {
+			TupleDesc_F64 d = ret.grow();
+			for( int j = 0; j < d.value.length; j++ )
+				d.value[j] = rand.nextInt(10);
+		}
+
+		return ret;
+	}
+}
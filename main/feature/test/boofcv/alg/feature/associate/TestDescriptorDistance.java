@@ -160,6 +160,44 @@ public class TestDescriptorDistance {
 		assertEquals(8,DescriptorDistance.hamming(0xF000000F));
 	}
 
+	@Test
+	public void hamming_long() {
+		assertEquals(0,DescriptorDistance.hamming(0L));
+		assertEquals(1,DescriptorDistance.hamming(0x0800L));
+		assertEquals(2,DescriptorDistance.hamming(0x8000000000000001L));
+		assertEquals(8,DescriptorDistance.hamming(0xF00000000000000FL));
+		assertEquals(64,DescriptorDistance.hamming(-1L));
+	}
+
+	@Test
+	public void hamming_packed() {
+		for( int numBits : new int[]{40,100,512} ) {
+			TupleDesc_B a = new TupleDesc_B(numBits);
+			TupleDesc_B b = new TupleDesc_B(numBits);
+
+			PackedTupleArray_B packedA = new PackedTupleArray_B(numBits);
+			PackedTupleArray_B packedB = new PackedTupleArray_B(numBits);
+
+			for( int numTries = 0; numTries < 20; numTries++ ) {
+				for( int i = 0; i < numBits; i++ ) {
+					if( rand.nextBoolean() )
+						a.data[i/32] |= 1 << (i%32);
+					else
+						a.data[i/32] &= ~(1 << (i%32));
+					if( rand.nextBoolean() )
+						b.data[i/32] |= 1 << (i%32);
+					else
+						b.data[i/32] &= ~(1 << (i%32));
+				}
+
+				packedA.add(a);
+				packedB.add(b);
+
+				assertEquals(hamming(a,b),DescriptorDistance.hamming(packedA,numTries,packedB,numTries));
+			}
+		}
+	}
+
 	private int hamming( TupleDesc_B a, TupleDesc_B b) {
 		int ret = 0;
 		for( int i = 0; i < a.data.length; i++ ) {
@@ -0,0 +1,330 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.associate;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.feature.TupleDesc_F64;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestKdForestIndex_F32 {
+
+	Random rand = new Random(234);
+
+	int dof = 8;
+
+	/**
+	 * Searching for points which are in the index should always find them
+	 */
+	@Test
+	public void findExistingPoints() {
+		KdForestIndex_F32 alg = createIndex(500);
+		KdForestIndex_F32.Search search = alg.createSearch();
+
+		for( int i = 0; i < alg.size(); i++ ) {
+			float point[] = alg.getPoint(i,null);
+			assertEquals(1,search.findNearest(point,1,alg.getNumTrees()));
+			assertEquals(i,search.neighbors[0]);
+			assertEquals(0,search.distances[0],1e-8);
+		}
+	}
+
+	/**
+	 * With a large search budget the results should almost always be the same as brute force
+	 */
+	@Test
+	public void compareToBruteForce() {
+		KdForestIndex_F32 alg = createIndex(500);
+		KdForestIndex_F32.Search search = alg.createSearch();
+
+		int k = 3;
+		int numCorrect = 0;
+		int numQueries = 100;
+		for( int trial = 0; trial < numQueries; trial++ ) {
+			float query[] = randomPoint();
+			assertEquals(k,search.findNearest(query,k,200));
+
+			int expected[] = bruteForce(alg,query,k);
+			boolean matched = true;
+			for( int i = 0; i < k; i++ ) {
+				matched &= expected[i] == search.neighbors[i];
+				// distances must be correct and sorted
+				assertEquals(distance(alg.getPoint(search.neighbors[i],null),query),search.distances[i],1e-4);
+				if( i > 0 )
+					assertTrue(search.distances[i-1] <= search.distances[i]);
+			}
+			if( matched )
+				numCorrect++;
+		}
+
+		assertTrue(numCorrect >= numQueries*0.95);
+	}
+
+	/**
+	 * Points added after the trees have been built should be found
+	 */
+	@Test
+	public void add_afterBuild() {
+		KdForestIndex_F32 alg = createIndex(200);
+
+		for( int i = 0; i < 100; i++ ) {
+			TupleDesc_F64 desc = new TupleDesc_F64(dof);
+			for( int j = 0; j < dof; j++ )
+				desc.value[j] = rand.nextFloat();
+			assertEquals(200+i,alg.add(desc));
+		}
+
+		KdForestIndex_F32.Search search = alg.createSearch();
+		for( int i = 0; i < alg.size(); i++ ) {
+			float point[] = alg.getPoint(i,null);
+			search.findNearest(point,1,alg.getNumTrees());
+			assertEquals(i,search.neighbors[0]);
+		}
+	}
+
+	/**
+	 * All the points are identical
+	 */
+	@Test
+	public void duplicatePoints() {
+		KdForestIndex_F32 alg = new KdForestIndex_F32(dof,3,3,234);
+		float point[] = randomPoint();
+		for( int i = 0; i < 50; i++ )
+			alg.add(point);
+		alg.build();
+
+		KdForestIndex_F32.Search search = alg.createSearch();
+		assertEquals(2,search.findNearest(point,2,10));
+		assertTrue(search.neighbors[0] != search.neighbors[1]);
+		assertEquals(0,search.distances[1],1e-8);
+	}
+
+	/**
+	 * Most of the points are identical, so the points used to estimate the mean of a large range can all be
+	 * the same and the mean does not split the range.  Every point must still be reachable.
+	 */
+	@Test
+	public void build_identicalVarianceSamples() {
+		KdForestIndex_F32 alg = new KdForestIndex_F32(1,1,1,234);
+		int numDistinct = 20;
+		for( int i = 0; i < 20000-numDistinct; i++ )
+			alg.add(new float[]{0});
+		for( int i = 0; i < numDistinct; i++ )
+			alg.add(new float[]{i+1});
+		alg.build();
+
+		KdForestIndex_F32.Search search = alg.createSearch();
+		for( int i = alg.size()-numDistinct; i < alg.size(); i++ ) {
+			float point[] = alg.getPoint(i,null);
+			assertEquals(1,search.findNearest(point,1,alg.size()*alg.getNumTrees()));
+			assertEquals(i,search.neighbors[0]);
+			assertEquals(0,search.distances[0],1e-8);
+		}
+	}
+
+	@Test
+	public void findNearest_batch() {
+		int originalThreads = BoofConcurrency.getMaxThreads();
+		BoofConcurrency.setMaxThreads(3);
+		try {
+			KdForestIndex_F32 alg = createIndex(300);
+
+			int k = 2;
+			int numQueries = 150;
+			float queries[] = new float[numQueries*dof];
+			for( int i = 0; i < queries.length; i++ )
+				queries[i] = rand.nextFloat();
+
+			for( boolean concurrent : new boolean[]{false,true} ) {
+				int neighbors[] = new int[numQueries*k];
+				float distances[] = new float[numQueries*k];
+				alg.findNearest(queries,numQueries,k,30,neighbors,distances,concurrent);
+
+				KdForestIndex_F32.Search search = alg.createSearch();
+				float query[] = new float[dof];
+				for( int i = 0; i < numQueries; i++ ) {
+					System.arraycopy(queries,i*dof,query,0,dof);
+					search.findNearest(query,k,30);
+					for( int j = 0; j < k; j++ ) {
+						assertEquals(search.neighbors[j],neighbors[i*k+j]);
+						assertEquals(search.distances[j],distances[i*k+j],1e-8);
+					}
+				}
+			}
+		} finally {
+			BoofConcurrency.setMaxThreads(originalThreads);
+		}
+	}
+
+	/**
+	 * Two threads run batch searches on the same index at the same time
+	 */
+	@Test
+	public void findNearest_batch_overlapping() throws InterruptedException {
+		int originalThreads = BoofConcurrency.getMaxThreads();
+		BoofConcurrency.setMaxThreads(4);
+		try {
+			final KdForestIndex_F32 alg = createIndex(300);
+			final int k = 2;
+			final int numQueries = 200;
+
+			final boolean failed[] = new boolean[2];
+			Thread threads[] = new Thread[2];
+			for( int t = 0; t < threads.length; t++ ) {
+				final int which = t;
+				final float queries[] = new float[numQueries*dof];
+				for( int i = 0; i < queries.length; i++ )
+					queries[i] = rand.nextFloat();
+
+				threads[t] = new Thread() {
+					@Override
+					public void run() {
+						try {
+							KdForestIndex_F32.Search search = alg.createSearch();
+							float query[] = new float[dof];
+							int neighbors[] = new int[numQueries*k];
+							float distances[] = new float[numQueries*k];
+							for( int trial = 0; trial < 20; trial++ ) {
+								alg.findNearest(queries,numQueries,k,30,neighbors,distances,true);
+								for( int i = 0; i < numQueries; i++ ) {
+									System.arraycopy(queries,i*dof,query,0,dof);
+									search.findNearest(query,k,30);
+									for( int j = 0; j < k; j++ ) {
+										if( search.neighbors[j] != neighbors[i*k+j] )
+											failed[which] = true;
+									}
+								}
+							}
+						} catch( RuntimeException e ) {
+							failed[which] = true;
+						}
+					}
+				};
+			}
+
+			for( Thread t : threads )
+				t.start();
+			for( Thread t : threads )
+				t.join();
+
+			assertFalse(failed[0]);
+			assertFalse(failed[1]);
+		} finally {
+			BoofConcurrency.setMaxThreads(originalThreads);
+		}
+	}
+
+	@Test
+	public void save_load() {
+		KdForestIndex_F32 alg = createIndex(300);
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		alg.save(out);
+		KdForestIndex_F32 found = KdForestIndex_F32.load(new ByteArrayInputStream(out.toByteArray()));
+
+		assertEquals(alg.size(),found.size());
+		assertEquals(alg.getDof(),found.getDof());
+		assertEquals(alg.getNumTrees(),found.getNumTrees());
+		assertTrue(found.isBuilt());
+
+		KdForestIndex_F32.Search searchA = alg.createSearch();
+		KdForestIndex_F32.Search searchB = found.createSearch();
+		for( int i = 0; i < 50; i++ ) {
+			float query[] = randomPoint();
+			assertEquals(searchA.findNearest(query,2,20),searchB.findNearest(query,2,20));
+			for( int j = 0; j < 2; j++ ) {
+				assertEquals(searchA.neighbors[j],searchB.neighbors[j]);
+				assertEquals(searchA.distances[j],searchB.distances[j],1e-8);
+			}
+		}
+
+		// points can be added to the loaded index
+		float point[] = randomPoint();
+		int index = found.add(point);
+		searchB.findNearest(point,1,found.getNumTrees());
+		assertEquals(index,searchB.neighbors[0]);
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void load_notAnIndex() {
+		KdForestIndex_F32.load(new ByteArrayInputStream(new byte[20]));
+	}
+
+	@Test
+	public void empty() {
+		KdForestIndex_F32 alg = new KdForestIndex_F32(dof,3,3,234);
+		alg.build();
+		assertEquals(0,alg.createSearch().findNearest(randomPoint(),2,10));
+	}
+
+	private KdForestIndex_F32 createIndex( int numPoints ) {
+		KdForestIndex_F32 alg = new KdForestIndex_F32(dof,4,3,234);
+		for( int i = 0; i < numPoints; i++ )
+			alg.add(randomPoint());
+		alg.build();
+		return alg;
+	}
+
+	private float[] randomPoint() {
+		float ret[] = new float[dof];
+		for( int i = 0; i < dof; i++ )
+			ret[i] = rand.nextFloat();
+		return ret;
+	}
+
+	private int[] bruteForce( KdForestIndex_F32 alg , float query[] , int k ) {
+		int best[] = new int[k];
+		float bestDistance[] = new float[k];
+		for( int i = 0; i < k; i++ )
+			bestDistance[i] = Float.MAX_VALUE;
+
+		for( int i = 0; i < alg.size(); i++ ) {
+			float d = distance(alg.getPoint(i,null),query);
+			for( int j = 0; j < k; j++ ) {
+				if( d < bestDistance[j] ) {
+					for( int l = k-1; l > j; l-- ) {
+						bestDistance[l] = bestDistance[l-1];
+						best[l] = best[l-1];
+					}
+					bestDistance[j] = d;
+					best[j] = i;
+					break;
+				}
+			}
+		}
+		return best;
+	}
+
+	private float distance( float a[] , float b[] ) {
+		float ret = 0;
+		for( int i = 0; i < a.length; i++ ) {
+			float d = a[i]-b[i];
+			ret += d*d;
+		}
+		return ret;
+	}
+}
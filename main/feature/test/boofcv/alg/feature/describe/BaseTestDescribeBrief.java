@@ -29,6 +29,7 @@ import boofcv.core.image.GImageSingleBand;
 import boofcv.core.image.GeneralizedImageOps;
 import boofcv.factory.feature.describe.FactoryDescribePointAlgs;
 import boofcv.factory.filter.blur.FactoryBlurFilter;
+import boofcv.struct.feature.PackedTupleArray_B;
 import boofcv.struct.feature.TupleDesc_B;
 import boofcv.struct.image.ImageSingleBand;
 import boofcv.testing.BoofTesting;
@@ -198,6 +199,36 @@ public abstract class BaseTestDescribeBrief <T extends ImageSingleBand> {
 			assertEquals(desc.getDouble(i),descInside.getDouble(i),1e-8);
 	}
 
+	/**
+	 * Descriptions added to a packed array should be the same as the regular descriptions
+	 */
+	@Test
+	public void processPacked() {
+		T input = createImage(width,height);
+
+		DescribePointBrief<T> alg = FactoryDescribePointAlgs.brief(def, filterBlur);
+		alg.setImage(input);
+
+		PackedTupleArray_B packed = alg.createPackedArray();
+		TupleDesc_B expected = alg.createFeature();
+		TupleDesc_B found = alg.createFeature();
+
+		// inside and along the border
+		alg.process(width/2,height/2,packed);
+		alg.process(0,0,packed);
+		assertEquals(2,packed.size());
+
+		process(alg, width/2, height/2, expected);
+		packed.get(0,found);
+		for( int i = 0; i < expected.data.length; i++ )
+			assertEquals(expected.data[i],found.data[i]);
+
+		process(alg, 0, 0, expected);
+		packed.get(1,found);
+		for( int i = 0; i < expected.data.length; i++ )
+			assertEquals(expected.data[i],found.data[i]);
+	}
+
 	private void process( DescribePointBrief<T> alg , double x , double y , TupleDesc_B desc ) {
 		alg.process(x,y,desc);
 	}
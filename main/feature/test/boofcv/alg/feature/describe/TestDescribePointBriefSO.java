@@ -27,6 +27,7 @@ import boofcv.core.image.FactoryGImageSingleBand;
 import boofcv.core.image.GImageSingleBand;
 import boofcv.factory.feature.describe.FactoryDescribePointAlgs;
 import boofcv.factory.filter.blur.FactoryBlurFilter;
+import boofcv.struct.feature.PackedTupleArray_B;
 import boofcv.struct.feature.TupleDesc_B;
 import boofcv.struct.image.ImageFloat32;
 import boofcv.testing.BoofTesting;
@@ -242,4 +243,33 @@ public class TestDescribePointBriefSO {
 		// sanity check.  the description should not be zero
 		assertTrue(desc.data[0] != 0 );
 	}
+
+	/**
+	 * Descriptions added to a packed array should be the same as the regular descriptions
+	 */
+	@Test
+	public void processPacked() {
+		ImageFloat32 input = createImage(width,height);
+
+		DescribePointBriefSO<ImageFloat32> alg = createAlg();
+		alg.setImage(input);
+
+		PackedTupleArray_B packed = alg.createPackedArray();
+		TupleDesc_B expected = alg.createFeature();
+		TupleDesc_B found = alg.createFeature();
+
+		alg.process(width/2,height/2,0.5f,1.1f,packed);
+		alg.process(0,0,0.1f,1.2f,packed);
+		assertEquals(2,packed.size());
+
+		alg.process(width/2,height/2,0.5f,1.1f,expected);
+		packed.get(0,found);
+		for( int i = 0; i < expected.data.length; i++ )
+			assertEquals(expected.data[i],found.data[i]);
+
+		alg.process(0,0,0.1f,1.2f,expected);
+		packed.get(1,found);
+		for( int i = 0; i < expected.data.length; i++ )
+			assertEquals(expected.data[i],found.data[i]);
+	}
 }
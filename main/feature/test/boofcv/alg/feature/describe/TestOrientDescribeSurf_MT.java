@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.describe;
+
+import boofcv.abst.feature.orientation.OrientationIntegral;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.alg.transform.ii.IntegralImageOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.factory.feature.describe.FactoryDescribePointAlgs;
+import boofcv.factory.feature.orientation.FactoryOrientationAlgs;
+import boofcv.struct.feature.ScalePoint;
+import boofcv.struct.feature.SurfFeature;
+import boofcv.struct.image.ImageFloat32;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Compares the results against {@link OrientDescribeSurf}
+ *
+ * @author Peter Abeles
+ */
+public class TestOrientDescribeSurf_MT {
+
+	Random rand = new Random(234);
+
+	int width = 120;
+	int height = 100;
+
+	int originalThreads;
+
+	@Before
+	public void before() {
+		originalThreads = BoofConcurrency.getMaxThreads();
+		BoofConcurrency.setMaxThreads(3);
+	}
+
+	@After
+	public void after() {
+		BoofConcurrency.setMaxThreads(originalThreads);
+	}
+
+	@Test
+	public void compare() {
+		ImageFloat32 input = new ImageFloat32(width,height);
+		ImageMiscOps.fillUniform(input,rand,0,100);
+		ImageFloat32 ii = IntegralImageOps.transform(input,null);
+
+		OrientDescribeSurf<ImageFloat32> expected = new OrientDescribeSurf<ImageFloat32>(
+				FactoryOrientationAlgs.sliding_ii(null,ImageFloat32.class),
+				FactoryDescribePointAlgs.surfStability(null,ImageFloat32.class));
+		OrientDescribeSurf_MT<ImageFloat32> found = new OrientDescribeSurf_MT<ImageFloat32>(
+				new OrientDescribeSurf_MT.Factory<ImageFloat32>() {
+					@Override
+					public OrientationIntegral<ImageFloat32> createOrientation() {
+						return FactoryOrientationAlgs.sliding_ii(null,ImageFloat32.class);
+					}
+
+					@Override
+					public DescribePointSurf<ImageFloat32> createDescribe() {
+						return FactoryDescribePointAlgs.surfStability(null,ImageFloat32.class);
+					}
+				});
+
+		for( int numPoints : new int[]{0,5,150,40} ) {
+			List<ScalePoint> points = new ArrayList<ScalePoint>();
+			for( int i = 0; i < numPoints; i++ ) {
+				double x = rand.nextDouble()*width;
+				double y = rand.nextDouble()*height;
+				double scale = 1 + rand.nextDouble()*2;
+				points.add(new ScalePoint(x,y,scale));
+			}
+
+			expected.process(ii,points);
+			found.process(ii,points);
+
+			assertEquals(numPoints,found.getFeatures().size());
+			assertEquals(numPoints,found.getAngles().getSize());
+
+			for( int i = 0; i < numPoints; i++ ) {
+				assertEquals(expected.getAngles().get(i),found.getAngles().get(i),1e-8);
+
+				SurfFeature e = expected.getFeatures().get(i);
+				SurfFeature f = found.getFeatures().get(i);
+				assertEquals(e.laplacianPositive,f.laplacianPositive);
+				for( int j = 0; j < e.size(); j++ ) {
+					assertEquals(e.value[j],f.value[j],1e-8);
+				}
+			}
+		}
+	}
+}
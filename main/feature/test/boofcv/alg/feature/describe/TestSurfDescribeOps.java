@@ -69,8 +69,10 @@ public class TestSurfDescribeOps {
 		BoofTesting.assertEquals(foundX,expectedX,1e-4);
 		BoofTesting.assertEquals(foundY,expectedY,1e-4);
 
-		// check the border
-		SurfDescribeOps.gradient(inputF32,-2,-1,1.5,w,4*1.5, false, foundX,foundY);
+		// check the border, with work space which is larger than needed
+		int sampleX[] = new int[ w*w+5 ];
+		int sampleY[] = new int[ w*w+5 ];
+		SurfDescribeOps.gradient(inputF32,-2,-1,1.5,w,4*1.5, false, foundX,foundY, sampleX, sampleY);
 		ImplSurfDescribeOps.naiveGradient(inputF32, -2, -1, 1.5, w, 4 * 1.5, false, expectedX, expectedY);
 
 		BoofTesting.assertEquals(foundX, expectedX, 1e-4);
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detdesc;
+
+import boofcv.abst.feature.detect.interest.ConfigSiftDetector;
+import boofcv.alg.feature.describe.DescribePointSift;
+import boofcv.alg.feature.detect.interest.SiftDetector;
+import boofcv.alg.feature.detect.interest.SiftImageScaleSpace;
+import boofcv.alg.feature.detect.interest.SiftImageScaleSpace_MT;
+import boofcv.alg.feature.orientation.OrientationHistogramSift;
+import boofcv.alg.filter.blur.BlurImageOps;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.factory.feature.detect.interest.FactoryInterestPointAlgs;
+import boofcv.struct.feature.SurfFeature;
+import boofcv.struct.image.ImageFloat32;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Compares the results against {@link DetectDescribeSift}
+ *
+ * @author Peter Abeles
+ */
+public class TestDetectDescribeSift_MT {
+
+	Random rand = new Random(234);
+
+	int originalThreads;
+
+	@Before
+	public void before() {
+		originalThreads = BoofConcurrency.getMaxThreads();
+		BoofConcurrency.setMaxThreads(3);
+	}
+
+	@After
+	public void after() {
+		BoofConcurrency.setMaxThreads(originalThreads);
+	}
+
+	@Test
+	public void compare() {
+		final ConfigSiftDetector configDetector = new ConfigSiftDetector(2,0,500,5);
+
+		DetectDescribeSift expected = new DetectDescribeSift(new SiftImageScaleSpace(1.6f, 5,4,false),
+				FactoryInterestPointAlgs.siftDetector(configDetector),
+				new OrientationHistogramSift(32,2.5,1.5),new DescribePointSift(4,8,8,0.5, 2.5));
+
+		DetectDescribeSift found = new DetectDescribeSift_MT(new SiftImageScaleSpace_MT(1.6f, 5,4,false),
+				new DetectDescribeSift_MT.Factory() {
+					@Override
+					public SiftDetector createDetector() {
+						return FactoryInterestPointAlgs.siftDetector(configDetector);
+					}
+
+					@Override
+					public OrientationHistogramSift createOrientation() {
+						return new OrientationHistogramSift(32,2.5,1.5);
+					}
+
+					@Override
+					public DescribePointSift createDescribe() {
+						return new DescribePointSift(4,8,8,0.5, 2.5);
+					}
+				});
+
+		// the second image is smaller and has fewer features
+		for( int size : new int[]{120,60} ) {
+			ImageFloat32 input = new ImageFloat32(size,size+10);
+			ImageMiscOps.fillUniform(input, rand, 0, 100);
+			input = BlurImageOps.gaussian(input,null,-1,2,null);
+
+			expected.process(input);
+			found.process(input);
+
+			int N = expected.getFeatures().size;
+			assertTrue(N > 0);
+			assertEquals(N,found.getFeatures().size);
+			assertEquals(N,found.getFeatureScales().size);
+			assertEquals(N,found.getFeatureAngles().size);
+			assertEquals(N,found.getLocation().size);
+
+			for( int i = 0; i < N; i++ ) {
+				assertEquals(expected.getLocation().get(i).x,found.getLocation().get(i).x,1e-8);
+				assertEquals(expected.getLocation().get(i).y,found.getLocation().get(i).y,1e-8);
+				assertEquals(expected.getFeatureScales().get(i),found.getFeatureScales().get(i),1e-8);
+				assertEquals(expected.getFeatureAngles().get(i),found.getFeatureAngles().get(i),1e-8);
+
+				SurfFeature e = expected.getFeatures().get(i);
+				SurfFeature f = found.getFeatures().get(i);
+				assertEquals(e.laplacianPositive,f.laplacianPositive);
+				for( int j = 0; j < e.size(); j++ ) {
+					assertEquals(e.value[j],f.value[j],1e-8);
+				}
+			}
+		}
+	}
+}
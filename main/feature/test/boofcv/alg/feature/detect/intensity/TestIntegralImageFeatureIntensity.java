@@ -22,7 +22,9 @@ import boofcv.alg.feature.detect.intensity.impl.ImplIntegralImageFeatureIntensit
 import boofcv.alg.misc.GImageMiscOps;
 import boofcv.alg.transform.ii.IntegralImageOps;
 import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageFloat64;
 import boofcv.struct.image.ImageSInt32;
+import boofcv.struct.image.ImageSInt64;
 import boofcv.testing.BoofTesting;
 import org.junit.Test;
 
@@ -87,4 +89,54 @@ public class TestIntegralImageFeatureIntensity {
 			BoofTesting.assertEquals(expected,found, 1e-4f);
 		}
 	}
+
+	/**
+	 * Compares hessian intensity against a naive implementation
+	 */
+	@Test
+	public void hessian_F64() {
+		ImageFloat64 original = new ImageFloat64(width,height);
+		ImageFloat64 integral = new ImageFloat64(width,height);
+		ImageFloat32 found = new ImageFloat32(width,height);
+		ImageFloat32 expected = new ImageFloat32(width,height);
+
+		GImageMiscOps.fillUniform(original, rand, 0, 50);
+		IntegralImageOps.transform(original,integral);
+
+		int size = 9;
+
+		for( int skip = 1; skip <= 4; skip++ ) {
+			found.reshape(width/skip,height/skip);
+			expected.reshape(width/skip,height/skip);
+			ImplIntegralImageFeatureIntensity.hessianNaive(integral,skip,size,expected);
+			IntegralImageFeatureIntensity.hessian(integral,skip,size,found);
+
+			BoofTesting.assertEquals(expected,found, 1e-4f);
+		}
+	}
+
+	/**
+	 * Compares hessian intensity against a naive implementation
+	 */
+	@Test
+	public void hessian_S64() {
+		ImageSInt64 original = new ImageSInt64(width,height);
+		ImageSInt64 integral = new ImageSInt64(width,height);
+		ImageFloat32 found = new ImageFloat32(width,height);
+		ImageFloat32 expected = new ImageFloat32(width,height);
+
+		GImageMiscOps.fillUniform(original, rand, 0, 50);
+		IntegralImageOps.transform(original,integral);
+
+		int size = 9;
+
+		for( int skip = 1; skip <= 4; skip++ ) {
+			found.reshape(width/skip,height/skip);
+			expected.reshape(width/skip,height/skip);
+			ImplIntegralImageFeatureIntensity.hessianNaive(integral,skip,size,expected);
+			IntegralImageFeatureIntensity.hessian(integral,skip,size,found);
+
+			BoofTesting.assertEquals(expected,found, 1e-4f);
+		}
+	}
 }
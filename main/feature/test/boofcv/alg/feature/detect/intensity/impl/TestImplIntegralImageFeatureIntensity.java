@@ -21,7 +21,9 @@ package boofcv.alg.feature.detect.intensity.impl;
 import boofcv.alg.misc.GImageMiscOps;
 import boofcv.alg.transform.ii.IntegralImageOps;
 import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageFloat64;
 import boofcv.struct.image.ImageSInt32;
+import boofcv.struct.image.ImageSInt64;
 import boofcv.testing.BoofTesting;
 import org.junit.Test;
 
@@ -99,4 +101,65 @@ public class TestImplIntegralImageFeatureIntensity {
 		}
 	}
 
+	/**
+	 * Compares the inner() function against the output from the naive function.
+	 */
+	@Test
+	public void inner_F64() {
+		ImageFloat64 original = new ImageFloat64(width,height);
+		ImageFloat64 integral = new ImageFloat64(width,height);
+		ImageFloat32 found = new ImageFloat32(width,height);
+		ImageFloat32 expected = new ImageFloat32(width,height);
+
+		GImageMiscOps.fillUniform(original, rand, 0, 50);
+		IntegralImageOps.transform(original,integral);
+
+		int size = 9;
+		int r = size/2+1;
+		r++;
+		for( int skip = 1; skip <= 4; skip++ ) {
+			found.reshape(width/skip,height/skip);
+			expected.reshape(width/skip,height/skip);
+			ImplIntegralImageFeatureIntensity.hessianNaive(integral,skip,size,expected);
+			ImplIntegralImageFeatureIntensity.hessianInner(integral,skip,size,found);
+
+			int w = found.width;
+			int h = found.height;
+			ImageFloat32 f = found.subimage(r+1,r+1,w-r,h-r);
+			ImageFloat32 e = expected.subimage(r+1,r+1,w-r,h-r);
+
+			BoofTesting.assertEquals(e,f, 1e-4f);
+		}
+	}
+
+	/**
+	 * Compares the inner() function against the output from the naive function.
+	 */
+	@Test
+	public void inner_S64() {
+		ImageSInt64 original = new ImageSInt64(width,height);
+		ImageSInt64 integral = new ImageSInt64(width,height);
+		ImageFloat32 found = new ImageFloat32(width,height);
+		ImageFloat32 expected = new ImageFloat32(width,height);
+
+		GImageMiscOps.fillUniform(original, rand, 0, 50);
+		IntegralImageOps.transform(original,integral);
+
+		int size = 9;
+		int r = size/2+1;
+		r++;
+		for( int skip = 1; skip <= 4; skip++ ) {
+			found.reshape(width/skip,height/skip);
+			expected.reshape(width/skip,height/skip);
+			ImplIntegralImageFeatureIntensity.hessianNaive(integral,skip,size,expected);
+			ImplIntegralImageFeatureIntensity.hessianInner(integral,skip,size,found);
+
+			int w = found.width;
+			int h = found.height;
+			ImageFloat32 f = found.subimage(r+1,r+1,w-r,h-r);
+			ImageFloat32 e = expected.subimage(r+1,r+1,w-r,h-r);
+
+			BoofTesting.assertEquals(e,f, 1e-4f);
+		}
+	}
 }
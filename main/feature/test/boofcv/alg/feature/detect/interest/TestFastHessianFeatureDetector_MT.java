@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.interest;
+
+import boofcv.abst.feature.detect.extract.ConfigExtract;
+import boofcv.abst.feature.detect.extract.NonMaxSuppression;
+import boofcv.alg.filter.blur.BlurImageOps;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.alg.transform.ii.IntegralImageOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.factory.feature.detect.extract.FactoryFeatureExtractor;
+import boofcv.struct.feature.ScalePoint;
+import boofcv.struct.image.ImageFloat32;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestFastHessianFeatureDetector_MT extends GenericFeatureDetector {
+
+	int originalThreads;
+
+	public TestFastHessianFeatureDetector_MT() {
+		this.scaleTolerance = 0.3;
+	}
+
+	@Before
+	public void before() {
+		originalThreads = BoofConcurrency.getMaxThreads();
+		BoofConcurrency.setMaxThreads(3);
+	}
+
+	@After
+	public void after() {
+		BoofConcurrency.setMaxThreads(originalThreads);
+	}
+
+	/**
+	 * The same features should be found in the same order as the single threaded version
+	 */
+	@Test
+	public void compareToSingleThread() {
+		Random rand = new Random(234);
+		ImageFloat32 input = new ImageFloat32(200,170);
+		ImageMiscOps.fillUniform(input,rand,0,255);
+		ImageFloat32 blurred = BlurImageOps.gaussian(input,null,-1,2,null);
+		ImageFloat32 integral = IntegralImageOps.transform(blurred,null);
+
+		for( int maxFeatures : new int[]{-1,20} ) {
+			FastHessianFeatureDetector<ImageFloat32> expected = createDetector(maxFeatures,false);
+			FastHessianFeatureDetector<ImageFloat32> found = createDetector(maxFeatures,true);
+
+			// the second call should produce the same results
+			for( int trial = 0; trial < 2; trial++ ) {
+				expected.detect(integral);
+				found.detect(integral);
+
+				List<ScalePoint> listE = expected.getFoundPoints();
+				List<ScalePoint> listF = found.getFoundPoints();
+
+				assertTrue(listE.size() > 10);
+				assertEquals(listE.size(),listF.size());
+				for( int i = 0; i < listE.size(); i++ ) {
+					ScalePoint e = listE.get(i);
+					ScalePoint f = listF.get(i);
+					assertEquals(e.x,f.x,1e-8);
+					assertEquals(e.y,f.y,1e-8);
+					assertEquals(e.scale,f.scale,1e-8);
+				}
+			}
+		}
+	}
+
+	private FastHessianFeatureDetector<ImageFloat32> createDetector( int maxFeatures , boolean concurrent ) {
+		NonMaxSuppression extractor = FactoryFeatureExtractor.nonmax(new ConfigExtract(1, 1, 5, true));
+		if( concurrent )
+			return new FastHessianFeatureDetector_MT<ImageFloat32>(extractor,maxFeatures, 1, 9,4,4);
+		else
+			return new FastHessianFeatureDetector<ImageFloat32>(extractor,maxFeatures, 1, 9,4,4);
+	}
+
+	@Override
+	protected Object createDetector( int maxFeatures ) {
+		return createDetector(maxFeatures,true);
+	}
+
+	@SuppressWarnings({"unchecked"})
+	@Override
+	protected int detectFeature(ImageFloat32 input, Object detector) {
+		FastHessianFeatureDetector<ImageFloat32> alg = (FastHessianFeatureDetector<ImageFloat32>)detector;
+		ImageFloat32 integral = IntegralImageOps.transform(input,null);
+		alg.detect(integral);
+
+		return alg.getFoundPoints().size();
+	}
+}
@@ -19,13 +19,16 @@
 package boofcv.alg.feature.detect.interest;
 
 import boofcv.abst.feature.detect.interest.ConfigSiftDetector;
+import boofcv.alg.misc.ImageMiscOps;
 import boofcv.factory.feature.detect.interest.FactoryInterestPointAlgs;
 import boofcv.struct.feature.ScalePoint;
 import boofcv.struct.image.ImageFloat32;
 import org.junit.Test;
 
 import java.util.List;
+import java.util.Random;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -62,6 +65,43 @@ public class TestSiftDetector extends GenericFeatureDetector {
 	 * Makes sure the blob color flag is being set.  Doesn't check to see if it is being set correctly
 	 * since that is more difficult to implement
 	 */
+	/**
+	 * Processing each scale individually should produce the same results as processing them all at once
+	 */
+	@Test
+	public void processScale() {
+		ImageFloat32 input = new ImageFloat32(80,90);
+		ImageMiscOps.fillUniform(input,new Random(234),0,100);
+
+		ss.constructPyramid(input);
+		ss.computeFeatureIntensity();
+
+		SiftDetector expected = (SiftDetector)createDetector(-1);
+		SiftDetector found = (SiftDetector)createDetector(-1);
+
+		expected.process(ss);
+		found.getFoundPoints().reset();
+		for( int octave = 0; octave < ss.actualOctaves; octave++ ) {
+			for( int scale = 1; scale < ss.numScales-2; scale++ ) {
+				found.processScale(ss,octave,scale);
+			}
+		}
+
+		List<ScalePoint> listE = expected.getFoundPoints().toList();
+		List<ScalePoint> listF = found.getFoundPoints().toList();
+
+		assertTrue(listE.size() > 0);
+		assertEquals(listE.size(),listF.size());
+		for( int i = 0; i < listE.size(); i++ ) {
+			ScalePoint e = listE.get(i);
+			ScalePoint f = listF.get(i);
+			assertEquals(e.x,f.x,1e-8);
+			assertEquals(e.y,f.y,1e-8);
+			assertEquals(e.scale,f.scale,1e-8);
+			assertEquals(e.white,f.white);
+		}
+	}
+
 	@Test
 	public void checkWhiteBlack() {
 		ImageFloat32 input = new ImageFloat32(width,height);
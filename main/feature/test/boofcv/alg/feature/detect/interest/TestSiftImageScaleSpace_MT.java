@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.feature.detect.interest;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.testing.BoofTesting;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Compares the results against {@link SiftImageScaleSpace}
+ *
+ * @author Peter Abeles
+ */
+public class TestSiftImageScaleSpace_MT {
+
+	Random rand = new Random(234);
+
+	int originalThreads;
+
+	@Before
+	public void before() {
+		originalThreads = BoofConcurrency.getMaxThreads();
+		BoofConcurrency.setMaxThreads(3);
+	}
+
+	@After
+	public void after() {
+		BoofConcurrency.setMaxThreads(originalThreads);
+	}
+
+	@Test
+	public void compare() {
+		for( boolean doubleInput : new boolean[]{false,true} ) {
+			SiftImageScaleSpace expected = new SiftImageScaleSpace(1.6f, 5, 4, doubleInput);
+			SiftImageScaleSpace found = new SiftImageScaleSpace_MT(1.6f, 5, 4, doubleInput);
+
+			// the second image is smaller so that not all the octaves are used
+			for( int size : new int[]{80,12} ) {
+				ImageFloat32 input = new ImageFloat32(size,size+7);
+				ImageMiscOps.fillUniform(input, rand, 0, 100);
+
+				for( SiftImageScaleSpace ss : new SiftImageScaleSpace[]{expected,found}) {
+					ss.constructPyramid(input);
+					ss.computeFeatureIntensity();
+					ss.computeDerivatives();
+				}
+
+				assertEquals(expected.actualOctaves,found.actualOctaves);
+
+				int numLayers = expected.actualOctaves*expected.numScales;
+				for( int i = 0; i < numLayers; i++ ) {
+					BoofTesting.assertEquals(expected.scale[i],found.scale[i],1e-6);
+					BoofTesting.assertEquals(expected.derivX[i],found.derivX[i],1e-6);
+					BoofTesting.assertEquals(expected.derivY[i],found.derivY[i],1e-6);
+				}
+				int numDog = expected.actualOctaves*(expected.numScales-1);
+				for( int i = 0; i < numDog; i++ ) {
+					BoofTesting.assertEquals(expected.dog[i],found.dog[i],1e-6);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.struct.feature;
+
+import boofcv.struct.FastQueue;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestPackedTupleArray_B {
+
+	Random rand = new Random(234);
+
+	@Test
+	public void constructor() {
+		assertEquals(1,new PackedTupleArray_B(40).numWords);
+		assertEquals(1,new PackedTupleArray_B(64).numWords);
+		assertEquals(2,new PackedTupleArray_B(65).numWords);
+		assertEquals(8,new PackedTupleArray_B(512).numWords);
+	}
+
+	@Test
+	public void add_get() {
+		for( int numBits : new int[]{40,64,100,512} ) {
+			PackedTupleArray_B alg = new PackedTupleArray_B(numBits,2);
+
+			TupleDesc_B list[] = new TupleDesc_B[25];
+			for( int i = 0; i < list.length; i++ ) {
+				list[i] = createRandom(numBits);
+				alg.add(list[i]);
+			}
+			assertEquals(list.length,alg.size());
+
+			TupleDesc_B found = new TupleDesc_B(numBits);
+			for( int i = 0; i < list.length; i++ ) {
+				alg.get(i,found);
+				for( int j = 0; j < found.data.length; j++ )
+					assertEquals(list[i].data[j],found.data[j]);
+			}
+		}
+	}
+
+	@Test
+	public void setTo() {
+		FastQueue<TupleDesc_B> list = new FastQueue<TupleDesc_B>(TupleDesc_B.class,false);
+		for( int i = 0; i < 20; i++ ) {
+			list.add(createRandom(100));
+		}
+
+		PackedTupleArray_B alg = new PackedTupleArray_B(100,2);
+		alg.add(createRandom(100));
+		alg.setTo(list);
+
+		assertEquals(20,alg.size());
+		TupleDesc_B found = new TupleDesc_B(100);
+		for( int i = 0; i < list.size; i++ ) {
+			alg.get(i,found);
+			for( int j = 0; j < found.data.length; j++ )
+				assertEquals(list.get(i).data[j],found.data[j]);
+		}
+	}
+
+	@Test
+	public void isBitTrue() {
+		int N = 100;
+		PackedTupleArray_B alg = new PackedTupleArray_B(N);
+
+		TupleDesc_B a = createRandom(N);
+		TupleDesc_B b = createRandom(N);
+		alg.add(a);
+		alg.add(b);
+
+		for( int i = 0; i < N; i++ ) {
+			assertEquals(a.isBitTrue(i),alg.isBitTrue(0,i));
+			assertEquals(b.isBitTrue(i),alg.isBitTrue(1,i));
+		}
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void set_wrongNumberOfBits() {
+		PackedTupleArray_B alg = new PackedTupleArray_B(100);
+		alg.add(new TupleDesc_B(90));
+	}
+
+	private TupleDesc_B createRandom( int numBits ) {
+		TupleDesc_B ret = new TupleDesc_B(numBits);
+		for( int i = 0; i < numBits; i++ ) {
+			if( rand.nextBoolean() )
+				ret.data[i/32] |= 1 << (i%32);
+		}
+		return ret;
+	}
+}
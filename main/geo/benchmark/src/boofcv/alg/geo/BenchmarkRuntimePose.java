@@ -20,101 +20,78 @@ package boofcv.alg.geo;
 
 import boofcv.abst.geo.Estimate1ofPnP;
 import boofcv.alg.geo.pose.PnPLepetitEPnP;
-import boofcv.alg.geo.pose.PoseFromPairLinear6;
 import boofcv.factory.geo.EnumPNP;
 import boofcv.factory.geo.FactoryMultiView;
-import boofcv.misc.PerformerBase;
-import boofcv.misc.ProfileOperation;
 import boofcv.struct.geo.Point2D3D;
+import com.google.caliper.Runner;
+import com.google.caliper.SimpleBenchmark;
 import georegression.struct.se.Se3_F64;
 
 import java.util.ArrayList;
 import java.util.List;
 
 /**
+ * Benchmark for estimating camera pose from 2D-3D point correspondences.
+ *
  * @author Peter Abeles
  */
-public class BenchmarkRuntimePose extends ArtificialStereoScene {
-	static final long TEST_TIME = 1000;
+@SuppressWarnings({"UnusedDeclaration"})
+public class BenchmarkRuntimePose extends SimpleBenchmark {
 	static final int NUM_POINTS = 5;
 	static final boolean FUNDAMENTAL = false;
 
-	Se3_F64 found = new Se3_F64();
-
-	public class EPnP extends PerformerBase {
-
-		PnPLepetitEPnP alg;
+	ArtificialStereoScene scene = new ArtificialStereoScene();
 
-		public EPnP( int numIterations ) {
-			alg = new PnPLepetitEPnP();
-			alg.setNumIterations(numIterations);
-		}
-
-		@Override
-		public void process() {
-			alg.process(worldPoints,observationCurrent,found);
-		}
-	}
-
-	public class InterfacePNP extends PerformerBase {
+	Se3_F64 found = new Se3_F64();
 
-		Estimate1ofPnP alg;
-		String name;
+	PnPLepetitEPnP epnp0;
+	PnPLepetitEPnP epnp5;
+	Estimate1ofPnP grunert;
+	Estimate1ofPnP finster;
 
-		List<Point2D3D> obs = new ArrayList<Point2D3D>();
+	List<Point2D3D> obsP3P = new ArrayList<Point2D3D>();
 
-		public InterfacePNP(String name , Estimate1ofPnP alg) {
-			this.alg = alg;
-			this.name = name;
+	@Override protected void setUp() throws Exception {
+		scene.init(NUM_POINTS, FUNDAMENTAL, false);
 
-			for( int i = 0; i < alg.getMinimumPoints(); i++ )
-				obs.add(observationPose.get(i));
-		}
+		epnp0 = new PnPLepetitEPnP();
+		epnp0.setNumIterations(0);
+		epnp5 = new PnPLepetitEPnP();
+		epnp5.setNumIterations(5);
 
-		@Override
-		public void process() {
-			alg.process(obs,found);
-		}
+		grunert = FactoryMultiView.computePnP_1(EnumPNP.P3P_GRUNERT,-1,1);
+		finster = FactoryMultiView.computePnP_1(EnumPNP.P3P_FINSTERWALDER,-1,1);
 
-		@Override
-		public String getName() {
-			return name;
-		}
+		obsP3P.clear();
+		for( int i = 0; i < grunert.getMinimumPoints(); i++ )
+			obsP3P.add(scene.observationPose.get(i));
 	}
 
-
-	public class PairLinear extends PerformerBase {
-
-		PoseFromPairLinear6 alg = new PoseFromPairLinear6();
-
-		@Override
-		public void process() {
-			alg.process(pairs,worldPoints);
-		}
+	public double timeEPnP_0(int reps) {
+		for( int i = 0; i < reps; i++ )
+			epnp0.process(scene.worldPoints,scene.observationCurrent,found);
+		return found.getT().x;
 	}
-	
-	public void runAll() {
-		System.out.println("=========  Profile numFeatures "+NUM_POINTS);
-		System.out.println();
-
-		init(NUM_POINTS, FUNDAMENTAL, false);
 
-		Estimate1ofPnP grunert = FactoryMultiView.computePnP_1(EnumPNP.P3P_GRUNERT,-1,1);
-		Estimate1ofPnP finster = FactoryMultiView.computePnP_1(EnumPNP.P3P_FINSTERWALDER,-1,1);
+	public double timeEPnP_5(int reps) {
+		for( int i = 0; i < reps; i++ )
+			epnp5.process(scene.worldPoints,scene.observationCurrent,found);
+		return found.getT().x;
+	}
 
-		ProfileOperation.printOpsPerSec(new EPnP(0), TEST_TIME);
-		ProfileOperation.printOpsPerSec(new EPnP(5), TEST_TIME);
-//		ProfileOperation.printOpsPerSec(new PairLinear(), TEST_TIME);
-		ProfileOperation.printOpsPerSec(new InterfacePNP("grunert",grunert), TEST_TIME);
-		ProfileOperation.printOpsPerSec(new InterfacePNP("finster",finster), TEST_TIME);
+	public double timeGrunert(int reps) {
+		for( int i = 0; i < reps; i++ )
+			grunert.process(obsP3P,found);
+		return found.getT().x;
+	}
 
-		System.out.println();
-		System.out.println("Done");
+	public double timeFinsterwalder(int reps) {
+		for( int i = 0; i < reps; i++ )
+			finster.process(obsP3P,found);
+		return found.getT().x;
 	}
-	
-	public static void main( String args[] ) {
-		BenchmarkRuntimePose alg = new BenchmarkRuntimePose();
 
-		alg.runAll();
+	public static void main( String args[] ) {
+		Runner.main(BenchmarkRuntimePose.class, args);
 	}
 }
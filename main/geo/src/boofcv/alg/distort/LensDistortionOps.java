@@ -217,7 +217,7 @@ public class LensDistortionOps {
 	}
 
 	/**
-	 * Creates an {@Link ImageDistort} which removes radial distortion.
+	 * Creates an {@Link ImageDistort} which removes radial distortion.  Uses cached bilinear interpolation.
 	 *
 	 * @param param Intrinsic camera parameters
 	 * @param imageType Type of single band image being processed
@@ -227,11 +227,33 @@ public class LensDistortionOps {
 	removeRadialImage(IntrinsicParameters param,
 					  Class<T> imageType)
 	{
-		InterpolatePixel<T> interp = FactoryInterpolation.bilinearPixel(imageType);
+		return removeRadialImage(param, imageType, false);
+	}
+
+	/**
+	 * Creates an {@Link ImageDistort} which removes radial distortion.
+	 *
+	 * @param param Intrinsic camera parameters
+	 * @param imageType Type of single band image being processed
+	 * @param useRemap If true then {@link FactoryDistort#distortRemap} is used, which uses less memory but
+	 *                 quantizes the sub-pixel location to 1/256 of a pixel and only supports some image types.
+	 *                 If false then cached bilinear interpolation is used.
+	 * @return Image distort that removes radial distortion
+	 */
+	public static <T extends ImageSingleBand> ImageDistort<T>
+	removeRadialImage(IntrinsicParameters param,
+					  Class<T> imageType , boolean useRemap )
+	{
 		ImageBorder<T> border = FactoryImageBorder.general(imageType, BorderType.EXTENDED);
 
 		// only compute the transform once
-		ImageDistort<T> ret = FactoryDistort.distortCached(interp, border, imageType);
+		ImageDistort<T> ret;
+		if( useRemap ) {
+			ret = FactoryDistort.distortRemap(border, imageType);
+		} else {
+			InterpolatePixel<T> interp = FactoryInterpolation.bilinearPixel(imageType);
+			ret = FactoryDistort.distortCached(interp, border, imageType);
+		}
 
 		PointTransform_F32 transform = transformPixelToRadial_F32(param);
 
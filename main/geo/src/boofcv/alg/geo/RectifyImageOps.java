@@ -475,10 +475,33 @@ public class RectifyImageOps {
 	rectifyImage(IntrinsicParameters param,
 				 DenseMatrix64F rectify , Class<T> imageType)
 	{
-		InterpolatePixel<T> interp = FactoryInterpolation.bilinearPixel(imageType);
+		return rectifyImage(param,rectify,imageType,false);
+	}
 
+	/**
+	 * Creates an {@link ImageDistort} for rectifying an image given its radial distortion and
+	 * rectification matrix.
+	 *
+	 * @param param Intrinsic parameters.
+	 * @param rectify Transform for rectifying the image.
+	 * @param imageType Type of single band image the transform is to be applied to.
+	 * @param useRemap If true then {@link FactoryDistort#distortRemap} is used, which uses less memory but
+	 *                 quantizes the sub-pixel location to 1/256 of a pixel and only supports some image types.
+	 *                 If false then cached bilinear interpolation is used.
+	 * @return ImageDistort for rectifying the image.
+	 */
+	public static <T extends ImageSingleBand> ImageDistort<T>
+	rectifyImage(IntrinsicParameters param,
+				 DenseMatrix64F rectify , Class<T> imageType , boolean useRemap )
+	{
 		// only compute the transform once
-		ImageDistort<T> ret = FactoryDistort.distortCached(interp,null,imageType);
+		ImageDistort<T> ret;
+		if( useRemap ) {
+			ret = FactoryDistort.distortRemap(null,imageType);
+		} else {
+			InterpolatePixel<T> interp = FactoryInterpolation.bilinearPixel(imageType);
+			ret = FactoryDistort.distortCached(interp,null,imageType);
+		}
 
 		PointTransform_F32 transform = transformRectToPixel_F32(param, rectify);
 
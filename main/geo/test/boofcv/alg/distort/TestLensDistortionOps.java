@@ -19,6 +19,13 @@
 package boofcv.alg.distort;
 
 import boofcv.alg.geo.PerspectiveOps;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.core.image.border.BorderType;
+import boofcv.core.image.border.FactoryImageBorder;
+import boofcv.factory.distort.FactoryDistort;
+import boofcv.factory.interpolate.FactoryInterpolation;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.testing.BoofTesting;
 import boofcv.struct.calib.IntrinsicParameters;
 import boofcv.struct.distort.PointTransform_F32;
 import boofcv.struct.distort.PointTransform_F64;
@@ -31,7 +38,10 @@ import org.ejml.data.DenseMatrix64F;
 import org.ejml.ops.CommonOps;
 import org.junit.Test;
 
+import java.util.Random;
+
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -253,6 +263,35 @@ public class TestLensDistortionOps {
 		assertEquals((float)pixelD.y,found.y,1e-4f);
 	}
 
+	/**
+	 * By default the distortion should be cached bilinear interpolation
+	 */
+	@Test
+	public void removeRadialImage_default() {
+		IntrinsicParameters param = new IntrinsicParameters(300,320,0,150,130,
+				width,height, false, new double[]{0.1,1e-4});
+
+		ImageFloat32 input = new ImageFloat32(width,height);
+		ImageMiscOps.fillUniform(input,new Random(234),0,100);
+
+		ImageDistort<ImageFloat32> expected = FactoryDistort.distortCached(
+				FactoryInterpolation.bilinearPixel(ImageFloat32.class),
+				FactoryImageBorder.general(ImageFloat32.class, BorderType.EXTENDED),ImageFloat32.class);
+		expected.setModel(new PointToPixelTransform_F32(LensDistortionOps.transformPixelToRadial_F32(param)));
+		ImageFloat32 outputExpected = new ImageFloat32(width,height);
+		expected.apply(input,outputExpected);
+
+		ImageDistort<ImageFloat32> alg = LensDistortionOps.removeRadialImage(param,ImageFloat32.class);
+		assertFalse(alg instanceof ImageDistortRemap);
+		ImageFloat32 output = new ImageFloat32(width,height);
+		alg.apply(input,output);
+
+		BoofTesting.assertEquals(outputExpected,output,0);
+
+		// the remap table can be selected
+		assertTrue(LensDistortionOps.removeRadialImage(param,ImageFloat32.class,true) instanceof ImageDistortRemap);
+	}
+
 	@Test
 	public void boundBoxInside() {
 		// basic sanity check
@@ -18,10 +18,18 @@
 
 package boofcv.alg.geo;
 
+import boofcv.alg.distort.ImageDistort;
+import boofcv.alg.distort.ImageDistortRemap;
+import boofcv.alg.distort.PointToPixelTransform_F32;
 import boofcv.alg.distort.PointTransformHomography_F32;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.factory.distort.FactoryDistort;
+import boofcv.factory.interpolate.FactoryInterpolation;
 import boofcv.struct.calib.IntrinsicParameters;
 import boofcv.struct.distort.PointTransform_F32;
 import boofcv.struct.distort.PointTransform_F64;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.testing.BoofTesting;
 import georegression.geometry.GeometryMath_F64;
 import georegression.struct.point.Point2D_F32;
 import georegression.struct.point.Point2D_F64;
@@ -29,7 +37,10 @@ import org.ejml.data.DenseMatrix64F;
 import org.ejml.ops.CommonOps;
 import org.junit.Test;
 
+import java.util.Random;
+
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -145,6 +156,35 @@ public class TestRectifyImageOps {
 		// the right view is not checked since it is not part of the contract
 	}
 
+	/**
+	 * By default the distortion should be cached bilinear interpolation
+	 */
+	@Test
+	public void rectifyImage_default() {
+		IntrinsicParameters param =
+				new IntrinsicParameters(300,320,0,150,130,width,height, false, new double[]{0.1,1e-4});
+		DenseMatrix64F rect = new DenseMatrix64F(3,3,true,1.1,0,0,0,1.05,0,0.0001,0,1);
+
+		ImageFloat32 input = new ImageFloat32(width,height);
+		ImageMiscOps.fillUniform(input,new Random(234),0,100);
+
+		ImageDistort<ImageFloat32> expected = FactoryDistort.distortCached(
+				FactoryInterpolation.bilinearPixel(ImageFloat32.class),null,ImageFloat32.class);
+		expected.setModel(new PointToPixelTransform_F32(RectifyImageOps.transformRectToPixel_F32(param, rect)));
+		ImageFloat32 outputExpected = new ImageFloat32(width,height);
+		expected.apply(input,outputExpected);
+
+		ImageDistort<ImageFloat32> alg = RectifyImageOps.rectifyImage(param,rect,ImageFloat32.class);
+		assertFalse(alg instanceof ImageDistortRemap);
+		ImageFloat32 output = new ImageFloat32(width,height);
+		alg.apply(input,output);
+
+		BoofTesting.assertEquals(outputExpected,output,0);
+
+		// the remap table can be selected
+		assertTrue(RectifyImageOps.rectifyImage(param,rect,ImageFloat32.class,true) instanceof ImageDistortRemap);
+	}
+
 	/**
 	 * Transforms and then performs the inverse transform to distorted rectified pixel
 	 */
@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.io.image;
+
+import boofcv.struct.image.*;
+import boofcv.struct.tile.TileStore;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * <p>
+ * {@link TileStore} for a raw image file which is memory mapped.  Pixels are stored in the file row by row
+ * without a header or padding.  Since the file is memory mapped the operating system decides which parts are
+ * kept in memory and the image can be much larger than the heap.
+ * </p>
+ *
+ * <p>
+ * A single mapping is limited to 2GB, so the file is mapped in several chunks, each of which contains a
+ * set of complete rows.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class MappedFileTileStore<T extends ImageSingleBand> implements TileStore<T> {
+
+	// default maximum number of bytes in each mapped chunk
+	public static final long DEFAULT_CHUNK_BYTES = 1L << 30;
+
+	Class<T> imageType;
+	int width;
+	int height;
+	ByteOrder order;
+
+	// number of bytes in a pixel and a row
+	int pixelBytes;
+	long rowBytes;
+
+	// memory mapped chunks of the file
+	MappedByteBuffer chunks[];
+	// number of rows in each chunk
+	int chunkRows;
+
+	/**
+	 * Opens an existing file with little endian pixels.  See
+	 * {@link #MappedFileTileStore(java.io.File, Class, int, int, java.nio.ByteOrder, boolean, long)}.
+	 */
+	public MappedFileTileStore( File file , Class<T> imageType , int width , int height , boolean writable )
+			throws IOException
+	{
+		this(file,imageType,width,height,ByteOrder.LITTLE_ENDIAN,writable,DEFAULT_CHUNK_BYTES);
+	}
+
+	/**
+	 * Opens an existing file.
+	 *
+	 * @param file Raw image file.
+	 * @param imageType Type of image the file contains.
+	 * @param width Image width.
+	 * @param height Image height.
+	 * @param order Byte order of each pixel in the file.
+	 * @param writable If true the file can be modified.
+	 * @param maxChunkBytes Maximum number of bytes in each mapping.  Must be large enough to hold one row.
+	 */
+	public MappedFileTileStore( File file , Class<T> imageType , int width , int height ,
+								ByteOrder order , boolean writable , long maxChunkBytes )
+			throws IOException
+	{
+		this.imageType = imageType;
+		this.width = width;
+		this.height = height;
+		this.order = order;
+
+		pixelBytes = ImageTypeInfo.classToType(imageType).getNumBits()/8;
+		rowBytes = (long)width*pixelBytes;
+
+		if( rowBytes > maxChunkBytes || maxChunkBytes > Integer.MAX_VALUE )
+			throw new IllegalArgumentException("maxChunkBytes must be at least one row and at most 2GB");
+		if( file.length() < rowBytes*height )
+			throw new IllegalArgumentException("File is too small for an image of this shape");
+
+		chunkRows = (int)Math.max(1,maxChunkBytes/rowBytes);
+		int numChunks = (height + chunkRows - 1)/chunkRows;
+		chunks = new MappedByteBuffer[numChunks];
+
+		RandomAccessFile raf = new RandomAccessFile(file,writable ? "rw" : "r");
+		try {
+			FileChannel channel = raf.getChannel();
+			FileChannel.MapMode mode = writable ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY;
+			for( int i = 0; i < numChunks; i++ ) {
+				int rows = Math.min(chunkRows,height - i*chunkRows);
+				chunks[i] = channel.map(mode,i*chunkRows*rowBytes,rows*rowBytes);
+			}
+		} finally {
+			// the mappings remain valid after the file has been closed
+			raf.close();
+		}
+	}
+
+	/**
+	 * Creates a new raw image file with every pixel set to zero and opens it for writing.
+	 *
+	 * @param file Raw image file which is created.  If it already exists it is overwritten.
+	 * @param imageType Type of image the file contains.
+	 * @param width Image width.
+	 * @param height Image height.
+	 */
+	public static <T extends ImageSingleBand> MappedFileTileStore<T>
+	create( File file , Class<T> imageType , int width , int height ) throws IOException {
+		long length = (long)width*height*(ImageTypeInfo.classToType(imageType).getNumBits()/8);
+
+		RandomAccessFile raf = new RandomAccessFile(file,"rw");
+		try {
+			raf.setLength(0);
+			raf.setLength(length);
+		} finally {
+			raf.close();
+		}
+
+		return new MappedFileTileStore<T>(file,imageType,width,height,true);
+	}
+
+	@Override
+	public int getWidth() {
+		return width;
+	}
+
+	@Override
+	public int getHeight() {
+		return height;
+	}
+
+	@Override
+	public Class<T> getImageType() {
+		return imageType;
+	}
+
+	@Override
+	public void read(int x0, int y0, T output) {
+		checkRegion(x0,y0,output);
+
+		for( int y = 0; y < output.height; y++ ) {
+			ByteBuffer row = row(x0,y0+y);
+			int index = output.startIndex + y*output.stride;
+
+			if( output instanceof ImageInt8 ) {
+				row.get(((ImageInt8)output).data,index,output.width);
+			} else if( output instanceof ImageInt16 ) {
+				row.asShortBuffer().get(((ImageInt16)output).data,index,output.width);
+			} else if( output instanceof ImageSInt32 ) {
+				row.asIntBuffer().get(((ImageSInt32)output).data,index,output.width);
+			} else if( output instanceof ImageSInt64 ) {
+				row.asLongBuffer().get(((ImageSInt64)output).data,index,output.width);
+			} else if( output instanceof ImageFloat32 ) {
+				row.asFloatBuffer().get(((ImageFloat32)output).data,index,output.width);
+			} else if( output instanceof ImageFloat64 ) {
+				row.asDoubleBuffer().get(((ImageFloat64)output).data,index,output.width);
+			} else {
+				throw new IllegalArgumentException("Unsupported image type "+output.getClass().getSimpleName());
+			}
+		}
+	}
+
+	@Override
+	public void write(int x0, int y0, T input) {
+		checkRegion(x0,y0,input);
+
+		for( int y = 0; y < input.height; y++ ) {
+			ByteBuffer row = row(x0,y0+y);
+			int index = input.startIndex + y*input.stride;
+
+			if( input instanceof ImageInt8 ) {
+				row.put(((ImageInt8)input).data,index,input.width);
+			} else if( input instanceof ImageInt16 ) {
+				row.asShortBuffer().put(((ImageInt16)input).data,index,input.width);
+			} else if( input instanceof ImageSInt32 ) {
+				row.asIntBuffer().put(((ImageSInt32)input).data,index,input.width);
+			} else if( input instanceof ImageSInt64 ) {
+				row.asLongBuffer().put(((ImageSInt64)input).data,index,input.width);
+			} else if( input instanceof ImageFloat32 ) {
+				row.asFloatBuffer().put(((ImageFloat32)input).data,index,input.width);
+			} else if( input instanceof ImageFloat64 ) {
+				row.asDoubleBuffer().put(((ImageFloat64)input).data,index,input.width);
+			} else {
+				throw new IllegalArgumentException("Unsupported image type "+input.getClass().getSimpleName());
+			}
+		}
+	}
+
+	/**
+	 * Writes any changes back to the file.
+	 */
+	public void flush() {
+		for( MappedByteBuffer chunk : chunks )
+			chunk.force();
+	}
+
+	/**
+	 * Returns a buffer which starts at the specified pixel.  A new buffer is created so that threads don't
+	 * modify each other's position.
+	 */
+	private ByteBuffer row( int x , int y ) {
+		ByteBuffer chunk = chunks[y/chunkRows].duplicate();
+		chunk.order(order);
+		chunk.position((int)((y % chunkRows)*rowBytes) + x*pixelBytes);
+		return chunk;
+	}
+
+	private void checkRegion( int x0 , int y0 , ImageSingleBand image ) {
+		if( x0 < 0 || y0 < 0 || x0+image.width > width || y0+image.height > height )
+			throw new IllegalArgumentException("Region is outside the image");
+	}
+
+	public ByteOrder getOrder() {
+		return order;
+	}
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.io.image;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.struct.image.*;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteOrder;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestMappedFileTileStore {
+
+	Random rand = new Random(234);
+
+	int width = 30;
+	int height = 25;
+
+	Class types[] = new Class[]{ImageUInt8.class,ImageSInt16.class,ImageSInt32.class,
+			ImageSInt64.class,ImageFloat32.class,ImageFloat64.class};
+
+	@Test
+	public void write_read() throws IOException {
+		for( Class type : types ) {
+			File file = File.createTempFile("tiles",".raw");
+			try {
+				MappedFileTileStore alg = MappedFileTileStore.create(file,type,width,height);
+				checkWriteRead(alg,type);
+			} finally {
+				file.delete();
+			}
+		}
+	}
+
+	/**
+	 * Force the file to be split into several mapped chunks
+	 */
+	@Test
+	public void write_read_chunks() throws IOException {
+		File file = File.createTempFile("tiles",".raw");
+		try {
+			MappedFileTileStore.create(file,ImageFloat32.class,width,height);
+			MappedFileTileStore<ImageFloat32> alg = new MappedFileTileStore<ImageFloat32>(
+					file,ImageFloat32.class,width,height,ByteOrder.BIG_ENDIAN,true,width*4*3+5);
+			assertEquals(9,alg.chunks.length);
+
+			checkWriteRead(alg,ImageFloat32.class);
+		} finally {
+			file.delete();
+		}
+	}
+
+	/**
+	 * Make sure the pixels are written in the expected format
+	 */
+	@Test
+	public void fileFormat() throws IOException {
+		File file = File.createTempFile("tiles",".raw");
+		try {
+			MappedFileTileStore<ImageSInt16> alg = MappedFileTileStore.create(file,ImageSInt16.class,width,height);
+			ImageSInt16 region = new ImageSInt16(1,1);
+			region.set(0,0,0x1234);
+			alg.write(3,2,region);
+			alg.flush();
+
+			RandomAccessFile raf = new RandomAccessFile(file,"r");
+			try {
+				assertEquals(width*height*2,raf.length());
+				raf.seek((2*width+3)*2);
+				assertEquals(0x34,raf.read());
+				assertEquals(0x12,raf.read());
+			} finally {
+				raf.close();
+			}
+		} finally {
+			file.delete();
+		}
+	}
+
+	private void checkWriteRead( MappedFileTileStore alg , Class type ) {
+		ImageSingleBand image = GeneralizedImageOps.createSingleBand(type,width,height);
+		GImageMiscOps.fillUniform(image,rand,0,100);
+
+		// write it in overlapping regions, some of which are sub-images
+		alg.write(0,0,image.subimage(0,0,20,15));
+		alg.write(10,5,image.subimage(10,5,width,height));
+		alg.write(0,15,image.subimage(0,15,10,height));
+		alg.write(20,0,image.subimage(20,0,width,5));
+
+		ImageSingleBand found = GeneralizedImageOps.createSingleBand(type,width,height);
+		alg.read(0,0,found);
+		BoofTesting.assertEquals(image,found,0);
+
+		ImageSingleBand region = GeneralizedImageOps.createSingleBand(type,width+2,height+2).subimage(1,1,8,11);
+		alg.read(5,9,region);
+		BoofTesting.assertEquals(image.subimage(5,9,12,19),region,0);
+	}
+}
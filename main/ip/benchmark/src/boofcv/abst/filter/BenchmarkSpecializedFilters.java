@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.abst.filter;
+
+import boofcv.abst.filter.convolve.ConvolveInterface;
+import boofcv.abst.filter.convolve.GenericConvolve;
+import boofcv.abst.filter.derivative.ImageGradient;
+import boofcv.abst.filter.derivative.ImageGradient_Reflection;
+import boofcv.alg.filter.binary.BinaryImageOps;
+import boofcv.alg.filter.convolve.ConvolveWithBorder;
+import boofcv.alg.filter.derivative.GradientSobel;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.core.image.border.BorderType;
+import boofcv.core.image.border.ImageBorder_F32;
+import boofcv.factory.filter.binary.FactoryBinaryImageOps;
+import boofcv.factory.filter.convolve.FactoryConvolve;
+import boofcv.factory.filter.derivative.FactoryDerivative;
+import boofcv.factory.filter.kernel.FactoryKernelGaussian;
+import boofcv.misc.PerformerBase;
+import boofcv.misc.ProfileOperation;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageUInt8;
+
+import java.lang.reflect.Method;
+import java.util.Random;
+
+/**
+ * Compares filters which invoke the image processing function using reflection against the specialized
+ * implementations returned by the factories.  The difference is most noticeable on small images, e.g. the
+ * upper layers of an image pyramid, where the per call overhead isn't hidden by the cost of processing the image.
+ *
+ * @author Peter Abeles
+ */
+@SuppressWarnings({"unchecked"})
+public class BenchmarkSpecializedFilters {
+	static long TEST_TIME = 1000;
+
+	static ImageFloat32 input_F32;
+	static ImageFloat32 outA_F32;
+	static ImageFloat32 outB_F32;
+	static ImageUInt8 input_U8;
+	static ImageUInt8 out_U8;
+
+	static Kernel1D_F32 kernel = FactoryKernelGaussian.gaussian(Kernel1D_F32.class,-1,2);
+
+	public static class Sobel extends PerformerBase {
+		String name;
+		ImageGradient<ImageFloat32,ImageFloat32> alg;
+
+		public Sobel( String name , ImageGradient<ImageFloat32,ImageFloat32> alg ) {
+			this.name = name;
+			this.alg = alg;
+		}
+
+		@Override
+		public String getName() {
+			return name;
+		}
+
+		@Override
+		public void process() {
+			alg.process(input_F32,outA_F32,outB_F32);
+		}
+	}
+
+	public static class Convolve extends PerformerBase {
+		String name;
+		ConvolveInterface<ImageFloat32,ImageFloat32> alg;
+
+		public Convolve( String name , ConvolveInterface<ImageFloat32,ImageFloat32> alg ) {
+			this.name = name;
+			this.alg = alg;
+		}
+
+		@Override
+		public String getName() {
+			return name;
+		}
+
+		@Override
+		public void process() {
+			alg.process(input_F32,outA_F32);
+		}
+	}
+
+	public static class Binary extends PerformerBase {
+		String name;
+		FilterImageInterface<ImageUInt8,ImageUInt8> alg;
+
+		public Binary( String name , FilterImageInterface<ImageUInt8,ImageUInt8> alg ) {
+			this.name = name;
+			this.alg = alg;
+		}
+
+		@Override
+		public String getName() {
+			return name;
+		}
+
+		@Override
+		public void process() {
+			alg.process(input_U8,out_U8);
+		}
+	}
+
+	public static void profile( int width , int height ) throws NoSuchMethodException {
+		Random rand = new Random(234);
+		input_F32 = new ImageFloat32(width,height);
+		outA_F32 = new ImageFloat32(width,height);
+		outB_F32 = new ImageFloat32(width,height);
+		input_U8 = new ImageUInt8(width,height);
+		out_U8 = new ImageUInt8(width,height);
+		ImageMiscOps.fillUniform(input_F32,rand,0,100);
+		ImageMiscOps.fillUniform(input_U8,rand,0,2);
+
+		Method sobel = GradientSobel.class.getMethod("process",ImageFloat32.class,ImageFloat32.class,
+				ImageFloat32.class,ImageBorder_F32.class);
+		Method convolve = ConvolveWithBorder.class.getMethod("horizontal",Kernel1D_F32.class,ImageFloat32.class,
+				ImageFloat32.class,ImageBorder_F32.class);
+
+		System.out.println("=========  Profile Image Size "+width+" x "+height+" ==========");
+		System.out.println();
+
+		ProfileOperation.printOpsPerSec(new Sobel("Sobel Reflection",new ImageGradient_Reflection<ImageFloat32,ImageFloat32>(sobel)),TEST_TIME);
+		ProfileOperation.printOpsPerSec(new Sobel("Sobel Specialized",FactoryDerivative.sobel(ImageFloat32.class,ImageFloat32.class)),TEST_TIME);
+		ProfileOperation.printOpsPerSec(new Convolve("Convolve Reflection",new GenericConvolve(convolve,kernel,BorderType.EXTENDED,ImageFloat32.class)),TEST_TIME);
+		ProfileOperation.printOpsPerSec(new Convolve("Convolve Specialized",FactoryConvolve.convolve(kernel,ImageFloat32.class,ImageFloat32.class,BorderType.EXTENDED,true,false)),TEST_TIME);
+		ProfileOperation.printOpsPerSec(new Binary("Erode4 Reflection",new FilterImageReflection<ImageUInt8,ImageUInt8>(BinaryImageOps.class,"erode4",0,0,ImageUInt8.class,ImageUInt8.class)),TEST_TIME);
+		ProfileOperation.printOpsPerSec(new Binary("Erode4 Specialized",FactoryBinaryImageOps.erode4()),TEST_TIME);
+		System.out.println();
+	}
+
+	public static void main( String args[] ) throws NoSuchMethodException {
+		profile(32,24);
+		profile(640,480);
+	}
+}
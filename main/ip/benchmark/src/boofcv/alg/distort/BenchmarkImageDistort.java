@@ -19,116 +19,109 @@
 package boofcv.alg.distort;
 
 import boofcv.alg.interpolate.InterpolatePixel;
+import boofcv.alg.misc.GImageMiscOps;
 import boofcv.core.image.GeneralizedImageOps;
 import boofcv.core.image.border.BorderType;
 import boofcv.core.image.border.FactoryImageBorder;
 import boofcv.core.image.border.ImageBorder;
 import boofcv.factory.distort.FactoryDistort;
 import boofcv.factory.interpolate.FactoryInterpolation;
-import boofcv.misc.PerformerBase;
-import boofcv.misc.ProfileOperation;
 import boofcv.struct.distort.PixelTransform_F32;
 import boofcv.struct.image.ImageFloat32;
 import boofcv.struct.image.ImageSingleBand;
+import boofcv.struct.image.ImageUInt8;
+import com.google.caliper.Param;
+import com.google.caliper.Runner;
+import com.google.caliper.SimpleBenchmark;
 import georegression.struct.homo.Homography2D_F32;
 
 import java.util.Random;
 
 /**
+ * Benchmark for distorting an image using a homography.
+ *
  * @author Peter Abeles
  */
-public class BenchmarkImageDistort<T extends ImageSingleBand> {
-	public static final int imgWidth = 640;
-	public static final int imgHeight = 480;
+@SuppressWarnings({"UnusedDeclaration","unchecked"})
+public class BenchmarkImageDistort extends SimpleBenchmark {
 
-	public static final int TEST_TIME = 1000;
+	@Param({"640x480", "1920x1080"}) private String size;
+	@Param({"ImageFloat32", "ImageUInt8"}) private String imageType;
 
-	Class<T> imageType;
-	
-	public T src_F32;
-	public T dst_F32;
+	ImageSingleBand src;
+	ImageSingleBand dst;
 
-	public BenchmarkImageDistort(Class<T> imageType) {
-		this.imageType = imageType;
-		src_F32 = GeneralizedImageOps.createSingleBand(imageType,imgWidth,imgHeight);
-		dst_F32 = GeneralizedImageOps.createSingleBand(imageType,imgWidth,imgHeight);
-	}
+	ImageDistort distort;
+	ImageDistort distortCached;
+	ImageDistort distortRemap;
+	ImageDistort distortRemapMT;
 
-	public class HomographyBilinear_F32 extends PerformerBase {
-		ImageDistort<T> alg;
-
-		public HomographyBilinear_F32(Homography2D_F32 affine) {
-			PixelTransform_F32 tran = new PixelTransformHomography_F32(affine);
-			InterpolatePixel<T> interp = FactoryInterpolation.bilinearPixel(imageType);
-			ImageBorder<T> border = FactoryImageBorder.general(imageType, BorderType.EXTENDED);
-			
-			alg = FactoryDistort.distort(interp, border, imageType);
-			alg.setModel(tran);
-		}
-
-		@Override
-		public void process() {
-			alg.apply(src_F32, dst_F32);
-		}
-	}
+	@Override protected void setUp() throws Exception {
+		String s[] = size.split("x");
+		int width = Integer.parseInt(s[0]);
+		int height = Integer.parseInt(s[1]);
 
-	public class HomographyBilinearCrop_F32 extends PerformerBase {
-		ImageDistort<T> alg;
+		Class type = imageType.equals("ImageUInt8") ? ImageUInt8.class : ImageFloat32.class;
 
-		public HomographyBilinearCrop_F32(Homography2D_F32 affine) {
-			PixelTransform_F32 tran = new PixelTransformHomography_F32(affine);
-			InterpolatePixel<T> interp = FactoryInterpolation.bilinearPixel(imageType);
-			ImageBorder<T> border = FactoryImageBorder.general(imageType, BorderType.EXTENDED);
+		src = GeneralizedImageOps.createSingleBand(type,width,height);
+		dst = GeneralizedImageOps.createSingleBand(type,width,height);
 
-			alg = FactoryDistort.distort(interp,border,imageType);
-			alg.setModel(tran);
-		}
+		Random rand = new Random(234);
+		GImageMiscOps.fillUniform(src, rand, 0, 200);
 
-		@Override
-		public void process() {
-			alg.apply(src_F32, dst_F32,0,0,imgWidth,imgHeight);
-		}
-	}
+		Homography2D_F32 affine = new Homography2D_F32((float)rand.nextGaussian(),(float)rand.nextGaussian(),
+				(float)rand.nextGaussian(),(float)rand.nextGaussian(),(float)rand.nextGaussian(),
+				(float)rand.nextGaussian(),(float)rand.nextGaussian(),(float)rand.nextGaussian(),
+				(float)rand.nextGaussian());
+		PixelTransform_F32 tran = new PixelTransformHomography_F32(affine);
 
-	public class MapBilinear_F32 extends PerformerBase {
-		ImageDistort<T> alg;
+		InterpolatePixel interp = FactoryInterpolation.bilinearPixel(type);
+		ImageBorder border = FactoryImageBorder.general(type, BorderType.EXTENDED);
 
-		public MapBilinear_F32( Homography2D_F32 homography ) {
-			PixelTransform_F32 tran = new PixelTransformHomography_F32(homography);
-			InterpolatePixel<T> interp = FactoryInterpolation.bilinearPixel(imageType);
-			ImageBorder<T> border = FactoryImageBorder.general(imageType, BorderType.EXTENDED);
+		distort = FactoryDistort.distort(interp, border, type);
+		distort.setModel(tran);
 
-			alg = FactoryDistort.distortCached(interp,border,imageType);
-			alg.setModel(tran);
-		}
+		distortCached = FactoryDistort.distortCached(interp, border, type);
+		distortCached.setModel(tran);
 
-		@Override
-		public void process() {
-			alg.apply(src_F32, dst_F32,0,0,imgWidth,imgHeight);
-		}
-	}
+		distortRemap = FactoryDistort.distortRemap(border, type, false);
+		distortRemap.setModel(tran);
 
-	private void benchmark() {
-		Random rand = new Random(234);
+		distortRemapMT = FactoryDistort.distortRemap(border, type, true);
+		distortRemapMT.setModel(tran);
+	}
 
-		Homography2D_F32 affine = new Homography2D_F32((float)rand.nextGaussian(),(float)rand.nextGaussian(),
-				(float)rand.nextGaussian(),(float)rand.nextGaussian(),(float)rand.nextGaussian(),
-				(float)rand.nextGaussian(),(float)rand.nextGaussian(),(float)rand.nextGaussian(),
-				(float)rand.nextGaussian());
+	public double timeHomographyBilinear(int reps) {
+		for( int i = 0; i < reps; i++ )
+			distort.apply(src, dst);
+		return GeneralizedImageOps.get(dst, dst.width/2, dst.height/2);
+	}
 
-		System.out.println("=========  Profile Image Size " + imgWidth + " x " + imgHeight + " ==========");
-		System.out.println();
+	public double timeHomographyBilinearCrop(int reps) {
+		for( int i = 0; i < reps; i++ )
+			distort.apply(src, dst, 0, 0, dst.width, dst.height);
+		return GeneralizedImageOps.get(dst, dst.width/2, dst.height/2);
+	}
 
-		ProfileOperation.printOpsPerSec(new MapBilinear_F32(affine),TEST_TIME);
-		ProfileOperation.printOpsPerSec(new HomographyBilinear_F32(affine),TEST_TIME);
-		ProfileOperation.printOpsPerSec(new HomographyBilinearCrop_F32(affine),TEST_TIME);
+	public double timeMapBilinear(int reps) {
+		for( int i = 0; i < reps; i++ )
+			distortCached.apply(src, dst, 0, 0, dst.width, dst.height);
+		return GeneralizedImageOps.get(dst, dst.width/2, dst.height/2);
+	}
 
+	public double timeRemapBilinear(int reps) {
+		for( int i = 0; i < reps; i++ )
+			distortRemap.apply(src, dst);
+		return GeneralizedImageOps.get(dst, dst.width/2, dst.height/2);
 	}
 
+	public double timeRemapBilinearMT(int reps) {
+		for( int i = 0; i < reps; i++ )
+			distortRemapMT.apply(src, dst);
+		return GeneralizedImageOps.get(dst, dst.width/2, dst.height/2);
+	}
 
 	public static void main( String args[] ) {
-		BenchmarkImageDistort benchmark = new BenchmarkImageDistort(ImageFloat32.class);
-
-		benchmark.benchmark();
+		Runner.main(BenchmarkImageDistort.class, args);
 	}
 }
@@ -22,26 +22,39 @@ import boofcv.alg.filter.binary.impl.ImplBinaryBlobLabeling;
 import boofcv.alg.misc.ImageMiscOps;
 import boofcv.struct.image.ImageSInt32;
 import boofcv.struct.image.ImageUInt8;
+import com.google.caliper.Param;
 import com.google.caliper.Runner;
 import com.google.caliper.SimpleBenchmark;
 
 import java.util.Random;
 
 /**
- * Benchmark for different convolution operations.
+ * Benchmark for different blob labeling algorithms.
  *
  * @author Peter Abeles
  */
 public class BenchmarkBinaryBlobLabeling extends SimpleBenchmark {
-	static int imgWidth = 640;
-	static int imgHeight = 480;
 
-	static ImageUInt8 input = new ImageUInt8(imgWidth, imgHeight);
-	static ImageSInt32 output = new ImageSInt32(imgWidth, imgHeight);
+	@Param({"640x480", "5000x4000"}) private String size;
+
+	ImageUInt8 input;
+	ImageSInt32 output;
+
+	LabelBlobsUnionFind unionFind8 = new LabelBlobsUnionFind(true,false);
+	LabelBlobsUnionFind unionFind4 = new LabelBlobsUnionFind(false,false);
+	LabelBlobsUnionFind unionFind8_MT = new LabelBlobsUnionFind(true,true);
+	LabelBlobsUnionFind unionFind4_MT = new LabelBlobsUnionFind(false,true);
+
+	@Override protected void setUp() throws Exception {
+		String s[] = size.split("x");
+		int width = Integer.parseInt(s[0]);
+		int height = Integer.parseInt(s[1]);
+
+		input = new ImageUInt8(width, height);
+		output = new ImageSInt32(width, height);
 
-	public BenchmarkBinaryBlobLabeling() {
 		Random rand = new Random(234);
-		ImageMiscOps.fillUniform(input, rand, 0, 1);
+		ImageMiscOps.fillUniform(input, rand, 0, 2);
 	}
 
 	public int timeNormal8(int reps) {
@@ -80,9 +93,35 @@ public class BenchmarkBinaryBlobLabeling extends SimpleBenchmark {
 		return 0;
 	}
 
-	public static void main(String args[]) {
-		System.out.println("=========  Profile Image Size "+ imgWidth +" x "+ imgHeight  +" ==========");
+	public int timeUnionFind8(int reps) {
+		int total = 0;
+		for( int i = 0; i < reps; i++ )
+			total += unionFind8.process(input, output);
+		return total;
+	}
 
+	public int timeUnionFind4(int reps) {
+		int total = 0;
+		for( int i = 0; i < reps; i++ )
+			total += unionFind4.process(input, output);
+		return total;
+	}
+
+	public int timeUnionFind8_MT(int reps) {
+		int total = 0;
+		for( int i = 0; i < reps; i++ )
+			total += unionFind8_MT.process(input, output);
+		return total;
+	}
+
+	public int timeUnionFind4_MT(int reps) {
+		int total = 0;
+		for( int i = 0; i < reps; i++ )
+			total += unionFind4_MT.process(input, output);
+		return total;
+	}
+
+	public static void main(String args[]) {
 		Runner.main(BenchmarkBinaryBlobLabeling.class, args);
 	}
 }
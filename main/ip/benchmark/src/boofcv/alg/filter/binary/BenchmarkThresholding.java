@@ -18,6 +18,7 @@
 
 package boofcv.alg.filter.binary;
 
+import boofcv.alg.filter.blur.BlurImageOps;
 import boofcv.alg.misc.ImageMiscOps;
 import boofcv.struct.image.ImageSInt32;
 import boofcv.struct.image.ImageUInt8;
@@ -41,8 +42,18 @@ public class BenchmarkThresholding extends SimpleBenchmark {
 	static ImageUInt8 output_U8 = new ImageUInt8(imgWidth, imgHeight);
 	static ImageUInt8 work = new ImageUInt8(imgWidth, imgHeight);
 
+	static ImageUInt8 blurred = new ImageUInt8(imgWidth, imgHeight);
+
 	static int threshLower = 20;
 	static int threshUpper = 30;
+	static int radius = 10;
+
+	static ThresholdLocal<ImageUInt8> localMean =
+			new ThresholdLocalMean<ImageUInt8>(radius,0.95,true,false,ImageUInt8.class);
+	static ThresholdLocal<ImageUInt8> localMean_MT =
+			new ThresholdLocalMean<ImageUInt8>(radius,0.95,true,true,ImageUInt8.class);
+	static ThresholdLocal<ImageUInt8> sauvola =
+			new ThresholdSauvola<ImageUInt8>(radius,0.3,128,true,false,ImageUInt8.class);
 
 
 	public BenchmarkThresholding() {
@@ -72,6 +83,33 @@ public class BenchmarkThresholding extends SimpleBenchmark {
 		return 0;
 	}
 
+	/**
+	 * Just the mean blur, which had to be computed before the local threshold
+	 */
+	public int timeBlurMean(int reps) {
+		for( int i = 0; i < reps; i++ )
+			BlurImageOps.mean(input, blurred, radius, work);
+		return 0;
+	}
+
+	public int timeLocalMean(int reps) {
+		for( int i = 0; i < reps; i++ )
+			localMean.process(input, output_U8);
+		return 0;
+	}
+
+	public int timeLocalMean_MT(int reps) {
+		for( int i = 0; i < reps; i++ )
+			localMean_MT.process(input, output_U8);
+		return 0;
+	}
+
+	public int timeSauvola(int reps) {
+		for( int i = 0; i < reps; i++ )
+			sauvola.process(input, output_U8);
+		return 0;
+	}
+
 	public static void main(String args[]) {
 
 		System.out.println("=========  Profile Image Size " + imgWidth + " x " + imgHeight + " ==========");
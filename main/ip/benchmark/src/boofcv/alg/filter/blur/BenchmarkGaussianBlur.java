@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.blur;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.factory.filter.kernel.FactoryKernelGaussian;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageUInt8;
+import com.google.caliper.Param;
+import com.google.caliper.Runner;
+import com.google.caliper.SimpleBenchmark;
+
+import java.util.Random;
+
+/**
+ * Benchmark for Gaussian blur using convolution, a recursive filter, and box filters.  The cost of convolution grows
+ * with sigma while the others do not.  See {@link GaussianBlurAccuracy} for how close the approximations are.
+ *
+ * @author Peter Abeles
+ */
+public class BenchmarkGaussianBlur extends SimpleBenchmark {
+	static int imgWidth = 640;
+	static int imgHeight = 480;
+
+	static ImageFloat32 input_F32 = new ImageFloat32(imgWidth,imgHeight);
+	static ImageFloat32 output_F32 = new ImageFloat32(imgWidth,imgHeight);
+	static ImageUInt8 input_U8 = new ImageUInt8(imgWidth,imgHeight);
+	static ImageUInt8 output_U8 = new ImageUInt8(imgWidth,imgHeight);
+	static ImageUInt8 storage_U8 = new ImageUInt8(imgWidth,imgHeight);
+	static ImageFloat32 storage_F32 = new ImageFloat32(imgWidth,imgHeight);
+
+	@Param({"1", "2", "5", "10","20"}) private double sigma;
+
+	public BenchmarkGaussianBlur() {
+		Random rand = new Random(234);
+		ImageMiscOps.fillUniform(input_U8,rand, 0, 100);
+		ImageMiscOps.fillUniform(input_F32,rand,0,200);
+	}
+
+	public int timeConvolve_U8(int reps) {
+		int radius = FactoryKernelGaussian.radiusForSigma(sigma,0);
+		for( int i = 0; i < reps; i++ )
+			BlurImageOps.gaussian(input_U8,output_U8,sigma,radius,storage_U8);
+		return 0;
+	}
+
+	public int timeRecursive_U8(int reps) {
+		for( int i = 0; i < reps; i++ )
+			BlurImageOps.gaussianRecursive(input_U8,output_U8,sigma,storage_F32);
+		return 0;
+	}
+
+	public int timeRecursive_MT_U8(int reps) {
+		for( int i = 0; i < reps; i++ )
+			BlurImageOps_MT.gaussianRecursive(input_U8,output_U8,sigma,storage_F32);
+		return 0;
+	}
+
+	public int timeBox_U8(int reps) {
+		for( int i = 0; i < reps; i++ )
+			BlurImageOps.gaussianBox(input_U8,output_U8,sigma,storage_F32);
+		return 0;
+	}
+
+	public int timeConvolve_F32(int reps) {
+		int radius = FactoryKernelGaussian.radiusForSigma(sigma,0);
+		for( int i = 0; i < reps; i++ )
+			BlurImageOps.gaussian(input_F32,output_F32,sigma,radius,storage_F32);
+		return 0;
+	}
+
+	public int timeRecursive_F32(int reps) {
+		for( int i = 0; i < reps; i++ )
+			BlurImageOps.gaussianRecursive(input_F32,output_F32,sigma,storage_F32);
+		return 0;
+	}
+
+	public int timeRecursive_MT_F32(int reps) {
+		for( int i = 0; i < reps; i++ )
+			BlurImageOps_MT.gaussianRecursive(input_F32,output_F32,sigma,storage_F32);
+		return 0;
+	}
+
+	public int timeBox_F32(int reps) {
+		for( int i = 0; i < reps; i++ )
+			BlurImageOps.gaussianBox(input_F32,output_F32,sigma,storage_F32);
+		return 0;
+	}
+
+	public static void main( String args[] ) {
+		Runner.main(BenchmarkGaussianBlur.class, args);
+	}
+}
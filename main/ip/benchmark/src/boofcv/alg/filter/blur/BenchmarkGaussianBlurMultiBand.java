@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.blur;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.core.image.ConvertImageInterleaved;
+import boofcv.struct.image.ImageInterleavedInt8;
+import boofcv.struct.image.ImageUInt8;
+import boofcv.struct.image.MultiSpectral;
+import com.google.caliper.Param;
+import com.google.caliper.Runner;
+import com.google.caliper.SimpleBenchmark;
+
+import java.util.Random;
+
+/**
+ * Compares Gaussian blur of a color image by blurring each band independently against the functions which
+ * process all the bands together.  Small kernels are where the per band overhead is most noticeable.
+ *
+ * @author Peter Abeles
+ */
+@SuppressWarnings({"UnusedDeclaration"})
+public class BenchmarkGaussianBlurMultiBand extends SimpleBenchmark {
+	static int imgWidth = 640;
+	static int imgHeight = 480;
+	static int numBands = 3;
+
+	static MultiSpectral<ImageUInt8> input_MS = new MultiSpectral<ImageUInt8>(ImageUInt8.class,imgWidth,imgHeight,numBands);
+	static MultiSpectral<ImageUInt8> output_MS = new MultiSpectral<ImageUInt8>(ImageUInt8.class,imgWidth,imgHeight,numBands);
+	static MultiSpectral<ImageUInt8> storage_MS = new MultiSpectral<ImageUInt8>(ImageUInt8.class,imgWidth,imgHeight,numBands);
+	static ImageInterleavedInt8 input_IL = new ImageInterleavedInt8(imgWidth,imgHeight,numBands);
+	static ImageInterleavedInt8 output_IL = new ImageInterleavedInt8(imgWidth,imgHeight,numBands);
+	static ImageInterleavedInt8 storage_IL = new ImageInterleavedInt8(imgWidth,imgHeight,numBands);
+
+	@Param({"1", "2", "5"}) private int radius;
+
+	public BenchmarkGaussianBlurMultiBand() {
+		Random rand = new Random(234);
+		GImageMiscOps.fillUniform(input_MS, rand, 0, 100);
+		ConvertImageInterleaved.convert(input_MS,input_IL);
+	}
+
+	public int timeEachBand(int reps) {
+		for( int i = 0; i < reps; i++ ) {
+			for( int band = 0; band < numBands; band++ )
+				BlurImageOps.gaussian(input_MS.getBand(band),output_MS.getBand(band),-1,radius,storage_MS.getBand(band));
+		}
+		return 0;
+	}
+
+	public int timeMultiSpectral(int reps) {
+		for( int i = 0; i < reps; i++ )
+			BlurImageOpsMultiSpectral.gaussian(input_MS,output_MS,-1,radius,storage_MS);
+		return 0;
+	}
+
+	public int timeMultiSpectral_MT(int reps) {
+		for( int i = 0; i < reps; i++ )
+			BlurImageOps_MT.gaussian(input_MS,output_MS,-1,radius,storage_MS);
+		return 0;
+	}
+
+	public int timeInterleaved(int reps) {
+		for( int i = 0; i < reps; i++ )
+			BlurImageOpsInterleaved.gaussian(input_IL,output_IL,-1,radius,storage_IL);
+		return 0;
+	}
+
+	public int timeInterleaved_MT(int reps) {
+		for( int i = 0; i < reps; i++ )
+			BlurImageOps_MT.gaussian(input_IL,output_IL,-1,radius,storage_IL);
+		return 0;
+	}
+
+	public static void main( String args[] ) {
+		Runner.main(BenchmarkGaussianBlurMultiBand.class, args);
+	}
+}
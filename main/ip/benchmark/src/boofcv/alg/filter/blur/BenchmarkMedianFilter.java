@@ -18,6 +18,8 @@
 
 package boofcv.alg.filter.blur;
 
+import boofcv.alg.filter.blur.impl.ImplMedianHistogramColumn;
+import boofcv.alg.filter.blur.impl.ImplMedianHistogramColumn_MT;
 import boofcv.alg.filter.blur.impl.ImplMedianHistogramInner;
 import boofcv.alg.filter.blur.impl.ImplMedianHistogramInnerNaive;
 import boofcv.alg.filter.blur.impl.ImplMedianSortNaive;
@@ -50,7 +52,7 @@ public class BenchmarkMedianFilter extends SimpleBenchmark {
 	static ImageSInt32 out_I32 = new ImageSInt32(imgWidth,imgHeight);
 
 	// iterate through different sized kernel radius
-	@Param({"1", "2", "3", "5","10"}) private int radius;
+	@Param({"1", "2", "3", "5","10","15"}) private int radius;
 
 	public BenchmarkMedianFilter() {
 		Random rand = new Random(234);
@@ -64,6 +66,12 @@ public class BenchmarkMedianFilter extends SimpleBenchmark {
 		return 0;
 	}
 
+	public int timeBlurImageOps_MT_I8(int reps) {
+		for( int i = 0; i < reps; i++ )
+			BlurImageOps_MT.median(imgInt8, out_I8, radius);
+		return 0;
+	}
+
 	public int timeBlurImageOps_F32(int reps) {
 		for( int i = 0; i < reps; i++ )
 			BlurImageOps.median(imgFloat32,out_F32,radius);
@@ -82,6 +90,18 @@ public class BenchmarkMedianFilter extends SimpleBenchmark {
 		return 0;
 	}
 
+	public int timeHistogramColumn_I8(int reps) {
+		for( int i = 0; i < reps; i++ )
+			ImplMedianHistogramColumn.process(imgInt8,out_I8,radius);
+		return 0;
+	}
+
+	public int timeHistogramColumn_MT_I8(int reps) {
+		for( int i = 0; i < reps; i++ )
+			ImplMedianHistogramColumn_MT.process(imgInt8,out_I8,radius);
+		return 0;
+	}
+
 	public int timeSortNaive_I8(int reps) {
 		for( int i = 0; i < reps; i++ )
 			ImplMedianSortNaive.process(imgInt8,out_I8,radius,null);
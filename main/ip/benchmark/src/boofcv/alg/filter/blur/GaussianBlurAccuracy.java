@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.blur;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.factory.filter.kernel.FactoryKernelGaussian;
+import boofcv.struct.image.ImageFloat32;
+
+import java.util.Random;
+
+/**
+ * Reports how accurately {@link BlurImageOps#gaussianRecursive} and {@link BlurImageOps#gaussianBox} approximate
+ * a Gaussian blur computed using convolution.  The convolution kernel has a radius of at least 4 sigma so that
+ * it is close to a true Gaussian.  Errors are computed for a random image with pixel values from 0 to 255, ignoring
+ * pixels close enough to the border to be affected by how it is handled.
+ *
+ * @author Peter Abeles
+ */
+public class GaussianBlurAccuracy {
+
+	public static void main( String args[] ) {
+		Random rand = new Random(234);
+		ImageFloat32 input = new ImageFloat32(400,400);
+		ImageMiscOps.fillUniform(input,rand,0,255);
+
+		System.out.println("Error relative to convolution.  Pixel values from 0 to 255");
+		System.out.printf("%6s | %21s | %21s\n","","Recursive","Box x"+BlurImageOps.GAUSSIAN_BOXES);
+		System.out.printf("%6s | %10s %10s | %10s %10s\n","sigma","mean","max","mean","max");
+		for( double sigma : new double[]{0.5,1,2,3,5,8,12,20} ) {
+			int radius = Math.max(FactoryKernelGaussian.radiusForSigma(sigma,0),(int)Math.ceil(4*sigma));
+			ImageFloat32 expected = BlurImageOps.gaussian(input,null,sigma,radius,null);
+			ImageFloat32 recursive = BlurImageOps.gaussianRecursive(input,null,sigma,null);
+			ImageFloat32 box = BlurImageOps.gaussianBox(input,null,sigma,null);
+
+			double errorRecursive[] = error(expected,recursive,2*radius);
+			double errorBox[] = error(expected,box,2*radius);
+
+			System.out.printf("%6.1f | %10.4f %10.4f | %10.4f %10.4f\n",sigma,
+					errorRecursive[0],errorRecursive[1],errorBox[0],errorBox[1]);
+		}
+	}
+
+	/**
+	 * Returns the mean and maximum absolute error inside the image
+	 */
+	private static double[] error( ImageFloat32 expected , ImageFloat32 found , int border ) {
+		double total = 0;
+		double max = 0;
+		int N = 0;
+		for( int y = border; y < expected.height-border; y++ ) {
+			for( int x = border; x < expected.width-border; x++ , N++ ) {
+				double e = Math.abs(expected.get(x,y)-found.get(x,y));
+				total += e;
+				max = Math.max(max,e);
+			}
+		}
+		return new double[]{total/N,max};
+	}
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boofcv.alg.filter.convolve;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.border.BorderIndex1D_Extend;
+import boofcv.core.image.border.ImageBorder1D_F32;
+import boofcv.core.image.border.ImageBorder_F32;
+import boofcv.factory.filter.kernel.FactoryKernelGaussian;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel1D_I32;
+import boofcv.struct.convolve.Kernel2D_F32;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageSInt16;
+import boofcv.struct.image.ImageUInt8;
+import com.google.caliper.Param;
+import com.google.caliper.Runner;
+import com.google.caliper.SimpleBenchmark;
+
+import java.util.Random;
+
+/**
+ * Compares single threaded convolution against the concurrent implementations on a 4K image.  The
+ * number of threads is specified by the "threads" parameter.
+ *
+ * @author Peter Abeles
+ */
+@SuppressWarnings({"UnusedDeclaration"})
+public class BenchmarkConvolveConcurrent extends SimpleBenchmark {
+	static int width = 3840;
+	static int height = 2160;
+
+	Random rand = new Random(234);
+
+	static Kernel1D_F32 kernelF32;
+	static Kernel1D_I32 kernelI32;
+	static Kernel2D_F32 kernel2D_F32;
+	static ImageFloat32 input_F32 = new ImageFloat32(width,height);
+	static ImageFloat32 out_F32 = new ImageFloat32(width,height);
+	static ImageUInt8 input_U8 = new ImageUInt8(width,height);
+	static ImageUInt8 out_U8 = new ImageUInt8(width,height);
+	static ImageSInt16 out_S16 = new ImageSInt16(width,height);
+	static ImageBorder_F32 border_F32 = new ImageBorder1D_F32(BorderIndex1D_Extend.class);
+
+	@Param({"2", "10"}) private int radius;
+	@Param({"1", "2", "4", "8"}) private int threads;
+
+	public BenchmarkConvolveConcurrent() {
+		ImageMiscOps.fillUniform(input_U8,rand,0,200);
+		ImageMiscOps.fillUniform(input_F32,rand,0,200);
+	}
+
+	@Override protected void setUp() throws Exception {
+		BoofConcurrency.setMaxThreads(threads);
+		kernelF32 = FactoryKernelGaussian.gaussian(Kernel1D_F32.class,-1,radius);
+		kernelI32 = FactoryKernelGaussian.gaussian(Kernel1D_I32.class,-1,radius);
+		kernel2D_F32 = FactoryKernelGaussian.gaussian(Kernel2D_F32.class,-1,radius);
+	}
+
+	public int timeHorizontal_F32(int reps) {
+		for( int i = 0; i < reps; i++ )
+			ConvolveImageNoBorder.horizontal(kernelF32,input_F32,out_F32,false);
+		return 0;
+	}
+
+	public int timeHorizontal_MT_F32(int reps) {
+		for( int i = 0; i < reps; i++ )
+			ConvolveImageNoBorder_MT.horizontal(kernelF32,input_F32,out_F32,false);
+		return 0;
+	}
+
+	public int timeVertical_F32(int reps) {
+		for( int i = 0; i < reps; i++ )
+			ConvolveImageNoBorder.vertical(kernelF32,input_F32,out_F32,false);
+		return 0;
+	}
+
+	public int timeVertical_MT_F32(int reps) {
+		for( int i = 0; i < reps; i++ )
+			ConvolveImageNoBorder_MT.vertical(kernelF32,input_F32,out_F32,false);
+		return 0;
+	}
+
+	public int timeVertical_U8_I16(int reps) {
+		for( int i = 0; i < reps; i++ )
+			ConvolveImageNoBorder.vertical(kernelI32,input_U8,out_S16,false);
+		return 0;
+	}
+
+	public int timeVertical_MT_U8_I16(int reps) {
+		for( int i = 0; i < reps; i++ )
+			ConvolveImageNoBorder_MT.vertical(kernelI32,input_U8,out_S16,false);
+		return 0;
+	}
+
+	public int timeConvolve2D_F32(int reps) {
+		for( int i = 0; i < reps; i++ )
+			ConvolveImageNoBorder.convolve(kernel2D_F32,input_F32,out_F32);
+		return 0;
+	}
+
+	public int timeConvolve2D_MT_F32(int reps) {
+		for( int i = 0; i < reps; i++ )
+			ConvolveImageNoBorder_MT.convolve(kernel2D_F32,input_F32,out_F32);
+		return 0;
+	}
+
+	public int timeNormalizedVertical_U8(int reps) {
+		for( int i = 0; i < reps; i++ )
+			ConvolveNormalized.vertical(kernelI32,input_U8,out_U8);
+		return 0;
+	}
+
+	public int timeNormalizedVertical_MT_U8(int reps) {
+		for( int i = 0; i < reps; i++ )
+			ConvolveNormalized_MT.vertical(kernelI32,input_U8,out_U8);
+		return 0;
+	}
+
+	public int timeExtendHorizontal_F32(int reps) {
+		for( int i = 0; i < reps; i++ )
+			ConvolveWithBorder.horizontal(kernelF32,input_F32,out_F32,border_F32);
+		return 0;
+	}
+
+	public int timeExtendHorizontal_MT_F32(int reps) {
+		for( int i = 0; i < reps; i++ )
+			ConvolveWithBorder_MT.horizontal(kernelF32,input_F32,out_F32,border_F32);
+		return 0;
+	}
+
+	public static void main( String args[] ) {
+		System.out.println("=========  Profile Image Size "+ width +" x "+ height +" ==========");
+		System.out.println("Available processors "+Runtime.getRuntime().availableProcessors());
+
+		Runner.main(BenchmarkConvolveConcurrent.class, args);
+	}
+}
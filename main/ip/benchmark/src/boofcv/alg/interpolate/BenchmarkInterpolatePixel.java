@@ -49,6 +49,9 @@ public class BenchmarkInterpolatePixel {
 	static float end = 310.1f;
 	static float step = 1f;
 
+	// interpolated values are added to this so that the JIT can't skip computing them
+	public static float sink;
+
 	public static class Bilinear_Safe_F32 extends PerformerBase {
 		ImplBilinearPixel_F32 alg = new ImplBilinearPixel_F32(imgFloat32);
 
@@ -56,7 +59,7 @@ public class BenchmarkInterpolatePixel {
 		public void process() {
 			for (float x = start; x <= end; x += step)
 				for (float y = start; y <= end; y += step)
-					alg.get(x, y);
+					sink += alg.get(x, y);
 		}
 	}
 
@@ -67,7 +70,7 @@ public class BenchmarkInterpolatePixel {
 		public void process() {
 			for (float x = start; x <= end; x += step)
 				for (float y = start; y <= end; y += step)
-					alg.get_unsafe(x, y);
+					sink += alg.get_unsafe(x, y);
 		}
 	}
 
@@ -78,7 +81,7 @@ public class BenchmarkInterpolatePixel {
 		public void process() {
 			for (float x = start; x <= end; x += step)
 				for (float y = start; y <= end; y += step)
-					alg.get(x, y);
+					sink += alg.get(x, y);
 		}
 	}
 
@@ -90,7 +93,7 @@ public class BenchmarkInterpolatePixel {
 			alg.setImage(imgFloat32);
 			for (float x = start; x <= end; x += step)
 				for (float y = start; y <= end; y += step)
-					alg.get(x, y);
+					sink += alg.get(x, y);
 		}
 	}
 
@@ -102,10 +105,119 @@ public class BenchmarkInterpolatePixel {
 			alg.setImage(imgFloat32);
 			for (float x = start; x <= end; x += step)
 				for (float y = start; y <= end; y += step)
-					alg.get(x, y);
+					sink += alg.get(x, y);
+		}
+	}
+
+	public static class Bilinear_Batch_F32 extends PerformerBase {
+		ImplBilinearPixel_F32 alg = new ImplBilinearPixel_F32(imgFloat32);
+		float pointsX[] = new float[ numPoints() ];
+		float pointsY[] = new float[ numPoints() ];
+		float values[] = new float[ numPoints() ];
+
+		@Override
+		public void process() {
+			for (float y = start; y <= end; y += step) {
+				int i = 0;
+				for (float x = start; x <= end; x += step, i++) {
+					pointsX[i] = x;
+					pointsY[i] = y;
+				}
+				alg.get(pointsX, pointsY, 0, i, values);
+				sink += values[0];
+			}
+		}
+	}
+
+	public static class Bilinear_Row_F32 extends PerformerBase {
+		ImplBilinearPixel_F32 alg = new ImplBilinearPixel_F32(imgFloat32);
+		float values[] = new float[ numPoints() ];
+
+		@Override
+		public void process() {
+			for (float y = start; y <= end; y += step)
+			{
+				alg.getRow(y, step, start, 0, values.length, values);
+				sink += values[0];
+			}
+		}
+	}
+
+	public static class NearestNeighbor_Row_F32 extends PerformerBase {
+		NearestNeighborPixel_F32 alg = new NearestNeighborPixel_F32(imgFloat32);
+		float values[] = new float[ numPoints() ];
+
+		@Override
+		public void process() {
+			for (float y = start; y <= end; y += step)
+			{
+				alg.getRow(y, step, start, 0, values.length, values);
+				sink += values[0];
+			}
+		}
+	}
+
+	public static class BilinearConvolution_Batch_F32 extends PerformerBase {
+		ImplInterpolatePixelConvolution_F32 alg = new ImplInterpolatePixelConvolution_F32(new BicubicKernel_F32(-0.5f),0,255);
+		float pointsX[] = new float[ numPoints() ];
+		float pointsY[] = new float[ numPoints() ];
+		float values[] = new float[ numPoints() ];
+
+		@Override
+		public void process() {
+			alg.setImage(imgFloat32);
+			for (float y = start; y <= end; y += step) {
+				int i = 0;
+				for (float x = start; x <= end; x += step, i++) {
+					pointsX[i] = x;
+					pointsY[i] = y;
+				}
+				alg.get(pointsX, pointsY, 0, i, values);
+				sink += values[0];
+			}
+		}
+	}
+
+	public static class BilinearConvolution_Row_F32 extends PerformerBase {
+		ImplInterpolatePixelConvolution_F32 alg = new ImplInterpolatePixelConvolution_F32(new BicubicKernel_F32(-0.5f),0,255);
+		float values[] = new float[ numPoints() ];
+
+		@Override
+		public void process() {
+			alg.setImage(imgFloat32);
+			for (float y = start; y <= end; y += step)
+			{
+				alg.getRow(y, step, start, 0, values.length, values);
+				sink += values[0];
+			}
+		}
+	}
+
+	public static class Polynomial_Row_F32 extends PerformerBase {
+		ImplPolynomialPixel_F32 alg = new ImplPolynomialPixel_F32(5,0,255);
+		float values[] = new float[ numPoints() ];
+
+		@Override
+		public void process() {
+			alg.setImage(imgFloat32);
+			for (float y = start; y <= end; y += step)
+			{
+				alg.getRow(y, step, start, 0, values.length, values);
+				sink += values[0];
+			}
 		}
 	}
 
+	/**
+	 * Number of points along each axis which are interpolated
+	 */
+	private static int numPoints() {
+		int total = 0;
+		for (float x = start; x <= end; x += step)
+			total++;
+		return total;
+	}
+
 	public static void main(String args[]) {
 		imgInt8 = new ImageUInt8(imgWidth, imgHeight);
 		imgFloat32 = new ImageFloat32(imgWidth, imgHeight);
@@ -119,8 +231,14 @@ public class BenchmarkInterpolatePixel {
 
 		ProfileOperation.printOpsPerSec(new Bilinear_Safe_F32(), TEST_TIME);
 		ProfileOperation.printOpsPerSec(new Bilinear_UnSafe_F32(), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new Bilinear_Batch_F32(), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new Bilinear_Row_F32(), TEST_TIME);
 		ProfileOperation.printOpsPerSec(new NearestNeighbor_Safe_F32(), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new NearestNeighbor_Row_F32(), TEST_TIME);
 		ProfileOperation.printOpsPerSec(new BilinearConvolution_Safe_F32(), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new BilinearConvolution_Batch_F32(), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new BilinearConvolution_Row_F32(), TEST_TIME);
 		ProfileOperation.printOpsPerSec(new Polynomial_Safe_F32(), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new Polynomial_Row_F32(), TEST_TIME);
 	}
 }
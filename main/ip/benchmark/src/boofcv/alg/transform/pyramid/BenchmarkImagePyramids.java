@@ -25,7 +25,9 @@ import boofcv.factory.interpolate.FactoryInterpolation;
 import boofcv.misc.PerformerBase;
 import boofcv.misc.ProfileOperation;
 import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel1D_I32;
 import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageUInt8;
 import boofcv.struct.pyramid.PyramidDiscrete;
 import boofcv.struct.pyramid.PyramidFloat;
 import boofcv.struct.pyramid.PyramidUpdaterDiscrete;
@@ -45,11 +47,13 @@ public class BenchmarkImagePyramids {
 	static long TEST_TIME = 1000;
 
 	static ImageFloat32 input = new ImageFloat32(width,height);
+	static ImageUInt8 inputU8 = new ImageUInt8(width,height);
 
 	static int scalesD[] = new int[]{1,2,4,8};
 	static double scalesF[] = new double[]{1,2,4,8};
 
 	static PyramidUpdaterDiscrete<ImageFloat32> updaterD;
+	static PyramidUpdaterDiscrete<ImageUInt8> updaterD_U8;
 	static PyramidUpdaterFloat<ImageFloat32> updaterF;
 
 	static Class<ImageFloat32> imageType = ImageFloat32.class;
@@ -76,9 +80,22 @@ public class BenchmarkImagePyramids {
 		}
 	}
 
+	public static class Discrete_U8 extends PerformerBase {
+
+		PyramidDiscrete<ImageUInt8> pyramid =
+				new PyramidDiscrete<ImageUInt8>(ImageUInt8.class,false,scalesD);
+
+		@Override
+		public void process() {
+			updaterD_U8.update(inputU8,pyramid);
+		}
+	}
+
 	private static void createUpdate() {
 		Kernel1D_F32 kernel = FactoryKernelGaussian.gaussian(Kernel1D_F32.class,-1.0,2);
 		updaterD = new PyramidUpdateIntegerDown<ImageFloat32>(kernel,ImageFloat32.class);
+		Kernel1D_I32 kernelI = FactoryKernelGaussian.gaussian(Kernel1D_I32.class,-1.0,2);
+		updaterD_U8 = new PyramidUpdateIntegerDown<ImageUInt8>(kernelI,ImageUInt8.class);
 
 		InterpolatePixel<ImageFloat32> interp = FactoryInterpolation.bilinearPixel(ImageFloat32.class);
 		updaterF = new PyramidUpdateGaussianScale<ImageFloat32>(interp,scalesF);
@@ -89,6 +106,7 @@ public class BenchmarkImagePyramids {
 
 		Random rand = new Random(234);
 		ImageMiscOps.fillUniform(input, rand, 0, 100);
+		ImageMiscOps.fillUniform(inputU8, rand, 0, 100);
 		createUpdate();
 
 		System.out.println("=========  Profile Image Size " + width + " x " + height + " ==========");
@@ -96,5 +114,6 @@ public class BenchmarkImagePyramids {
 
 		ProfileOperation.printOpsPerSec(new ScaleSpace_F32(), TEST_TIME);
 		ProfileOperation.printOpsPerSec(new Discrete_F32(), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new Discrete_U8(), TEST_TIME);
 	}
 }
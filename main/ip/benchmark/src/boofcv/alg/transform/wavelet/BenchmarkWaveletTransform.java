@@ -18,6 +18,8 @@
 
 package boofcv.alg.transform.wavelet;
 
+import boofcv.abst.denoise.FactoryImageDenoise;
+import boofcv.abst.filter.FilterImageInterface;
 import boofcv.alg.misc.ImageMiscOps;
 import boofcv.alg.transform.wavelet.impl.ImplWaveletTransformNaive;
 import boofcv.core.image.border.BorderType;
@@ -91,8 +93,10 @@ public class BenchmarkWaveletTransform {
 		static ImageFloat32 copy = new ImageFloat32(imgWidth,imgHeight);
 		ImageFloat32 tran;
 		ImageFloat32 storage;
+		boolean concurrent;
 
-		public FullLevel3_F32() {
+		public FullLevel3_F32( boolean concurrent ) {
+			this.concurrent = concurrent;
 			ImageDimension dim = UtilWavelet.transformDimension(copy,3);
 			tran = new ImageFloat32(dim.width,dim.height);
 			storage = new ImageFloat32(dim.width,dim.height);
@@ -102,7 +106,67 @@ public class BenchmarkWaveletTransform {
 		public void process() {
 			// don't modify the input image
 			copy.setTo(orig_F32);
-			WaveletTransformOps.transformN(desc_F32,copy,tran,storage,3);
+			if( concurrent )
+				WaveletTransformOps_MT.transformN(desc_F32,copy,tran,storage,3);
+			else
+				WaveletTransformOps.transformN(desc_F32,copy,tran,storage,3);
+		}
+
+		@Override
+		public String getName() {
+			return concurrent ? "FullLevel3_F32_MT" : "FullLevel3_F32";
+		}
+	}
+
+	public static class FullLevel3_I32 extends PerformerBase {
+
+		static ImageSInt32 copy = new ImageSInt32(imgWidth,imgHeight);
+		ImageSInt32 tran;
+		ImageSInt32 storage;
+		boolean concurrent;
+
+		public FullLevel3_I32( boolean concurrent ) {
+			this.concurrent = concurrent;
+			ImageDimension dim = UtilWavelet.transformDimension(copy,3);
+			tran = new ImageSInt32(dim.width,dim.height);
+			storage = new ImageSInt32(dim.width,dim.height);
+		}
+
+		@Override
+		public void process() {
+			// don't modify the input image
+			copy.setTo(orig_I32);
+			if( concurrent )
+				WaveletTransformOps_MT.transformN(desc_I32,copy,tran,storage,3);
+			else
+				WaveletTransformOps.transformN(desc_I32,copy,tran,storage,3);
+		}
+
+		@Override
+		public String getName() {
+			return concurrent ? "FullLevel3_I32_MT" : "FullLevel3_I32";
+		}
+	}
+
+	public static class Denoise extends PerformerBase {
+
+		String name;
+		FilterImageInterface<ImageFloat32,ImageFloat32> alg;
+		ImageFloat32 output = new ImageFloat32(imgWidth,imgHeight);
+
+		public Denoise( String name , FilterImageInterface<ImageFloat32,ImageFloat32> alg ) {
+			this.name = name;
+			this.alg = alg;
+		}
+
+		@Override
+		public void process() {
+			alg.process(orig_F32,output);
+		}
+
+		@Override
+		public String getName() {
+			return name;
 		}
 	}
 
@@ -116,7 +180,18 @@ public class BenchmarkWaveletTransform {
 		System.out.println("=========  Profile Image Size " + imgWidth + " x " + imgHeight + " ==========");
 		System.out.println();
 
-		ProfileOperation.printOpsPerSec(new FullLevel3_F32(), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new FullLevel3_F32(false), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new FullLevel3_F32(true), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new FullLevel3_I32(false), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new FullLevel3_I32(true), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new Denoise("Bayes_F32",
+				FactoryImageDenoise.waveletBayes(ImageFloat32.class,3,0,255,false)), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new Denoise("Bayes_F32_MT",
+				FactoryImageDenoise.waveletBayes(ImageFloat32.class,3,0,255,true)), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new Denoise("Visu_F32",
+				FactoryImageDenoise.waveletVisu(ImageFloat32.class,3,0,255,false)), TEST_TIME);
+		ProfileOperation.printOpsPerSec(new Denoise("Visu_F32_MT",
+				FactoryImageDenoise.waveletVisu(ImageFloat32.class,3,0,255,true)), TEST_TIME);
 		ProfileOperation.printOpsPerSec(new Naive_F32(), TEST_TIME);
 		ProfileOperation.printOpsPerSec(new Standard_F32(), TEST_TIME);
 		ProfileOperation.printOpsPerSec(new Naive_I32(), TEST_TIME);
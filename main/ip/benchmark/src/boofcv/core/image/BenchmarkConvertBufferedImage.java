@@ -21,9 +21,7 @@ package boofcv.core.image;
 import boofcv.alg.misc.GImageMiscOps;
 import boofcv.misc.PerformerBase;
 import boofcv.misc.ProfileOperation;
-import boofcv.struct.image.ImageBase;
-import boofcv.struct.image.ImageUInt8;
-import boofcv.struct.image.MultiSpectral;
+import boofcv.struct.image.*;
 
 import java.awt.image.BufferedImage;
 import java.util.Random;
@@ -41,15 +39,15 @@ public class BenchmarkConvertBufferedImage {
 
 	static BufferedImage imgBuff;
 	static ImageUInt8 imgInt8;
-	static MultiSpectral<ImageUInt8> multiInt8;
 	
 	static ImageBase boofImg;
+	static boolean concurrent;
 
 	public static class FromBuffToBoof extends PerformerBase
 	{
 		@Override
 		public void process() {
-			ConvertBufferedImage.convertFrom(imgBuff,boofImg);
+			ConvertBufferedImage.convertFrom(imgBuff,boofImg,concurrent);
 		}
 	}
 
@@ -57,7 +55,7 @@ public class BenchmarkConvertBufferedImage {
 	{
 		@Override
 		public void process() {
-			ConvertBufferedImage.convertTo(boofImg,imgBuff);
+			ConvertBufferedImage.convertTo(boofImg,imgBuff,concurrent);
 		}
 	}
 
@@ -99,20 +97,36 @@ public class BenchmarkConvertBufferedImage {
 	public static void evaluateConvert( ImageBase image , String name )
 	{
 		boofImg = image;
-		System.out.printf("Buffered to %s  %10.2f ops/sec\n",name,
-				ProfileOperation.profileOpsPerSec(new FromBuffToBoof(),1000, false));
-		System.out.printf("%s to Buffered  %10.2f ops/sec\n",name,
-				ProfileOperation.profileOpsPerSec(new FromBoofToBuff(),1000, false));
+		for( int i = 0; i < 2; i++ ) {
+			concurrent = i == 1;
+			String suffix = concurrent ? " (concurrent)" : "";
+			System.out.printf("Buffered to %-18s %10.2f ops/sec%s\n",name,
+					ProfileOperation.profileOpsPerSec(new FromBuffToBoof(),1000, false),suffix);
+			System.out.printf("%-18s to Buffered %10.2f ops/sec%s\n",name,
+					ProfileOperation.profileOpsPerSec(new FromBoofToBuff(),1000, false),suffix);
+		}
+	}
 
+	/**
+	 * Profiles conversions between the specified BufferedImage type and each type of BoofCV image.
+	 */
+	public static void evaluateType( int type , String name ) {
+		createBufferedImage(type);
+		int numBands = imgBuff.getRaster().getNumBands();
+		// there is no direct conversion from a 16-bit raster to an interleaved image
+		int interleavedBands = type == BufferedImage.TYPE_USHORT_GRAY ? 3 : numBands;
+
+		System.out.println("---- "+name+" ----");
+		evaluateConvert(imgInt8,"ImageUInt8");
+		evaluateConvert(new ImageFloat32(imgWidth,imgHeight),"ImageFloat32");
+		evaluateConvert(new MultiSpectral<ImageUInt8>(ImageUInt8.class,imgWidth,imgHeight,numBands),"MultiSpectral_U8");
+		evaluateConvert(new ImageInterleavedInt8(imgWidth,imgHeight,interleavedBands),"Interleaved");
 	}
-	
+
 	public static void main( String args[] ) {
 		imgInt8 = new ImageUInt8(imgWidth,imgHeight);
-		multiInt8 = new MultiSpectral<ImageUInt8>(ImageUInt8.class,imgWidth,imgHeight,3);
-		
+
 		GImageMiscOps.fillUniform(imgInt8, rand, 0, 100);
-		for( int i = 0; i < multiInt8.getNumBands(); i++ )
-			GImageMiscOps.fillUniform(multiInt8.getBand(0), rand, 0, 100);
 
 		System.out.println("=========  Profiling for ImageUInt8 ==========");
 		System.out.println();
@@ -121,26 +135,16 @@ public class BenchmarkConvertBufferedImage {
 		System.out.println("------- BufferedImage RGB interface ---------- ");
 		System.out.printf("BufferedImage to ImageUInt8   %10.2f ops/sec\n",
 				ProfileOperation.profileOpsPerSec(new FromInt8ToGenericBuff(),1000, false));
-		System.out.println("---- TYPE_3BYTE_BGR ----");
-		evaluateConvert(imgInt8,"ImageUInt8");
-		evaluateConvert(multiInt8,"MultiSpectral_U8");
-
-		System.out.println("---- TYPE_INT_RGB ----");
-		createBufferedImage(BufferedImage.TYPE_INT_RGB);
-		evaluateConvert(imgInt8,"ImageUInt8");
-		evaluateConvert(multiInt8,"MultiSpectral_U8");
 
-		System.out.println("---- TYPE_BYTE_GRAY ----");
-		createBufferedImage(BufferedImage.TYPE_BYTE_GRAY);
-		evaluateConvert(imgInt8,"ImageUInt8");
+		evaluateType(BufferedImage.TYPE_3BYTE_BGR,"TYPE_3BYTE_BGR");
+		evaluateType(BufferedImage.TYPE_INT_RGB,"TYPE_INT_RGB");
+		evaluateType(BufferedImage.TYPE_INT_ARGB,"TYPE_INT_ARGB");
+		evaluateType(BufferedImage.TYPE_USHORT_GRAY,"TYPE_USHORT_GRAY");
+		evaluateType(BufferedImage.TYPE_BYTE_GRAY,"TYPE_BYTE_GRAY");
 
 		System.out.printf("extractImageInt8             %10.2f ops/sec\n",
 				ProfileOperation.profileOpsPerSec(new ExtractImageInt8(),1000, false));
 		System.out.printf("extractBuffered              %10.2f ops/sec\n",
 				ProfileOperation.profileOpsPerSec(new ExtractBuffered(),1000, false));
-
-		System.out.println();
-		System.out.println("=========  Profiling for ImageInterleavedInt8 ==========");
-		System.out.println();
 	}
 }
@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.abst.filter.blur;
+
+import boofcv.alg.filter.blur.BlurImageOps;
+import boofcv.alg.filter.blur.BlurImageOps_MT;
+import boofcv.misc.CodeGeneratorBase;
+import boofcv.struct.image.ImageSingleBand;
+
+import java.io.FileNotFoundException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.*;
+
+
+/**
+ * Generates {@link BlurSpecialized}.  The blur functions are found using reflection when the code is
+ * generated, so that reflection isn't needed when an image is blurred.
+ *
+ * @author Peter Abeles
+ */
+public class GenerateBlurSpecialized extends CodeGeneratorBase {
+
+	// specialized filters for BlurStorageFilter and MedianImageFilter
+	List<Spec> storage = new ArrayList<Spec>();
+	List<Spec> median = new ArrayList<Spec>();
+
+	Set<Class> imports = new TreeSet<Class>(new Comparator<Class>() {
+		@Override
+		public int compare(Class a, Class b) {
+			return a.getName().compareTo(b.getName());
+		}
+	});
+
+	@Override
+	public void generate() throws FileNotFoundException {
+		findFunctions(BlurImageOps.class, "");
+		findFunctions(BlurImageOps_MT.class, "MT");
+
+		setOutputFile("BlurSpecialized");
+		printPreamble();
+		printLookupStorage();
+		printLookupMedian();
+		printMatches();
+		for( Spec s : storage )
+			printStorage(s);
+		for( Spec s : median )
+			printMedian(s);
+		out.println("}");
+	}
+
+	/**
+	 * Finds all the functions in the class which can be called by {@link BlurStorageFilter} or
+	 * {@link MedianImageFilter}.
+	 */
+	private void findFunctions( Class<?> owner , String label ) {
+		List<Spec> listStorage = new ArrayList<Spec>();
+		List<Spec> listMedian = new ArrayList<Spec>();
+		for( Method m : owner.getMethods() ) {
+			if( !Modifier.isStatic(m.getModifiers()) || m.getDeclaringClass() != owner )
+				continue;
+
+			// the input and output must be the same single band image type
+			Class<?> p[] = m.getParameterTypes();
+			if( p.length < 3 || p[0] != p[1] || !isImage(p[0]) )
+				continue;
+
+			Spec s = new Spec();
+			s.m = m;
+			String name = m.getName();
+			s.className = Character.toUpperCase(name.charAt(0))+name.substring(1)+label+"_"+abbreviate(p[0]);
+
+			if( name.equals("median") ) {
+				if( p.length != 3 || p[2] != int.class )
+					continue;
+				listMedian.add(s);
+			} else {
+				// the storage image is last and sigma and/or radius are before it
+				if( !isImage(p[p.length-1]) )
+					continue;
+				boolean valid;
+				if( p.length == 4 )
+					valid = p[2] == int.class || p[2] == double.class;
+				else
+					valid = p.length == 5 && p[2] == double.class && p[3] == int.class;
+				if( !valid )
+					continue;
+				listStorage.add(s);
+			}
+			imports.add(owner);
+			Collections.addAll(imports, p);
+		}
+
+		sort(listStorage);
+		sort(listMedian);
+		storage.addAll(listStorage);
+		median.addAll(listMedian);
+	}
+
+	private static boolean isImage( Class<?> type ) {
+		return ImageSingleBand.class.isAssignableFrom(type) && !Modifier.isAbstract(type.getModifiers());
+	}
+
+	private static void sort( List<Spec> list ) {
+		Collections.sort(list,new Comparator<Spec>() {
+			@Override
+			public int compare(Spec a, Spec b) {
+				return a.className.compareTo(b.className);
+			}
+		});
+	}
+
+	private static String abbreviate( Class<?> imageType ) {
+		String name = imageType.getSimpleName().substring(5);
+		return name.replace("Float","F").replace("UInt","U").replace("SInt","S").replace("Int","I");
+	}
+
+	private void printPreamble() {
+		imports.add(ImageSingleBand.class);
+		for( Class c : imports ) {
+			if( !c.isPrimitive() )
+				out.println("import "+c.getName()+";");
+		}
+		out.print("\n" +
+				"import java.lang.reflect.Method;\n" +
+				"import java.util.Arrays;\n" +
+				"\n" +
+				"/**\n" +
+				" * <p>\n" +
+				" * Type specific implementations of {@link BlurStorageFilter} and {@link MedianImageFilter}, one for each\n" +
+				" * blur function.  The blur function is looked up once when the filter is created and then called directly\n" +
+				" * each time an image is processed, instead of through reflection.\n" +
+				" * </p>\n" +
+				" *\n" +
+				" * <p>\n" +
+				" * DO NOT MODIFY: Generated by {@link GenerateBlurSpecialized}.\n" +
+				" * </p>\n" +
+				" *\n" +
+				" * @author Peter Abeles\n" +
+				" */\n" +
+				"public class "+className+" {\n\n");
+	}
+
+	private void printLookupStorage() {
+		out.print("\t/**\n" +
+				"\t * Creates a {@link BlurStorageFilter} which calls the specified function directly.\n" +
+				"\t *\n" +
+				"\t * @param m The blur function.\n" +
+				"\t * @return The specialized filter or null if there isn't one for the function.\n" +
+				"\t */\n" +
+				"\tpublic static BlurStorageFilter storage( Method m , Class imageType , double sigma , int radius ) {\n");
+		printMatchList(storage, "imageType,sigma,radius");
+	}
+
+	private void printLookupMedian() {
+		out.print("\t/**\n" +
+				"\t * Creates a {@link MedianImageFilter} which calls the specified function directly.\n" +
+				"\t *\n" +
+				"\t * @param m The median function.\n" +
+				"\t * @return The specialized filter or null if there isn't one for the function.\n" +
+				"\t */\n" +
+				"\tpublic static MedianImageFilter median( Method m , Class imageType , int radius ) {\n");
+		printMatchList(median, "imageType,radius");
+	}
+
+	private void printMatchList( List<Spec> specs , String args ) {
+		for( Spec s : specs ) {
+			String params = "";
+			for( Class<?> c : s.m.getParameterTypes() )
+				params += ","+c.getSimpleName()+".class";
+			out.print("\t\tif( matches(m,"+s.m.getDeclaringClass().getSimpleName()+".class,\""+s.m.getName()+"\""+params+") )\n" +
+					"\t\t\treturn new "+s.className+"(m,"+args+");\n");
+		}
+		out.print("\t\treturn null;\n" +
+				"\t}\n\n");
+	}
+
+	private void printMatches() {
+		out.print("\tprivate static boolean matches( Method m , Class<?> owner , String name , Class<?> ...params ) {\n" +
+				"\t\treturn m.getDeclaringClass() == owner && m.getName().equals(name) &&\n" +
+				"\t\t\t\tArrays.equals(m.getParameterTypes(),params);\n" +
+				"\t}\n\n");
+	}
+
+	private void printStorage( Spec s ) {
+		Class<?> p[] = s.m.getParameterTypes();
+		String image = p[0].getSimpleName();
+		String storage = p[p.length-1].getSimpleName();
+
+		String args;
+		if( p.length == 5 )
+			args = "sigma,radius";
+		else if( p[2] == double.class )
+			args = "sigma";
+		else
+			args = "radius";
+
+		out.print("\tpublic static class "+s.className+" extends BlurStorageFilter<"+image+"> {\n" +
+				"\t\tpublic "+s.className+"( Method m , Class<"+image+"> imageType , double sigma , int radius ) {\n" +
+				"\t\t\tsuper(m, imageType, sigma, radius);\n" +
+				"\t\t}\n" +
+				"\n" +
+				"\t\t@Override\n" +
+				"\t\tprotected void apply( "+image+" input , "+image+" output , ImageSingleBand storage ) {\n" +
+				"\t\t\t"+call(s)+"(input,output,"+args+",("+storage+")storage);\n" +
+				"\t\t}\n" +
+				"\t}\n\n");
+	}
+
+	private void printMedian( Spec s ) {
+		String image = s.m.getParameterTypes()[0].getSimpleName();
+
+		out.print("\tpublic static class "+s.className+" extends MedianImageFilter<"+image+"> {\n" +
+				"\t\tpublic "+s.className+"( Method m , Class<"+image+"> imageType , int radius ) {\n" +
+				"\t\t\tsuper(m, imageType, radius);\n" +
+				"\t\t}\n" +
+				"\n" +
+				"\t\t@Override\n" +
+				"\t\tpublic void process( "+image+" input , "+image+" output ) {\n" +
+				"\t\t\t"+call(s)+"(input,output,radius);\n" +
+				"\t\t}\n" +
+				"\t}\n\n");
+	}
+
+	private static String call( Spec s ) {
+		return s.m.getDeclaringClass().getSimpleName()+"."+s.m.getName();
+	}
+
+	private static class Spec {
+		Method m;
+		String className;
+	}
+
+	public static void main( String args[] ) throws FileNotFoundException {
+		GenerateBlurSpecialized app = new GenerateBlurSpecialized();
+		app.generate();
+	}
+}
@@ -0,0 +1,279 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.abst.filter.convolve;
+
+import boofcv.alg.filter.convolve.*;
+import boofcv.core.image.border.BorderType;
+import boofcv.core.image.border.ImageBorder;
+import boofcv.misc.CodeGeneratorBase;
+import boofcv.struct.convolve.KernelBase;
+import boofcv.struct.image.ImageSingleBand;
+
+import java.io.FileNotFoundException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.*;
+
+
+/**
+ * Generates {@link ConvolveSpecialized}.  The convolution functions are found using reflection when the code is
+ * generated, so that reflection isn't needed when an image is convolved.
+ *
+ * @author Peter Abeles
+ */
+public class GenerateConvolveSpecialized extends CodeGeneratorBase {
+
+	// the kind of arguments which are passed to the function
+	private enum Args {
+		// boolean flag for including the border
+		NO_BORDER,
+		// image border
+		BORDER,
+		// nothing after the images
+		NONE,
+		// number of pixels skipped
+		SKIP
+	}
+
+	// specialized filters for GenericConvolve and GenericConvolveDown
+	List<Spec> convolve = new ArrayList<Spec>();
+	List<Spec> convolveDown = new ArrayList<Spec>();
+
+	Set<Class> imports = new TreeSet<Class>(new Comparator<Class>() {
+		@Override
+		public int compare(Class a, Class b) {
+			return a.getName().compareTo(b.getName());
+		}
+	});
+
+	@Override
+	public void generate() throws FileNotFoundException {
+		findFunctions(convolve, ConvolveImageNoBorder.class, "NoBorder", Args.NO_BORDER);
+		findFunctions(convolve, ConvolveImageNoBorder_MT.class, "NoBorderMT", Args.NO_BORDER);
+		findFunctions(convolve, ConvolveWithBorder.class, "Border", Args.BORDER);
+		findFunctions(convolve, ConvolveWithBorder_MT.class, "BorderMT", Args.BORDER);
+		findFunctions(convolve, ConvolveNormalized.class, "Normalized", Args.NONE);
+		findFunctions(convolve, ConvolveNormalized_MT.class, "NormalizedMT", Args.NONE);
+		findFunctions(convolveDown, ConvolveDownNoBorder.class, "Down", Args.SKIP);
+		findFunctions(convolveDown, ConvolveDownNormalized.class, "DownNormalized", Args.SKIP);
+
+		setOutputFile("ConvolveSpecialized");
+		printPreamble();
+		printLookup(convolve, "GenericConvolve", "convolve", "type , imageType");
+		printLookup(convolveDown, "GenericConvolveDown", "convolveDown", "type , skip , imageType");
+		printMatches();
+		for( Spec s : convolve )
+			printConvolve(s);
+		for( Spec s : convolveDown )
+			printConvolveDown(s);
+		out.println("}");
+	}
+
+	/**
+	 * Finds all the functions in the class which can be called by {@link GenericConvolve} or
+	 * {@link GenericConvolveDown}.
+	 */
+	private void findFunctions( List<Spec> found , Class<?> owner , String label , Args args ) {
+		List<Spec> list = new ArrayList<Spec>();
+		for( Method m : owner.getMethods() ) {
+			if( !Modifier.isStatic(m.getModifiers()) || m.getDeclaringClass() != owner )
+				continue;
+			String name = m.getName();
+			if( !name.equals("horizontal") && !name.equals("vertical") && !name.equals("convolve") )
+				continue;
+
+			Class<?> p[] = m.getParameterTypes();
+			if( p.length < 3 || !KernelBase.class.isAssignableFrom(p[0]) ||
+					!ImageSingleBand.class.isAssignableFrom(p[1]) || !ImageSingleBand.class.isAssignableFrom(p[2]))
+				continue;
+
+			boolean is2D = name.equals("convolve");
+			boolean valid;
+			switch( args ) {
+				case NO_BORDER:
+					// the 2D convolution has no border flag
+					if( is2D )
+						valid = p.length == 3;
+					else
+						valid = p.length == 4 && p[3] == boolean.class;
+					break;
+
+				case BORDER:
+					valid = p.length == 4 && ImageBorder.class.isAssignableFrom(p[3]);
+					break;
+
+				case NONE:
+					valid = p.length == 3;
+					break;
+
+				case SKIP:
+					valid = p.length == 4 && p[3] == int.class;
+					break;
+
+				default:
+					throw new RuntimeException("Unknown");
+			}
+			if( !valid )
+				continue;
+
+			Spec s = new Spec();
+			s.m = m;
+			s.args = is2D && args == Args.NO_BORDER ? Args.NONE : args;
+			s.className = Character.toUpperCase(name.charAt(0))+name.substring(1)+label+"_"+
+					abbreviate(p[1])+"_"+abbreviate(p[2]);
+			list.add(s);
+			imports.add(owner);
+			Collections.addAll(imports, p);
+		}
+
+		Collections.sort(list,new Comparator<Spec>() {
+			@Override
+			public int compare(Spec a, Spec b) {
+				return a.className.compareTo(b.className);
+			}
+		});
+		found.addAll(list);
+	}
+
+	private static String abbreviate( Class<?> imageType ) {
+		String name = imageType.getSimpleName().substring(5);
+		return name.replace("Float","F").replace("UInt","U").replace("SInt","S").replace("Int","I");
+	}
+
+	private void printPreamble() {
+		imports.add(BorderType.class);
+		imports.add(KernelBase.class);
+		for( Class c : imports ) {
+			if( !c.isPrimitive() )
+				out.println("import "+c.getName()+";");
+		}
+		out.print("\n" +
+				"import java.lang.reflect.Method;\n" +
+				"import java.util.Arrays;\n" +
+				"\n" +
+				"/**\n" +
+				" * <p>\n" +
+				" * Type specific implementations of {@link GenericConvolve} and {@link GenericConvolveDown}, one for each\n" +
+				" * convolution function.  The convolution function is looked up once when the filter is created and then\n" +
+				" * called directly each time an image is processed, instead of through reflection.\n" +
+				" * </p>\n" +
+				" *\n" +
+				" * <p>\n" +
+				" * DO NOT MODIFY: Generated by {@link GenerateConvolveSpecialized}.\n" +
+				" * </p>\n" +
+				" *\n" +
+				" * @author Peter Abeles\n" +
+				" */\n" +
+				"@SuppressWarnings({\"unchecked\"})\n" +
+				"public class "+className+" {\n\n");
+	}
+
+	private void printLookup( List<Spec> specs , String type , String name , String args ) {
+		String skip = type.equals("GenericConvolveDown") ? " , int skip" : "";
+		out.print("\t/**\n" +
+				"\t * Creates a {@link "+type+"} which calls the specified function directly.\n" +
+				"\t *\n" +
+				"\t * @param m The convolution function.\n" +
+				"\t * @return The specialized filter or null if there isn't one for the function.\n" +
+				"\t */\n" +
+				"\tpublic static "+type+" "+name+"( Method m , KernelBase kernel , BorderType type"+skip+" , Class imageType ) {\n");
+		for( Spec s : specs ) {
+			Class<?> p[] = s.m.getParameterTypes();
+			String params = "";
+			for( Class<?> c : p )
+				params += ","+c.getSimpleName()+".class";
+			out.print("\t\tif( matches(m,"+s.m.getDeclaringClass().getSimpleName()+".class,\""+s.m.getName()+"\""+params+") )\n" +
+					"\t\t\treturn new "+s.className+"(m,kernel,"+args.replace(" ","")+");\n");
+		}
+		out.print("\t\treturn null;\n" +
+				"\t}\n\n");
+	}
+
+	private void printMatches() {
+		out.print("\tprivate static boolean matches( Method m , Class<?> owner , String name , Class<?> ...params ) {\n" +
+				"\t\treturn m.getDeclaringClass() == owner && m.getName().equals(name) &&\n" +
+				"\t\t\t\tArrays.equals(m.getParameterTypes(),params);\n" +
+				"\t}\n\n");
+	}
+
+	private void printConvolve( Spec s ) {
+		Class<?> p[] = s.m.getParameterTypes();
+		String kernel = p[0].getSimpleName();
+		String input = p[1].getSimpleName();
+		String output = p[2].getSimpleName();
+
+		out.print("\tpublic static class "+s.className+" extends GenericConvolve<"+input+","+output+"> {\n" +
+				"\t\t"+kernel+" k;\n");
+		if( s.args == Args.BORDER )
+			out.print("\t\t"+p[3].getSimpleName()+" b;\n");
+		out.print("\n" +
+				"\t\tpublic "+s.className+"( Method m , KernelBase kernel , BorderType type , Class<"+input+"> imageType ) {\n" +
+				"\t\t\tsuper(m, kernel, type, imageType);\n" +
+				"\t\t\tk = ("+kernel+")kernel;\n");
+		if( s.args == Args.BORDER )
+			out.print("\t\t\tb = ("+p[3].getSimpleName()+")borderRule;\n");
+		out.print("\t\t}\n" +
+				"\n" +
+				"\t\t@Override\n" +
+				"\t\tpublic void process( "+input+" input , "+output+" output ) {\n" +
+				"\t\t\t"+s.m.getDeclaringClass().getSimpleName()+"."+s.m.getName()+"(k,input,output"+extraArgs(s)+");\n" +
+				"\t\t}\n" +
+				"\t}\n\n");
+	}
+
+	private void printConvolveDown( Spec s ) {
+		Class<?> p[] = s.m.getParameterTypes();
+		String kernel = p[0].getSimpleName();
+		String input = p[1].getSimpleName();
+		String output = p[2].getSimpleName();
+
+		out.print("\tpublic static class "+s.className+" extends GenericConvolveDown<"+input+","+output+"> {\n" +
+				"\t\t"+kernel+" k;\n" +
+				"\n" +
+				"\t\tpublic "+s.className+"( Method m , KernelBase kernel , BorderType type , int skip , Class<"+input+"> imageType ) {\n" +
+				"\t\t\tsuper(m, kernel, type, skip, imageType);\n" +
+				"\t\t\tk = ("+kernel+")kernel;\n" +
+				"\t\t}\n" +
+				"\n" +
+				"\t\t@Override\n" +
+				"\t\tpublic void process( "+input+" input , "+output+" output ) {\n" +
+				"\t\t\t"+s.m.getDeclaringClass().getSimpleName()+"."+s.m.getName()+"(k,input,output,skip);\n" +
+				"\t\t}\n" +
+				"\t}\n\n");
+	}
+
+	private static String extraArgs( Spec s ) {
+		switch( s.args ) {
+			case NO_BORDER: return ",false";
+			case BORDER: return ",b";
+			default: return "";
+		}
+	}
+
+	private static class Spec {
+		Method m;
+		Args args;
+		String className;
+	}
+
+	public static void main( String args[] ) throws FileNotFoundException {
+		GenerateConvolveSpecialized app = new GenerateConvolveSpecialized();
+		app.generate();
+	}
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.abst.filter.derivative;
+
+import boofcv.alg.filter.derivative.*;
+import boofcv.core.image.border.ImageBorder;
+import boofcv.misc.CodeGeneratorBase;
+import boofcv.struct.image.ImageSingleBand;
+
+import java.io.FileNotFoundException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.*;
+
+
+/**
+ * Generates {@link DerivativeSpecialized}.  The derivative functions are found using reflection when the code is
+ * generated, so that reflection isn't needed when the derivative of an image is computed.
+ *
+ * @author Peter Abeles
+ */
+public class GenerateDerivativeSpecialized extends CodeGeneratorBase {
+
+	List<Spec> gradient = new ArrayList<Spec>();
+	List<Spec> hessianDirect = new ArrayList<Spec>();
+	List<Spec> hessian = new ArrayList<Spec>();
+
+	Set<Class> imports = new TreeSet<Class>(new Comparator<Class>() {
+		@Override
+		public int compare(Class a, Class b) {
+			return a.getName().compareTo(b.getName());
+		}
+	});
+
+	@Override
+	public void generate() throws FileNotFoundException {
+		findFunctions(gradient, GradientPrewitt.class, "process", 4);
+		findFunctions(gradient, GradientSobel.class, "process", 4);
+		findFunctions(gradient, GradientThree.class, "process", 4);
+		findFunctions(hessianDirect, HessianSobel.class, "process", 5);
+		findFunctions(hessianDirect, HessianThree.class, "process", 5);
+		findFunctions(hessian, HessianFromGradient.class, "hessian", 6);
+
+		setOutputFile("DerivativeSpecialized");
+		printPreamble();
+		printLookup(gradient, "ImageGradient", "gradient");
+		printLookup(hessianDirect, "ImageHessianDirect", "hessianDirect");
+		printLookup(hessian, "ImageHessian", "hessian");
+		printMatches();
+		for( Spec s : gradient )
+			printGradient(s);
+		for( Spec s : hessianDirect )
+			printHessianDirect(s);
+		for( Spec s : hessian )
+			printHessian(s);
+		out.println("}");
+	}
+
+	/**
+	 * Finds all the functions in the class which start with the specified name, have the specified number
+	 * of arguments, and end with an image border.
+	 */
+	private void findFunctions( List<Spec> found , Class<?> owner , String prefix , int numArgs ) {
+		List<Spec> list = new ArrayList<Spec>();
+		for( Method m : owner.getMethods() ) {
+			if( !Modifier.isStatic(m.getModifiers()) || m.getDeclaringClass() != owner )
+				continue;
+			if( !m.getName().startsWith(prefix) )
+				continue;
+
+			Class<?> p[] = m.getParameterTypes();
+			if( p.length != numArgs || !ImageBorder.class.isAssignableFrom(p[numArgs-1]) )
+				continue;
+			boolean valid = true;
+			for( int i = 0; i < numArgs-1; i++ )
+				valid &= ImageSingleBand.class.isAssignableFrom(p[i]);
+			if( !valid )
+				continue;
+
+			Spec s = new Spec();
+			s.m = m;
+			if( owner == HessianFromGradient.class )
+				s.className = "Hessian"+m.getName().substring(prefix.length())+"FromGradient_"+abbreviate(p[0]);
+			else
+				s.className = owner.getSimpleName()+"_"+abbreviate(p[0])+"_"+abbreviate(p[1]);
+			list.add(s);
+			imports.add(owner);
+			Collections.addAll(imports, p);
+		}
+
+		Collections.sort(list,new Comparator<Spec>() {
+			@Override
+			public int compare(Spec a, Spec b) {
+				return a.className.compareTo(b.className);
+			}
+		});
+		found.addAll(list);
+	}
+
+	private static String abbreviate( Class<?> imageType ) {
+		String name = imageType.getSimpleName().substring(5);
+		return name.replace("Float","F").replace("UInt","U").replace("SInt","S").replace("Int","I");
+	}
+
+	private void printPreamble() {
+		for( Class c : imports ) {
+			out.println("import "+c.getName()+";");
+		}
+		out.print("\n" +
+				"import java.lang.reflect.Method;\n" +
+				"import java.util.Arrays;\n" +
+				"\n" +
+				"/**\n" +
+				" * <p>\n" +
+				" * Type specific implementations of {@link ImageGradient_Reflection}, {@link ImageHessianDirect_Reflection},\n" +
+				" * and {@link ImageHessian_Reflection}, one for each derivative function.  The derivative function is looked\n" +
+				" * up once when the filter is created and then called directly each time an image is processed, instead of\n" +
+				" * through reflection.\n" +
+				" * </p>\n" +
+				" *\n" +
+				" * <p>\n" +
+				" * DO NOT MODIFY: Generated by {@link GenerateDerivativeSpecialized}.\n" +
+				" * </p>\n" +
+				" *\n" +
+				" * @author Peter Abeles\n" +
+				" */\n" +
+				"public class "+className+" {\n\n");
+	}
+
+	private void printLookup( List<Spec> specs , String type , String name ) {
+		out.print("\t/**\n" +
+				"\t * Creates an {@link "+type+"} which calls the specified function directly.\n" +
+				"\t *\n" +
+				"\t * @param m The derivative function.\n" +
+				"\t * @return The specialized filter or null if there isn't one for the function.\n" +
+				"\t */\n" +
+				"\tpublic static "+type+" "+name+"( Method m ) {\n");
+		for( Spec s : specs ) {
+			String params = "";
+			for( Class<?> c : s.m.getParameterTypes() )
+				params += ","+c.getSimpleName()+".class";
+			out.print("\t\tif( matches(m,"+s.m.getDeclaringClass().getSimpleName()+".class,\""+s.m.getName()+"\""+params+") )\n" +
+					"\t\t\treturn new "+s.className+"(m);\n");
+		}
+		out.print("\t\treturn null;\n" +
+				"\t}\n\n");
+	}
+
+	private void printMatches() {
+		out.print("\tprivate static boolean matches( Method m , Class<?> owner , String name , Class<?> ...params ) {\n" +
+				"\t\treturn m.getDeclaringClass() == owner && m.getName().equals(name) &&\n" +
+				"\t\t\t\tArrays.equals(m.getParameterTypes(),params);\n" +
+				"\t}\n\n");
+	}
+
+	private void printGradient( Spec s ) {
+		Class<?> p[] = s.m.getParameterTypes();
+		String input = p[0].getSimpleName();
+		String deriv = p[1].getSimpleName();
+		String border = p[3].getSimpleName();
+
+		printHeader(s,"ImageGradient_Reflection<"+input+","+deriv+">");
+		out.print("\t\t@Override\n" +
+				"\t\tpublic void process( "+input+" inputImage , "+deriv+" derivX , "+deriv+" derivY ) {\n" +
+				"\t\t\t"+call(s)+"(inputImage, derivX, derivY, ("+border+")border);\n" +
+				"\t\t}\n" +
+				"\t}\n\n");
+	}
+
+	private void printHessianDirect( Spec s ) {
+		Class<?> p[] = s.m.getParameterTypes();
+		String input = p[0].getSimpleName();
+		String deriv = p[1].getSimpleName();
+		String border = p[4].getSimpleName();
+
+		printHeader(s,"ImageHessianDirect_Reflection<"+input+","+deriv+">");
+		out.print("\t\t@Override\n" +
+				"\t\tpublic void process( "+input+" inputImage , "+deriv+" derivXX , "+deriv+" derivYY , "+deriv+" derivXY ) {\n" +
+				"\t\t\t"+call(s)+"(inputImage, derivXX, derivYY, derivXY, ("+border+")border);\n" +
+				"\t\t}\n" +
+				"\t}\n\n");
+	}
+
+	private void printHessian( Spec s ) {
+		Class<?> p[] = s.m.getParameterTypes();
+		String deriv = p[0].getSimpleName();
+		String border = p[5].getSimpleName();
+
+		printHeader(s,"ImageHessian_Reflection<"+deriv+">");
+		out.print("\t\t@Override\n" +
+				"\t\tpublic void process( "+deriv+" inputDerivX , "+deriv+" inputDerivY , "+deriv+" derivXX , "+
+				deriv+" derivYY , "+deriv+" derivXY ) {\n" +
+				"\t\t\t"+call(s)+"(inputDerivX, inputDerivY, derivXX, derivYY, derivXY, ("+border+")border);\n" +
+				"\t\t}\n" +
+				"\t}\n\n");
+	}
+
+	private void printHeader( Spec s , String parent ) {
+		out.print("\tpublic static class "+s.className+" extends "+parent+" {\n" +
+				"\t\tpublic "+s.className+"( Method m ) {\n" +
+				"\t\t\tsuper(m);\n" +
+				"\t\t}\n" +
+				"\n");
+	}
+
+	private static String call( Spec s ) {
+		return s.m.getDeclaringClass().getSimpleName()+"."+s.m.getName();
+	}
+
+	private static class Spec {
+		Method m;
+		String className;
+	}
+
+	public static void main( String args[] ) throws FileNotFoundException {
+		GenerateDerivativeSpecialized app = new GenerateDerivativeSpecialized();
+		app.generate();
+	}
+}
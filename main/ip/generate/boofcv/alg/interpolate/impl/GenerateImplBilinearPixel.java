@@ -48,6 +48,7 @@ public class GenerateImplBilinearPixel extends CodeGeneratorBase {
 	private void createFile() throws FileNotFoundException {
 		printPreamble();
 		printTheRest();
+		printBatch();
 		out.println("}");
 	}
 
@@ -132,6 +133,83 @@ public class GenerateImplBilinearPixel extends CodeGeneratorBase {
 				"\t}\n\n");
 	}
 
+	private void printBatch() {
+		String bitWise = image.getBitWise();
+
+		out.print("\t@Override\n" +
+				"\tpublic void get(float[] x, float[] y, int offset, int length, float[] values) {\n" +
+				"\t\tfinal "+image.getDataType()+"[] data = orig.data;\n" +
+				"\t\tfinal float widthF = width;\n" +
+				"\t\tfinal float heightF = height;\n" +
+				"\n" +
+				"\t\tfor( int i = 0; i < length; i++ ) {\n" +
+				"\t\t\tfloat xf = x[offset+i];\n" +
+				"\t\t\tfloat yf = y[offset+i];\n" +
+				"\n" +
+				"\t\t\t// skip points outside of the image\n" +
+				"\t\t\tif( !(xf >= 0 && yf >= 0 && xf < widthF && yf < heightF) )\n" +
+				"\t\t\t\tcontinue;\n" +
+				"\n" +
+				"\t\t\tint xt = (int) xf;\n" +
+				"\t\t\tint yt = (int) yf;\n" +
+				"\t\t\tfloat ax = xf - xt;\n" +
+				"\t\t\tfloat ay = yf - yt;\n" +
+				"\n" +
+				"\t\t\tint index = orig.startIndex + yt * stride + xt;\n" +
+				"\n" +
+				"\t\t\tint dx = xt == width - 1 ? 0 : 1;\n" +
+				"\t\t\tint dy = yt == height - 1 ? 0 : stride;\n" +
+				"\n" +
+				"\t\t\tfloat val = (1.0f - ax) * (1.0f - ay) * (data[index] "+bitWise+"); // (x,y)\n" +
+				"\t\t\tval += ax * (1.0f - ay) * (data[index + dx] "+bitWise+"); // (x+1,y)\n" +
+				"\t\t\tval += ax * ay * (data[index + dx + dy] "+bitWise+"); // (x+1,y+1)\n" +
+				"\t\t\tval += (1.0f - ax) * ay * (data[index + dy] "+bitWise+"); // (x,y+1)\n" +
+				"\n" +
+				"\t\t\tvalues[i] = val;\n" +
+				"\t\t}\n" +
+				"\t}\n" +
+				"\n" +
+				"\t@Override\n" +
+				"\tpublic void getRow(float y, float stepX, float offsetX, int indexStart, int length, float[] values) {\n" +
+				"\t\t// skip rows outside of the image\n" +
+				"\t\tif( !(y >= 0 && y < height) )\n" +
+				"\t\t\treturn;\n" +
+				"\n" +
+				"\t\tfinal "+image.getDataType()+"[] data = orig.data;\n" +
+				"\t\tfinal float widthF = width;\n" +
+				"\n" +
+				"\t\t// everything which depends on the y-coordinate is the same for the whole row\n" +
+				"\t\tint yt = (int) y;\n" +
+				"\t\tfloat ay = y - yt;\n" +
+				"\t\tint indexRow = orig.startIndex + yt * stride;\n" +
+				"\t\tint dy = yt == height - 1 ? 0 : stride;\n" +
+				"\n" +
+				"\t\t// the index is kept as a float since converting from int to float is expensive\n" +
+				"\t\tfloat indexF = indexStart;\n" +
+				"\t\tfor( int i = 0; i < length; i++ , indexF++ ) {\n" +
+				"\t\t\tfloat xf = stepX*indexF + offsetX;\n" +
+				"\n" +
+				"\t\t\t// skip points outside of the image\n" +
+				"\t\t\tif( !(xf >= 0 && xf < widthF) )\n" +
+				"\t\t\t\tcontinue;\n" +
+				"\n" +
+				"\t\t\tint xt = (int) xf;\n" +
+				"\t\t\tfloat ax = xf - xt;\n" +
+				"\n" +
+				"\t\t\tint index = indexRow + xt;\n" +
+				"\t\t\tint dx = xt == width - 1 ? 0 : 1;\n" +
+				"\n" +
+				"\t\t\tfloat val = (1.0f - ax) * (1.0f - ay) * (data[index] "+bitWise+"); // (x,y)\n" +
+				"\t\t\tval += ax * (1.0f - ay) * (data[index + dx] "+bitWise+"); // (x+1,y)\n" +
+				"\t\t\tval += ax * ay * (data[index + dx + dy] "+bitWise+"); // (x+1,y+1)\n" +
+				"\t\t\tval += (1.0f - ax) * ay * (data[index + dy] "+bitWise+"); // (x,y+1)\n" +
+				"\n" +
+				"\t\t\tvalues[i] = val;\n" +
+				"\t\t}\n" +
+				"\t}\n" +
+				"\n");
+	}
+
 	public static void main( String args[] ) throws FileNotFoundException {
 		GenerateImplBilinearPixel gen = new GenerateImplBilinearPixel();
 		gen.generate();
@@ -50,6 +50,7 @@ public class GenerateImplInterpolatePixelConvolution extends CodeGeneratorBase {
 		printPreamble(className);
 
 		printFuncs();
+		printBatch();
 
 		out.print("\n" +
 				"}\n");
@@ -84,6 +85,8 @@ public class GenerateImplInterpolatePixelConvolution extends CodeGeneratorBase {
 				"\tprivate "+inputType.getImageName()+" image;\n" +
 				"\t// minimum and maximum allowed pixel values\n" +
 				"\tprivate float min,max;\n" +
+				"\t// storage for kernel weights along each axis when interpolating many points\n" +
+				"\tprivate float weightX[],weightY[];\n" +
 				"\n" +
 				"\tpublic "+fileName+"(KernelContinuous1D_F32 kernel , float min , float max ) {\n" +
 				"\t\tthis.kernel = kernel;\n" +
@@ -203,6 +206,111 @@ public class GenerateImplInterpolatePixelConvolution extends CodeGeneratorBase {
 				"\t}\n");
 	}
 
+	private void printBatch() {
+		String bitWise = inputType.getBitWise();
+
+		out.print("\n" +
+				"\t@Override\n" +
+				"\tpublic void get(float[] x, float[] y, int offset, int length, float[] values) {\n" +
+				"\t\tfinal int radius = kernel.getRadius();\n" +
+				"\t\tfinal int width = kernel.getWidth();\n" +
+				"\t\tfinal float minSafeX = getUnsafeBorderX();\n" +
+				"\t\tfinal float minSafeY = getUnsafeBorderY();\n" +
+				"\t\tfinal float maxSafeX = image.width - minSafeX;\n" +
+				"\t\tfinal float maxSafeY = image.height - minSafeY;\n" +
+				"\t\tfinal float widthF = image.width;\n" +
+				"\t\tfinal float heightF = image.height;\n" +
+				"\n" +
+				"\t\tdeclareWeights(width);\n" +
+				"\n" +
+				"\t\tfor( int i = 0; i < length; i++ ) {\n" +
+				"\t\t\tfloat xf = x[offset+i];\n" +
+				"\t\t\tfloat yf = y[offset+i];\n" +
+				"\n" +
+				"\t\t\tif( xf >= minSafeX && xf < maxSafeX && yf >= minSafeY && yf < maxSafeY ) {\n" +
+				"\t\t\t\tcomputeWeights(xf, radius, width, weightX);\n" +
+				"\t\t\t\tcomputeWeights(yf, radius, width, weightY);\n" +
+				"\t\t\t\tvalues[i] = convolve((int)xf - radius, (int)yf - radius, width);\n" +
+				"\t\t\t} else if( xf >= 0 && yf >= 0 && xf < widthF && yf < heightF )\n" +
+				"\t\t\t\tvalues[i] = get(xf,yf);\n" +
+				"\t\t}\n" +
+				"\t}\n" +
+				"\n" +
+				"\t@Override\n" +
+				"\tpublic void getRow(float y, float stepX, float offsetX, int indexStart, int length, float[] values) {\n" +
+				"\t\tfinal int radius = kernel.getRadius();\n" +
+				"\t\tfinal int width = kernel.getWidth();\n" +
+				"\t\tfinal float minSafeX = getUnsafeBorderX();\n" +
+				"\t\tfinal float minSafeY = getUnsafeBorderY();\n" +
+				"\t\tfinal float maxSafeX = image.width - minSafeX;\n" +
+				"\t\tfinal float maxSafeY = image.height - minSafeY;\n" +
+				"\t\tfinal float widthF = image.width;\n" +
+				"\n" +
+				"\t\t// skip rows outside of the image\n" +
+				"\t\tif( !(y >= 0 && y < image.height) )\n" +
+				"\t\t\treturn;\n" +
+				"\n" +
+				"\t\tdeclareWeights(width);\n" +
+				"\n" +
+				"\t\t// weights along the y-axis are the same for the whole row\n" +
+				"\t\tboolean safeRow = y >= minSafeY && y < maxSafeY;\n" +
+				"\t\tif( safeRow )\n" +
+				"\t\t\tcomputeWeights(y, radius, width, weightY);\n" +
+				"\t\tint y0 = (int)y - radius;\n" +
+				"\n" +
+				"\t\t// the index is kept as a float since converting from int to float is expensive\n" +
+				"\t\tfloat indexF = indexStart;\n" +
+				"\t\tfor( int i = 0; i < length; i++ , indexF++ ) {\n" +
+				"\t\t\tfloat xf = stepX*indexF + offsetX;\n" +
+				"\n" +
+				"\t\t\tif( safeRow && xf >= minSafeX && xf < maxSafeX ) {\n" +
+				"\t\t\t\tcomputeWeights(xf, radius, width, weightX);\n" +
+				"\t\t\t\tvalues[i] = convolve((int)xf - radius, y0, width);\n" +
+				"\t\t\t} else if( xf >= 0 && xf < widthF )\n" +
+				"\t\t\t\tvalues[i] = get(xf,y);\n" +
+				"\t\t}\n" +
+				"\t}\n" +
+				"\n" +
+				"\tprivate void declareWeights( int width ) {\n" +
+				"\t\tif( weightX == null || weightX.length != width ) {\n" +
+				"\t\t\tweightX = new float[width];\n" +
+				"\t\t\tweightY = new float[width];\n" +
+				"\t\t}\n" +
+				"\t}\n" +
+				"\n" +
+				"\t/**\n" +
+				"\t * Computes the kernel weight for each pixel from (int)p-radius to (int)p-radius+width-1\n" +
+				"\t */\n" +
+				"\tprivate void computeWeights( float p , int radius , int width , float weights[] ) {\n" +
+				"\t\tint p0 = (int)p - radius;\n" +
+				"\t\tfor( int k = 0; k < width; k++ ) {\n" +
+				"\t\t\tweights[k] = kernel.compute(p0+k-p);\n" +
+				"\t\t}\n" +
+				"\t}\n" +
+				"\n" +
+				"\t/**\n" +
+				"\t * Same as {@link #get_unsafe(float, float)} but with weights which have already been computed\n" +
+				"\t */\n" +
+				"\tprivate float convolve( int x0 , int y0 , int width ) {\n" +
+				"\t\tfloat value = 0;\n" +
+				"\t\tfor( int i = 0; i < width; i++ ) {\n" +
+				"\t\t\tint indexSrc = image.startIndex + (y0+i)*image.stride + x0;\n" +
+				"\t\t\tfloat valueX = 0;\n" +
+				"\t\t\tfor( int j = 0; j < width; j++ ) {\n" +
+				"\t\t\t\tvalueX += weightX[j] * (image.data[ indexSrc++ ]"+bitWise+");\n" +
+				"\t\t\t}\n" +
+				"\t\t\tvalue += weightY[i]*valueX;\n" +
+				"\t\t}\n" +
+				"\n" +
+				"\t\tif( value > max )\n" +
+				"\t\t\treturn max;\n" +
+				"\t\telse if( value < min )\n" +
+				"\t\t\treturn min;\n" +
+				"\t\telse\n" +
+				"\t\t\treturn value;\n" +
+				"\t}\n");
+	}
+
 	public static void main( String args[] ) throws FileNotFoundException {
 		GenerateImplInterpolatePixelConvolution app = new GenerateImplInterpolatePixelConvolution();
 		app.generate();
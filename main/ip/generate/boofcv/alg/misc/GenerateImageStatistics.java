@@ -41,6 +41,16 @@ public class GenerateImageStatistics extends CodeGeneratorBase {
 		out.println("}");
 	}
 
+	/**
+	 * Generates {@link ImageStatistics_MT}, which computes the statistics on fixed bands of rows concurrently
+	 * and then combines the results for each band.
+	 */
+	public void generateConcurrent() throws FileNotFoundException {
+		printPreambleConcurrent();
+		printAllConcurrent();
+		out.println("}");
+	}
+
 	private void printPreamble() throws FileNotFoundException {
 		setOutputFile(className);
 		out.print("import boofcv.struct.image.*;\n" +
@@ -283,8 +293,169 @@ public class GenerateImageStatistics extends CodeGeneratorBase {
 				"\t}\n\n");
 	}
 
+	private void printPreambleConcurrent() throws FileNotFoundException {
+		setOutputFile(className+"_MT");
+		out.print("import boofcv.concurrency.BoofConcurrency;\n" +
+				"import boofcv.concurrency.IntRangeTask;\n" +
+				"import boofcv.struct.image.*;\n" +
+				"\n" +
+				"/**\n" +
+				" * <p>\n" +
+				" * Concurrent implementations of functions in {@link "+className+"}.  The image is split into bands with\n" +
+				" * a fixed number of rows, independent of the number of threads, and the results for each band are combined\n" +
+				" * in the same order every time.  Results for integer images are identical to the single threaded version.\n" +
+				" * Results for floating point images are always the same, but can differ from the single threaded version\n" +
+				" * by round off error.\n" +
+				" * </p>\n" +
+				" *\n" +
+				" * <p>DO NOT MODIFY: Generated by {@link "+getClass().getName()+"}.</p>\n"+
+				" *\n"+
+				" * @author Peter Abeles\n" +
+				" */\n" +
+				"public class "+className+"_MT {\n" +
+				"\n" +
+				"\t/**\n" +
+				"\t * Number of rows in each band\n" +
+				"\t */\n" +
+				"\tpublic static final int BAND_ROWS = 32;\n" +
+				"\n" +
+				"\tprivate static int numBands( int height ) {\n" +
+				"\t\treturn (height + BAND_ROWS - 1)/BAND_ROWS;\n" +
+				"\t}\n\n");
+	}
+
+	public void printAllConcurrent() {
+		for( AutoTypeImage t : AutoTypeImage.getSpecificTypes() ) {
+			input = t;
+			String image = input.getImageName();
+			String sumType = input.getSumType();
+			String bitWise = input.getBitWise();
+
+			printReduction(sumType,"min","final "+image+" input",sumType,"input",
+					serialCall("min","input"),
+					"\t\t"+sumType+" min = partial[0];\n" +
+					"\t\tfor( int i = 1; i < numBands; i++ ) {\n" +
+					"\t\t\tif( partial[i] < min )\n" +
+					"\t\t\t\tmin = partial[i];\n" +
+					"\t\t}\n" +
+					"\t\treturn min;\n");
+			printReduction(sumType,"max","final "+image+" input",sumType,"input",
+					serialCall("max","input"),
+					"\t\t"+sumType+" max = partial[0];\n" +
+					"\t\tfor( int i = 1; i < numBands; i++ ) {\n" +
+					"\t\t\tif( partial[i] > max )\n" +
+					"\t\t\t\tmax = partial[i];\n" +
+					"\t\t}\n" +
+					"\t\treturn max;\n");
+			printReduction(sumType,"maxAbs","final "+image+" input",sumType,"input",
+					serialCall("maxAbs","input"),
+					"\t\t"+sumType+" max = 0;\n" +
+					"\t\tfor( int i = 0; i < numBands; i++ ) {\n" +
+					"\t\t\tif( partial[i] > max )\n" +
+					"\t\t\t\tmax = partial[i];\n" +
+					"\t\t}\n" +
+					"\t\treturn max;\n");
+			printReduction(sumType,"sum","final "+image+" img",sumType,"img",
+					serialCall("sum","img"),
+					totalOfPartial(sumType)+"\t\treturn total;\n");
+
+			out.print("\t/**\n" +
+					"\t * Concurrent version of {@link "+className+"#mean("+image+")}\n" +
+					"\t */\n" +
+					"\tpublic static double mean( "+image+" img ) {\n" +
+					"\t\treturn sum(img)/(double)(img.width*img.height);\n" +
+					"\t}\n\n");
+
+			printReduction("double","variance","final "+image+" img , final double mean","double","img",
+					"\t\t\t\t\tdouble total = 0;\n" +
+					"\t\t\t\t\tfor( int y = y0; y < y1; y++ ) {\n" +
+					"\t\t\t\t\t\tint index = img.startIndex + y*img.stride;\n" +
+					"\t\t\t\t\t\tint indexEnd = index+img.width;\n" +
+					"\t\t\t\t\t\tfor (; index < indexEnd; index++ ) {\n" +
+					"\t\t\t\t\t\t\tdouble d = (img.data[index]"+bitWise+") - mean;\n" +
+					"\t\t\t\t\t\t\ttotal += d*d;\n" +
+					"\t\t\t\t\t\t}\n" +
+					"\t\t\t\t\t}\n" +
+					"\t\t\t\t\tpartial[band] = total;\n",
+					totalOfPartial("double")+"\t\treturn total/(img.width*img.height);\n");
+
+			printMeanDiffConcurrent("meanDiffSq",input.getLargeSumType(),"difference*difference");
+			printMeanDiffConcurrent("meanDiffAbs",sumType,"Math.abs(difference)");
+		}
+	}
+
+	private void printMeanDiffConcurrent( String name , String totalType , String operation ) {
+		String image = input.getImageName();
+		String bitWise = input.getBitWise();
+
+		printReduction("double",name,"final "+image+" imgA, final "+image+" imgB",totalType,"imgA",
+				"\t\t\t\t\t"+totalType+" total = 0;\n" +
+				"\t\t\t\t\tfor( int y = y0; y < y1; y++ ) {\n" +
+				"\t\t\t\t\t\tint indexA = imgA.startIndex + y*imgA.stride;\n" +
+				"\t\t\t\t\t\tint indexB = imgB.startIndex + y*imgB.stride;\n" +
+				"\t\t\t\t\t\tfor (int x = 0; x < imgA.width; x++,indexA++,indexB++) {\n" +
+				"\t\t\t\t\t\t\t"+input.getSumType()+" difference = (imgA.data[indexA]"+bitWise+")-" +
+				"(imgB.data[indexB]"+bitWise+");\n" +
+				"\t\t\t\t\t\t\ttotal += "+operation+";\n" +
+				"\t\t\t\t\t\t}\n" +
+				"\t\t\t\t\t}\n" +
+				"\t\t\t\t\tpartial[band] = total;\n",
+				totalOfPartial(totalType)+"\t\treturn total / (double)(imgA.width*imgA.height);\n");
+	}
+
+	private String serialCall( String name , String image ) {
+		return "\t\t\t\t\tpartial[band] = "+className+"."+name+"("+image+".subimage(0,y0,"+image+".width,y1));\n";
+	}
+
+	private String totalOfPartial( String type ) {
+		return "\t\t"+type+" total = 0;\n" +
+				"\t\tfor( int i = 0; i < numBands; i++ ) {\n" +
+				"\t\t\ttotal += partial[i];\n" +
+				"\t\t}\n";
+	}
+
+	/**
+	 * Prints a function which computes a value for each band of rows concurrently and then combines the
+	 * results in a single thread.
+	 *
+	 * @param returnType Type returned by the function
+	 * @param name Name of the function
+	 * @param parameters Parameters of the function, including their type
+	 * @param partialType Type of the result for each band
+	 * @param image Name of the image the bands are computed from
+	 * @param band Code which computes the result for rows y0 to y1-1 and saves it in partial[band]
+	 * @param combine Code which combines the results for each band and returns the final result
+	 */
+	private void printReduction( String returnType , String name , String parameters , String partialType ,
+								 String image , String band , String combine ) {
+		String link = parameters.replace("final ","").replaceAll(" [a-zA-Z]+ *(,|$)","$1").replace(" ","");
+		link = link.replace(",",", ");
+
+		out.print("\t/**\n" +
+				"\t * Concurrent version of {@link "+className+"#"+name+"("+link+")}\n" +
+				"\t */\n" +
+				"\tpublic static "+returnType+" "+name+"( "+parameters+" ) {\n" +
+				"\t\tfinal int numBands = numBands("+image+".height);\n" +
+				"\t\tfinal "+partialType+" partial[] = new "+partialType+"[numBands];\n" +
+				"\n" +
+				"\t\tBoofConcurrency.loopBlocks(0,numBands,new IntRangeTask() {\n" +
+				"\t\t\t@Override\n" +
+				"\t\t\tpublic void run(int band0, int band1) {\n" +
+				"\t\t\t\tfor( int band = band0; band < band1; band++ ) {\n" +
+				"\t\t\t\t\tint y0 = band*BAND_ROWS;\n" +
+				"\t\t\t\t\tint y1 = Math.min("+image+".height,y0+BAND_ROWS);\n" +
+				band +
+				"\t\t\t\t}\n" +
+				"\t\t\t}\n" +
+				"\t\t});\n" +
+				"\n" +
+				combine +
+				"\t}\n\n");
+	}
+
 	public static void main( String args[] ) throws FileNotFoundException {
 		GenerateImageStatistics gen = new GenerateImageStatistics();
 		gen.generate();
+		gen.generateConcurrent();
 	}
 }
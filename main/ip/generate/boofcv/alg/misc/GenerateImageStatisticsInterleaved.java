@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.misc;
+
+import boofcv.misc.AutoTypeImage;
+import boofcv.misc.CodeGeneratorBase;
+
+import java.io.FileNotFoundException;
+
+import static boofcv.misc.AutoTypeImage.F32;
+import static boofcv.misc.AutoTypeImage.U8;
+
+
+/**
+ * Generates {@link ImageStatisticsInterleaved}.
+ *
+ * @author Peter Abeles
+ */
+public class GenerateImageStatisticsInterleaved extends CodeGeneratorBase {
+
+	String className = "ImageStatisticsInterleaved";
+
+	private AutoTypeImage input;
+	private String imageName;
+
+	public void generate() throws FileNotFoundException {
+		printPreamble();
+		printAll();
+		out.println("}");
+	}
+
+	private void printPreamble() throws FileNotFoundException {
+		setOutputFile(className);
+		out.print("import boofcv.struct.image.ImageInterleavedFloat32;\n" +
+				"import boofcv.struct.image.ImageInterleavedInt8;\n" +
+				"\n" +
+				"import java.util.Arrays;\n" +
+				"\n" +
+				"/**\n" +
+				" * Computes statistical properties of pixels inside {@link boofcv.struct.image.ImageInterleaved} images.  The\n" +
+				" * minimum and maximum are found across all the bands while other statistics are computed for each band\n" +
+				" * independently and match the equivalent function in {@link ImageStatistics}.  {@link ImageInterleavedInt8}\n" +
+				" * is treated as unsigned.\n" +
+				" *\n" +
+				" * <p>DO NOT MODIFY: Generated by {@link "+getClass().getName()+"}.</p>\n"+
+				" *\n"+
+				" * @author Peter Abeles\n" +
+				" */\n" +
+				"public class "+className+" {\n\n");
+	}
+
+	public void printAll() {
+		for( AutoTypeImage t : new AutoTypeImage[]{U8,F32} ) {
+			setInput(t);
+			printMinMax("min","Minimum","<");
+			printMinMax("max","Maximum",">");
+			printSum();
+			printMean();
+			printVariance();
+		}
+	}
+
+	private void setInput( AutoTypeImage input ) {
+		this.input = input;
+		if( input == U8 )
+			imageName = "ImageInterleavedInt8";
+		else if( input == F32 )
+			imageName = "ImageInterleavedFloat32";
+		else
+			throw new IllegalArgumentException("Unsupported type "+input);
+	}
+
+	/**
+	 * Reads an element from the array and converts it into the sum type
+	 */
+	private String read( String image , String index ) {
+		String bitWise = input.getBitWise();
+		if( bitWise.length() == 0 )
+			return image+".data["+index+"]";
+		else
+			return image+".data["+index+"] "+bitWise;
+	}
+
+	private String checkStorage( String type ) {
+		return "\t\tif( storage == null )\n" +
+				"\t\t\tstorage = new "+type+"[ numBands ];\n" +
+				"\t\telse if( storage.length != numBands )\n" +
+				"\t\t\tthrow new IllegalArgumentException(\"storage must have one element for each band\");\n";
+	}
+
+	public void printMinMax( String name , String description , String comparison ) {
+		String sumType = input.getSumType();
+
+		out.print("\t/**\n" +
+				"\t * Returns the "+description.toLowerCase()+" element value across all bands.\n" +
+				"\t *\n" +
+				"\t * @param input Input image. Not modified.\n" +
+				"\t * @return "+description+" pixel value.\n" +
+				"\t */\n" +
+				"\tpublic static "+sumType+" "+name+"( "+imageName+" input ) {\n" +
+				"\n" +
+				"\t\t"+sumType+" "+name+" = "+read("input","input.startIndex")+";\n" +
+				"\n" +
+				"\t\tfor( int y = 0; y < input.height; y++ ) {\n" +
+				"\t\t\tint index = input.startIndex + y*input.stride;\n" +
+				"\t\t\tint end = index + input.width*input.numBands;\n" +
+				"\n" +
+				"\t\t\tfor( ; index < end; index++ ) {\n" +
+				"\t\t\t\t"+sumType+" v = "+read("input","index")+";\n" +
+				"\t\t\t\tif( v "+comparison+" "+name+" )\n" +
+				"\t\t\t\t\t"+name+" = v;\n" +
+				"\t\t\t}\n" +
+				"\t\t}\n" +
+				"\t\treturn "+name+";\n" +
+				"\t}\n\n");
+	}
+
+	public void printSum() {
+		String sumType = input.getSumType();
+
+		out.print("\t/**\n" +
+				"\t * Computes the sum of all the pixels in each band.\n" +
+				"\t *\n" +
+				"\t * @param img Input image. Not modified.\n" +
+				"\t * @param storage (Optional) Storage for the sum of each band.  If null a new array is declared.\n" +
+				"\t * @return Sum of each band.\n" +
+				"\t */\n" +
+				"\tpublic static "+sumType+"[] sum( "+imageName+" img , "+sumType+"[] storage ) {\n" +
+				"\t\tfinal int numBands = img.numBands;\n" +
+				checkStorage(sumType) +
+				"\t\telse\n" +
+				"\t\t\tArrays.fill(storage,0);\n" +
+				"\n" +
+				"\t\tfor( int y = 0; y < img.height; y++ ) {\n" +
+				"\t\t\tint index = img.startIndex + y*img.stride;\n" +
+				"\t\t\tint end = index + img.width*numBands;\n" +
+				"\n" +
+				"\t\t\twhile( index < end ) {\n" +
+				"\t\t\t\tfor( int band = 0; band < numBands; band++ , index++ ) {\n" +
+				"\t\t\t\t\tstorage[band] += "+read("img","index")+";\n" +
+				"\t\t\t\t}\n" +
+				"\t\t\t}\n" +
+				"\t\t}\n" +
+				"\n" +
+				"\t\treturn storage;\n" +
+				"\t}\n\n");
+	}
+
+	public void printMean() {
+		out.print("\t/**\n" +
+				"\t * Computes the mean pixel intensity value of each band.\n" +
+				"\t *\n" +
+				"\t * @param img Input image. Not modified.\n" +
+				"\t * @param storage (Optional) Storage for the mean of each band.  If null a new array is declared.\n" +
+				"\t * @return Mean of each band.\n" +
+				"\t */\n" +
+				"\tpublic static double[] mean( "+imageName+" img , double[] storage ) {\n" +
+				"\t\tfinal int numBands = img.numBands;\n" +
+				"\t\t"+input.getSumType()+"[] sum = sum(img,null);\n" +
+				checkStorage("double") +
+				"\n" +
+				"\t\tfor( int band = 0; band < numBands; band++ ) {\n" +
+				"\t\t\tstorage[band] = sum[band]/(double)(img.width*img.height);\n" +
+				"\t\t}\n" +
+				"\t\treturn storage;\n" +
+				"\t}\n\n");
+	}
+
+	public void printVariance() {
+		String value = input.isInteger() ? "("+read("img","index")+")" : read("img","index");
+
+		out.print("\t/**\n" +
+				"\t * Computes the variance of pixel intensity values in each band.\n" +
+				"\t *\n" +
+				"\t * @param img Input image. Not modified.\n" +
+				"\t * @param mean Mean pixel intensity value of each band.\n" +
+				"\t * @param storage (Optional) Storage for the variance of each band.  If null a new array is declared.\n" +
+				"\t * @return Variance of each band.\n" +
+				"\t */\n" +
+				"\tpublic static double[] variance( "+imageName+" img , double[] mean , double[] storage ) {\n" +
+				"\t\tfinal int numBands = img.numBands;\n" +
+				"\t\tif( mean.length != numBands )\n" +
+				"\t\t\tthrow new IllegalArgumentException(\"mean must have one element for each band\");\n" +
+				checkStorage("double") +
+				"\t\telse\n" +
+				"\t\t\tArrays.fill(storage,0);\n" +
+				"\n" +
+				"\t\tfor( int y = 0; y < img.height; y++ ) {\n" +
+				"\t\t\tint index = img.startIndex + y*img.stride;\n" +
+				"\t\t\tint end = index + img.width*numBands;\n" +
+				"\n" +
+				"\t\t\twhile( index < end ) {\n" +
+				"\t\t\t\tfor( int band = 0; band < numBands; band++ , index++ ) {\n" +
+				"\t\t\t\t\tdouble d = "+value+" - mean[band];\n" +
+				"\t\t\t\t\tstorage[band] += d*d;\n" +
+				"\t\t\t\t}\n" +
+				"\t\t\t}\n" +
+				"\t\t}\n" +
+				"\n" +
+				"\t\tfor( int band = 0; band < numBands; band++ ) {\n" +
+				"\t\t\tstorage[band] /= (img.width*img.height);\n" +
+				"\t\t}\n" +
+				"\t\treturn storage;\n" +
+				"\t}\n\n");
+	}
+
+	public static void main( String args[] ) throws FileNotFoundException {
+		GenerateImageStatisticsInterleaved gen = new GenerateImageStatisticsInterleaved();
+		gen.generate();
+	}
+}
@@ -44,6 +44,16 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 		out.println("}");
 	}
 
+	/**
+	 * Generates {@link PixelMath_MT}, which splits the image into bands of rows and calls the functions in
+	 * {@link PixelMath} on each band.
+	 */
+	public void generateConcurrent() throws FileNotFoundException {
+		printPreambleConcurrent();
+		printAllConcurrent();
+		out.println("}");
+	}
+
 	private void printPreamble() throws FileNotFoundException {
 		setOutputFile(className);
 		out.print("import boofcv.struct.image.*;\n" +
@@ -497,8 +507,121 @@ public class GeneratePixelMath extends CodeGeneratorBase {
 				"\t}\n\n");
 	}
 
+	private void printPreambleConcurrent() throws FileNotFoundException {
+		setOutputFile(className+"_MT");
+		out.print("import boofcv.alg.InputSanityCheck;\n" +
+				"import boofcv.concurrency.BoofConcurrency;\n" +
+				"import boofcv.concurrency.IntRangeTask;\n" +
+				"import boofcv.struct.image.*;\n" +
+				"\n" +
+				"/**\n" +
+				" * Concurrent implementations of functions in {@link "+className+"}.  The image is split into bands of rows " +
+				"which are\n" +
+				" * processed at the same time.  The output is identical to the single threaded version.\n" +
+				" *\n" +
+				" * <p>DO NOT MODIFY: Generated by {@link "+getClass().getName()+"}.</p>\n"+
+				" *\n"+
+				" * @author Peter Abeles\n" +
+				" */\n" +
+				"public class "+className+"_MT {\n\n");
+	}
+
+	public void printAllConcurrent() {
+		for( AutoTypeImage t : AutoTypeImage.getSigned() ) {
+			String image = t.getImageName();
+			printConcurrent("abs",true,new String[]{image,image},new String[]{"input","output"});
+			printConcurrent("invert",true,new String[]{image,image},new String[]{"input","output"});
+		}
+
+		AutoTypeImage types[] = AutoTypeImage.getSpecificTypes();
+
+		for( AutoTypeImage t : types ) {
+			String image = t.getImageName();
+			String scaleType = t.isInteger() ? "double" : t.getSumType();
+			String sumType = t.getSumType();
+
+			printConcurrent("multiply",true,new String[]{image,scaleType,image},
+					new String[]{"input","value","output"});
+			printConcurrent("multiply",true,new String[]{image,scaleType,sumType,sumType,image},
+					new String[]{"input","value","lower","upper","output"});
+			printConcurrent("divide",true,new String[]{image,scaleType,image},
+					new String[]{"input","denominator","output"});
+			printConcurrent("divide",true,new String[]{image,scaleType,sumType,sumType,image},
+					new String[]{"input","denominator","lower","upper","output"});
+			printConcurrent("plus",true,new String[]{image,sumType,image},
+					new String[]{"input","value","output"});
+			printConcurrent("plus",true,new String[]{image,sumType,sumType,sumType,image},
+					new String[]{"input","value","lower","upper","output"});
+			printConcurrent("boundImage",false,new String[]{image,sumType,sumType},
+					new String[]{"img","min","max"});
+			printConcurrent("diffAbs",true,new String[]{image,image,image},new String[]{"imgA","imgB","diff"});
+			printConcurrent("averageBand",true,new String[]{"MultiSpectral<"+image+">",image},
+					new String[]{"input","output"});
+		}
+
+		AutoTypeImage outputsAdd[] = new AutoTypeImage[]{U16,S16,S32,S32,S32,S64,F32,F64};
+		AutoTypeImage outputsSub[] = new AutoTypeImage[]{I16,S16,S32,S32,S32,S64,F32,F64};
+
+		for( int i = 0; i < types.length; i++ ) {
+			String image = types[i].getImageName();
+			printConcurrent("add",true,new String[]{image,image,outputsAdd[i].getImageName()},
+					new String[]{"imgA","imgB","output"});
+			printConcurrent("subtract",true,new String[]{image,image,outputsSub[i].getImageName()},
+					new String[]{"imgA","imgB","output"});
+		}
+	}
+
+	/**
+	 * Prints a function which calls the single threaded function on bands of rows.  Parameters
+	 * with a type that ends in "Image..." or starts with "MultiSpectral" are treated as images.  The first
+	 * parameter must be an image.
+	 *
+	 * @param name Name of the function
+	 * @param checkShape If true the shape of all the images is checked before being split into bands
+	 * @param types Type of each parameter
+	 * @param names Name of each parameter
+	 */
+	private void printConcurrent( String name , boolean checkShape , String types[] , String names[] ) {
+		String link = "";
+		String signature = "";
+		String images = "";
+		String call = "";
+		for( int i = 0; i < types.length; i++ ) {
+			String erased = types[i].contains("<") ? types[i].substring(0,types[i].indexOf('<')) : types[i];
+			boolean isImage = erased.startsWith("Image") || erased.equals("MultiSpectral");
+			String separator = i == 0 ? "" : ", ";
+			link += separator + erased;
+			signature += (i == 0 ? "" : " , ") + "final " + types[i] + " " + names[i];
+			call += i == 0 ? "" : ",";
+			if( isImage ) {
+				images += (images.length() == 0 ? "" : ",") + names[i];
+				// the abstract image types need to be cast back into their type
+				String cast = types[i].equals(I16.getImageName()) ? "("+types[i]+")" : "";
+				call += cast+names[i]+".subimage(0,y0,"+names[i]+".width,y1)";
+			} else {
+				call += names[i];
+			}
+		}
+
+		out.print("\t/**\n" +
+				"\t * Concurrent version of {@link "+className+"#"+name+"("+link+")}\n" +
+				"\t */\n" +
+				"\tpublic static void "+name+"( "+signature+" ) {\n" +
+				"\n");
+		if( checkShape )
+			out.print("\t\tInputSanityCheck.checkSameShape("+images+");\n\n");
+		out.print("\t\tBoofConcurrency.loopBlocks(0,"+names[0]+".height,new IntRangeTask() {\n" +
+				"\t\t\t@Override\n" +
+				"\t\t\tpublic void run(int y0, int y1) {\n" +
+				"\t\t\t\t"+className+"."+name+"("+call+");\n" +
+				"\t\t\t}\n" +
+				"\t\t});\n" +
+				"\t}\n\n");
+	}
+
 	public static void main( String args[] ) throws FileNotFoundException {
 		GeneratePixelMath gen = new GeneratePixelMath();
 		gen.generate();
+		gen.generateConcurrent();
 	}
 }
@@ -0,0 +1,364 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.misc;
+
+import boofcv.misc.AutoTypeImage;
+import boofcv.misc.CodeGeneratorBase;
+
+import java.io.FileNotFoundException;
+
+import static boofcv.misc.AutoTypeImage.F32;
+import static boofcv.misc.AutoTypeImage.U8;
+
+
+/**
+ * Generates {@link PixelMathInterleaved}.  Each row of an interleaved image is processed as a single array
+ * of width*numBands elements.
+ *
+ * @author Peter Abeles
+ */
+public class GeneratePixelMathInterleaved extends CodeGeneratorBase {
+
+	String className = "PixelMathInterleaved";
+
+	private AutoTypeImage input;
+	private String imageName;
+
+	public void generate() throws FileNotFoundException {
+		printPreamble();
+		printAll();
+		out.println("}");
+	}
+
+	private void printPreamble() throws FileNotFoundException {
+		setOutputFile(className);
+		out.print("import boofcv.alg.InputSanityCheck;\n" +
+				"import boofcv.struct.image.ImageInterleavedFloat32;\n" +
+				"import boofcv.struct.image.ImageInterleavedInt8;\n" +
+				"\n" +
+				"/**\n" +
+				" * <p>\n" +
+				" * Basic pixel-wise math operations on {@link boofcv.struct.image.ImageInterleaved} images.  Each\n" +
+				" * function produces the same output as the function with the same name in {@link PixelMath} applied to\n" +
+				" * every band.  Each row is processed as a single array of width*numBands elements.  The input and\n" +
+				" * output images can be the same instance.  {@link ImageInterleavedInt8} is treated as unsigned.\n" +
+				" * </p>\n" +
+				" *\n" +
+				" * <p>DO NOT MODIFY: Generated by {@link "+getClass().getName()+"}.</p>\n"+
+				" *\n"+
+				" * @author Peter Abeles\n" +
+				" */\n" +
+				"public class "+className+" {\n\n");
+	}
+
+	public void printAll() {
+		for( AutoTypeImage t : new AutoTypeImage[]{U8,F32} ) {
+			setInput(t);
+			if( input.isSigned() ) {
+				printAbs();
+				printInvert();
+			}
+			printMultiply();
+			printMultiplyBounded();
+			printDivide();
+			printDivideBounded();
+			printPlus();
+			printPlusBounded();
+			printDiffAbs();
+			if( !input.isInteger() ) {
+				printAddTwoImages();
+				printSubtractTwoImages();
+			}
+			printBoundImage();
+		}
+	}
+
+	private void setInput( AutoTypeImage input ) {
+		this.input = input;
+		if( input == U8 )
+			imageName = "ImageInterleavedInt8";
+		else if( input == F32 )
+			imageName = "ImageInterleavedFloat32";
+		else
+			throw new IllegalArgumentException("Unsupported type "+input);
+	}
+
+	/**
+	 * Reads an element from the array and converts it into the sum type
+	 */
+	private String read( String image , String index ) {
+		String bitWise = input.getBitWise();
+		if( bitWise.length() == 0 )
+			return image+".data["+index+"]";
+		else
+			return "("+image+".data["+index+"] "+bitWise+")";
+	}
+
+	private void printOpening() {
+		out.print("\t\tInputSanityCheck.checkSameShape(input,output);\n" +
+				"\n" +
+				"\t\tfor( int y = 0; y < input.height; y++ ) {\n" +
+				"\t\t\tint indexSrc = input.startIndex + y*input.stride;\n" +
+				"\t\t\tint indexDst = output.startIndex + y*output.stride;\n" +
+				"\t\t\tint end = indexSrc + input.width*input.numBands;\n" +
+				"\n" +
+				"\t\t\tfor( ; indexSrc < end; indexSrc++ , indexDst++ ) {\n");
+	}
+
+	private void printOpeningTwo() {
+		out.print("\t\tInputSanityCheck.checkSameShape(imgA,imgB);\n" +
+				"\t\tInputSanityCheck.checkSameShape(imgA,output);\n" +
+				"\n" +
+				"\t\tfor( int y = 0; y < imgA.height; y++ ) {\n" +
+				"\t\t\tint indexA = imgA.startIndex + y*imgA.stride;\n" +
+				"\t\t\tint indexB = imgB.startIndex + y*imgB.stride;\n" +
+				"\t\t\tint indexOut = output.startIndex + y*output.stride;\n" +
+				"\t\t\tint end = indexA + imgA.width*imgA.numBands;\n" +
+				"\n" +
+				"\t\t\tfor( ; indexA < end; indexA++ , indexB++ , indexOut++ ) {\n");
+	}
+
+	private void printClosing() {
+		out.print("\t\t\t}\n" +
+				"\t\t}\n" +
+				"\t}\n\n");
+	}
+
+	private void printBounded( String operation ) {
+		String sumType = input.getSumType();
+		out.print("\t\t\t\t"+sumType+" val = "+operation+";\n" +
+				"\t\t\t\tif( val < lower ) val = lower;\n" +
+				"\t\t\t\tif( val > upper ) val = upper;\n" +
+				"\t\t\t\toutput.data[indexDst] = "+input.getTypeCastFromSum()+"val;\n");
+	}
+
+	public void printAbs() {
+		out.print("\t/**\n" +
+				"\t * Sets each pixel in the output image to be the absolute value of the input image.\n" +
+				"\t *\n" +
+				"\t * @param input The input image. Not modified.\n" +
+				"\t * @param output The output image. Modified.\n" +
+				"\t */\n" +
+				"\tpublic static void abs( "+imageName+" input , "+imageName+" output ) {\n");
+		printOpening();
+		out.print("\t\t\t\toutput.data[indexDst] = "+input.getTypeCastFromSum()+"Math.abs(input.data[indexSrc]);\n");
+		printClosing();
+	}
+
+	public void printInvert() {
+		out.print("\t/**\n" +
+				"\t * Changes the sign of every pixel in the image: output[x,y] = -input[x,y]\n" +
+				"\t *\n" +
+				"\t * @param input The input image. Not modified.\n" +
+				"\t * @param output The output image. Modified.\n" +
+				"\t */\n" +
+				"\tpublic static void invert( "+imageName+" input , "+imageName+" output ) {\n");
+		printOpening();
+		out.print("\t\t\t\toutput.data[indexDst] = "+input.getTypeCastFromSum()+"-input.data[indexSrc];\n");
+		printClosing();
+	}
+
+	public void printMultiply() {
+		String scaleType = input.isInteger() ? "double" : input.getSumType();
+		String typeCast = input.isInteger() ? "("+input.getDataType()+")" : "";
+
+		out.print("\t/**\n" +
+				"\t * Multiply each element by a scalar value.\n" +
+				"\t *\n" +
+				"\t * @param input The input image. Not modified.\n" +
+				"\t * @param value What each element is multiplied by.\n" +
+				"\t * @param output The output image. Modified.\n" +
+				"\t */\n" +
+				"\tpublic static void multiply( "+imageName+" input , "+scaleType+" value , "+imageName+" output ) {\n");
+		printOpening();
+		out.print("\t\t\t\toutput.data[indexDst] = "+typeCast+"("+read("input","indexSrc")+" * value);\n");
+		printClosing();
+	}
+
+	public void printMultiplyBounded() {
+		String scaleType = input.isInteger() ? "double" : input.getSumType();
+		String sumType = input.getSumType();
+		String typeCast = input.isInteger() ? "("+sumType+")" : "";
+
+		out.print("\t/**\n" +
+				"\t * Multiply each element by a scalar value and bounds the result.\n" +
+				"\t *\n" +
+				"\t * @param input The input image. Not modified.\n" +
+				"\t * @param value What each element is multiplied by.\n" +
+				"\t * @param lower Lower bound on output\n" +
+				"\t * @param upper Upper bound on output\n" +
+				"\t * @param output The output image. Modified.\n" +
+				"\t */\n" +
+				"\tpublic static void multiply( "+imageName+" input , "+scaleType+" value , "+
+				sumType+" lower , "+sumType+" upper , "+imageName+" output ) {\n");
+		printOpening();
+		printBounded(typeCast+"("+read("input","indexSrc")+" * value)");
+		printClosing();
+	}
+
+	public void printDivide() {
+		String scaleType = input.isInteger() ? "double" : input.getSumType();
+		String typeCast = input.isInteger() ? "("+input.getDataType()+")" : "";
+
+		out.print("\t/**\n" +
+				"\t * Divide each element by a scalar value.\n" +
+				"\t *\n" +
+				"\t * @param input The input image. Not modified.\n" +
+				"\t * @param denominator What each element is divided by.\n" +
+				"\t * @param output The output image. Modified.\n" +
+				"\t */\n" +
+				"\tpublic static void divide( "+imageName+" input , "+scaleType+" denominator , "+imageName+" output ) {\n");
+		printOpening();
+		out.print("\t\t\t\toutput.data[indexDst] = "+typeCast+"("+read("input","indexSrc")+" / denominator);\n");
+		printClosing();
+	}
+
+	public void printDivideBounded() {
+		String scaleType = input.isInteger() ? "double" : input.getSumType();
+		String sumType = input.getSumType();
+		String typeCast = input.isInteger() ? "("+sumType+")" : "";
+
+		out.print("\t/**\n" +
+				"\t * Divide each element by a scalar value and bounds the result.\n" +
+				"\t *\n" +
+				"\t * @param input The input image. Not modified.\n" +
+				"\t * @param denominator What each element is divided by.\n" +
+				"\t * @param lower Lower bound on output\n" +
+				"\t * @param upper Upper bound on output\n" +
+				"\t * @param output The output image. Modified.\n" +
+				"\t */\n" +
+				"\tpublic static void divide( "+imageName+" input , "+scaleType+" denominator , "+
+				sumType+" lower , "+sumType+" upper , "+imageName+" output ) {\n");
+		printOpening();
+		printBounded(typeCast+"("+read("input","indexSrc")+" / denominator)");
+		printClosing();
+	}
+
+	public void printPlus() {
+		String sumType = input.getSumType();
+
+		out.print("\t/**\n" +
+				"\t * Add a scalar value to each element.\n" +
+				"\t *\n" +
+				"\t * @param input The input image. Not modified.\n" +
+				"\t * @param value What is added to each element.\n" +
+				"\t * @param output The output image. Modified.\n" +
+				"\t */\n" +
+				"\tpublic static void plus( "+imageName+" input , "+sumType+" value , "+imageName+" output ) {\n");
+		printOpening();
+		out.print("\t\t\t\toutput.data[indexDst] = "+input.getTypeCastFromSum()+"("+read("input","indexSrc")+" + value);\n");
+		printClosing();
+	}
+
+	public void printPlusBounded() {
+		String sumType = input.getSumType();
+
+		out.print("\t/**\n" +
+				"\t * Add a scalar value to each element and bounds the result.\n" +
+				"\t *\n" +
+				"\t * @param input The input image. Not modified.\n" +
+				"\t * @param value What is added to each element.\n" +
+				"\t * @param lower Lower bound on output\n" +
+				"\t * @param upper Upper bound on output\n" +
+				"\t * @param output The output image. Modified.\n" +
+				"\t */\n" +
+				"\tpublic static void plus( "+imageName+" input , "+sumType+" value , "+
+				sumType+" lower , "+sumType+" upper , "+imageName+" output ) {\n");
+		printOpening();
+		printBounded(read("input","indexSrc")+" + value");
+		printClosing();
+	}
+
+	public void printDiffAbs() {
+		String typeCast = input.isInteger() ? "("+input.getDataType()+")" : "";
+
+		out.print("\t/**\n" +
+				"\t * Computes the absolute value of the difference between each pixel in the two images.<br>\n" +
+				"\t * d(x,y) = |img1(x,y) - img2(x,y)|\n" +
+				"\t *\n" +
+				"\t * @param imgA Input image. Not modified.\n" +
+				"\t * @param imgB Input image. Not modified.\n" +
+				"\t * @param output Output image. Modified.\n" +
+				"\t */\n" +
+				"\tpublic static void diffAbs( "+imageName+" imgA , "+imageName+" imgB , "+imageName+" output ) {\n");
+		printOpeningTwo();
+		out.print("\t\t\t\toutput.data[indexOut] = "+typeCast+"Math.abs("+read("imgA","indexA")+" - "+read("imgB","indexB")+");\n");
+		printClosing();
+	}
+
+	public void printAddTwoImages() {
+		out.print("\t/**\n" +
+				"\t * Performs pixel-wise addition<br>\n" +
+				"\t * d(x,y) = imgA(x,y) + imgB(x,y)\n" +
+				"\t *\n" +
+				"\t * @param imgA Input image. Not modified.\n" +
+				"\t * @param imgB Input image. Not modified.\n" +
+				"\t * @param output Output image. Modified.\n" +
+				"\t */\n" +
+				"\tpublic static void add( "+imageName+" imgA , "+imageName+" imgB , "+imageName+" output ) {\n");
+		printOpeningTwo();
+		out.print("\t\t\t\toutput.data[indexOut] = "+read("imgA","indexA")+" + "+read("imgB","indexB")+";\n");
+		printClosing();
+	}
+
+	public void printSubtractTwoImages() {
+		out.print("\t/**\n" +
+				"\t * Performs pixel-wise subtraction.<br>\n" +
+				"\t * d(x,y) = imgA(x,y) - imgB(x,y)\n" +
+				"\t *\n" +
+				"\t * @param imgA Input image. Not modified.\n" +
+				"\t * @param imgB Input image. Not modified.\n" +
+				"\t * @param output Output image. Modified.\n" +
+				"\t */\n" +
+				"\tpublic static void subtract( "+imageName+" imgA , "+imageName+" imgB , "+imageName+" output ) {\n");
+		printOpeningTwo();
+		out.print("\t\t\t\toutput.data[indexOut] = "+read("imgA","indexA")+" - "+read("imgB","indexB")+";\n");
+		printClosing();
+	}
+
+	public void printBoundImage() {
+		String sumType = input.getSumType();
+		String typeCast = input.getTypeCastFromSum();
+
+		out.print("\t/**\n" +
+				"\t * Bounds image pixels to be between these two values\n" +
+				"\t *\n" +
+				"\t * @param img Image\n" +
+				"\t * @param min minimum value.\n" +
+				"\t * @param max maximum value.\n" +
+				"\t */\n" +
+				"\tpublic static void boundImage( "+imageName+" img , "+sumType+" min , "+sumType+" max ) {\n" +
+				"\t\tfor( int y = 0; y < img.height; y++ ) {\n" +
+				"\t\t\tint index = img.startIndex + y*img.stride;\n" +
+				"\t\t\tint end = index + img.width*img.numBands;\n" +
+				"\n" +
+				"\t\t\tfor( ; index < end; index++ ) {\n" +
+				"\t\t\t\t"+sumType+" value = img.data[index]"+(input.getBitWise().length() == 0 ? "" : " "+input.getBitWise())+";\n" +
+				"\t\t\t\tif( value < min )\n" +
+				"\t\t\t\t\timg.data[index] = "+typeCast+"min;\n" +
+				"\t\t\t\telse if( value > max )\n" +
+				"\t\t\t\t\timg.data[index] = "+typeCast+"max;\n");
+		printClosing();
+	}
+
+	public static void main( String args[] ) throws FileNotFoundException {
+		GeneratePixelMathInterleaved gen = new GeneratePixelMathInterleaved();
+		gen.generate();
+	}
+}
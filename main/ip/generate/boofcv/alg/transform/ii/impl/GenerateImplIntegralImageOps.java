@@ -44,10 +44,20 @@ public class GenerateImplIntegralImageOps extends CodeGeneratorBase {
 		printPreamble();
 
 		printTwoInput(AutoTypeImage.F32, AutoTypeImage.F32);
+		printTwoInput(AutoTypeImage.F32, AutoTypeImage.F64);
+		printTwoInput(AutoTypeImage.F64, AutoTypeImage.F64);
 		printTwoInput(AutoTypeImage.U8, AutoTypeImage.S32);
+		printTwoInput(AutoTypeImage.U8, AutoTypeImage.S64);
 		printTwoInput(AutoTypeImage.S32, AutoTypeImage.S32);
+		printTwoInput(AutoTypeImage.S32, AutoTypeImage.S64);
+		printTwoInput(AutoTypeImage.S64, AutoTypeImage.S64);
+		printTransformSquare(AutoTypeImage.F32, AutoTypeImage.F64);
+		printTransformSquare(AutoTypeImage.F64, AutoTypeImage.F64);
+		printTransformSquare(AutoTypeImage.U8, AutoTypeImage.S64);
 		singleInput(AutoTypeImage.F32);
 		singleInput(AutoTypeImage.S32);
+		singleInput(AutoTypeImage.F64);
+		singleInput(AutoTypeImage.S64);
 
 		out.print("\n" +
 				"}\n");
@@ -122,6 +132,49 @@ public class GenerateImplIntegralImageOps extends CodeGeneratorBase {
 				"\t}\n\n");
 	}
 
+	private void printTransformSquare( AutoTypeImage imageIn , AutoTypeImage imageOut ) {
+
+		String sumType = imageOut.getSumType();
+		String bitWise = imageIn.getBitWise();
+
+		out.print("\tpublic static void transformSquare( final "+imageIn.getImageName()+" input ,\n" +
+				"\t\t\t\t\t\t\t\t\t\tfinal "+imageOut.getImageName()+" transformed , final "+imageOut.getImageName()+" transformedSq )\n" +
+				"\t{\n" +
+				"\t\tint indexSrc = input.startIndex;\n" +
+				"\t\tint indexDst = transformed.startIndex;\n" +
+				"\t\tint indexDstSq = transformedSq.startIndex;\n" +
+				"\t\tint end = indexSrc + input.width;\n" +
+				"\n" +
+				"\t\t"+sumType+" total = 0;\n" +
+				"\t\t"+sumType+" totalSq = 0;\n" +
+				"\t\tfor( ; indexSrc < end; indexSrc++ ) {\n" +
+				"\t\t\t"+sumType+" value = input.data[indexSrc]"+bitWise+";\n" +
+				"\t\t\ttransformed.data[indexDst++] = total += value;\n" +
+				"\t\t\ttransformedSq.data[indexDstSq++] = totalSq += value*value;\n" +
+				"\t\t}\n" +
+				"\n" +
+				"\t\tfor( int y = 1; y < input.height; y++ ) {\n" +
+				"\t\t\tindexSrc = input.startIndex + input.stride*y;\n" +
+				"\t\t\tindexDst = transformed.startIndex + transformed.stride*y;\n" +
+				"\t\t\tindexDstSq = transformedSq.startIndex + transformedSq.stride*y;\n" +
+				"\t\t\tint indexPrev = indexDst - transformed.stride;\n" +
+				"\t\t\tint indexPrevSq = indexDstSq - transformedSq.stride;\n" +
+				"\n" +
+				"\t\t\tend = indexSrc + input.width;\n" +
+				"\n" +
+				"\t\t\ttotal = 0;\n" +
+				"\t\t\ttotalSq = 0;\n" +
+				"\t\t\tfor( ; indexSrc < end; indexSrc++ ) {\n" +
+				"\t\t\t\t"+sumType+" value = input.data[indexSrc]"+bitWise+";\n" +
+				"\t\t\t\ttotal += value;\n" +
+				"\t\t\t\ttotalSq += value*value;\n" +
+				"\t\t\t\ttransformed.data[indexDst++] = transformed.data[indexPrev++] + total;\n" +
+				"\t\t\t\ttransformedSq.data[indexDstSq++] = transformedSq.data[indexPrevSq++] + totalSq;\n" +
+				"\t\t\t}\n" +
+				"\t\t}\n" +
+				"\t}\n\n");
+	}
+
 	private void printConvolve( AutoTypeImage imageIn , AutoTypeImage imageOut) {
 		out.print("\tpublic static void convolve( "+imageIn.getImageName()+" integral ,\n" +
 				"\t\t\t\t\t\t\t\t ImageRectangle[] blocks , int scales[],\n" +
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.ii.impl;
+
+import boofcv.misc.AutoTypeImage;
+import boofcv.misc.CodeGeneratorBase;
+
+import java.io.FileNotFoundException;
+
+
+/**
+ * Generates {@link ImplIntegralImageOps_MT}.
+ *
+ * @author Peter Abeles
+ */
+public class GenerateImplIntegralImageOps_MT extends CodeGeneratorBase {
+	String className = "ImplIntegralImageOps_MT";
+
+	@Override
+	public void generate() throws FileNotFoundException {
+		printPreamble();
+
+		printTransform(AutoTypeImage.F32, AutoTypeImage.F32);
+		printTransform(AutoTypeImage.F32, AutoTypeImage.F64);
+		printTransform(AutoTypeImage.F64, AutoTypeImage.F64);
+		printTransform(AutoTypeImage.U8, AutoTypeImage.S32);
+		printTransform(AutoTypeImage.U8, AutoTypeImage.S64);
+		printTransform(AutoTypeImage.S32, AutoTypeImage.S32);
+		printTransform(AutoTypeImage.S32, AutoTypeImage.S64);
+		printTransform(AutoTypeImage.S64, AutoTypeImage.S64);
+		printTransformSquare(AutoTypeImage.F32, AutoTypeImage.F64);
+		printTransformSquare(AutoTypeImage.F64, AutoTypeImage.F64);
+		printTransformSquare(AutoTypeImage.U8, AutoTypeImage.S64);
+		printSumColumns(AutoTypeImage.F32);
+		printSumColumns(AutoTypeImage.F64);
+		printSumColumns(AutoTypeImage.S32);
+		printSumColumns(AutoTypeImage.S64);
+
+		out.print("}\n");
+	}
+
+	private void printPreamble() throws FileNotFoundException {
+		setOutputFile(className);
+		out.print("import boofcv.concurrency.BoofConcurrency;\n" +
+				"import boofcv.concurrency.IntRangeTask;\n" +
+				"import boofcv.struct.image.*;\n" +
+				"\n" +
+				"/**\n" +
+				" * <p>\n" +
+				" * Concurrent implementations of the integral image transforms in {@link ImplIntegralImageOps}.  First the\n" +
+				" * sum along each row is found for bands of rows at the same time, then the sums along bands of columns.  The\n" +
+				" * additions are done in the same order as the single threaded version, so the output is identical.\n" +
+				" * </p>\n" +
+				" *\n" +
+				" * <p>\n" +
+				" * DO NOT MODIFY: Generated by {@link GenerateImplIntegralImageOps_MT}.\n" +
+				" * </p>\n" +
+				" *\n" +
+				" * @author Peter Abeles\n" +
+				" */\n" +
+				"public class "+className+" {\n" +
+				"\n" +
+				"\t/**\n" +
+				"\t * Minimum number of columns a thread processes, to reduce the number of shared cache lines.\n" +
+				"\t */\n" +
+				"\tpublic static final int MIN_COLUMNS = 64;\n\n");
+	}
+
+	private void printTransform( AutoTypeImage imageIn , AutoTypeImage imageOut ) {
+
+		String sumType = imageOut.getSumType();
+		String bitWise = imageIn.getBitWise();
+		String typeCast = imageOut.getTypeCastFromSum();
+
+		out.print("\tpublic static void transform( final "+imageIn.getImageName()+" input , final "+imageOut.getImageName()+" transformed )\n" +
+				"\t{\n" +
+				"\t\tBoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {\n" +
+				"\t\t\t@Override\n" +
+				"\t\t\tpublic void run(int y0, int y1) {\n" +
+				"\t\t\t\tfor( int y = y0; y < y1; y++ ) {\n" +
+				"\t\t\t\t\tint indexSrc = input.startIndex + input.stride*y;\n" +
+				"\t\t\t\t\tint indexDst = transformed.startIndex + transformed.stride*y;\n" +
+				"\t\t\t\t\tint end = indexSrc + input.width;\n" +
+				"\n" +
+				"\t\t\t\t\t"+sumType+" total = 0;\n" +
+				"\t\t\t\t\tfor( ; indexSrc < end; indexSrc++ ) {\n" +
+				"\t\t\t\t\t\ttransformed.data[indexDst++] = "+typeCast+"total += input.data[indexSrc]"+bitWise+";\n" +
+				"\t\t\t\t\t}\n" +
+				"\t\t\t\t}\n" +
+				"\t\t\t}\n" +
+				"\t\t});\n" +
+				"\n" +
+				"\t\tsumColumns(transformed);\n" +
+				"\t}\n\n");
+	}
+
+	private void printTransformSquare( AutoTypeImage imageIn , AutoTypeImage imageOut ) {
+
+		String sumType = imageOut.getSumType();
+		String bitWise = imageIn.getBitWise();
+
+		out.print("\tpublic static void transformSquare( final "+imageIn.getImageName()+" input ,\n" +
+				"\t\t\t\t\t\t\t\t\t\tfinal "+imageOut.getImageName()+" transformed , final "+imageOut.getImageName()+" transformedSq )\n" +
+				"\t{\n" +
+				"\t\tBoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {\n" +
+				"\t\t\t@Override\n" +
+				"\t\t\tpublic void run(int y0, int y1) {\n" +
+				"\t\t\t\tfor( int y = y0; y < y1; y++ ) {\n" +
+				"\t\t\t\t\tint indexSrc = input.startIndex + input.stride*y;\n" +
+				"\t\t\t\t\tint indexDst = transformed.startIndex + transformed.stride*y;\n" +
+				"\t\t\t\t\tint indexDstSq = transformedSq.startIndex + transformedSq.stride*y;\n" +
+				"\t\t\t\t\tint end = indexSrc + input.width;\n" +
+				"\n" +
+				"\t\t\t\t\t"+sumType+" total = 0;\n" +
+				"\t\t\t\t\t"+sumType+" totalSq = 0;\n" +
+				"\t\t\t\t\tfor( ; indexSrc < end; indexSrc++ ) {\n" +
+				"\t\t\t\t\t\t"+sumType+" value = input.data[indexSrc]"+bitWise+";\n" +
+				"\t\t\t\t\t\ttransformed.data[indexDst++] = total += value;\n" +
+				"\t\t\t\t\t\ttransformedSq.data[indexDstSq++] = totalSq += value*value;\n" +
+				"\t\t\t\t\t}\n" +
+				"\t\t\t\t}\n" +
+				"\t\t\t}\n" +
+				"\t\t});\n" +
+				"\n" +
+				"\t\tsumColumns(transformed);\n" +
+				"\t\tsumColumns(transformedSq);\n" +
+				"\t}\n\n");
+	}
+
+	private void printSumColumns( AutoTypeImage image ) {
+		out.print("\t/**\n" +
+				"\t * Adds the value of the pixel above to each pixel, going down the image, for bands of columns at the same time.\n" +
+				"\t */\n" +
+				"\tprivate static void sumColumns( final "+image.getImageName()+" transformed )\n" +
+				"\t{\n" +
+				"\t\tBoofConcurrency.loopBlocks(0,transformed.width,MIN_COLUMNS,new IntRangeTask() {\n" +
+				"\t\t\t@Override\n" +
+				"\t\t\tpublic void run(int x0, int x1) {\n" +
+				"\t\t\t\tfor( int y = 1; y < transformed.height; y++ ) {\n" +
+				"\t\t\t\t\tint indexDst = transformed.startIndex + transformed.stride*y + x0;\n" +
+				"\t\t\t\t\tint indexPrev = indexDst - transformed.stride;\n" +
+				"\t\t\t\t\tint end = indexDst + (x1-x0);\n" +
+				"\n" +
+				"\t\t\t\t\tfor( ; indexDst < end; indexDst++ ) {\n" +
+				"\t\t\t\t\t\ttransformed.data[indexDst] = transformed.data[indexPrev++] + transformed.data[indexDst];\n" +
+				"\t\t\t\t\t}\n" +
+				"\t\t\t\t}\n" +
+				"\t\t\t}\n" +
+				"\t\t});\n" +
+				"\t}\n\n");
+	}
+
+	public static void main( String args[] ) throws FileNotFoundException {
+		GenerateImplIntegralImageOps_MT app = new GenerateImplIntegralImageOps_MT();
+		app.generate();
+	}
+}
@@ -20,6 +20,7 @@ package boofcv.abst.denoise;
 
 import boofcv.abst.wavelet.WaveletTransform;
 import boofcv.alg.denoise.DenoiseWavelet;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.core.image.border.BorderType;
 import boofcv.factory.denoise.FactoryDenoiseWaveletAlg;
 import boofcv.factory.transform.wavelet.FactoryWaveletDaub;
@@ -53,10 +54,27 @@ public class FactoryImageDenoise {
 	 */
 	public static <T extends ImageSingleBand> WaveletDenoiseFilter<T>
 	waveletVisu( Class<T> imageType , int numLevels , double minPixelValue , double maxPixelValue )
+	{
+		return waveletVisu(imageType,numLevels,minPixelValue,maxPixelValue,BoofConcurrency.USE_CONCURRENT);
+	}
+
+	/**
+	 * Denoises an image using VISU Shrink wavelet denoiser.
+	 *
+	 * @param imageType The type of image being transform.
+	 * @param numLevels Number of levels in the wavelet transform.  If not sure, try using 3.
+	 * @param minPixelValue Minimum allowed pixel intensity value
+	 * @param maxPixelValue Maximum allowed pixel intensity value
+	 * @param concurrent If true the image will be processed by multiple threads.  See {@link BoofConcurrency}.
+	 * @return filter for image noise removal.
+	 */
+	public static <T extends ImageSingleBand> WaveletDenoiseFilter<T>
+	waveletVisu( Class<T> imageType , int numLevels , double minPixelValue , double maxPixelValue ,
+					boolean concurrent )
 	{
 		ImageTypeInfo info = ImageTypeInfo.classToType(imageType);
-		WaveletTransform descTran = createDefaultShrinkTransform(info, numLevels,minPixelValue,maxPixelValue);
-		DenoiseWavelet denoiser  = FactoryDenoiseWaveletAlg.visu(imageType);
+		WaveletTransform descTran = createDefaultShrinkTransform(info, numLevels,minPixelValue,maxPixelValue,concurrent);
+		DenoiseWavelet denoiser  = FactoryDenoiseWaveletAlg.visu(imageType,concurrent);
 
 		return new WaveletDenoiseFilter<T>(descTran,denoiser);
 	}
@@ -72,10 +90,27 @@ public class FactoryImageDenoise {
 	 */
 	public static <T extends ImageSingleBand> WaveletDenoiseFilter<T>
 	waveletBayes( Class<T> imageType , int numLevels , double minPixelValue , double maxPixelValue )
+	{
+		return waveletBayes(imageType,numLevels,minPixelValue,maxPixelValue,BoofConcurrency.USE_CONCURRENT);
+	}
+
+	/**
+	 * Denoises an image using BayesShrink wavelet denoiser.
+	 *
+	 * @param imageType The type of image being transform.
+	 * @param numLevels Number of levels in the wavelet transform.  If not sure, try using 3.
+	 * @param minPixelValue Minimum allowed pixel intensity value
+	 * @param maxPixelValue Maximum allowed pixel intensity value
+	 * @param concurrent If true the image will be processed by multiple threads.  See {@link BoofConcurrency}.
+	 * @return filter for image noise removal.
+	 */
+	public static <T extends ImageSingleBand> WaveletDenoiseFilter<T>
+	waveletBayes( Class<T> imageType , int numLevels , double minPixelValue , double maxPixelValue ,
+					boolean concurrent )
 	{
 		ImageTypeInfo info = ImageTypeInfo.classToType(imageType);
-		WaveletTransform descTran = createDefaultShrinkTransform(info, numLevels,minPixelValue,maxPixelValue);
-		DenoiseWavelet denoiser = FactoryDenoiseWaveletAlg.bayes(null, imageType);
+		WaveletTransform descTran = createDefaultShrinkTransform(info, numLevels,minPixelValue,maxPixelValue,concurrent);
+		DenoiseWavelet denoiser = FactoryDenoiseWaveletAlg.bayes(null, imageType,concurrent);
 
 		return new WaveletDenoiseFilter<T>(descTran,denoiser);
 	}
@@ -91,10 +126,27 @@ public class FactoryImageDenoise {
 	 */
 	public static <T extends ImageSingleBand> WaveletDenoiseFilter<T>
 	waveletSure( Class<T> imageType , int numLevels , double minPixelValue , double maxPixelValue )
+	{
+		return waveletSure(imageType,numLevels,minPixelValue,maxPixelValue,BoofConcurrency.USE_CONCURRENT);
+	}
+
+	/**
+	 * Denoises an image using SureShrink wavelet denoiser.
+	 *
+	 * @param imageType The type of image being transform.
+	 * @param numLevels Number of levels in the wavelet transform.  If not sure, try using 3.
+	 * @param minPixelValue Minimum allowed pixel intensity value
+	 * @param maxPixelValue Maximum allowed pixel intensity value
+	 * @param concurrent If true the image will be processed by multiple threads.  See {@link BoofConcurrency}.
+	 * @return filter for image noise removal.
+	 */
+	public static <T extends ImageSingleBand> WaveletDenoiseFilter<T>
+	waveletSure( Class<T> imageType , int numLevels , double minPixelValue , double maxPixelValue ,
+					boolean concurrent )
 	{
 		ImageTypeInfo info = ImageTypeInfo.classToType(imageType);
-		WaveletTransform descTran = createDefaultShrinkTransform(info, numLevels,minPixelValue,maxPixelValue);
-		DenoiseWavelet denoiser = FactoryDenoiseWaveletAlg.sure(imageType);
+		WaveletTransform descTran = createDefaultShrinkTransform(info, numLevels,minPixelValue,maxPixelValue,concurrent);
+		DenoiseWavelet denoiser = FactoryDenoiseWaveletAlg.sure(imageType,concurrent);
 
 		return new WaveletDenoiseFilter<T>(descTran,denoiser);
 	}
@@ -103,18 +155,19 @@ public class FactoryImageDenoise {
 	 * Default wavelet transform used for denoising images.
 	 */
 	private static WaveletTransform createDefaultShrinkTransform(ImageTypeInfo imageType, int numLevels,
-																 double minPixelValue , double maxPixelValue ) {
+																 double minPixelValue , double maxPixelValue ,
+																 boolean concurrent ) {
 
 		WaveletTransform descTran;
 
 		if( !imageType.isInteger()) {
 			WaveletDescription<WlCoef_F32> waveletDesc_F32 = FactoryWaveletDaub.daubJ_F32(4);
 			descTran = FactoryWaveletTransform.create_F32(waveletDesc_F32,numLevels,
-					(float)minPixelValue,(float)maxPixelValue);
+					(float)minPixelValue,(float)maxPixelValue,concurrent);
 		} else {
 			WaveletDescription<WlCoef_I32> waveletDesc_I32 = FactoryWaveletDaub.biorthogonal_I32(5, BorderType.REFLECT);
 			descTran = FactoryWaveletTransform.create_I(waveletDesc_I32,numLevels,
-					(int)minPixelValue,(int)maxPixelValue,imageType.getImageClass());
+					(int)minPixelValue,(int)maxPixelValue,imageType.getImageClass(),concurrent);
 		}
 		return descTran;
 	}
@@ -26,6 +26,11 @@ import java.lang.reflect.Method;
 
 /**
  * Turns functions into implementations of {@link FilterImageInterface} Wraps around any function which has two images as input and output.
+ *
+ * <p>
+ * Unless {@link #apply} is overridden the function is invoked through reflection each time an image is processed.
+ * The filters created by FactoryBinaryImageOps override it and call the function directly.
+ * </p>
  */
 public class FilterImageReflection<Input extends ImageSingleBand, Output extends ImageSingleBand>
 		implements FilterImageInterface<Input, Output> {
@@ -78,6 +83,14 @@ public class FilterImageReflection<Input extends ImageSingleBand, Output extends
 		if (output == null)
 			throw new IllegalArgumentException("Output parameter is null");
 
+		apply(input, output);
+	}
+
+	/**
+	 * Applies the filter to the images, which have already been checked.  By default the function is
+	 * invoked using reflection.  Override to call the function directly and avoid the overhead of reflection.
+	 */
+	protected void apply(Input input, Output output) {
 		try {
 			m.invoke(null, input, output);
 		} catch (IllegalAccessException e) {
@@ -19,6 +19,7 @@
 package boofcv.abst.filter;
 
 import boofcv.alg.misc.GImageMiscOps;
+import boofcv.struct.image.ImagePool;
 import boofcv.struct.image.ImageSingleBand;
 
 
@@ -59,20 +60,29 @@ public class FilterSequence<Input extends ImageSingleBand, Output extends ImageS
 
 	@Override
 	public void process(Input input, Output output) {
-		Output temp1 = (Output)output._createNew( output.width , output.height );
-		Output temp2 = (Output)output._createNew( output.width , output.height );
+		ImagePool pool = ImagePool.getShared();
+		Output temp1 = pool.borrow((Class<Output>)output.getClass(), output.width , output.height );
+		Output temp2 = pool.borrow((Class<Output>)output.getClass(), output.width , output.height );
+		try {
+			// borrowed images are not initialized
+			GImageMiscOps.fill(temp1, 0);
+			GImageMiscOps.fill(temp2, 0);
 
-		firstFilter.process(input,temp1);
+			firstFilter.process(input,temp1);
 
-		for( FilterImageInterface<Output,Output> f : sequence ) {
-			f.process(temp1,temp2);
-			Output swap = temp1;
-			temp1 = temp2;
-			temp2 = swap;
-			GImageMiscOps.fill(temp2, 0);
-		}
+			for( FilterImageInterface<Output,Output> f : sequence ) {
+				f.process(temp1,temp2);
+				Output swap = temp1;
+				temp1 = temp2;
+				temp2 = swap;
+				GImageMiscOps.fill(temp2, 0);
+			}
 
-		output.setTo(temp1);
+			output.setTo(temp1);
+		} finally {
+			pool.release(temp1);
+			pool.release(temp2);
+		}
 	}
 
 	@Override
@@ -19,28 +19,30 @@
 package boofcv.abst.filter.binary;
 
 import boofcv.abst.filter.FilterImageInterface;
-import boofcv.alg.filter.binary.BinaryImageOps;
+import boofcv.alg.filter.binary.LabelBlobsUnionFind;
 import boofcv.struct.image.ImageSInt32;
 import boofcv.struct.image.ImageUInt8;
 
 /**
- * Wrapper around labelBlobs4
+ * Wrapper around {@link LabelBlobsUnionFind}, which produces the same output as labelBlobs4 and labelBlobs8
+ * in {@link boofcv.alg.filter.binary.BinaryImageOps}.
  */
 public class FilterLabelBlobs implements FilterImageInterface<ImageUInt8,ImageSInt32> {
 
-	boolean isFour;
+	LabelBlobsUnionFind alg;
 	int numObjects;
 
+	public FilterLabelBlobs(boolean four, boolean concurrent) {
+		alg = new LabelBlobsUnionFind(!four,concurrent);
+	}
+
 	public FilterLabelBlobs(boolean four) {
-		isFour = four;
+		this(four,false);
 	}
 
 	@Override
 	public void process(ImageUInt8 input, ImageSInt32 output) {
-		if( isFour )
-			numObjects = BinaryImageOps.labelBlobs4(input,output);
-		else
-			numObjects = BinaryImageOps.labelBlobs4(input,output);
+		numObjects = alg.process(input,output);
 	}
 
 	/**
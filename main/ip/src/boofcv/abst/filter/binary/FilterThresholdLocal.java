@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.abst.filter.binary;
+
+import boofcv.abst.filter.FilterImageInterface;
+import boofcv.alg.filter.binary.ThresholdLocal;
+import boofcv.struct.image.ImageSingleBand;
+import boofcv.struct.image.ImageUInt8;
+
+/**
+ * Wrapper around {@link ThresholdLocal} so that local thresholds can be used as a {@link FilterImageInterface}.
+ *
+ * @author Peter Abeles
+ */
+public class FilterThresholdLocal<T extends ImageSingleBand> implements FilterImageInterface<T,ImageUInt8> {
+
+	ThresholdLocal<T> alg;
+
+	public FilterThresholdLocal(ThresholdLocal<T> alg) {
+		this.alg = alg;
+	}
+
+	@Override
+	public void process(T input, ImageUInt8 output) {
+		alg.process(input,output);
+	}
+
+	@Override
+	public int getHorizontalBorder() {
+		return 0;
+	}
+
+	@Override
+	public int getVerticalBorder() {
+		return 0;
+	}
+
+	@Override
+	public Class<T> getInputType() {
+		return alg.getInputType();
+	}
+
+	public ThresholdLocal<T> getAlg() {
+		return alg;
+	}
+}
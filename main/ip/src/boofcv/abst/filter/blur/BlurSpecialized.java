@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boofcv.abst.filter.blur;
+
+import boofcv.alg.filter.blur.BlurImageOps;
+import boofcv.alg.filter.blur.BlurImageOps_MT;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageSingleBand;
+import boofcv.struct.image.ImageUInt8;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Type specific implementations of {@link BlurStorageFilter} and {@link MedianImageFilter}, one for each
+ * blur function.  The blur function is looked up once when the filter is created and then called directly
+ * each time an image is processed, instead of through reflection.
+ * </p>
+ *
+ * <p>
+ * DO NOT MODIFY: Generated by {@link GenerateBlurSpecialized}.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class BlurSpecialized {
+
+	/**
+	 * Creates a {@link BlurStorageFilter} which calls the specified function directly.
+	 *
+	 * @param m The blur function.
+	 * @return The specialized filter or null if there isn't one for the function.
+	 */
+	public static BlurStorageFilter storage( Method m , Class imageType , double sigma , int radius ) {
+		if( matches(m,BlurImageOps.class,"gaussianBox",ImageFloat32.class,ImageFloat32.class,double.class,ImageFloat32.class) )
+			return new GaussianBox_F32(m,imageType,sigma,radius);
+		if( matches(m,BlurImageOps.class,"gaussianBox",ImageUInt8.class,ImageUInt8.class,double.class,ImageFloat32.class) )
+			return new GaussianBox_U8(m,imageType,sigma,radius);
+		if( matches(m,BlurImageOps.class,"gaussianRecursive",ImageFloat32.class,ImageFloat32.class,double.class,ImageFloat32.class) )
+			return new GaussianRecursive_F32(m,imageType,sigma,radius);
+		if( matches(m,BlurImageOps.class,"gaussianRecursive",ImageUInt8.class,ImageUInt8.class,double.class,ImageFloat32.class) )
+			return new GaussianRecursive_U8(m,imageType,sigma,radius);
+		if( matches(m,BlurImageOps.class,"gaussian",ImageFloat32.class,ImageFloat32.class,double.class,int.class,ImageFloat32.class) )
+			return new Gaussian_F32(m,imageType,sigma,radius);
+		if( matches(m,BlurImageOps.class,"gaussian",ImageUInt8.class,ImageUInt8.class,double.class,int.class,ImageUInt8.class) )
+			return new Gaussian_U8(m,imageType,sigma,radius);
+		if( matches(m,BlurImageOps.class,"mean",ImageFloat32.class,ImageFloat32.class,int.class,ImageFloat32.class) )
+			return new Mean_F32(m,imageType,sigma,radius);
+		if( matches(m,BlurImageOps.class,"mean",ImageUInt8.class,ImageUInt8.class,int.class,ImageUInt8.class) )
+			return new Mean_U8(m,imageType,sigma,radius);
+		if( matches(m,BlurImageOps_MT.class,"gaussianBox",ImageFloat32.class,ImageFloat32.class,double.class,ImageFloat32.class) )
+			return new GaussianBoxMT_F32(m,imageType,sigma,radius);
+		if( matches(m,BlurImageOps_MT.class,"gaussianBox",ImageUInt8.class,ImageUInt8.class,double.class,ImageFloat32.class) )
+			return new GaussianBoxMT_U8(m,imageType,sigma,radius);
+		if( matches(m,BlurImageOps_MT.class,"gaussianRecursive",ImageFloat32.class,ImageFloat32.class,double.class,ImageFloat32.class) )
+			return new GaussianRecursiveMT_F32(m,imageType,sigma,radius);
+		if( matches(m,BlurImageOps_MT.class,"gaussianRecursive",ImageUInt8.class,ImageUInt8.class,double.class,ImageFloat32.class) )
+			return new GaussianRecursiveMT_U8(m,imageType,sigma,radius);
+		return null;
+	}
+
+	/**
+	 * Creates a {@link MedianImageFilter} which calls the specified function directly.
+	 *
+	 * @param m The median function.
+	 * @return The specialized filter or null if there isn't one for the function.
+	 */
+	public static MedianImageFilter median( Method m , Class imageType , int radius ) {
+		if( matches(m,BlurImageOps.class,"median",ImageFloat32.class,ImageFloat32.class,int.class) )
+			return new Median_F32(m,imageType,radius);
+		if( matches(m,BlurImageOps.class,"median",ImageUInt8.class,ImageUInt8.class,int.class) )
+			return new Median_U8(m,imageType,radius);
+		if( matches(m,BlurImageOps_MT.class,"median",ImageUInt8.class,ImageUInt8.class,int.class) )
+			return new MedianMT_U8(m,imageType,radius);
+		return null;
+	}
+
+	private static boolean matches( Method m , Class<?> owner , String name , Class<?> ...params ) {
+		return m.getDeclaringClass() == owner && m.getName().equals(name) &&
+				Arrays.equals(m.getParameterTypes(),params);
+	}
+
+	public static class GaussianBox_F32 extends BlurStorageFilter<ImageFloat32> {
+		public GaussianBox_F32( Method m , Class<ImageFloat32> imageType , double sigma , int radius ) {
+			super(m, imageType, sigma, radius);
+		}
+
+		@Override
+		protected void apply( ImageFloat32 input , ImageFloat32 output , ImageSingleBand storage ) {
+			BlurImageOps.gaussianBox(input,output,sigma,(ImageFloat32)storage);
+		}
+	}
+
+	public static class GaussianBox_U8 extends BlurStorageFilter<ImageUInt8> {
+		public GaussianBox_U8( Method m , Class<ImageUInt8> imageType , double sigma , int radius ) {
+			super(m, imageType, sigma, radius);
+		}
+
+		@Override
+		protected void apply( ImageUInt8 input , ImageUInt8 output , ImageSingleBand storage ) {
+			BlurImageOps.gaussianBox(input,output,sigma,(ImageFloat32)storage);
+		}
+	}
+
+	public static class GaussianRecursive_F32 extends BlurStorageFilter<ImageFloat32> {
+		public GaussianRecursive_F32( Method m , Class<ImageFloat32> imageType , double sigma , int radius ) {
+			super(m, imageType, sigma, radius);
+		}
+
+		@Override
+		protected void apply( ImageFloat32 input , ImageFloat32 output , ImageSingleBand storage ) {
+			BlurImageOps.gaussianRecursive(input,output,sigma,(ImageFloat32)storage);
+		}
+	}
+
+	public static class GaussianRecursive_U8 extends BlurStorageFilter<ImageUInt8> {
+		public GaussianRecursive_U8( Method m , Class<ImageUInt8> imageType , double sigma , int radius ) {
+			super(m, imageType, sigma, radius);
+		}
+
+		@Override
+		protected void apply( ImageUInt8 input , ImageUInt8 output , ImageSingleBand storage ) {
+			BlurImageOps.gaussianRecursive(input,output,sigma,(ImageFloat32)storage);
+		}
+	}
+
+	public static class Gaussian_F32 extends BlurStorageFilter<ImageFloat32> {
+		public Gaussian_F32( Method m , Class<ImageFloat32> imageType , double sigma , int radius ) {
+			super(m, imageType, sigma, radius);
+		}
+
+		@Override
+		protected void apply( ImageFloat32 input , ImageFloat32 output , ImageSingleBand storage ) {
+			BlurImageOps.gaussian(input,output,sigma,radius,(ImageFloat32)storage);
+		}
+	}
+
+	public static class Gaussian_U8 extends BlurStorageFilter<ImageUInt8> {
+		public Gaussian_U8( Method m , Class<ImageUInt8> imageType , double sigma , int radius ) {
+			super(m, imageType, sigma, radius);
+		}
+
+		@Override
+		protected void apply( ImageUInt8 input , ImageUInt8 output , ImageSingleBand storage ) {
+			BlurImageOps.gaussian(input,output,sigma,radius,(ImageUInt8)storage);
+		}
+	}
+
+	public static class Mean_F32 extends BlurStorageFilter<ImageFloat32> {
+		public Mean_F32( Method m , Class<ImageFloat32> imageType , double sigma , int radius ) {
+			super(m, imageType, sigma, radius);
+		}
+
+		@Override
+		protected void apply( ImageFloat32 input , ImageFloat32 output , ImageSingleBand storage ) {
+			BlurImageOps.mean(input,output,radius,(ImageFloat32)storage);
+		}
+	}
+
+	public static class Mean_U8 extends BlurStorageFilter<ImageUInt8> {
+		public Mean_U8( Method m , Class<ImageUInt8> imageType , double sigma , int radius ) {
+			super(m, imageType, sigma, radius);
+		}
+
+		@Override
+		protected void apply( ImageUInt8 input , ImageUInt8 output , ImageSingleBand storage ) {
+			BlurImageOps.mean(input,output,radius,(ImageUInt8)storage);
+		}
+	}
+
+	public static class GaussianBoxMT_F32 extends BlurStorageFilter<ImageFloat32> {
+		public GaussianBoxMT_F32( Method m , Class<ImageFloat32> imageType , double sigma , int radius ) {
+			super(m, imageType, sigma, radius);
+		}
+
+		@Override
+		protected void apply( ImageFloat32 input , ImageFloat32 output , ImageSingleBand storage ) {
+			BlurImageOps_MT.gaussianBox(input,output,sigma,(ImageFloat32)storage);
+		}
+	}
+
+	public static class GaussianBoxMT_U8 extends BlurStorageFilter<ImageUInt8> {
+		public GaussianBoxMT_U8( Method m , Class<ImageUInt8> imageType , double sigma , int radius ) {
+			super(m, imageType, sigma, radius);
+		}
+
+		@Override
+		protected void apply( ImageUInt8 input , ImageUInt8 output , ImageSingleBand storage ) {
+			BlurImageOps_MT.gaussianBox(input,output,sigma,(ImageFloat32)storage);
+		}
+	}
+
+	public static class GaussianRecursiveMT_F32 extends BlurStorageFilter<ImageFloat32> {
+		public GaussianRecursiveMT_F32( Method m , Class<ImageFloat32> imageType , double sigma , int radius ) {
+			super(m, imageType, sigma, radius);
+		}
+
+		@Override
+		protected void apply( ImageFloat32 input , ImageFloat32 output , ImageSingleBand storage ) {
+			BlurImageOps_MT.gaussianRecursive(input,output,sigma,(ImageFloat32)storage);
+		}
+	}
+
+	public static class GaussianRecursiveMT_U8 extends BlurStorageFilter<ImageUInt8> {
+		public GaussianRecursiveMT_U8( Method m , Class<ImageUInt8> imageType , double sigma , int radius ) {
+			super(m, imageType, sigma, radius);
+		}
+
+		@Override
+		protected void apply( ImageUInt8 input , ImageUInt8 output , ImageSingleBand storage ) {
+			BlurImageOps_MT.gaussianRecursive(input,output,sigma,(ImageFloat32)storage);
+		}
+	}
+
+	public static class Median_F32 extends MedianImageFilter<ImageFloat32> {
+		public Median_F32( Method m , Class<ImageFloat32> imageType , int radius ) {
+			super(m, imageType, radius);
+		}
+
+		@Override
+		public void process( ImageFloat32 input , ImageFloat32 output ) {
+			BlurImageOps.median(input,output,radius);
+		}
+	}
+
+	public static class Median_U8 extends MedianImageFilter<ImageUInt8> {
+		public Median_U8( Method m , Class<ImageUInt8> imageType , int radius ) {
+			super(m, imageType, radius);
+		}
+
+		@Override
+		public void process( ImageUInt8 input , ImageUInt8 output ) {
+			BlurImageOps.median(input,output,radius);
+		}
+	}
+
+	public static class MedianMT_U8 extends MedianImageFilter<ImageUInt8> {
+		public MedianMT_U8( Method m , Class<ImageUInt8> imageType , int radius ) {
+			super(m, imageType, radius);
+		}
+
+		@Override
+		public void process( ImageUInt8 input , ImageUInt8 output ) {
+			BlurImageOps_MT.median(input,output,radius);
+		}
+	}
+
+}
@@ -19,6 +19,9 @@
 package boofcv.abst.filter.blur;
 
 import boofcv.alg.filter.blur.BlurImageOps;
+import boofcv.factory.filter.kernel.FactoryKernelGaussian;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImagePool;
 import boofcv.struct.image.ImageSingleBand;
 import boofcv.testing.BoofTesting;
 
@@ -27,7 +30,9 @@ import java.lang.reflect.Method;
 
 /**
  * Simplified interface for using a blur filter that requires storage.  Reflections are used to look up a function inside
- * of {@link boofcv.alg.filter.blur.BlurImageOps} which is then invoked later on.
+ * of {@link boofcv.alg.filter.blur.BlurImageOps} which is then invoked later on.  Storage for intermediate results
+ * is borrowed from the shared {@link ImagePool}.  {@link BlurSpecialized} contains subclasses which call the
+ * function directly instead of through reflection.
  *
  * @author Peter Abeles
  */
@@ -36,38 +41,58 @@ public class BlurStorageFilter<T extends ImageSingleBand> implements BlurFilter<
 	// the blur function inside of BlurImageOps being invoked
 	private Method m;
 	// the Gaussian's standard deviation
-	private double sigma;
+	protected double sigma;
 	// size of the blur region
-	private int radius;
-	// stores intermediate results
-	private ImageSingleBand storage;
+	protected int radius;
 	// if sigma is an input or not
 	private boolean hasSigma;
+	// if radius is an input or not
+	private boolean hasRadius;
 
 	// type of image it processes
 	Class<T> inputType;
+	// type of image used to store intermediate results
+	Class storageType;
 
 	public BlurStorageFilter( String functionName , Class<T> inputType, int radius) {
-		this.radius = radius;
-		this.inputType = inputType;
+		this(BoofTesting.findMethod(BlurImageOps.class,functionName, inputType, inputType,int.class, inputType),
+				inputType,0,radius);
+	}
 
-		hasSigma = false;
-		m = BoofTesting.findMethod(BlurImageOps.class,functionName, inputType, inputType,int.class, inputType);
+	public BlurStorageFilter( String functionName , Class<T> inputType, double sigma , int radius) {
+		this(BoofTesting.findMethod(BlurImageOps.class,functionName, inputType, inputType,double.class,int.class, inputType),
+				inputType,sigma,radius);
+	}
 
-		if( m == null )
-			throw new IllegalArgumentException("Can't find matching function for image type "+ inputType.getSimpleName());
+	/**
+	 * Looks up a function which is only parametrised by sigma and stores intermediate results in a
+	 * {@link ImageFloat32}, e.g. {@link BlurImageOps#gaussianRecursive}.  The radius is only used to
+	 * describe the size of the blur.
+	 *
+	 * @param owner Class which contains the function, e.g. {@link BlurImageOps} or
+	 * {@link boofcv.alg.filter.blur.BlurImageOps_MT}.
+	 */
+	public BlurStorageFilter( Class<?> owner , String functionName , Class<T> inputType, double sigma ) {
+		this(BoofTesting.findMethod(owner,functionName, inputType, inputType,double.class, ImageFloat32.class),
+				inputType,sigma,FactoryKernelGaussian.radiusForSigma(sigma,0));
 	}
 
-	public BlurStorageFilter( String functionName , Class<T> inputType, double sigma , int radius) {
-		this.radius = radius;
-		this.sigma = sigma;
+	/**
+	 * Uses the specified blur function.  Which of sigma and radius are passed to the function, and the type of
+	 * the storage image, are determined from its parameters.
+	 *
+	 * @param m Blur function.  The input and output images come first and the storage image last.
+	 */
+	public BlurStorageFilter( Method m , Class<T> inputType , double sigma , int radius ) {
+		this.m = m;
 		this.inputType = inputType;
+		this.sigma = sigma;
+		this.radius = radius;
 
-		hasSigma = true;
-		m = BoofTesting.findMethod(BlurImageOps.class,functionName, inputType, inputType,double.class,int.class, inputType);
-
-		if( m == null )
-			throw new IllegalArgumentException("Can't find matching function for image type "+ inputType.getSimpleName());
+		Class<?> p[] = m.getParameterTypes();
+		hasSigma = p[2] == double.class;
+		hasRadius = p[p.length-2] == int.class;
+		storageType = p[p.length-1];
 	}
 
 	/**
@@ -87,13 +112,24 @@ public class BlurStorageFilter<T extends ImageSingleBand> implements BlurFilter<
 
 	@Override
 	public void process(T input, T output) {
+		ImagePool pool = ImagePool.getShared();
+		ImageSingleBand storage = pool.borrow(storageType,output.width,output.height);
+		try {
+			apply(input,output,storage);
+		} finally {
+			pool.release(storage);
+		}
+	}
+
+	/**
+	 * Applies the blur.  By default the function is invoked using reflection.  Override to call the function
+	 * directly and avoid the overhead of reflection.
+	 */
+	protected void apply( T input , T output , ImageSingleBand storage ) {
 		try {
-			if( storage == null ) {
-				storage = (ImageSingleBand)output._createNew(output.width,output.height);
-			} else {
-				storage.reshape(output.width,output.height);
-			}
-			if( hasSigma )
+			if( !hasRadius )
+				m.invoke(null,input,output,sigma,storage);
+			else if( hasSigma )
 				m.invoke(null,input,output,sigma,radius,storage);
 			else
 				m.invoke(null,input,output,radius,storage);
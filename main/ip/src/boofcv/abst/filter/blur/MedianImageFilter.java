@@ -19,7 +19,10 @@
 package boofcv.abst.filter.blur;
 
 import boofcv.alg.filter.blur.BlurImageOps;
+import boofcv.alg.filter.blur.BlurImageOps_MT;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.image.ImageSingleBand;
+import boofcv.struct.image.ImageUInt8;
 import boofcv.testing.BoofTesting;
 
 import java.lang.reflect.InvocationTargetException;
@@ -27,7 +30,9 @@ import java.lang.reflect.Method;
 
 /**
  * Simplified interface for using a median filter.  Reflections are used to look up a function inside
- * of {@link BlurImageOps} which is then invoked later on.
+ * of {@link BlurImageOps} which is then invoked later on.  If concurrent then {@link BlurImageOps_MT} is searched
+ * first.  {@link BlurSpecialized} contains subclasses which call the function directly instead of through
+ * reflection.
  *
  * @author Peter Abeles
  */
@@ -36,18 +41,36 @@ public class MedianImageFilter<T extends ImageSingleBand> implements BlurFilter<
 	// the blur function inside of BlurImageOps being invoked
 	private Method m;
 	// size of the blur region
-	private int radius;
+	protected int radius;
 
 	Class<T> imageType;
 
 	public MedianImageFilter( Class<T> imageType , int radius) {
-		this.radius = radius;
-		this.imageType = imageType;
+		this(imageType,radius,BoofConcurrency.USE_CONCURRENT);
+	}
 
-		m = BoofTesting.findMethod(BlurImageOps.class,"median",imageType,imageType,int.class);
+	public MedianImageFilter( Class<T> imageType , int radius , boolean concurrent ) {
+		this(findFunction(imageType,concurrent),imageType,radius);
+	}
 
-		if( m == null )
-			throw new IllegalArgumentException("Can't find matching function for image type "+imageType.getSimpleName());
+	/**
+	 * Uses the specified median function
+	 */
+	public MedianImageFilter( Method m , Class<T> imageType , int radius ) {
+		this.m = m;
+		this.imageType = imageType;
+		this.radius = radius;
+	}
+
+	/**
+	 * Finds the median function for the image type
+	 *
+	 * @param concurrent If true then the concurrent function is returned, if there is one for the image type
+	 */
+	public static Method findFunction( Class imageType , boolean concurrent ) {
+		// only ImageUInt8 has a concurrent implementation
+		Class owner = concurrent && imageType == ImageUInt8.class ? BlurImageOps_MT.class : BlurImageOps.class;
+		return BoofTesting.findMethod(owner,"median",imageType,imageType,int.class);
 	}
 
 	/**
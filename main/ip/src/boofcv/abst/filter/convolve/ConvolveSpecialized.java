@@ -0,0 +1,1543 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boofcv.abst.filter.convolve;
+
+import boofcv.alg.filter.convolve.ConvolveDownNoBorder;
+import boofcv.alg.filter.convolve.ConvolveDownNormalized;
+import boofcv.alg.filter.convolve.ConvolveImageNoBorder;
+import boofcv.alg.filter.convolve.ConvolveImageNoBorder_MT;
+import boofcv.alg.filter.convolve.ConvolveNormalized;
+import boofcv.alg.filter.convolve.ConvolveNormalized_MT;
+import boofcv.alg.filter.convolve.ConvolveWithBorder;
+import boofcv.alg.filter.convolve.ConvolveWithBorder_MT;
+import boofcv.core.image.border.BorderType;
+import boofcv.core.image.border.ImageBorder_F32;
+import boofcv.core.image.border.ImageBorder_I32;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel1D_I32;
+import boofcv.struct.convolve.Kernel2D_F32;
+import boofcv.struct.convolve.Kernel2D_I32;
+import boofcv.struct.convolve.KernelBase;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageInt16;
+import boofcv.struct.image.ImageInt8;
+import boofcv.struct.image.ImageSInt16;
+import boofcv.struct.image.ImageSInt32;
+import boofcv.struct.image.ImageUInt8;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Type specific implementations of {@link GenericConvolve} and {@link GenericConvolveDown}, one for each
+ * convolution function.  The convolution function is looked up once when the filter is created and then
+ * called directly each time an image is processed, instead of through reflection.
+ * </p>
+ *
+ * <p>
+ * DO NOT MODIFY: Generated by {@link GenerateConvolveSpecialized}.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+@SuppressWarnings({"unchecked"})
+public class ConvolveSpecialized {
+
+	/**
+	 * Creates a {@link GenericConvolve} which calls the specified function directly.
+	 *
+	 * @param m The convolution function.
+	 * @return The specialized filter or null if there isn't one for the function.
+	 */
+	public static GenericConvolve convolve( Method m , KernelBase kernel , BorderType type , Class imageType ) {
+		if( matches(m,ConvolveImageNoBorder.class,"convolve",Kernel2D_F32.class,ImageFloat32.class,ImageFloat32.class) )
+			return new ConvolveNoBorder_F32_F32(m,kernel,type,imageType);
+		if( matches(m,ConvolveImageNoBorder.class,"convolve",Kernel2D_I32.class,ImageSInt16.class,ImageInt16.class) )
+			return new ConvolveNoBorder_S16_I16(m,kernel,type,imageType);
+		if( matches(m,ConvolveImageNoBorder.class,"convolve",Kernel2D_I32.class,ImageUInt8.class,ImageInt16.class) )
+			return new ConvolveNoBorder_U8_I16(m,kernel,type,imageType);
+		if( matches(m,ConvolveImageNoBorder.class,"convolve",Kernel2D_I32.class,ImageUInt8.class,ImageSInt32.class) )
+			return new ConvolveNoBorder_U8_S32(m,kernel,type,imageType);
+		if( matches(m,ConvolveImageNoBorder.class,"horizontal",Kernel1D_F32.class,ImageFloat32.class,ImageFloat32.class,boolean.class) )
+			return new HorizontalNoBorder_F32_F32(m,kernel,type,imageType);
+		if( matches(m,ConvolveImageNoBorder.class,"horizontal",Kernel1D_I32.class,ImageSInt16.class,ImageInt16.class,boolean.class) )
+			return new HorizontalNoBorder_S16_I16(m,kernel,type,imageType);
+		if( matches(m,ConvolveImageNoBorder.class,"horizontal",Kernel1D_I32.class,ImageUInt8.class,ImageInt16.class,boolean.class) )
+			return new HorizontalNoBorder_U8_I16(m,kernel,type,imageType);
+		if( matches(m,ConvolveImageNoBorder.class,"horizontal",Kernel1D_I32.class,ImageUInt8.class,ImageSInt32.class,boolean.class) )
+			return new HorizontalNoBorder_U8_S32(m,kernel,type,imageType);
+		if( matches(m,ConvolveImageNoBorder.class,"vertical",Kernel1D_F32.class,ImageFloat32.class,ImageFloat32.class,boolean.class) )
+			return new VerticalNoBorder_F32_F32(m,kernel,type,imageType);
+		if( matches(m,ConvolveImageNoBorder.class,"vertical",Kernel1D_I32.class,ImageSInt16.class,ImageInt16.class,boolean.class) )
+			return new VerticalNoBorder_S16_I16(m,kernel,type,imageType);
+		if( matches(m,ConvolveImageNoBorder.class,"vertical",Kernel1D_I32.class,ImageUInt8.class,ImageInt16.class,boolean.class) )
+			return new VerticalNoBorder_U8_I16(m,kernel,type,imageType);
+		if( matches(m,ConvolveImageNoBorder.class,"vertical",Kernel1D_I32.class,ImageUInt8.class,ImageSInt32.class,boolean.class) )
+			return new VerticalNoBorder_U8_S32(m,kernel,type,imageType);
+		if( matches(m,ConvolveImageNoBorder_MT.class,"convolve",Kernel2D_F32.class,ImageFloat32.class,ImageFloat32.class) )
+			return new ConvolveNoBorderMT_F32_F32(m,kernel,type,imageType);
+		if( matches(m,ConvolveImageNoBorder_MT.class,"convolve",Kernel2D_I32.class,ImageSInt16.class,ImageInt16.class) )
+			return new ConvolveNoBorderMT_S16_I16(m,kernel,type,imageType);
+		if( matches(m,ConvolveImageNoBorder_MT.class,"convolve",Kernel2D_I32.class,ImageUInt8.class,ImageInt16.class) )
+			return new ConvolveNoBorderMT_U8_I16(m,kernel,type,imageType);
+		if( matches(m,ConvolveImageNoBorder_MT.class,"convolve",Kernel2D_I32.class,ImageUInt8.class,ImageSInt32.class) )
+			return new ConvolveNoBorderMT_U8_S32(m,kernel,type,imageType);
+		if( matches(m,ConvolveImageNoBorder_MT.class,"horizontal",Kernel1D_F32.class,ImageFloat32.class,ImageFloat32.class,boolean.class) )
+			return new HorizontalNoBorderMT_F32_F32(m,kernel,type,imageType);
+		if( matches(m,ConvolveImageNoBorder_MT.class,"horizontal",Kernel1D_I32.class,ImageSInt16.class,ImageInt16.class,boolean.class) )
+			return new HorizontalNoBorderMT_S16_I16(m,kernel,type,imageType);
+		if( matches(m,ConvolveImageNoBorder_MT.class,"horizontal",Kernel1D_I32.class,ImageUInt8.class,ImageInt16.class,boolean.class) )
+			return new HorizontalNoBorderMT_U8_I16(m,kernel,type,imageType);
+		if( matches(m,ConvolveImageNoBorder_MT.class,"horizontal",Kernel1D_I32.class,ImageUInt8.class,ImageSInt32.class,boolean.class) )
+			return new HorizontalNoBorderMT_U8_S32(m,kernel,type,imageType);
+		if( matches(m,ConvolveImageNoBorder_MT.class,"vertical",Kernel1D_F32.class,ImageFloat32.class,ImageFloat32.class,boolean.class) )
+			return new VerticalNoBorderMT_F32_F32(m,kernel,type,imageType);
+		if( matches(m,ConvolveImageNoBorder_MT.class,"vertical",Kernel1D_I32.class,ImageSInt16.class,ImageInt16.class,boolean.class) )
+			return new VerticalNoBorderMT_S16_I16(m,kernel,type,imageType);
+		if( matches(m,ConvolveImageNoBorder_MT.class,"vertical",Kernel1D_I32.class,ImageUInt8.class,ImageInt16.class,boolean.class) )
+			return new VerticalNoBorderMT_U8_I16(m,kernel,type,imageType);
+		if( matches(m,ConvolveImageNoBorder_MT.class,"vertical",Kernel1D_I32.class,ImageUInt8.class,ImageSInt32.class,boolean.class) )
+			return new VerticalNoBorderMT_U8_S32(m,kernel,type,imageType);
+		if( matches(m,ConvolveWithBorder.class,"convolve",Kernel2D_F32.class,ImageFloat32.class,ImageFloat32.class,ImageBorder_F32.class) )
+			return new ConvolveBorder_F32_F32(m,kernel,type,imageType);
+		if( matches(m,ConvolveWithBorder.class,"convolve",Kernel2D_I32.class,ImageSInt16.class,ImageInt16.class,ImageBorder_I32.class) )
+			return new ConvolveBorder_S16_I16(m,kernel,type,imageType);
+		if( matches(m,ConvolveWithBorder.class,"convolve",Kernel2D_I32.class,ImageUInt8.class,ImageInt16.class,ImageBorder_I32.class) )
+			return new ConvolveBorder_U8_I16(m,kernel,type,imageType);
+		if( matches(m,ConvolveWithBorder.class,"convolve",Kernel2D_I32.class,ImageUInt8.class,ImageSInt32.class,ImageBorder_I32.class) )
+			return new ConvolveBorder_U8_S32(m,kernel,type,imageType);
+		if( matches(m,ConvolveWithBorder.class,"horizontal",Kernel1D_F32.class,ImageFloat32.class,ImageFloat32.class,ImageBorder_F32.class) )
+			return new HorizontalBorder_F32_F32(m,kernel,type,imageType);
+		if( matches(m,ConvolveWithBorder.class,"horizontal",Kernel1D_I32.class,ImageSInt16.class,ImageInt16.class,ImageBorder_I32.class) )
+			return new HorizontalBorder_S16_I16(m,kernel,type,imageType);
+		if( matches(m,ConvolveWithBorder.class,"horizontal",Kernel1D_I32.class,ImageUInt8.class,ImageInt16.class,ImageBorder_I32.class) )
+			return new HorizontalBorder_U8_I16(m,kernel,type,imageType);
+		if( matches(m,ConvolveWithBorder.class,"horizontal",Kernel1D_I32.class,ImageUInt8.class,ImageSInt32.class,ImageBorder_I32.class) )
+			return new HorizontalBorder_U8_S32(m,kernel,type,imageType);
+		if( matches(m,ConvolveWithBorder.class,"vertical",Kernel1D_F32.class,ImageFloat32.class,ImageFloat32.class,ImageBorder_F32.class) )
+			return new VerticalBorder_F32_F32(m,kernel,type,imageType);
+		if( matches(m,ConvolveWithBorder.class,"vertical",Kernel1D_I32.class,ImageSInt16.class,ImageInt16.class,ImageBorder_I32.class) )
+			return new VerticalBorder_S16_I16(m,kernel,type,imageType);
+		if( matches(m,ConvolveWithBorder.class,"vertical",Kernel1D_I32.class,ImageUInt8.class,ImageInt16.class,ImageBorder_I32.class) )
+			return new VerticalBorder_U8_I16(m,kernel,type,imageType);
+		if( matches(m,ConvolveWithBorder.class,"vertical",Kernel1D_I32.class,ImageUInt8.class,ImageSInt32.class,ImageBorder_I32.class) )
+			return new VerticalBorder_U8_S32(m,kernel,type,imageType);
+		if( matches(m,ConvolveWithBorder_MT.class,"convolve",Kernel2D_F32.class,ImageFloat32.class,ImageFloat32.class,ImageBorder_F32.class) )
+			return new ConvolveBorderMT_F32_F32(m,kernel,type,imageType);
+		if( matches(m,ConvolveWithBorder_MT.class,"convolve",Kernel2D_I32.class,ImageSInt16.class,ImageInt16.class,ImageBorder_I32.class) )
+			return new ConvolveBorderMT_S16_I16(m,kernel,type,imageType);
+		if( matches(m,ConvolveWithBorder_MT.class,"convolve",Kernel2D_I32.class,ImageUInt8.class,ImageInt16.class,ImageBorder_I32.class) )
+			return new ConvolveBorderMT_U8_I16(m,kernel,type,imageType);
+		if( matches(m,ConvolveWithBorder_MT.class,"convolve",Kernel2D_I32.class,ImageUInt8.class,ImageSInt32.class,ImageBorder_I32.class) )
+			return new ConvolveBorderMT_U8_S32(m,kernel,type,imageType);
+		if( matches(m,ConvolveWithBorder_MT.class,"horizontal",Kernel1D_F32.class,ImageFloat32.class,ImageFloat32.class,ImageBorder_F32.class) )
+			return new HorizontalBorderMT_F32_F32(m,kernel,type,imageType);
+		if( matches(m,ConvolveWithBorder_MT.class,"horizontal",Kernel1D_I32.class,ImageSInt16.class,ImageInt16.class,ImageBorder_I32.class) )
+			return new HorizontalBorderMT_S16_I16(m,kernel,type,imageType);
+		if( matches(m,ConvolveWithBorder_MT.class,"horizontal",Kernel1D_I32.class,ImageUInt8.class,ImageInt16.class,ImageBorder_I32.class) )
+			return new HorizontalBorderMT_U8_I16(m,kernel,type,imageType);
+		if( matches(m,ConvolveWithBorder_MT.class,"horizontal",Kernel1D_I32.class,ImageUInt8.class,ImageSInt32.class,ImageBorder_I32.class) )
+			return new HorizontalBorderMT_U8_S32(m,kernel,type,imageType);
+		if( matches(m,ConvolveWithBorder_MT.class,"vertical",Kernel1D_F32.class,ImageFloat32.class,ImageFloat32.class,ImageBorder_F32.class) )
+			return new VerticalBorderMT_F32_F32(m,kernel,type,imageType);
+		if( matches(m,ConvolveWithBorder_MT.class,"vertical",Kernel1D_I32.class,ImageSInt16.class,ImageInt16.class,ImageBorder_I32.class) )
+			return new VerticalBorderMT_S16_I16(m,kernel,type,imageType);
+		if( matches(m,ConvolveWithBorder_MT.class,"vertical",Kernel1D_I32.class,ImageUInt8.class,ImageInt16.class,ImageBorder_I32.class) )
+			return new VerticalBorderMT_U8_I16(m,kernel,type,imageType);
+		if( matches(m,ConvolveWithBorder_MT.class,"vertical",Kernel1D_I32.class,ImageUInt8.class,ImageSInt32.class,ImageBorder_I32.class) )
+			return new VerticalBorderMT_U8_S32(m,kernel,type,imageType);
+		if( matches(m,ConvolveNormalized.class,"convolve",Kernel2D_F32.class,ImageFloat32.class,ImageFloat32.class) )
+			return new ConvolveNormalized_F32_F32(m,kernel,type,imageType);
+		if( matches(m,ConvolveNormalized.class,"convolve",Kernel2D_I32.class,ImageSInt16.class,ImageInt16.class) )
+			return new ConvolveNormalized_S16_I16(m,kernel,type,imageType);
+		if( matches(m,ConvolveNormalized.class,"convolve",Kernel2D_I32.class,ImageUInt8.class,ImageInt8.class) )
+			return new ConvolveNormalized_U8_I8(m,kernel,type,imageType);
+		if( matches(m,ConvolveNormalized.class,"horizontal",Kernel1D_F32.class,ImageFloat32.class,ImageFloat32.class) )
+			return new HorizontalNormalized_F32_F32(m,kernel,type,imageType);
+		if( matches(m,ConvolveNormalized.class,"horizontal",Kernel1D_I32.class,ImageSInt16.class,ImageInt16.class) )
+			return new HorizontalNormalized_S16_I16(m,kernel,type,imageType);
+		if( matches(m,ConvolveNormalized.class,"horizontal",Kernel1D_I32.class,ImageSInt32.class,ImageSInt32.class) )
+			return new HorizontalNormalized_S32_S32(m,kernel,type,imageType);
+		if( matches(m,ConvolveNormalized.class,"horizontal",Kernel1D_I32.class,ImageUInt8.class,ImageInt8.class) )
+			return new HorizontalNormalized_U8_I8(m,kernel,type,imageType);
+		if( matches(m,ConvolveNormalized.class,"vertical",Kernel1D_F32.class,ImageFloat32.class,ImageFloat32.class) )
+			return new VerticalNormalized_F32_F32(m,kernel,type,imageType);
+		if( matches(m,ConvolveNormalized.class,"vertical",Kernel1D_I32.class,ImageSInt16.class,ImageInt16.class) )
+			return new VerticalNormalized_S16_I16(m,kernel,type,imageType);
+		if( matches(m,ConvolveNormalized.class,"vertical",Kernel1D_I32.class,ImageSInt32.class,ImageSInt32.class) )
+			return new VerticalNormalized_S32_S32(m,kernel,type,imageType);
+		if( matches(m,ConvolveNormalized.class,"vertical",Kernel1D_I32.class,ImageUInt8.class,ImageInt8.class) )
+			return new VerticalNormalized_U8_I8(m,kernel,type,imageType);
+		if( matches(m,ConvolveNormalized_MT.class,"convolve",Kernel2D_F32.class,ImageFloat32.class,ImageFloat32.class) )
+			return new ConvolveNormalizedMT_F32_F32(m,kernel,type,imageType);
+		if( matches(m,ConvolveNormalized_MT.class,"convolve",Kernel2D_I32.class,ImageSInt16.class,ImageInt16.class) )
+			return new ConvolveNormalizedMT_S16_I16(m,kernel,type,imageType);
+		if( matches(m,ConvolveNormalized_MT.class,"convolve",Kernel2D_I32.class,ImageUInt8.class,ImageInt8.class) )
+			return new ConvolveNormalizedMT_U8_I8(m,kernel,type,imageType);
+		if( matches(m,ConvolveNormalized_MT.class,"horizontal",Kernel1D_F32.class,ImageFloat32.class,ImageFloat32.class) )
+			return new HorizontalNormalizedMT_F32_F32(m,kernel,type,imageType);
+		if( matches(m,ConvolveNormalized_MT.class,"horizontal",Kernel1D_I32.class,ImageSInt16.class,ImageInt16.class) )
+			return new HorizontalNormalizedMT_S16_I16(m,kernel,type,imageType);
+		if( matches(m,ConvolveNormalized_MT.class,"horizontal",Kernel1D_I32.class,ImageSInt32.class,ImageSInt32.class) )
+			return new HorizontalNormalizedMT_S32_S32(m,kernel,type,imageType);
+		if( matches(m,ConvolveNormalized_MT.class,"horizontal",Kernel1D_I32.class,ImageUInt8.class,ImageInt8.class) )
+			return new HorizontalNormalizedMT_U8_I8(m,kernel,type,imageType);
+		if( matches(m,ConvolveNormalized_MT.class,"vertical",Kernel1D_F32.class,ImageFloat32.class,ImageFloat32.class) )
+			return new VerticalNormalizedMT_F32_F32(m,kernel,type,imageType);
+		if( matches(m,ConvolveNormalized_MT.class,"vertical",Kernel1D_I32.class,ImageSInt16.class,ImageInt16.class) )
+			return new VerticalNormalizedMT_S16_I16(m,kernel,type,imageType);
+		if( matches(m,ConvolveNormalized_MT.class,"vertical",Kernel1D_I32.class,ImageSInt32.class,ImageSInt32.class) )
+			return new VerticalNormalizedMT_S32_S32(m,kernel,type,imageType);
+		if( matches(m,ConvolveNormalized_MT.class,"vertical",Kernel1D_I32.class,ImageUInt8.class,ImageInt8.class) )
+			return new VerticalNormalizedMT_U8_I8(m,kernel,type,imageType);
+		return null;
+	}
+
+	/**
+	 * Creates a {@link GenericConvolveDown} which calls the specified function directly.
+	 *
+	 * @param m The convolution function.
+	 * @return The specialized filter or null if there isn't one for the function.
+	 */
+	public static GenericConvolveDown convolveDown( Method m , KernelBase kernel , BorderType type , int skip , Class imageType ) {
+		if( matches(m,ConvolveDownNoBorder.class,"convolve",Kernel2D_F32.class,ImageFloat32.class,ImageFloat32.class,int.class) )
+			return new ConvolveDown_F32_F32(m,kernel,type,skip,imageType);
+		if( matches(m,ConvolveDownNoBorder.class,"convolve",Kernel2D_I32.class,ImageSInt16.class,ImageInt16.class,int.class) )
+			return new ConvolveDown_S16_I16(m,kernel,type,skip,imageType);
+		if( matches(m,ConvolveDownNoBorder.class,"convolve",Kernel2D_I32.class,ImageUInt8.class,ImageInt16.class,int.class) )
+			return new ConvolveDown_U8_I16(m,kernel,type,skip,imageType);
+		if( matches(m,ConvolveDownNoBorder.class,"horizontal",Kernel1D_F32.class,ImageFloat32.class,ImageFloat32.class,int.class) )
+			return new HorizontalDown_F32_F32(m,kernel,type,skip,imageType);
+		if( matches(m,ConvolveDownNoBorder.class,"horizontal",Kernel1D_I32.class,ImageSInt16.class,ImageInt16.class,int.class) )
+			return new HorizontalDown_S16_I16(m,kernel,type,skip,imageType);
+		if( matches(m,ConvolveDownNoBorder.class,"horizontal",Kernel1D_I32.class,ImageUInt8.class,ImageInt16.class,int.class) )
+			return new HorizontalDown_U8_I16(m,kernel,type,skip,imageType);
+		if( matches(m,ConvolveDownNoBorder.class,"vertical",Kernel1D_F32.class,ImageFloat32.class,ImageFloat32.class,int.class) )
+			return new VerticalDown_F32_F32(m,kernel,type,skip,imageType);
+		if( matches(m,ConvolveDownNoBorder.class,"vertical",Kernel1D_I32.class,ImageSInt16.class,ImageInt16.class,int.class) )
+			return new VerticalDown_S16_I16(m,kernel,type,skip,imageType);
+		if( matches(m,ConvolveDownNoBorder.class,"vertical",Kernel1D_I32.class,ImageUInt8.class,ImageInt16.class,int.class) )
+			return new VerticalDown_U8_I16(m,kernel,type,skip,imageType);
+		if( matches(m,ConvolveDownNormalized.class,"convolve",Kernel2D_F32.class,ImageFloat32.class,ImageFloat32.class,int.class) )
+			return new ConvolveDownNormalized_F32_F32(m,kernel,type,skip,imageType);
+		if( matches(m,ConvolveDownNormalized.class,"convolve",Kernel2D_I32.class,ImageSInt16.class,ImageInt16.class,int.class) )
+			return new ConvolveDownNormalized_S16_I16(m,kernel,type,skip,imageType);
+		if( matches(m,ConvolveDownNormalized.class,"convolve",Kernel2D_I32.class,ImageUInt8.class,ImageInt8.class,int.class) )
+			return new ConvolveDownNormalized_U8_I8(m,kernel,type,skip,imageType);
+		if( matches(m,ConvolveDownNormalized.class,"horizontal",Kernel1D_F32.class,ImageFloat32.class,ImageFloat32.class,int.class) )
+			return new HorizontalDownNormalized_F32_F32(m,kernel,type,skip,imageType);
+		if( matches(m,ConvolveDownNormalized.class,"horizontal",Kernel1D_I32.class,ImageSInt16.class,ImageInt16.class,int.class) )
+			return new HorizontalDownNormalized_S16_I16(m,kernel,type,skip,imageType);
+		if( matches(m,ConvolveDownNormalized.class,"horizontal",Kernel1D_I32.class,ImageUInt8.class,ImageInt8.class,int.class) )
+			return new HorizontalDownNormalized_U8_I8(m,kernel,type,skip,imageType);
+		if( matches(m,ConvolveDownNormalized.class,"vertical",Kernel1D_F32.class,ImageFloat32.class,ImageFloat32.class,int.class) )
+			return new VerticalDownNormalized_F32_F32(m,kernel,type,skip,imageType);
+		if( matches(m,ConvolveDownNormalized.class,"vertical",Kernel1D_I32.class,ImageSInt16.class,ImageInt16.class,int.class) )
+			return new VerticalDownNormalized_S16_I16(m,kernel,type,skip,imageType);
+		if( matches(m,ConvolveDownNormalized.class,"vertical",Kernel1D_I32.class,ImageUInt8.class,ImageInt8.class,int.class) )
+			return new VerticalDownNormalized_U8_I8(m,kernel,type,skip,imageType);
+		return null;
+	}
+
+	private static boolean matches( Method m , Class<?> owner , String name , Class<?> ...params ) {
+		return m.getDeclaringClass() == owner && m.getName().equals(name) &&
+				Arrays.equals(m.getParameterTypes(),params);
+	}
+
+	public static class ConvolveNoBorder_F32_F32 extends GenericConvolve<ImageFloat32,ImageFloat32> {
+		Kernel2D_F32 k;
+
+		public ConvolveNoBorder_F32_F32( Method m , KernelBase kernel , BorderType type , Class<ImageFloat32> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel2D_F32)kernel;
+		}
+
+		@Override
+		public void process( ImageFloat32 input , ImageFloat32 output ) {
+			ConvolveImageNoBorder.convolve(k,input,output);
+		}
+	}
+
+	public static class ConvolveNoBorder_S16_I16 extends GenericConvolve<ImageSInt16,ImageInt16> {
+		Kernel2D_I32 k;
+
+		public ConvolveNoBorder_S16_I16( Method m , KernelBase kernel , BorderType type , Class<ImageSInt16> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel2D_I32)kernel;
+		}
+
+		@Override
+		public void process( ImageSInt16 input , ImageInt16 output ) {
+			ConvolveImageNoBorder.convolve(k,input,output);
+		}
+	}
+
+	public static class ConvolveNoBorder_U8_I16 extends GenericConvolve<ImageUInt8,ImageInt16> {
+		Kernel2D_I32 k;
+
+		public ConvolveNoBorder_U8_I16( Method m , KernelBase kernel , BorderType type , Class<ImageUInt8> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel2D_I32)kernel;
+		}
+
+		@Override
+		public void process( ImageUInt8 input , ImageInt16 output ) {
+			ConvolveImageNoBorder.convolve(k,input,output);
+		}
+	}
+
+	public static class ConvolveNoBorder_U8_S32 extends GenericConvolve<ImageUInt8,ImageSInt32> {
+		Kernel2D_I32 k;
+
+		public ConvolveNoBorder_U8_S32( Method m , KernelBase kernel , BorderType type , Class<ImageUInt8> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel2D_I32)kernel;
+		}
+
+		@Override
+		public void process( ImageUInt8 input , ImageSInt32 output ) {
+			ConvolveImageNoBorder.convolve(k,input,output);
+		}
+	}
+
+	public static class HorizontalNoBorder_F32_F32 extends GenericConvolve<ImageFloat32,ImageFloat32> {
+		Kernel1D_F32 k;
+
+		public HorizontalNoBorder_F32_F32( Method m , KernelBase kernel , BorderType type , Class<ImageFloat32> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel1D_F32)kernel;
+		}
+
+		@Override
+		public void process( ImageFloat32 input , ImageFloat32 output ) {
+			ConvolveImageNoBorder.horizontal(k,input,output,false);
+		}
+	}
+
+	public static class HorizontalNoBorder_S16_I16 extends GenericConvolve<ImageSInt16,ImageInt16> {
+		Kernel1D_I32 k;
+
+		public HorizontalNoBorder_S16_I16( Method m , KernelBase kernel , BorderType type , Class<ImageSInt16> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel1D_I32)kernel;
+		}
+
+		@Override
+		public void process( ImageSInt16 input , ImageInt16 output ) {
+			ConvolveImageNoBorder.horizontal(k,input,output,false);
+		}
+	}
+
+	public static class HorizontalNoBorder_U8_I16 extends GenericConvolve<ImageUInt8,ImageInt16> {
+		Kernel1D_I32 k;
+
+		public HorizontalNoBorder_U8_I16( Method m , KernelBase kernel , BorderType type , Class<ImageUInt8> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel1D_I32)kernel;
+		}
+
+		@Override
+		public void process( ImageUInt8 input , ImageInt16 output ) {
+			ConvolveImageNoBorder.horizontal(k,input,output,false);
+		}
+	}
+
+	public static class HorizontalNoBorder_U8_S32 extends GenericConvolve<ImageUInt8,ImageSInt32> {
+		Kernel1D_I32 k;
+
+		public HorizontalNoBorder_U8_S32( Method m , KernelBase kernel , BorderType type , Class<ImageUInt8> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel1D_I32)kernel;
+		}
+
+		@Override
+		public void process( ImageUInt8 input , ImageSInt32 output ) {
+			ConvolveImageNoBorder.horizontal(k,input,output,false);
+		}
+	}
+
+	public static class VerticalNoBorder_F32_F32 extends GenericConvolve<ImageFloat32,ImageFloat32> {
+		Kernel1D_F32 k;
+
+		public VerticalNoBorder_F32_F32( Method m , KernelBase kernel , BorderType type , Class<ImageFloat32> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel1D_F32)kernel;
+		}
+
+		@Override
+		public void process( ImageFloat32 input , ImageFloat32 output ) {
+			ConvolveImageNoBorder.vertical(k,input,output,false);
+		}
+	}
+
+	public static class VerticalNoBorder_S16_I16 extends GenericConvolve<ImageSInt16,ImageInt16> {
+		Kernel1D_I32 k;
+
+		public VerticalNoBorder_S16_I16( Method m , KernelBase kernel , BorderType type , Class<ImageSInt16> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel1D_I32)kernel;
+		}
+
+		@Override
+		public void process( ImageSInt16 input , ImageInt16 output ) {
+			ConvolveImageNoBorder.vertical(k,input,output,false);
+		}
+	}
+
+	public static class VerticalNoBorder_U8_I16 extends GenericConvolve<ImageUInt8,ImageInt16> {
+		Kernel1D_I32 k;
+
+		public VerticalNoBorder_U8_I16( Method m , KernelBase kernel , BorderType type , Class<ImageUInt8> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel1D_I32)kernel;
+		}
+
+		@Override
+		public void process( ImageUInt8 input , ImageInt16 output ) {
+			ConvolveImageNoBorder.vertical(k,input,output,false);
+		}
+	}
+
+	public static class VerticalNoBorder_U8_S32 extends GenericConvolve<ImageUInt8,ImageSInt32> {
+		Kernel1D_I32 k;
+
+		public VerticalNoBorder_U8_S32( Method m , KernelBase kernel , BorderType type , Class<ImageUInt8> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel1D_I32)kernel;
+		}
+
+		@Override
+		public void process( ImageUInt8 input , ImageSInt32 output ) {
+			ConvolveImageNoBorder.vertical(k,input,output,false);
+		}
+	}
+
+	public static class ConvolveNoBorderMT_F32_F32 extends GenericConvolve<ImageFloat32,ImageFloat32> {
+		Kernel2D_F32 k;
+
+		public ConvolveNoBorderMT_F32_F32( Method m , KernelBase kernel , BorderType type , Class<ImageFloat32> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel2D_F32)kernel;
+		}
+
+		@Override
+		public void process( ImageFloat32 input , ImageFloat32 output ) {
+			ConvolveImageNoBorder_MT.convolve(k,input,output);
+		}
+	}
+
+	public static class ConvolveNoBorderMT_S16_I16 extends GenericConvolve<ImageSInt16,ImageInt16> {
+		Kernel2D_I32 k;
+
+		public ConvolveNoBorderMT_S16_I16( Method m , KernelBase kernel , BorderType type , Class<ImageSInt16> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel2D_I32)kernel;
+		}
+
+		@Override
+		public void process( ImageSInt16 input , ImageInt16 output ) {
+			ConvolveImageNoBorder_MT.convolve(k,input,output);
+		}
+	}
+
+	public static class ConvolveNoBorderMT_U8_I16 extends GenericConvolve<ImageUInt8,ImageInt16> {
+		Kernel2D_I32 k;
+
+		public ConvolveNoBorderMT_U8_I16( Method m , KernelBase kernel , BorderType type , Class<ImageUInt8> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel2D_I32)kernel;
+		}
+
+		@Override
+		public void process( ImageUInt8 input , ImageInt16 output ) {
+			ConvolveImageNoBorder_MT.convolve(k,input,output);
+		}
+	}
+
+	public static class ConvolveNoBorderMT_U8_S32 extends GenericConvolve<ImageUInt8,ImageSInt32> {
+		Kernel2D_I32 k;
+
+		public ConvolveNoBorderMT_U8_S32( Method m , KernelBase kernel , BorderType type , Class<ImageUInt8> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel2D_I32)kernel;
+		}
+
+		@Override
+		public void process( ImageUInt8 input , ImageSInt32 output ) {
+			ConvolveImageNoBorder_MT.convolve(k,input,output);
+		}
+	}
+
+	public static class HorizontalNoBorderMT_F32_F32 extends GenericConvolve<ImageFloat32,ImageFloat32> {
+		Kernel1D_F32 k;
+
+		public HorizontalNoBorderMT_F32_F32( Method m , KernelBase kernel , BorderType type , Class<ImageFloat32> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel1D_F32)kernel;
+		}
+
+		@Override
+		public void process( ImageFloat32 input , ImageFloat32 output ) {
+			ConvolveImageNoBorder_MT.horizontal(k,input,output,false);
+		}
+	}
+
+	public static class HorizontalNoBorderMT_S16_I16 extends GenericConvolve<ImageSInt16,ImageInt16> {
+		Kernel1D_I32 k;
+
+		public HorizontalNoBorderMT_S16_I16( Method m , KernelBase kernel , BorderType type , Class<ImageSInt16> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel1D_I32)kernel;
+		}
+
+		@Override
+		public void process( ImageSInt16 input , ImageInt16 output ) {
+			ConvolveImageNoBorder_MT.horizontal(k,input,output,false);
+		}
+	}
+
+	public static class HorizontalNoBorderMT_U8_I16 extends GenericConvolve<ImageUInt8,ImageInt16> {
+		Kernel1D_I32 k;
+
+		public HorizontalNoBorderMT_U8_I16( Method m , KernelBase kernel , BorderType type , Class<ImageUInt8> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel1D_I32)kernel;
+		}
+
+		@Override
+		public void process( ImageUInt8 input , ImageInt16 output ) {
+			ConvolveImageNoBorder_MT.horizontal(k,input,output,false);
+		}
+	}
+
+	public static class HorizontalNoBorderMT_U8_S32 extends GenericConvolve<ImageUInt8,ImageSInt32> {
+		Kernel1D_I32 k;
+
+		public HorizontalNoBorderMT_U8_S32( Method m , KernelBase kernel , BorderType type , Class<ImageUInt8> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel1D_I32)kernel;
+		}
+
+		@Override
+		public void process( ImageUInt8 input , ImageSInt32 output ) {
+			ConvolveImageNoBorder_MT.horizontal(k,input,output,false);
+		}
+	}
+
+	public static class VerticalNoBorderMT_F32_F32 extends GenericConvolve<ImageFloat32,ImageFloat32> {
+		Kernel1D_F32 k;
+
+		public VerticalNoBorderMT_F32_F32( Method m , KernelBase kernel , BorderType type , Class<ImageFloat32> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel1D_F32)kernel;
+		}
+
+		@Override
+		public void process( ImageFloat32 input , ImageFloat32 output ) {
+			ConvolveImageNoBorder_MT.vertical(k,input,output,false);
+		}
+	}
+
+	public static class VerticalNoBorderMT_S16_I16 extends GenericConvolve<ImageSInt16,ImageInt16> {
+		Kernel1D_I32 k;
+
+		public VerticalNoBorderMT_S16_I16( Method m , KernelBase kernel , BorderType type , Class<ImageSInt16> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel1D_I32)kernel;
+		}
+
+		@Override
+		public void process( ImageSInt16 input , ImageInt16 output ) {
+			ConvolveImageNoBorder_MT.vertical(k,input,output,false);
+		}
+	}
+
+	public static class VerticalNoBorderMT_U8_I16 extends GenericConvolve<ImageUInt8,ImageInt16> {
+		Kernel1D_I32 k;
+
+		public VerticalNoBorderMT_U8_I16( Method m , KernelBase kernel , BorderType type , Class<ImageUInt8> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel1D_I32)kernel;
+		}
+
+		@Override
+		public void process( ImageUInt8 input , ImageInt16 output ) {
+			ConvolveImageNoBorder_MT.vertical(k,input,output,false);
+		}
+	}
+
+	public static class VerticalNoBorderMT_U8_S32 extends GenericConvolve<ImageUInt8,ImageSInt32> {
+		Kernel1D_I32 k;
+
+		public VerticalNoBorderMT_U8_S32( Method m , KernelBase kernel , BorderType type , Class<ImageUInt8> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel1D_I32)kernel;
+		}
+
+		@Override
+		public void process( ImageUInt8 input , ImageSInt32 output ) {
+			ConvolveImageNoBorder_MT.vertical(k,input,output,false);
+		}
+	}
+
+	public static class ConvolveBorder_F32_F32 extends GenericConvolve<ImageFloat32,ImageFloat32> {
+		Kernel2D_F32 k;
+		ImageBorder_F32 b;
+
+		public ConvolveBorder_F32_F32( Method m , KernelBase kernel , BorderType type , Class<ImageFloat32> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel2D_F32)kernel;
+			b = (ImageBorder_F32)borderRule;
+		}
+
+		@Override
+		public void process( ImageFloat32 input , ImageFloat32 output ) {
+			ConvolveWithBorder.convolve(k,input,output,b);
+		}
+	}
+
+	public static class ConvolveBorder_S16_I16 extends GenericConvolve<ImageSInt16,ImageInt16> {
+		Kernel2D_I32 k;
+		ImageBorder_I32 b;
+
+		public ConvolveBorder_S16_I16( Method m , KernelBase kernel , BorderType type , Class<ImageSInt16> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel2D_I32)kernel;
+			b = (ImageBorder_I32)borderRule;
+		}
+
+		@Override
+		public void process( ImageSInt16 input , ImageInt16 output ) {
+			ConvolveWithBorder.convolve(k,input,output,b);
+		}
+	}
+
+	public static class ConvolveBorder_U8_I16 extends GenericConvolve<ImageUInt8,ImageInt16> {
+		Kernel2D_I32 k;
+		ImageBorder_I32 b;
+
+		public ConvolveBorder_U8_I16( Method m , KernelBase kernel , BorderType type , Class<ImageUInt8> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel2D_I32)kernel;
+			b = (ImageBorder_I32)borderRule;
+		}
+
+		@Override
+		public void process( ImageUInt8 input , ImageInt16 output ) {
+			ConvolveWithBorder.convolve(k,input,output,b);
+		}
+	}
+
+	public static class ConvolveBorder_U8_S32 extends GenericConvolve<ImageUInt8,ImageSInt32> {
+		Kernel2D_I32 k;
+		ImageBorder_I32 b;
+
+		public ConvolveBorder_U8_S32( Method m , KernelBase kernel , BorderType type , Class<ImageUInt8> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel2D_I32)kernel;
+			b = (ImageBorder_I32)borderRule;
+		}
+
+		@Override
+		public void process( ImageUInt8 input , ImageSInt32 output ) {
+			ConvolveWithBorder.convolve(k,input,output,b);
+		}
+	}
+
+	public static class HorizontalBorder_F32_F32 extends GenericConvolve<ImageFloat32,ImageFloat32> {
+		Kernel1D_F32 k;
+		ImageBorder_F32 b;
+
+		public HorizontalBorder_F32_F32( Method m , KernelBase kernel , BorderType type , Class<ImageFloat32> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel1D_F32)kernel;
+			b = (ImageBorder_F32)borderRule;
+		}
+
+		@Override
+		public void process( ImageFloat32 input , ImageFloat32 output ) {
+			ConvolveWithBorder.horizontal(k,input,output,b);
+		}
+	}
+
+	public static class HorizontalBorder_S16_I16 extends GenericConvolve<ImageSInt16,ImageInt16> {
+		Kernel1D_I32 k;
+		ImageBorder_I32 b;
+
+		public HorizontalBorder_S16_I16( Method m , KernelBase kernel , BorderType type , Class<ImageSInt16> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel1D_I32)kernel;
+			b = (ImageBorder_I32)borderRule;
+		}
+
+		@Override
+		public void process( ImageSInt16 input , ImageInt16 output ) {
+			ConvolveWithBorder.horizontal(k,input,output,b);
+		}
+	}
+
+	public static class HorizontalBorder_U8_I16 extends GenericConvolve<ImageUInt8,ImageInt16> {
+		Kernel1D_I32 k;
+		ImageBorder_I32 b;
+
+		public HorizontalBorder_U8_I16( Method m , KernelBase kernel , BorderType type , Class<ImageUInt8> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel1D_I32)kernel;
+			b = (ImageBorder_I32)borderRule;
+		}
+
+		@Override
+		public void process( ImageUInt8 input , ImageInt16 output ) {
+			ConvolveWithBorder.horizontal(k,input,output,b);
+		}
+	}
+
+	public static class HorizontalBorder_U8_S32 extends GenericConvolve<ImageUInt8,ImageSInt32> {
+		Kernel1D_I32 k;
+		ImageBorder_I32 b;
+
+		public HorizontalBorder_U8_S32( Method m , KernelBase kernel , BorderType type , Class<ImageUInt8> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel1D_I32)kernel;
+			b = (ImageBorder_I32)borderRule;
+		}
+
+		@Override
+		public void process( ImageUInt8 input , ImageSInt32 output ) {
+			ConvolveWithBorder.horizontal(k,input,output,b);
+		}
+	}
+
+	public static class VerticalBorder_F32_F32 extends GenericConvolve<ImageFloat32,ImageFloat32> {
+		Kernel1D_F32 k;
+		ImageBorder_F32 b;
+
+		public VerticalBorder_F32_F32( Method m , KernelBase kernel , BorderType type , Class<ImageFloat32> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel1D_F32)kernel;
+			b = (ImageBorder_F32)borderRule;
+		}
+
+		@Override
+		public void process( ImageFloat32 input , ImageFloat32 output ) {
+			ConvolveWithBorder.vertical(k,input,output,b);
+		}
+	}
+
+	public static class VerticalBorder_S16_I16 extends GenericConvolve<ImageSInt16,ImageInt16> {
+		Kernel1D_I32 k;
+		ImageBorder_I32 b;
+
+		public VerticalBorder_S16_I16( Method m , KernelBase kernel , BorderType type , Class<ImageSInt16> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel1D_I32)kernel;
+			b = (ImageBorder_I32)borderRule;
+		}
+
+		@Override
+		public void process( ImageSInt16 input , ImageInt16 output ) {
+			ConvolveWithBorder.vertical(k,input,output,b);
+		}
+	}
+
+	public static class VerticalBorder_U8_I16 extends GenericConvolve<ImageUInt8,ImageInt16> {
+		Kernel1D_I32 k;
+		ImageBorder_I32 b;
+
+		public VerticalBorder_U8_I16( Method m , KernelBase kernel , BorderType type , Class<ImageUInt8> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel1D_I32)kernel;
+			b = (ImageBorder_I32)borderRule;
+		}
+
+		@Override
+		public void process( ImageUInt8 input , ImageInt16 output ) {
+			ConvolveWithBorder.vertical(k,input,output,b);
+		}
+	}
+
+	public static class VerticalBorder_U8_S32 extends GenericConvolve<ImageUInt8,ImageSInt32> {
+		Kernel1D_I32 k;
+		ImageBorder_I32 b;
+
+		public VerticalBorder_U8_S32( Method m , KernelBase kernel , BorderType type , Class<ImageUInt8> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel1D_I32)kernel;
+			b = (ImageBorder_I32)borderRule;
+		}
+
+		@Override
+		public void process( ImageUInt8 input , ImageSInt32 output ) {
+			ConvolveWithBorder.vertical(k,input,output,b);
+		}
+	}
+
+	public static class ConvolveBorderMT_F32_F32 extends GenericConvolve<ImageFloat32,ImageFloat32> {
+		Kernel2D_F32 k;
+		ImageBorder_F32 b;
+
+		public ConvolveBorderMT_F32_F32( Method m , KernelBase kernel , BorderType type , Class<ImageFloat32> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel2D_F32)kernel;
+			b = (ImageBorder_F32)borderRule;
+		}
+
+		@Override
+		public void process( ImageFloat32 input , ImageFloat32 output ) {
+			ConvolveWithBorder_MT.convolve(k,input,output,b);
+		}
+	}
+
+	public static class ConvolveBorderMT_S16_I16 extends GenericConvolve<ImageSInt16,ImageInt16> {
+		Kernel2D_I32 k;
+		ImageBorder_I32 b;
+
+		public ConvolveBorderMT_S16_I16( Method m , KernelBase kernel , BorderType type , Class<ImageSInt16> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel2D_I32)kernel;
+			b = (ImageBorder_I32)borderRule;
+		}
+
+		@Override
+		public void process( ImageSInt16 input , ImageInt16 output ) {
+			ConvolveWithBorder_MT.convolve(k,input,output,b);
+		}
+	}
+
+	public static class ConvolveBorderMT_U8_I16 extends GenericConvolve<ImageUInt8,ImageInt16> {
+		Kernel2D_I32 k;
+		ImageBorder_I32 b;
+
+		public ConvolveBorderMT_U8_I16( Method m , KernelBase kernel , BorderType type , Class<ImageUInt8> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel2D_I32)kernel;
+			b = (ImageBorder_I32)borderRule;
+		}
+
+		@Override
+		public void process( ImageUInt8 input , ImageInt16 output ) {
+			ConvolveWithBorder_MT.convolve(k,input,output,b);
+		}
+	}
+
+	public static class ConvolveBorderMT_U8_S32 extends GenericConvolve<ImageUInt8,ImageSInt32> {
+		Kernel2D_I32 k;
+		ImageBorder_I32 b;
+
+		public ConvolveBorderMT_U8_S32( Method m , KernelBase kernel , BorderType type , Class<ImageUInt8> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel2D_I32)kernel;
+			b = (ImageBorder_I32)borderRule;
+		}
+
+		@Override
+		public void process( ImageUInt8 input , ImageSInt32 output ) {
+			ConvolveWithBorder_MT.convolve(k,input,output,b);
+		}
+	}
+
+	public static class HorizontalBorderMT_F32_F32 extends GenericConvolve<ImageFloat32,ImageFloat32> {
+		Kernel1D_F32 k;
+		ImageBorder_F32 b;
+
+		public HorizontalBorderMT_F32_F32( Method m , KernelBase kernel , BorderType type , Class<ImageFloat32> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel1D_F32)kernel;
+			b = (ImageBorder_F32)borderRule;
+		}
+
+		@Override
+		public void process( ImageFloat32 input , ImageFloat32 output ) {
+			ConvolveWithBorder_MT.horizontal(k,input,output,b);
+		}
+	}
+
+	public static class HorizontalBorderMT_S16_I16 extends GenericConvolve<ImageSInt16,ImageInt16> {
+		Kernel1D_I32 k;
+		ImageBorder_I32 b;
+
+		public HorizontalBorderMT_S16_I16( Method m , KernelBase kernel , BorderType type , Class<ImageSInt16> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel1D_I32)kernel;
+			b = (ImageBorder_I32)borderRule;
+		}
+
+		@Override
+		public void process( ImageSInt16 input , ImageInt16 output ) {
+			ConvolveWithBorder_MT.horizontal(k,input,output,b);
+		}
+	}
+
+	public static class HorizontalBorderMT_U8_I16 extends GenericConvolve<ImageUInt8,ImageInt16> {
+		Kernel1D_I32 k;
+		ImageBorder_I32 b;
+
+		public HorizontalBorderMT_U8_I16( Method m , KernelBase kernel , BorderType type , Class<ImageUInt8> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel1D_I32)kernel;
+			b = (ImageBorder_I32)borderRule;
+		}
+
+		@Override
+		public void process( ImageUInt8 input , ImageInt16 output ) {
+			ConvolveWithBorder_MT.horizontal(k,input,output,b);
+		}
+	}
+
+	public static class HorizontalBorderMT_U8_S32 extends GenericConvolve<ImageUInt8,ImageSInt32> {
+		Kernel1D_I32 k;
+		ImageBorder_I32 b;
+
+		public HorizontalBorderMT_U8_S32( Method m , KernelBase kernel , BorderType type , Class<ImageUInt8> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel1D_I32)kernel;
+			b = (ImageBorder_I32)borderRule;
+		}
+
+		@Override
+		public void process( ImageUInt8 input , ImageSInt32 output ) {
+			ConvolveWithBorder_MT.horizontal(k,input,output,b);
+		}
+	}
+
+	public static class VerticalBorderMT_F32_F32 extends GenericConvolve<ImageFloat32,ImageFloat32> {
+		Kernel1D_F32 k;
+		ImageBorder_F32 b;
+
+		public VerticalBorderMT_F32_F32( Method m , KernelBase kernel , BorderType type , Class<ImageFloat32> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel1D_F32)kernel;
+			b = (ImageBorder_F32)borderRule;
+		}
+
+		@Override
+		public void process( ImageFloat32 input , ImageFloat32 output ) {
+			ConvolveWithBorder_MT.vertical(k,input,output,b);
+		}
+	}
+
+	public static class VerticalBorderMT_S16_I16 extends GenericConvolve<ImageSInt16,ImageInt16> {
+		Kernel1D_I32 k;
+		ImageBorder_I32 b;
+
+		public VerticalBorderMT_S16_I16( Method m , KernelBase kernel , BorderType type , Class<ImageSInt16> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel1D_I32)kernel;
+			b = (ImageBorder_I32)borderRule;
+		}
+
+		@Override
+		public void process( ImageSInt16 input , ImageInt16 output ) {
+			ConvolveWithBorder_MT.vertical(k,input,output,b);
+		}
+	}
+
+	public static class VerticalBorderMT_U8_I16 extends GenericConvolve<ImageUInt8,ImageInt16> {
+		Kernel1D_I32 k;
+		ImageBorder_I32 b;
+
+		public VerticalBorderMT_U8_I16( Method m , KernelBase kernel , BorderType type , Class<ImageUInt8> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel1D_I32)kernel;
+			b = (ImageBorder_I32)borderRule;
+		}
+
+		@Override
+		public void process( ImageUInt8 input , ImageInt16 output ) {
+			ConvolveWithBorder_MT.vertical(k,input,output,b);
+		}
+	}
+
+	public static class VerticalBorderMT_U8_S32 extends GenericConvolve<ImageUInt8,ImageSInt32> {
+		Kernel1D_I32 k;
+		ImageBorder_I32 b;
+
+		public VerticalBorderMT_U8_S32( Method m , KernelBase kernel , BorderType type , Class<ImageUInt8> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel1D_I32)kernel;
+			b = (ImageBorder_I32)borderRule;
+		}
+
+		@Override
+		public void process( ImageUInt8 input , ImageSInt32 output ) {
+			ConvolveWithBorder_MT.vertical(k,input,output,b);
+		}
+	}
+
+	public static class ConvolveNormalized_F32_F32 extends GenericConvolve<ImageFloat32,ImageFloat32> {
+		Kernel2D_F32 k;
+
+		public ConvolveNormalized_F32_F32( Method m , KernelBase kernel , BorderType type , Class<ImageFloat32> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel2D_F32)kernel;
+		}
+
+		@Override
+		public void process( ImageFloat32 input , ImageFloat32 output ) {
+			ConvolveNormalized.convolve(k,input,output);
+		}
+	}
+
+	public static class ConvolveNormalized_S16_I16 extends GenericConvolve<ImageSInt16,ImageInt16> {
+		Kernel2D_I32 k;
+
+		public ConvolveNormalized_S16_I16( Method m , KernelBase kernel , BorderType type , Class<ImageSInt16> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel2D_I32)kernel;
+		}
+
+		@Override
+		public void process( ImageSInt16 input , ImageInt16 output ) {
+			ConvolveNormalized.convolve(k,input,output);
+		}
+	}
+
+	public static class ConvolveNormalized_U8_I8 extends GenericConvolve<ImageUInt8,ImageInt8> {
+		Kernel2D_I32 k;
+
+		public ConvolveNormalized_U8_I8( Method m , KernelBase kernel , BorderType type , Class<ImageUInt8> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel2D_I32)kernel;
+		}
+
+		@Override
+		public void process( ImageUInt8 input , ImageInt8 output ) {
+			ConvolveNormalized.convolve(k,input,output);
+		}
+	}
+
+	public static class HorizontalNormalized_F32_F32 extends GenericConvolve<ImageFloat32,ImageFloat32> {
+		Kernel1D_F32 k;
+
+		public HorizontalNormalized_F32_F32( Method m , KernelBase kernel , BorderType type , Class<ImageFloat32> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel1D_F32)kernel;
+		}
+
+		@Override
+		public void process( ImageFloat32 input , ImageFloat32 output ) {
+			ConvolveNormalized.horizontal(k,input,output);
+		}
+	}
+
+	public static class HorizontalNormalized_S16_I16 extends GenericConvolve<ImageSInt16,ImageInt16> {
+		Kernel1D_I32 k;
+
+		public HorizontalNormalized_S16_I16( Method m , KernelBase kernel , BorderType type , Class<ImageSInt16> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel1D_I32)kernel;
+		}
+
+		@Override
+		public void process( ImageSInt16 input , ImageInt16 output ) {
+			ConvolveNormalized.horizontal(k,input,output);
+		}
+	}
+
+	public static class HorizontalNormalized_S32_S32 extends GenericConvolve<ImageSInt32,ImageSInt32> {
+		Kernel1D_I32 k;
+
+		public HorizontalNormalized_S32_S32( Method m , KernelBase kernel , BorderType type , Class<ImageSInt32> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel1D_I32)kernel;
+		}
+
+		@Override
+		public void process( ImageSInt32 input , ImageSInt32 output ) {
+			ConvolveNormalized.horizontal(k,input,output);
+		}
+	}
+
+	public static class HorizontalNormalized_U8_I8 extends GenericConvolve<ImageUInt8,ImageInt8> {
+		Kernel1D_I32 k;
+
+		public HorizontalNormalized_U8_I8( Method m , KernelBase kernel , BorderType type , Class<ImageUInt8> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel1D_I32)kernel;
+		}
+
+		@Override
+		public void process( ImageUInt8 input , ImageInt8 output ) {
+			ConvolveNormalized.horizontal(k,input,output);
+		}
+	}
+
+	public static class VerticalNormalized_F32_F32 extends GenericConvolve<ImageFloat32,ImageFloat32> {
+		Kernel1D_F32 k;
+
+		public VerticalNormalized_F32_F32( Method m , KernelBase kernel , BorderType type , Class<ImageFloat32> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel1D_F32)kernel;
+		}
+
+		@Override
+		public void process( ImageFloat32 input , ImageFloat32 output ) {
+			ConvolveNormalized.vertical(k,input,output);
+		}
+	}
+
+	public static class VerticalNormalized_S16_I16 extends GenericConvolve<ImageSInt16,ImageInt16> {
+		Kernel1D_I32 k;
+
+		public VerticalNormalized_S16_I16( Method m , KernelBase kernel , BorderType type , Class<ImageSInt16> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel1D_I32)kernel;
+		}
+
+		@Override
+		public void process( ImageSInt16 input , ImageInt16 output ) {
+			ConvolveNormalized.vertical(k,input,output);
+		}
+	}
+
+	public static class VerticalNormalized_S32_S32 extends GenericConvolve<ImageSInt32,ImageSInt32> {
+		Kernel1D_I32 k;
+
+		public VerticalNormalized_S32_S32( Method m , KernelBase kernel , BorderType type , Class<ImageSInt32> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel1D_I32)kernel;
+		}
+
+		@Override
+		public void process( ImageSInt32 input , ImageSInt32 output ) {
+			ConvolveNormalized.vertical(k,input,output);
+		}
+	}
+
+	public static class VerticalNormalized_U8_I8 extends GenericConvolve<ImageUInt8,ImageInt8> {
+		Kernel1D_I32 k;
+
+		public VerticalNormalized_U8_I8( Method m , KernelBase kernel , BorderType type , Class<ImageUInt8> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel1D_I32)kernel;
+		}
+
+		@Override
+		public void process( ImageUInt8 input , ImageInt8 output ) {
+			ConvolveNormalized.vertical(k,input,output);
+		}
+	}
+
+	public static class ConvolveNormalizedMT_F32_F32 extends GenericConvolve<ImageFloat32,ImageFloat32> {
+		Kernel2D_F32 k;
+
+		public ConvolveNormalizedMT_F32_F32( Method m , KernelBase kernel , BorderType type , Class<ImageFloat32> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel2D_F32)kernel;
+		}
+
+		@Override
+		public void process( ImageFloat32 input , ImageFloat32 output ) {
+			ConvolveNormalized_MT.convolve(k,input,output);
+		}
+	}
+
+	public static class ConvolveNormalizedMT_S16_I16 extends GenericConvolve<ImageSInt16,ImageInt16> {
+		Kernel2D_I32 k;
+
+		public ConvolveNormalizedMT_S16_I16( Method m , KernelBase kernel , BorderType type , Class<ImageSInt16> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel2D_I32)kernel;
+		}
+
+		@Override
+		public void process( ImageSInt16 input , ImageInt16 output ) {
+			ConvolveNormalized_MT.convolve(k,input,output);
+		}
+	}
+
+	public static class ConvolveNormalizedMT_U8_I8 extends GenericConvolve<ImageUInt8,ImageInt8> {
+		Kernel2D_I32 k;
+
+		public ConvolveNormalizedMT_U8_I8( Method m , KernelBase kernel , BorderType type , Class<ImageUInt8> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel2D_I32)kernel;
+		}
+
+		@Override
+		public void process( ImageUInt8 input , ImageInt8 output ) {
+			ConvolveNormalized_MT.convolve(k,input,output);
+		}
+	}
+
+	public static class HorizontalNormalizedMT_F32_F32 extends GenericConvolve<ImageFloat32,ImageFloat32> {
+		Kernel1D_F32 k;
+
+		public HorizontalNormalizedMT_F32_F32( Method m , KernelBase kernel , BorderType type , Class<ImageFloat32> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel1D_F32)kernel;
+		}
+
+		@Override
+		public void process( ImageFloat32 input , ImageFloat32 output ) {
+			ConvolveNormalized_MT.horizontal(k,input,output);
+		}
+	}
+
+	public static class HorizontalNormalizedMT_S16_I16 extends GenericConvolve<ImageSInt16,ImageInt16> {
+		Kernel1D_I32 k;
+
+		public HorizontalNormalizedMT_S16_I16( Method m , KernelBase kernel , BorderType type , Class<ImageSInt16> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel1D_I32)kernel;
+		}
+
+		@Override
+		public void process( ImageSInt16 input , ImageInt16 output ) {
+			ConvolveNormalized_MT.horizontal(k,input,output);
+		}
+	}
+
+	public static class HorizontalNormalizedMT_S32_S32 extends GenericConvolve<ImageSInt32,ImageSInt32> {
+		Kernel1D_I32 k;
+
+		public HorizontalNormalizedMT_S32_S32( Method m , KernelBase kernel , BorderType type , Class<ImageSInt32> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel1D_I32)kernel;
+		}
+
+		@Override
+		public void process( ImageSInt32 input , ImageSInt32 output ) {
+			ConvolveNormalized_MT.horizontal(k,input,output);
+		}
+	}
+
+	public static class HorizontalNormalizedMT_U8_I8 extends GenericConvolve<ImageUInt8,ImageInt8> {
+		Kernel1D_I32 k;
+
+		public HorizontalNormalizedMT_U8_I8( Method m , KernelBase kernel , BorderType type , Class<ImageUInt8> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel1D_I32)kernel;
+		}
+
+		@Override
+		public void process( ImageUInt8 input , ImageInt8 output ) {
+			ConvolveNormalized_MT.horizontal(k,input,output);
+		}
+	}
+
+	public static class VerticalNormalizedMT_F32_F32 extends GenericConvolve<ImageFloat32,ImageFloat32> {
+		Kernel1D_F32 k;
+
+		public VerticalNormalizedMT_F32_F32( Method m , KernelBase kernel , BorderType type , Class<ImageFloat32> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel1D_F32)kernel;
+		}
+
+		@Override
+		public void process( ImageFloat32 input , ImageFloat32 output ) {
+			ConvolveNormalized_MT.vertical(k,input,output);
+		}
+	}
+
+	public static class VerticalNormalizedMT_S16_I16 extends GenericConvolve<ImageSInt16,ImageInt16> {
+		Kernel1D_I32 k;
+
+		public VerticalNormalizedMT_S16_I16( Method m , KernelBase kernel , BorderType type , Class<ImageSInt16> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel1D_I32)kernel;
+		}
+
+		@Override
+		public void process( ImageSInt16 input , ImageInt16 output ) {
+			ConvolveNormalized_MT.vertical(k,input,output);
+		}
+	}
+
+	public static class VerticalNormalizedMT_S32_S32 extends GenericConvolve<ImageSInt32,ImageSInt32> {
+		Kernel1D_I32 k;
+
+		public VerticalNormalizedMT_S32_S32( Method m , KernelBase kernel , BorderType type , Class<ImageSInt32> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel1D_I32)kernel;
+		}
+
+		@Override
+		public void process( ImageSInt32 input , ImageSInt32 output ) {
+			ConvolveNormalized_MT.vertical(k,input,output);
+		}
+	}
+
+	public static class VerticalNormalizedMT_U8_I8 extends GenericConvolve<ImageUInt8,ImageInt8> {
+		Kernel1D_I32 k;
+
+		public VerticalNormalizedMT_U8_I8( Method m , KernelBase kernel , BorderType type , Class<ImageUInt8> imageType ) {
+			super(m, kernel, type, imageType);
+			k = (Kernel1D_I32)kernel;
+		}
+
+		@Override
+		public void process( ImageUInt8 input , ImageInt8 output ) {
+			ConvolveNormalized_MT.vertical(k,input,output);
+		}
+	}
+
+	public static class ConvolveDown_F32_F32 extends GenericConvolveDown<ImageFloat32,ImageFloat32> {
+		Kernel2D_F32 k;
+
+		public ConvolveDown_F32_F32( Method m , KernelBase kernel , BorderType type , int skip , Class<ImageFloat32> imageType ) {
+			super(m, kernel, type, skip, imageType);
+			k = (Kernel2D_F32)kernel;
+		}
+
+		@Override
+		public void process( ImageFloat32 input , ImageFloat32 output ) {
+			ConvolveDownNoBorder.convolve(k,input,output,skip);
+		}
+	}
+
+	public static class ConvolveDown_S16_I16 extends GenericConvolveDown<ImageSInt16,ImageInt16> {
+		Kernel2D_I32 k;
+
+		public ConvolveDown_S16_I16( Method m , KernelBase kernel , BorderType type , int skip , Class<ImageSInt16> imageType ) {
+			super(m, kernel, type, skip, imageType);
+			k = (Kernel2D_I32)kernel;
+		}
+
+		@Override
+		public void process( ImageSInt16 input , ImageInt16 output ) {
+			ConvolveDownNoBorder.convolve(k,input,output,skip);
+		}
+	}
+
+	public static class ConvolveDown_U8_I16 extends GenericConvolveDown<ImageUInt8,ImageInt16> {
+		Kernel2D_I32 k;
+
+		public ConvolveDown_U8_I16( Method m , KernelBase kernel , BorderType type , int skip , Class<ImageUInt8> imageType ) {
+			super(m, kernel, type, skip, imageType);
+			k = (Kernel2D_I32)kernel;
+		}
+
+		@Override
+		public void process( ImageUInt8 input , ImageInt16 output ) {
+			ConvolveDownNoBorder.convolve(k,input,output,skip);
+		}
+	}
+
+	public static class HorizontalDown_F32_F32 extends GenericConvolveDown<ImageFloat32,ImageFloat32> {
+		Kernel1D_F32 k;
+
+		public HorizontalDown_F32_F32( Method m , KernelBase kernel , BorderType type , int skip , Class<ImageFloat32> imageType ) {
+			super(m, kernel, type, skip, imageType);
+			k = (Kernel1D_F32)kernel;
+		}
+
+		@Override
+		public void process( ImageFloat32 input , ImageFloat32 output ) {
+			ConvolveDownNoBorder.horizontal(k,input,output,skip);
+		}
+	}
+
+	public static class HorizontalDown_S16_I16 extends GenericConvolveDown<ImageSInt16,ImageInt16> {
+		Kernel1D_I32 k;
+
+		public HorizontalDown_S16_I16( Method m , KernelBase kernel , BorderType type , int skip , Class<ImageSInt16> imageType ) {
+			super(m, kernel, type, skip, imageType);
+			k = (Kernel1D_I32)kernel;
+		}
+
+		@Override
+		public void process( ImageSInt16 input , ImageInt16 output ) {
+			ConvolveDownNoBorder.horizontal(k,input,output,skip);
+		}
+	}
+
+	public static class HorizontalDown_U8_I16 extends GenericConvolveDown<ImageUInt8,ImageInt16> {
+		Kernel1D_I32 k;
+
+		public HorizontalDown_U8_I16( Method m , KernelBase kernel , BorderType type , int skip , Class<ImageUInt8> imageType ) {
+			super(m, kernel, type, skip, imageType);
+			k = (Kernel1D_I32)kernel;
+		}
+
+		@Override
+		public void process( ImageUInt8 input , ImageInt16 output ) {
+			ConvolveDownNoBorder.horizontal(k,input,output,skip);
+		}
+	}
+
+	public static class VerticalDown_F32_F32 extends GenericConvolveDown<ImageFloat32,ImageFloat32> {
+		Kernel1D_F32 k;
+
+		public VerticalDown_F32_F32( Method m , KernelBase kernel , BorderType type , int skip , Class<ImageFloat32> imageType ) {
+			super(m, kernel, type, skip, imageType);
+			k = (Kernel1D_F32)kernel;
+		}
+
+		@Override
+		public void process( ImageFloat32 input , ImageFloat32 output ) {
+			ConvolveDownNoBorder.vertical(k,input,output,skip);
+		}
+	}
+
+	public static class VerticalDown_S16_I16 extends GenericConvolveDown<ImageSInt16,ImageInt16> {
+		Kernel1D_I32 k;
+
+		public VerticalDown_S16_I16( Method m , KernelBase kernel , BorderType type , int skip , Class<ImageSInt16> imageType ) {
+			super(m, kernel, type, skip, imageType);
+			k = (Kernel1D_I32)kernel;
+		}
+
+		@Override
+		public void process( ImageSInt16 input , ImageInt16 output ) {
+			ConvolveDownNoBorder.vertical(k,input,output,skip);
+		}
+	}
+
+	public static class VerticalDown_U8_I16 extends GenericConvolveDown<ImageUInt8,ImageInt16> {
+		Kernel1D_I32 k;
+
+		public VerticalDown_U8_I16( Method m , KernelBase kernel , BorderType type , int skip , Class<ImageUInt8> imageType ) {
+			super(m, kernel, type, skip, imageType);
+			k = (Kernel1D_I32)kernel;
+		}
+
+		@Override
+		public void process( ImageUInt8 input , ImageInt16 output ) {
+			ConvolveDownNoBorder.vertical(k,input,output,skip);
+		}
+	}
+
+	public static class ConvolveDownNormalized_F32_F32 extends GenericConvolveDown<ImageFloat32,ImageFloat32> {
+		Kernel2D_F32 k;
+
+		public ConvolveDownNormalized_F32_F32( Method m , KernelBase kernel , BorderType type , int skip , Class<ImageFloat32> imageType ) {
+			super(m, kernel, type, skip, imageType);
+			k = (Kernel2D_F32)kernel;
+		}
+
+		@Override
+		public void process( ImageFloat32 input , ImageFloat32 output ) {
+			ConvolveDownNormalized.convolve(k,input,output,skip);
+		}
+	}
+
+	public static class ConvolveDownNormalized_S16_I16 extends GenericConvolveDown<ImageSInt16,ImageInt16> {
+		Kernel2D_I32 k;
+
+		public ConvolveDownNormalized_S16_I16( Method m , KernelBase kernel , BorderType type , int skip , Class<ImageSInt16> imageType ) {
+			super(m, kernel, type, skip, imageType);
+			k = (Kernel2D_I32)kernel;
+		}
+
+		@Override
+		public void process( ImageSInt16 input , ImageInt16 output ) {
+			ConvolveDownNormalized.convolve(k,input,output,skip);
+		}
+	}
+
+	public static class ConvolveDownNormalized_U8_I8 extends GenericConvolveDown<ImageUInt8,ImageInt8> {
+		Kernel2D_I32 k;
+
+		public ConvolveDownNormalized_U8_I8( Method m , KernelBase kernel , BorderType type , int skip , Class<ImageUInt8> imageType ) {
+			super(m, kernel, type, skip, imageType);
+			k = (Kernel2D_I32)kernel;
+		}
+
+		@Override
+		public void process( ImageUInt8 input , ImageInt8 output ) {
+			ConvolveDownNormalized.convolve(k,input,output,skip);
+		}
+	}
+
+	public static class HorizontalDownNormalized_F32_F32 extends GenericConvolveDown<ImageFloat32,ImageFloat32> {
+		Kernel1D_F32 k;
+
+		public HorizontalDownNormalized_F32_F32( Method m , KernelBase kernel , BorderType type , int skip , Class<ImageFloat32> imageType ) {
+			super(m, kernel, type, skip, imageType);
+			k = (Kernel1D_F32)kernel;
+		}
+
+		@Override
+		public void process( ImageFloat32 input , ImageFloat32 output ) {
+			ConvolveDownNormalized.horizontal(k,input,output,skip);
+		}
+	}
+
+	public static class HorizontalDownNormalized_S16_I16 extends GenericConvolveDown<ImageSInt16,ImageInt16> {
+		Kernel1D_I32 k;
+
+		public HorizontalDownNormalized_S16_I16( Method m , KernelBase kernel , BorderType type , int skip , Class<ImageSInt16> imageType ) {
+			super(m, kernel, type, skip, imageType);
+			k = (Kernel1D_I32)kernel;
+		}
+
+		@Override
+		public void process( ImageSInt16 input , ImageInt16 output ) {
+			ConvolveDownNormalized.horizontal(k,input,output,skip);
+		}
+	}
+
+	public static class HorizontalDownNormalized_U8_I8 extends GenericConvolveDown<ImageUInt8,ImageInt8> {
+		Kernel1D_I32 k;
+
+		public HorizontalDownNormalized_U8_I8( Method m , KernelBase kernel , BorderType type , int skip , Class<ImageUInt8> imageType ) {
+			super(m, kernel, type, skip, imageType);
+			k = (Kernel1D_I32)kernel;
+		}
+
+		@Override
+		public void process( ImageUInt8 input , ImageInt8 output ) {
+			ConvolveDownNormalized.horizontal(k,input,output,skip);
+		}
+	}
+
+	public static class VerticalDownNormalized_F32_F32 extends GenericConvolveDown<ImageFloat32,ImageFloat32> {
+		Kernel1D_F32 k;
+
+		public VerticalDownNormalized_F32_F32( Method m , KernelBase kernel , BorderType type , int skip , Class<ImageFloat32> imageType ) {
+			super(m, kernel, type, skip, imageType);
+			k = (Kernel1D_F32)kernel;
+		}
+
+		@Override
+		public void process( ImageFloat32 input , ImageFloat32 output ) {
+			ConvolveDownNormalized.vertical(k,input,output,skip);
+		}
+	}
+
+	public static class VerticalDownNormalized_S16_I16 extends GenericConvolveDown<ImageSInt16,ImageInt16> {
+		Kernel1D_I32 k;
+
+		public VerticalDownNormalized_S16_I16( Method m , KernelBase kernel , BorderType type , int skip , Class<ImageSInt16> imageType ) {
+			super(m, kernel, type, skip, imageType);
+			k = (Kernel1D_I32)kernel;
+		}
+
+		@Override
+		public void process( ImageSInt16 input , ImageInt16 output ) {
+			ConvolveDownNormalized.vertical(k,input,output,skip);
+		}
+	}
+
+	public static class VerticalDownNormalized_U8_I8 extends GenericConvolveDown<ImageUInt8,ImageInt8> {
+		Kernel1D_I32 k;
+
+		public VerticalDownNormalized_U8_I8( Method m , KernelBase kernel , BorderType type , int skip , Class<ImageUInt8> imageType ) {
+			super(m, kernel, type, skip, imageType);
+			k = (Kernel1D_I32)kernel;
+		}
+
+		@Override
+		public void process( ImageUInt8 input , ImageInt8 output ) {
+			ConvolveDownNormalized.vertical(k,input,output,skip);
+		}
+	}
+
+}
@@ -0,0 +1,333 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boofcv.abst.filter.derivative;
+
+import boofcv.alg.filter.derivative.GradientPrewitt;
+import boofcv.alg.filter.derivative.GradientSobel;
+import boofcv.alg.filter.derivative.GradientThree;
+import boofcv.alg.filter.derivative.HessianFromGradient;
+import boofcv.alg.filter.derivative.HessianSobel;
+import boofcv.alg.filter.derivative.HessianThree;
+import boofcv.core.image.border.ImageBorder_F32;
+import boofcv.core.image.border.ImageBorder_I32;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageSInt16;
+import boofcv.struct.image.ImageUInt8;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Type specific implementations of {@link ImageGradient_Reflection}, {@link ImageHessianDirect_Reflection},
+ * and {@link ImageHessian_Reflection}, one for each derivative function.  The derivative function is looked
+ * up once when the filter is created and then called directly each time an image is processed, instead of
+ * through reflection.
+ * </p>
+ *
+ * <p>
+ * DO NOT MODIFY: Generated by {@link GenerateDerivativeSpecialized}.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class DerivativeSpecialized {
+
+	/**
+	 * Creates an {@link ImageGradient} which calls the specified function directly.
+	 *
+	 * @param m The derivative function.
+	 * @return The specialized filter or null if there isn't one for the function.
+	 */
+	public static ImageGradient gradient( Method m ) {
+		if( matches(m,GradientPrewitt.class,"process",ImageFloat32.class,ImageFloat32.class,ImageFloat32.class,ImageBorder_F32.class) )
+			return new GradientPrewitt_F32_F32(m);
+		if( matches(m,GradientPrewitt.class,"process",ImageSInt16.class,ImageSInt16.class,ImageSInt16.class,ImageBorder_I32.class) )
+			return new GradientPrewitt_S16_S16(m);
+		if( matches(m,GradientPrewitt.class,"process",ImageUInt8.class,ImageSInt16.class,ImageSInt16.class,ImageBorder_I32.class) )
+			return new GradientPrewitt_U8_S16(m);
+		if( matches(m,GradientSobel.class,"process",ImageFloat32.class,ImageFloat32.class,ImageFloat32.class,ImageBorder_F32.class) )
+			return new GradientSobel_F32_F32(m);
+		if( matches(m,GradientSobel.class,"process",ImageSInt16.class,ImageSInt16.class,ImageSInt16.class,ImageBorder_I32.class) )
+			return new GradientSobel_S16_S16(m);
+		if( matches(m,GradientSobel.class,"process",ImageUInt8.class,ImageSInt16.class,ImageSInt16.class,ImageBorder_I32.class) )
+			return new GradientSobel_U8_S16(m);
+		if( matches(m,GradientThree.class,"process",ImageFloat32.class,ImageFloat32.class,ImageFloat32.class,ImageBorder_F32.class) )
+			return new GradientThree_F32_F32(m);
+		if( matches(m,GradientThree.class,"process",ImageSInt16.class,ImageSInt16.class,ImageSInt16.class,ImageBorder_I32.class) )
+			return new GradientThree_S16_S16(m);
+		if( matches(m,GradientThree.class,"process",ImageUInt8.class,ImageSInt16.class,ImageSInt16.class,ImageBorder_I32.class) )
+			return new GradientThree_U8_S16(m);
+		return null;
+	}
+
+	/**
+	 * Creates an {@link ImageHessianDirect} which calls the specified function directly.
+	 *
+	 * @param m The derivative function.
+	 * @return The specialized filter or null if there isn't one for the function.
+	 */
+	public static ImageHessianDirect hessianDirect( Method m ) {
+		if( matches(m,HessianSobel.class,"process",ImageFloat32.class,ImageFloat32.class,ImageFloat32.class,ImageFloat32.class,ImageBorder_F32.class) )
+			return new HessianSobel_F32_F32(m);
+		if( matches(m,HessianSobel.class,"process",ImageUInt8.class,ImageSInt16.class,ImageSInt16.class,ImageSInt16.class,ImageBorder_I32.class) )
+			return new HessianSobel_U8_S16(m);
+		if( matches(m,HessianThree.class,"process",ImageFloat32.class,ImageFloat32.class,ImageFloat32.class,ImageFloat32.class,ImageBorder_F32.class) )
+			return new HessianThree_F32_F32(m);
+		if( matches(m,HessianThree.class,"process",ImageUInt8.class,ImageSInt16.class,ImageSInt16.class,ImageSInt16.class,ImageBorder_I32.class) )
+			return new HessianThree_U8_S16(m);
+		return null;
+	}
+
+	/**
+	 * Creates an {@link ImageHessian} which calls the specified function directly.
+	 *
+	 * @param m The derivative function.
+	 * @return The specialized filter or null if there isn't one for the function.
+	 */
+	public static ImageHessian hessian( Method m ) {
+		if( matches(m,HessianFromGradient.class,"hessianPrewitt",ImageFloat32.class,ImageFloat32.class,ImageFloat32.class,ImageFloat32.class,ImageFloat32.class,ImageBorder_F32.class) )
+			return new HessianPrewittFromGradient_F32(m);
+		if( matches(m,HessianFromGradient.class,"hessianPrewitt",ImageSInt16.class,ImageSInt16.class,ImageSInt16.class,ImageSInt16.class,ImageSInt16.class,ImageBorder_I32.class) )
+			return new HessianPrewittFromGradient_S16(m);
+		if( matches(m,HessianFromGradient.class,"hessianSobel",ImageFloat32.class,ImageFloat32.class,ImageFloat32.class,ImageFloat32.class,ImageFloat32.class,ImageBorder_F32.class) )
+			return new HessianSobelFromGradient_F32(m);
+		if( matches(m,HessianFromGradient.class,"hessianSobel",ImageSInt16.class,ImageSInt16.class,ImageSInt16.class,ImageSInt16.class,ImageSInt16.class,ImageBorder_I32.class) )
+			return new HessianSobelFromGradient_S16(m);
+		if( matches(m,HessianFromGradient.class,"hessianThree",ImageFloat32.class,ImageFloat32.class,ImageFloat32.class,ImageFloat32.class,ImageFloat32.class,ImageBorder_F32.class) )
+			return new HessianThreeFromGradient_F32(m);
+		if( matches(m,HessianFromGradient.class,"hessianThree",ImageSInt16.class,ImageSInt16.class,ImageSInt16.class,ImageSInt16.class,ImageSInt16.class,ImageBorder_I32.class) )
+			return new HessianThreeFromGradient_S16(m);
+		return null;
+	}
+
+	private static boolean matches( Method m , Class<?> owner , String name , Class<?> ...params ) {
+		return m.getDeclaringClass() == owner && m.getName().equals(name) &&
+				Arrays.equals(m.getParameterTypes(),params);
+	}
+
+	public static class GradientPrewitt_F32_F32 extends ImageGradient_Reflection<ImageFloat32,ImageFloat32> {
+		public GradientPrewitt_F32_F32( Method m ) {
+			super(m);
+		}
+
+		@Override
+		public void process( ImageFloat32 inputImage , ImageFloat32 derivX , ImageFloat32 derivY ) {
+			GradientPrewitt.process(inputImage, derivX, derivY, (ImageBorder_F32)border);
+		}
+	}
+
+	public static class GradientPrewitt_S16_S16 extends ImageGradient_Reflection<ImageSInt16,ImageSInt16> {
+		public GradientPrewitt_S16_S16( Method m ) {
+			super(m);
+		}
+
+		@Override
+		public void process( ImageSInt16 inputImage , ImageSInt16 derivX , ImageSInt16 derivY ) {
+			GradientPrewitt.process(inputImage, derivX, derivY, (ImageBorder_I32)border);
+		}
+	}
+
+	public static class GradientPrewitt_U8_S16 extends ImageGradient_Reflection<ImageUInt8,ImageSInt16> {
+		public GradientPrewitt_U8_S16( Method m ) {
+			super(m);
+		}
+
+		@Override
+		public void process( ImageUInt8 inputImage , ImageSInt16 derivX , ImageSInt16 derivY ) {
+			GradientPrewitt.process(inputImage, derivX, derivY, (ImageBorder_I32)border);
+		}
+	}
+
+	public static class GradientSobel_F32_F32 extends ImageGradient_Reflection<ImageFloat32,ImageFloat32> {
+		public GradientSobel_F32_F32( Method m ) {
+			super(m);
+		}
+
+		@Override
+		public void process( ImageFloat32 inputImage , ImageFloat32 derivX , ImageFloat32 derivY ) {
+			GradientSobel.process(inputImage, derivX, derivY, (ImageBorder_F32)border);
+		}
+	}
+
+	public static class GradientSobel_S16_S16 extends ImageGradient_Reflection<ImageSInt16,ImageSInt16> {
+		public GradientSobel_S16_S16( Method m ) {
+			super(m);
+		}
+
+		@Override
+		public void process( ImageSInt16 inputImage , ImageSInt16 derivX , ImageSInt16 derivY ) {
+			GradientSobel.process(inputImage, derivX, derivY, (ImageBorder_I32)border);
+		}
+	}
+
+	public static class GradientSobel_U8_S16 extends ImageGradient_Reflection<ImageUInt8,ImageSInt16> {
+		public GradientSobel_U8_S16( Method m ) {
+			super(m);
+		}
+
+		@Override
+		public void process( ImageUInt8 inputImage , ImageSInt16 derivX , ImageSInt16 derivY ) {
+			GradientSobel.process(inputImage, derivX, derivY, (ImageBorder_I32)border);
+		}
+	}
+
+	public static class GradientThree_F32_F32 extends ImageGradient_Reflection<ImageFloat32,ImageFloat32> {
+		public GradientThree_F32_F32( Method m ) {
+			super(m);
+		}
+
+		@Override
+		public void process( ImageFloat32 inputImage , ImageFloat32 derivX , ImageFloat32 derivY ) {
+			GradientThree.process(inputImage, derivX, derivY, (ImageBorder_F32)border);
+		}
+	}
+
+	public static class GradientThree_S16_S16 extends ImageGradient_Reflection<ImageSInt16,ImageSInt16> {
+		public GradientThree_S16_S16( Method m ) {
+			super(m);
+		}
+
+		@Override
+		public void process( ImageSInt16 inputImage , ImageSInt16 derivX , ImageSInt16 derivY ) {
+			GradientThree.process(inputImage, derivX, derivY, (ImageBorder_I32)border);
+		}
+	}
+
+	public static class GradientThree_U8_S16 extends ImageGradient_Reflection<ImageUInt8,ImageSInt16> {
+		public GradientThree_U8_S16( Method m ) {
+			super(m);
+		}
+
+		@Override
+		public void process( ImageUInt8 inputImage , ImageSInt16 derivX , ImageSInt16 derivY ) {
+			GradientThree.process(inputImage, derivX, derivY, (ImageBorder_I32)border);
+		}
+	}
+
+	public static class HessianSobel_F32_F32 extends ImageHessianDirect_Reflection<ImageFloat32,ImageFloat32> {
+		public HessianSobel_F32_F32( Method m ) {
+			super(m);
+		}
+
+		@Override
+		public void process( ImageFloat32 inputImage , ImageFloat32 derivXX , ImageFloat32 derivYY , ImageFloat32 derivXY ) {
+			HessianSobel.process(inputImage, derivXX, derivYY, derivXY, (ImageBorder_F32)border);
+		}
+	}
+
+	public static class HessianSobel_U8_S16 extends ImageHessianDirect_Reflection<ImageUInt8,ImageSInt16> {
+		public HessianSobel_U8_S16( Method m ) {
+			super(m);
+		}
+
+		@Override
+		public void process( ImageUInt8 inputImage , ImageSInt16 derivXX , ImageSInt16 derivYY , ImageSInt16 derivXY ) {
+			HessianSobel.process(inputImage, derivXX, derivYY, derivXY, (ImageBorder_I32)border);
+		}
+	}
+
+	public static class HessianThree_F32_F32 extends ImageHessianDirect_Reflection<ImageFloat32,ImageFloat32> {
+		public HessianThree_F32_F32( Method m ) {
+			super(m);
+		}
+
+		@Override
+		public void process( ImageFloat32 inputImage , ImageFloat32 derivXX , ImageFloat32 derivYY , ImageFloat32 derivXY ) {
+			HessianThree.process(inputImage, derivXX, derivYY, derivXY, (ImageBorder_F32)border);
+		}
+	}
+
+	public static class HessianThree_U8_S16 extends ImageHessianDirect_Reflection<ImageUInt8,ImageSInt16> {
+		public HessianThree_U8_S16( Method m ) {
+			super(m);
+		}
+
+		@Override
+		public void process( ImageUInt8 inputImage , ImageSInt16 derivXX , ImageSInt16 derivYY , ImageSInt16 derivXY ) {
+			HessianThree.process(inputImage, derivXX, derivYY, derivXY, (ImageBorder_I32)border);
+		}
+	}
+
+	public static class HessianPrewittFromGradient_F32 extends ImageHessian_Reflection<ImageFloat32> {
+		public HessianPrewittFromGradient_F32( Method m ) {
+			super(m);
+		}
+
+		@Override
+		public void process( ImageFloat32 inputDerivX , ImageFloat32 inputDerivY , ImageFloat32 derivXX , ImageFloat32 derivYY , ImageFloat32 derivXY ) {
+			HessianFromGradient.hessianPrewitt(inputDerivX, inputDerivY, derivXX, derivYY, derivXY, (ImageBorder_F32)border);
+		}
+	}
+
+	public static class HessianPrewittFromGradient_S16 extends ImageHessian_Reflection<ImageSInt16> {
+		public HessianPrewittFromGradient_S16( Method m ) {
+			super(m);
+		}
+
+		@Override
+		public void process( ImageSInt16 inputDerivX , ImageSInt16 inputDerivY , ImageSInt16 derivXX , ImageSInt16 derivYY , ImageSInt16 derivXY ) {
+			HessianFromGradient.hessianPrewitt(inputDerivX, inputDerivY, derivXX, derivYY, derivXY, (ImageBorder_I32)border);
+		}
+	}
+
+	public static class HessianSobelFromGradient_F32 extends ImageHessian_Reflection<ImageFloat32> {
+		public HessianSobelFromGradient_F32( Method m ) {
+			super(m);
+		}
+
+		@Override
+		public void process( ImageFloat32 inputDerivX , ImageFloat32 inputDerivY , ImageFloat32 derivXX , ImageFloat32 derivYY , ImageFloat32 derivXY ) {
+			HessianFromGradient.hessianSobel(inputDerivX, inputDerivY, derivXX, derivYY, derivXY, (ImageBorder_F32)border);
+		}
+	}
+
+	public static class HessianSobelFromGradient_S16 extends ImageHessian_Reflection<ImageSInt16> {
+		public HessianSobelFromGradient_S16( Method m ) {
+			super(m);
+		}
+
+		@Override
+		public void process( ImageSInt16 inputDerivX , ImageSInt16 inputDerivY , ImageSInt16 derivXX , ImageSInt16 derivYY , ImageSInt16 derivXY ) {
+			HessianFromGradient.hessianSobel(inputDerivX, inputDerivY, derivXX, derivYY, derivXY, (ImageBorder_I32)border);
+		}
+	}
+
+	public static class HessianThreeFromGradient_F32 extends ImageHessian_Reflection<ImageFloat32> {
+		public HessianThreeFromGradient_F32( Method m ) {
+			super(m);
+		}
+
+		@Override
+		public void process( ImageFloat32 inputDerivX , ImageFloat32 inputDerivY , ImageFloat32 derivXX , ImageFloat32 derivYY , ImageFloat32 derivXY ) {
+			HessianFromGradient.hessianThree(inputDerivX, inputDerivY, derivXX, derivYY, derivXY, (ImageBorder_F32)border);
+		}
+	}
+
+	public static class HessianThreeFromGradient_S16 extends ImageHessian_Reflection<ImageSInt16> {
+		public HessianThreeFromGradient_S16( Method m ) {
+			super(m);
+		}
+
+		@Override
+		public void process( ImageSInt16 inputDerivX , ImageSInt16 inputDerivY , ImageSInt16 derivXX , ImageSInt16 derivYY , ImageSInt16 derivXY ) {
+			HessianFromGradient.hessianThree(inputDerivX, inputDerivY, derivXX, derivYY, derivXY, (ImageBorder_I32)border);
+		}
+	}
+
+}
@@ -18,12 +18,12 @@
 
 package boofcv.abst.filter.derivative;
 
-import boofcv.alg.filter.convolve.GConvolveImageOps;
+import boofcv.abst.filter.convolve.ConvolveInterface;
 import boofcv.core.image.border.BorderType;
-import boofcv.core.image.border.FactoryImageBorder;
-import boofcv.core.image.border.ImageBorder;
+import boofcv.factory.filter.convolve.FactoryConvolve;
 import boofcv.factory.filter.kernel.FactoryKernelGaussian;
 import boofcv.struct.convolve.Kernel1D;
+import boofcv.struct.image.ImagePool;
 import boofcv.struct.image.ImageSingleBand;
 
 import static boofcv.factory.filter.kernel.FactoryKernelGaussian.sigmaForRadius;
@@ -31,7 +31,9 @@ import static boofcv.factory.filter.kernel.FactoryKernelGaussian.sigmaForRadius;
 
 /**
  * Finds the derivative using a Gaussian kernel.  This is the same as convolving the image
- * and then computing the derivative
+ * and then computing the derivative.  Storage for intermediate results is borrowed from the
+ * shared {@link ImagePool}.  The convolution filters are created when the border type is
+ * specified, so that the image type doesn't need to be checked each time an image is processed.
  *
  * @author Peter Abeles
  */
@@ -40,14 +42,18 @@ public class ImageGradient_Gaussian<I extends ImageSingleBand, D extends ImageSi
 
 	// default border.
 	private BorderType borderType = BorderType.EXTENDED;
-	ImageBorder border;
-
-	// storage the results after the first gaussian blur
-	private I storage;
 
 	// type of input/output images
+	private Class<I> inputType;
 	private Class<D> derivType;
 
+	// filters for blurring the image along each axis
+	ConvolveInterface<I,I> blurX;
+	ConvolveInterface<I,I> blurY;
+	// filters for computing the derivative along each axis
+	ConvolveInterface<I,D> derivX;
+	ConvolveInterface<I,D> derivY;
+
 	Kernel1D kernelBlur;
 	Kernel1D kernelDeriv;
 
@@ -59,6 +65,7 @@ public class ImageGradient_Gaussian<I extends ImageSingleBand, D extends ImageSi
 
 	public ImageGradient_Gaussian(double sigma, int radius,
 								  Class<I> inputType , Class<D> derivType ) {
+		this.inputType = inputType;
 		this.derivType = derivType;
 
 		// need to do this here to make sure the blur and derivative functions have the same paramters.
@@ -69,29 +76,38 @@ public class ImageGradient_Gaussian<I extends ImageSingleBand, D extends ImageSi
 
 		kernelBlur = FactoryKernelGaussian.gaussian1D(inputType,sigma,radius);
 		kernelDeriv = FactoryKernelGaussian.derivativeI(inputType,1,sigma,radius);
-		border = FactoryImageBorder.general(derivType,borderType);
+
+		blurX = FactoryConvolve.convolve(kernelBlur,inputType,inputType,BorderType.NORMALIZED,true);
+		blurY = FactoryConvolve.convolve(kernelBlur,inputType,inputType,BorderType.NORMALIZED,false);
+		declareDerivative();
+	}
+
+	private void declareDerivative() {
+		derivX = FactoryConvolve.convolve(kernelDeriv,inputType,derivType,borderType,true);
+		derivY = FactoryConvolve.convolve(kernelDeriv,inputType,derivType,borderType,false);
 	}
 
 	@SuppressWarnings({"unchecked"})
 	@Override
-	public void process( I inputImage , D derivX, D derivY ) {
-
-		if( storage == null ) {
-			storage = (I)inputImage._createNew(inputImage.width,inputImage.height );
-		} else {
-			storage.reshape(inputImage.width,inputImage.height);
+	public void process( I inputImage , D outputX , D outputY ) {
+
+		// storage the results after the first gaussian blur
+		ImagePool pool = ImagePool.getShared();
+		I storage = pool.borrow((Class<I>)inputImage.getClass(),inputImage.width,inputImage.height);
+		try {
+			blurY.process(inputImage,storage);
+			derivX.process(storage,outputX);
+			blurX.process(inputImage,storage);
+			derivY.process(storage,outputY);
+		} finally {
+			pool.release(storage);
 		}
-
-		GConvolveImageOps.verticalNormalized(kernelBlur,inputImage,storage);
-		GConvolveImageOps.horizontal(kernelDeriv,storage,derivX,border );
-		GConvolveImageOps.horizontalNormalized(kernelBlur,inputImage,storage);
-		GConvolveImageOps.vertical(kernelDeriv,storage,derivY,border );
 	}
 
 	@Override
 	public void setBorderType(BorderType type) {
 		this.borderType = type;
-		border = FactoryImageBorder.general(derivType,borderType);
+		declareDerivative();
 	}
 
 	@Override
@@ -21,6 +21,7 @@ package boofcv.abst.wavelet.impl;
 import boofcv.abst.wavelet.WaveletTransform;
 import boofcv.alg.transform.wavelet.UtilWavelet;
 import boofcv.alg.transform.wavelet.WaveletTransformOps;
+import boofcv.alg.transform.wavelet.WaveletTransformOps_MT;
 import boofcv.core.image.border.BorderType;
 import boofcv.struct.image.ImageDimension;
 import boofcv.struct.image.ImageFloat32;
@@ -45,12 +46,21 @@ public class WaveletTransformFloat32 implements WaveletTransform<ImageFloat32,Im
 	float minPixelValue;
 	float maxPixelValue;
 
+	// if true then the concurrent transform is used
+	boolean concurrent;
+
 	public WaveletTransformFloat32(WaveletDescription<WlCoef_F32> desc, int numLevels,
 								   float minPixelValue , float maxPixelValue ) {
+		this(desc,numLevels,minPixelValue,maxPixelValue,false);
+	}
+
+	public WaveletTransformFloat32(WaveletDescription<WlCoef_F32> desc, int numLevels,
+								   float minPixelValue , float maxPixelValue , boolean concurrent ) {
 		this.desc = desc;
 		this.numLevels = numLevels;
 		this.minPixelValue = minPixelValue;
 		this.maxPixelValue = maxPixelValue;
+		this.concurrent = concurrent;
 	}
 
 	@Override
@@ -64,7 +74,10 @@ public class WaveletTransformFloat32 implements WaveletTransform<ImageFloat32,Im
 		copy.reshape(original.width,original.height);
 		copy.setTo(original);
 
-		WaveletTransformOps.transformN(desc,copy,transformed,temp,numLevels);
+		if( concurrent )
+			WaveletTransformOps_MT.transformN(desc,copy,transformed,temp,numLevels);
+		else
+			WaveletTransformOps.transformN(desc,copy,transformed,temp,numLevels);
 
 		return transformed;
 	}
@@ -75,7 +88,10 @@ public class WaveletTransformFloat32 implements WaveletTransform<ImageFloat32,Im
 		copy.reshape(transformed.width,transformed.height);
 		copy.setTo(transformed);
 
-		WaveletTransformOps.inverseN(desc,copy,original,temp,numLevels,minPixelValue,maxPixelValue);
+		if( concurrent )
+			WaveletTransformOps_MT.inverseN(desc,copy,original,temp,numLevels,minPixelValue,maxPixelValue);
+		else
+			WaveletTransformOps.inverseN(desc,copy,original,temp,numLevels,minPixelValue,maxPixelValue);
 	}
 
 	@Override
@@ -21,6 +21,7 @@ package boofcv.abst.wavelet.impl;
 import boofcv.abst.wavelet.WaveletTransform;
 import boofcv.alg.transform.wavelet.UtilWavelet;
 import boofcv.alg.transform.wavelet.WaveletTransformOps;
+import boofcv.alg.transform.wavelet.WaveletTransformOps_MT;
 import boofcv.core.image.GeneralizedImageOps;
 import boofcv.core.image.border.BorderType;
 import boofcv.struct.image.ImageDimension;
@@ -60,8 +61,17 @@ public class WaveletTransformInt<T extends ImageInteger> implements WaveletTrans
 	int minPixelValue;
 	int maxPixelValue;
 
+	// if true then the concurrent transform is used
+	boolean concurrent;
+
 	public WaveletTransformInt(WaveletDescription<WlCoef_I32> desc, int numLevels,
 							   int minPixelValue , int maxPixelValue, Class<T> inputType  ) {
+		this(desc,numLevels,minPixelValue,maxPixelValue,inputType,false);
+	}
+
+	public WaveletTransformInt(WaveletDescription<WlCoef_I32> desc, int numLevels,
+							   int minPixelValue , int maxPixelValue, Class<T> inputType , boolean concurrent ) {
+		this.concurrent = concurrent;
 		this.desc = desc;
 		this.numLevels = numLevels;
 		this.inputType = inputType;
@@ -84,7 +94,10 @@ public class WaveletTransformInt<T extends ImageInteger> implements WaveletTrans
 		} else {
 			GeneralizedImageOps.convert(original, copyInput);
 		}
-		WaveletTransformOps.transformN(desc, copyInput,transformed,temp,numLevels);
+		if( concurrent )
+			WaveletTransformOps_MT.transformN(desc, copyInput,transformed,temp,numLevels);
+		else
+			WaveletTransformOps.transformN(desc, copyInput,transformed,temp,numLevels);
 
 		return transformed;
 	}
@@ -96,15 +109,21 @@ public class WaveletTransformInt<T extends ImageInteger> implements WaveletTrans
 		copyInput.setTo(transformed);
 
 		if( original.getTypeInfo().getDataType() == int.class ) {
-			WaveletTransformOps.
-					inverseN(desc, copyInput, (ImageSInt32) original, temp, numLevels, minPixelValue, maxPixelValue);
+			inverseN(copyInput, (ImageSInt32) original);
 		} else {
 			copyOutput.reshape(original.width,original.height);
-			WaveletTransformOps.inverseN(desc, copyInput, copyOutput,temp,numLevels,minPixelValue,maxPixelValue);
+			inverseN(copyInput, copyOutput);
 			GeneralizedImageOps.convert(copyOutput,original);
 		}
 	}
 
+	private void inverseN( ImageSInt32 transformed , ImageSInt32 original ) {
+		if( concurrent )
+			WaveletTransformOps_MT.inverseN(desc, transformed, original, temp, numLevels, minPixelValue, maxPixelValue);
+		else
+			WaveletTransformOps.inverseN(desc, transformed, original, temp, numLevels, minPixelValue, maxPixelValue);
+	}
+
 	@Override
 	public int getLevels() {
 		return numLevels;
@@ -20,7 +20,10 @@ package boofcv.alg;
 
 import boofcv.core.image.GeneralizedImageOps;
 import boofcv.struct.image.ImageBase;
+import boofcv.struct.image.ImageBufferSingleBand;
+import boofcv.struct.image.ImageInterleaved;
 import boofcv.struct.image.ImageSingleBand;
+import boofcv.struct.image.MultiSpectral;
 
 /**
  * @author Peter Abeles
@@ -61,6 +64,44 @@ public class InputSanityCheck {
 		return output;
 	}
 
+	/**
+	 * If the output has not been declared a new instance is declared.  If an instance of the output
+	 * is provided its bounds are checked.
+	 */
+	public static <T extends ImageBufferSingleBand> T checkDeclare(T input, T output) {
+		if (output == null) {
+			output = (T) input._createNew(input.width, input.height);
+		} else if (output.width != input.width || output.height != input.height)
+			throw new IllegalArgumentException("Width and/or height of input and output do not match.");
+		return output;
+	}
+
+	/**
+	 * If the output has not been declared a new instance is declared.  If an instance of the output
+	 * is provided its bounds and number of bands are checked.
+	 */
+	public static <T extends ImageInterleaved> T checkDeclare(T input, T output) {
+		if (output == null) {
+			output = (T) input._createNew(input.width, input.height);
+		} else {
+			checkSameShape(input, output);
+		}
+		return output;
+	}
+
+	/**
+	 * If the output has not been declared a new instance is declared.  If an instance of the output
+	 * is provided its bounds and number of bands are checked.
+	 */
+	public static <T extends ImageSingleBand> MultiSpectral<T> checkDeclare(MultiSpectral<T> input, MultiSpectral<T> output) {
+		if (output == null) {
+			output = new MultiSpectral<T>(input.getType(), input.width, input.height, input.getNumBands());
+		} else {
+			checkSameShape(input, output);
+		}
+		return output;
+	}
+
 	public static <T extends ImageSingleBand> T checkDeclare(ImageSingleBand<?> input, T output , Class<T> outputType ) {
 		if (output == null) {
 			output = (T) GeneralizedImageOps.createSingleBand(outputType, input.width, input.height);
@@ -76,6 +117,24 @@ public class InputSanityCheck {
 			throw new IllegalArgumentException("Image heights do not match.");
 	}
 
+	/**
+	 * Checks to see if the two interleaved images have the same width, height, and number of bands.
+	 */
+	public static void checkSameShape(ImageInterleaved<?> imgA, ImageInterleaved<?> imgB) {
+		checkSameShape((ImageBase<?>)imgA, (ImageBase<?>)imgB);
+		if (imgA.numBands != imgB.numBands)
+			throw new IllegalArgumentException("Number of bands do not match.");
+	}
+
+	/**
+	 * Checks to see if the two multi-spectral images have the same width, height, and number of bands.
+	 */
+	public static void checkSameShape(MultiSpectral<?> imgA, MultiSpectral<?> imgB) {
+		checkSameShape((ImageBase<?>)imgA, (ImageBase<?>)imgB);
+		if (imgA.getNumBands() != imgB.getNumBands())
+			throw new IllegalArgumentException("Number of bands do not match.");
+	}
+
 	public static void checkSameShape(ImageBase<?> imgA, ImageBase<?> imgB, ImageBase<?> imgC) {
 		if (imgA.width != imgB.width || imgA.width != imgC.width)
 			throw new IllegalArgumentException("Image widths do not match.");
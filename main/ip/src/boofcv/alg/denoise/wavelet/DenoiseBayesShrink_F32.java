@@ -46,12 +46,23 @@ public class DenoiseBayesShrink_F32 extends SubbandShrink<ImageFloat32> {
 
 	float noiseVariance;
 
+	// storage used when estimating the noise
+	float work[] = new float[0];
+
 	public DenoiseBayesShrink_F32( ShrinkThresholdRule<ImageFloat32> rule ) {
 		super(rule);
 	}
 
+	/**
+	 * @param rule Shrinkage rule.
+	 * @param concurrent If true the subbands in each layer are processed concurrently.
+	 */
+	public DenoiseBayesShrink_F32( ShrinkThresholdRule<ImageFloat32> rule , boolean concurrent ) {
+		super(rule,concurrent);
+	}
+
 	@Override
-	protected Number computeThreshold( ImageFloat32 subband )
+	protected Number computeThreshold( ImageFloat32 subband , int which )
 	{
 		// the maximum magnitude coefficient is used to normalize all the other coefficients
 		// and reduce numerical round-off error
@@ -86,7 +97,9 @@ public class DenoiseBayesShrink_F32 extends SubbandShrink<ImageFloat32> {
 		int h = transform.height;
 
 		// compute the noise variance using the HH_1 subband
-		noiseVariance = UtilDenoiseWavelet.estimateNoiseStdDev(transform.subimage(w/2,h/2,w,h),null);
+		ImageFloat32 subbandHH = transform.subimage(w/2,h/2,w,h);
+		work = UtilDenoiseWavelet.declareStorage(subbandHH,work);
+		noiseVariance = UtilDenoiseWavelet.estimateNoiseStdDev(subbandHH,work);
 		noiseVariance *= noiseVariance;
 
 //		System.out.println("Noise Variance: "+noiseVariance);
@@ -45,26 +45,37 @@ public class DenoiseSureShrink_F32 extends SubbandShrink<ImageFloat32> {
 
 	float noiseSigma;
 
+	// storage for the sorted coefficients in each subband.  The last element is used when estimating the noise
+	float work[][] = new float[0][];
+
 	public DenoiseSureShrink_F32() {
-		super(new ShrinkThresholdSoft_F32());
+		this(false);
+	}
+
+	/**
+	 * @param concurrent If true the subbands in each layer are processed concurrently.
+	 */
+	public DenoiseSureShrink_F32( boolean concurrent ) {
+		super(new ShrinkThresholdSoft_F32(),concurrent);
 	}
 
 	@Override
-	protected Number computeThreshold( ImageFloat32 subband  )
+	protected Number computeThreshold( ImageFloat32 subband , int which )
 	{
-		float coef[] = new float[ subband.width*subband.height ];
+		float coef[] = work[which] = UtilDenoiseWavelet.declareStorage(subband,work[which]);
+		int length = subband.width*subband.height;
 		UtilDenoiseWavelet.subbandAbsVal(subband,coef);
-		Arrays.sort(coef);
+		Arrays.sort(coef,0,length);
 
 		float maxThreshold =(float) UtilDenoiseWavelet.universalThreshold(subband,1.0);
 
-		float N = coef.length;
+		float N = length;
 
 		float threshold = maxThreshold;
 		float bestRisk = Float.MAX_VALUE;
 		float sumW = 0;
 		float right = N-2.0f;
-		for( int i = 0; i < coef.length; i++ , right -= 2.0f) {
+		for( int i = 0; i < length; i++ , right -= 2.0f) {
 			float c = coef[i]/noiseSigma;
 			if( c > maxThreshold ) {
 				break;
@@ -88,8 +99,14 @@ public class DenoiseSureShrink_F32 extends SubbandShrink<ImageFloat32> {
 		int w = transform.width;
 		int h = transform.height;
 
+		if( work.length != numLevels*3+1 ) {
+			work = new float[numLevels*3+1][];
+		}
+
 		// compute the noise variance using the HH_1 subband
-		noiseSigma = UtilDenoiseWavelet.estimateNoiseStdDev(transform.subimage(w/2,h/2,w,h),null);
+		ImageFloat32 subbandHH = transform.subimage(w/2,h/2,w,h);
+		float noiseWork[] = work[numLevels*3] = UtilDenoiseWavelet.declareStorage(subbandHH,work[numLevels*3]);
+		noiseSigma = UtilDenoiseWavelet.estimateNoiseStdDev(subbandHH,noiseWork);
 
 //		System.out.println("Noise sigma: "+noiseSigma);
 
@@ -21,6 +21,8 @@ package boofcv.alg.denoise.wavelet;
 import boofcv.alg.denoise.DenoiseWavelet;
 import boofcv.alg.denoise.ShrinkThresholdRule;
 import boofcv.alg.transform.wavelet.UtilWavelet;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
 import boofcv.struct.image.ImageFloat32;
 
 
@@ -35,12 +37,33 @@ import boofcv.struct.image.ImageFloat32;
  * D. Donoho and I. Johnstone, "Ideal spatial adaption via wavelet shrinkage," Biometrics, Vol. 81, 425-455, 1994
  * </p>
  *
+ * <p>
+ * If concurrent then the threshold is applied to bands of rows at the same time.
+ * </p>
+ *
  * @author Peter Abeles
  */
 public class DenoiseVisuShrink_F32 implements DenoiseWavelet<ImageFloat32> {
 
 	ShrinkThresholdRule<ImageFloat32> rule = new ShrinkThresholdSoft_F32();
 
+	// if true the threshold is applied concurrently
+	boolean concurrent;
+
+	// storage used when estimating the noise
+	float work[] = new float[0];
+
+	public DenoiseVisuShrink_F32() {
+		this(false);
+	}
+
+	/**
+	 * @param concurrent If true the threshold is applied concurrently.
+	 */
+	public DenoiseVisuShrink_F32( boolean concurrent ) {
+		this.concurrent = concurrent;
+	}
+
 	/**
 	 * Applies VisuShrink denoising to the provided multilevel wavelet transform using
 	 * the provided threshold.
@@ -49,7 +72,7 @@ public class DenoiseVisuShrink_F32 implements DenoiseWavelet<ImageFloat32> {
 	 * @param numLevels Number of levels in the transform.
 	 */
 	@Override
-	public void denoise( ImageFloat32 transform , int numLevels ) {
+	public void denoise( final ImageFloat32 transform , int numLevels ) {
 		int scale = UtilWavelet.computeScale(numLevels);
 
 		final int h = transform.height;
@@ -60,11 +83,27 @@ public class DenoiseVisuShrink_F32 implements DenoiseWavelet<ImageFloat32> {
 		final int innerHeight = h/scale;
 
 		ImageFloat32 subbandHH = transform.subimage(w/2,h/2,w,h);
-		float sigma = UtilDenoiseWavelet.estimateNoiseStdDev(subbandHH,null);
-		float threshold = (float) UtilDenoiseWavelet.universalThreshold(subbandHH,sigma);
+		work = UtilDenoiseWavelet.declareStorage(subbandHH,work);
+		float sigma = UtilDenoiseWavelet.estimateNoiseStdDev(subbandHH,work);
+		final float threshold = (float) UtilDenoiseWavelet.universalThreshold(subbandHH,sigma);
 
 		// apply same threshold to all wavelet coefficients
-		rule.process(transform.subimage(innerWidth,0,w,h),threshold);
-		rule.process(transform.subimage(0,innerHeight,innerWidth,h),threshold);
+		if( concurrent ) {
+			BoofConcurrency.loopBlocks(0,h,new IntRangeTask() {
+				@Override
+				public void run(int y0, int y1) {
+					rule.process(transform.subimage(innerWidth,y0,w,y1),threshold);
+					if( y1 > innerHeight )
+						rule.process(transform.subimage(0,Math.max(y0,innerHeight),innerWidth,y1),threshold);
+				}
+			});
+		} else {
+			rule.process(transform.subimage(innerWidth,0,w,h),threshold);
+			rule.process(transform.subimage(0,innerHeight,innerWidth,h),threshold);
+		}
+	}
+
+	public boolean isConcurrent() {
+		return concurrent;
 	}
 }
@@ -20,12 +20,21 @@ package boofcv.alg.denoise.wavelet;
 
 import boofcv.alg.denoise.DenoiseWavelet;
 import boofcv.alg.denoise.ShrinkThresholdRule;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
 import boofcv.struct.image.ImageSingleBand;
 
 
 /**
+ * <p>
  * Performs an adaptive threshold based wavelet shrinkage across each of the wavelet subbands in each
  * layer of the transformed image.
+ * </p>
+ *
+ * <p>
+ * If concurrent then the three subbands in a layer are processed at the same time.  Subbands do not overlap and
+ * each one is only read and written to by a single thread.  See {@link BoofConcurrency}.
+ * </p>
  *
  * @author Peter Abeles
  */
@@ -34,17 +43,28 @@ public abstract class SubbandShrink<I extends ImageSingleBand<I>> implements Den
 	// specifies how the threshold is applied to each pixel in the image
 	protected ShrinkThresholdRule<I> rule;
 
+	// if true the subbands in each layer are processed concurrently
+	protected boolean concurrent;
+
 	protected SubbandShrink(ShrinkThresholdRule<I> rule) {
+		this(rule,false);
+	}
+
+	protected SubbandShrink(ShrinkThresholdRule<I> rule, boolean concurrent ) {
 		this.rule = rule;
+		this.concurrent = concurrent;
 	}
 
 	/**
-	 * Compute the threshold for the specified subband.
+	 * Compute the threshold for the specified subband.  If concurrent this can be called by several threads
+	 * at the same time, but never more than once at a time for the same subband.
 	 *
 	 * @param subband Subband whose threshold is being computed.
+	 * @param which Index of the subband, from 0 to 3*numLevels-1.  Can be used to look up work space
+	 *              which belongs to this subband.
 	 * @return
 	 */
-	protected abstract Number computeThreshold( I subband );
+	protected abstract Number computeThreshold( I subband , int which );
 
 	/**
 	 * Performs wavelet shrinking using the specified rule and by computing a threshold
@@ -53,6 +73,7 @@ public abstract class SubbandShrink<I extends ImageSingleBand<I>> implements Den
 	 * @param transform The image being transformed.
 	 * @param numLevels Number of levels in the transform.
 	 */
+	@SuppressWarnings({"unchecked"})
 	protected void performShrinkage( I transform , int numLevels ) {
 
 		// step through each layer in the pyramid.
@@ -61,32 +82,39 @@ public abstract class SubbandShrink<I extends ImageSingleBand<I>> implements Den
 			int h = transform.height;
 			int ww = w/2;
 			int hh = h/2;
-			Number threshold;
-			I subband;
-
-			// HL
-			subband = transform.subimage(ww,0,w,hh);
-			threshold = computeThreshold(subband);
-			rule.process(subband,threshold);
-
-//			System.out.print("HL = "+threshold);
 
-			// LH
-			subband = transform.subimage(0,hh,ww,h);
-			threshold = computeThreshold(subband);
-			rule.process(subband,threshold);
-
-//			System.out.print("  LH = "+threshold);
-
-			// HH
-			subband = transform.subimage(ww,hh,w,h);
-			threshold = computeThreshold(subband);
-			rule.process(subband,threshold);
-
-//			System.out.println("  HH = "+threshold);
+			// HL, LH, HH
+			final I subbands[] = (I[])new ImageSingleBand[3];
+			subbands[0] = transform.subimage(ww,0,w,hh);
+			subbands[1] = transform.subimage(0,hh,ww,h);
+			subbands[2] = transform.subimage(ww,hh,w,h);
+
+			final int indexLevel = i*3;
+			if( concurrent ) {
+				BoofConcurrency.loopBlocks(0,3,new IntRangeTask() {
+					@Override
+					public void run(int index0, int index1) {
+						for( int j = index0; j < index1; j++ ) {
+							shrink(subbands[j],indexLevel+j);
+						}
+					}
+				});
+			} else {
+				for( int j = 0; j < 3; j++ ) {
+					shrink(subbands[j],indexLevel+j);
+				}
+			}
 
 			transform = transform.subimage(0,0,ww,hh);
 		}
+	}
+
+	private void shrink( I subband , int which ) {
+		Number threshold = computeThreshold(subband,which);
+		rule.process(subband,threshold);
+	}
 
+	public boolean isConcurrent() {
+		return concurrent;
 	}
 }
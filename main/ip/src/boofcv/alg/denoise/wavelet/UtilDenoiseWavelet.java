@@ -58,6 +58,21 @@ public class UtilDenoiseWavelet {
 		return QuickSelectArray.select(storage, N / 2, N)/0.6745f;
 	}
 
+	/**
+	 * Returns an array which is large enough to store every element in the subband.  If the provided
+	 * array is large enough it is returned, otherwise a new one is declared.
+	 *
+	 * @param subband The subband which is to be stored.
+	 * @param storage Array which is to be reused.  Can be null.
+	 * @return Array with at least width*height elements.
+	 */
+	public static float[] declareStorage( ImageFloat32 subband , float storage[] ) {
+		int N = subband.width*subband.height;
+		if( storage == null || storage.length < N )
+			return new float[N];
+		return storage;
+	}
+
 	/**
 	 * Computes the absolute value of each element in the subband image are places it into
 	 * 'coef'
@@ -22,10 +22,13 @@ import boofcv.alg.interpolate.InterpolatePixel;
 import boofcv.core.image.border.ImageBorder;
 import boofcv.struct.distort.PixelTransform_F32;
 import boofcv.struct.image.ImageSingleBand;
+import georegression.struct.affine.Affine2D_F32;
 
 /**
  * Most basic implementation of {@link ImageDistort}. Computes the distortion from the dst to src image
- * for each pixel.  The dst pixel value is then set to the interpolated value of the src image.
+ * for each pixel.  The dst pixel value is then set to the interpolated value of the src image.  An entire
+ * row is interpolated at once using {@link InterpolatePixel#get(float[], float[], int, int, float[])}, or
+ * {@link InterpolatePixel#getRow} when the distortion is a scale and translation.
  *
  * @author Peter Abeles
  */
@@ -41,6 +44,11 @@ public abstract class ImageDistortBasic<T extends ImageSingleBand> implements Im
 	// crop boundary
 	private int x0,y0,x1,y1;
 
+	// location of each pixel in the current row inside the src image and its interpolated value
+	private float pointsX[] = new float[0];
+	private float pointsY[] = new float[0];
+	private float values[] = new float[0];
+
 	protected T srcImg;
 	protected T dstImg;
 
@@ -95,56 +103,83 @@ public abstract class ImageDistortBasic<T extends ImageSingleBand> implements Im
 
 		border.setImage(srcImg);
 
-		final float minInterpX = interp.getUnsafeBorderX();
-		final float minInterpY = interp.getUnsafeBorderY();
-		final float maxInterpX = srcImg.getWidth()-interp.getUnsafeBorderX();
-		final float maxInterpY = srcImg.getHeight()-interp.getUnsafeBorderY();
-
 		final float widthF = srcImg.getWidth();
 		final float heightF = srcImg.getHeight();
 
 		for( int y = y0; y < y1; y++ ) {
+			int length = interpolateRow(y);
 			int indexDst = dstImg.startIndex + dstImg.stride*y + x0;
-			for( int x = x0; x < x1; x++ , indexDst++ ) {
-				dstToSrc.compute(x,y);
-
-				if( dstToSrc.distX < minInterpX || dstToSrc.distX >= maxInterpX ||
-						dstToSrc.distY < minInterpY || dstToSrc.distY >= maxInterpY ) {
-					if( dstToSrc.distX < 0f || dstToSrc.distX >= widthF || dstToSrc.distY < 0f || dstToSrc.distY >= heightF )
-						assign(indexDst,(float)border.getGeneral((int)dstToSrc.distX,(int)dstToSrc.distY));
-					else
-						assign(indexDst,interp.get(dstToSrc.distX, dstToSrc.distY));
-				} else {
-					assign(indexDst,interp.get_unsafe(dstToSrc.distX, dstToSrc.distY));
-				}
+			for( int i = 0; i < length; i++ , indexDst++ ) {
+				float sx = pointsX[i];
+				float sy = pointsY[i];
+
+				if( sx < 0f || sx >= widthF || sy < 0f || sy >= heightF )
+					assign(indexDst,(float)border.getGeneral((int)sx,(int)sy));
+				else
+					assign(indexDst,values[i]);
 			}
 		}
 	}
 
 	public void applyNoBorder() {
-		final float minInterpX = interp.getUnsafeBorderX();
-		final float minInterpY = interp.getUnsafeBorderY();
-		final float maxInterpX = srcImg.getWidth()-interp.getUnsafeBorderX();
-		final float maxInterpY = srcImg.getHeight()-interp.getUnsafeBorderY();
-
 		final float widthF = srcImg.getWidth();
 		final float heightF = srcImg.getHeight();
 
 		for( int y = y0; y < y1; y++ ) {
+			int length = interpolateRow(y);
 			int indexDst = dstImg.startIndex + dstImg.stride*y + x0;
-			for( int x = x0; x < x1; x++ , indexDst++ ) {
-				dstToSrc.compute(x,y);
-
-				if( dstToSrc.distX < minInterpX || dstToSrc.distX >= maxInterpX ||
-						dstToSrc.distY < minInterpY || dstToSrc.distY >= maxInterpY ) {
-					if( dstToSrc.distX >= 0f && dstToSrc.distX < widthF && dstToSrc.distY >= 0f && dstToSrc.distY < heightF )
-						assign(indexDst,interp.get(dstToSrc.distX, dstToSrc.distY));
-				} else {
-					assign(indexDst,interp.get_unsafe(dstToSrc.distX, dstToSrc.distY));
-				}
+			for( int i = 0; i < length; i++ , indexDst++ ) {
+				float sx = pointsX[i];
+				float sy = pointsY[i];
+
+				if( sx >= 0f && sx < widthF && sy >= 0f && sy < heightF )
+					assign(indexDst,values[i]);
 			}
 		}
 	}
 
+	/**
+	 * Computes the location of each pixel in row 'y' inside the source image and interpolates all of them
+	 * at once.  If the transform is an affine transform which does not rotate or skew the image, e.g.
+	 * scaling an image, then the points are evenly spaced along a single row in the source image.
+	 *
+	 * @return Number of pixels in the row
+	 */
+	private int interpolateRow( int y ) {
+		int length = x1-x0;
+		if( values.length < length ) {
+			values = new float[length];
+			pointsX = new float[length];
+			pointsY = new float[length];
+		}
+
+		Affine2D_F32 affine = null;
+		if( dstToSrc instanceof PixelTransformAffine_F32 ) {
+			affine = ((PixelTransformAffine_F32)dstToSrc).getModel();
+			if( affine.a12 != 0 || affine.a21 != 0 )
+				affine = null;
+		}
+
+		if( affine != null ) {
+			dstToSrc.compute(x0,y);
+			float srcY = dstToSrc.distY;
+			float xF = x0;
+			for( int i = 0; i < length; i++ , xF++ ) {
+				pointsX[i] = affine.a11*xF + affine.tx;
+				pointsY[i] = srcY;
+			}
+			interp.getRow(srcY, affine.a11, affine.tx, x0, length, values);
+		} else {
+			for( int i = 0; i < length; i++ ) {
+				dstToSrc.compute(x0+i,y);
+				pointsX[i] = dstToSrc.distX;
+				pointsY[i] = dstToSrc.distY;
+			}
+			interp.get(pointsX, pointsY, 0, length, values);
+		}
+
+		return length;
+	}
+
 	protected abstract void assign( int indexDst , float value );
 }
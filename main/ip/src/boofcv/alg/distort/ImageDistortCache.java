@@ -22,7 +22,6 @@ import boofcv.alg.interpolate.InterpolatePixel;
 import boofcv.core.image.border.ImageBorder;
 import boofcv.struct.distort.PixelTransform_F32;
 import boofcv.struct.image.ImageSingleBand;
-import georegression.struct.point.Point2D_F32;
 
 /**
  * Except for very simple functions, computing the per pixel distortion is an expensive operation.
@@ -35,7 +34,10 @@ public abstract class ImageDistortCache<T extends ImageSingleBand> implements Im
 
 	// size of output image
 	private int width=-1,height=-1;
-	private Point2D_F32 map[];
+	// location of each dst pixel in the src image
+	private float mapX[],mapY[];
+	// storage for the interpolated values along a row
+	private float values[] = new float[0];
 	// sub pixel interpolation
 	private InterpolatePixel<T> interp;
 	// handle the image border
@@ -95,16 +97,15 @@ public abstract class ImageDistortCache<T extends ImageSingleBand> implements Im
 		if( width == -1 ) {
 			width = dstImg.width;
 			height = dstImg.height;
-			map = new Point2D_F32[width*height];
-			for( int i = 0; i < map.length; i++ ) {
-				map[i] = new Point2D_F32();
-			}
+			mapX = new float[width*height];
+			mapY = new float[width*height];
 
 			int index = 0;
 			for( int y = 0; y < height; y++ ) {
-				for( int x = 0; x < width; x++ ) {
+				for( int x = 0; x < width; x++ , index++ ) {
 					dstToSrc.compute(x,y);
-					map[index++].set(dstToSrc.distX,dstToSrc.distY);
+					mapX[index] = dstToSrc.distX;
+					mapY[index] = dstToSrc.distY;
 				}
 			}
 		} else if( dstImg.width != width || dstImg.height != height )
@@ -119,54 +120,55 @@ public abstract class ImageDistortCache<T extends ImageSingleBand> implements Im
 
 		border.setImage(srcImg);
 
-		final float minInterpX = interp.getUnsafeBorderX();
-		final float minInterpY = interp.getUnsafeBorderY();
-		final float maxInterpX = srcImg.getWidth()-interp.getUnsafeBorderX();
-		final float maxInterpY = srcImg.getHeight()-interp.getUnsafeBorderY();
-
 		final float widthF = srcImg.getWidth();
 		final float heightF = srcImg.getHeight();
 
+		final int length = x1-x0;
+		declareValues(length);
+
 		for( int y = y0; y < y1; y++ ) {
+			int indexMap = y*width + x0;
+			interp.get(mapX, mapY, indexMap, length, values);
+
 			int indexDst = dstImg.startIndex + dstImg.stride*y + x0;
-			for( int x = x0; x < x1; x++ , indexDst++ ) {
-				Point2D_F32 s = map[indexDst];
-
-				if( s.x < minInterpX || s.x >= maxInterpX || s.y < minInterpY || s.y >= maxInterpY ) {
-					if( s.x < 0f || s.x >= widthF || s.y < 0f || s.y >= heightF )
-						assign(indexDst,(float)border.getGeneral((int)s.x,(int)s.y));
-					else
-						assign(indexDst,interp.get(s.x, s.y));
-				} else {
-					assign(indexDst,interp.get_unsafe(s.x, s.y));
-				}
+			for( int i = 0; i < length; i++ , indexDst++ , indexMap++ ) {
+				float sx = mapX[indexMap];
+				float sy = mapY[indexMap];
+
+				if( sx < 0f || sx >= widthF || sy < 0f || sy >= heightF )
+					assign(indexDst,(float)border.getGeneral((int)sx,(int)sy));
+				else
+					assign(indexDst,values[i]);
 			}
 		}
 	}
 
 	public void applyNoBorder() {
-		final float minInterpX = interp.getUnsafeBorderX();
-		final float minInterpY = interp.getUnsafeBorderY();
-		final float maxInterpX = srcImg.getWidth()-interp.getUnsafeBorderX();
-		final float maxInterpY = srcImg.getHeight()-interp.getUnsafeBorderY();
-
 		final float widthF = srcImg.getWidth();
 		final float heightF = srcImg.getHeight();
 
+		final int length = x1-x0;
+		declareValues(length);
+
 		for( int y = y0; y < y1; y++ ) {
+			int indexMap = y*width + x0;
+			interp.get(mapX, mapY, indexMap, length, values);
+
 			int indexDst = dstImg.startIndex + dstImg.stride*y + x0;
-			for( int x = x0; x < x1; x++ , indexDst++ ) {
-				Point2D_F32 s = map[indexDst];
-
-				if( s.x < minInterpX || s.x >= maxInterpX || s.y < minInterpY || s.y >= maxInterpY ) {
-					if( s.x >= 0f && s.x < widthF && s.y >= 0f && s.y < heightF )
-						assign(indexDst,interp.get(s.x, s.y));
-				} else {
-					assign(indexDst,interp.get_unsafe(s.x, s.y));
-				}
+			for( int i = 0; i < length; i++ , indexDst++ , indexMap++ ) {
+				float sx = mapX[indexMap];
+				float sy = mapY[indexMap];
+
+				if( sx >= 0f && sx < widthF && sy >= 0f && sy < heightF )
+					assign(indexDst,values[i]);
 			}
 		}
 	}
 
+	private void declareValues( int length ) {
+		if( values.length < length )
+			values = new float[length];
+	}
+
 	protected abstract void assign( int indexDst , float value );
 }
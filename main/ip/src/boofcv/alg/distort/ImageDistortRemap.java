@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.distort;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
+import boofcv.core.image.border.ImageBorder;
+import boofcv.struct.distort.PixelTransform_F32;
+import boofcv.struct.image.ImageSingleBand;
+
+/**
+ * <p>
+ * Image distortion with bilinear interpolation which precomputes a compact remap table.  For each pixel in the
+ * destination image the table stores the integer coordinate of the source pixel and the sub-pixel
+ * location inside of it using {@link #FRACTION_BITS} bits, which is 6 bytes per pixel.  The table is computed the first
+ * time the distortion is applied and recomputed when the model changes.  This makes it faster and much
+ * more memory efficient than {@link ImageDistortCache} when the same distortion is applied to many images, such
+ * as when removing lens distortion from a video.
+ * </p>
+ *
+ * <p>
+ * Pixels in the destination image can be processed in bands of rows concurrently.  The interpolated value is only
+ * accurate to 1/2<sup>{@link #FRACTION_BITS}</sup> of a pixel and integer images are interpolated using fixed point
+ * math, so the output will be slightly different from {@link ImageDistortBasic} with bilinear interpolation.
+ * The source image must be smaller than 32767 pixels along each side.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public abstract class ImageDistortRemap<T extends ImageSingleBand> implements ImageDistort<T> {
+
+	/**
+	 * Number of bits used to store the sub-pixel location
+	 */
+	public static final int FRACTION_BITS = 8;
+	/**
+	 * Fixed point value of one pixel
+	 */
+	public static final int ONE = 1 << FRACTION_BITS;
+
+	// distortion model from the dst to src image
+	private PixelTransform_F32 dstToSrc;
+	// handle the image border
+	protected ImageBorder<T> border;
+	// should bands of rows be processed concurrently
+	private boolean concurrent;
+
+	// size of output image the table was computed for
+	private int width=-1,height=-1;
+	// integer coordinate of the source pixel
+	protected short mapX[],mapY[];
+	// sub-pixel location inside the source pixel.  Read using & 0xFF
+	protected byte fracX[],fracY[];
+
+	// crop boundary
+	protected int x0,x1;
+
+	protected T srcImg;
+	protected T dstImg;
+
+	/**
+	 * Specifies configuration parameters
+	 *
+	 * @param border How borders are handled.  If null pixels outside the source image are not modified.
+	 * @param concurrent If true bands of rows are processed concurrently
+	 */
+	public ImageDistortRemap(ImageBorder<T> border, boolean concurrent) {
+		this.border = border;
+		this.concurrent = concurrent;
+	}
+
+	@Override
+	public void setModel(PixelTransform_F32 dstToSrc) {
+		this.dstToSrc = dstToSrc;
+		// force the table to be recomputed
+		width = -1;
+	}
+
+	@Override
+	public void apply(T srcImg, T dstImg) {
+		apply(srcImg,dstImg,0,0,dstImg.width,dstImg.height);
+	}
+
+	@Override
+	public void apply(T srcImg, T dstImg, int dstX0, int dstY0, int dstX1, int dstY1) {
+		init(srcImg, dstImg);
+
+		x0 = dstX0;x1 = dstX1;
+
+		if( border != null )
+			border.setImage(srcImg);
+
+		if( concurrent ) {
+			BoofConcurrency.loopBlocks(dstY0,dstY1,new IntRangeTask() {
+				@Override
+				public void run(int y0, int y1) {
+					applyRows(y0, y1);
+				}
+			});
+		} else {
+			applyRows(dstY0,dstY1);
+		}
+	}
+
+	private void init(T srcImg, T dstImg) {
+		if( srcImg.width >= Short.MAX_VALUE || srcImg.height >= Short.MAX_VALUE )
+			throw new IllegalArgumentException("Source image is too large");
+
+		if( width == -1 ) {
+			width = dstImg.width;
+			height = dstImg.height;
+			computeTable();
+		} else if( dstImg.width != width || dstImg.height != height )
+			throw new IllegalArgumentException("Unexpected dstImg dimension");
+
+		this.srcImg = srcImg;
+		this.dstImg = dstImg;
+	}
+
+	/**
+	 * Computes the source pixel for every pixel in the destination image
+	 */
+	private void computeTable() {
+		int N = width*height;
+		if( mapX == null || mapX.length < N ) {
+			mapX = new short[N];
+			mapY = new short[N];
+			fracX = new byte[N];
+			fracY = new byte[N];
+		}
+
+		int index = 0;
+		for( int y = 0; y < height; y++ ) {
+			for( int x = 0; x < width; x++ , index++ ) {
+				dstToSrc.compute(x,y);
+
+				float sx = dstToSrc.distX;
+				float sy = dstToSrc.distY;
+
+				int ix = toInteger(sx);
+				int iy = toInteger(sy);
+				mapX[index] = (short)ix;
+				mapY[index] = (short)iy;
+				fracX[index] = (byte)toFraction(sx, ix);
+				fracY[index] = (byte)toFraction(sy, iy);
+			}
+		}
+	}
+
+	/**
+	 * Rounds the coordinate down to the nearest integer which can be stored in a short.  Coordinates which
+	 * are outside of that range, or are not a number, are outside of any allowed source image.
+	 */
+	private static int toInteger( float value ) {
+		if( !(value >= Short.MIN_VALUE) )
+			return Short.MIN_VALUE;
+		if( value > Short.MAX_VALUE )
+			return Short.MAX_VALUE;
+		return (int)Math.floor(value);
+	}
+
+	/**
+	 * Sub-pixel location in fixed point.  Rounding can't move the pixel into the next integer coordinate since
+	 * that could move it outside the image.  Negative coordinates are never interpolated and only record if
+	 * the coordinate had a fractional part, see {@link #truncate}.
+	 */
+	private static int toFraction( float value , int integer ) {
+		if( value < Short.MIN_VALUE || value > Short.MAX_VALUE || value != value )
+			return 0;
+		if( integer < 0 )
+			return value != integer ? 1 : 0;
+		int f = (int)((value - integer)*ONE + 0.5f);
+		return f >= ONE ? ONE-1 : f;
+	}
+
+	/**
+	 * Rounds the coordinate towards zero, which is the pixel {@link ImageDistortBasic} requests from the border.
+	 *
+	 * @param integer Integer coordinate from the table.
+	 * @param fraction Sub-pixel location from the table.
+	 */
+	protected static int truncate( int integer , byte fraction ) {
+		return integer < 0 && fraction != 0 ? integer + 1 : integer;
+	}
+
+	/**
+	 * Distorts all the pixels inside the crop boundary in rows y0 to y1-1.
+	 */
+	protected abstract void applyRows( int y0 , int y1 );
+
+	public boolean isConcurrent() {
+		return concurrent;
+	}
+
+	public void setConcurrent(boolean concurrent) {
+		this.concurrent = concurrent;
+	}
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.distort.impl;
+
+import boofcv.alg.distort.ImageDistortRemap;
+import boofcv.core.image.border.ImageBorder;
+import boofcv.struct.image.ImageFloat32;
+
+/**
+ * Implementation of {@link ImageDistortRemap} for {@link ImageFloat32}.
+ *
+ * @author Peter Abeles
+ */
+public class ImplImageDistortRemap_F32 extends ImageDistortRemap<ImageFloat32> {
+
+	// converts the fixed point sub-pixel location into a float
+	private static final float SCALE = 1.0f/ONE;
+
+	public ImplImageDistortRemap_F32(ImageBorder<ImageFloat32> border, boolean concurrent) {
+		super(border, concurrent);
+	}
+
+	@Override
+	protected void applyRows(int y0, int y1) {
+		final float src[] = srcImg.data;
+		final float dst[] = dstImg.data;
+		final int stride = srcImg.stride;
+		final int lastX = srcImg.width-1;
+		final int lastY = srcImg.height-1;
+
+		for( int y = y0; y < y1; y++ ) {
+			int indexDst = dstImg.startIndex + dstImg.stride*y + x0;
+			int indexMap = y*dstImg.width + x0;
+			for( int x = x0; x < x1; x++ , indexDst++ , indexMap++ ) {
+				int sx = mapX[indexMap];
+				int sy = mapY[indexMap];
+
+				if( sx < 0 || sy < 0 || sx > lastX || sy > lastY ) {
+					if( border != null )
+						dst[indexDst] = (float)border.getGeneral(truncate(sx,fracX[indexMap]),truncate(sy,fracY[indexMap]));
+					continue;
+				}
+
+				int indexSrc = srcImg.startIndex + sy*stride + sx;
+				// the last row and column are interpolated by double counting pixels
+				int dx = sx == lastX ? 0 : 1;
+				int dy = sy == lastY ? 0 : stride;
+
+				float ax = (fracX[indexMap] & 0xFF)*SCALE;
+				float ay = (fracY[indexMap] & 0xFF)*SCALE;
+
+				float p00 = src[indexSrc];
+				float p10 = src[indexSrc+dx];
+				float p01 = src[indexSrc+dy];
+				float p11 = src[indexSrc+dx+dy];
+
+				float top = p00 + ax*(p10-p00);
+				float bottom = p01 + ax*(p11-p01);
+
+				dst[indexDst] = top + ay*(bottom-top);
+			}
+		}
+	}
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.distort.impl;
+
+import boofcv.alg.distort.ImageDistortRemap;
+import boofcv.core.image.border.ImageBorder;
+import boofcv.struct.image.ImageUInt8;
+
+/**
+ * Implementation of {@link ImageDistortRemap} for {@link ImageUInt8}.  Interpolation is done using fixed point math and
+ * the result is rounded.
+ *
+ * @author Peter Abeles
+ */
+public class ImplImageDistortRemap_U8 extends ImageDistortRemap<ImageUInt8> {
+
+	// half of one in the fixed point format of the interpolated value
+	private static final int HALF = 1 << (2*FRACTION_BITS-1);
+
+	public ImplImageDistortRemap_U8(ImageBorder<ImageUInt8> border, boolean concurrent) {
+		super(border, concurrent);
+	}
+
+	@Override
+	protected void applyRows(int y0, int y1) {
+		final byte src[] = srcImg.data;
+		final byte dst[] = dstImg.data;
+		final int stride = srcImg.stride;
+		final int lastX = srcImg.width-1;
+		final int lastY = srcImg.height-1;
+
+		for( int y = y0; y < y1; y++ ) {
+			int indexDst = dstImg.startIndex + dstImg.stride*y + x0;
+			int indexMap = y*dstImg.width + x0;
+			for( int x = x0; x < x1; x++ , indexDst++ , indexMap++ ) {
+				int sx = mapX[indexMap];
+				int sy = mapY[indexMap];
+
+				if( sx < 0 || sy < 0 || sx > lastX || sy > lastY ) {
+					if( border != null )
+						dst[indexDst] = (byte)border.getGeneral(truncate(sx,fracX[indexMap]),truncate(sy,fracY[indexMap]));
+					continue;
+				}
+
+				int indexSrc = srcImg.startIndex + sy*stride + sx;
+				// the last row and column are interpolated by double counting pixels
+				int dx = sx == lastX ? 0 : 1;
+				int dy = sy == lastY ? 0 : stride;
+
+				int ax = fracX[indexMap] & 0xFF;
+				int ay = fracY[indexMap] & 0xFF;
+
+				int p00 = src[indexSrc] & 0xFF;
+				int p10 = src[indexSrc+dx] & 0xFF;
+				int p01 = src[indexSrc+dy] & 0xFF;
+				int p11 = src[indexSrc+dx+dy] & 0xFF;
+
+				// interpolate along x and then along y
+				int top = (p00 << FRACTION_BITS) + ax*(p10-p00);
+				int bottom = (p01 << FRACTION_BITS) + ax*(p11-p01);
+				int value = (top << FRACTION_BITS) + ay*(bottom-top);
+
+				dst[indexDst] = (byte)((value + HALF) >> (2*FRACTION_BITS));
+			}
+		}
+	}
+}
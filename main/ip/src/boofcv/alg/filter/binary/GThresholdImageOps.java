@@ -18,6 +18,7 @@
 
 package boofcv.alg.filter.binary;
 
+import boofcv.alg.InputSanityCheck;
 import boofcv.struct.image.*;
 
 
@@ -156,4 +157,64 @@ public class GThresholdImageOps {
 			throw new IllegalArgumentException("Unknown image type: "+input.getClass().getSimpleName());
 		}
 	}
+
+	/**
+	 * Thresholds the image using the mean of the local square region around each pixel.  See
+	 * {@link ThresholdLocalMean}.  To avoid declaring work space each time, use
+	 * {@link boofcv.factory.filter.binary.FactoryThresholdBinary} instead.
+	 *
+	 * @param input Input image.  {@link ImageUInt8} or {@link ImageFloat32}.  Not modified.
+	 * @param output Binary output image. If null a new image will be declared. Modified.
+	 * @param radius Radius of the square region.
+	 * @param scale The local mean is multiplied by this value to find the threshold.  Try 0.95
+	 * @param down If true inliers are below the threshold and false they are above the threshold.
+	 * @return Output image.
+	 */
+	public static <T extends ImageSingleBand>
+	ImageUInt8 localMean( T input , ImageUInt8 output , int radius , double scale , boolean down )
+	{
+		output = InputSanityCheck.checkDeclare(input,output,ImageUInt8.class);
+		new ThresholdLocalMean<T>(radius,scale,down,false,(Class<T>)input.getClass()).process(input,output);
+		return output;
+	}
+
+	/**
+	 * Thresholds the image using the Sauvola rule.  See {@link ThresholdSauvola}.  To avoid declaring work space
+	 * each time, use {@link boofcv.factory.filter.binary.FactoryThresholdBinary} instead.
+	 *
+	 * @param input Input image with pixel values from 0 to 255.  {@link ImageUInt8} or {@link ImageFloat32}.
+	 *              Not modified.
+	 * @param output Binary output image. If null a new image will be declared. Modified.
+	 * @param radius Radius of the square region.
+	 * @param k Positive parameter which controls how much the threshold is lowered in low contrast regions.
+	 *          Try 0.3
+	 * @param down If true inliers are below the threshold and false they are above the threshold.
+	 * @return Output image.
+	 */
+	public static <T extends ImageSingleBand>
+	ImageUInt8 localSauvola( T input , ImageUInt8 output , int radius , double k , boolean down )
+	{
+		output = InputSanityCheck.checkDeclare(input,output,ImageUInt8.class);
+		new ThresholdSauvola<T>(radius,k,128,down,false,(Class<T>)input.getClass()).process(input,output);
+		return output;
+	}
+
+	/**
+	 * Thresholds the image using the Niblack rule.  See {@link ThresholdNiblack}.  To avoid declaring work space
+	 * each time, use {@link boofcv.factory.filter.binary.FactoryThresholdBinary} instead.
+	 *
+	 * @param input Input image.  {@link ImageUInt8} or {@link ImageFloat32}.  Not modified.
+	 * @param output Binary output image. If null a new image will be declared. Modified.
+	 * @param radius Radius of the square region.
+	 * @param k Multiple of the standard deviation that's added to the mean.  Try -0.2 when thresholding down.
+	 * @param down If true inliers are below the threshold and false they are above the threshold.
+	 * @return Output image.
+	 */
+	public static <T extends ImageSingleBand>
+	ImageUInt8 localNiblack( T input , ImageUInt8 output , int radius , double k , boolean down )
+	{
+		output = InputSanityCheck.checkDeclare(input,output,ImageUInt8.class);
+		new ThresholdNiblack<T>(radius,k,down,false,(Class<T>)input.getClass()).process(input,output);
+		return output;
+	}
 }
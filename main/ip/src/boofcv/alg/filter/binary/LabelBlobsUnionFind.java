@@ -0,0 +1,410 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.binary;
+
+import boofcv.alg.InputSanityCheck;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
+import boofcv.struct.GrowQueue_I32;
+import boofcv.struct.image.ImageSInt32;
+import boofcv.struct.image.ImageUInt8;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <p>
+ * Connects pixels in a binary image together into blobs and uniquely labels each blob.  Produces the same
+ * labels as {@link BinaryImageOps#labelBlobs4} and {@link BinaryImageOps#labelBlobs8}, but is implemented using
+ * a union-find data structure stored in primitive arrays.  Work space is saved between calls, so it is
+ * best to reuse the same instance when processing a sequence of images.
+ * </p>
+ *
+ * <p>
+ * The image is split into bands of rows.  Each band is labeled independently, which can be done concurrently,
+ * then labels which touch along the seam between two bands are merged.  Final labels are assigned in the same
+ * order as {@link BinaryImageOps}, which is the order in which the last provisional label inside each blob
+ * was created when scanning the image in a raster pattern.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class LabelBlobsUnionFind {
+
+	// minimum number of rows in each band when processing concurrently
+	public static final int MIN_BAND_ROWS = 32;
+
+	// if true an 8-connect rule is used, otherwise 4-connect
+	private boolean rule8;
+	// if true then bands are labeled concurrently
+	private boolean concurrent;
+
+	// provisional labels found in each band
+	private List<Band> bands = new ArrayList<Band>();
+	private int numBands;
+
+	// union-find forest and creation index for all provisional labels in the image
+	private GrowQueue_I32 parent = new GrowQueue_I32();
+	private GrowQueue_I32 created = new GrowQueue_I32();
+	// look up table from provisional label to final label
+	private GrowQueue_I32 lut = new GrowQueue_I32();
+	// used to sort blobs by creation index
+	private long sort[] = new long[0];
+
+	// input images
+	private ImageUInt8 input;
+	private ImageSInt32 output;
+
+	/**
+	 * Configures the labeling algorithm
+	 *
+	 * @param rule8 true for an 8-connect rule or false for 4-connect.
+	 * @param concurrent If true bands are labeled concurrently using {@link BoofConcurrency}.
+	 */
+	public LabelBlobsUnionFind(boolean rule8, boolean concurrent) {
+		this.rule8 = rule8;
+		this.concurrent = concurrent;
+	}
+
+	/**
+	 * Labels all the blobs in the binary image
+	 *
+	 * @param input Binary input image. Not modified.
+	 * @param output The labeled blob image. Modified.
+	 * @return How many blobs were found.
+	 */
+	public int process( ImageUInt8 input , ImageSInt32 output ) {
+		InputSanityCheck.checkSameShape(input, output);
+		this.input = input;
+		this.output = output;
+
+		declareBands();
+
+		// label each band independently
+		if( concurrent && numBands > 1 ) {
+			BoofConcurrency.loopBlocks(0,numBands,new IntRangeTask() {
+				@Override
+				public void run(int index0, int index1) {
+					for( int i = index0; i < index1; i++ )
+						labelBand(bands.get(i));
+				}
+			});
+		} else {
+			for( int i = 0; i < numBands; i++ )
+				labelBand(bands.get(i));
+		}
+
+		mergeBands();
+		int numBlobs = assignFinalLabels();
+
+		// apply the final labels
+		if( concurrent && numBands > 1 ) {
+			BoofConcurrency.loopBlocks(0,numBands,new IntRangeTask() {
+				@Override
+				public void run(int index0, int index1) {
+					for( int i = index0; i < index1; i++ )
+						relabelBand(bands.get(i));
+				}
+			});
+		} else {
+			for( int i = 0; i < numBands; i++ )
+				relabelBand(bands.get(i));
+		}
+
+		this.input = null;
+		this.output = null;
+
+		return numBlobs;
+	}
+
+	/**
+	 * Splits the image into bands of rows
+	 */
+	private void declareBands() {
+		int height = input.height;
+		if( concurrent )
+			numBands = Math.max(1,Math.min(BoofConcurrency.getMaxThreads(), height/MIN_BAND_ROWS));
+		else
+			numBands = 1;
+
+		while( bands.size() < numBands )
+			bands.add( new Band() );
+
+		for( int i = 0; i < numBands; i++ ) {
+			Band b = bands.get(i);
+			b.y0 = height*i/numBands;
+			b.y1 = height*(i+1)/numBands;
+		}
+	}
+
+	/**
+	 * Assigns provisional labels to pixels inside the band.  Only pixels inside the band are examined when
+	 * connecting pixels, but the row above the band is used to identify where provisional labels would
+	 * have been created if the whole image was processed at once.
+	 */
+	private void labelBand( Band band ) {
+		final int width = input.width;
+		final int stride = output.stride;
+		final int data[] = output.data;
+
+		GrowQueue_I32 parent = band.parent;
+		GrowQueue_I32 created = band.created;
+		parent.reset();
+		created.reset();
+		// background
+		parent.add(0);
+		created.add(-1);
+
+		for( int y = band.y0; y < band.y1; y++ ) {
+			int indexIn = input.startIndex + y*input.stride;
+			int indexOut = output.startIndex + y*stride;
+			boolean firstRow = y == band.y0;
+
+			for( int x = 0; x < width; x++ , indexIn++ , indexOut++ ) {
+				if( input.data[indexIn] == 0 ) {
+					data[indexOut] = 0;
+					continue;
+				}
+
+				int left = x > 0 ? data[indexOut-1] : 0;
+				int label;
+
+				if( firstRow ) {
+					label = left;
+				} else if( rule8 ) {
+					int up = data[indexOut-stride];
+					if( up != 0 ) {
+						// left and the upper corners are already connected to up
+						label = up;
+					} else {
+						int upLeft = x > 0 ? data[indexOut-stride-1] : 0;
+						int upRight = x < width-1 ? data[indexOut-stride+1] : 0;
+
+						if( upRight != 0 ) {
+							label = upRight;
+							// left and upper left are already connected to each other
+							if( upLeft != 0 )
+								union(parent.data,upRight,upLeft);
+							else if( left != 0 )
+								union(parent.data,upRight,left);
+						} else {
+							label = upLeft != 0 ? upLeft : left;
+						}
+					}
+				} else {
+					int up = data[indexOut-stride];
+					if( up != 0 ) {
+						label = up;
+						if( left != 0 )
+							union(parent.data,up,left);
+					} else {
+						label = left;
+					}
+				}
+
+				if( label == 0 ) {
+					label = parent.size;
+					parent.add(label);
+					created.add(-1);
+
+					// see if the label would also be created when processing the whole image
+					if( !firstRow || y == 0 || !isConnectedAbove(x,y) )
+						created.data[label] = y*width + x;
+				}
+
+				data[indexOut] = label;
+			}
+		}
+	}
+
+	/**
+	 * Checks to see if the pixel is connected to a pixel in the row above it
+	 */
+	private boolean isConnectedAbove( int x , int y ) {
+		int index = input.startIndex + (y-1)*input.stride + x;
+		if( input.data[index] != 0 )
+			return true;
+		if( rule8 ) {
+			if( x > 0 && input.data[index-1] != 0 )
+				return true;
+			if( x < input.width-1 && input.data[index+1] != 0 )
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Combines the provisional labels in each band into a single forest and connects labels
+	 * which touch along the seams between bands.
+	 */
+	private void mergeBands() {
+		int total = 1;
+		for( int i = 0; i < numBands; i++ ) {
+			Band b = bands.get(i);
+			b.offset = total-1;
+			total += b.parent.size-1;
+		}
+
+		parent.resize(total);
+		created.resize(total);
+		parent.data[0] = 0;
+		created.data[0] = -1;
+
+		for( int i = 0; i < numBands; i++ ) {
+			Band b = bands.get(i);
+			for( int j = 1; j < b.parent.size; j++ ) {
+				parent.data[j+b.offset] = b.parent.data[j]+b.offset;
+				created.data[j+b.offset] = b.created.data[j];
+			}
+		}
+
+		final int width = input.width;
+		final int stride = output.stride;
+		final int data[] = output.data;
+
+		for( int i = 1; i < numBands; i++ ) {
+			Band above = bands.get(i-1);
+			Band b = bands.get(i);
+
+			int indexOut = output.startIndex + b.y0*stride;
+			for( int x = 0; x < width; x++ , indexOut++ ) {
+				int label = data[indexOut];
+				if( label == 0 )
+					continue;
+				label += b.offset;
+
+				int up = data[indexOut-stride];
+				if( up != 0 )
+					union(parent.data,label,up+above.offset);
+				if( rule8 ) {
+					if( x > 0 && (up = data[indexOut-stride-1]) != 0 )
+						union(parent.data,label,up+above.offset);
+					if( x < width-1 && (up = data[indexOut-stride+1]) != 0 )
+						union(parent.data,label,up+above.offset);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Computes the look up table from provisional label to final label.
+	 *
+	 * @return Number of blobs
+	 */
+	private int assignFinalLabels() {
+		final int total = parent.size;
+		final int parent[] = this.parent.data;
+		final int created[] = this.created.data;
+
+		// each root will store the most recent creation index of any label in the blob
+		for( int i = 1; i < total; i++ ) {
+			int root = find(parent,i);
+			parent[i] = root;
+			if( created[i] > created[root] )
+				created[root] = created[i];
+		}
+
+		if( sort.length < total )
+			sort = new long[total];
+
+		int numBlobs = 0;
+		for( int i = 1; i < total; i++ ) {
+			if( parent[i] == i )
+				sort[numBlobs++] = ((long)created[i] << 32) | i;
+		}
+		Arrays.sort(sort,0,numBlobs);
+
+		lut.resize(total);
+		lut.data[0] = 0;
+		for( int i = 0; i < numBlobs; i++ ) {
+			lut.data[(int)sort[i]] = i+1;
+		}
+		for( int i = 1; i < total; i++ ) {
+			lut.data[i] = lut.data[parent[i]];
+		}
+
+		return numBlobs;
+	}
+
+	/**
+	 * Changes the provisional labels in the band into their final labels
+	 */
+	private void relabelBand( Band band ) {
+		final int lut[] = this.lut.data;
+		final int data[] = output.data;
+		final int offset = band.offset;
+
+		for( int y = band.y0; y < band.y1; y++ ) {
+			int index = output.startIndex + y*output.stride;
+			int end = index + output.width;
+
+			for( ; index < end; index++ ) {
+				int label = data[index];
+				if( label != 0 )
+					data[index] = lut[label+offset];
+			}
+		}
+	}
+
+	/**
+	 * Finds the root of the set which contains the label.  Uses path halving to flatten the tree.
+	 */
+	private static int find( int parent[] , int label ) {
+		while( parent[label] != label ) {
+			parent[label] = parent[parent[label]];
+			label = parent[label];
+		}
+		return label;
+	}
+
+	/**
+	 * Merges the sets which contain the two labels.  The smaller label becomes the root.
+	 */
+	private static void union( int parent[] , int a , int b ) {
+		a = find(parent,a);
+		b = find(parent,b);
+		if( a < b )
+			parent[b] = a;
+		else if( b < a )
+			parent[a] = b;
+	}
+
+	public boolean isRule8() {
+		return rule8;
+	}
+
+	public boolean isConcurrent() {
+		return concurrent;
+	}
+
+	/**
+	 * Provisional labels found inside a band of rows
+	 */
+	private static class Band {
+		// rows in the band
+		int y0,y1;
+		// offset applied to convert the band's labels into labels for the whole image
+		int offset;
+		// union-find forest of provisional labels
+		GrowQueue_I32 parent = new GrowQueue_I32();
+		// raster index where each label was created or -1 if it would not have been created
+		GrowQueue_I32 created = new GrowQueue_I32();
+	}
+}
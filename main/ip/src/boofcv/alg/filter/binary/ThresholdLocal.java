@@ -0,0 +1,271 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.binary;
+
+import boofcv.alg.InputSanityCheck;
+import boofcv.alg.filter.binary.impl.ImplThresholdLocal;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageSingleBand;
+import boofcv.struct.image.ImageUInt8;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>
+ * Base class for adaptive thresholds which compute a different threshold for each pixel from the mean and variance
+ * of the pixels inside a square region around it.  The region has a width of 2*radius+1 and is truncated by
+ * the image border.
+ * </p>
+ *
+ * <p>
+ * The statistics are found in a single pass using a sliding window.  The sum of each column inside the
+ * region is updated as the window moves down one row, then the sum of the region is updated as it moves along
+ * the row.  No images are declared and the work space is saved between calls, so after the first call nothing is
+ * declared as long as the image width does not grow.  If concurrent, bands of rows are processed at the same time,
+ * each with its own column sums.  Supports {@link ImageUInt8} and {@link ImageFloat32}.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public abstract class ThresholdLocal<T extends ImageSingleBand> {
+
+	// radius of the square region
+	protected int radius;
+	// true if inliers are below the threshold
+	protected boolean down;
+	// if true the variance is computed too
+	protected boolean needsVariance;
+	// should bands of rows be processed at the same time
+	protected boolean concurrent;
+
+	protected Class<T> inputType;
+
+	// work space which can be used by a band
+	private final List<Band> available = new ArrayList<Band>();
+
+	/**
+	 * Configures the threshold.
+	 *
+	 * @param radius Radius of the square region.  Must be &ge; 1.
+	 * @param down If true inliers are below the threshold and false they are above the threshold.
+	 * @param needsVariance If true the variance will be computed along with the mean.
+	 * @param concurrent If true bands of rows are processed at the same time.
+	 * @param inputType Type of input image.
+	 */
+	protected ThresholdLocal(int radius, boolean down, boolean needsVariance, boolean concurrent,
+							 Class<T> inputType) {
+		if( radius < 1 )
+			throw new IllegalArgumentException("Radius must be at least one");
+		if( inputType != ImageUInt8.class && inputType != ImageFloat32.class )
+			throw new IllegalArgumentException("Unsupported image type: "+inputType.getSimpleName());
+
+		this.radius = radius;
+		this.down = down;
+		this.needsVariance = needsVariance;
+		this.concurrent = concurrent;
+		this.inputType = inputType;
+	}
+
+	/**
+	 * Computes the threshold for each pixel in a row from the statistics of its local region.
+	 *
+	 * @param mean Mean of the region around each pixel.
+	 * @param variance Variance of the region around each pixel.  Only valid if the variance is needed.
+	 * @param threshold (Output) Threshold for each pixel.
+	 * @param width Number of pixels in the row.
+	 */
+	protected abstract void computeThreshold( double mean[] , double variance[] , float threshold[] , int width );
+
+	/**
+	 * Thresholds the input image.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output Binary output image.  Same size as the input image.  Modified.
+	 */
+	public void process( final T input , final ImageUInt8 output ) {
+		InputSanityCheck.checkSameShape(input,output);
+
+		if( concurrent ) {
+			// initializing the column sums costs about the same as processing a band of this size
+			BoofConcurrency.loopBlocks(0,input.height,2*radius+1,new IntRangeTask() {
+				@Override
+				public void run(int y0, int y1) {
+					processBand(input,output,y0,y1);
+				}
+			});
+		} else {
+			processBand(input,output,0,input.height);
+		}
+	}
+
+	/**
+	 * Thresholds rows y0 to y1-1.
+	 */
+	protected void processBand( T input , ImageUInt8 output , int y0 , int y1 ) {
+		if( y0 >= y1 )
+			return;
+
+		Band band = acquire(input.width);
+		try {
+			final int width = input.width;
+			final int height = input.height;
+			final double sum[] = band.sum;
+			final double sumSq[] = band.sumSq;
+
+			for( int x = 0; x < width; x++ )
+				sum[x] = 0;
+			if( sumSq != null ) {
+				for( int x = 0; x < width; x++ )
+					sumSq[x] = 0;
+			}
+
+			int end = Math.min(height,y0+radius+1);
+			for( int y = Math.max(0,y0-radius); y < end; y++ )
+				addRow(input,y,1,band);
+
+			for( int y = y0; y < y1; y++ ) {
+				if( y > y0 ) {
+					if( y+radius < height )
+						addRow(input,y+radius,1,band);
+					if( y-radius-1 >= 0 )
+						addRow(input,y-radius-1,-1,band);
+				}
+				int rows = Math.min(height,y+radius+1) - Math.max(0,y-radius);
+
+				computeStatistics(rows,width,band);
+				computeThreshold(band.mean,band.variance,band.threshold,width);
+
+				if( input instanceof ImageUInt8 )
+					ImplThresholdLocal.thresholdRow((ImageUInt8)input,y,band.threshold,down,output);
+				else
+					ImplThresholdLocal.thresholdRow((ImageFloat32)input,y,band.threshold,down,output);
+			}
+		} finally {
+			release(band);
+		}
+	}
+
+	private void addRow( T input , int y , int sign , Band band ) {
+		if( input instanceof ImageUInt8 )
+			ImplThresholdLocal.addRow((ImageUInt8)input,y,sign,band.sum,band.sumSq);
+		else
+			ImplThresholdLocal.addRow((ImageFloat32)input,y,sign,band.sum,band.sumSq);
+	}
+
+	/**
+	 * Slides the region along the row and computes the mean and variance from the column sums.
+	 */
+	private void computeStatistics( int rows , int width , Band band ) {
+		final double sum[] = band.sum;
+		final double sumSq[] = band.sumSq;
+		final double mean[] = band.mean;
+		final double variance[] = band.variance;
+
+		double total = 0, totalSq = 0;
+		int end = Math.min(width,radius+1);
+		for( int x = 0; x < end; x++ ) {
+			total += sum[x];
+			if( sumSq != null )
+				totalSq += sumSq[x];
+		}
+
+		for( int x = 0; x < width; x++ ) {
+			if( x > 0 ) {
+				int add = x+radius;
+				int remove = x-radius-1;
+				if( add < width ) {
+					total += sum[add];
+					if( sumSq != null )
+						totalSq += sumSq[add];
+				}
+				if( remove >= 0 ) {
+					total -= sum[remove];
+					if( sumSq != null )
+						totalSq -= sumSq[remove];
+				}
+			}
+
+			int N = rows*(Math.min(width,x+radius+1) - Math.max(0,x-radius));
+			double m = total/N;
+			mean[x] = m;
+			if( sumSq != null ) {
+				// round off error can make it slightly negative
+				variance[x] = Math.max(0,totalSq/N - m*m);
+			}
+		}
+	}
+
+	private synchronized Band acquire( int width ) {
+		Band band = available.isEmpty() ? new Band() : available.remove(available.size()-1);
+		band.resize(width,needsVariance);
+		return band;
+	}
+
+	private synchronized void release( Band band ) {
+		available.add(band);
+	}
+
+	public int getRadius() {
+		return radius;
+	}
+
+	public boolean isDown() {
+		return down;
+	}
+
+	public boolean isConcurrent() {
+		return concurrent;
+	}
+
+	public void setConcurrent(boolean concurrent) {
+		this.concurrent = concurrent;
+	}
+
+	public Class<T> getInputType() {
+		return inputType;
+	}
+
+	/**
+	 * Work space for processing a band of rows.
+	 */
+	private static class Band {
+		double sum[] = new double[0];
+		double sumSq[];
+		double mean[] = new double[0];
+		double variance[];
+		float threshold[] = new float[0];
+
+		void resize( int width , boolean needsVariance ) {
+			if( sum.length < width ) {
+				sum = new double[width];
+				mean = new double[width];
+				threshold = new float[width];
+				sumSq = null;
+				variance = null;
+			}
+			if( needsVariance && sumSq == null ) {
+				sumSq = new double[sum.length];
+				variance = new double[sum.length];
+			}
+		}
+	}
+}
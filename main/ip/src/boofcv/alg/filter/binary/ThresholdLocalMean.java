@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.binary;
+
+import boofcv.struct.image.ImageSingleBand;
+
+/**
+ * <p>
+ * Adaptive threshold where the threshold of each pixel is the mean of the local region around it multiplied by
+ * a scale factor.  A scale less than one when thresholding down makes it less likely that noise in a region
+ * with a uniform intensity is selected.
+ * </p>
+ *
+ * <p>
+ * threshold = scale*mean
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ThresholdLocalMean<T extends ImageSingleBand> extends ThresholdLocal<T> {
+
+	// the mean is multiplied by this value
+	double scale;
+
+	/**
+	 * Configures the threshold.
+	 *
+	 * @param radius Radius of the square region.  Must be &ge; 1.
+	 * @param scale The local mean is multiplied by this value to find the threshold.  Try 0.95
+	 * @param down If true inliers are below the threshold and false they are above the threshold.
+	 * @param concurrent If true bands of rows are processed at the same time.
+	 * @param inputType Type of input image.
+	 */
+	public ThresholdLocalMean(int radius, double scale, boolean down, boolean concurrent, Class<T> inputType) {
+		super(radius, down, false, concurrent, inputType);
+		this.scale = scale;
+	}
+
+	@Override
+	protected void computeThreshold(double[] mean, double[] variance, float[] threshold, int width) {
+		for( int x = 0; x < width; x++ ) {
+			threshold[x] = (float)(scale*mean[x]);
+		}
+	}
+
+	public double getScale() {
+		return scale;
+	}
+}
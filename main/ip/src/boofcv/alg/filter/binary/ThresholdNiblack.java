@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.binary;
+
+import boofcv.struct.image.ImageSingleBand;
+
+/**
+ * <p>
+ * Adaptive threshold by Niblack, where the threshold is offset from the local mean by a multiple of the
+ * local standard deviation.
+ * </p>
+ *
+ * <p>
+ * threshold = mean + k*stdev
+ * </p>
+ *
+ * <p>
+ * W. Niblack, "An Introduction to Digital Image Processing", Prentice Hall, 1986
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ThresholdNiblack<T extends ImageSingleBand> extends ThresholdLocal<T> {
+
+	// multiple of the standard deviation which is added to the mean
+	double k;
+
+	/**
+	 * Configures the threshold.
+	 *
+	 * @param radius Radius of the square region.  Must be &ge; 1.
+	 * @param k Multiple of the standard deviation that's added to the mean.  Try -0.2 when thresholding down.
+	 * @param down If true inliers are below the threshold and false they are above the threshold.
+	 * @param concurrent If true bands of rows are processed at the same time.
+	 * @param inputType Type of input image.
+	 */
+	public ThresholdNiblack(int radius, double k, boolean down, boolean concurrent, Class<T> inputType) {
+		super(radius, down, true, concurrent, inputType);
+		this.k = k;
+	}
+
+	@Override
+	protected void computeThreshold(double[] mean, double[] variance, float[] threshold, int width) {
+		for( int x = 0; x < width; x++ ) {
+			threshold[x] = (float)(mean[x] + k*Math.sqrt(variance[x]));
+		}
+	}
+
+	public double getK() {
+		return k;
+	}
+}
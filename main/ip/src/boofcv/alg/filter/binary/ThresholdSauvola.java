@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.binary;
+
+import boofcv.struct.image.ImageSingleBand;
+
+/**
+ * <p>
+ * Adaptive threshold by Sauvola and Pietikainen [1], which was designed for binarizing documents.  The
+ * threshold is lowered in regions where the contrast is low, which prevents noise in the background from
+ * being selected.
+ * </p>
+ *
+ * <p>
+ * threshold = mean*(1 + k*(stdev/R - 1))
+ * </p>
+ *
+ * <p>
+ * where mean and stdev are the mean and standard deviation of the local region and R is the dynamic range of the
+ * standard deviation.  R is 128 for pixel values from 0 to 255.
+ * </p>
+ *
+ * <p>
+ * [1] J. Sauvola and M. Pietikainen, "Adaptive document image binarization", Pattern Recognition 33 (2000)
+ * 225-236
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ThresholdSauvola<T extends ImageSingleBand> extends ThresholdLocal<T> {
+
+	// positive tuning parameter
+	double k;
+	// dynamic range of the standard deviation
+	double R;
+
+	/**
+	 * Configures the threshold.
+	 *
+	 * @param radius Radius of the square region.  Must be &ge; 1.
+	 * @param k Positive parameter which controls how much the threshold is lowered in low contrast regions.
+	 *          Try 0.3
+	 * @param R Dynamic range of the standard deviation.  Try 128 for pixel values from 0 to 255.
+	 * @param down If true inliers are below the threshold and false they are above the threshold.
+	 * @param concurrent If true bands of rows are processed at the same time.
+	 * @param inputType Type of input image.
+	 */
+	public ThresholdSauvola(int radius, double k, double R, boolean down, boolean concurrent, Class<T> inputType) {
+		super(radius, down, true, concurrent, inputType);
+		this.k = k;
+		this.R = R;
+	}
+
+	@Override
+	protected void computeThreshold(double[] mean, double[] variance, float[] threshold, int width) {
+		for( int x = 0; x < width; x++ ) {
+			threshold[x] = (float)(mean[x]*(1.0 + k*(Math.sqrt(variance[x])/R - 1.0)));
+		}
+	}
+
+	public double getK() {
+		return k;
+	}
+
+	public double getR() {
+		return R;
+	}
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.binary.impl;
+
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageUInt8;
+
+/**
+ * Type specific row operations used by {@link boofcv.alg.filter.binary.ThresholdLocal}.
+ *
+ * @author Peter Abeles
+ */
+public class ImplThresholdLocal {
+
+	/**
+	 * Adds or subtracts a row from the sum of each column and the sum of squares of each column.
+	 *
+	 * @param input Input image.
+	 * @param y The row.
+	 * @param sign +1 to add the row or -1 to subtract it.
+	 * @param sum Sum of pixel values in each column.  Modified.
+	 * @param sumSq Sum of squared pixel values in each column.  If null it is ignored.  Modified.
+	 */
+	public static void addRow( ImageUInt8 input , int y , int sign , double sum[] , double sumSq[] ) {
+		int index = input.startIndex + y*input.stride;
+
+		if( sumSq == null ) {
+			for( int x = 0; x < input.width; x++ ) {
+				sum[x] += sign*(input.data[index++] & 0xFF);
+			}
+		} else {
+			for( int x = 0; x < input.width; x++ ) {
+				int v = sign*(input.data[index++] & 0xFF);
+				sum[x] += v;
+				sumSq[x] += sign*v*v;
+			}
+		}
+	}
+
+	/**
+	 * @see #addRow(ImageUInt8, int, int, double[], double[])
+	 */
+	public static void addRow( ImageFloat32 input , int y , int sign , double sum[] , double sumSq[] ) {
+		int index = input.startIndex + y*input.stride;
+
+		if( sumSq == null ) {
+			for( int x = 0; x < input.width; x++ ) {
+				sum[x] += sign*input.data[index++];
+			}
+		} else {
+			for( int x = 0; x < input.width; x++ ) {
+				double v = input.data[index++];
+				sum[x] += sign*v;
+				sumSq[x] += sign*v*v;
+			}
+		}
+	}
+
+	/**
+	 * Thresholds a row using a different threshold for each pixel.
+	 *
+	 * @param input Input image.
+	 * @param y The row.
+	 * @param threshold Threshold for each pixel in the row.
+	 * @param down If true inliers are below the threshold and false they are above the threshold.
+	 * @param output Binary output image.  Modified.
+	 */
+	public static void thresholdRow( ImageUInt8 input , int y , float threshold[] , boolean down , ImageUInt8 output ) {
+		int indexIn = input.startIndex + y*input.stride;
+		int indexOut = output.startIndex + y*output.stride;
+
+		if( down ) {
+			for( int x = 0; x < input.width; x++ ) {
+				output.data[indexOut++] = (byte)((input.data[indexIn++] & 0xFF) <= threshold[x] ? 1 : 0);
+			}
+		} else {
+			for( int x = 0; x < input.width; x++ ) {
+				output.data[indexOut++] = (byte)((input.data[indexIn++] & 0xFF) >= threshold[x] ? 1 : 0);
+			}
+		}
+	}
+
+	/**
+	 * @see #thresholdRow(ImageUInt8, int, float[], boolean, ImageUInt8)
+	 */
+	public static void thresholdRow( ImageFloat32 input , int y , float threshold[] , boolean down , ImageUInt8 output ) {
+		int indexIn = input.startIndex + y*input.stride;
+		int indexOut = output.startIndex + y*output.stride;
+
+		if( down ) {
+			for( int x = 0; x < input.width; x++ ) {
+				output.data[indexOut++] = (byte)(input.data[indexIn++] <= threshold[x] ? 1 : 0);
+			}
+		} else {
+			for( int x = 0; x < input.width; x++ ) {
+				output.data[indexOut++] = (byte)(input.data[indexIn++] >= threshold[x] ? 1 : 0);
+			}
+		}
+	}
+}
@@ -19,15 +19,15 @@
 package boofcv.alg.filter.blur;
 
 import boofcv.alg.InputSanityCheck;
-import boofcv.alg.filter.blur.impl.ImplMedianHistogramInner;
-import boofcv.alg.filter.blur.impl.ImplMedianSortEdgeNaive;
-import boofcv.alg.filter.blur.impl.ImplMedianSortNaive;
+import boofcv.alg.filter.blur.impl.*;
 import boofcv.alg.filter.convolve.ConvolveImageMean;
 import boofcv.alg.filter.convolve.ConvolveNormalized;
 import boofcv.factory.filter.kernel.FactoryKernelGaussian;
 import boofcv.struct.convolve.Kernel1D_F32;
 import boofcv.struct.convolve.Kernel1D_I32;
 import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImagePool;
+import boofcv.struct.image.ImageSingleBand;
 import boofcv.struct.image.ImageUInt8;
 
 /**
@@ -38,6 +38,11 @@ import boofcv.struct.image.ImageUInt8;
  */
 public class BlurImageOps {
 
+	/**
+	 * Median filters with a radius at least this large use {@link ImplMedianHistogramColumn}, whose
+	 * cost does not depend on the radius.
+	 */
+	public static final int MEDIAN_COLUMN_RADIUS = 5;
 
 	public static ImageUInt8 mean(ImageUInt8 input, ImageUInt8 output, int radius, ImageUInt8 storage) {
 
@@ -53,6 +58,11 @@ public class BlurImageOps {
 	public static ImageUInt8 median(ImageUInt8 input, ImageUInt8 output, int radius) {
 		output = InputSanityCheck.checkDeclare(input,output);
 
+		if( radius >= MEDIAN_COLUMN_RADIUS ) {
+			ImplMedianHistogramColumn.process(input,output,radius);
+			return output;
+		}
+
 		int w = radius*2+1;
 		int offset[] = new int[ w*w ];
 		int histogram[] = new int[ 256 ];
@@ -108,4 +118,108 @@ public class BlurImageOps {
 
 		return output;
 	}
+
+	/**
+	 * Number of box filters used by {@link #gaussianBox}
+	 */
+	public static final int GAUSSIAN_BOXES = 3;
+
+	/**
+	 * Approximates a Gaussian blur using a recursive filter, see {@link ImplGaussianRecursive}.  Unlike
+	 * {@link #gaussian(ImageUInt8, ImageUInt8, double, int, ImageUInt8) gaussian} the time it takes does not depend
+	 * on sigma, which makes it much faster for large values of sigma.  Pixels outside the image
+	 * are assumed to have the value of the closest pixel inside the image.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for the output image.  Modified.
+	 * @param sigma The Gaussian's standard deviation.  Must be at least 0.5.
+	 * @param storage (Optional) Storage for intermediate results.  Same size as the input image.
+	 * @return Blurred image.
+	 */
+	public static ImageUInt8 gaussianRecursive(ImageUInt8 input, ImageUInt8 output, double sigma,
+											   ImageFloat32 storage ) {
+		output = InputSanityCheck.checkDeclare(input,output);
+		storage = InputSanityCheck.checkDeclare(input,storage,ImageFloat32.class);
+
+		LineBlur_F32 blur = new ImplGaussianRecursive(sigma);
+
+		separable(input,output,storage,blur);
+
+		return output;
+	}
+
+	/**
+	 * See {@link #gaussianRecursive(ImageUInt8, ImageUInt8, double, ImageFloat32)}
+	 */
+	public static ImageFloat32 gaussianRecursive(ImageFloat32 input, ImageFloat32 output, double sigma,
+												 ImageFloat32 storage ) {
+		output = InputSanityCheck.checkDeclare(input,output);
+		storage = InputSanityCheck.checkDeclare(input,storage);
+
+		LineBlur_F32 blur = new ImplGaussianRecursive(sigma);
+
+		separable(input,output,storage,blur);
+
+		return output;
+	}
+
+	/**
+	 * Approximates a Gaussian blur by applying {@link #GAUSSIAN_BOXES} box filters, see {@link ImplGaussianBoxes}.
+	 * The time it takes does not depend on sigma.  Pixels outside the image are assumed to have the value of the
+	 * closest pixel inside the image.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for the output image.  Modified.
+	 * @param sigma The Gaussian's standard deviation.
+	 * @param storage (Optional) Storage for intermediate results.  Same size as the input image.
+	 * @return Blurred image.
+	 */
+	public static ImageUInt8 gaussianBox(ImageUInt8 input, ImageUInt8 output, double sigma,
+										 ImageFloat32 storage ) {
+		output = InputSanityCheck.checkDeclare(input,output);
+		storage = InputSanityCheck.checkDeclare(input,storage,ImageFloat32.class);
+
+		LineBlur_F32 blur = new ImplGaussianBoxes(sigma,GAUSSIAN_BOXES);
+
+		separable(input,output,storage,blur);
+
+		return output;
+	}
+
+	/**
+	 * See {@link #gaussianBox(ImageUInt8, ImageUInt8, double, ImageFloat32)}
+	 */
+	public static ImageFloat32 gaussianBox(ImageFloat32 input, ImageFloat32 output, double sigma,
+										   ImageFloat32 storage ) {
+		output = InputSanityCheck.checkDeclare(input,output);
+		storage = InputSanityCheck.checkDeclare(input,storage);
+
+		LineBlur_F32 blur = new ImplGaussianBoxes(sigma,GAUSSIAN_BOXES);
+
+		separable(input,output,storage,blur);
+
+		return output;
+	}
+
+	/**
+	 * Blurs the rows and then the columns.  The buffer for the columns is borrowed from the shared {@link ImagePool}.
+	 */
+	private static void separable( ImageSingleBand input , ImageSingleBand output ,
+								   ImageFloat32 storage , LineBlur_F32 blur ) {
+		if( input instanceof ImageUInt8 )
+			ImplSeparableLineBlur.horizontal((ImageUInt8)input,storage,blur,0,input.height);
+		else
+			ImplSeparableLineBlur.horizontal((ImageFloat32)input,storage,blur,0,input.height);
+
+		ImagePool pool = ImagePool.getShared();
+		ImageFloat32 work = pool.borrow(ImageFloat32.class,ImplSeparableLineBlur.STRIP,input.height);
+		try {
+			if( output instanceof ImageUInt8 )
+				ImplSeparableLineBlur.vertical(storage,(ImageUInt8)output,blur,0,input.width,work);
+			else
+				ImplSeparableLineBlur.vertical(storage,(ImageFloat32)output,blur,0,input.width,work);
+		} finally {
+			pool.release(work);
+		}
+	}
 }
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.blur;
+
+import boofcv.alg.InputSanityCheck;
+import boofcv.alg.filter.convolve.ConvolveImageMeanBuffer;
+import boofcv.alg.filter.convolve.ConvolveNormalizedBuffer;
+import boofcv.factory.filter.kernel.FactoryKernelGaussian;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel1D_I32;
+import boofcv.struct.image.ImageBufferFloat32;
+import boofcv.struct.image.ImageBufferUInt8;
+
+/**
+ * Versions of the functions in {@link BlurImageOps} for {@link boofcv.struct.image.ImageBufferSingleBand} images.
+ * The output is the same as the equivalent function in {@link BlurImageOps}.
+ *
+ * @author Peter Abeles
+ */
+public class BlurImageOpsBuffer {
+
+	public static ImageBufferUInt8 mean(ImageBufferUInt8 input, ImageBufferUInt8 output, int radius,
+										ImageBufferUInt8 storage) {
+		output = InputSanityCheck.checkDeclare(input,output);
+		storage = InputSanityCheck.checkDeclare(input,storage);
+
+		ConvolveImageMeanBuffer.horizontal(input, storage, radius);
+		ConvolveImageMeanBuffer.vertical(storage, output, radius);
+
+		return output;
+	}
+
+	public static ImageBufferUInt8 gaussian(ImageBufferUInt8 input, ImageBufferUInt8 output, double sigma , int radius,
+											ImageBufferUInt8 storage ) {
+		output = InputSanityCheck.checkDeclare(input,output);
+		storage = InputSanityCheck.checkDeclare(input,storage);
+
+		Kernel1D_I32 kernel = FactoryKernelGaussian.gaussian(Kernel1D_I32.class,sigma,radius);
+
+		ConvolveNormalizedBuffer.horizontal(kernel,input,storage);
+		ConvolveNormalizedBuffer.vertical(kernel,storage,output);
+
+		return output;
+	}
+
+	public static ImageBufferFloat32 mean(ImageBufferFloat32 input, ImageBufferFloat32 output, int radius,
+										  ImageBufferFloat32 storage) {
+		output = InputSanityCheck.checkDeclare(input,output);
+		storage = InputSanityCheck.checkDeclare(input,storage);
+
+		ConvolveImageMeanBuffer.horizontal(input, storage, radius);
+		ConvolveImageMeanBuffer.vertical(storage, output, radius);
+
+		return output;
+	}
+
+	public static ImageBufferFloat32 gaussian(ImageBufferFloat32 input, ImageBufferFloat32 output,
+											  double sigma , int radius,
+											  ImageBufferFloat32 storage ) {
+		output = InputSanityCheck.checkDeclare(input,output);
+		storage = InputSanityCheck.checkDeclare(input,storage);
+
+		Kernel1D_F32 kernel = FactoryKernelGaussian.gaussian(Kernel1D_F32.class,sigma,radius);
+
+		ConvolveNormalizedBuffer.horizontal(kernel,input,storage);
+		ConvolveNormalizedBuffer.vertical(kernel,storage,output);
+
+		return output;
+	}
+}
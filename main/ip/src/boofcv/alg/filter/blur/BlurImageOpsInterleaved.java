@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.blur;
+
+import boofcv.alg.InputSanityCheck;
+import boofcv.alg.filter.convolve.ConvolveImageMeanInterleaved;
+import boofcv.alg.filter.convolve.ConvolveNormalizedInterleaved;
+import boofcv.factory.filter.kernel.FactoryKernelGaussian;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel1D_I32;
+import boofcv.struct.image.ImageInterleavedFloat32;
+import boofcv.struct.image.ImageInterleavedInt8;
+
+/**
+ * Versions of the functions in {@link BlurImageOps} for {@link boofcv.struct.image.ImageInterleaved} images.
+ * The output is the same as applying the equivalent function in {@link BlurImageOps} to each band.
+ *
+ * @author Peter Abeles
+ */
+public class BlurImageOpsInterleaved {
+
+	public static ImageInterleavedInt8 mean(ImageInterleavedInt8 input, ImageInterleavedInt8 output, int radius,
+											ImageInterleavedInt8 storage) {
+		output = InputSanityCheck.checkDeclare(input,output);
+		storage = InputSanityCheck.checkDeclare(input,storage);
+
+		ConvolveImageMeanInterleaved.horizontal(input, storage, radius);
+		ConvolveImageMeanInterleaved.vertical(storage, output, radius);
+
+		return output;
+	}
+
+	public static ImageInterleavedInt8 gaussian(ImageInterleavedInt8 input, ImageInterleavedInt8 output,
+												double sigma , int radius,
+												ImageInterleavedInt8 storage ) {
+		output = InputSanityCheck.checkDeclare(input,output);
+		storage = InputSanityCheck.checkDeclare(input,storage);
+
+		Kernel1D_I32 kernel = FactoryKernelGaussian.gaussian(Kernel1D_I32.class,sigma,radius);
+
+		ConvolveNormalizedInterleaved.horizontal(kernel,input,storage);
+		ConvolveNormalizedInterleaved.vertical(kernel,storage,output);
+
+		return output;
+	}
+
+	public static ImageInterleavedFloat32 mean(ImageInterleavedFloat32 input, ImageInterleavedFloat32 output,
+											   int radius, ImageInterleavedFloat32 storage) {
+		output = InputSanityCheck.checkDeclare(input,output);
+		storage = InputSanityCheck.checkDeclare(input,storage);
+
+		ConvolveImageMeanInterleaved.horizontal(input, storage, radius);
+		ConvolveImageMeanInterleaved.vertical(storage, output, radius);
+
+		return output;
+	}
+
+	public static ImageInterleavedFloat32 gaussian(ImageInterleavedFloat32 input, ImageInterleavedFloat32 output,
+												   double sigma , int radius,
+												   ImageInterleavedFloat32 storage ) {
+		output = InputSanityCheck.checkDeclare(input,output);
+		storage = InputSanityCheck.checkDeclare(input,storage);
+
+		Kernel1D_F32 kernel = FactoryKernelGaussian.gaussian(Kernel1D_F32.class,sigma,radius);
+
+		ConvolveNormalizedInterleaved.horizontal(kernel,input,storage);
+		ConvolveNormalizedInterleaved.vertical(kernel,storage,output);
+
+		return output;
+	}
+}
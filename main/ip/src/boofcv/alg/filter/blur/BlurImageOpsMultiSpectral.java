@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.blur;
+
+import boofcv.alg.InputSanityCheck;
+import boofcv.alg.filter.convolve.ConvolveNormalizedMultiSpectral;
+import boofcv.factory.filter.kernel.FactoryKernelGaussian;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel1D_I32;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageSingleBand;
+import boofcv.struct.image.ImageUInt8;
+import boofcv.struct.image.MultiSpectral;
+
+/**
+ * Versions of the functions in {@link BlurImageOps} for {@link MultiSpectral} images.  The output is the same as
+ * applying the equivalent function in {@link BlurImageOps} to each band, but the kernel and intermediate
+ * storage are only created once for all the bands.
+ *
+ * @author Peter Abeles
+ */
+@SuppressWarnings({"unchecked"})
+public class BlurImageOpsMultiSpectral {
+
+	/**
+	 * Applies Gaussian blur to each band.  Bands of type {@link ImageUInt8} and {@link ImageFloat32} are supported.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output (Optional) Storage for the output image.  Modified.
+	 * @param sigma Gaussian distribution's sigma.  If <= 0 then will be selected based on radius.
+	 * @param radius Radius of the Gaussian blur function. If <= 0 then radius will be determined by sigma.
+	 * @param storage (Optional) Storage for intermediate results.  Same size as the input image.
+	 * @return Blurred image.
+	 */
+	public static <T extends ImageSingleBand>
+	MultiSpectral<T> gaussian(MultiSpectral<T> input, MultiSpectral<T> output,
+							  double sigma , int radius, MultiSpectral<T> storage ) {
+		output = InputSanityCheck.checkDeclare(input,output);
+		storage = InputSanityCheck.checkDeclare(input,storage);
+
+		Class<T> type = input.getType();
+		if( type == ImageUInt8.class ) {
+			Kernel1D_I32 kernel = FactoryKernelGaussian.gaussian(Kernel1D_I32.class,sigma,radius);
+			ConvolveNormalizedMultiSpectral.horizontal(kernel,(MultiSpectral<ImageUInt8>)input,(MultiSpectral<ImageUInt8>)storage);
+			ConvolveNormalizedMultiSpectral.vertical(kernel,(MultiSpectral<ImageUInt8>)storage,(MultiSpectral<ImageUInt8>)output);
+		} else if( type == ImageFloat32.class ) {
+			Kernel1D_F32 kernel = FactoryKernelGaussian.gaussian(Kernel1D_F32.class,sigma,radius);
+			ConvolveNormalizedMultiSpectral.horizontal(kernel,(MultiSpectral<ImageFloat32>)input,(MultiSpectral<ImageFloat32>)storage);
+			ConvolveNormalizedMultiSpectral.vertical(kernel,(MultiSpectral<ImageFloat32>)storage,(MultiSpectral<ImageFloat32>)output);
+		} else {
+			throw new IllegalArgumentException("Unsupported band type: "+type.getSimpleName());
+		}
+
+		return output;
+	}
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.blur;
+
+import boofcv.alg.InputSanityCheck;
+import boofcv.alg.filter.blur.impl.*;
+import boofcv.alg.filter.convolve.ConvolveNormalizedInterleaved_MT;
+import boofcv.alg.filter.convolve.ConvolveNormalizedMultiSpectral_MT;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
+import boofcv.factory.filter.kernel.FactoryKernelGaussian;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel1D_I32;
+import boofcv.struct.image.*;
+
+/**
+ * Concurrent implementations of functions in {@link BlurImageOps}, {@link BlurImageOpsMultiSpectral}, and
+ * {@link BlurImageOpsInterleaved}.  The output is identical to the single threaded version.
+ *
+ * @author Peter Abeles
+ */
+public class BlurImageOps_MT {
+
+	/**
+	 * Concurrent version of {@link BlurImageOps#median(ImageUInt8, ImageUInt8, int)}
+	 */
+	public static ImageUInt8 median(ImageUInt8 input, ImageUInt8 output, int radius) {
+		output = InputSanityCheck.checkDeclare(input,output);
+
+		ImplMedianHistogramColumn_MT.process(input,output,radius);
+
+		return output;
+	}
+
+	/**
+	 * Concurrent version of {@link BlurImageOps#gaussianRecursive(ImageUInt8, ImageUInt8, double, ImageFloat32)}
+	 */
+	public static ImageUInt8 gaussianRecursive(ImageUInt8 input, ImageUInt8 output, final double sigma,
+											   ImageFloat32 storage ) {
+		output = InputSanityCheck.checkDeclare(input,output);
+		storage = InputSanityCheck.checkDeclare(input,storage,ImageFloat32.class);
+
+		separable(input,output,storage,new LineBlurFactory() {
+			@Override
+			public LineBlur_F32 create() {
+				return new ImplGaussianRecursive(sigma);
+			}
+		});
+
+		return output;
+	}
+
+	/**
+	 * Concurrent version of {@link BlurImageOps#gaussianRecursive(ImageFloat32, ImageFloat32, double, ImageFloat32)}
+	 */
+	public static ImageFloat32 gaussianRecursive(ImageFloat32 input, ImageFloat32 output, final double sigma,
+												 ImageFloat32 storage ) {
+		output = InputSanityCheck.checkDeclare(input,output);
+		storage = InputSanityCheck.checkDeclare(input,storage);
+
+		separable(input,output,storage,new LineBlurFactory() {
+			@Override
+			public LineBlur_F32 create() {
+				return new ImplGaussianRecursive(sigma);
+			}
+		});
+
+		return output;
+	}
+
+	/**
+	 * Concurrent version of {@link BlurImageOps#gaussianBox(ImageUInt8, ImageUInt8, double, ImageFloat32)}
+	 */
+	public static ImageUInt8 gaussianBox(ImageUInt8 input, ImageUInt8 output, final double sigma,
+										 ImageFloat32 storage ) {
+		output = InputSanityCheck.checkDeclare(input,output);
+		storage = InputSanityCheck.checkDeclare(input,storage,ImageFloat32.class);
+
+		separable(input,output,storage,new LineBlurFactory() {
+			@Override
+			public LineBlur_F32 create() {
+				return new ImplGaussianBoxes(sigma,BlurImageOps.GAUSSIAN_BOXES);
+			}
+		});
+
+		return output;
+	}
+
+	/**
+	 * Concurrent version of {@link BlurImageOps#gaussianBox(ImageFloat32, ImageFloat32, double, ImageFloat32)}
+	 */
+	public static ImageFloat32 gaussianBox(ImageFloat32 input, ImageFloat32 output, final double sigma,
+										   ImageFloat32 storage ) {
+		output = InputSanityCheck.checkDeclare(input,output);
+		storage = InputSanityCheck.checkDeclare(input,storage);
+
+		separable(input,output,storage,new LineBlurFactory() {
+			@Override
+			public LineBlur_F32 create() {
+				return new ImplGaussianBoxes(sigma,BlurImageOps.GAUSSIAN_BOXES);
+			}
+		});
+
+		return output;
+	}
+
+	/**
+	 * Concurrent version of {@link BlurImageOpsMultiSpectral#gaussian(MultiSpectral, MultiSpectral, double, int, MultiSpectral)}
+	 */
+	@SuppressWarnings({"unchecked"})
+	public static <T extends ImageSingleBand>
+	MultiSpectral<T> gaussian(MultiSpectral<T> input, MultiSpectral<T> output,
+							  double sigma , int radius, MultiSpectral<T> storage ) {
+		output = InputSanityCheck.checkDeclare(input,output);
+		storage = InputSanityCheck.checkDeclare(input,storage);
+
+		Class<T> type = input.getType();
+		if( type == ImageUInt8.class ) {
+			Kernel1D_I32 kernel = FactoryKernelGaussian.gaussian(Kernel1D_I32.class,sigma,radius);
+			ConvolveNormalizedMultiSpectral_MT.horizontal(kernel,(MultiSpectral<ImageUInt8>)input,(MultiSpectral<ImageUInt8>)storage);
+			ConvolveNormalizedMultiSpectral_MT.vertical(kernel,(MultiSpectral<ImageUInt8>)storage,(MultiSpectral<ImageUInt8>)output);
+		} else if( type == ImageFloat32.class ) {
+			Kernel1D_F32 kernel = FactoryKernelGaussian.gaussian(Kernel1D_F32.class,sigma,radius);
+			ConvolveNormalizedMultiSpectral_MT.horizontal(kernel,(MultiSpectral<ImageFloat32>)input,(MultiSpectral<ImageFloat32>)storage);
+			ConvolveNormalizedMultiSpectral_MT.vertical(kernel,(MultiSpectral<ImageFloat32>)storage,(MultiSpectral<ImageFloat32>)output);
+		} else {
+			throw new IllegalArgumentException("Unsupported band type: "+type.getSimpleName());
+		}
+
+		return output;
+	}
+
+	/**
+	 * Concurrent version of {@link BlurImageOpsInterleaved#gaussian(ImageInterleavedInt8, ImageInterleavedInt8, double, int, ImageInterleavedInt8)}
+	 */
+	public static ImageInterleavedInt8 gaussian(ImageInterleavedInt8 input, ImageInterleavedInt8 output,
+			double sigma , int radius, ImageInterleavedInt8 storage ) {
+		output = InputSanityCheck.checkDeclare(input,output);
+		storage = InputSanityCheck.checkDeclare(input,storage);
+
+		Kernel1D_I32 kernel = FactoryKernelGaussian.gaussian(Kernel1D_I32.class,sigma,radius);
+
+		ConvolveNormalizedInterleaved_MT.horizontal(kernel,input,storage);
+		ConvolveNormalizedInterleaved_MT.vertical(kernel,storage,output);
+
+		return output;
+	}
+
+	/**
+	 * Concurrent version of {@link BlurImageOpsInterleaved#gaussian(ImageInterleavedFloat32, ImageInterleavedFloat32, double, int, ImageInterleavedFloat32)}
+	 */
+	public static ImageInterleavedFloat32 gaussian(ImageInterleavedFloat32 input, ImageInterleavedFloat32 output,
+			double sigma , int radius, ImageInterleavedFloat32 storage ) {
+		output = InputSanityCheck.checkDeclare(input,output);
+		storage = InputSanityCheck.checkDeclare(input,storage);
+
+		Kernel1D_F32 kernel = FactoryKernelGaussian.gaussian(Kernel1D_F32.class,sigma,radius);
+
+		ConvolveNormalizedInterleaved_MT.horizontal(kernel,input,storage);
+		ConvolveNormalizedInterleaved_MT.vertical(kernel,storage,output);
+
+		return output;
+	}
+
+	/**
+	 * Blurs bands of rows concurrently and then strips of columns.  Each band gets its own {@link LineBlur_F32}
+	 * and each strip of columns borrows its buffer from the shared {@link ImagePool}.
+	 */
+	private static void separable( final ImageSingleBand input , final ImageSingleBand output ,
+								   final ImageFloat32 storage , final LineBlurFactory factory ) {
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				if( input instanceof ImageUInt8 )
+					ImplSeparableLineBlur.horizontal((ImageUInt8)input,storage,factory.create(),y0,y1);
+				else
+					ImplSeparableLineBlur.horizontal((ImageFloat32)input,storage,factory.create(),y0,y1);
+			}
+		});
+
+		BoofConcurrency.loopBlocks(0,input.width,ImplSeparableLineBlur.STRIP,new IntRangeTask() {
+			@Override
+			public void run(int x0, int x1) {
+				ImagePool pool = ImagePool.getShared();
+				ImageFloat32 work = pool.borrow(ImageFloat32.class,ImplSeparableLineBlur.STRIP,input.height);
+				try {
+					if( output instanceof ImageUInt8 )
+						ImplSeparableLineBlur.vertical(storage,(ImageUInt8)output,factory.create(),x0,x1,work);
+					else
+						ImplSeparableLineBlur.vertical(storage,(ImageFloat32)output,factory.create(),x0,x1,work);
+				} finally {
+					pool.release(work);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Creates a new instance of the blur for each thread
+	 */
+	private static interface LineBlurFactory {
+		LineBlur_F32 create();
+	}
+}
@@ -18,9 +18,8 @@
 
 package boofcv.alg.filter.blur;
 
-import boofcv.struct.image.ImageFloat32;
-import boofcv.struct.image.ImageSingleBand;
-import boofcv.struct.image.ImageUInt8;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.*;
 
 
 /**
@@ -93,4 +92,100 @@ public class GBlurImageOps {
 			throw new IllegalArgumentException("Unsupported image type: "+input.getClass().getSimpleName());
 		}
 	}
+
+	/**
+	 * Applies Gaussian blur to every band in a {@link MultiSpectral} image.  The concurrent implementation
+	 * is used if {@link BoofConcurrency#USE_CONCURRENT} is true.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output Optional storage for output image, can be null.  Modified.
+	 * @param sigma Gaussian distribution's sigma.  If <= 0 then will be selected based on radius.
+	 * @param radius Radius of the Gaussian blur function. If <= 0 then radius will be determined by sigma.
+	 * @param storage Optional storage for intermediate results.  Same size as input image.  Can be null.
+	 * @param <T> Type of image in each band.
+	 * @return Output blurred image.
+	 */
+	public static <T extends ImageSingleBand>
+	MultiSpectral<T> gaussian(MultiSpectral<T> input, MultiSpectral<T> output, double sigma , int radius,
+							  MultiSpectral<T> storage ) {
+		if( BoofConcurrency.USE_CONCURRENT )
+			return BlurImageOps_MT.gaussian(input,output,sigma,radius,storage);
+		else
+			return BlurImageOpsMultiSpectral.gaussian(input,output,sigma,radius,storage);
+	}
+
+	/**
+	 * Applies Gaussian blur to every band in an interleaved image.  The concurrent implementation
+	 * is used if {@link BoofConcurrency#USE_CONCURRENT} is true.
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output Optional storage for output image, can be null.  Modified.
+	 * @param sigma Gaussian distribution's sigma.  If <= 0 then will be selected based on radius.
+	 * @param radius Radius of the Gaussian blur function. If <= 0 then radius will be determined by sigma.
+	 * @param storage Optional storage for intermediate results.  Same size as input image.  Can be null.
+	 * @param <T> Input image type.
+	 * @return Output blurred image.
+	 */
+	public static <T extends ImageInterleaved>
+	T gaussian(T input, T output, double sigma , int radius, T storage ) {
+		if( input instanceof ImageInterleavedInt8 ) {
+			if( BoofConcurrency.USE_CONCURRENT )
+				return (T)BlurImageOps_MT.gaussian((ImageInterleavedInt8)input,(ImageInterleavedInt8)output,sigma,radius,(ImageInterleavedInt8)storage);
+			else
+				return (T)BlurImageOpsInterleaved.gaussian((ImageInterleavedInt8)input,(ImageInterleavedInt8)output,sigma,radius,(ImageInterleavedInt8)storage);
+		} else if( input instanceof ImageInterleavedFloat32 ) {
+			if( BoofConcurrency.USE_CONCURRENT )
+				return (T)BlurImageOps_MT.gaussian((ImageInterleavedFloat32)input,(ImageInterleavedFloat32)output,sigma,radius,(ImageInterleavedFloat32)storage);
+			else
+				return (T)BlurImageOpsInterleaved.gaussian((ImageInterleavedFloat32)input,(ImageInterleavedFloat32)output,sigma,radius,(ImageInterleavedFloat32)storage);
+		} else  {
+			throw new IllegalArgumentException("Unsupported image type: "+input.getClass().getSimpleName());
+		}
+	}
+
+	/**
+	 * Approximates a Gaussian blur using a recursive filter.  The time it takes does not depend on sigma.
+	 *
+	 * @see BlurImageOps#gaussianRecursive(ImageUInt8, ImageUInt8, double, ImageFloat32)
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output Optional storage for output image, can be null.  Modified.
+	 * @param sigma Gaussian distribution's sigma.  Must be at least 0.5.
+	 * @param storage Optional storage for intermediate results.  Same size as input image.  Can be null.
+	 * @param <T> Input image type.
+	 * @return Output blurred image.
+	 */
+	public static <T extends ImageSingleBand>
+	T gaussianRecursive(T input, T output, double sigma, ImageFloat32 storage ) {
+		if( input instanceof ImageUInt8 ) {
+			return (T)BlurImageOps.gaussianRecursive((ImageUInt8)input,(ImageUInt8)output,sigma,storage);
+		} else if( input instanceof ImageFloat32) {
+			return (T)BlurImageOps.gaussianRecursive((ImageFloat32)input,(ImageFloat32)output,sigma,storage);
+		} else  {
+			throw new IllegalArgumentException("Unsupported image type: "+input.getClass().getSimpleName());
+		}
+	}
+
+	/**
+	 * Approximates a Gaussian blur using several box filters.  The time it takes does not depend on sigma.
+	 *
+	 * @see BlurImageOps#gaussianBox(ImageUInt8, ImageUInt8, double, ImageFloat32)
+	 *
+	 * @param input Input image.  Not modified.
+	 * @param output Optional storage for output image, can be null.  Modified.
+	 * @param sigma Gaussian distribution's sigma.
+	 * @param storage Optional storage for intermediate results.  Same size as input image.  Can be null.
+	 * @param <T> Input image type.
+	 * @return Output blurred image.
+	 */
+	public static <T extends ImageSingleBand>
+	T gaussianBox(T input, T output, double sigma, ImageFloat32 storage ) {
+		if( input instanceof ImageUInt8 ) {
+			return (T)BlurImageOps.gaussianBox((ImageUInt8)input,(ImageUInt8)output,sigma,storage);
+		} else if( input instanceof ImageFloat32) {
+			return (T)BlurImageOps.gaussianBox((ImageFloat32)input,(ImageFloat32)output,sigma,storage);
+		} else  {
+			throw new IllegalArgumentException("Unsupported image type: "+input.getClass().getSimpleName());
+		}
+	}
 }
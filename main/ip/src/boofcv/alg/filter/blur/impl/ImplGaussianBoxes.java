@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.blur.impl;
+
+/**
+ * <p>
+ * Approximates a Gaussian blur by applying several box (mean) filters in a row [1].  The width of each box is
+ * selected so that the variance of the combined filter is as close as possible to the Gaussian's.  The
+ * mean inside each box is computed using a running sum, so the cost of each pixel does not depend on sigma.
+ * Pixels outside of the line are assumed to have the same value as the closest pixel at each end.
+ * </p>
+ *
+ * <p>
+ * [1] Peter Kovesi, "Fast Almost-Gaussian Filtering", Digital Image Computing: Techniques and Applications (2010)
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplGaussianBoxes implements LineBlur_F32 {
+
+	// radius of each box filter
+	int radii[];
+
+	// storage for intermediate results
+	float work[] = new float[0];
+
+	/**
+	 * Selects the size of each box.
+	 *
+	 * @param sigma The Gaussian's standard deviation.
+	 * @param numBoxes Number of box filters which are applied.  3 is typical.
+	 */
+	public ImplGaussianBoxes( double sigma , int numBoxes ) {
+		radii = selectRadii(sigma,numBoxes);
+	}
+
+	/**
+	 * Selects the radius of each box so that the combined variance is close to sigma<sup>2</sup>.  Boxes
+	 * have one of two widths which differ by two.
+	 *
+	 * @param sigma The Gaussian's standard deviation.
+	 * @param numBoxes Number of box filters which are applied.
+	 * @return Radius of each box
+	 */
+	public static int[] selectRadii( double sigma , int numBoxes ) {
+		if( numBoxes <= 0 )
+			throw new IllegalArgumentException("Must have at least one box");
+
+		double variance = 12.0*sigma*sigma;
+		int n = numBoxes;
+
+		int widthLower = (int)Math.floor(Math.sqrt(variance/n + 1));
+		if( widthLower % 2 == 0 )
+			widthLower--;
+		int widthUpper = widthLower + 2;
+
+		// number of boxes which have the lower width
+		int m = (int)Math.round((variance - n*widthLower*widthLower - 4*n*widthLower - 3*n)/(-4.0*widthLower - 4));
+		m = Math.max(0,Math.min(n,m));
+
+		int radii[] = new int[n];
+		for( int i = 0; i < n; i++ ) {
+			radii[i] = ((i < m ? widthLower : widthUpper) - 1)/2;
+		}
+		return radii;
+	}
+
+	@Override
+	public void process(float[] data, int offset, int length) {
+		if( length <= 0 )
+			return;
+		if( work.length < length )
+			work = new float[length];
+
+		float src[] = data;
+		int srcOffset = offset;
+		float dst[] = work;
+		int dstOffset = 0;
+
+		for( int i = 0; i < radii.length; i++ ) {
+			box(src,srcOffset,dst,dstOffset,length,radii[i]);
+
+			float tmp[] = src; src = dst; dst = tmp;
+			int tmpOffset = srcOffset; srcOffset = dstOffset; dstOffset = tmpOffset;
+		}
+
+		// the last result is in src
+		if( src != data )
+			System.arraycopy(src,srcOffset,data,offset,length);
+	}
+
+	/**
+	 * Mean of the box centered around each element, computed using a running sum.
+	 */
+	private static void box( float src[] , int srcOffset , float dst[] , int dstOffset , int length , int radius ) {
+		final float norm = 1.0f/(2*radius+1);
+		final int last = length-1;
+
+		float sum = (radius+1)*src[srcOffset];
+		for( int i = 1; i <= radius; i++ ) {
+			sum += src[srcOffset + Math.min(i,last)];
+		}
+
+		for( int i = 0; i < length; i++ ) {
+			dst[dstOffset+i] = sum*norm;
+			sum += src[srcOffset + Math.min(i+radius+1,last)] - src[srcOffset + Math.max(i-radius,0)];
+		}
+	}
+}
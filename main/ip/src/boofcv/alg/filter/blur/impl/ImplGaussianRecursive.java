@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.blur.impl;
+
+/**
+ * <p>
+ * Recursive (IIR) approximation of a Gaussian blur by Young and van Vliet [1].  A third order causal filter is
+ * applied forward along the line and then an anti-causal filter is applied backwards.  The cost of each
+ * pixel is the same for any sigma, unlike convolution where it grows with the kernel's width.  Pixels outside
+ * of the line are assumed to have the same value as the closest pixel at each end.
+ * </p>
+ *
+ * <p>
+ * [1] Ian T. Young and Lucas J. van Vliet, "Recursive implementation of the Gaussian filter", Signal
+ * Processing 44 (1995) 139-151
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplGaussianRecursive implements LineBlur_F32 {
+
+	// filter coefficients, already divided by b0
+	float B,b1,b2,b3;
+
+	/**
+	 * Computes the filter coefficients using the equations for q from [1].  These were selected so that the
+	 * impulse response is close to the Gaussian's shape, which makes its variance slightly larger than
+	 * sigma<sup>2</sup> because of the longer tails.
+	 *
+	 * @param sigma The Gaussian's standard deviation.  Must be at least 0.5.
+	 */
+	public ImplGaussianRecursive( double sigma ) {
+		if( sigma < 0.5 )
+			throw new IllegalArgumentException("Sigma must be at least 0.5");
+
+		double q;
+		if( sigma >= 2.5 )
+			q = 0.98711*sigma - 0.96330;
+		else
+			q = 3.97156 - 4.14554*Math.sqrt(1 - 0.26891*sigma);
+
+		double q2 = q*q;
+		double q3 = q2*q;
+
+		double b0 = 1.57825 + 2.44413*q + 1.4281*q2 + 0.422205*q3;
+		double c1 = (2.44413*q + 2.85619*q2 + 1.26661*q3)/b0;
+		double c2 = -(1.4281*q2 + 1.26661*q3)/b0;
+		double c3 = 0.422205*q3/b0;
+
+		b1 = (float)c1;
+		b2 = (float)c2;
+		b3 = (float)c3;
+		B = (float)(1.0 - (c1 + c2 + c3));
+	}
+
+	@Override
+	public void process(float[] data, int offset, int length) {
+		if( length <= 0 )
+			return;
+
+		final int end = offset + length;
+
+		// causal filter, initialized as if the first pixel extended forever
+		float w1 = data[offset], w2 = w1, w3 = w1;
+		for( int i = offset; i < end; i++ ) {
+			float w = B*data[i] + b1*w1 + b2*w2 + b3*w3;
+			data[i] = w;
+			w3 = w2; w2 = w1; w1 = w;
+		}
+
+		// anti-causal filter
+		float y1 = data[end-1], y2 = y1, y3 = y1;
+		for( int i = end-1; i >= offset; i-- ) {
+			float y = B*data[i] + b1*y1 + b2*y2 + b3*y3;
+			data[i] = y;
+			y3 = y2; y2 = y1; y1 = y;
+		}
+	}
+}
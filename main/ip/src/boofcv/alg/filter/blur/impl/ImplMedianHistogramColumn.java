@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.blur.impl;
+
+import boofcv.struct.image.ImageUInt8;
+
+/**
+ * <p>
+ * Median filter whose cost per pixel does not depend on the radius.  A histogram is maintained for each column
+ * in the image, which is updated by adding one row and removing another as the filter moves down the image.
+ * The histogram of the filter's region is found by adding and removing column histograms as it moves along
+ * a row.  To reduce the cost of these updates, histograms are split into two levels.  A coarse level of 16 bins
+ * is always updated and is used to select which segment of the 256 bin fine histogram contains the median.
+ * Only that segment of the fine histogram is brought up to date.
+ * </p>
+ *
+ * <p>
+ * Next to the image border the region is truncated to the pixels inside the image, which produces the same
+ * results as {@link ImplMedianSortEdgeNaive}.
+ * </p>
+ *
+ * <p>
+ * Perreault, S. and Hebert, P. "Median Filtering in Constant Time" IEEE Transactions on Image Processing, 2007
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplMedianHistogramColumn {
+
+	// number of bins in coarse histogram and in each segment of the fine histogram
+	private static final int SEGMENT = 16;
+
+	// number of columns which are filtered at the same time.  Keeps the column histograms inside the cache
+	private static final int STRIP = 512;
+
+	// histogram for each column in the strip.  Fine histograms are stored in a single array
+	// with column 'x' starting at (x-colStart)*256
+	private short columnFine[] = new short[0];
+	private short columnCoarse[] = new short[0];
+	// range of columns which have histograms
+	private int colStart,colEnd;
+
+	// histogram of the filter's region
+	private int kernelFine[] = new int[256];
+	private int kernelCoarse[] = new int[SEGMENT];
+	// x-coordinate at which each segment of the kernel's fine histogram was last updated
+	private int segmentUpdated[] = new int[SEGMENT];
+
+	/**
+	 * Applies the median filter to the entire image.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output Filtered output image. Modified.
+	 * @param radius Size of the filter region.
+	 */
+	public static void process( ImageUInt8 input , ImageUInt8 output , int radius ) {
+		new ImplMedianHistogramColumn().process(input,output,radius,0,input.height);
+	}
+
+	/**
+	 * Applies the median filter to the specified band of rows.  Pixels outside the band are read but
+	 * not written to.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output Filtered output image. Modified.
+	 * @param radius Size of the filter region.
+	 * @param y0 First row which is processed.
+	 * @param y1 One past the last row which is processed.
+	 */
+	public void process( ImageUInt8 input , ImageUInt8 output , int radius , int y0 , int y1 ) {
+		for( int x0 = 0; x0 < input.width; x0 += STRIP ) {
+			processStrip(input, output, radius, x0, Math.min(input.width, x0 + STRIP), y0, y1);
+		}
+	}
+
+	/**
+	 * Filters a strip of columns inside the band of rows.  Only the columns which the filter touches
+	 * while inside the strip have histograms.
+	 */
+	private void processStrip( ImageUInt8 input , ImageUInt8 output , int radius ,
+							   int x0 , int x1 , int y0 , int y1 ) {
+		final int height = input.height;
+
+		colStart = Math.max(0,x0-radius);
+		colEnd = Math.min(input.width,x1+radius);
+		int numCols = colEnd-colStart;
+
+		if( columnFine.length < numCols*256 ) {
+			columnFine = new short[ numCols*256 ];
+			columnCoarse = new short[ numCols*SEGMENT ];
+		} else {
+			for( int i = 0; i < numCols*256; i++ ) columnFine[i] = 0;
+			for( int i = 0; i < numCols*SEGMENT; i++ ) columnCoarse[i] = 0;
+		}
+
+		if( y0 >= y1 )
+			return;
+
+		// initialize the column histograms
+		for( int y = Math.max(0,y0-radius); y <= Math.min(height-1,y0+radius); y++ ) {
+			addRow(input,y,1);
+		}
+
+		for( int y = y0; y < y1; y++ ) {
+			if( y > y0 ) {
+				if( y-radius-1 >= 0 )
+					addRow(input,y-radius-1,-1);
+				if( y+radius < height )
+					addRow(input,y+radius,1);
+			}
+
+			int rows = Math.min(height-1,y+radius) - Math.max(0,y-radius) + 1;
+			processRow(output,y,radius,rows,x0,x1);
+		}
+	}
+
+	/**
+	 * Computes the median for every pixel along the row inside the strip using the column histograms
+	 */
+	private void processRow( ImageUInt8 output , int y , int radius , int rows , int x0 , int x1 ) {
+		final int width = output.width;
+
+		for( int i = 0; i < SEGMENT; i++ ) {
+			kernelCoarse[i] = 0;
+			segmentUpdated[i] = Integer.MIN_VALUE;
+		}
+
+		// initialize the coarse histogram for the first pixel in the row
+		for( int x = Math.max(0,x0-radius); x <= Math.min(width-1,x0+radius); x++ ) {
+			addCoarse(x,1);
+		}
+
+		int indexOut = output.startIndex + y*output.stride + x0;
+		for( int x = x0; x < x1; x++ ) {
+			if( x > x0 ) {
+				if( x-radius-1 >= 0 )
+					addCoarse(x-radius-1,-1);
+				if( x+radius < width )
+					addCoarse(x+radius,1);
+			}
+
+			int cols = Math.min(width-1,x+radius) - Math.max(0,x-radius) + 1;
+			int threshold = (rows*cols)/2 + 1;
+
+			// find the segment which contains the median
+			int count = 0;
+			int segment = 0;
+			while( count + kernelCoarse[segment] < threshold ) {
+				count += kernelCoarse[segment++];
+			}
+
+			updateSegment(segment,x,radius,width);
+
+			// find the median inside the segment
+			int median = segment*SEGMENT;
+			while( true ) {
+				count += kernelFine[median];
+				if( count >= threshold )
+					break;
+				median++;
+			}
+
+			output.data[indexOut++] = (byte)median;
+		}
+	}
+
+	/**
+	 * Brings a segment in the fine kernel histogram up to date with the region centered at x.  If it was
+	 * recently updated then only the columns which have changed are added and removed, otherwise it is rebuilt.
+	 */
+	private void updateSegment( int segment , int x , int radius , int width ) {
+		int last = segmentUpdated[segment];
+		segmentUpdated[segment] = x;
+
+		int offset = segment*SEGMENT;
+
+		if( x - last > 2*radius+1 || last == Integer.MIN_VALUE ) {
+			for( int i = 0; i < SEGMENT; i++ )
+				kernelFine[offset+i] = 0;
+			int end = Math.min(width-1,x+radius);
+			for( int col = Math.max(0,x-radius); col <= end; col++ ) {
+				addFine(col,offset,1);
+			}
+		} else {
+			for( int xx = last+1; xx <= x; xx++ ) {
+				if( xx-radius-1 >= 0 )
+					addFine(xx-radius-1,offset,-1);
+				if( xx+radius < width )
+					addFine(xx+radius,offset,1);
+			}
+		}
+	}
+
+	private void addFine( int col , int offset , int sign ) {
+		final int kernelFine[] = this.kernelFine;
+		final short columnFine[] = this.columnFine;
+		int indexCol = (col-colStart)*256 + offset;
+		if( sign > 0 ) {
+			for( int i = 0; i < SEGMENT; i++ )
+				kernelFine[offset+i] += columnFine[indexCol+i];
+		} else {
+			for( int i = 0; i < SEGMENT; i++ )
+				kernelFine[offset+i] -= columnFine[indexCol+i];
+		}
+	}
+
+	private void addCoarse( int col , int sign ) {
+		final int kernelCoarse[] = this.kernelCoarse;
+		final short columnCoarse[] = this.columnCoarse;
+		int indexCol = (col-colStart)*SEGMENT;
+		if( sign > 0 ) {
+			for( int i = 0; i < SEGMENT; i++ )
+				kernelCoarse[i] += columnCoarse[indexCol+i];
+		} else {
+			for( int i = 0; i < SEGMENT; i++ )
+				kernelCoarse[i] -= columnCoarse[indexCol+i];
+		}
+	}
+
+	/**
+	 * Adds or removes a row from the column histograms
+	 */
+	private void addRow( ImageUInt8 input , int y , int amount ) {
+		final short columnFine[] = this.columnFine;
+		final short columnCoarse[] = this.columnCoarse;
+
+		int index = input.startIndex + y*input.stride + colStart;
+		for( int i = 0; i < colEnd-colStart; i++ ) {
+			int value = input.data[index++] & 0xFF;
+			columnFine[i*256 + value] += amount;
+			columnCoarse[i*SEGMENT + (value >> 4)] += amount;
+		}
+	}
+}
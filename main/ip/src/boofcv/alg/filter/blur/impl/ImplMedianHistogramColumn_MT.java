@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.blur.impl;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
+import boofcv.struct.image.ImageUInt8;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link ImplMedianHistogramColumn}.  The image is split into bands of rows which
+ * are filtered at the same time, each with its own set of column histograms.  The output is identical to the
+ * single threaded version.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplMedianHistogramColumn_MT {
+
+	/**
+	 * Concurrent version of {@link ImplMedianHistogramColumn#process(ImageUInt8, ImageUInt8, int)}
+	 */
+	public static void process( final ImageUInt8 input , final ImageUInt8 output , final int radius ) {
+		// initializing the column histograms for each band costs about the same as processing a band this size
+		int minBand = 2*radius+1;
+
+		BoofConcurrency.loopBlocks(0,input.height,minBand,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				new ImplMedianHistogramColumn().process(input,output,radius,y0,y1);
+			}
+		});
+	}
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.blur.impl;
+
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageUInt8;
+
+/**
+ * <p>
+ * Applies a {@link LineBlur_F32} along the rows or columns of an image.  Columns are copied into a buffer a
+ * strip at a time so that the blur can be applied to contiguous memory.  Each function processes a range of rows
+ * or columns, which allows the image to be split up and processed concurrently.  The buffer for the columns is
+ * provided by the caller, see {@link #declareWork}, so that it can be recycled between calls.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplSeparableLineBlur {
+
+	/**
+	 * Number of columns which are copied into the buffer at the same time
+	 */
+	public static final int STRIP = 16;
+
+	/**
+	 * Blurs rows y0 to y1-1 of the input image and writes the results to the output image.
+	 */
+	public static void horizontal( ImageFloat32 input , ImageFloat32 output , LineBlur_F32 blur , int y0 , int y1 ) {
+		final int width = input.width;
+
+		for( int y = y0; y < y1; y++ ) {
+			int indexOut = output.startIndex + y*output.stride;
+			System.arraycopy(input.data,input.startIndex + y*input.stride,output.data,indexOut,width);
+			blur.process(output.data,indexOut,width);
+		}
+	}
+
+	/**
+	 * Blurs rows y0 to y1-1 of the input image and writes the results to the output image.
+	 */
+	public static void horizontal( ImageUInt8 input , ImageFloat32 output , LineBlur_F32 blur , int y0 , int y1 ) {
+		final int width = input.width;
+
+		for( int y = y0; y < y1; y++ ) {
+			int indexIn = input.startIndex + y*input.stride;
+			int indexOut = output.startIndex + y*output.stride;
+			for( int x = 0; x < width; x++ ) {
+				output.data[indexOut+x] = input.data[indexIn+x] & 0xFF;
+			}
+			blur.process(output.data,indexOut,width);
+		}
+	}
+
+	/**
+	 * Declares the work image used to buffer columns when blurring an image with the specified height.
+	 */
+	public static ImageFloat32 declareWork( int height ) {
+		return new ImageFloat32(STRIP,height);
+	}
+
+	/**
+	 * Blurs columns x0 to x1-1 of the input image and writes the results to the output image.
+	 *
+	 * @param work Buffer for the columns.  Must be {@link #STRIP} wide and as tall as the input.  Modified.
+	 */
+	public static void vertical( ImageFloat32 input , ImageFloat32 output , LineBlur_F32 blur , int x0 , int x1 ,
+								 ImageFloat32 work ) {
+		final int height = input.height;
+		float lines[] = checkWork(work,height);
+
+		for( int x = x0; x < x1; x += STRIP ) {
+			int numColumns = Math.min(STRIP,x1-x);
+
+			copyColumns(input, x, numColumns, lines);
+
+			for( int i = 0; i < numColumns; i++ ) {
+				blur.process(lines,i*height,height);
+			}
+
+			for( int y = 0; y < height; y++ ) {
+				int indexOut = output.startIndex + y*output.stride + x;
+				for( int i = 0; i < numColumns; i++ ) {
+					output.data[indexOut+i] = lines[i*height+y];
+				}
+			}
+		}
+	}
+
+	/**
+	 * Blurs columns x0 to x1-1 of the input image and writes the results to the output image, which are
+	 * rounded to the nearest integer.
+	 *
+	 * @param work Buffer for the columns.  Must be {@link #STRIP} wide and as tall as the input.  Modified.
+	 */
+	public static void vertical( ImageFloat32 input , ImageUInt8 output , LineBlur_F32 blur , int x0 , int x1 ,
+								 ImageFloat32 work ) {
+		final int height = input.height;
+		float lines[] = checkWork(work,height);
+
+		for( int x = x0; x < x1; x += STRIP ) {
+			int numColumns = Math.min(STRIP,x1-x);
+
+			copyColumns(input, x, numColumns, lines);
+
+			for( int i = 0; i < numColumns; i++ ) {
+				blur.process(lines,i*height,height);
+			}
+
+			for( int y = 0; y < height; y++ ) {
+				int indexOut = output.startIndex + y*output.stride + x;
+				for( int i = 0; i < numColumns; i++ ) {
+					int value = (int)(lines[i*height+y] + 0.5f);
+					output.data[indexOut+i] = (byte)(value < 0 ? 0 : (value > 255 ? 255 : value));
+				}
+			}
+		}
+	}
+
+	private static float[] checkWork( ImageFloat32 work , int height ) {
+		if( work.width != STRIP || work.height != height || work.isSubimage() )
+			throw new IllegalArgumentException("The work image must be "+STRIP+" by "+height+" and not a sub-image");
+		return work.data;
+	}
+
+	/**
+	 * Copies the columns into the array with one column after another
+	 */
+	private static void copyColumns( ImageFloat32 input , int x0 , int numColumns , float lines[] ) {
+		final int height = input.height;
+		for( int y = 0; y < height; y++ ) {
+			int indexIn = input.startIndex + y*input.stride + x0;
+			for( int i = 0; i < numColumns; i++ ) {
+				lines[i*height+y] = input.data[indexIn+i];
+			}
+		}
+	}
+}
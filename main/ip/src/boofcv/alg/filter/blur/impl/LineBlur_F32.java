@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.blur.impl;
+
+/**
+ * Blurs the pixels along a single line, e.g. a row or column in an image.  Used by {@link ImplSeparableLineBlur}
+ * to apply the same blur along both axes.  Implementations can contain internal work space and
+ * should not be shared between threads.
+ *
+ * @author Peter Abeles
+ */
+public interface LineBlur_F32 {
+
+	/**
+	 * Blurs the line in place.
+	 *
+	 * @param data Array containing the line.  Modified.
+	 * @param offset Index of the first element in the line.
+	 * @param length Number of elements in the line.
+	 */
+	public void process( float data[] , int offset , int length );
+}
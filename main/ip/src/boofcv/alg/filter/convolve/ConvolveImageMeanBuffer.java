@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.convolve;
+
+import boofcv.alg.InputSanityCheck;
+import boofcv.struct.image.ImageBufferFloat32;
+import boofcv.struct.image.ImageBufferUInt8;
+
+/**
+ * <p>
+ * Convolves a mean filter across {@link boofcv.struct.image.ImageBufferSingleBand} images.  Produces the
+ * same output as {@link ConvolveImageMean}.  A running sum is used, so the cost does not depend on the radius.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ConvolveImageMeanBuffer {
+
+	/**
+	 * Performs a horizontal 1D convolution which computes the mean value of elements
+	 * inside the kernel.  Along the border only elements inside the image are used.
+	 *
+	 * @param input The original image. Not modified.
+	 * @param output Where the resulting image is written to. Modified.
+	 * @param radius Kernel size.
+	 */
+	public static void horizontal( ImageBufferFloat32 input , ImageBufferFloat32 output , int radius ) {
+		InputSanityCheck.checkSameShape(input , output);
+
+		final int width = input.width;
+		final int height = input.height;
+
+		for( int y = 0; y < height; y++ ) {
+			int indexRow = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
+
+			float total = 0;
+			int end = Math.min(radius,width);
+			for( int x = 0; x < end; x++ ) {
+				total += input.data.get(indexRow+x);
+			}
+
+			for( int x = 0; x < width; x++ ) {
+				if( x + radius < width )
+					total += input.data.get(indexRow+x+radius);
+				if( x - radius - 1 >= 0 )
+					total -= input.data.get(indexRow+x-radius-1);
+
+				int count = Math.min(width-1,x+radius) - Math.max(0,x-radius) + 1;
+				output.data.put(indexDst++, (total/count));
+			}
+		}
+	}
+
+	/**
+	 * Performs a vertical 1D convolution which computes the mean value of elements
+	 * inside the kernel.  Along the border only elements inside the image are used.
+	 *
+	 * @param input The original image. Not modified.
+	 * @param output Where the resulting image is written to. Modified.
+	 * @param radius Kernel size.
+	 */
+	public static void vertical( ImageBufferFloat32 input , ImageBufferFloat32 output , int radius ) {
+		InputSanityCheck.checkSameShape(input , output);
+
+		final int width = input.width;
+		final int height = input.height;
+
+		float totals[] = new float[ width ];
+
+		int end = Math.min(radius,height);
+		for( int y = 0; y < end; y++ ) {
+			addRow(input,y,totals);
+		}
+
+		for( int y = 0; y < height; y++ ) {
+			if( y + radius < height )
+				addRow(input,y+radius,totals);
+			if( y - radius - 1 >= 0 )
+				subtractRow(input,y-radius-1,totals);
+
+			int count = Math.min(height-1,y+radius) - Math.max(0,y-radius) + 1;
+			int indexDst = output.startIndex + y*output.stride;
+			for( int x = 0; x < width; x++ ) {
+				output.data.put(indexDst++, (totals[x]/count));
+			}
+		}
+	}
+
+	private static void addRow( ImageBufferFloat32 input , int y , float totals[] ) {
+		int index = input.startIndex + y*input.stride;
+		for( int x = 0; x < input.width; x++ ) {
+			totals[x] += input.data.get(index++);
+		}
+	}
+
+	private static void subtractRow( ImageBufferFloat32 input , int y , float totals[] ) {
+		int index = input.startIndex + y*input.stride;
+		for( int x = 0; x < input.width; x++ ) {
+			totals[x] -= input.data.get(index++);
+		}
+	}
+
+	/**
+	 * Performs a horizontal 1D convolution which computes the mean value of elements
+	 * inside the kernel.  Along the border only elements inside the image are used.
+	 *
+	 * @param input The original image. Not modified.
+	 * @param output Where the resulting image is written to. Modified.
+	 * @param radius Kernel size.
+	 */
+	public static void horizontal( ImageBufferUInt8 input , ImageBufferUInt8 output , int radius ) {
+		InputSanityCheck.checkSameShape(input , output);
+
+		final int width = input.width;
+		final int height = input.height;
+
+		for( int y = 0; y < height; y++ ) {
+			int indexRow = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
+
+			int total = 0;
+			int end = Math.min(radius,width);
+			for( int x = 0; x < end; x++ ) {
+				total += input.data.get(indexRow+x) & 0xFF;
+			}
+
+			for( int x = 0; x < width; x++ ) {
+				if( x + radius < width )
+					total += input.data.get(indexRow+x+radius) & 0xFF;
+				if( x - radius - 1 >= 0 )
+					total -= input.data.get(indexRow+x-radius-1) & 0xFF;
+
+				int count = Math.min(width-1,x+radius) - Math.max(0,x-radius) + 1;
+				output.data.put(indexDst++, (byte)(total/count));
+			}
+		}
+	}
+
+	/**
+	 * Performs a vertical 1D convolution which computes the mean value of elements
+	 * inside the kernel.  Along the border only elements inside the image are used.
+	 *
+	 * @param input The original image. Not modified.
+	 * @param output Where the resulting image is written to. Modified.
+	 * @param radius Kernel size.
+	 */
+	public static void vertical( ImageBufferUInt8 input , ImageBufferUInt8 output , int radius ) {
+		InputSanityCheck.checkSameShape(input , output);
+
+		final int width = input.width;
+		final int height = input.height;
+
+		int totals[] = new int[ width ];
+
+		int end = Math.min(radius,height);
+		for( int y = 0; y < end; y++ ) {
+			addRow(input,y,totals);
+		}
+
+		for( int y = 0; y < height; y++ ) {
+			if( y + radius < height )
+				addRow(input,y+radius,totals);
+			if( y - radius - 1 >= 0 )
+				subtractRow(input,y-radius-1,totals);
+
+			int count = Math.min(height-1,y+radius) - Math.max(0,y-radius) + 1;
+			int indexDst = output.startIndex + y*output.stride;
+			for( int x = 0; x < width; x++ ) {
+				output.data.put(indexDst++, (byte)(totals[x]/count));
+			}
+		}
+	}
+
+	private static void addRow( ImageBufferUInt8 input , int y , int totals[] ) {
+		int index = input.startIndex + y*input.stride;
+		for( int x = 0; x < input.width; x++ ) {
+			totals[x] += input.data.get(index++) & 0xFF;
+		}
+	}
+
+	private static void subtractRow( ImageBufferUInt8 input , int y , int totals[] ) {
+		int index = input.startIndex + y*input.stride;
+		for( int x = 0; x < input.width; x++ ) {
+			totals[x] -= input.data.get(index++) & 0xFF;
+		}
+	}
+}
@@ -0,0 +1,333 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.convolve;
+
+import boofcv.alg.InputSanityCheck;
+import boofcv.struct.image.ImageInterleavedFloat32;
+import boofcv.struct.image.ImageInterleavedInt8;
+
+/**
+ * <p>
+ * Convolves a mean filter across {@link boofcv.struct.image.ImageInterleaved} images.  Produces the
+ * same output as applying {@link ConvolveImageMean} to each band independently.  A running sum is used,
+ * so the cost does not depend on the radius.  {@link ImageInterleavedInt8} is treated as unsigned.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ConvolveImageMeanInterleaved {
+
+	/**
+	 * Performs a horizontal 1D convolution which computes the mean value of elements
+	 * inside the kernel.  Along the border only elements inside the image are used.  The running sum
+	 * of each element in a row is found from the element one pixel to its left, so all the bands in a pixel
+	 * are handled in the same pass.
+	 *
+	 * @param input The original image. Not modified.
+	 * @param output Where the resulting image is written to. Modified.
+	 * @param radius Kernel size.
+	 */
+	public static void horizontal( ImageInterleavedFloat32 input , ImageInterleavedFloat32 output , int radius ) {
+		InputSanityCheck.checkSameShape(input , output);
+
+		final float dataSrc[] = input.data;
+		final float dataDst[] = output.data;
+		final int numBands = input.numBands;
+		final int width = input.width;
+		final int height = input.height;
+		final int length = width*numBands;
+		final int offsetAdd = radius*numBands;
+		final int offsetSub = (radius+1)*numBands;
+		final float divisor = radius*2+1;
+
+		// pixels where elements are both added and removed from the sum
+		final int innerX0 = Math.min(radius+1,width);
+		final int innerX1 = Math.max(innerX0,width-radius);
+
+		// pixels where the whole kernel is inside the image
+		final int borderX0 = Math.min(radius,width);
+		final int borderX1 = Math.max(borderX0,width-radius);
+
+		float totals[] = new float[ length ];
+
+		for( int y = 0; y < height; y++ ) {
+			int indexRow = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
+
+			// sum for the first pixel
+			for( int band = 0; band < numBands; band++ )
+				totals[band] = 0;
+			int end = Math.min(radius+1,width)*numBands;
+			for( int i = 0; i < end; i++ ) {
+				totals[i % numBands] += dataSrc[indexRow+i];
+			}
+
+			// only elements on the right are added
+			for( int i = numBands; i < innerX0*numBands; i++ ) {
+				float total = totals[i-numBands];
+				if( i + offsetAdd < length )
+					total += dataSrc[indexRow+i+offsetAdd];
+				totals[i] = total;
+			}
+
+			for( int i = innerX0*numBands; i < innerX1*numBands; i++ ) {
+				totals[i] = totals[i-numBands] + dataSrc[indexRow+i+offsetAdd] - dataSrc[indexRow+i-offsetSub];
+			}
+
+			// only elements on the left are removed
+			for( int i = innerX1*numBands; i < length; i++ ) {
+				totals[i] = totals[i-numBands] - dataSrc[indexRow+i-offsetSub];
+			}
+
+			// compute the mean, the number of elements in the sum is only reduced along the border
+			for( int i = borderX0*numBands; i < borderX1*numBands; i++ ) {
+				dataDst[indexDst+i] = (totals[i]/divisor);
+			}
+			for( int x = 0; x < borderX0; x++ ) {
+				computeBorder(totals, dataDst, indexDst, x, width, radius, numBands);
+			}
+			for( int x = borderX1; x < width; x++ ) {
+				computeBorder(totals, dataDst, indexDst, x, width, radius, numBands);
+			}
+		}
+	}
+
+	/**
+	 * Performs a vertical 1D convolution which computes the mean value of elements
+	 * inside the kernel.  Along the border only elements inside the image are used.  Each row is
+	 * processed as a single array of elements, so all the bands in a pixel are handled in the same pass.
+	 *
+	 * @param input The original image. Not modified.
+	 * @param output Where the resulting image is written to. Modified.
+	 * @param radius Kernel size.
+	 */
+	public static void vertical( ImageInterleavedFloat32 input , ImageInterleavedFloat32 output , int radius ) {
+		InputSanityCheck.checkSameShape(input , output);
+
+		final float dataSrc[] = input.data;
+		final float dataDst[] = output.data;
+		final int length = input.width*input.numBands;
+		final int height = input.height;
+
+		float totals[] = new float[ length ];
+
+		int end = Math.min(radius,height);
+		for( int y = 0; y < end; y++ ) {
+			addRow(input,y,totals);
+		}
+
+		for( int y = 0; y < height; y++ ) {
+			int count = Math.min(height-1,y+radius) - Math.max(0,y-radius) + 1;
+			int indexDst = output.startIndex + y*output.stride;
+
+			if( y + radius < height && y - radius - 1 >= 0 ) {
+				int indexAdd = input.startIndex + (y+radius)*input.stride;
+				int indexSub = input.startIndex + (y-radius-1)*input.stride;
+				for( int i = 0; i < length; i++ ) {
+					float total = totals[i] + dataSrc[indexAdd+i] - dataSrc[indexSub+i];
+					totals[i] = total;
+					dataDst[indexDst+i] = (total/count);
+				}
+			} else {
+				if( y + radius < height )
+					addRow(input,y+radius,totals);
+				if( y - radius - 1 >= 0 )
+					subtractRow(input,y-radius-1,totals);
+
+				for( int i = 0; i < length; i++ ) {
+					dataDst[indexDst+i] = (totals[i]/count);
+				}
+			}
+		}
+	}
+
+	private static void computeBorder( float totals[] , float dataDst[] , int indexDst ,
+									   int x , int width , int radius , int numBands ) {
+		int count = Math.min(width-1,x+radius) - Math.max(0,x-radius) + 1;
+		int end = (x+1)*numBands;
+		for( int i = x*numBands; i < end; i++ ) {
+			dataDst[indexDst+i] = (totals[i]/count);
+		}
+	}
+
+	private static void addRow( ImageInterleavedFloat32 input , int y , float totals[] ) {
+		final float dataSrc[] = input.data;
+		int index = input.startIndex + y*input.stride;
+		for( int i = 0; i < totals.length; i++ ) {
+			totals[i] += dataSrc[index++];
+		}
+	}
+
+	private static void subtractRow( ImageInterleavedFloat32 input , int y , float totals[] ) {
+		final float dataSrc[] = input.data;
+		int index = input.startIndex + y*input.stride;
+		for( int i = 0; i < totals.length; i++ ) {
+			totals[i] -= dataSrc[index++];
+		}
+	}
+
+	/**
+	 * Performs a horizontal 1D convolution which computes the mean value of elements
+	 * inside the kernel.  Along the border only elements inside the image are used.  The running sum
+	 * of each element in a row is found from the element one pixel to its left, so all the bands in a pixel
+	 * are handled in the same pass.
+	 *
+	 * @param input The original image. Not modified.
+	 * @param output Where the resulting image is written to. Modified.
+	 * @param radius Kernel size.
+	 */
+	public static void horizontal( ImageInterleavedInt8 input , ImageInterleavedInt8 output , int radius ) {
+		InputSanityCheck.checkSameShape(input , output);
+
+		final byte dataSrc[] = input.data;
+		final byte dataDst[] = output.data;
+		final int numBands = input.numBands;
+		final int width = input.width;
+		final int height = input.height;
+		final int length = width*numBands;
+		final int offsetAdd = radius*numBands;
+		final int offsetSub = (radius+1)*numBands;
+		final int divisor = radius*2+1;
+
+		// pixels where elements are both added and removed from the sum
+		final int innerX0 = Math.min(radius+1,width);
+		final int innerX1 = Math.max(innerX0,width-radius);
+
+		// pixels where the whole kernel is inside the image
+		final int borderX0 = Math.min(radius,width);
+		final int borderX1 = Math.max(borderX0,width-radius);
+
+		int totals[] = new int[ length ];
+
+		for( int y = 0; y < height; y++ ) {
+			int indexRow = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
+
+			// sum for the first pixel
+			for( int band = 0; band < numBands; band++ )
+				totals[band] = 0;
+			int end = Math.min(radius+1,width)*numBands;
+			for( int i = 0; i < end; i++ ) {
+				totals[i % numBands] += (dataSrc[indexRow+i] & 0xFF);
+			}
+
+			// only elements on the right are added
+			for( int i = numBands; i < innerX0*numBands; i++ ) {
+				int total = totals[i-numBands];
+				if( i + offsetAdd < length )
+					total += (dataSrc[indexRow+i+offsetAdd] & 0xFF);
+				totals[i] = total;
+			}
+
+			for( int i = innerX0*numBands; i < innerX1*numBands; i++ ) {
+				totals[i] = totals[i-numBands] + (dataSrc[indexRow+i+offsetAdd] & 0xFF) - (dataSrc[indexRow+i-offsetSub] & 0xFF);
+			}
+
+			// only elements on the left are removed
+			for( int i = innerX1*numBands; i < length; i++ ) {
+				totals[i] = totals[i-numBands] - (dataSrc[indexRow+i-offsetSub] & 0xFF);
+			}
+
+			// compute the mean, the number of elements in the sum is only reduced along the border
+			for( int i = borderX0*numBands; i < borderX1*numBands; i++ ) {
+				dataDst[indexDst+i] = (byte)(totals[i]/divisor);
+			}
+			for( int x = 0; x < borderX0; x++ ) {
+				computeBorder(totals, dataDst, indexDst, x, width, radius, numBands);
+			}
+			for( int x = borderX1; x < width; x++ ) {
+				computeBorder(totals, dataDst, indexDst, x, width, radius, numBands);
+			}
+		}
+	}
+
+	/**
+	 * Performs a vertical 1D convolution which computes the mean value of elements
+	 * inside the kernel.  Along the border only elements inside the image are used.  Each row is
+	 * processed as a single array of elements, so all the bands in a pixel are handled in the same pass.
+	 *
+	 * @param input The original image. Not modified.
+	 * @param output Where the resulting image is written to. Modified.
+	 * @param radius Kernel size.
+	 */
+	public static void vertical( ImageInterleavedInt8 input , ImageInterleavedInt8 output , int radius ) {
+		InputSanityCheck.checkSameShape(input , output);
+
+		final byte dataSrc[] = input.data;
+		final byte dataDst[] = output.data;
+		final int length = input.width*input.numBands;
+		final int height = input.height;
+
+		int totals[] = new int[ length ];
+
+		int end = Math.min(radius,height);
+		for( int y = 0; y < end; y++ ) {
+			addRow(input,y,totals);
+		}
+
+		for( int y = 0; y < height; y++ ) {
+			int count = Math.min(height-1,y+radius) - Math.max(0,y-radius) + 1;
+			int indexDst = output.startIndex + y*output.stride;
+
+			if( y + radius < height && y - radius - 1 >= 0 ) {
+				int indexAdd = input.startIndex + (y+radius)*input.stride;
+				int indexSub = input.startIndex + (y-radius-1)*input.stride;
+				for( int i = 0; i < length; i++ ) {
+					int total = totals[i] + (dataSrc[indexAdd+i] & 0xFF) - (dataSrc[indexSub+i] & 0xFF);
+					totals[i] = total;
+					dataDst[indexDst+i] = (byte)(total/count);
+				}
+			} else {
+				if( y + radius < height )
+					addRow(input,y+radius,totals);
+				if( y - radius - 1 >= 0 )
+					subtractRow(input,y-radius-1,totals);
+
+				for( int i = 0; i < length; i++ ) {
+					dataDst[indexDst+i] = (byte)(totals[i]/count);
+				}
+			}
+		}
+	}
+
+	private static void computeBorder( int totals[] , byte dataDst[] , int indexDst ,
+									   int x , int width , int radius , int numBands ) {
+		int count = Math.min(width-1,x+radius) - Math.max(0,x-radius) + 1;
+		int end = (x+1)*numBands;
+		for( int i = x*numBands; i < end; i++ ) {
+			dataDst[indexDst+i] = (byte)(totals[i]/count);
+		}
+	}
+
+	private static void addRow( ImageInterleavedInt8 input , int y , int totals[] ) {
+		final byte dataSrc[] = input.data;
+		int index = input.startIndex + y*input.stride;
+		for( int i = 0; i < totals.length; i++ ) {
+			totals[i] += (dataSrc[index++] & 0xFF);
+		}
+	}
+
+	private static void subtractRow( ImageInterleavedInt8 input , int y , int totals[] ) {
+		final byte dataSrc[] = input.data;
+		int index = input.startIndex + y*input.stride;
+		for( int i = 0; i < totals.length; i++ ) {
+			totals[i] -= (dataSrc[index++] & 0xFF);
+		}
+	}
+}
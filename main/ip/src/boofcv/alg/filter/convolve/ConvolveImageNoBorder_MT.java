@@ -0,0 +1,387 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.convolve;
+
+import boofcv.alg.InputSanityCheck;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel1D_I32;
+import boofcv.struct.convolve.Kernel2D_F32;
+import boofcv.struct.convolve.Kernel2D_I32;
+import boofcv.struct.image.*;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link ConvolveImageNoBorder}.  The output image is split into bands of rows
+ * and each band is processed by a different thread using the single threaded code on a sub-image.  Since
+ * every band is computed using the same code, the output is identical to the single threaded version.
+ * </p>
+ *
+ * <p>
+ * Each sub-image passed to the vertical and 2D convolutions includes the rows which are inside the kernel's
+ * radius, but only the rows inside the band are written to.
+ * </p>
+ *
+ * @see BoofConcurrency
+ *
+ * @author Peter Abeles
+ */
+public class ConvolveImageNoBorder_MT {
+
+	/**
+	 * Concurrent version of {@link ConvolveImageNoBorder#horizontal(Kernel1D_F32, ImageFloat32, ImageFloat32, boolean)}
+	 */
+	public static void horizontal(final Kernel1D_F32 kernel,
+								  final ImageFloat32 input, final ImageFloat32 output, boolean includeVerticalBorder) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		int border = includeVerticalBorder ? 0 : kernel.getRadius();
+		BoofConcurrency.loopBlocks(border, output.height - border, new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				ConvolveImageNoBorder.horizontal(kernel, input.subimage(0, y0, input.width, y1),
+						output.subimage(0, y0, output.width, y1), true);
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link ConvolveImageNoBorder#horizontal(Kernel1D_I32, ImageUInt8, ImageInt8, int, boolean)}
+	 */
+	public static void horizontal(final Kernel1D_I32 kernel,
+								  final ImageUInt8 input, final ImageInt8 output, final int divisor, boolean includeVerticalBorder) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		int border = includeVerticalBorder ? 0 : kernel.getRadius();
+		BoofConcurrency.loopBlocks(border, output.height - border, new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				ConvolveImageNoBorder.horizontal(kernel, input.subimage(0, y0, input.width, y1),
+						(ImageInt8)output.subimage(0, y0, output.width, y1), divisor, true);
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link ConvolveImageNoBorder#horizontal(Kernel1D_I32, ImageUInt8, ImageInt16, boolean)}
+	 */
+	public static void horizontal(final Kernel1D_I32 kernel,
+								  final ImageUInt8 input, final ImageInt16 output, boolean includeVerticalBorder) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		int border = includeVerticalBorder ? 0 : kernel.getRadius();
+		BoofConcurrency.loopBlocks(border, output.height - border, new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				ConvolveImageNoBorder.horizontal(kernel, input.subimage(0, y0, input.width, y1),
+						(ImageInt16)output.subimage(0, y0, output.width, y1), true);
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link ConvolveImageNoBorder#horizontal(Kernel1D_I32, ImageUInt8, ImageSInt32, boolean)}
+	 */
+	public static void horizontal(final Kernel1D_I32 kernel,
+								  final ImageUInt8 input, final ImageSInt32 output, boolean includeVerticalBorder) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		int border = includeVerticalBorder ? 0 : kernel.getRadius();
+		BoofConcurrency.loopBlocks(border, output.height - border, new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				ConvolveImageNoBorder.horizontal(kernel, input.subimage(0, y0, input.width, y1),
+						output.subimage(0, y0, output.width, y1), true);
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link ConvolveImageNoBorder#horizontal(Kernel1D_I32, ImageSInt16, ImageInt16, boolean)}
+	 */
+	public static void horizontal(final Kernel1D_I32 kernel,
+								  final ImageSInt16 input, final ImageInt16 output, boolean includeVerticalBorder) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		int border = includeVerticalBorder ? 0 : kernel.getRadius();
+		BoofConcurrency.loopBlocks(border, output.height - border, new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				ConvolveImageNoBorder.horizontal(kernel, input.subimage(0, y0, input.width, y1),
+						(ImageInt16)output.subimage(0, y0, output.width, y1), true);
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link ConvolveImageNoBorder#horizontal(Kernel1D_I32, ImageSInt16, ImageInt16, int, boolean)}
+	 */
+	public static void horizontal(final Kernel1D_I32 kernel,
+								  final ImageSInt16 input, final ImageInt16 output, final int divisor, boolean includeVerticalBorder) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		int border = includeVerticalBorder ? 0 : kernel.getRadius();
+		BoofConcurrency.loopBlocks(border, output.height - border, new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				ConvolveImageNoBorder.horizontal(kernel, input.subimage(0, y0, input.width, y1),
+						(ImageInt16)output.subimage(0, y0, output.width, y1), divisor, true);
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link ConvolveImageNoBorder#horizontal(Kernel1D_I32, ImageSInt32, ImageSInt32, int, boolean)}
+	 */
+	public static void horizontal(final Kernel1D_I32 kernel,
+								  final ImageSInt32 input, final ImageSInt32 output, final int divisor, boolean includeVerticalBorder) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		int border = includeVerticalBorder ? 0 : kernel.getRadius();
+		BoofConcurrency.loopBlocks(border, output.height - border, new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				ConvolveImageNoBorder.horizontal(kernel, input.subimage(0, y0, input.width, y1),
+						output.subimage(0, y0, output.width, y1), divisor, true);
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link ConvolveImageNoBorder#vertical(Kernel1D_F32, ImageFloat32, ImageFloat32, boolean)}
+	 */
+	public static void vertical(final Kernel1D_F32 kernel,
+								  final ImageFloat32 input, final ImageFloat32 output, final boolean includeHorizontalBorder) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		final int radius = kernel.getRadius();
+		BoofConcurrency.loopBlocks(radius, output.height - radius, new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				ConvolveImageNoBorder.vertical(kernel, input.subimage(0, y0 - radius, input.width, y1 + radius),
+						output.subimage(0, y0 - radius, output.width, y1 + radius), includeHorizontalBorder);
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link ConvolveImageNoBorder#vertical(Kernel1D_I32, ImageUInt8, ImageInt8, int, boolean)}
+	 */
+	public static void vertical(final Kernel1D_I32 kernel,
+								  final ImageUInt8 input, final ImageInt8 output, final int divisor, final boolean includeHorizontalBorder) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		final int radius = kernel.getRadius();
+		BoofConcurrency.loopBlocks(radius, output.height - radius, new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				ConvolveImageNoBorder.vertical(kernel, input.subimage(0, y0 - radius, input.width, y1 + radius),
+						(ImageInt8)output.subimage(0, y0 - radius, output.width, y1 + radius), divisor, includeHorizontalBorder);
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link ConvolveImageNoBorder#vertical(Kernel1D_I32, ImageUInt8, ImageInt16, boolean)}
+	 */
+	public static void vertical(final Kernel1D_I32 kernel,
+								  final ImageUInt8 input, final ImageInt16 output, final boolean includeHorizontalBorder) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		final int radius = kernel.getRadius();
+		BoofConcurrency.loopBlocks(radius, output.height - radius, new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				ConvolveImageNoBorder.vertical(kernel, input.subimage(0, y0 - radius, input.width, y1 + radius),
+						(ImageInt16)output.subimage(0, y0 - radius, output.width, y1 + radius), includeHorizontalBorder);
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link ConvolveImageNoBorder#vertical(Kernel1D_I32, ImageUInt8, ImageSInt32, boolean)}
+	 */
+	public static void vertical(final Kernel1D_I32 kernel,
+								  final ImageUInt8 input, final ImageSInt32 output, final boolean includeHorizontalBorder) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		final int radius = kernel.getRadius();
+		BoofConcurrency.loopBlocks(radius, output.height - radius, new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				ConvolveImageNoBorder.vertical(kernel, input.subimage(0, y0 - radius, input.width, y1 + radius),
+						output.subimage(0, y0 - radius, output.width, y1 + radius), includeHorizontalBorder);
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link ConvolveImageNoBorder#vertical(Kernel1D_I32, ImageSInt16, ImageInt16, boolean)}
+	 */
+	public static void vertical(final Kernel1D_I32 kernel,
+								  final ImageSInt16 input, final ImageInt16 output, final boolean includeHorizontalBorder) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		final int radius = kernel.getRadius();
+		BoofConcurrency.loopBlocks(radius, output.height - radius, new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				ConvolveImageNoBorder.vertical(kernel, input.subimage(0, y0 - radius, input.width, y1 + radius),
+						(ImageInt16)output.subimage(0, y0 - radius, output.width, y1 + radius), includeHorizontalBorder);
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link ConvolveImageNoBorder#vertical(Kernel1D_I32, ImageSInt16, ImageInt16, int, boolean)}
+	 */
+	public static void vertical(final Kernel1D_I32 kernel,
+								  final ImageSInt16 input, final ImageInt16 output, final int divisor, final boolean includeHorizontalBorder) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		final int radius = kernel.getRadius();
+		BoofConcurrency.loopBlocks(radius, output.height - radius, new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				ConvolveImageNoBorder.vertical(kernel, input.subimage(0, y0 - radius, input.width, y1 + radius),
+						(ImageInt16)output.subimage(0, y0 - radius, output.width, y1 + radius), divisor, includeHorizontalBorder);
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link ConvolveImageNoBorder#vertical(Kernel1D_I32, ImageSInt32, ImageSInt32, int, boolean)}
+	 */
+	public static void vertical(final Kernel1D_I32 kernel,
+								  final ImageSInt32 input, final ImageSInt32 output, final int divisor, final boolean includeHorizontalBorder) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		final int radius = kernel.getRadius();
+		BoofConcurrency.loopBlocks(radius, output.height - radius, new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				ConvolveImageNoBorder.vertical(kernel, input.subimage(0, y0 - radius, input.width, y1 + radius),
+						output.subimage(0, y0 - radius, output.width, y1 + radius), divisor, includeHorizontalBorder);
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link ConvolveImageNoBorder#convolve(Kernel2D_F32, ImageFloat32, ImageFloat32)}
+	 */
+	public static void convolve(final Kernel2D_F32 kernel,
+								  final ImageFloat32 input, final ImageFloat32 output) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		final int radius = kernel.getRadius();
+		BoofConcurrency.loopBlocks(radius, output.height - radius, new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				ConvolveImageNoBorder.convolve(kernel, input.subimage(0, y0 - radius, input.width, y1 + radius),
+						output.subimage(0, y0 - radius, output.width, y1 + radius));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link ConvolveImageNoBorder#convolve(Kernel2D_I32, ImageUInt8, ImageInt8, int)}
+	 */
+	public static void convolve(final Kernel2D_I32 kernel,
+								  final ImageUInt8 input, final ImageInt8 output, final int divisor) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		final int radius = kernel.getRadius();
+		BoofConcurrency.loopBlocks(radius, output.height - radius, new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				ConvolveImageNoBorder.convolve(kernel, input.subimage(0, y0 - radius, input.width, y1 + radius),
+						(ImageInt8)output.subimage(0, y0 - radius, output.width, y1 + radius), divisor);
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link ConvolveImageNoBorder#convolve(Kernel2D_I32, ImageUInt8, ImageInt16)}
+	 */
+	public static void convolve(final Kernel2D_I32 kernel,
+								  final ImageUInt8 input, final ImageInt16 output) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		final int radius = kernel.getRadius();
+		BoofConcurrency.loopBlocks(radius, output.height - radius, new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				ConvolveImageNoBorder.convolve(kernel, input.subimage(0, y0 - radius, input.width, y1 + radius),
+						(ImageInt16)output.subimage(0, y0 - radius, output.width, y1 + radius));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link ConvolveImageNoBorder#convolve(Kernel2D_I32, ImageUInt8, ImageSInt32)}
+	 */
+	public static void convolve(final Kernel2D_I32 kernel,
+								  final ImageUInt8 input, final ImageSInt32 output) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		final int radius = kernel.getRadius();
+		BoofConcurrency.loopBlocks(radius, output.height - radius, new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				ConvolveImageNoBorder.convolve(kernel, input.subimage(0, y0 - radius, input.width, y1 + radius),
+						output.subimage(0, y0 - radius, output.width, y1 + radius));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link ConvolveImageNoBorder#convolve(Kernel2D_I32, ImageSInt16, ImageInt16)}
+	 */
+	public static void convolve(final Kernel2D_I32 kernel,
+								  final ImageSInt16 input, final ImageInt16 output) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		final int radius = kernel.getRadius();
+		BoofConcurrency.loopBlocks(radius, output.height - radius, new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				ConvolveImageNoBorder.convolve(kernel, input.subimage(0, y0 - radius, input.width, y1 + radius),
+						(ImageInt16)output.subimage(0, y0 - radius, output.width, y1 + radius));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link ConvolveImageNoBorder#convolve(Kernel2D_I32, ImageSInt16, ImageInt16, int)}
+	 */
+	public static void convolve(final Kernel2D_I32 kernel,
+								  final ImageSInt16 input, final ImageInt16 output, final int divisor) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		final int radius = kernel.getRadius();
+		BoofConcurrency.loopBlocks(radius, output.height - radius, new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				ConvolveImageNoBorder.convolve(kernel, input.subimage(0, y0 - radius, input.width, y1 + radius),
+						(ImageInt16)output.subimage(0, y0 - radius, output.width, y1 + radius), divisor);
+			}
+		});
+	}
+}
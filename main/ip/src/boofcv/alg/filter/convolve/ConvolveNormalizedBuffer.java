@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.convolve;
+
+import boofcv.alg.InputSanityCheck;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel1D_I32;
+import boofcv.struct.image.ImageBufferFloat32;
+import boofcv.struct.image.ImageBufferUInt8;
+
+/**
+ * <p>
+ * Normalized convolution for {@link boofcv.struct.image.ImageBufferSingleBand} images.  Produces the same output
+ * as {@link ConvolveNormalized}.  Inside the image the kernel is applied directly and along the border it is
+ * re-normalized to only include the portion which overlaps the image.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ConvolveNormalizedBuffer {
+
+	/**
+	 * Performs a horizontal 1D convolution across the image while re-normalizing the kernel depending on its
+	 * overlap with the image.
+	 *
+	 * @param kernel The kernel that is being convolved. Not modified.
+	 * @param image	 The original image. Not modified.
+	 * @param dest	 Where the resulting image is written to. Modified.
+	 */
+	public static void horizontal( Kernel1D_F32 kernel , ImageBufferFloat32 image , ImageBufferFloat32 dest ) {
+		InputSanityCheck.checkSameShape(image, dest);
+
+		final float dataKer[] = kernel.data;
+		final int radius = kernel.getRadius();
+		final int kernelWidth = kernel.getWidth();
+		final int width = image.width;
+		final int height = image.height;
+
+		for( int y = 0; y < height; y++ ) {
+			int indexRow = image.startIndex + y*image.stride;
+			int indexDst = dest.startIndex + y*dest.stride;
+
+			for( int x = 0; x < width; x++ , indexDst++ ) {
+				float total = 0;
+
+				if( x >= radius && x + radius < width ) {
+					int indexSrc = indexRow + x - radius;
+					for( int k = 0; k < kernelWidth; k++ ) {
+						total += (image.data.get(indexSrc++))*dataKer[k];
+					}
+					dest.data.put(indexDst, (total));
+				} else {
+					float weight = 0;
+					int k0 = Math.max(0,radius-x);
+					int k1 = Math.min(kernelWidth,width+radius-x);
+					int indexSrc = indexRow + x - radius + k0;
+					for( int k = k0; k < k1; k++ ) {
+						float w = dataKer[k];
+						weight += w;
+						total += (image.data.get(indexSrc++))*w;
+					}
+					dest.data.put(indexDst, (total/weight));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Performs a vertical 1D convolution across the image while re-normalizing the kernel depending on its
+	 * overlap with the image.
+	 *
+	 * @param kernel The kernel that is being convolved. Not modified.
+	 * @param image	 The original image. Not modified.
+	 * @param dest	 Where the resulting image is written to. Modified.
+	 */
+	public static void vertical( Kernel1D_F32 kernel , ImageBufferFloat32 image , ImageBufferFloat32 dest ) {
+		InputSanityCheck.checkSameShape(image, dest);
+
+		final float dataKer[] = kernel.data;
+		final int radius = kernel.getRadius();
+		final int kernelWidth = kernel.getWidth();
+		final int width = image.width;
+		final int height = image.height;
+		final int stride = image.stride;
+
+		for( int y = 0; y < height; y++ ) {
+			int indexDst = dest.startIndex + y*dest.stride;
+			boolean inner = y >= radius && y + radius < height;
+			int k0 = Math.max(0,radius-y);
+			int k1 = Math.min(kernelWidth,height+radius-y);
+
+			for( int x = 0; x < width; x++ , indexDst++ ) {
+				float total = 0;
+
+				if( inner ) {
+					int indexSrc = image.startIndex + (y-radius)*stride + x;
+					for( int k = 0; k < kernelWidth; k++ , indexSrc += stride ) {
+						total += (image.data.get(indexSrc))*dataKer[k];
+					}
+					dest.data.put(indexDst, (total));
+				} else {
+					float weight = 0;
+					int indexSrc = image.startIndex + (y-radius+k0)*stride + x;
+					for( int k = k0; k < k1; k++ , indexSrc += stride ) {
+						float w = dataKer[k];
+						weight += w;
+						total += (image.data.get(indexSrc))*w;
+					}
+					dest.data.put(indexDst, (total/weight));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Performs a horizontal 1D convolution across the image while re-normalizing the kernel depending on its
+	 * overlap with the image.
+	 *
+	 * @param kernel The kernel that is being convolved. Not modified.
+	 * @param image	 The original image. Not modified.
+	 * @param dest	 Where the resulting image is written to. Modified.
+	 */
+	public static void horizontal( Kernel1D_I32 kernel , ImageBufferUInt8 image , ImageBufferUInt8 dest ) {
+		InputSanityCheck.checkSameShape(image, dest);
+
+		final int dataKer[] = kernel.data;
+		final int radius = kernel.getRadius();
+		final int kernelWidth = kernel.getWidth();
+		final int divisor = kernel.computeSum();
+		final int width = image.width;
+		final int height = image.height;
+
+		for( int y = 0; y < height; y++ ) {
+			int indexRow = image.startIndex + y*image.stride;
+			int indexDst = dest.startIndex + y*dest.stride;
+
+			for( int x = 0; x < width; x++ , indexDst++ ) {
+				int total = 0;
+
+				if( x >= radius && x + radius < width ) {
+					int indexSrc = indexRow + x - radius;
+					for( int k = 0; k < kernelWidth; k++ ) {
+						total += (image.data.get(indexSrc++) & 0xFF)*dataKer[k];
+					}
+					dest.data.put(indexDst, (byte)(total/divisor));
+				} else {
+					int weight = 0;
+					int k0 = Math.max(0,radius-x);
+					int k1 = Math.min(kernelWidth,width+radius-x);
+					int indexSrc = indexRow + x - radius + k0;
+					for( int k = k0; k < k1; k++ ) {
+						int w = dataKer[k];
+						weight += w;
+						total += (image.data.get(indexSrc++) & 0xFF)*w;
+					}
+					dest.data.put(indexDst, (byte)(total/weight));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Performs a vertical 1D convolution across the image while re-normalizing the kernel depending on its
+	 * overlap with the image.
+	 *
+	 * @param kernel The kernel that is being convolved. Not modified.
+	 * @param image	 The original image. Not modified.
+	 * @param dest	 Where the resulting image is written to. Modified.
+	 */
+	public static void vertical( Kernel1D_I32 kernel , ImageBufferUInt8 image , ImageBufferUInt8 dest ) {
+		InputSanityCheck.checkSameShape(image, dest);
+
+		final int dataKer[] = kernel.data;
+		final int radius = kernel.getRadius();
+		final int kernelWidth = kernel.getWidth();
+		final int divisor = kernel.computeSum();
+		final int width = image.width;
+		final int height = image.height;
+		final int stride = image.stride;
+
+		for( int y = 0; y < height; y++ ) {
+			int indexDst = dest.startIndex + y*dest.stride;
+			boolean inner = y >= radius && y + radius < height;
+			int k0 = Math.max(0,radius-y);
+			int k1 = Math.min(kernelWidth,height+radius-y);
+
+			for( int x = 0; x < width; x++ , indexDst++ ) {
+				int total = 0;
+
+				if( inner ) {
+					int indexSrc = image.startIndex + (y-radius)*stride + x;
+					for( int k = 0; k < kernelWidth; k++ , indexSrc += stride ) {
+						total += (image.data.get(indexSrc) & 0xFF)*dataKer[k];
+					}
+					dest.data.put(indexDst, (byte)(total/divisor));
+				} else {
+					int weight = 0;
+					int indexSrc = image.startIndex + (y-radius+k0)*stride + x;
+					for( int k = k0; k < k1; k++ , indexSrc += stride ) {
+						int w = dataKer[k];
+						weight += w;
+						total += (image.data.get(indexSrc) & 0xFF)*w;
+					}
+					dest.data.put(indexDst, (byte)(total/weight));
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,341 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.convolve;
+
+import boofcv.alg.InputSanityCheck;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel1D_I32;
+import boofcv.struct.image.ImageInterleavedFloat32;
+import boofcv.struct.image.ImageInterleavedInt8;
+
+/**
+ * <p>
+ * Normalized convolution for {@link boofcv.struct.image.ImageInterleaved} images.  Produces the same output
+ * as applying {@link ConvolveNormalized} to each band independently, but all the bands in a pixel are
+ * processed at the same time instead of being split into separate images first.  Inside the image the
+ * kernel is applied directly and along the border it is re-normalized to only include the portion which
+ * overlaps the image.
+ * </p>
+ *
+ * <p>
+ * {@link ImageInterleavedInt8} is treated as unsigned.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ConvolveNormalizedInterleaved {
+
+	/**
+	 * Performs a horizontal 1D convolution across the image while re-normalizing the kernel depending on its
+	 * overlap with the image.  Inside the image each row is processed as a single array of elements, with
+	 * one kernel element at a time being applied to the whole row.
+	 *
+	 * @param kernel The kernel that is being convolved. Not modified.
+	 * @param image	 The original image. Not modified.
+	 * @param dest	 Where the resulting image is written to. Modified.
+	 */
+	public static void horizontal( Kernel1D_F32 kernel , ImageInterleavedFloat32 image , ImageInterleavedFloat32 dest ) {
+		InputSanityCheck.checkSameShape(image, dest);
+
+		final float dataSrc[] = image.data;
+		final float dataDst[] = dest.data;
+		final float dataKer[] = kernel.data;
+		final int radius = kernel.getRadius();
+		final int kernelWidth = kernel.getWidth();
+		final int numBands = image.numBands;
+		final int width = image.width;
+		final int height = image.height;
+
+		// range of elements in a row where the whole kernel is inside the image
+		final int innerX1 = Math.max(radius,width-radius);
+		final int elementStart = radius*numBands;
+		final int elementEnd = innerX1*numBands;
+
+		if( elementEnd > elementStart ) {
+			float totals[] = new float[ elementEnd ];
+
+			for( int y = 0; y < height; y++ ) {
+				int indexRow = image.startIndex + y*image.stride - elementStart;
+				int indexDst = dest.startIndex + y*dest.stride;
+
+				float w = dataKer[0];
+				for( int i = elementStart; i < elementEnd; i++ ) {
+					totals[i] = dataSrc[indexRow+i]*w;
+				}
+				for( int k = 1; k < kernelWidth; k++ ) {
+					int indexSrc = indexRow + k*numBands;
+					w = dataKer[k];
+					for( int i = elementStart; i < elementEnd; i++ ) {
+						totals[i] += dataSrc[indexSrc+i]*w;
+					}
+				}
+				for( int i = elementStart; i < elementEnd; i++ ) {
+					dataDst[indexDst+i] = totals[i];
+				}
+			}
+		}
+
+		horizontalBorder(dataKer, image, dest, 0, Math.min(radius,width));
+		horizontalBorder(dataKer, image, dest, innerX1, width);
+	}
+
+	/**
+	 * Convolves the columns from x0 to x1-1 with a kernel which has been re-normalized to only include
+	 * the part which is inside the image.
+	 */
+	private static void horizontalBorder( float dataKer[] , ImageInterleavedFloat32 image , ImageInterleavedFloat32 dest , int x0 , int x1 ) {
+		final float dataSrc[] = image.data;
+		final float dataDst[] = dest.data;
+		final int kernelWidth = dataKer.length;
+		final int radius = kernelWidth/2;
+		final int numBands = image.numBands;
+		final int width = image.width;
+
+		for( int x = x0; x < x1; x++ ) {
+			int k0 = Math.max(0,radius-x);
+			int k1 = Math.min(kernelWidth,width+radius-x);
+			float weight = 0;
+			for( int k = k0; k < k1; k++ ) {
+				weight += dataKer[k];
+			}
+
+			for( int y = 0; y < image.height; y++ ) {
+				int indexPixel = image.startIndex + y*image.stride + (x - radius + k0)*numBands;
+				int indexDst = dest.startIndex + y*dest.stride + x*numBands;
+
+				for( int band = 0; band < numBands; band++ ) {
+					int indexSrc = indexPixel + band;
+					float total = 0;
+					for( int k = k0; k < k1; k++ , indexSrc += numBands ) {
+						total += dataSrc[indexSrc]*dataKer[k];
+					}
+					dataDst[indexDst++] = total/weight;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Performs a vertical 1D convolution across the image while re-normalizing the kernel depending on its
+	 * overlap with the image.  Each row is processed as a single array of elements, with one kernel element
+	 * at a time being applied to the whole row.
+	 *
+	 * @param kernel The kernel that is being convolved. Not modified.
+	 * @param image	 The original image. Not modified.
+	 * @param dest	 Where the resulting image is written to. Modified.
+	 */
+	public static void vertical( Kernel1D_F32 kernel , ImageInterleavedFloat32 image , ImageInterleavedFloat32 dest ) {
+		InputSanityCheck.checkSameShape(image, dest);
+
+		final float dataSrc[] = image.data;
+		final float dataDst[] = dest.data;
+		final float dataKer[] = kernel.data;
+		final int radius = kernel.getRadius();
+		final int kernelWidth = kernel.getWidth();
+		final int length = image.width*image.numBands;
+		final int height = image.height;
+		final int stride = image.stride;
+
+		float totals[] = new float[ length ];
+
+		for( int y = 0; y < height; y++ ) {
+			int indexDst = dest.startIndex + y*dest.stride;
+			int k0 = Math.max(0,radius-y);
+			int k1 = Math.min(kernelWidth,height+radius-y);
+			int indexRow = image.startIndex + (y-radius)*stride;
+
+			int indexSrc = indexRow + k0*stride;
+			float w = dataKer[k0];
+			for( int i = 0; i < length; i++ ) {
+				totals[i] = dataSrc[indexSrc+i]*w;
+			}
+			for( int k = k0+1; k < k1; k++ ) {
+				indexSrc = indexRow + k*stride;
+				w = dataKer[k];
+				for( int i = 0; i < length; i++ ) {
+					totals[i] += dataSrc[indexSrc+i]*w;
+				}
+			}
+
+			if( k0 == 0 && k1 == kernelWidth ) {
+				for( int i = 0; i < length; i++ ) {
+					dataDst[indexDst+i] = totals[i];
+				}
+			} else {
+				float weight = 0;
+				for( int k = k0; k < k1; k++ ) {
+					weight += dataKer[k];
+				}
+				for( int i = 0; i < length; i++ ) {
+					dataDst[indexDst+i] = totals[i]/weight;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Performs a horizontal 1D convolution across the image while re-normalizing the kernel depending on its
+	 * overlap with the image.  Inside the image each row is processed as a single array of elements, with
+	 * one kernel element at a time being applied to the whole row.
+	 *
+	 * @param kernel The kernel that is being convolved. Not modified.
+	 * @param image	 The original image. Not modified.
+	 * @param dest	 Where the resulting image is written to. Modified.
+	 */
+	public static void horizontal( Kernel1D_I32 kernel , ImageInterleavedInt8 image , ImageInterleavedInt8 dest ) {
+		InputSanityCheck.checkSameShape(image, dest);
+
+		final byte dataSrc[] = image.data;
+		final byte dataDst[] = dest.data;
+		final int dataKer[] = kernel.data;
+		final int divisor = kernel.computeSum();
+		final int radius = kernel.getRadius();
+		final int kernelWidth = kernel.getWidth();
+		final int numBands = image.numBands;
+		final int width = image.width;
+		final int height = image.height;
+
+		// range of elements in a row where the whole kernel is inside the image
+		final int innerX1 = Math.max(radius,width-radius);
+		final int elementStart = radius*numBands;
+		final int elementEnd = innerX1*numBands;
+
+		if( elementEnd > elementStart ) {
+			int totals[] = new int[ elementEnd ];
+
+			for( int y = 0; y < height; y++ ) {
+				int indexRow = image.startIndex + y*image.stride - elementStart;
+				int indexDst = dest.startIndex + y*dest.stride;
+
+				int w = dataKer[0];
+				for( int i = elementStart; i < elementEnd; i++ ) {
+					totals[i] = (dataSrc[indexRow+i] & 0xFF)*w;
+				}
+				for( int k = 1; k < kernelWidth; k++ ) {
+					int indexSrc = indexRow + k*numBands;
+					w = dataKer[k];
+					for( int i = elementStart; i < elementEnd; i++ ) {
+						totals[i] += (dataSrc[indexSrc+i] & 0xFF)*w;
+					}
+				}
+				for( int i = elementStart; i < elementEnd; i++ ) {
+					dataDst[indexDst+i] = (byte)(totals[i]/divisor);
+				}
+			}
+		}
+
+		horizontalBorder(dataKer, image, dest, 0, Math.min(radius,width));
+		horizontalBorder(dataKer, image, dest, innerX1, width);
+	}
+
+	/**
+	 * Convolves the columns from x0 to x1-1 with a kernel which has been re-normalized to only include
+	 * the part which is inside the image.
+	 */
+	private static void horizontalBorder( int dataKer[] , ImageInterleavedInt8 image , ImageInterleavedInt8 dest , int x0 , int x1 ) {
+		final byte dataSrc[] = image.data;
+		final byte dataDst[] = dest.data;
+		final int kernelWidth = dataKer.length;
+		final int radius = kernelWidth/2;
+		final int numBands = image.numBands;
+		final int width = image.width;
+
+		for( int x = x0; x < x1; x++ ) {
+			int k0 = Math.max(0,radius-x);
+			int k1 = Math.min(kernelWidth,width+radius-x);
+			int weight = 0;
+			for( int k = k0; k < k1; k++ ) {
+				weight += dataKer[k];
+			}
+
+			for( int y = 0; y < image.height; y++ ) {
+				int indexPixel = image.startIndex + y*image.stride + (x - radius + k0)*numBands;
+				int indexDst = dest.startIndex + y*dest.stride + x*numBands;
+
+				for( int band = 0; band < numBands; band++ ) {
+					int indexSrc = indexPixel + band;
+					int total = 0;
+					for( int k = k0; k < k1; k++ , indexSrc += numBands ) {
+						total += (dataSrc[indexSrc] & 0xFF)*dataKer[k];
+					}
+					dataDst[indexDst++] = (byte)(total/weight);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Performs a vertical 1D convolution across the image while re-normalizing the kernel depending on its
+	 * overlap with the image.  Each row is processed as a single array of elements, with one kernel element
+	 * at a time being applied to the whole row.
+	 *
+	 * @param kernel The kernel that is being convolved. Not modified.
+	 * @param image	 The original image. Not modified.
+	 * @param dest	 Where the resulting image is written to. Modified.
+	 */
+	public static void vertical( Kernel1D_I32 kernel , ImageInterleavedInt8 image , ImageInterleavedInt8 dest ) {
+		InputSanityCheck.checkSameShape(image, dest);
+
+		final byte dataSrc[] = image.data;
+		final byte dataDst[] = dest.data;
+		final int dataKer[] = kernel.data;
+		final int divisor = kernel.computeSum();
+		final int radius = kernel.getRadius();
+		final int kernelWidth = kernel.getWidth();
+		final int length = image.width*image.numBands;
+		final int height = image.height;
+		final int stride = image.stride;
+
+		int totals[] = new int[ length ];
+
+		for( int y = 0; y < height; y++ ) {
+			int indexDst = dest.startIndex + y*dest.stride;
+			int k0 = Math.max(0,radius-y);
+			int k1 = Math.min(kernelWidth,height+radius-y);
+			int indexRow = image.startIndex + (y-radius)*stride;
+
+			int indexSrc = indexRow + k0*stride;
+			int w = dataKer[k0];
+			for( int i = 0; i < length; i++ ) {
+				totals[i] = (dataSrc[indexSrc+i] & 0xFF)*w;
+			}
+			for( int k = k0+1; k < k1; k++ ) {
+				indexSrc = indexRow + k*stride;
+				w = dataKer[k];
+				for( int i = 0; i < length; i++ ) {
+					totals[i] += (dataSrc[indexSrc+i] & 0xFF)*w;
+				}
+			}
+
+			if( k0 == 0 && k1 == kernelWidth ) {
+				for( int i = 0; i < length; i++ ) {
+					dataDst[indexDst+i] = (byte)(totals[i]/divisor);
+				}
+			} else {
+				int weight = 0;
+				for( int k = k0; k < k1; k++ ) {
+					weight += dataKer[k];
+				}
+				for( int i = 0; i < length; i++ ) {
+					dataDst[indexDst+i] = (byte)(totals[i]/weight);
+				}
+			}
+		}
+	}
+}
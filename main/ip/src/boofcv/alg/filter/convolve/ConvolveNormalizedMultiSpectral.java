@@ -0,0 +1,322 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.convolve;
+
+import boofcv.alg.InputSanityCheck;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel1D_I32;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageUInt8;
+import boofcv.struct.image.MultiSpectral;
+
+/**
+ * <p>
+ * Normalized convolution for {@link MultiSpectral} images.  Produces the same output as applying
+ * {@link ConvolveNormalized} to each band independently.  The inner portion of each band is convolved using
+ * {@link ConvolveImageNoBorder}.  Along the image border the kernel is re-normalized to only include the portion
+ * which overlaps the image.  The re-normalized kernel only depends on the location along the border, so it is
+ * computed once and then applied to all the bands.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ConvolveNormalizedMultiSpectral {
+
+	/**
+	 * Performs a horizontal 1D convolution across each band while re-normalizing the kernel depending on its
+	 * overlap with the image.
+	 *
+	 * @param kernel The kernel that is being convolved. Not modified.
+	 * @param image	 The original image. Not modified.
+	 * @param dest	 Where the resulting image is written to. Modified.
+	 */
+	public static void horizontal( Kernel1D_F32 kernel , MultiSpectral<ImageFloat32> image , MultiSpectral<ImageFloat32> dest ) {
+		InputSanityCheck.checkSameShape(image, dest);
+
+		final int radius = kernel.getRadius();
+		final int width = image.width;
+
+		if( kernel.width < width ) {
+			for( int band = 0; band < image.getNumBands(); band++ ) {
+				ConvolveImageNoBorder.horizontal(kernel, image.bands[band], dest.bands[band],  true);
+			}
+			horizontalBorder(kernel.data, image, dest, 0, radius);
+			horizontalBorder(kernel.data, image, dest, width-radius, width);
+		} else {
+			horizontalBorder(kernel.data, image, dest, 0, width);
+		}
+	}
+
+	/**
+	 * Convolves the columns from x0 to x1-1 with a kernel which has been re-normalized to only include
+	 * the part which is inside the image.
+	 */
+	private static void horizontalBorder( float dataKer[] , MultiSpectral<ImageFloat32> image , MultiSpectral<ImageFloat32> dest ,
+										  int x0 , int x1 ) {
+		final int kernelWidth = dataKer.length;
+		final int radius = kernelWidth/2;
+		final int numBands = image.getNumBands();
+		final int width = image.width;
+
+		for( int x = x0; x < x1; x++ ) {
+			int k0 = Math.max(0,radius-x);
+			int k1 = Math.min(kernelWidth,width+radius-x);
+			float weight = 0;
+			for( int k = k0; k < k1; k++ ) {
+				weight += dataKer[k];
+			}
+
+			for( int band = 0; band < numBands; band++ ) {
+				ImageFloat32 src = image.bands[band];
+				ImageFloat32 dst = dest.bands[band];
+				final float dataSrc[] = src.data;
+				final float dataDst[] = dst.data;
+
+				for( int y = 0; y < image.height; y++ ) {
+					int indexSrc = src.startIndex + y*src.stride + x - radius + k0;
+					float total = 0;
+					for( int k = k0; k < k1; k++ ) {
+						total += dataSrc[indexSrc++]*dataKer[k];
+					}
+					dataDst[dst.startIndex + y*dst.stride + x] = total/weight;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Performs a vertical 1D convolution across each band while re-normalizing the kernel depending on its
+	 * overlap with the image.
+	 *
+	 * @param kernel The kernel that is being convolved. Not modified.
+	 * @param image	 The original image. Not modified.
+	 * @param dest	 Where the resulting image is written to. Modified.
+	 */
+	public static void vertical( Kernel1D_F32 kernel , MultiSpectral<ImageFloat32> image , MultiSpectral<ImageFloat32> dest ) {
+		InputSanityCheck.checkSameShape(image, dest);
+
+		final int radius = kernel.getRadius();
+		final int height = image.height;
+
+		if( kernel.width < height ) {
+			for( int band = 0; band < image.getNumBands(); band++ ) {
+				ConvolveImageNoBorder.vertical(kernel, image.bands[band], dest.bands[band],  true);
+			}
+			verticalBorder(kernel.data, image, dest, 0, radius);
+			verticalBorder(kernel.data, image, dest, height-radius, height);
+		} else {
+			verticalBorder(kernel.data, image, dest, 0, height);
+		}
+	}
+
+	/**
+	 * Convolves the rows from y0 to y1-1 with a kernel which has been re-normalized to only include
+	 * the part which is inside the image.  Each row is processed as a single array of elements, with
+	 * one kernel element at a time being applied to the whole row.
+	 */
+	private static void verticalBorder( float dataKer[] , MultiSpectral<ImageFloat32> image , MultiSpectral<ImageFloat32> dest ,
+										int y0 , int y1 ) {
+		final int kernelWidth = dataKer.length;
+		final int radius = kernelWidth/2;
+		final int numBands = image.getNumBands();
+		final int width = image.width;
+		final int height = image.height;
+
+		float totals[] = new float[ width ];
+
+		for( int y = y0; y < y1; y++ ) {
+			int k0 = Math.max(0,radius-y);
+			int k1 = Math.min(kernelWidth,height+radius-y);
+			float weight = 0;
+			for( int k = k0; k < k1; k++ ) {
+				weight += dataKer[k];
+			}
+
+			for( int band = 0; band < numBands; band++ ) {
+				ImageFloat32 src = image.bands[band];
+				ImageFloat32 dst = dest.bands[band];
+				final float dataSrc[] = src.data;
+				final float dataDst[] = dst.data;
+				final int stride = src.stride;
+
+				int indexRow = src.startIndex + (y-radius)*stride;
+				int indexDst = dst.startIndex + y*dst.stride;
+
+				int indexSrc = indexRow + k0*stride;
+				float w = dataKer[k0];
+				for( int i = 0; i < width; i++ ) {
+					totals[i] = dataSrc[indexSrc+i]*w;
+				}
+				for( int k = k0+1; k < k1; k++ ) {
+					indexSrc = indexRow + k*stride;
+					w = dataKer[k];
+					for( int i = 0; i < width; i++ ) {
+						totals[i] += dataSrc[indexSrc+i]*w;
+					}
+				}
+
+				for( int i = 0; i < width; i++ ) {
+					dataDst[indexDst+i] = totals[i]/weight;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Performs a horizontal 1D convolution across each band while re-normalizing the kernel depending on its
+	 * overlap with the image.
+	 *
+	 * @param kernel The kernel that is being convolved. Not modified.
+	 * @param image	 The original image. Not modified.
+	 * @param dest	 Where the resulting image is written to. Modified.
+	 */
+	public static void horizontal( Kernel1D_I32 kernel , MultiSpectral<ImageUInt8> image , MultiSpectral<ImageUInt8> dest ) {
+		InputSanityCheck.checkSameShape(image, dest);
+
+		final int radius = kernel.getRadius();
+		final int width = image.width;
+
+		if( kernel.width < width ) {
+			int divisor = kernel.computeSum();
+			for( int band = 0; band < image.getNumBands(); band++ ) {
+				ConvolveImageNoBorder.horizontal(kernel, image.bands[band], dest.bands[band], divisor, true);
+			}
+			horizontalBorder(kernel.data, image, dest, 0, radius);
+			horizontalBorder(kernel.data, image, dest, width-radius, width);
+		} else {
+			horizontalBorder(kernel.data, image, dest, 0, width);
+		}
+	}
+
+	/**
+	 * Convolves the columns from x0 to x1-1 with a kernel which has been re-normalized to only include
+	 * the part which is inside the image.
+	 */
+	private static void horizontalBorder( int dataKer[] , MultiSpectral<ImageUInt8> image , MultiSpectral<ImageUInt8> dest ,
+										  int x0 , int x1 ) {
+		final int kernelWidth = dataKer.length;
+		final int radius = kernelWidth/2;
+		final int numBands = image.getNumBands();
+		final int width = image.width;
+
+		for( int x = x0; x < x1; x++ ) {
+			int k0 = Math.max(0,radius-x);
+			int k1 = Math.min(kernelWidth,width+radius-x);
+			int weight = 0;
+			for( int k = k0; k < k1; k++ ) {
+				weight += dataKer[k];
+			}
+
+			for( int band = 0; band < numBands; band++ ) {
+				ImageUInt8 src = image.bands[band];
+				ImageUInt8 dst = dest.bands[band];
+				final byte dataSrc[] = src.data;
+				final byte dataDst[] = dst.data;
+
+				for( int y = 0; y < image.height; y++ ) {
+					int indexSrc = src.startIndex + y*src.stride + x - radius + k0;
+					int total = 0;
+					for( int k = k0; k < k1; k++ ) {
+						total += (dataSrc[indexSrc++] & 0xFF)*dataKer[k];
+					}
+					dataDst[dst.startIndex + y*dst.stride + x] = (byte)(total/weight);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Performs a vertical 1D convolution across each band while re-normalizing the kernel depending on its
+	 * overlap with the image.
+	 *
+	 * @param kernel The kernel that is being convolved. Not modified.
+	 * @param image	 The original image. Not modified.
+	 * @param dest	 Where the resulting image is written to. Modified.
+	 */
+	public static void vertical( Kernel1D_I32 kernel , MultiSpectral<ImageUInt8> image , MultiSpectral<ImageUInt8> dest ) {
+		InputSanityCheck.checkSameShape(image, dest);
+
+		final int radius = kernel.getRadius();
+		final int height = image.height;
+
+		if( kernel.width < height ) {
+			int divisor = kernel.computeSum();
+			for( int band = 0; band < image.getNumBands(); band++ ) {
+				ConvolveImageNoBorder.vertical(kernel, image.bands[band], dest.bands[band], divisor, true);
+			}
+			verticalBorder(kernel.data, image, dest, 0, radius);
+			verticalBorder(kernel.data, image, dest, height-radius, height);
+		} else {
+			verticalBorder(kernel.data, image, dest, 0, height);
+		}
+	}
+
+	/**
+	 * Convolves the rows from y0 to y1-1 with a kernel which has been re-normalized to only include
+	 * the part which is inside the image.  Each row is processed as a single array of elements, with
+	 * one kernel element at a time being applied to the whole row.
+	 */
+	private static void verticalBorder( int dataKer[] , MultiSpectral<ImageUInt8> image , MultiSpectral<ImageUInt8> dest ,
+										int y0 , int y1 ) {
+		final int kernelWidth = dataKer.length;
+		final int radius = kernelWidth/2;
+		final int numBands = image.getNumBands();
+		final int width = image.width;
+		final int height = image.height;
+
+		int totals[] = new int[ width ];
+
+		for( int y = y0; y < y1; y++ ) {
+			int k0 = Math.max(0,radius-y);
+			int k1 = Math.min(kernelWidth,height+radius-y);
+			int weight = 0;
+			for( int k = k0; k < k1; k++ ) {
+				weight += dataKer[k];
+			}
+
+			for( int band = 0; band < numBands; band++ ) {
+				ImageUInt8 src = image.bands[band];
+				ImageUInt8 dst = dest.bands[band];
+				final byte dataSrc[] = src.data;
+				final byte dataDst[] = dst.data;
+				final int stride = src.stride;
+
+				int indexRow = src.startIndex + (y-radius)*stride;
+				int indexDst = dst.startIndex + y*dst.stride;
+
+				int indexSrc = indexRow + k0*stride;
+				int w = dataKer[k0];
+				for( int i = 0; i < width; i++ ) {
+					totals[i] = (dataSrc[indexSrc+i] & 0xFF)*w;
+				}
+				for( int k = k0+1; k < k1; k++ ) {
+					indexSrc = indexRow + k*stride;
+					w = dataKer[k];
+					for( int i = 0; i < width; i++ ) {
+						totals[i] += (dataSrc[indexSrc+i] & 0xFF)*w;
+					}
+				}
+
+				for( int i = 0; i < width; i++ ) {
+					dataDst[indexDst+i] = (byte)(totals[i]/weight);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.convolve;
+
+import boofcv.alg.InputSanityCheck;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel1D_I32;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageUInt8;
+import boofcv.struct.image.MultiSpectral;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link ConvolveNormalizedMultiSpectral}.  The output is identical to the single
+ * threaded version.
+ * </p>
+ *
+ * <p>
+ * Horizontal convolutions are split into bands of rows and vertical convolutions into bands of columns.  Each
+ * thread processes all the image bands in its block of rows or columns, so the work is divided evenly no
+ * matter how many image bands there are.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ConvolveNormalizedMultiSpectral_MT {
+
+	/**
+	 * Concurrent version of {@link ConvolveNormalizedMultiSpectral#horizontal(Kernel1D_F32, MultiSpectral, MultiSpectral)}
+	 */
+	public static void horizontal(final Kernel1D_F32 kernel, final MultiSpectral<ImageFloat32> image, final MultiSpectral<ImageFloat32> dest ) {
+		InputSanityCheck.checkSameShape(image, dest);
+
+		BoofConcurrency.loopBlocks(0, dest.height, new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				ConvolveNormalizedMultiSpectral.horizontal(kernel, image.subimage(0, y0, image.width, y1),
+						dest.subimage(0, y0, dest.width, y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link ConvolveNormalizedMultiSpectral#vertical(Kernel1D_F32, MultiSpectral, MultiSpectral)}
+	 */
+	public static void vertical(final Kernel1D_F32 kernel, final MultiSpectral<ImageFloat32> image, final MultiSpectral<ImageFloat32> dest ) {
+		InputSanityCheck.checkSameShape(image, dest);
+
+		BoofConcurrency.loopBlocks(0, dest.width, new IntRangeTask() {
+			@Override
+			public void run(int x0, int x1) {
+				ConvolveNormalizedMultiSpectral.vertical(kernel, image.subimage(x0, 0, x1, image.height),
+						dest.subimage(x0, 0, x1, dest.height));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link ConvolveNormalizedMultiSpectral#horizontal(Kernel1D_I32, MultiSpectral, MultiSpectral)}
+	 */
+	public static void horizontal(final Kernel1D_I32 kernel, final MultiSpectral<ImageUInt8> image, final MultiSpectral<ImageUInt8> dest ) {
+		InputSanityCheck.checkSameShape(image, dest);
+
+		BoofConcurrency.loopBlocks(0, dest.height, new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				ConvolveNormalizedMultiSpectral.horizontal(kernel, image.subimage(0, y0, image.width, y1),
+						dest.subimage(0, y0, dest.width, y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link ConvolveNormalizedMultiSpectral#vertical(Kernel1D_I32, MultiSpectral, MultiSpectral)}
+	 */
+	public static void vertical(final Kernel1D_I32 kernel, final MultiSpectral<ImageUInt8> image, final MultiSpectral<ImageUInt8> dest ) {
+		InputSanityCheck.checkSameShape(image, dest);
+
+		BoofConcurrency.loopBlocks(0, dest.width, new IntRangeTask() {
+			@Override
+			public void run(int x0, int x1) {
+				ConvolveNormalizedMultiSpectral.vertical(kernel, image.subimage(x0, 0, x1, image.height),
+						dest.subimage(x0, 0, x1, dest.height));
+			}
+		});
+	}
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.convolve;
+
+import boofcv.alg.InputSanityCheck;
+import boofcv.alg.filter.convolve.normalized.ConvolveNormalizedNaive;
+import boofcv.alg.filter.convolve.normalized.ConvolveNormalized_JustBorder;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel1D_I32;
+import boofcv.struct.convolve.Kernel2D_F32;
+import boofcv.struct.convolve.Kernel2D_I32;
+import boofcv.struct.image.*;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link ConvolveNormalized}.  The output is identical to the single threaded version.
+ * </p>
+ *
+ * <p>
+ * Horizontal convolutions are split into bands of rows and vertical convolutions into bands of columns.  Each band
+ * is then processed by the single threaded code, including the normalized border.  For 2D convolutions the
+ * inner image is split into bands of rows while the border is processed at the same time by another thread.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ConvolveNormalized_MT {
+
+	/**
+	 * Concurrent version of {@link ConvolveNormalized#horizontal(Kernel1D_F32, ImageFloat32, ImageFloat32)}
+	 */
+	public static void horizontal(final Kernel1D_F32 kernel, final ImageFloat32 image, final ImageFloat32 dest ) {
+		InputSanityCheck.checkSameShape(image, dest);
+
+		BoofConcurrency.loopBlocks(0, dest.height, new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				ConvolveNormalized.horizontal(kernel, image.subimage(0, y0, image.width, y1),
+						dest.subimage(0, y0, dest.width, y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link ConvolveNormalized#vertical(Kernel1D_F32, ImageFloat32, ImageFloat32)}
+	 */
+	public static void vertical(final Kernel1D_F32 kernel, final ImageFloat32 image, final ImageFloat32 dest ) {
+		InputSanityCheck.checkSameShape(image, dest);
+
+		BoofConcurrency.loopBlocks(0, dest.width, new IntRangeTask() {
+			@Override
+			public void run(int x0, int x1) {
+				ConvolveNormalized.vertical(kernel, image.subimage(x0, 0, x1, image.height),
+						dest.subimage(x0, 0, x1, dest.height));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link ConvolveNormalized#convolve(Kernel2D_F32, ImageFloat32, ImageFloat32)}
+	 */
+	public static void convolve(final Kernel2D_F32 kernel, final ImageFloat32 image, final ImageFloat32 dest ) {
+		InputSanityCheck.checkSameShape(image, dest);
+
+		if( kernel.width >= image.width || kernel.width >= image.height ) {
+			ConvolveNormalizedNaive.convolve(kernel,image,dest);
+			return;
+		}
+
+		final int radius = kernel.getRadius();
+		BoofConcurrency.loopBlocks(radius, dest.height - radius, new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				ConvolveImageNoBorder.convolve(kernel, image.subimage(0, y0 - radius, image.width, y1 + radius),
+						dest.subimage(0, y0 - radius, dest.width, y1 + radius));
+			}
+		}, new Runnable() {
+			@Override
+			public void run() {
+				ConvolveNormalized_JustBorder.convolve(kernel, image, dest);
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link ConvolveNormalized#horizontal(Kernel1D_I32, ImageUInt8, ImageInt8)}
+	 */
+	public static void horizontal(final Kernel1D_I32 kernel, final ImageUInt8 image, final ImageInt8 dest ) {
+		InputSanityCheck.checkSameShape(image, dest);
+
+		BoofConcurrency.loopBlocks(0, dest.height, new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				ConvolveNormalized.horizontal(kernel, image.subimage(0, y0, image.width, y1),
+						(ImageInt8)dest.subimage(0, y0, dest.width, y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link ConvolveNormalized#vertical(Kernel1D_I32, ImageUInt8, ImageInt8)}
+	 */
+	public static void vertical(final Kernel1D_I32 kernel, final ImageUInt8 image, final ImageInt8 dest ) {
+		InputSanityCheck.checkSameShape(image, dest);
+
+		BoofConcurrency.loopBlocks(0, dest.width, new IntRangeTask() {
+			@Override
+			public void run(int x0, int x1) {
+				ConvolveNormalized.vertical(kernel, image.subimage(x0, 0, x1, image.height),
+						(ImageInt8)dest.subimage(x0, 0, x1, dest.height));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link ConvolveNormalized#convolve(Kernel2D_I32, ImageUInt8, ImageInt8)}
+	 */
+	public static void convolve(final Kernel2D_I32 kernel, final ImageUInt8 image, final ImageInt8 dest ) {
+		InputSanityCheck.checkSameShape(image, dest);
+
+		if( kernel.width >= image.width || kernel.width >= image.height ) {
+			ConvolveNormalizedNaive.convolve(kernel,image,dest);
+			return;
+		}
+
+		final int radius = kernel.getRadius();
+		final int divisor = kernel.computeSum();
+		BoofConcurrency.loopBlocks(radius, dest.height - radius, new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				ConvolveImageNoBorder.convolve(kernel, image.subimage(0, y0 - radius, image.width, y1 + radius),
+						(ImageInt8)dest.subimage(0, y0 - radius, dest.width, y1 + radius), divisor);
+			}
+		}, new Runnable() {
+			@Override
+			public void run() {
+				ConvolveNormalized_JustBorder.convolve(kernel, image, dest);
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link ConvolveNormalized#horizontal(Kernel1D_I32, ImageSInt16, ImageInt16)}
+	 */
+	public static void horizontal(final Kernel1D_I32 kernel, final ImageSInt16 image, final ImageInt16 dest ) {
+		InputSanityCheck.checkSameShape(image, dest);
+
+		BoofConcurrency.loopBlocks(0, dest.height, new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				ConvolveNormalized.horizontal(kernel, image.subimage(0, y0, image.width, y1),
+						(ImageInt16)dest.subimage(0, y0, dest.width, y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link ConvolveNormalized#horizontal(Kernel1D_I32, ImageSInt32, ImageSInt32)}
+	 */
+	public static void horizontal(final Kernel1D_I32 kernel, final ImageSInt32 image, final ImageSInt32 dest ) {
+		InputSanityCheck.checkSameShape(image, dest);
+
+		BoofConcurrency.loopBlocks(0, dest.height, new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				ConvolveNormalized.horizontal(kernel, image.subimage(0, y0, image.width, y1),
+						dest.subimage(0, y0, dest.width, y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link ConvolveNormalized#vertical(Kernel1D_I32, ImageSInt16, ImageInt16)}
+	 */
+	public static void vertical(final Kernel1D_I32 kernel, final ImageSInt16 image, final ImageInt16 dest ) {
+		InputSanityCheck.checkSameShape(image, dest);
+
+		BoofConcurrency.loopBlocks(0, dest.width, new IntRangeTask() {
+			@Override
+			public void run(int x0, int x1) {
+				ConvolveNormalized.vertical(kernel, image.subimage(x0, 0, x1, image.height),
+						(ImageInt16)dest.subimage(x0, 0, x1, dest.height));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link ConvolveNormalized#vertical(Kernel1D_I32, ImageSInt32, ImageSInt32)}
+	 */
+	public static void vertical(final Kernel1D_I32 kernel, final ImageSInt32 image, final ImageSInt32 dest ) {
+		InputSanityCheck.checkSameShape(image, dest);
+
+		BoofConcurrency.loopBlocks(0, dest.width, new IntRangeTask() {
+			@Override
+			public void run(int x0, int x1) {
+				ConvolveNormalized.vertical(kernel, image.subimage(x0, 0, x1, image.height),
+						dest.subimage(x0, 0, x1, dest.height));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link ConvolveNormalized#convolve(Kernel2D_I32, ImageSInt16, ImageInt16)}
+	 */
+	public static void convolve(final Kernel2D_I32 kernel, final ImageSInt16 image, final ImageInt16 dest ) {
+		InputSanityCheck.checkSameShape(image, dest);
+
+		if( kernel.width >= image.width || kernel.width >= image.height ) {
+			ConvolveNormalizedNaive.convolve(kernel,image,dest);
+			return;
+		}
+
+		final int radius = kernel.getRadius();
+		final int divisor = kernel.computeSum();
+		BoofConcurrency.loopBlocks(radius, dest.height - radius, new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				ConvolveImageNoBorder.convolve(kernel, image.subimage(0, y0 - radius, image.width, y1 + radius),
+						(ImageInt16)dest.subimage(0, y0 - radius, dest.width, y1 + radius), divisor);
+			}
+		}, new Runnable() {
+			@Override
+			public void run() {
+				ConvolveNormalized_JustBorder.convolve(kernel, image, dest);
+			}
+		});
+	}
+}
@@ -0,0 +1,324 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.convolve;
+
+import boofcv.alg.InputSanityCheck;
+import boofcv.alg.filter.convolve.border.ConvolveJustBorder_General;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
+import boofcv.core.image.border.ImageBorder_F32;
+import boofcv.core.image.border.ImageBorder_I32;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel1D_I32;
+import boofcv.struct.convolve.Kernel2D_F32;
+import boofcv.struct.convolve.Kernel2D_I32;
+import boofcv.struct.image.*;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link ConvolveWithBorder}.  The inner image is split into bands of rows which are
+ * processed by different threads, while the image border is processed by another thread at the same time.  The
+ * inner image and the border do not overlap, so the output is identical to the single threaded version.
+ * </p>
+ *
+ * <p>
+ * NOTE: The {@link boofcv.core.image.border.ImageBorder} is read by several threads at once and must not
+ * be shared with other code while a convolution is being computed.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ConvolveWithBorder_MT {
+
+	/**
+	 * Concurrent version of {@link ConvolveWithBorder#horizontal(Kernel1D_F32, ImageFloat32, ImageFloat32, ImageBorder_F32)}
+	 */
+	public static void horizontal(final Kernel1D_F32 kernel,
+								  final ImageFloat32 image, final ImageFloat32 dest , final ImageBorder_F32 border ) {
+		InputSanityCheck.checkSameShape(image, dest);
+
+		border.setImage(image);
+		final int radius = kernel.getRadius();
+		BoofConcurrency.loopBlocks(0, dest.height, new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				ConvolveImageNoBorder.horizontal(kernel, image.subimage(0, y0, image.width, y1),
+						dest.subimage(0, y0, dest.width, y1), true);
+			}
+		}, new Runnable() {
+			@Override
+			public void run() {
+				ConvolveJustBorder_General.horizontal(kernel, border, dest, radius);
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link ConvolveWithBorder#vertical(Kernel1D_F32, ImageFloat32, ImageFloat32, ImageBorder_F32)}
+	 */
+	public static void vertical(final Kernel1D_F32 kernel,
+								  final ImageFloat32 image, final ImageFloat32 dest , final ImageBorder_F32 border ) {
+		InputSanityCheck.checkSameShape(image, dest);
+
+		border.setImage(image);
+		final int radius = kernel.getRadius();
+		BoofConcurrency.loopBlocks(radius, dest.height - radius, new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				ConvolveImageNoBorder.vertical(kernel, image.subimage(0, y0 - radius, image.width, y1 + radius),
+						dest.subimage(0, y0 - radius, dest.width, y1 + radius), true);
+			}
+		}, new Runnable() {
+			@Override
+			public void run() {
+				ConvolveJustBorder_General.vertical(kernel, border, dest, radius);
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link ConvolveWithBorder#convolve(Kernel2D_F32, ImageFloat32, ImageFloat32, ImageBorder_F32)}
+	 */
+	public static void convolve(final Kernel2D_F32 kernel,
+								  final ImageFloat32 image, final ImageFloat32 dest , final ImageBorder_F32 border ) {
+		InputSanityCheck.checkSameShape(image, dest);
+
+		border.setImage(image);
+		final int radius = kernel.getRadius();
+		BoofConcurrency.loopBlocks(radius, dest.height - radius, new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				ConvolveImageNoBorder.convolve(kernel, image.subimage(0, y0 - radius, image.width, y1 + radius),
+						dest.subimage(0, y0 - radius, dest.width, y1 + radius));
+			}
+		}, new Runnable() {
+			@Override
+			public void run() {
+				ConvolveJustBorder_General.convolve(kernel, border, dest, radius);
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link ConvolveWithBorder#horizontal(Kernel1D_I32, ImageUInt8, ImageInt16, ImageBorder_I32)}
+	 */
+	public static void horizontal(final Kernel1D_I32 kernel,
+								  final ImageUInt8 image, final ImageInt16 dest , final ImageBorder_I32 border ) {
+		InputSanityCheck.checkSameShape(image, dest);
+
+		border.setImage(image);
+		final int radius = kernel.getRadius();
+		BoofConcurrency.loopBlocks(0, dest.height, new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				ConvolveImageNoBorder.horizontal(kernel, image.subimage(0, y0, image.width, y1),
+						(ImageInt16)dest.subimage(0, y0, dest.width, y1), true);
+			}
+		}, new Runnable() {
+			@Override
+			public void run() {
+				ConvolveJustBorder_General.horizontal(kernel, border, dest, radius);
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link ConvolveWithBorder#vertical(Kernel1D_I32, ImageUInt8, ImageInt16, ImageBorder_I32)}
+	 */
+	public static void vertical(final Kernel1D_I32 kernel,
+								  final ImageUInt8 image, final ImageInt16 dest , final ImageBorder_I32 border ) {
+		InputSanityCheck.checkSameShape(image, dest);
+
+		border.setImage(image);
+		final int radius = kernel.getRadius();
+		BoofConcurrency.loopBlocks(radius, dest.height - radius, new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				ConvolveImageNoBorder.vertical(kernel, image.subimage(0, y0 - radius, image.width, y1 + radius),
+						(ImageInt16)dest.subimage(0, y0 - radius, dest.width, y1 + radius), true);
+			}
+		}, new Runnable() {
+			@Override
+			public void run() {
+				ConvolveJustBorder_General.vertical(kernel, border, dest, radius);
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link ConvolveWithBorder#convolve(Kernel2D_I32, ImageUInt8, ImageInt16, ImageBorder_I32)}
+	 */
+	public static void convolve(final Kernel2D_I32 kernel,
+								  final ImageUInt8 image, final ImageInt16 dest , final ImageBorder_I32 border ) {
+		InputSanityCheck.checkSameShape(image, dest);
+
+		border.setImage(image);
+		final int radius = kernel.getRadius();
+		BoofConcurrency.loopBlocks(radius, dest.height - radius, new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				ConvolveImageNoBorder.convolve(kernel, image.subimage(0, y0 - radius, image.width, y1 + radius),
+						(ImageInt16)dest.subimage(0, y0 - radius, dest.width, y1 + radius));
+			}
+		}, new Runnable() {
+			@Override
+			public void run() {
+				ConvolveJustBorder_General.convolve(kernel, border, dest, radius);
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link ConvolveWithBorder#horizontal(Kernel1D_I32, ImageUInt8, ImageSInt32, ImageBorder_I32)}
+	 */
+	public static void horizontal(final Kernel1D_I32 kernel,
+								  final ImageUInt8 image, final ImageSInt32 dest , final ImageBorder_I32 border ) {
+		InputSanityCheck.checkSameShape(image, dest);
+
+		border.setImage(image);
+		final int radius = kernel.getRadius();
+		BoofConcurrency.loopBlocks(0, dest.height, new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				ConvolveImageNoBorder.horizontal(kernel, image.subimage(0, y0, image.width, y1),
+						dest.subimage(0, y0, dest.width, y1), true);
+			}
+		}, new Runnable() {
+			@Override
+			public void run() {
+				ConvolveJustBorder_General.horizontal(kernel, border, dest, radius);
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link ConvolveWithBorder#vertical(Kernel1D_I32, ImageUInt8, ImageSInt32, ImageBorder_I32)}
+	 */
+	public static void vertical(final Kernel1D_I32 kernel,
+								  final ImageUInt8 image, final ImageSInt32 dest , final ImageBorder_I32 border ) {
+		InputSanityCheck.checkSameShape(image, dest);
+
+		border.setImage(image);
+		final int radius = kernel.getRadius();
+		BoofConcurrency.loopBlocks(radius, dest.height - radius, new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				ConvolveImageNoBorder.vertical(kernel, image.subimage(0, y0 - radius, image.width, y1 + radius),
+						dest.subimage(0, y0 - radius, dest.width, y1 + radius), true);
+			}
+		}, new Runnable() {
+			@Override
+			public void run() {
+				ConvolveJustBorder_General.vertical(kernel, border, dest, radius);
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link ConvolveWithBorder#convolve(Kernel2D_I32, ImageUInt8, ImageSInt32, ImageBorder_I32)}
+	 */
+	public static void convolve(final Kernel2D_I32 kernel,
+								  final ImageUInt8 image, final ImageSInt32 dest , final ImageBorder_I32 border ) {
+		InputSanityCheck.checkSameShape(image, dest);
+
+		border.setImage(image);
+		final int radius = kernel.getRadius();
+		BoofConcurrency.loopBlocks(radius, dest.height - radius, new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				ConvolveImageNoBorder.convolve(kernel, image.subimage(0, y0 - radius, image.width, y1 + radius),
+						dest.subimage(0, y0 - radius, dest.width, y1 + radius));
+			}
+		}, new Runnable() {
+			@Override
+			public void run() {
+				ConvolveJustBorder_General.convolve(kernel, border, dest, radius);
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link ConvolveWithBorder#horizontal(Kernel1D_I32, ImageSInt16, ImageInt16, ImageBorder_I32)}
+	 */
+	public static void horizontal(final Kernel1D_I32 kernel,
+								  final ImageSInt16 image, final ImageInt16 dest , final ImageBorder_I32 border ) {
+		InputSanityCheck.checkSameShape(image, dest);
+
+		border.setImage(image);
+		final int radius = kernel.getRadius();
+		BoofConcurrency.loopBlocks(0, dest.height, new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				ConvolveImageNoBorder.horizontal(kernel, image.subimage(0, y0, image.width, y1),
+						(ImageInt16)dest.subimage(0, y0, dest.width, y1), true);
+			}
+		}, new Runnable() {
+			@Override
+			public void run() {
+				ConvolveJustBorder_General.horizontal(kernel, border, dest, radius);
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link ConvolveWithBorder#vertical(Kernel1D_I32, ImageSInt16, ImageInt16, ImageBorder_I32)}
+	 */
+	public static void vertical(final Kernel1D_I32 kernel,
+								  final ImageSInt16 image, final ImageInt16 dest , final ImageBorder_I32 border ) {
+		InputSanityCheck.checkSameShape(image, dest);
+
+		border.setImage(image);
+		final int radius = kernel.getRadius();
+		BoofConcurrency.loopBlocks(radius, dest.height - radius, new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				ConvolveImageNoBorder.vertical(kernel, image.subimage(0, y0 - radius, image.width, y1 + radius),
+						(ImageInt16)dest.subimage(0, y0 - radius, dest.width, y1 + radius), true);
+			}
+		}, new Runnable() {
+			@Override
+			public void run() {
+				ConvolveJustBorder_General.vertical(kernel, border, dest, radius);
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link ConvolveWithBorder#convolve(Kernel2D_I32, ImageSInt16, ImageInt16, ImageBorder_I32)}
+	 */
+	public static void convolve(final Kernel2D_I32 kernel,
+								  final ImageSInt16 image, final ImageInt16 dest , final ImageBorder_I32 border ) {
+		InputSanityCheck.checkSameShape(image, dest);
+
+		border.setImage(image);
+		final int radius = kernel.getRadius();
+		BoofConcurrency.loopBlocks(radius, dest.height - radius, new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				ConvolveImageNoBorder.convolve(kernel, image.subimage(0, y0 - radius, image.width, y1 + radius),
+						(ImageInt16)dest.subimage(0, y0 - radius, dest.width, y1 + radius));
+			}
+		}, new Runnable() {
+			@Override
+			public void run() {
+				ConvolveJustBorder_General.convolve(kernel, border, dest, radius);
+			}
+		});
+	}
+}
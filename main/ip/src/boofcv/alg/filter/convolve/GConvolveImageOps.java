@@ -18,6 +18,7 @@
 
 package boofcv.alg.filter.convolve;
 
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.core.image.border.ImageBorder;
 import boofcv.core.image.border.ImageBorder_F32;
 import boofcv.core.image.border.ImageBorder_I32;
@@ -25,7 +26,8 @@ import boofcv.struct.convolve.*;
 import boofcv.struct.image.*;
 
 /**
- * Image type agnostic convolution functions
+ * Image type agnostic convolution functions.  If {@link BoofConcurrency#USE_CONCURRENT} is true then the concurrent
+ * implementation is used.
  */
 public class GConvolveImageOps {
 
@@ -41,14 +43,27 @@ public class GConvolveImageOps {
 	public static <T extends ImageSingleBand, K extends Kernel1D, B extends ImageBorder<T>>
 	void horizontal(K kernel, T input, T output , B border ) {
 		if( input instanceof ImageFloat32 ) {
-			ConvolveWithBorder.horizontal((Kernel1D_F32)kernel,(ImageFloat32)input,(ImageFloat32)output,(ImageBorder_F32)border);
-		} else if( input instanceof ImageUInt8 ) {
-			if( ImageInt16.class.isAssignableFrom(output.getClass()) )
-				ConvolveWithBorder.horizontal((Kernel1D_I32)kernel,(ImageUInt8)input,(ImageInt16)output,(ImageBorder_I32)border);
+			if( BoofConcurrency.USE_CONCURRENT )
+				ConvolveWithBorder_MT.horizontal((Kernel1D_F32)kernel,(ImageFloat32)input,(ImageFloat32)output,(ImageBorder_F32)border);
 			else
-				ConvolveWithBorder.horizontal((Kernel1D_I32)kernel,(ImageUInt8)input,(ImageSInt32)output,(ImageBorder_I32)border);
+				ConvolveWithBorder.horizontal((Kernel1D_F32)kernel,(ImageFloat32)input,(ImageFloat32)output,(ImageBorder_F32)border);
+		} else if( input instanceof ImageUInt8 ) {
+			if( ImageInt16.class.isAssignableFrom(output.getClass()) ) {
+				if( BoofConcurrency.USE_CONCURRENT )
+					ConvolveWithBorder_MT.horizontal((Kernel1D_I32)kernel,(ImageUInt8)input,(ImageInt16)output,(ImageBorder_I32)border);
+				else
+					ConvolveWithBorder.horizontal((Kernel1D_I32)kernel,(ImageUInt8)input,(ImageInt16)output,(ImageBorder_I32)border);
+			} else {
+				if( BoofConcurrency.USE_CONCURRENT )
+					ConvolveWithBorder_MT.horizontal((Kernel1D_I32)kernel,(ImageUInt8)input,(ImageSInt32)output,(ImageBorder_I32)border);
+				else
+					ConvolveWithBorder.horizontal((Kernel1D_I32)kernel,(ImageUInt8)input,(ImageSInt32)output,(ImageBorder_I32)border);
+			}
 		} else if( input instanceof ImageSInt16 ) {
-			ConvolveWithBorder.horizontal((Kernel1D_I32)kernel,(ImageSInt16)input,(ImageInt16)output,(ImageBorder_I32)border);
+			if( BoofConcurrency.USE_CONCURRENT )
+				ConvolveWithBorder_MT.horizontal((Kernel1D_I32)kernel,(ImageSInt16)input,(ImageInt16)output,(ImageBorder_I32)border);
+			else
+				ConvolveWithBorder.horizontal((Kernel1D_I32)kernel,(ImageSInt16)input,(ImageInt16)output,(ImageBorder_I32)border);
 		} else {
 			throw new IllegalArgumentException("Unknown image type: "+input.getClass().getName());
 		}
@@ -66,14 +81,27 @@ public class GConvolveImageOps {
 	public static <T extends ImageSingleBand, K extends Kernel1D, B extends ImageBorder<T>>
 	void vertical(K kernel, T input, T output , B border ) {
 		if( input instanceof ImageFloat32 ) {
-			ConvolveWithBorder.vertical((Kernel1D_F32) kernel, (ImageFloat32) input, (ImageFloat32) output, (ImageBorder_F32) border);
-		} else if( input instanceof ImageUInt8 ) {
-			if( ImageInt16.class.isAssignableFrom(output.getClass()) )
-				ConvolveWithBorder.vertical((Kernel1D_I32) kernel, (ImageUInt8) input, (ImageInt16) output, (ImageBorder_I32) border);
+			if( BoofConcurrency.USE_CONCURRENT )
+				ConvolveWithBorder_MT.vertical((Kernel1D_F32) kernel, (ImageFloat32) input, (ImageFloat32) output, (ImageBorder_F32) border);
 			else
-				ConvolveWithBorder.vertical((Kernel1D_I32) kernel, (ImageUInt8) input, (ImageSInt32) output, (ImageBorder_I32) border);
+				ConvolveWithBorder.vertical((Kernel1D_F32) kernel, (ImageFloat32) input, (ImageFloat32) output, (ImageBorder_F32) border);
+		} else if( input instanceof ImageUInt8 ) {
+			if( ImageInt16.class.isAssignableFrom(output.getClass()) ) {
+				if( BoofConcurrency.USE_CONCURRENT )
+					ConvolveWithBorder_MT.vertical((Kernel1D_I32) kernel, (ImageUInt8) input, (ImageInt16) output, (ImageBorder_I32) border);
+				else
+					ConvolveWithBorder.vertical((Kernel1D_I32) kernel, (ImageUInt8) input, (ImageInt16) output, (ImageBorder_I32) border);
+			} else {
+				if( BoofConcurrency.USE_CONCURRENT )
+					ConvolveWithBorder_MT.vertical((Kernel1D_I32) kernel, (ImageUInt8) input, (ImageSInt32) output, (ImageBorder_I32) border);
+				else
+					ConvolveWithBorder.vertical((Kernel1D_I32) kernel, (ImageUInt8) input, (ImageSInt32) output, (ImageBorder_I32) border);
+			}
 		} else if( input instanceof ImageSInt16 ) {
-			ConvolveWithBorder.vertical((Kernel1D_I32) kernel, (ImageSInt16) input, (ImageInt16) output, (ImageBorder_I32) border);
+			if( BoofConcurrency.USE_CONCURRENT )
+				ConvolveWithBorder_MT.vertical((Kernel1D_I32) kernel, (ImageSInt16) input, (ImageInt16) output, (ImageBorder_I32) border);
+			else
+				ConvolveWithBorder.vertical((Kernel1D_I32) kernel, (ImageSInt16) input, (ImageInt16) output, (ImageBorder_I32) border);
 		} else {
 			throw new IllegalArgumentException("Unknown image type: "+input.getClass().getName());
 		}
@@ -91,14 +119,27 @@ public class GConvolveImageOps {
 	public static <T extends ImageSingleBand, K extends Kernel2D, B extends ImageBorder<T>>
 	void convolve(K kernel, T input, T output , B border ) {
 		if( input instanceof ImageFloat32 ) {
-			ConvolveWithBorder.convolve((Kernel2D_F32) kernel, (ImageFloat32) input, (ImageFloat32) output, (ImageBorder_F32) border);
-		} else if( input instanceof ImageUInt8 ) {
-			if( ImageInt16.class.isAssignableFrom(output.getClass()) )
-				ConvolveWithBorder.convolve((Kernel2D_I32) kernel, (ImageUInt8) input, (ImageInt16) output, (ImageBorder_I32) border);
+			if( BoofConcurrency.USE_CONCURRENT )
+				ConvolveWithBorder_MT.convolve((Kernel2D_F32) kernel, (ImageFloat32) input, (ImageFloat32) output, (ImageBorder_F32) border);
 			else
-				ConvolveWithBorder.convolve((Kernel2D_I32) kernel, (ImageUInt8) input, (ImageSInt32) output, (ImageBorder_I32) border);
+				ConvolveWithBorder.convolve((Kernel2D_F32) kernel, (ImageFloat32) input, (ImageFloat32) output, (ImageBorder_F32) border);
+		} else if( input instanceof ImageUInt8 ) {
+			if( ImageInt16.class.isAssignableFrom(output.getClass()) ) {
+				if( BoofConcurrency.USE_CONCURRENT )
+					ConvolveWithBorder_MT.convolve((Kernel2D_I32) kernel, (ImageUInt8) input, (ImageInt16) output, (ImageBorder_I32) border);
+				else
+					ConvolveWithBorder.convolve((Kernel2D_I32) kernel, (ImageUInt8) input, (ImageInt16) output, (ImageBorder_I32) border);
+			} else {
+				if( BoofConcurrency.USE_CONCURRENT )
+					ConvolveWithBorder_MT.convolve((Kernel2D_I32) kernel, (ImageUInt8) input, (ImageSInt32) output, (ImageBorder_I32) border);
+				else
+					ConvolveWithBorder.convolve((Kernel2D_I32) kernel, (ImageUInt8) input, (ImageSInt32) output, (ImageBorder_I32) border);
+			}
 		} else if( input instanceof ImageSInt16 ) {
-			ConvolveWithBorder.convolve((Kernel2D_I32) kernel, (ImageSInt16) input, (ImageInt16) output, (ImageBorder_I32) border);
+			if( BoofConcurrency.USE_CONCURRENT )
+				ConvolveWithBorder_MT.convolve((Kernel2D_I32) kernel, (ImageSInt16) input, (ImageInt16) output, (ImageBorder_I32) border);
+			else
+				ConvolveWithBorder.convolve((Kernel2D_I32) kernel, (ImageSInt16) input, (ImageInt16) output, (ImageBorder_I32) border);
 		} else {
 			throw new IllegalArgumentException("Unknown image type: "+input.getClass().getName());
 		}
@@ -117,14 +158,27 @@ public class GConvolveImageOps {
 	public static <T extends ImageSingleBand, K extends Kernel1D>
 	void horizontal(K kernel, T input, T output , boolean includeVerticalBorder ) {
 		if( input instanceof ImageFloat32 ) {
-			ConvolveImageNoBorder.horizontal((Kernel1D_F32)kernel,(ImageFloat32)input,(ImageFloat32)output,includeVerticalBorder);
-		} else if( input instanceof ImageUInt8 ) {
-			if( ImageInt16.class.isAssignableFrom(output.getClass()) )
-				ConvolveImageNoBorder.horizontal((Kernel1D_I32)kernel,(ImageUInt8)input,(ImageInt16)output,includeVerticalBorder);
+			if( BoofConcurrency.USE_CONCURRENT )
+				ConvolveImageNoBorder_MT.horizontal((Kernel1D_F32)kernel,(ImageFloat32)input,(ImageFloat32)output,includeVerticalBorder);
 			else
-				ConvolveImageNoBorder.horizontal((Kernel1D_I32)kernel,(ImageUInt8)input,(ImageSInt32)output,includeVerticalBorder);
+				ConvolveImageNoBorder.horizontal((Kernel1D_F32)kernel,(ImageFloat32)input,(ImageFloat32)output,includeVerticalBorder);
+		} else if( input instanceof ImageUInt8 ) {
+			if( ImageInt16.class.isAssignableFrom(output.getClass()) ) {
+				if( BoofConcurrency.USE_CONCURRENT )
+					ConvolveImageNoBorder_MT.horizontal((Kernel1D_I32)kernel,(ImageUInt8)input,(ImageInt16)output,includeVerticalBorder);
+				else
+					ConvolveImageNoBorder.horizontal((Kernel1D_I32)kernel,(ImageUInt8)input,(ImageInt16)output,includeVerticalBorder);
+			} else {
+				if( BoofConcurrency.USE_CONCURRENT )
+					ConvolveImageNoBorder_MT.horizontal((Kernel1D_I32)kernel,(ImageUInt8)input,(ImageSInt32)output,includeVerticalBorder);
+				else
+					ConvolveImageNoBorder.horizontal((Kernel1D_I32)kernel,(ImageUInt8)input,(ImageSInt32)output,includeVerticalBorder);
+			}
 		} else if( input instanceof ImageSInt16 ) {
-			ConvolveImageNoBorder.horizontal((Kernel1D_I32)kernel,(ImageSInt16)input,(ImageInt16)output,includeVerticalBorder);
+			if( BoofConcurrency.USE_CONCURRENT )
+				ConvolveImageNoBorder_MT.horizontal((Kernel1D_I32)kernel,(ImageSInt16)input,(ImageInt16)output,includeVerticalBorder);
+			else
+				ConvolveImageNoBorder.horizontal((Kernel1D_I32)kernel,(ImageSInt16)input,(ImageInt16)output,includeVerticalBorder);
 		} else {
 			throw new IllegalArgumentException("Unknown image type: "+input.getClass().getName());
 		}
@@ -143,14 +197,27 @@ public class GConvolveImageOps {
 	public static <T extends ImageSingleBand, K extends Kernel1D>
 	void vertical(K kernel, T input, T output , boolean  includeHorizontalBorder ) {
 		if( input instanceof ImageFloat32 ) {
-			ConvolveImageNoBorder.vertical((Kernel1D_F32) kernel, (ImageFloat32) input, (ImageFloat32) output, includeHorizontalBorder);
-		} else if( input instanceof ImageUInt8 ) {
-			if( ImageInt16.class.isAssignableFrom(output.getClass()) )
-				ConvolveImageNoBorder.vertical((Kernel1D_I32) kernel, (ImageUInt8) input, (ImageInt16) output, includeHorizontalBorder);
+			if( BoofConcurrency.USE_CONCURRENT )
+				ConvolveImageNoBorder_MT.vertical((Kernel1D_F32) kernel, (ImageFloat32) input, (ImageFloat32) output, includeHorizontalBorder);
 			else
-				ConvolveImageNoBorder.vertical((Kernel1D_I32) kernel, (ImageUInt8) input, (ImageSInt32) output, includeHorizontalBorder);
+				ConvolveImageNoBorder.vertical((Kernel1D_F32) kernel, (ImageFloat32) input, (ImageFloat32) output, includeHorizontalBorder);
+		} else if( input instanceof ImageUInt8 ) {
+			if( ImageInt16.class.isAssignableFrom(output.getClass()) ) {
+				if( BoofConcurrency.USE_CONCURRENT )
+					ConvolveImageNoBorder_MT.vertical((Kernel1D_I32) kernel, (ImageUInt8) input, (ImageInt16) output, includeHorizontalBorder);
+				else
+					ConvolveImageNoBorder.vertical((Kernel1D_I32) kernel, (ImageUInt8) input, (ImageInt16) output, includeHorizontalBorder);
+			} else {
+				if( BoofConcurrency.USE_CONCURRENT )
+					ConvolveImageNoBorder_MT.vertical((Kernel1D_I32) kernel, (ImageUInt8) input, (ImageSInt32) output, includeHorizontalBorder);
+				else
+					ConvolveImageNoBorder.vertical((Kernel1D_I32) kernel, (ImageUInt8) input, (ImageSInt32) output, includeHorizontalBorder);
+			}
 		} else if( input instanceof ImageSInt16 ) {
-			ConvolveImageNoBorder.vertical((Kernel1D_I32) kernel, (ImageSInt16) input, (ImageInt16) output, includeHorizontalBorder);
+			if( BoofConcurrency.USE_CONCURRENT )
+				ConvolveImageNoBorder_MT.vertical((Kernel1D_I32) kernel, (ImageSInt16) input, (ImageInt16) output, includeHorizontalBorder);
+			else
+				ConvolveImageNoBorder.vertical((Kernel1D_I32) kernel, (ImageSInt16) input, (ImageInt16) output, includeHorizontalBorder);
 		} else {
 			throw new IllegalArgumentException("Unknown image type: "+input.getClass().getName());
 		}
@@ -166,14 +233,27 @@ public class GConvolveImageOps {
 	public static <T extends ImageSingleBand, K extends Kernel2D>
 	void convolve(K kernel, T input, T output ) {
 		if( input instanceof ImageFloat32 ) {
-			ConvolveImageNoBorder.convolve((Kernel2D_F32) kernel, (ImageFloat32) input, (ImageFloat32) output);
-		} else if( input instanceof ImageUInt8 ) {
-			if( ImageInt16.class.isAssignableFrom(output.getClass()) )
-				ConvolveImageNoBorder.convolve((Kernel2D_I32) kernel, (ImageUInt8) input, (ImageInt16) output);
+			if( BoofConcurrency.USE_CONCURRENT )
+				ConvolveImageNoBorder_MT.convolve((Kernel2D_F32) kernel, (ImageFloat32) input, (ImageFloat32) output);
 			else
-				ConvolveImageNoBorder.convolve((Kernel2D_I32) kernel, (ImageUInt8) input, (ImageSInt32) output);
+				ConvolveImageNoBorder.convolve((Kernel2D_F32) kernel, (ImageFloat32) input, (ImageFloat32) output);
+		} else if( input instanceof ImageUInt8 ) {
+			if( ImageInt16.class.isAssignableFrom(output.getClass()) ) {
+				if( BoofConcurrency.USE_CONCURRENT )
+					ConvolveImageNoBorder_MT.convolve((Kernel2D_I32) kernel, (ImageUInt8) input, (ImageInt16) output);
+				else
+					ConvolveImageNoBorder.convolve((Kernel2D_I32) kernel, (ImageUInt8) input, (ImageInt16) output);
+			} else {
+				if( BoofConcurrency.USE_CONCURRENT )
+					ConvolveImageNoBorder_MT.convolve((Kernel2D_I32) kernel, (ImageUInt8) input, (ImageSInt32) output);
+				else
+					ConvolveImageNoBorder.convolve((Kernel2D_I32) kernel, (ImageUInt8) input, (ImageSInt32) output);
+			}
 		} else if( input instanceof ImageSInt16 ) {
-			ConvolveImageNoBorder.convolve((Kernel2D_I32) kernel, (ImageSInt16) input, (ImageInt16) output);
+			if( BoofConcurrency.USE_CONCURRENT )
+				ConvolveImageNoBorder_MT.convolve((Kernel2D_I32) kernel, (ImageSInt16) input, (ImageInt16) output);
+			else
+				ConvolveImageNoBorder.convolve((Kernel2D_I32) kernel, (ImageSInt16) input, (ImageInt16) output);
 		} else {
 			throw new IllegalArgumentException("Unknown image type: "+input.getClass().getName());
 		}
@@ -190,11 +270,70 @@ public class GConvolveImageOps {
 	public static <T extends ImageSingleBand, K extends Kernel1D>
 	void horizontalNormalized(K kernel, T input, T output ) {
 		if( input instanceof ImageFloat32 ) {
-			ConvolveNormalized.horizontal((Kernel1D_F32)kernel,(ImageFloat32)input,(ImageFloat32)output);
+			if( BoofConcurrency.USE_CONCURRENT )
+				ConvolveNormalized_MT.horizontal((Kernel1D_F32)kernel,(ImageFloat32)input,(ImageFloat32)output);
+			else
+				ConvolveNormalized.horizontal((Kernel1D_F32)kernel,(ImageFloat32)input,(ImageFloat32)output);
 		} else if( input instanceof ImageUInt8 ) {
-			ConvolveNormalized.horizontal((Kernel1D_I32)kernel,(ImageUInt8)input,(ImageInt8)output);
+			if( BoofConcurrency.USE_CONCURRENT )
+				ConvolveNormalized_MT.horizontal((Kernel1D_I32)kernel,(ImageUInt8)input,(ImageInt8)output);
+			else
+				ConvolveNormalized.horizontal((Kernel1D_I32)kernel,(ImageUInt8)input,(ImageInt8)output);
 		} else if( input instanceof ImageSInt16 ) {
-			ConvolveNormalized.horizontal((Kernel1D_I32)kernel,(ImageSInt16)input,(ImageInt16)output);
+			if( BoofConcurrency.USE_CONCURRENT )
+				ConvolveNormalized_MT.horizontal((Kernel1D_I32)kernel,(ImageSInt16)input,(ImageInt16)output);
+			else
+				ConvolveNormalized.horizontal((Kernel1D_I32)kernel,(ImageSInt16)input,(ImageInt16)output);
+		} else {
+			throw new IllegalArgumentException("Unknown image type: "+input.getClass().getName());
+		}
+	}
+
+	/**
+	 * Performs a horizontal 1D convolution across every band in a {@link MultiSpectral} image while re-normalizing the
+	 * kernel depending on its overlap with the image.
+	 *
+	 * @param input	 The original image. Not modified.
+	 * @param output	 Where the resulting image is written to. Modified.
+	 * @param kernel The kernel that is being convolved. Not modified.
+	 */
+	public static <T extends ImageSingleBand, K extends Kernel1D>
+	void horizontalNormalized(K kernel, MultiSpectral<T> input, MultiSpectral<T> output ) {
+		if( input.getType() == ImageFloat32.class ) {
+			if( BoofConcurrency.USE_CONCURRENT )
+				ConvolveNormalizedMultiSpectral_MT.horizontal((Kernel1D_F32)kernel,(MultiSpectral)input,(MultiSpectral)output);
+			else
+				ConvolveNormalizedMultiSpectral.horizontal((Kernel1D_F32)kernel,(MultiSpectral)input,(MultiSpectral)output);
+		} else if( input.getType() == ImageUInt8.class ) {
+			if( BoofConcurrency.USE_CONCURRENT )
+				ConvolveNormalizedMultiSpectral_MT.horizontal((Kernel1D_I32)kernel,(MultiSpectral)input,(MultiSpectral)output);
+			else
+				ConvolveNormalizedMultiSpectral.horizontal((Kernel1D_I32)kernel,(MultiSpectral)input,(MultiSpectral)output);
+		} else {
+			throw new IllegalArgumentException("Unknown band type: "+input.getType().getName());
+		}
+	}
+
+	/**
+	 * Performs a horizontal 1D convolution across every band in an interleaved image while re-normalizing the
+	 * kernel depending on its overlap with the image.
+	 *
+	 * @param input	 The original image. Not modified.
+	 * @param output	 Where the resulting image is written to. Modified.
+	 * @param kernel The kernel that is being convolved. Not modified.
+	 */
+	public static <T extends ImageInterleaved, K extends Kernel1D>
+	void horizontalNormalized(K kernel, T input, T output ) {
+		if( input instanceof ImageInterleavedFloat32 ) {
+			if( BoofConcurrency.USE_CONCURRENT )
+				ConvolveNormalizedInterleaved_MT.horizontal((Kernel1D_F32)kernel,(ImageInterleavedFloat32)input,(ImageInterleavedFloat32)output);
+			else
+				ConvolveNormalizedInterleaved.horizontal((Kernel1D_F32)kernel,(ImageInterleavedFloat32)input,(ImageInterleavedFloat32)output);
+		} else if( input instanceof ImageInterleavedInt8 ) {
+			if( BoofConcurrency.USE_CONCURRENT )
+				ConvolveNormalizedInterleaved_MT.horizontal((Kernel1D_I32)kernel,(ImageInterleavedInt8)input,(ImageInterleavedInt8)output);
+			else
+				ConvolveNormalizedInterleaved.horizontal((Kernel1D_I32)kernel,(ImageInterleavedInt8)input,(ImageInterleavedInt8)output);
 		} else {
 			throw new IllegalArgumentException("Unknown image type: "+input.getClass().getName());
 		}
@@ -211,11 +350,70 @@ public class GConvolveImageOps {
 	public static <T extends ImageSingleBand, K extends Kernel1D>
 	void verticalNormalized(K kernel, T input, T output ) {
 		if( input instanceof ImageFloat32 ) {
-			ConvolveNormalized.vertical((Kernel1D_F32) kernel, (ImageFloat32) input, (ImageFloat32) output);
+			if( BoofConcurrency.USE_CONCURRENT )
+				ConvolveNormalized_MT.vertical((Kernel1D_F32) kernel, (ImageFloat32) input, (ImageFloat32) output);
+			else
+				ConvolveNormalized.vertical((Kernel1D_F32) kernel, (ImageFloat32) input, (ImageFloat32) output);
 		} else if( input instanceof ImageUInt8 ) {
-			ConvolveNormalized.vertical((Kernel1D_I32) kernel, (ImageUInt8) input, (ImageInt8) output);
+			if( BoofConcurrency.USE_CONCURRENT )
+				ConvolveNormalized_MT.vertical((Kernel1D_I32) kernel, (ImageUInt8) input, (ImageInt8) output);
+			else
+				ConvolveNormalized.vertical((Kernel1D_I32) kernel, (ImageUInt8) input, (ImageInt8) output);
 		} else if( input instanceof ImageSInt16 ) {
-			ConvolveNormalized.vertical((Kernel1D_I32) kernel, (ImageSInt16) input, (ImageInt16) output);
+			if( BoofConcurrency.USE_CONCURRENT )
+				ConvolveNormalized_MT.vertical((Kernel1D_I32) kernel, (ImageSInt16) input, (ImageInt16) output);
+			else
+				ConvolveNormalized.vertical((Kernel1D_I32) kernel, (ImageSInt16) input, (ImageInt16) output);
+		} else {
+			throw new IllegalArgumentException("Unknown image type: "+input.getClass().getName());
+		}
+	}
+
+	/**
+	 * Performs a vertical 1D convolution across every band in a {@link MultiSpectral} image while re-normalizing the
+	 * kernel depending on its overlap with the image.
+	 *
+	 * @param input	 The original image. Not modified.
+	 * @param output	 Where the resulting image is written to. Modified.
+	 * @param kernel The kernel that is being convolved. Not modified.
+	 */
+	public static <T extends ImageSingleBand, K extends Kernel1D>
+	void verticalNormalized(K kernel, MultiSpectral<T> input, MultiSpectral<T> output ) {
+		if( input.getType() == ImageFloat32.class ) {
+			if( BoofConcurrency.USE_CONCURRENT )
+				ConvolveNormalizedMultiSpectral_MT.vertical((Kernel1D_F32)kernel,(MultiSpectral)input,(MultiSpectral)output);
+			else
+				ConvolveNormalizedMultiSpectral.vertical((Kernel1D_F32)kernel,(MultiSpectral)input,(MultiSpectral)output);
+		} else if( input.getType() == ImageUInt8.class ) {
+			if( BoofConcurrency.USE_CONCURRENT )
+				ConvolveNormalizedMultiSpectral_MT.vertical((Kernel1D_I32)kernel,(MultiSpectral)input,(MultiSpectral)output);
+			else
+				ConvolveNormalizedMultiSpectral.vertical((Kernel1D_I32)kernel,(MultiSpectral)input,(MultiSpectral)output);
+		} else {
+			throw new IllegalArgumentException("Unknown band type: "+input.getType().getName());
+		}
+	}
+
+	/**
+	 * Performs a vertical 1D convolution across every band in an interleaved image while re-normalizing the
+	 * kernel depending on its overlap with the image.
+	 *
+	 * @param input	 The original image. Not modified.
+	 * @param output	 Where the resulting image is written to. Modified.
+	 * @param kernel The kernel that is being convolved. Not modified.
+	 */
+	public static <T extends ImageInterleaved, K extends Kernel1D>
+	void verticalNormalized(K kernel, T input, T output ) {
+		if( input instanceof ImageInterleavedFloat32 ) {
+			if( BoofConcurrency.USE_CONCURRENT )
+				ConvolveNormalizedInterleaved_MT.vertical((Kernel1D_F32)kernel,(ImageInterleavedFloat32)input,(ImageInterleavedFloat32)output);
+			else
+				ConvolveNormalizedInterleaved.vertical((Kernel1D_F32)kernel,(ImageInterleavedFloat32)input,(ImageInterleavedFloat32)output);
+		} else if( input instanceof ImageInterleavedInt8 ) {
+			if( BoofConcurrency.USE_CONCURRENT )
+				ConvolveNormalizedInterleaved_MT.vertical((Kernel1D_I32)kernel,(ImageInterleavedInt8)input,(ImageInterleavedInt8)output);
+			else
+				ConvolveNormalizedInterleaved.vertical((Kernel1D_I32)kernel,(ImageInterleavedInt8)input,(ImageInterleavedInt8)output);
 		} else {
 			throw new IllegalArgumentException("Unknown image type: "+input.getClass().getName());
 		}
@@ -232,11 +430,20 @@ public class GConvolveImageOps {
 	public static <T extends ImageSingleBand, K extends Kernel2D>
 	void convolveNormalized(K kernel, T input, T output ) {
 		if( input instanceof ImageFloat32 ) {
-			ConvolveNormalized.convolve((Kernel2D_F32) kernel, (ImageFloat32) input, (ImageFloat32) output);
+			if( BoofConcurrency.USE_CONCURRENT )
+				ConvolveNormalized_MT.convolve((Kernel2D_F32) kernel, (ImageFloat32) input, (ImageFloat32) output);
+			else
+				ConvolveNormalized.convolve((Kernel2D_F32) kernel, (ImageFloat32) input, (ImageFloat32) output);
 		} else if( input instanceof ImageUInt8 ) {
-			ConvolveNormalized.convolve((Kernel2D_I32) kernel, (ImageUInt8) input, (ImageInt8) output);
+			if( BoofConcurrency.USE_CONCURRENT )
+				ConvolveNormalized_MT.convolve((Kernel2D_I32) kernel, (ImageUInt8) input, (ImageInt8) output);
+			else
+				ConvolveNormalized.convolve((Kernel2D_I32) kernel, (ImageUInt8) input, (ImageInt8) output);
 		} else if( input instanceof ImageSInt16 ) {
-			ConvolveNormalized.convolve((Kernel2D_I32) kernel, (ImageSInt16) input, (ImageInt16) output);
+			if( BoofConcurrency.USE_CONCURRENT )
+				ConvolveNormalized_MT.convolve((Kernel2D_I32) kernel, (ImageSInt16) input, (ImageInt16) output);
+			else
+				ConvolveNormalized.convolve((Kernel2D_I32) kernel, (ImageSInt16) input, (ImageInt16) output);
 		} else {
 			throw new IllegalArgumentException("Unknown image type: "+input.getClass().getName());
 		}
@@ -20,8 +20,7 @@ package boofcv.alg.filter.derivative;
 
 import boofcv.alg.filter.convolve.ConvolveImageNoBorder;
 import boofcv.alg.filter.convolve.border.ConvolveJustBorder_General;
-import boofcv.core.image.border.ImageBorder_F32;
-import boofcv.core.image.border.ImageBorder_I32;
+import boofcv.core.image.border.*;
 import boofcv.struct.convolve.Kernel1D_F32;
 import boofcv.struct.convolve.Kernel1D_I32;
 import boofcv.struct.image.ImageFloat32;
@@ -136,4 +135,32 @@ public class DerivativeHelperFunctions {
 		ConvolveImageNoBorder.vertical(kernel,origSub,derivSub,true);
 	}
 
+	/**
+	 * Creates the class which remaps pixel coordinates outside the image for {@link BorderType}.  Used by
+	 * functions which process {@link boofcv.struct.image.ImageBufferSingleBand} images.
+	 *
+	 * @param type How the border is handled.  If null or {@link BorderType#SKIP} then null is returned.
+	 * @return Remaps pixel coordinates or null if the border is not processed.
+	 */
+	public static BorderIndex1D createBorderIndex( BorderType type ) {
+		if( type == null )
+			return null;
+
+		switch( type ) {
+			case SKIP:
+				return null;
+
+			case EXTENDED:
+				return new BorderIndex1D_Extend();
+
+			case REFLECT:
+				return new BorderIndex1D_Reflect();
+
+			case WRAP:
+				return new BorderIndex1D_Wrap();
+
+			default:
+				throw new IllegalArgumentException("Border type not supported: "+type);
+		}
+	}
 }
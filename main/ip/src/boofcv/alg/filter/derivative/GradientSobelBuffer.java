@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.derivative;
+
+import boofcv.alg.InputSanityCheck;
+import boofcv.core.image.border.BorderIndex1D;
+import boofcv.core.image.border.BorderType;
+import boofcv.struct.image.ImageBufferFloat32;
+import boofcv.struct.image.ImageBufferUInt8;
+import boofcv.struct.image.ImageSInt16;
+
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+
+/**
+ * Computes the image gradient using the Sobel operator for {@link boofcv.struct.image.ImageBufferSingleBand}
+ * images.  The output is the same as {@link GradientSobel}.
+ *
+ * @author Peter Abeles
+ */
+public class GradientSobelBuffer {
+
+	/**
+	 * Computes the derivative in the X and Y direction using a floating point Sobel edge detector.
+	 *
+	 * @param orig   Input image.  Not modified.
+	 * @param derivX Storage for image derivative along the x-axis. Modified.
+	 * @param derivY Storage for image derivative along the y-axis. Modified.
+	 * @param border Specifies how the image border is handled. If null the border is not processed.
+	 */
+	public static void process(ImageBufferFloat32 orig, ImageBufferFloat32 derivX, ImageBufferFloat32 derivY,
+							   BorderType border) {
+		InputSanityCheck.checkSameShape(orig, derivX, derivY);
+
+		final FloatBuffer data = orig.data;
+		final int stride = orig.stride;
+		final int width = orig.width;
+		final int height = orig.height;
+
+		for( int y = 1; y < height-1; y++ ) {
+			int index = orig.startIndex + y*stride + 1;
+			int indexX = derivX.startIndex + y*derivX.stride + 1;
+			int indexY = derivY.startIndex + y*derivY.stride + 1;
+			int end = index + width - 2;
+
+			for( ; index < end; index++ ) {
+				float a11 = data.get(index-stride-1);
+				float a12 = data.get(index-stride);
+				float a13 = data.get(index-stride+1);
+				float a21 = data.get(index-1);
+				float a23 = data.get(index+1);
+				float a31 = data.get(index+stride-1);
+				float a32 = data.get(index+stride);
+				float a33 = data.get(index+stride+1);
+
+				float v = (a33 - a11)*0.25f;
+				float w = (a31 - a13)*0.25f;
+
+				derivX.data.put(indexX++, v - w + (a23 - a21)*0.5f);
+				derivY.data.put(indexY++, v + w + (a32 - a12)*0.5f);
+			}
+		}
+
+		BorderIndex1D rowIndex = DerivativeHelperFunctions.createBorderIndex(border);
+		if( rowIndex == null )
+			return;
+		BorderIndex1D colIndex = DerivativeHelperFunctions.createBorderIndex(border);
+		rowIndex.setLength(height);
+		colIndex.setLength(width);
+
+		for( int y = 0; y < height; y++ ) {
+			if( y == 0 || y == height-1 ) {
+				for( int x = 0; x < width; x++ )
+					processBorder(orig, derivX, derivY, rowIndex, colIndex, x, y);
+			} else {
+				processBorder(orig, derivX, derivY, rowIndex, colIndex, 0, y);
+				if( width > 1 )
+					processBorder(orig, derivX, derivY, rowIndex, colIndex, width-1, y);
+			}
+		}
+	}
+
+	/**
+	 * Computes the derivative in the X and Y direction using an integer Sobel edge detector.
+	 *
+	 * @param orig   Input image.  Not modified.
+	 * @param derivX Storage for image derivative along the x-axis. Modified.
+	 * @param derivY Storage for image derivative along the y-axis. Modified.
+	 * @param border Specifies how the image border is handled. If null the border is not processed.
+	 */
+	public static void process(ImageBufferUInt8 orig, ImageSInt16 derivX, ImageSInt16 derivY,
+							   BorderType border) {
+		InputSanityCheck.checkSameShape(orig, derivX, derivY);
+
+		final ByteBuffer data = orig.data;
+		final short[] imgX = derivX.data;
+		final short[] imgY = derivY.data;
+		final int stride = orig.stride;
+		final int width = orig.width;
+		final int height = orig.height;
+
+		for( int y = 1; y < height-1; y++ ) {
+			int index = orig.startIndex + y*stride + 1;
+			int indexX = derivX.startIndex + y*derivX.stride + 1;
+			int indexY = derivY.startIndex + y*derivY.stride + 1;
+			int end = index + width - 2;
+
+			for( ; index < end; index++ ) {
+				int a11 = data.get(index-stride-1) & 0xFF;
+				int a12 = data.get(index-stride) & 0xFF;
+				int a13 = data.get(index-stride+1) & 0xFF;
+				int a21 = data.get(index-1) & 0xFF;
+				int a23 = data.get(index+1) & 0xFF;
+				int a31 = data.get(index+stride-1) & 0xFF;
+				int a32 = data.get(index+stride) & 0xFF;
+				int a33 = data.get(index+stride+1) & 0xFF;
+
+				int v = a33 - a11;
+				int w = a31 - a13;
+
+				imgX[indexX++] = (short)((a23 - a21)*2 + v - w);
+				imgY[indexY++] = (short)((a32 - a12)*2 + v + w);
+			}
+		}
+
+		BorderIndex1D rowIndex = DerivativeHelperFunctions.createBorderIndex(border);
+		if( rowIndex == null )
+			return;
+		BorderIndex1D colIndex = DerivativeHelperFunctions.createBorderIndex(border);
+		rowIndex.setLength(height);
+		colIndex.setLength(width);
+
+		for( int y = 0; y < height; y++ ) {
+			if( y == 0 || y == height-1 ) {
+				for( int x = 0; x < width; x++ )
+					processBorder(orig, derivX, derivY, rowIndex, colIndex, x, y);
+			} else {
+				processBorder(orig, derivX, derivY, rowIndex, colIndex, 0, y);
+				if( width > 1 )
+					processBorder(orig, derivX, derivY, rowIndex, colIndex, width-1, y);
+			}
+		}
+	}
+
+	private static void processBorder( ImageBufferFloat32 orig, ImageBufferFloat32 derivX, ImageBufferFloat32 derivY,
+									   BorderIndex1D rowIndex , BorderIndex1D colIndex , int x , int y ) {
+		int row0 = orig.startIndex + rowIndex.getIndex(y-1)*orig.stride;
+		int row1 = orig.startIndex + rowIndex.getIndex(y)*orig.stride;
+		int row2 = orig.startIndex + rowIndex.getIndex(y+1)*orig.stride;
+		int col0 = colIndex.getIndex(x-1);
+		int col2 = colIndex.getIndex(x+1);
+		int col1 = colIndex.getIndex(x);
+
+		final FloatBuffer data = orig.data;
+		float a11 = data.get(row0+col0);
+		float a12 = data.get(row0+col1);
+		float a13 = data.get(row0+col2);
+		float a21 = data.get(row1+col0);
+		float a23 = data.get(row1+col2);
+		float a31 = data.get(row2+col0);
+		float a32 = data.get(row2+col1);
+		float a33 = data.get(row2+col2);
+
+		float v = (a33 - a11)*0.25f;
+		float w = (a31 - a13)*0.25f;
+
+		derivX.data.put(derivX.getIndex(x,y), v - w + (a23 - a21)*0.5f);
+		derivY.data.put(derivY.getIndex(x,y), v + w + (a32 - a12)*0.5f);
+	}
+
+	private static void processBorder( ImageBufferUInt8 orig, ImageSInt16 derivX, ImageSInt16 derivY,
+									   BorderIndex1D rowIndex , BorderIndex1D colIndex , int x , int y ) {
+		int row0 = orig.startIndex + rowIndex.getIndex(y-1)*orig.stride;
+		int row1 = orig.startIndex + rowIndex.getIndex(y)*orig.stride;
+		int row2 = orig.startIndex + rowIndex.getIndex(y+1)*orig.stride;
+		int col0 = colIndex.getIndex(x-1);
+		int col2 = colIndex.getIndex(x+1);
+		int col1 = colIndex.getIndex(x);
+
+		final ByteBuffer data = orig.data;
+		int a11 = data.get(row0+col0) & 0xFF;
+		int a12 = data.get(row0+col1) & 0xFF;
+		int a13 = data.get(row0+col2) & 0xFF;
+		int a21 = data.get(row1+col0) & 0xFF;
+		int a23 = data.get(row1+col2) & 0xFF;
+		int a31 = data.get(row2+col0) & 0xFF;
+		int a32 = data.get(row2+col1) & 0xFF;
+		int a33 = data.get(row2+col2) & 0xFF;
+
+		int v = a33 - a11;
+		int w = a31 - a13;
+
+		derivX.data[derivX.getIndex(x,y)] = (short)((a23 - a21)*2 + v - w);
+		derivY.data[derivY.getIndex(x,y)] = (short)((a32 - a12)*2 + v + w);
+	}
+}
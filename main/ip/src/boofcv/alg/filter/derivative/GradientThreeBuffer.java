@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.derivative;
+
+import boofcv.alg.InputSanityCheck;
+import boofcv.core.image.border.BorderIndex1D;
+import boofcv.core.image.border.BorderType;
+import boofcv.struct.image.ImageBufferFloat32;
+import boofcv.struct.image.ImageBufferUInt8;
+import boofcv.struct.image.ImageSInt16;
+
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+
+/**
+ * Computes the image gradient using the kernel [-0.5 0 0.5] for {@link boofcv.struct.image.ImageBufferSingleBand}
+ * images.  The output is the same as {@link GradientThree}.
+ *
+ * @author Peter Abeles
+ */
+public class GradientThreeBuffer {
+
+	/**
+	 * Computes the derivative of an image along the x and y axes.
+	 *
+	 * @param orig   Which which is to be differentiated. Not Modified.
+	 * @param derivX Derivative along the x-axis. Modified.
+	 * @param derivY Derivative along the y-axis. Modified.
+	 * @param border Specifies how the image border is handled. If null the border is not processed.
+	 */
+	public static void process(ImageBufferFloat32 orig, ImageBufferFloat32 derivX, ImageBufferFloat32 derivY,
+							   BorderType border) {
+		InputSanityCheck.checkSameShape(orig, derivX, derivY);
+
+		final FloatBuffer data = orig.data;
+		final int stride = orig.stride;
+		final int width = orig.width;
+		final int height = orig.height;
+
+		for( int y = 1; y < height-1; y++ ) {
+			int index = orig.startIndex + y*stride + 1;
+			int indexX = derivX.startIndex + y*derivX.stride + 1;
+			int indexY = derivY.startIndex + y*derivY.stride + 1;
+			int end = index + width - 2;
+
+			for( ; index < end; index++ ) {
+				derivX.data.put(indexX++, (data.get(index+1) - data.get(index-1))*0.5f);
+				derivY.data.put(indexY++, (data.get(index+stride) - data.get(index-stride))*0.5f);
+			}
+		}
+
+		BorderIndex1D rowIndex = DerivativeHelperFunctions.createBorderIndex(border);
+		if( rowIndex == null )
+			return;
+		BorderIndex1D colIndex = DerivativeHelperFunctions.createBorderIndex(border);
+		rowIndex.setLength(height);
+		colIndex.setLength(width);
+
+		for( int y = 0; y < height; y++ ) {
+			if( y == 0 || y == height-1 ) {
+				for( int x = 0; x < width; x++ )
+					processBorder(orig, derivX, derivY, rowIndex, colIndex, x, y);
+			} else {
+				processBorder(orig, derivX, derivY, rowIndex, colIndex, 0, y);
+				if( width > 1 )
+					processBorder(orig, derivX, derivY, rowIndex, colIndex, width-1, y);
+			}
+		}
+	}
+
+	/**
+	 * Computes the derivative of an {@link ImageBufferUInt8} along the x and y axes.
+	 *
+	 * @param orig   Which which is to be differentiated. Not Modified.
+	 * @param derivX Derivative along the x-axis. Modified.
+	 * @param derivY Derivative along the y-axis. Modified.
+	 * @param border Specifies how the image border is handled. If null the border is not processed.
+	 */
+	public static void process(ImageBufferUInt8 orig, ImageSInt16 derivX, ImageSInt16 derivY,
+							   BorderType border) {
+		InputSanityCheck.checkSameShape(orig, derivX, derivY);
+
+		final ByteBuffer data = orig.data;
+		final short[] imgX = derivX.data;
+		final short[] imgY = derivY.data;
+		final int stride = orig.stride;
+		final int width = orig.width;
+		final int height = orig.height;
+
+		for( int y = 1; y < height-1; y++ ) {
+			int index = orig.startIndex + y*stride + 1;
+			int indexX = derivX.startIndex + y*derivX.stride + 1;
+			int indexY = derivY.startIndex + y*derivY.stride + 1;
+			int end = index + width - 2;
+
+			for( ; index < end; index++ ) {
+				imgX[indexX++] = (short)((data.get(index+1) & 0xFF) - (data.get(index-1) & 0xFF));
+				imgY[indexY++] = (short)((data.get(index+stride) & 0xFF) - (data.get(index-stride) & 0xFF));
+			}
+		}
+
+		BorderIndex1D rowIndex = DerivativeHelperFunctions.createBorderIndex(border);
+		if( rowIndex == null )
+			return;
+		BorderIndex1D colIndex = DerivativeHelperFunctions.createBorderIndex(border);
+		rowIndex.setLength(height);
+		colIndex.setLength(width);
+
+		for( int y = 0; y < height; y++ ) {
+			if( y == 0 || y == height-1 ) {
+				for( int x = 0; x < width; x++ )
+					processBorder(orig, derivX, derivY, rowIndex, colIndex, x, y);
+			} else {
+				processBorder(orig, derivX, derivY, rowIndex, colIndex, 0, y);
+				if( width > 1 )
+					processBorder(orig, derivX, derivY, rowIndex, colIndex, width-1, y);
+			}
+		}
+	}
+
+	private static void processBorder( ImageBufferFloat32 orig, ImageBufferFloat32 derivX, ImageBufferFloat32 derivY,
+									   BorderIndex1D rowIndex , BorderIndex1D colIndex , int x , int y ) {
+		int row = orig.startIndex + rowIndex.getIndex(y)*orig.stride;
+		int col = colIndex.getIndex(x);
+
+		final FloatBuffer data = orig.data;
+		float dx = data.get(row + colIndex.getIndex(x+1)) - data.get(row + colIndex.getIndex(x-1));
+		float dy = data.get(orig.startIndex + rowIndex.getIndex(y+1)*orig.stride + col) -
+				data.get(orig.startIndex + rowIndex.getIndex(y-1)*orig.stride + col);
+
+		derivX.data.put(derivX.getIndex(x,y), dx*0.5f);
+		derivY.data.put(derivY.getIndex(x,y), dy*0.5f);
+	}
+
+	private static void processBorder( ImageBufferUInt8 orig, ImageSInt16 derivX, ImageSInt16 derivY,
+									   BorderIndex1D rowIndex , BorderIndex1D colIndex , int x , int y ) {
+		int row = orig.startIndex + rowIndex.getIndex(y)*orig.stride;
+		int col = colIndex.getIndex(x);
+
+		final ByteBuffer data = orig.data;
+		int dx = (data.get(row + colIndex.getIndex(x+1)) & 0xFF) - (data.get(row + colIndex.getIndex(x-1)) & 0xFF);
+		int dy = (data.get(orig.startIndex + rowIndex.getIndex(y+1)*orig.stride + col) & 0xFF) -
+				(data.get(orig.startIndex + rowIndex.getIndex(y-1)*orig.stride + col) & 0xFF);
+
+		derivX.data[derivX.getIndex(x,y)] = (short)dx;
+		derivY.data[derivY.getIndex(x,y)] = (short)dy;
+	}
+}
@@ -66,6 +66,46 @@ public interface InterpolatePixel<T extends ImageSingleBand> {
 	 */
 	public float get_unsafe(float x, float y);
 
+	/**
+	 * <p>
+	 * Interpolates the image at a list of points and writes the results into an array.  Points which are at
+	 * least {@link #getUnsafeBorderX()} and {@link #getUnsafeBorderY()} pixels away from the image border are
+	 * computed the same as {@link #get_unsafe(float, float)}, other points inside the image the same as
+	 * {@link #get(float, float)}.  Points outside the image, x &lt; 0, y &lt; 0, x &ge; width, or y &ge; height,
+	 * are skipped and their element in 'values' is not modified.
+	 * </p>
+	 *
+	 * <p>
+	 * Faster than calling get() for each point since bounds checks are done in bulk and there is only one
+	 * function call.
+	 * </p>
+	 *
+	 * @param x Array containing each point's x-coordinate. Not modified.
+	 * @param y Array containing each point's y-coordinate. Not modified.
+	 * @param offset Index of the first point in the coordinate arrays.
+	 * @param length Number of points which are interpolated.
+	 * @param values Output.  Interpolated value of point 'offset+i' is written into element 'i'. Modified.
+	 */
+	public void get( float x[] , float y[] , int offset , int length , float values[] );
+
+	/**
+	 * <p>
+	 * Interpolates evenly spaced points along a row in the image.  All the points have the same y-coordinate
+	 * and the x-coordinate of the i-th point is stepX*i + offsetX, where i ranges from indexStart to
+	 * indexStart+length-1.  Which function is used to compute each point and how points outside the image are
+	 * handled is the same as for {@link #get(float[], float[], int, int, float[])}.  Calculations which depend
+	 * on the y-coordinate are only done once for the whole row.
+	 * </p>
+	 *
+	 * @param y Row's y-coordinate.
+	 * @param stepX Distance between each point along the x-axis.
+	 * @param offsetX The x-coordinate of point i=0.
+	 * @param indexStart Index of the first point which is interpolated.
+	 * @param length Number of points which are interpolated.
+	 * @param values Output.  Interpolated value of point 'indexStart+i' is written into element 'i'. Modified.
+	 */
+	public void getRow( float y , float stepX , float offsetX , int indexStart , int length , float values[] );
+
 	/**
 	 * Is the requested pixel inside the image bounds in which get_unsafe() can be called without throwing
 	 * an exception?
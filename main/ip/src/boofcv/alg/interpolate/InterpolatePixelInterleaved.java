@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.interpolate;
+
+import boofcv.struct.image.ImageInterleaved;
+
+
+/**
+ * Interface for interpolation between pixels in {@link ImageInterleaved} images on a per-pixel basis.
+ * The value of every band is interpolated in a single call, which lets the interpolation weights be
+ * computed once for all the bands.
+ *
+ * @author Peter Abeles
+ */
+public interface InterpolatePixelInterleaved<T extends ImageInterleaved> {
+
+	/**
+	 * Change the image that is being interpolated.
+	 *
+	 * @param image An image.
+	 */
+	public void setImage(T image);
+
+	/**
+	 * Returns the image which is being interpolated.
+	 *
+	 * @return A reference to the image being interpolated.
+	 */
+	public T getImage();
+
+	/**
+	 * Computes the interpolated value of each band at the specified coordinate.  Bounds checking is
+	 * performed and an exception is thrown if the point can't be interpolated.
+	 *
+	 * @param x Point's x-coordinate.
+	 * @param y Point's y-coordinate.
+	 * @param values Storage for the interpolated value of each band.  Must have numBands elements.
+	 */
+	public void get(float x, float y, float[] values);
+
+	/**
+	 * Computes the interpolated value of each band at the specified coordinate.  No bounds checks are
+	 * done to see if it is inside the image and the image border might not be handled.
+	 *
+	 * @param x Point's x-coordinate.
+	 * @param y Point's y-coordinate.
+	 * @param values Storage for the interpolated value of each band.  Must have numBands elements.
+	 */
+	public void get_unsafe(float x, float y, float[] values);
+
+	/**
+	 * Is the requested pixel inside the image bounds in which get_unsafe() can be called without throwing
+	 * an exception?
+	 *
+	 * @param x Point's x-coordinate.
+	 * @param y Point's y-coordinate.
+	 * @return  true if get_unsafe() can be called.
+	 */
+	public boolean isInSafeBounds( float x , float y );
+
+	/**
+	 * Border around the image that {@link #get_unsafe(float, float, float[])} cannot be called.
+	 *
+	 * @return Border size in pixels
+	 */
+	public int getUnsafeBorderX();
+
+	/**
+	 * Border around the image that {@link #get_unsafe(float, float, float[])} cannot be called.
+	 *
+	 * @return Border size in pixels
+	 */
+	public int getUnsafeBorderY();
+
+}
@@ -99,4 +99,50 @@ public abstract class PolynomialPixel<T extends ImageSingleBand> implements Inte
 	public int getUnsafeBorderY() {
 		return M;
 	}
+
+	@Override
+	public void get(float[] x, float[] y, int offset, int length, float[] values) {
+		final float minSafeX = getUnsafeBorderX();
+		final float minSafeY = getUnsafeBorderY();
+		final float maxSafeX = image.width - minSafeX;
+		final float maxSafeY = image.height - minSafeY;
+		final float widthF = image.width;
+		final float heightF = image.height;
+
+		for( int i = 0; i < length; i++ ) {
+			float xf = x[offset+i];
+			float yf = y[offset+i];
+
+			if( xf >= minSafeX && xf < maxSafeX && yf >= minSafeY && yf < maxSafeY )
+				values[i] = get_unsafe(xf,yf);
+			else if( xf >= 0 && yf >= 0 && xf < widthF && yf < heightF )
+				values[i] = get(xf,yf);
+		}
+	}
+
+	@Override
+	public void getRow(float y, float stepX, float offsetX, int indexStart, int length, float[] values) {
+		final float minSafeX = getUnsafeBorderX();
+		final float minSafeY = getUnsafeBorderY();
+		final float maxSafeX = image.width - minSafeX;
+		final float maxSafeY = image.height - minSafeY;
+		final float widthF = image.width;
+
+		// skip rows outside of the image
+		if( !(y >= 0 && y < image.height) )
+			return;
+
+		boolean safeRow = y >= minSafeY && y < maxSafeY;
+
+		// the index is kept as a float since converting from int to float is expensive
+		float indexF = indexStart;
+		for( int i = 0; i < length; i++ , indexF++ ) {
+			float xf = stepX*indexF + offsetX;
+
+			if( safeRow && xf >= minSafeX && xf < maxSafeX )
+				values[i] = get_unsafe(xf,y);
+			else if( xf >= 0 && xf < widthF )
+				values[i] = get(xf,y);
+		}
+	}
 }
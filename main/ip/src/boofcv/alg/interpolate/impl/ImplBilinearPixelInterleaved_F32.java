@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.interpolate.impl;
+
+import boofcv.alg.interpolate.BilinearPixelInterleaved;
+import boofcv.struct.image.ImageInterleavedFloat32;
+
+
+/**
+ * <p>
+ * Implementation of {@link BilinearPixelInterleaved} for a specific image type.  The weights are computed
+ * once and then applied to every band of the four neighboring pixels.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplBilinearPixelInterleaved_F32 extends BilinearPixelInterleaved<ImageInterleavedFloat32> {
+
+	public ImplBilinearPixelInterleaved_F32() {
+	}
+
+	public ImplBilinearPixelInterleaved_F32(ImageInterleavedFloat32 orig) {
+		setImage(orig);
+	}
+
+	@Override
+	public void get_unsafe(float x, float y, float[] values) {
+		int xt = (int) x;
+		int yt = (int) y;
+		float ax = x - xt;
+		float ay = y - yt;
+
+		int index = orig.startIndex + yt * stride + xt * numBands;
+
+		// allows borders to be interpolated gracefully by double counting appropriate pixels
+		int dx = xt == width - 1 ? 0 : numBands;
+		int dy = yt == height - 1 ? 0 : stride;
+
+		float w00 = (1.0f - ax) * (1.0f - ay);
+		float w10 = ax * (1.0f - ay);
+		float w11 = ax * ay;
+		float w01 = (1.0f - ax) * ay;
+
+		float[] data = orig.data;
+
+		for( int band = 0; band < numBands; band++ , index++ ) {
+			float val = w00 * (data[index]); // (x,y)
+			val += w10 * (data[index + dx]); // (x+1,y)
+			val += w11 * (data[index + dx + dy]); // (x+1,y+1)
+			val += w01 * (data[index + dy]); // (x,y+1)
+
+			values[band] = val;
+		}
+	}
+
+}
@@ -92,4 +92,76 @@ public class ImplBilinearPixel_S16 extends BilinearPixel<ImageSInt16> {
 		return val;
 	}
 
+	@Override
+	public void get(float[] x, float[] y, int offset, int length, float[] values) {
+		final short[] data = orig.data;
+		final float widthF = width;
+		final float heightF = height;
+
+		for( int i = 0; i < length; i++ ) {
+			float xf = x[offset+i];
+			float yf = y[offset+i];
+
+			// skip points outside of the image
+			if( !(xf >= 0 && yf >= 0 && xf < widthF && yf < heightF) )
+				continue;
+
+			int xt = (int) xf;
+			int yt = (int) yf;
+			float ax = xf - xt;
+			float ay = yf - yt;
+
+			int index = orig.startIndex + yt * stride + xt;
+
+			int dx = xt == width - 1 ? 0 : 1;
+			int dy = yt == height - 1 ? 0 : stride;
+
+			float val = (1.0f - ax) * (1.0f - ay) * (data[index] ); // (x,y)
+			val += ax * (1.0f - ay) * (data[index + dx] ); // (x+1,y)
+			val += ax * ay * (data[index + dx + dy] ); // (x+1,y+1)
+			val += (1.0f - ax) * ay * (data[index + dy] ); // (x,y+1)
+
+			values[i] = val;
+		}
+	}
+
+	@Override
+	public void getRow(float y, float stepX, float offsetX, int indexStart, int length, float[] values) {
+		// skip rows outside of the image
+		if( !(y >= 0 && y < height) )
+			return;
+
+		final short[] data = orig.data;
+		final float widthF = width;
+
+		// everything which depends on the y-coordinate is the same for the whole row
+		int yt = (int) y;
+		float ay = y - yt;
+		int indexRow = orig.startIndex + yt * stride;
+		int dy = yt == height - 1 ? 0 : stride;
+
+		// the index is kept as a float since converting from int to float is expensive
+		float indexF = indexStart;
+		for( int i = 0; i < length; i++ , indexF++ ) {
+			float xf = stepX*indexF + offsetX;
+
+			// skip points outside of the image
+			if( !(xf >= 0 && xf < widthF) )
+				continue;
+
+			int xt = (int) xf;
+			float ax = xf - xt;
+
+			int index = indexRow + xt;
+			int dx = xt == width - 1 ? 0 : 1;
+
+			float val = (1.0f - ax) * (1.0f - ay) * (data[index] ); // (x,y)
+			val += ax * (1.0f - ay) * (data[index + dx] ); // (x+1,y)
+			val += ax * ay * (data[index + dx + dy] ); // (x+1,y+1)
+			val += (1.0f - ax) * ay * (data[index + dy] ); // (x,y+1)
+
+			values[i] = val;
+		}
+	}
+
 }
@@ -43,6 +43,8 @@ public class ImplInterpolatePixelConvolution_U8 implements InterpolatePixel<Imag
 	private ImageUInt8 image;
 	// minimum and maximum allowed pixel values
 	private float min,max;
+	// storage for kernel weights along each axis when interpolating many points
+	private float weightX[],weightY[];
 
 	public ImplInterpolatePixelConvolution_U8(KernelContinuous1D_F32 kernel , float min , float max ) {
 		this.kernel = kernel;
@@ -156,4 +158,104 @@ public class ImplInterpolatePixelConvolution_U8 implements InterpolatePixel<Imag
 		return kernel.getRadius();
 	}
 
+	@Override
+	public void get(float[] x, float[] y, int offset, int length, float[] values) {
+		final int radius = kernel.getRadius();
+		final int width = kernel.getWidth();
+		final float minSafeX = getUnsafeBorderX();
+		final float minSafeY = getUnsafeBorderY();
+		final float maxSafeX = image.width - minSafeX;
+		final float maxSafeY = image.height - minSafeY;
+		final float widthF = image.width;
+		final float heightF = image.height;
+
+		declareWeights(width);
+
+		for( int i = 0; i < length; i++ ) {
+			float xf = x[offset+i];
+			float yf = y[offset+i];
+
+			if( xf >= minSafeX && xf < maxSafeX && yf >= minSafeY && yf < maxSafeY ) {
+				computeWeights(xf, radius, width, weightX);
+				computeWeights(yf, radius, width, weightY);
+				values[i] = convolve((int)xf - radius, (int)yf - radius, width);
+			} else if( xf >= 0 && yf >= 0 && xf < widthF && yf < heightF )
+				values[i] = get(xf,yf);
+		}
+	}
+
+	@Override
+	public void getRow(float y, float stepX, float offsetX, int indexStart, int length, float[] values) {
+		final int radius = kernel.getRadius();
+		final int width = kernel.getWidth();
+		final float minSafeX = getUnsafeBorderX();
+		final float minSafeY = getUnsafeBorderY();
+		final float maxSafeX = image.width - minSafeX;
+		final float maxSafeY = image.height - minSafeY;
+		final float widthF = image.width;
+
+		// skip rows outside of the image
+		if( !(y >= 0 && y < image.height) )
+			return;
+
+		declareWeights(width);
+
+		// weights along the y-axis are the same for the whole row
+		boolean safeRow = y >= minSafeY && y < maxSafeY;
+		if( safeRow )
+			computeWeights(y, radius, width, weightY);
+		int y0 = (int)y - radius;
+
+		// the index is kept as a float since converting from int to float is expensive
+		float indexF = indexStart;
+		for( int i = 0; i < length; i++ , indexF++ ) {
+			float xf = stepX*indexF + offsetX;
+
+			if( safeRow && xf >= minSafeX && xf < maxSafeX ) {
+				computeWeights(xf, radius, width, weightX);
+				values[i] = convolve((int)xf - radius, y0, width);
+			} else if( xf >= 0 && xf < widthF )
+				values[i] = get(xf,y);
+		}
+	}
+
+	private void declareWeights( int width ) {
+		if( weightX == null || weightX.length != width ) {
+			weightX = new float[width];
+			weightY = new float[width];
+		}
+	}
+
+	/**
+	 * Computes the kernel weight for each pixel from (int)p-radius to (int)p-radius+width-1
+	 */
+	private void computeWeights( float p , int radius , int width , float weights[] ) {
+		int p0 = (int)p - radius;
+		for( int k = 0; k < width; k++ ) {
+			weights[k] = kernel.compute(p0+k-p);
+		}
+	}
+
+	/**
+	 * Same as {@link #get_unsafe(float, float)} but with weights which have already been computed
+	 */
+	private float convolve( int x0 , int y0 , int width ) {
+		float value = 0;
+		for( int i = 0; i < width; i++ ) {
+			int indexSrc = image.startIndex + (y0+i)*image.stride + x0;
+			float valueX = 0;
+			for( int j = 0; j < width; j++ ) {
+				valueX += weightX[j] * (image.data[ indexSrc++ ]& 0xFF);
+			}
+			value += weightY[i]*valueX;
+		}
+
+		if( value > max )
+			return max;
+		else if( value < min )
+			return min;
+		else
+			return value;
+	}
+
 }
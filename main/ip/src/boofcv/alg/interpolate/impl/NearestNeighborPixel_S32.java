@@ -61,4 +61,43 @@ public class NearestNeighborPixel_S32 extends NearestNeighborPixel<ImageSInt32>
 
 		return data[ orig.startIndex + yy*stride + xx];
 	}
+
+	@Override
+	public void get(float[] x, float[] y, int offset, int length, float[] values) {
+		final float widthF = width;
+		final float heightF = height;
+
+		for( int i = 0; i < length; i++ ) {
+			float xf = x[offset+i];
+			float yf = y[offset+i];
+
+			// skip points outside of the image
+			if( !(xf >= 0 && yf >= 0 && xf < widthF && yf < heightF) )
+				continue;
+
+			values[i] = data[ orig.startIndex + ((int)yf)*stride + (int)xf];
+		}
+	}
+
+	@Override
+	public void getRow(float y, float stepX, float offsetX, int indexStart, int length, float[] values) {
+		// skip rows outside of the image
+		if( !(y >= 0 && y < height) )
+			return;
+
+		final float widthF = width;
+		final int indexRow = orig.startIndex + ((int)y)*stride;
+
+		// the index is kept as a float since converting from int to float is expensive
+		float indexF = indexStart;
+		for( int i = 0; i < length; i++ , indexF++ ) {
+			float xf = stepX*indexF + offsetX;
+
+			// skip points outside of the image
+			if( !(xf >= 0 && xf < widthF) )
+				continue;
+
+			values[i] = data[ indexRow + (int)xf];
+		}
+	}
 }
@@ -0,0 +1,306 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.misc;
+
+import boofcv.struct.image.ImageInterleavedFloat32;
+import boofcv.struct.image.ImageInterleavedInt8;
+
+import java.util.Arrays;
+
+/**
+ * Computes statistical properties of pixels inside {@link boofcv.struct.image.ImageInterleaved} images.  The
+ * minimum and maximum are found across all the bands while other statistics are computed for each band
+ * independently and match the equivalent function in {@link ImageStatistics}.  {@link ImageInterleavedInt8}
+ * is treated as unsigned.
+ *
+ * <p>DO NOT MODIFY: Generated by {@link boofcv.alg.misc.GenerateImageStatisticsInterleaved}.</p>
+ *
+ * @author Peter Abeles
+ */
+public class ImageStatisticsInterleaved {
+
+	/**
+	 * Returns the minimum element value across all bands.
+	 *
+	 * @param input Input image. Not modified.
+	 * @return Minimum pixel value.
+	 */
+	public static int min( ImageInterleavedInt8 input ) {
+
+		int min = input.data[input.startIndex] & 0xFF;
+
+		for( int y = 0; y < input.height; y++ ) {
+			int index = input.startIndex + y*input.stride;
+			int end = index + input.width*input.numBands;
+
+			for( ; index < end; index++ ) {
+				int v = input.data[index] & 0xFF;
+				if( v < min )
+					min = v;
+			}
+		}
+		return min;
+	}
+
+	/**
+	 * Returns the maximum element value across all bands.
+	 *
+	 * @param input Input image. Not modified.
+	 * @return Maximum pixel value.
+	 */
+	public static int max( ImageInterleavedInt8 input ) {
+
+		int max = input.data[input.startIndex] & 0xFF;
+
+		for( int y = 0; y < input.height; y++ ) {
+			int index = input.startIndex + y*input.stride;
+			int end = index + input.width*input.numBands;
+
+			for( ; index < end; index++ ) {
+				int v = input.data[index] & 0xFF;
+				if( v > max )
+					max = v;
+			}
+		}
+		return max;
+	}
+
+	/**
+	 * Computes the sum of all the pixels in each band.
+	 *
+	 * @param img Input image. Not modified.
+	 * @param storage (Optional) Storage for the sum of each band.  If null a new array is declared.
+	 * @return Sum of each band.
+	 */
+	public static int[] sum( ImageInterleavedInt8 img , int[] storage ) {
+		final int numBands = img.numBands;
+		if( storage == null )
+			storage = new int[ numBands ];
+		else if( storage.length != numBands )
+			throw new IllegalArgumentException("storage must have one element for each band");
+		else
+			Arrays.fill(storage,0);
+
+		for( int y = 0; y < img.height; y++ ) {
+			int index = img.startIndex + y*img.stride;
+			int end = index + img.width*numBands;
+
+			while( index < end ) {
+				for( int band = 0; band < numBands; band++ , index++ ) {
+					storage[band] += img.data[index] & 0xFF;
+				}
+			}
+		}
+
+		return storage;
+	}
+
+	/**
+	 * Computes the mean pixel intensity value of each band.
+	 *
+	 * @param img Input image. Not modified.
+	 * @param storage (Optional) Storage for the mean of each band.  If null a new array is declared.
+	 * @return Mean of each band.
+	 */
+	public static double[] mean( ImageInterleavedInt8 img , double[] storage ) {
+		final int numBands = img.numBands;
+		int[] sum = sum(img,null);
+		if( storage == null )
+			storage = new double[ numBands ];
+		else if( storage.length != numBands )
+			throw new IllegalArgumentException("storage must have one element for each band");
+
+		for( int band = 0; band < numBands; band++ ) {
+			storage[band] = sum[band]/(double)(img.width*img.height);
+		}
+		return storage;
+	}
+
+	/**
+	 * Computes the variance of pixel intensity values in each band.
+	 *
+	 * @param img Input image. Not modified.
+	 * @param mean Mean pixel intensity value of each band.
+	 * @param storage (Optional) Storage for the variance of each band.  If null a new array is declared.
+	 * @return Variance of each band.
+	 */
+	public static double[] variance( ImageInterleavedInt8 img , double[] mean , double[] storage ) {
+		final int numBands = img.numBands;
+		if( mean.length != numBands )
+			throw new IllegalArgumentException("mean must have one element for each band");
+		if( storage == null )
+			storage = new double[ numBands ];
+		else if( storage.length != numBands )
+			throw new IllegalArgumentException("storage must have one element for each band");
+		else
+			Arrays.fill(storage,0);
+
+		for( int y = 0; y < img.height; y++ ) {
+			int index = img.startIndex + y*img.stride;
+			int end = index + img.width*numBands;
+
+			while( index < end ) {
+				for( int band = 0; band < numBands; band++ , index++ ) {
+					double d = (img.data[index] & 0xFF) - mean[band];
+					storage[band] += d*d;
+				}
+			}
+		}
+
+		for( int band = 0; band < numBands; band++ ) {
+			storage[band] /= (img.width*img.height);
+		}
+		return storage;
+	}
+
+	/**
+	 * Returns the minimum element value across all bands.
+	 *
+	 * @param input Input image. Not modified.
+	 * @return Minimum pixel value.
+	 */
+	public static float min( ImageInterleavedFloat32 input ) {
+
+		float min = input.data[input.startIndex];
+
+		for( int y = 0; y < input.height; y++ ) {
+			int index = input.startIndex + y*input.stride;
+			int end = index + input.width*input.numBands;
+
+			for( ; index < end; index++ ) {
+				float v = input.data[index];
+				if( v < min )
+					min = v;
+			}
+		}
+		return min;
+	}
+
+	/**
+	 * Returns the maximum element value across all bands.
+	 *
+	 * @param input Input image. Not modified.
+	 * @return Maximum pixel value.
+	 */
+	public static float max( ImageInterleavedFloat32 input ) {
+
+		float max = input.data[input.startIndex];
+
+		for( int y = 0; y < input.height; y++ ) {
+			int index = input.startIndex + y*input.stride;
+			int end = index + input.width*input.numBands;
+
+			for( ; index < end; index++ ) {
+				float v = input.data[index];
+				if( v > max )
+					max = v;
+			}
+		}
+		return max;
+	}
+
+	/**
+	 * Computes the sum of all the pixels in each band.
+	 *
+	 * @param img Input image. Not modified.
+	 * @param storage (Optional) Storage for the sum of each band.  If null a new array is declared.
+	 * @return Sum of each band.
+	 */
+	public static float[] sum( ImageInterleavedFloat32 img , float[] storage ) {
+		final int numBands = img.numBands;
+		if( storage == null )
+			storage = new float[ numBands ];
+		else if( storage.length != numBands )
+			throw new IllegalArgumentException("storage must have one element for each band");
+		else
+			Arrays.fill(storage,0);
+
+		for( int y = 0; y < img.height; y++ ) {
+			int index = img.startIndex + y*img.stride;
+			int end = index + img.width*numBands;
+
+			while( index < end ) {
+				for( int band = 0; band < numBands; band++ , index++ ) {
+					storage[band] += img.data[index];
+				}
+			}
+		}
+
+		return storage;
+	}
+
+	/**
+	 * Computes the mean pixel intensity value of each band.
+	 *
+	 * @param img Input image. Not modified.
+	 * @param storage (Optional) Storage for the mean of each band.  If null a new array is declared.
+	 * @return Mean of each band.
+	 */
+	public static double[] mean( ImageInterleavedFloat32 img , double[] storage ) {
+		final int numBands = img.numBands;
+		float[] sum = sum(img,null);
+		if( storage == null )
+			storage = new double[ numBands ];
+		else if( storage.length != numBands )
+			throw new IllegalArgumentException("storage must have one element for each band");
+
+		for( int band = 0; band < numBands; band++ ) {
+			storage[band] = sum[band]/(double)(img.width*img.height);
+		}
+		return storage;
+	}
+
+	/**
+	 * Computes the variance of pixel intensity values in each band.
+	 *
+	 * @param img Input image. Not modified.
+	 * @param mean Mean pixel intensity value of each band.
+	 * @param storage (Optional) Storage for the variance of each band.  If null a new array is declared.
+	 * @return Variance of each band.
+	 */
+	public static double[] variance( ImageInterleavedFloat32 img , double[] mean , double[] storage ) {
+		final int numBands = img.numBands;
+		if( mean.length != numBands )
+			throw new IllegalArgumentException("mean must have one element for each band");
+		if( storage == null )
+			storage = new double[ numBands ];
+		else if( storage.length != numBands )
+			throw new IllegalArgumentException("storage must have one element for each band");
+		else
+			Arrays.fill(storage,0);
+
+		for( int y = 0; y < img.height; y++ ) {
+			int index = img.startIndex + y*img.stride;
+			int end = index + img.width*numBands;
+
+			while( index < end ) {
+				for( int band = 0; band < numBands; band++ , index++ ) {
+					double d = img.data[index] - mean[band];
+					storage[band] += d*d;
+				}
+			}
+		}
+
+		for( int band = 0; band < numBands; band++ ) {
+			storage[band] /= (img.width*img.height);
+		}
+		return storage;
+	}
+
+}
@@ -0,0 +1,1745 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.misc;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
+import boofcv.struct.image.*;
+
+/**
+ * <p>
+ * Concurrent implementations of functions in {@link ImageStatistics}.  The image is split into bands with
+ * a fixed number of rows, independent of the number of threads, and the results for each band are combined
+ * in the same order every time.  Results for integer images are identical to the single threaded version.
+ * Results for floating point images are always the same, but can differ from the single threaded version
+ * by round off error.
+ * </p>
+ *
+ * <p>DO NOT MODIFY: Generated by {@link boofcv.alg.misc.GenerateImageStatistics}.</p>
+ *
+ * @author Peter Abeles
+ */
+public class ImageStatistics_MT {
+
+	/**
+	 * Number of rows in each band
+	 */
+	public static final int BAND_ROWS = 32;
+
+	private static int numBands( int height ) {
+		return (height + BAND_ROWS - 1)/BAND_ROWS;
+	}
+
+	/**
+	 * Concurrent version of {@link ImageStatistics#min(ImageUInt8)}
+	 */
+	public static int min( final ImageUInt8 input ) {
+		final int numBands = numBands(input.height);
+		final int partial[] = new int[numBands];
+
+		BoofConcurrency.loopBlocks(0,numBands,new IntRangeTask() {
+			@Override
+			public void run(int band0, int band1) {
+				for( int band = band0; band < band1; band++ ) {
+					int y0 = band*BAND_ROWS;
+					int y1 = Math.min(input.height,y0+BAND_ROWS);
+					partial[band] = ImageStatistics.min(input.subimage(0,y0,input.width,y1));
+				}
+			}
+		});
+
+		int min = partial[0];
+		for( int i = 1; i < numBands; i++ ) {
+			if( partial[i] < min )
+				min = partial[i];
+		}
+		return min;
+	}
+
+	/**
+	 * Concurrent version of {@link ImageStatistics#max(ImageUInt8)}
+	 */
+	public static int max( final ImageUInt8 input ) {
+		final int numBands = numBands(input.height);
+		final int partial[] = new int[numBands];
+
+		BoofConcurrency.loopBlocks(0,numBands,new IntRangeTask() {
+			@Override
+			public void run(int band0, int band1) {
+				for( int band = band0; band < band1; band++ ) {
+					int y0 = band*BAND_ROWS;
+					int y1 = Math.min(input.height,y0+BAND_ROWS);
+					partial[band] = ImageStatistics.max(input.subimage(0,y0,input.width,y1));
+				}
+			}
+		});
+
+		int max = partial[0];
+		for( int i = 1; i < numBands; i++ ) {
+			if( partial[i] > max )
+				max = partial[i];
+		}
+		return max;
+	}
+
+	/**
+	 * Concurrent version of {@link ImageStatistics#maxAbs(ImageUInt8)}
+	 */
+	public static int maxAbs( final ImageUInt8 input ) {
+		final int numBands = numBands(input.height);
+		final int partial[] = new int[numBands];
+
+		BoofConcurrency.loopBlocks(0,numBands,new IntRangeTask() {
+			@Override
+			public void run(int band0, int band1) {
+				for( int band = band0; band < band1; band++ ) {
+					int y0 = band*BAND_ROWS;
+					int y1 = Math.min(input.height,y0+BAND_ROWS);
+					partial[band] = ImageStatistics.maxAbs(input.subimage(0,y0,input.width,y1));
+				}
+			}
+		});
+
+		int max = 0;
+		for( int i = 0; i < numBands; i++ ) {
+			if( partial[i] > max )
+				max = partial[i];
+		}
+		return max;
+	}
+
+	/**
+	 * Concurrent version of {@link ImageStatistics#sum(ImageUInt8)}
+	 */
+	public static int sum( final ImageUInt8 img ) {
+		final int numBands = numBands(img.height);
+		final int partial[] = new int[numBands];
+
+		BoofConcurrency.loopBlocks(0,numBands,new IntRangeTask() {
+			@Override
+			public void run(int band0, int band1) {
+				for( int band = band0; band < band1; band++ ) {
+					int y0 = band*BAND_ROWS;
+					int y1 = Math.min(img.height,y0+BAND_ROWS);
+					partial[band] = ImageStatistics.sum(img.subimage(0,y0,img.width,y1));
+				}
+			}
+		});
+
+		int total = 0;
+		for( int i = 0; i < numBands; i++ ) {
+			total += partial[i];
+		}
+		return total;
+	}
+
+	/**
+	 * Concurrent version of {@link ImageStatistics#mean(ImageUInt8)}
+	 */
+	public static double mean( ImageUInt8 img ) {
+		return sum(img)/(double)(img.width*img.height);
+	}
+
+	/**
+	 * Concurrent version of {@link ImageStatistics#variance(ImageUInt8, double)}
+	 */
+	public static double variance( final ImageUInt8 img , final double mean ) {
+		final int numBands = numBands(img.height);
+		final double partial[] = new double[numBands];
+
+		BoofConcurrency.loopBlocks(0,numBands,new IntRangeTask() {
+			@Override
+			public void run(int band0, int band1) {
+				for( int band = band0; band < band1; band++ ) {
+					int y0 = band*BAND_ROWS;
+					int y1 = Math.min(img.height,y0+BAND_ROWS);
+					double total = 0;
+					for( int y = y0; y < y1; y++ ) {
+						int index = img.startIndex + y*img.stride;
+						int indexEnd = index+img.width;
+						for (; index < indexEnd; index++ ) {
+							double d = (img.data[index]& 0xFF) - mean;
+							total += d*d;
+						}
+					}
+					partial[band] = total;
+				}
+			}
+		});
+
+		double total = 0;
+		for( int i = 0; i < numBands; i++ ) {
+			total += partial[i];
+		}
+		return total/(img.width*img.height);
+	}
+
+	/**
+	 * Concurrent version of {@link ImageStatistics#meanDiffSq(ImageUInt8, ImageUInt8)}
+	 */
+	public static double meanDiffSq( final ImageUInt8 imgA, final ImageUInt8 imgB ) {
+		final int numBands = numBands(imgA.height);
+		final int partial[] = new int[numBands];
+
+		BoofConcurrency.loopBlocks(0,numBands,new IntRangeTask() {
+			@Override
+			public void run(int band0, int band1) {
+				for( int band = band0; band < band1; band++ ) {
+					int y0 = band*BAND_ROWS;
+					int y1 = Math.min(imgA.height,y0+BAND_ROWS);
+					int total = 0;
+					for( int y = y0; y < y1; y++ ) {
+						int indexA = imgA.startIndex + y*imgA.stride;
+						int indexB = imgB.startIndex + y*imgB.stride;
+						for (int x = 0; x < imgA.width; x++,indexA++,indexB++) {
+							int difference = (imgA.data[indexA]& 0xFF)-(imgB.data[indexB]& 0xFF);
+							total += difference*difference;
+						}
+					}
+					partial[band] = total;
+				}
+			}
+		});
+
+		int total = 0;
+		for( int i = 0; i < numBands; i++ ) {
+			total += partial[i];
+		}
+		return total / (double)(imgA.width*imgA.height);
+	}
+
+	/**
+	 * Concurrent version of {@link ImageStatistics#meanDiffAbs(ImageUInt8, ImageUInt8)}
+	 */
+	public static double meanDiffAbs( final ImageUInt8 imgA, final ImageUInt8 imgB ) {
+		final int numBands = numBands(imgA.height);
+		final int partial[] = new int[numBands];
+
+		BoofConcurrency.loopBlocks(0,numBands,new IntRangeTask() {
+			@Override
+			public void run(int band0, int band1) {
+				for( int band = band0; band < band1; band++ ) {
+					int y0 = band*BAND_ROWS;
+					int y1 = Math.min(imgA.height,y0+BAND_ROWS);
+					int total = 0;
+					for( int y = y0; y < y1; y++ ) {
+						int indexA = imgA.startIndex + y*imgA.stride;
+						int indexB = imgB.startIndex + y*imgB.stride;
+						for (int x = 0; x < imgA.width; x++,indexA++,indexB++) {
+							int difference = (imgA.data[indexA]& 0xFF)-(imgB.data[indexB]& 0xFF);
+							total += Math.abs(difference);
+						}
+					}
+					partial[band] = total;
+				}
+			}
+		});
+
+		int total = 0;
+		for( int i = 0; i < numBands; i++ ) {
+			total += partial[i];
+		}
+		return total / (double)(imgA.width*imgA.height);
+	}
+
+	/**
+	 * Concurrent version of {@link ImageStatistics#min(ImageSInt8)}
+	 */
+	public static int min( final ImageSInt8 input ) {
+		final int numBands = numBands(input.height);
+		final int partial[] = new int[numBands];
+
+		BoofConcurrency.loopBlocks(0,numBands,new IntRangeTask() {
+			@Override
+			public void run(int band0, int band1) {
+				for( int band = band0; band < band1; band++ ) {
+					int y0 = band*BAND_ROWS;
+					int y1 = Math.min(input.height,y0+BAND_ROWS);
+					partial[band] = ImageStatistics.min(input.subimage(0,y0,input.width,y1));
+				}
+			}
+		});
+
+		int min = partial[0];
+		for( int i = 1; i < numBands; i++ ) {
+			if( partial[i] < min )
+				min = partial[i];
+		}
+		return min;
+	}
+
+	/**
+	 * Concurrent version of {@link ImageStatistics#max(ImageSInt8)}
+	 */
+	public static int max( final ImageSInt8 input ) {
+		final int numBands = numBands(input.height);
+		final int partial[] = new int[numBands];
+
+		BoofConcurrency.loopBlocks(0,numBands,new IntRangeTask() {
+			@Override
+			public void run(int band0, int band1) {
+				for( int band = band0; band < band1; band++ ) {
+					int y0 = band*BAND_ROWS;
+					int y1 = Math.min(input.height,y0+BAND_ROWS);
+					partial[band] = ImageStatistics.max(input.subimage(0,y0,input.width,y1));
+				}
+			}
+		});
+
+		int max = partial[0];
+		for( int i = 1; i < numBands; i++ ) {
+			if( partial[i] > max )
+				max = partial[i];
+		}
+		return max;
+	}
+
+	/**
+	 * Concurrent version of {@link ImageStatistics#maxAbs(ImageSInt8)}
+	 */
+	public static int maxAbs( final ImageSInt8 input ) {
+		final int numBands = numBands(input.height);
+		final int partial[] = new int[numBands];
+
+		BoofConcurrency.loopBlocks(0,numBands,new IntRangeTask() {
+			@Override
+			public void run(int band0, int band1) {
+				for( int band = band0; band < band1; band++ ) {
+					int y0 = band*BAND_ROWS;
+					int y1 = Math.min(input.height,y0+BAND_ROWS);
+					partial[band] = ImageStatistics.maxAbs(input.subimage(0,y0,input.width,y1));
+				}
+			}
+		});
+
+		int max = 0;
+		for( int i = 0; i < numBands; i++ ) {
+			if( partial[i] > max )
+				max = partial[i];
+		}
+		return max;
+	}
+
+	/**
+	 * Concurrent version of {@link ImageStatistics#sum(ImageSInt8)}
+	 */
+	public static int sum( final ImageSInt8 img ) {
+		final int numBands = numBands(img.height);
+		final int partial[] = new int[numBands];
+
+		BoofConcurrency.loopBlocks(0,numBands,new IntRangeTask() {
+			@Override
+			public void run(int band0, int band1) {
+				for( int band = band0; band < band1; band++ ) {
+					int y0 = band*BAND_ROWS;
+					int y1 = Math.min(img.height,y0+BAND_ROWS);
+					partial[band] = ImageStatistics.sum(img.subimage(0,y0,img.width,y1));
+				}
+			}
+		});
+
+		int total = 0;
+		for( int i = 0; i < numBands; i++ ) {
+			total += partial[i];
+		}
+		return total;
+	}
+
+	/**
+	 * Concurrent version of {@link ImageStatistics#mean(ImageSInt8)}
+	 */
+	public static double mean( ImageSInt8 img ) {
+		return sum(img)/(double)(img.width*img.height);
+	}
+
+	/**
+	 * Concurrent version of {@link ImageStatistics#variance(ImageSInt8, double)}
+	 */
+	public static double variance( final ImageSInt8 img , final double mean ) {
+		final int numBands = numBands(img.height);
+		final double partial[] = new double[numBands];
+
+		BoofConcurrency.loopBlocks(0,numBands,new IntRangeTask() {
+			@Override
+			public void run(int band0, int band1) {
+				for( int band = band0; band < band1; band++ ) {
+					int y0 = band*BAND_ROWS;
+					int y1 = Math.min(img.height,y0+BAND_ROWS);
+					double total = 0;
+					for( int y = y0; y < y1; y++ ) {
+						int index = img.startIndex + y*img.stride;
+						int indexEnd = index+img.width;
+						for (; index < indexEnd; index++ ) {
+							double d = (img.data[index]) - mean;
+							total += d*d;
+						}
+					}
+					partial[band] = total;
+				}
+			}
+		});
+
+		double total = 0;
+		for( int i = 0; i < numBands; i++ ) {
+			total += partial[i];
+		}
+		return total/(img.width*img.height);
+	}
+
+	/**
+	 * Concurrent version of {@link ImageStatistics#meanDiffSq(ImageSInt8, ImageSInt8)}
+	 */
+	public static double meanDiffSq( final ImageSInt8 imgA, final ImageSInt8 imgB ) {
+		final int numBands = numBands(imgA.height);
+		final int partial[] = new int[numBands];
+
+		BoofConcurrency.loopBlocks(0,numBands,new IntRangeTask() {
+			@Override
+			public void run(int band0, int band1) {
+				for( int band = band0; band < band1; band++ ) {
+					int y0 = band*BAND_ROWS;
+					int y1 = Math.min(imgA.height,y0+BAND_ROWS);
+					int total = 0;
+					for( int y = y0; y < y1; y++ ) {
+						int indexA = imgA.startIndex + y*imgA.stride;
+						int indexB = imgB.startIndex + y*imgB.stride;
+						for (int x = 0; x < imgA.width; x++,indexA++,indexB++) {
+							int difference = (imgA.data[indexA])-(imgB.data[indexB]);
+							total += difference*difference;
+						}
+					}
+					partial[band] = total;
+				}
+			}
+		});
+
+		int total = 0;
+		for( int i = 0; i < numBands; i++ ) {
+			total += partial[i];
+		}
+		return total / (double)(imgA.width*imgA.height);
+	}
+
+	/**
+	 * Concurrent version of {@link ImageStatistics#meanDiffAbs(ImageSInt8, ImageSInt8)}
+	 */
+	public static double meanDiffAbs( final ImageSInt8 imgA, final ImageSInt8 imgB ) {
+		final int numBands = numBands(imgA.height);
+		final int partial[] = new int[numBands];
+
+		BoofConcurrency.loopBlocks(0,numBands,new IntRangeTask() {
+			@Override
+			public void run(int band0, int band1) {
+				for( int band = band0; band < band1; band++ ) {
+					int y0 = band*BAND_ROWS;
+					int y1 = Math.min(imgA.height,y0+BAND_ROWS);
+					int total = 0;
+					for( int y = y0; y < y1; y++ ) {
+						int indexA = imgA.startIndex + y*imgA.stride;
+						int indexB = imgB.startIndex + y*imgB.stride;
+						for (int x = 0; x < imgA.width; x++,indexA++,indexB++) {
+							int difference = (imgA.data[indexA])-(imgB.data[indexB]);
+							total += Math.abs(difference);
+						}
+					}
+					partial[band] = total;
+				}
+			}
+		});
+
+		int total = 0;
+		for( int i = 0; i < numBands; i++ ) {
+			total += partial[i];
+		}
+		return total / (double)(imgA.width*imgA.height);
+	}
+
+	/**
+	 * Concurrent version of {@link ImageStatistics#min(ImageUInt16)}
+	 */
+	public static int min( final ImageUInt16 input ) {
+		final int numBands = numBands(input.height);
+		final int partial[] = new int[numBands];
+
+		BoofConcurrency.loopBlocks(0,numBands,new IntRangeTask() {
+			@Override
+			public void run(int band0, int band1) {
+				for( int band = band0; band < band1; band++ ) {
+					int y0 = band*BAND_ROWS;
+					int y1 = Math.min(input.height,y0+BAND_ROWS);
+					partial[band] = ImageStatistics.min(input.subimage(0,y0,input.width,y1));
+				}
+			}
+		});
+
+		int min = partial[0];
+		for( int i = 1; i < numBands; i++ ) {
+			if( partial[i] < min )
+				min = partial[i];
+		}
+		return min;
+	}
+
+	/**
+	 * Concurrent version of {@link ImageStatistics#max(ImageUInt16)}
+	 */
+	public static int max( final ImageUInt16 input ) {
+		final int numBands = numBands(input.height);
+		final int partial[] = new int[numBands];
+
+		BoofConcurrency.loopBlocks(0,numBands,new IntRangeTask() {
+			@Override
+			public void run(int band0, int band1) {
+				for( int band = band0; band < band1; band++ ) {
+					int y0 = band*BAND_ROWS;
+					int y1 = Math.min(input.height,y0+BAND_ROWS);
+					partial[band] = ImageStatistics.max(input.subimage(0,y0,input.width,y1));
+				}
+			}
+		});
+
+		int max = partial[0];
+		for( int i = 1; i < numBands; i++ ) {
+			if( partial[i] > max )
+				max = partial[i];
+		}
+		return max;
+	}
+
+	/**
+	 * Concurrent version of {@link ImageStatistics#maxAbs(ImageUInt16)}
+	 */
+	public static int maxAbs( final ImageUInt16 input ) {
+		final int numBands = numBands(input.height);
+		final int partial[] = new int[numBands];
+
+		BoofConcurrency.loopBlocks(0,numBands,new IntRangeTask() {
+			@Override
+			public void run(int band0, int band1) {
+				for( int band = band0; band < band1; band++ ) {
+					int y0 = band*BAND_ROWS;
+					int y1 = Math.min(input.height,y0+BAND_ROWS);
+					partial[band] = ImageStatistics.maxAbs(input.subimage(0,y0,input.width,y1));
+				}
+			}
+		});
+
+		int max = 0;
+		for( int i = 0; i < numBands; i++ ) {
+			if( partial[i] > max )
+				max = partial[i];
+		}
+		return max;
+	}
+
+	/**
+	 * Concurrent version of {@link ImageStatistics#sum(ImageUInt16)}
+	 */
+	public static int sum( final ImageUInt16 img ) {
+		final int numBands = numBands(img.height);
+		final int partial[] = new int[numBands];
+
+		BoofConcurrency.loopBlocks(0,numBands,new IntRangeTask() {
+			@Override
+			public void run(int band0, int band1) {
+				for( int band = band0; band < band1; band++ ) {
+					int y0 = band*BAND_ROWS;
+					int y1 = Math.min(img.height,y0+BAND_ROWS);
+					partial[band] = ImageStatistics.sum(img.subimage(0,y0,img.width,y1));
+				}
+			}
+		});
+
+		int total = 0;
+		for( int i = 0; i < numBands; i++ ) {
+			total += partial[i];
+		}
+		return total;
+	}
+
+	/**
+	 * Concurrent version of {@link ImageStatistics#mean(ImageUInt16)}
+	 */
+	public static double mean( ImageUInt16 img ) {
+		return sum(img)/(double)(img.width*img.height);
+	}
+
+	/**
+	 * Concurrent version of {@link ImageStatistics#variance(ImageUInt16, double)}
+	 */
+	public static double variance( final ImageUInt16 img , final double mean ) {
+		final int numBands = numBands(img.height);
+		final double partial[] = new double[numBands];
+
+		BoofConcurrency.loopBlocks(0,numBands,new IntRangeTask() {
+			@Override
+			public void run(int band0, int band1) {
+				for( int band = band0; band < band1; band++ ) {
+					int y0 = band*BAND_ROWS;
+					int y1 = Math.min(img.height,y0+BAND_ROWS);
+					double total = 0;
+					for( int y = y0; y < y1; y++ ) {
+						int index = img.startIndex + y*img.stride;
+						int indexEnd = index+img.width;
+						for (; index < indexEnd; index++ ) {
+							double d = (img.data[index]& 0xFFFF) - mean;
+							total += d*d;
+						}
+					}
+					partial[band] = total;
+				}
+			}
+		});
+
+		double total = 0;
+		for( int i = 0; i < numBands; i++ ) {
+			total += partial[i];
+		}
+		return total/(img.width*img.height);
+	}
+
+	/**
+	 * Concurrent version of {@link ImageStatistics#meanDiffSq(ImageUInt16, ImageUInt16)}
+	 */
+	public static double meanDiffSq( final ImageUInt16 imgA, final ImageUInt16 imgB ) {
+		final int numBands = numBands(imgA.height);
+		final int partial[] = new int[numBands];
+
+		BoofConcurrency.loopBlocks(0,numBands,new IntRangeTask() {
+			@Override
+			public void run(int band0, int band1) {
+				for( int band = band0; band < band1; band++ ) {
+					int y0 = band*BAND_ROWS;
+					int y1 = Math.min(imgA.height,y0+BAND_ROWS);
+					int total = 0;
+					for( int y = y0; y < y1; y++ ) {
+						int indexA = imgA.startIndex + y*imgA.stride;
+						int indexB = imgB.startIndex + y*imgB.stride;
+						for (int x = 0; x < imgA.width; x++,indexA++,indexB++) {
+							int difference = (imgA.data[indexA]& 0xFFFF)-(imgB.data[indexB]& 0xFFFF);
+							total += difference*difference;
+						}
+					}
+					partial[band] = total;
+				}
+			}
+		});
+
+		int total = 0;
+		for( int i = 0; i < numBands; i++ ) {
+			total += partial[i];
+		}
+		return total / (double)(imgA.width*imgA.height);
+	}
+
+	/**
+	 * Concurrent version of {@link ImageStatistics#meanDiffAbs(ImageUInt16, ImageUInt16)}
+	 */
+	public static double meanDiffAbs( final ImageUInt16 imgA, final ImageUInt16 imgB ) {
+		final int numBands = numBands(imgA.height);
+		final int partial[] = new int[numBands];
+
+		BoofConcurrency.loopBlocks(0,numBands,new IntRangeTask() {
+			@Override
+			public void run(int band0, int band1) {
+				for( int band = band0; band < band1; band++ ) {
+					int y0 = band*BAND_ROWS;
+					int y1 = Math.min(imgA.height,y0+BAND_ROWS);
+					int total = 0;
+					for( int y = y0; y < y1; y++ ) {
+						int indexA = imgA.startIndex + y*imgA.stride;
+						int indexB = imgB.startIndex + y*imgB.stride;
+						for (int x = 0; x < imgA.width; x++,indexA++,indexB++) {
+							int difference = (imgA.data[indexA]& 0xFFFF)-(imgB.data[indexB]& 0xFFFF);
+							total += Math.abs(difference);
+						}
+					}
+					partial[band] = total;
+				}
+			}
+		});
+
+		int total = 0;
+		for( int i = 0; i < numBands; i++ ) {
+			total += partial[i];
+		}
+		return total / (double)(imgA.width*imgA.height);
+	}
+
+	/**
+	 * Concurrent version of {@link ImageStatistics#min(ImageSInt16)}
+	 */
+	public static int min( final ImageSInt16 input ) {
+		final int numBands = numBands(input.height);
+		final int partial[] = new int[numBands];
+
+		BoofConcurrency.loopBlocks(0,numBands,new IntRangeTask() {
+			@Override
+			public void run(int band0, int band1) {
+				for( int band = band0; band < band1; band++ ) {
+					int y0 = band*BAND_ROWS;
+					int y1 = Math.min(input.height,y0+BAND_ROWS);
+					partial[band] = ImageStatistics.min(input.subimage(0,y0,input.width,y1));
+				}
+			}
+		});
+
+		int min = partial[0];
+		for( int i = 1; i < numBands; i++ ) {
+			if( partial[i] < min )
+				min = partial[i];
+		}
+		return min;
+	}
+
+	/**
+	 * Concurrent version of {@link ImageStatistics#max(ImageSInt16)}
+	 */
+	public static int max( final ImageSInt16 input ) {
+		final int numBands = numBands(input.height);
+		final int partial[] = new int[numBands];
+
+		BoofConcurrency.loopBlocks(0,numBands,new IntRangeTask() {
+			@Override
+			public void run(int band0, int band1) {
+				for( int band = band0; band < band1; band++ ) {
+					int y0 = band*BAND_ROWS;
+					int y1 = Math.min(input.height,y0+BAND_ROWS);
+					partial[band] = ImageStatistics.max(input.subimage(0,y0,input.width,y1));
+				}
+			}
+		});
+
+		int max = partial[0];
+		for( int i = 1; i < numBands; i++ ) {
+			if( partial[i] > max )
+				max = partial[i];
+		}
+		return max;
+	}
+
+	/**
+	 * Concurrent version of {@link ImageStatistics#maxAbs(ImageSInt16)}
+	 */
+	public static int maxAbs( final ImageSInt16 input ) {
+		final int numBands = numBands(input.height);
+		final int partial[] = new int[numBands];
+
+		BoofConcurrency.loopBlocks(0,numBands,new IntRangeTask() {
+			@Override
+			public void run(int band0, int band1) {
+				for( int band = band0; band < band1; band++ ) {
+					int y0 = band*BAND_ROWS;
+					int y1 = Math.min(input.height,y0+BAND_ROWS);
+					partial[band] = ImageStatistics.maxAbs(input.subimage(0,y0,input.width,y1));
+				}
+			}
+		});
+
+		int max = 0;
+		for( int i = 0; i < numBands; i++ ) {
+			if( partial[i] > max )
+				max = partial[i];
+		}
+		return max;
+	}
+
+	/**
+	 * Concurrent version of {@link ImageStatistics#sum(ImageSInt16)}
+	 */
+	public static int sum( final ImageSInt16 img ) {
+		final int numBands = numBands(img.height);
+		final int partial[] = new int[numBands];
+
+		BoofConcurrency.loopBlocks(0,numBands,new IntRangeTask() {
+			@Override
+			public void run(int band0, int band1) {
+				for( int band = band0; band < band1; band++ ) {
+					int y0 = band*BAND_ROWS;
+					int y1 = Math.min(img.height,y0+BAND_ROWS);
+					partial[band] = ImageStatistics.sum(img.subimage(0,y0,img.width,y1));
+				}
+			}
+		});
+
+		int total = 0;
+		for( int i = 0; i < numBands; i++ ) {
+			total += partial[i];
+		}
+		return total;
+	}
+
+	/**
+	 * Concurrent version of {@link ImageStatistics#mean(ImageSInt16)}
+	 */
+	public static double mean( ImageSInt16 img ) {
+		return sum(img)/(double)(img.width*img.height);
+	}
+
+	/**
+	 * Concurrent version of {@link ImageStatistics#variance(ImageSInt16, double)}
+	 */
+	public static double variance( final ImageSInt16 img , final double mean ) {
+		final int numBands = numBands(img.height);
+		final double partial[] = new double[numBands];
+
+		BoofConcurrency.loopBlocks(0,numBands,new IntRangeTask() {
+			@Override
+			public void run(int band0, int band1) {
+				for( int band = band0; band < band1; band++ ) {
+					int y0 = band*BAND_ROWS;
+					int y1 = Math.min(img.height,y0+BAND_ROWS);
+					double total = 0;
+					for( int y = y0; y < y1; y++ ) {
+						int index = img.startIndex + y*img.stride;
+						int indexEnd = index+img.width;
+						for (; index < indexEnd; index++ ) {
+							double d = (img.data[index]) - mean;
+							total += d*d;
+						}
+					}
+					partial[band] = total;
+				}
+			}
+		});
+
+		double total = 0;
+		for( int i = 0; i < numBands; i++ ) {
+			total += partial[i];
+		}
+		return total/(img.width*img.height);
+	}
+
+	/**
+	 * Concurrent version of {@link ImageStatistics#meanDiffSq(ImageSInt16, ImageSInt16)}
+	 */
+	public static double meanDiffSq( final ImageSInt16 imgA, final ImageSInt16 imgB ) {
+		final int numBands = numBands(imgA.height);
+		final int partial[] = new int[numBands];
+
+		BoofConcurrency.loopBlocks(0,numBands,new IntRangeTask() {
+			@Override
+			public void run(int band0, int band1) {
+				for( int band = band0; band < band1; band++ ) {
+					int y0 = band*BAND_ROWS;
+					int y1 = Math.min(imgA.height,y0+BAND_ROWS);
+					int total = 0;
+					for( int y = y0; y < y1; y++ ) {
+						int indexA = imgA.startIndex + y*imgA.stride;
+						int indexB = imgB.startIndex + y*imgB.stride;
+						for (int x = 0; x < imgA.width; x++,indexA++,indexB++) {
+							int difference = (imgA.data[indexA])-(imgB.data[indexB]);
+							total += difference*difference;
+						}
+					}
+					partial[band] = total;
+				}
+			}
+		});
+
+		int total = 0;
+		for( int i = 0; i < numBands; i++ ) {
+			total += partial[i];
+		}
+		return total / (double)(imgA.width*imgA.height);
+	}
+
+	/**
+	 * Concurrent version of {@link ImageStatistics#meanDiffAbs(ImageSInt16, ImageSInt16)}
+	 */
+	public static double meanDiffAbs( final ImageSInt16 imgA, final ImageSInt16 imgB ) {
+		final int numBands = numBands(imgA.height);
+		final int partial[] = new int[numBands];
+
+		BoofConcurrency.loopBlocks(0,numBands,new IntRangeTask() {
+			@Override
+			public void run(int band0, int band1) {
+				for( int band = band0; band < band1; band++ ) {
+					int y0 = band*BAND_ROWS;
+					int y1 = Math.min(imgA.height,y0+BAND_ROWS);
+					int total = 0;
+					for( int y = y0; y < y1; y++ ) {
+						int indexA = imgA.startIndex + y*imgA.stride;
+						int indexB = imgB.startIndex + y*imgB.stride;
+						for (int x = 0; x < imgA.width; x++,indexA++,indexB++) {
+							int difference = (imgA.data[indexA])-(imgB.data[indexB]);
+							total += Math.abs(difference);
+						}
+					}
+					partial[band] = total;
+				}
+			}
+		});
+
+		int total = 0;
+		for( int i = 0; i < numBands; i++ ) {
+			total += partial[i];
+		}
+		return total / (double)(imgA.width*imgA.height);
+	}
+
+	/**
+	 * Concurrent version of {@link ImageStatistics#min(ImageSInt32)}
+	 */
+	public static int min( final ImageSInt32 input ) {
+		final int numBands = numBands(input.height);
+		final int partial[] = new int[numBands];
+
+		BoofConcurrency.loopBlocks(0,numBands,new IntRangeTask() {
+			@Override
+			public void run(int band0, int band1) {
+				for( int band = band0; band < band1; band++ ) {
+					int y0 = band*BAND_ROWS;
+					int y1 = Math.min(input.height,y0+BAND_ROWS);
+					partial[band] = ImageStatistics.min(input.subimage(0,y0,input.width,y1));
+				}
+			}
+		});
+
+		int min = partial[0];
+		for( int i = 1; i < numBands; i++ ) {
+			if( partial[i] < min )
+				min = partial[i];
+		}
+		return min;
+	}
+
+	/**
+	 * Concurrent version of {@link ImageStatistics#max(ImageSInt32)}
+	 */
+	public static int max( final ImageSInt32 input ) {
+		final int numBands = numBands(input.height);
+		final int partial[] = new int[numBands];
+
+		BoofConcurrency.loopBlocks(0,numBands,new IntRangeTask() {
+			@Override
+			public void run(int band0, int band1) {
+				for( int band = band0; band < band1; band++ ) {
+					int y0 = band*BAND_ROWS;
+					int y1 = Math.min(input.height,y0+BAND_ROWS);
+					partial[band] = ImageStatistics.max(input.subimage(0,y0,input.width,y1));
+				}
+			}
+		});
+
+		int max = partial[0];
+		for( int i = 1; i < numBands; i++ ) {
+			if( partial[i] > max )
+				max = partial[i];
+		}
+		return max;
+	}
+
+	/**
+	 * Concurrent version of {@link ImageStatistics#maxAbs(ImageSInt32)}
+	 */
+	public static int maxAbs( final ImageSInt32 input ) {
+		final int numBands = numBands(input.height);
+		final int partial[] = new int[numBands];
+
+		BoofConcurrency.loopBlocks(0,numBands,new IntRangeTask() {
+			@Override
+			public void run(int band0, int band1) {
+				for( int band = band0; band < band1; band++ ) {
+					int y0 = band*BAND_ROWS;
+					int y1 = Math.min(input.height,y0+BAND_ROWS);
+					partial[band] = ImageStatistics.maxAbs(input.subimage(0,y0,input.width,y1));
+				}
+			}
+		});
+
+		int max = 0;
+		for( int i = 0; i < numBands; i++ ) {
+			if( partial[i] > max )
+				max = partial[i];
+		}
+		return max;
+	}
+
+	/**
+	 * Concurrent version of {@link ImageStatistics#sum(ImageSInt32)}
+	 */
+	public static int sum( final ImageSInt32 img ) {
+		final int numBands = numBands(img.height);
+		final int partial[] = new int[numBands];
+
+		BoofConcurrency.loopBlocks(0,numBands,new IntRangeTask() {
+			@Override
+			public void run(int band0, int band1) {
+				for( int band = band0; band < band1; band++ ) {
+					int y0 = band*BAND_ROWS;
+					int y1 = Math.min(img.height,y0+BAND_ROWS);
+					partial[band] = ImageStatistics.sum(img.subimage(0,y0,img.width,y1));
+				}
+			}
+		});
+
+		int total = 0;
+		for( int i = 0; i < numBands; i++ ) {
+			total += partial[i];
+		}
+		return total;
+	}
+
+	/**
+	 * Concurrent version of {@link ImageStatistics#mean(ImageSInt32)}
+	 */
+	public static double mean( ImageSInt32 img ) {
+		return sum(img)/(double)(img.width*img.height);
+	}
+
+	/**
+	 * Concurrent version of {@link ImageStatistics#variance(ImageSInt32, double)}
+	 */
+	public static double variance( final ImageSInt32 img , final double mean ) {
+		final int numBands = numBands(img.height);
+		final double partial[] = new double[numBands];
+
+		BoofConcurrency.loopBlocks(0,numBands,new IntRangeTask() {
+			@Override
+			public void run(int band0, int band1) {
+				for( int band = band0; band < band1; band++ ) {
+					int y0 = band*BAND_ROWS;
+					int y1 = Math.min(img.height,y0+BAND_ROWS);
+					double total = 0;
+					for( int y = y0; y < y1; y++ ) {
+						int index = img.startIndex + y*img.stride;
+						int indexEnd = index+img.width;
+						for (; index < indexEnd; index++ ) {
+							double d = (img.data[index]) - mean;
+							total += d*d;
+						}
+					}
+					partial[band] = total;
+				}
+			}
+		});
+
+		double total = 0;
+		for( int i = 0; i < numBands; i++ ) {
+			total += partial[i];
+		}
+		return total/(img.width*img.height);
+	}
+
+	/**
+	 * Concurrent version of {@link ImageStatistics#meanDiffSq(ImageSInt32, ImageSInt32)}
+	 */
+	public static double meanDiffSq( final ImageSInt32 imgA, final ImageSInt32 imgB ) {
+		final int numBands = numBands(imgA.height);
+		final long partial[] = new long[numBands];
+
+		BoofConcurrency.loopBlocks(0,numBands,new IntRangeTask() {
+			@Override
+			public void run(int band0, int band1) {
+				for( int band = band0; band < band1; band++ ) {
+					int y0 = band*BAND_ROWS;
+					int y1 = Math.min(imgA.height,y0+BAND_ROWS);
+					long total = 0;
+					for( int y = y0; y < y1; y++ ) {
+						int indexA = imgA.startIndex + y*imgA.stride;
+						int indexB = imgB.startIndex + y*imgB.stride;
+						for (int x = 0; x < imgA.width; x++,indexA++,indexB++) {
+							int difference = (imgA.data[indexA])-(imgB.data[indexB]);
+							total += difference*difference;
+						}
+					}
+					partial[band] = total;
+				}
+			}
+		});
+
+		long total = 0;
+		for( int i = 0; i < numBands; i++ ) {
+			total += partial[i];
+		}
+		return total / (double)(imgA.width*imgA.height);
+	}
+
+	/**
+	 * Concurrent version of {@link ImageStatistics#meanDiffAbs(ImageSInt32, ImageSInt32)}
+	 */
+	public static double meanDiffAbs( final ImageSInt32 imgA, final ImageSInt32 imgB ) {
+		final int numBands = numBands(imgA.height);
+		final int partial[] = new int[numBands];
+
+		BoofConcurrency.loopBlocks(0,numBands,new IntRangeTask() {
+			@Override
+			public void run(int band0, int band1) {
+				for( int band = band0; band < band1; band++ ) {
+					int y0 = band*BAND_ROWS;
+					int y1 = Math.min(imgA.height,y0+BAND_ROWS);
+					int total = 0;
+					for( int y = y0; y < y1; y++ ) {
+						int indexA = imgA.startIndex + y*imgA.stride;
+						int indexB = imgB.startIndex + y*imgB.stride;
+						for (int x = 0; x < imgA.width; x++,indexA++,indexB++) {
+							int difference = (imgA.data[indexA])-(imgB.data[indexB]);
+							total += Math.abs(difference);
+						}
+					}
+					partial[band] = total;
+				}
+			}
+		});
+
+		int total = 0;
+		for( int i = 0; i < numBands; i++ ) {
+			total += partial[i];
+		}
+		return total / (double)(imgA.width*imgA.height);
+	}
+
+	/**
+	 * Concurrent version of {@link ImageStatistics#min(ImageSInt64)}
+	 */
+	public static long min( final ImageSInt64 input ) {
+		final int numBands = numBands(input.height);
+		final long partial[] = new long[numBands];
+
+		BoofConcurrency.loopBlocks(0,numBands,new IntRangeTask() {
+			@Override
+			public void run(int band0, int band1) {
+				for( int band = band0; band < band1; band++ ) {
+					int y0 = band*BAND_ROWS;
+					int y1 = Math.min(input.height,y0+BAND_ROWS);
+					partial[band] = ImageStatistics.min(input.subimage(0,y0,input.width,y1));
+				}
+			}
+		});
+
+		long min = partial[0];
+		for( int i = 1; i < numBands; i++ ) {
+			if( partial[i] < min )
+				min = partial[i];
+		}
+		return min;
+	}
+
+	/**
+	 * Concurrent version of {@link ImageStatistics#max(ImageSInt64)}
+	 */
+	public static long max( final ImageSInt64 input ) {
+		final int numBands = numBands(input.height);
+		final long partial[] = new long[numBands];
+
+		BoofConcurrency.loopBlocks(0,numBands,new IntRangeTask() {
+			@Override
+			public void run(int band0, int band1) {
+				for( int band = band0; band < band1; band++ ) {
+					int y0 = band*BAND_ROWS;
+					int y1 = Math.min(input.height,y0+BAND_ROWS);
+					partial[band] = ImageStatistics.max(input.subimage(0,y0,input.width,y1));
+				}
+			}
+		});
+
+		long max = partial[0];
+		for( int i = 1; i < numBands; i++ ) {
+			if( partial[i] > max )
+				max = partial[i];
+		}
+		return max;
+	}
+
+	/**
+	 * Concurrent version of {@link ImageStatistics#maxAbs(ImageSInt64)}
+	 */
+	public static long maxAbs( final ImageSInt64 input ) {
+		final int numBands = numBands(input.height);
+		final long partial[] = new long[numBands];
+
+		BoofConcurrency.loopBlocks(0,numBands,new IntRangeTask() {
+			@Override
+			public void run(int band0, int band1) {
+				for( int band = band0; band < band1; band++ ) {
+					int y0 = band*BAND_ROWS;
+					int y1 = Math.min(input.height,y0+BAND_ROWS);
+					partial[band] = ImageStatistics.maxAbs(input.subimage(0,y0,input.width,y1));
+				}
+			}
+		});
+
+		long max = 0;
+		for( int i = 0; i < numBands; i++ ) {
+			if( partial[i] > max )
+				max = partial[i];
+		}
+		return max;
+	}
+
+	/**
+	 * Concurrent version of {@link ImageStatistics#sum(ImageSInt64)}
+	 */
+	public static long sum( final ImageSInt64 img ) {
+		final int numBands = numBands(img.height);
+		final long partial[] = new long[numBands];
+
+		BoofConcurrency.loopBlocks(0,numBands,new IntRangeTask() {
+			@Override
+			public void run(int band0, int band1) {
+				for( int band = band0; band < band1; band++ ) {
+					int y0 = band*BAND_ROWS;
+					int y1 = Math.min(img.height,y0+BAND_ROWS);
+					partial[band] = ImageStatistics.sum(img.subimage(0,y0,img.width,y1));
+				}
+			}
+		});
+
+		long total = 0;
+		for( int i = 0; i < numBands; i++ ) {
+			total += partial[i];
+		}
+		return total;
+	}
+
+	/**
+	 * Concurrent version of {@link ImageStatistics#mean(ImageSInt64)}
+	 */
+	public static double mean( ImageSInt64 img ) {
+		return sum(img)/(double)(img.width*img.height);
+	}
+
+	/**
+	 * Concurrent version of {@link ImageStatistics#variance(ImageSInt64, double)}
+	 */
+	public static double variance( final ImageSInt64 img , final double mean ) {
+		final int numBands = numBands(img.height);
+		final double partial[] = new double[numBands];
+
+		BoofConcurrency.loopBlocks(0,numBands,new IntRangeTask() {
+			@Override
+			public void run(int band0, int band1) {
+				for( int band = band0; band < band1; band++ ) {
+					int y0 = band*BAND_ROWS;
+					int y1 = Math.min(img.height,y0+BAND_ROWS);
+					double total = 0;
+					for( int y = y0; y < y1; y++ ) {
+						int index = img.startIndex + y*img.stride;
+						int indexEnd = index+img.width;
+						for (; index < indexEnd; index++ ) {
+							double d = (img.data[index]) - mean;
+							total += d*d;
+						}
+					}
+					partial[band] = total;
+				}
+			}
+		});
+
+		double total = 0;
+		for( int i = 0; i < numBands; i++ ) {
+			total += partial[i];
+		}
+		return total/(img.width*img.height);
+	}
+
+	/**
+	 * Concurrent version of {@link ImageStatistics#meanDiffSq(ImageSInt64, ImageSInt64)}
+	 */
+	public static double meanDiffSq( final ImageSInt64 imgA, final ImageSInt64 imgB ) {
+		final int numBands = numBands(imgA.height);
+		final long partial[] = new long[numBands];
+
+		BoofConcurrency.loopBlocks(0,numBands,new IntRangeTask() {
+			@Override
+			public void run(int band0, int band1) {
+				for( int band = band0; band < band1; band++ ) {
+					int y0 = band*BAND_ROWS;
+					int y1 = Math.min(imgA.height,y0+BAND_ROWS);
+					long total = 0;
+					for( int y = y0; y < y1; y++ ) {
+						int indexA = imgA.startIndex + y*imgA.stride;
+						int indexB = imgB.startIndex + y*imgB.stride;
+						for (int x = 0; x < imgA.width; x++,indexA++,indexB++) {
+							long difference = (imgA.data[indexA])-(imgB.data[indexB]);
+							total += difference*difference;
+						}
+					}
+					partial[band] = total;
+				}
+			}
+		});
+
+		long total = 0;
+		for( int i = 0; i < numBands; i++ ) {
+			total += partial[i];
+		}
+		return total / (double)(imgA.width*imgA.height);
+	}
+
+	/**
+	 * Concurrent version of {@link ImageStatistics#meanDiffAbs(ImageSInt64, ImageSInt64)}
+	 */
+	public static double meanDiffAbs( final ImageSInt64 imgA, final ImageSInt64 imgB ) {
+		final int numBands = numBands(imgA.height);
+		final long partial[] = new long[numBands];
+
+		BoofConcurrency.loopBlocks(0,numBands,new IntRangeTask() {
+			@Override
+			public void run(int band0, int band1) {
+				for( int band = band0; band < band1; band++ ) {
+					int y0 = band*BAND_ROWS;
+					int y1 = Math.min(imgA.height,y0+BAND_ROWS);
+					long total = 0;
+					for( int y = y0; y < y1; y++ ) {
+						int indexA = imgA.startIndex + y*imgA.stride;
+						int indexB = imgB.startIndex + y*imgB.stride;
+						for (int x = 0; x < imgA.width; x++,indexA++,indexB++) {
+							long difference = (imgA.data[indexA])-(imgB.data[indexB]);
+							total += Math.abs(difference);
+						}
+					}
+					partial[band] = total;
+				}
+			}
+		});
+
+		long total = 0;
+		for( int i = 0; i < numBands; i++ ) {
+			total += partial[i];
+		}
+		return total / (double)(imgA.width*imgA.height);
+	}
+
+	/**
+	 * Concurrent version of {@link ImageStatistics#min(ImageFloat32)}
+	 */
+	public static float min( final ImageFloat32 input ) {
+		final int numBands = numBands(input.height);
+		final float partial[] = new float[numBands];
+
+		BoofConcurrency.loopBlocks(0,numBands,new IntRangeTask() {
+			@Override
+			public void run(int band0, int band1) {
+				for( int band = band0; band < band1; band++ ) {
+					int y0 = band*BAND_ROWS;
+					int y1 = Math.min(input.height,y0+BAND_ROWS);
+					partial[band] = ImageStatistics.min(input.subimage(0,y0,input.width,y1));
+				}
+			}
+		});
+
+		float min = partial[0];
+		for( int i = 1; i < numBands; i++ ) {
+			if( partial[i] < min )
+				min = partial[i];
+		}
+		return min;
+	}
+
+	/**
+	 * Concurrent version of {@link ImageStatistics#max(ImageFloat32)}
+	 */
+	public static float max( final ImageFloat32 input ) {
+		final int numBands = numBands(input.height);
+		final float partial[] = new float[numBands];
+
+		BoofConcurrency.loopBlocks(0,numBands,new IntRangeTask() {
+			@Override
+			public void run(int band0, int band1) {
+				for( int band = band0; band < band1; band++ ) {
+					int y0 = band*BAND_ROWS;
+					int y1 = Math.min(input.height,y0+BAND_ROWS);
+					partial[band] = ImageStatistics.max(input.subimage(0,y0,input.width,y1));
+				}
+			}
+		});
+
+		float max = partial[0];
+		for( int i = 1; i < numBands; i++ ) {
+			if( partial[i] > max )
+				max = partial[i];
+		}
+		return max;
+	}
+
+	/**
+	 * Concurrent version of {@link ImageStatistics#maxAbs(ImageFloat32)}
+	 */
+	public static float maxAbs( final ImageFloat32 input ) {
+		final int numBands = numBands(input.height);
+		final float partial[] = new float[numBands];
+
+		BoofConcurrency.loopBlocks(0,numBands,new IntRangeTask() {
+			@Override
+			public void run(int band0, int band1) {
+				for( int band = band0; band < band1; band++ ) {
+					int y0 = band*BAND_ROWS;
+					int y1 = Math.min(input.height,y0+BAND_ROWS);
+					partial[band] = ImageStatistics.maxAbs(input.subimage(0,y0,input.width,y1));
+				}
+			}
+		});
+
+		float max = 0;
+		for( int i = 0; i < numBands; i++ ) {
+			if( partial[i] > max )
+				max = partial[i];
+		}
+		return max;
+	}
+
+	/**
+	 * Concurrent version of {@link ImageStatistics#sum(ImageFloat32)}
+	 */
+	public static float sum( final ImageFloat32 img ) {
+		final int numBands = numBands(img.height);
+		final float partial[] = new float[numBands];
+
+		BoofConcurrency.loopBlocks(0,numBands,new IntRangeTask() {
+			@Override
+			public void run(int band0, int band1) {
+				for( int band = band0; band < band1; band++ ) {
+					int y0 = band*BAND_ROWS;
+					int y1 = Math.min(img.height,y0+BAND_ROWS);
+					partial[band] = ImageStatistics.sum(img.subimage(0,y0,img.width,y1));
+				}
+			}
+		});
+
+		float total = 0;
+		for( int i = 0; i < numBands; i++ ) {
+			total += partial[i];
+		}
+		return total;
+	}
+
+	/**
+	 * Concurrent version of {@link ImageStatistics#mean(ImageFloat32)}
+	 */
+	public static double mean( ImageFloat32 img ) {
+		return sum(img)/(double)(img.width*img.height);
+	}
+
+	/**
+	 * Concurrent version of {@link ImageStatistics#variance(ImageFloat32, double)}
+	 */
+	public static double variance( final ImageFloat32 img , final double mean ) {
+		final int numBands = numBands(img.height);
+		final double partial[] = new double[numBands];
+
+		BoofConcurrency.loopBlocks(0,numBands,new IntRangeTask() {
+			@Override
+			public void run(int band0, int band1) {
+				for( int band = band0; band < band1; band++ ) {
+					int y0 = band*BAND_ROWS;
+					int y1 = Math.min(img.height,y0+BAND_ROWS);
+					double total = 0;
+					for( int y = y0; y < y1; y++ ) {
+						int index = img.startIndex + y*img.stride;
+						int indexEnd = index+img.width;
+						for (; index < indexEnd; index++ ) {
+							double d = (img.data[index]) - mean;
+							total += d*d;
+						}
+					}
+					partial[band] = total;
+				}
+			}
+		});
+
+		double total = 0;
+		for( int i = 0; i < numBands; i++ ) {
+			total += partial[i];
+		}
+		return total/(img.width*img.height);
+	}
+
+	/**
+	 * Concurrent version of {@link ImageStatistics#meanDiffSq(ImageFloat32, ImageFloat32)}
+	 */
+	public static double meanDiffSq( final ImageFloat32 imgA, final ImageFloat32 imgB ) {
+		final int numBands = numBands(imgA.height);
+		final double partial[] = new double[numBands];
+
+		BoofConcurrency.loopBlocks(0,numBands,new IntRangeTask() {
+			@Override
+			public void run(int band0, int band1) {
+				for( int band = band0; band < band1; band++ ) {
+					int y0 = band*BAND_ROWS;
+					int y1 = Math.min(imgA.height,y0+BAND_ROWS);
+					double total = 0;
+					for( int y = y0; y < y1; y++ ) {
+						int indexA = imgA.startIndex + y*imgA.stride;
+						int indexB = imgB.startIndex + y*imgB.stride;
+						for (int x = 0; x < imgA.width; x++,indexA++,indexB++) {
+							float difference = (imgA.data[indexA])-(imgB.data[indexB]);
+							total += difference*difference;
+						}
+					}
+					partial[band] = total;
+				}
+			}
+		});
+
+		double total = 0;
+		for( int i = 0; i < numBands; i++ ) {
+			total += partial[i];
+		}
+		return total / (double)(imgA.width*imgA.height);
+	}
+
+	/**
+	 * Concurrent version of {@link ImageStatistics#meanDiffAbs(ImageFloat32, ImageFloat32)}
+	 */
+	public static double meanDiffAbs( final ImageFloat32 imgA, final ImageFloat32 imgB ) {
+		final int numBands = numBands(imgA.height);
+		final float partial[] = new float[numBands];
+
+		BoofConcurrency.loopBlocks(0,numBands,new IntRangeTask() {
+			@Override
+			public void run(int band0, int band1) {
+				for( int band = band0; band < band1; band++ ) {
+					int y0 = band*BAND_ROWS;
+					int y1 = Math.min(imgA.height,y0+BAND_ROWS);
+					float total = 0;
+					for( int y = y0; y < y1; y++ ) {
+						int indexA = imgA.startIndex + y*imgA.stride;
+						int indexB = imgB.startIndex + y*imgB.stride;
+						for (int x = 0; x < imgA.width; x++,indexA++,indexB++) {
+							float difference = (imgA.data[indexA])-(imgB.data[indexB]);
+							total += Math.abs(difference);
+						}
+					}
+					partial[band] = total;
+				}
+			}
+		});
+
+		float total = 0;
+		for( int i = 0; i < numBands; i++ ) {
+			total += partial[i];
+		}
+		return total / (double)(imgA.width*imgA.height);
+	}
+
+	/**
+	 * Concurrent version of {@link ImageStatistics#min(ImageFloat64)}
+	 */
+	public static double min( final ImageFloat64 input ) {
+		final int numBands = numBands(input.height);
+		final double partial[] = new double[numBands];
+
+		BoofConcurrency.loopBlocks(0,numBands,new IntRangeTask() {
+			@Override
+			public void run(int band0, int band1) {
+				for( int band = band0; band < band1; band++ ) {
+					int y0 = band*BAND_ROWS;
+					int y1 = Math.min(input.height,y0+BAND_ROWS);
+					partial[band] = ImageStatistics.min(input.subimage(0,y0,input.width,y1));
+				}
+			}
+		});
+
+		double min = partial[0];
+		for( int i = 1; i < numBands; i++ ) {
+			if( partial[i] < min )
+				min = partial[i];
+		}
+		return min;
+	}
+
+	/**
+	 * Concurrent version of {@link ImageStatistics#max(ImageFloat64)}
+	 */
+	public static double max( final ImageFloat64 input ) {
+		final int numBands = numBands(input.height);
+		final double partial[] = new double[numBands];
+
+		BoofConcurrency.loopBlocks(0,numBands,new IntRangeTask() {
+			@Override
+			public void run(int band0, int band1) {
+				for( int band = band0; band < band1; band++ ) {
+					int y0 = band*BAND_ROWS;
+					int y1 = Math.min(input.height,y0+BAND_ROWS);
+					partial[band] = ImageStatistics.max(input.subimage(0,y0,input.width,y1));
+				}
+			}
+		});
+
+		double max = partial[0];
+		for( int i = 1; i < numBands; i++ ) {
+			if( partial[i] > max )
+				max = partial[i];
+		}
+		return max;
+	}
+
+	/**
+	 * Concurrent version of {@link ImageStatistics#maxAbs(ImageFloat64)}
+	 */
+	public static double maxAbs( final ImageFloat64 input ) {
+		final int numBands = numBands(input.height);
+		final double partial[] = new double[numBands];
+
+		BoofConcurrency.loopBlocks(0,numBands,new IntRangeTask() {
+			@Override
+			public void run(int band0, int band1) {
+				for( int band = band0; band < band1; band++ ) {
+					int y0 = band*BAND_ROWS;
+					int y1 = Math.min(input.height,y0+BAND_ROWS);
+					partial[band] = ImageStatistics.maxAbs(input.subimage(0,y0,input.width,y1));
+				}
+			}
+		});
+
+		double max = 0;
+		for( int i = 0; i < numBands; i++ ) {
+			if( partial[i] > max )
+				max = partial[i];
+		}
+		return max;
+	}
+
+	/**
+	 * Concurrent version of {@link ImageStatistics#sum(ImageFloat64)}
+	 */
+	public static double sum( final ImageFloat64 img ) {
+		final int numBands = numBands(img.height);
+		final double partial[] = new double[numBands];
+
+		BoofConcurrency.loopBlocks(0,numBands,new IntRangeTask() {
+			@Override
+			public void run(int band0, int band1) {
+				for( int band = band0; band < band1; band++ ) {
+					int y0 = band*BAND_ROWS;
+					int y1 = Math.min(img.height,y0+BAND_ROWS);
+					partial[band] = ImageStatistics.sum(img.subimage(0,y0,img.width,y1));
+				}
+			}
+		});
+
+		double total = 0;
+		for( int i = 0; i < numBands; i++ ) {
+			total += partial[i];
+		}
+		return total;
+	}
+
+	/**
+	 * Concurrent version of {@link ImageStatistics#mean(ImageFloat64)}
+	 */
+	public static double mean( ImageFloat64 img ) {
+		return sum(img)/(double)(img.width*img.height);
+	}
+
+	/**
+	 * Concurrent version of {@link ImageStatistics#variance(ImageFloat64, double)}
+	 */
+	public static double variance( final ImageFloat64 img , final double mean ) {
+		final int numBands = numBands(img.height);
+		final double partial[] = new double[numBands];
+
+		BoofConcurrency.loopBlocks(0,numBands,new IntRangeTask() {
+			@Override
+			public void run(int band0, int band1) {
+				for( int band = band0; band < band1; band++ ) {
+					int y0 = band*BAND_ROWS;
+					int y1 = Math.min(img.height,y0+BAND_ROWS);
+					double total = 0;
+					for( int y = y0; y < y1; y++ ) {
+						int index = img.startIndex + y*img.stride;
+						int indexEnd = index+img.width;
+						for (; index < indexEnd; index++ ) {
+							double d = (img.data[index]) - mean;
+							total += d*d;
+						}
+					}
+					partial[band] = total;
+				}
+			}
+		});
+
+		double total = 0;
+		for( int i = 0; i < numBands; i++ ) {
+			total += partial[i];
+		}
+		return total/(img.width*img.height);
+	}
+
+	/**
+	 * Concurrent version of {@link ImageStatistics#meanDiffSq(ImageFloat64, ImageFloat64)}
+	 */
+	public static double meanDiffSq( final ImageFloat64 imgA, final ImageFloat64 imgB ) {
+		final int numBands = numBands(imgA.height);
+		final double partial[] = new double[numBands];
+
+		BoofConcurrency.loopBlocks(0,numBands,new IntRangeTask() {
+			@Override
+			public void run(int band0, int band1) {
+				for( int band = band0; band < band1; band++ ) {
+					int y0 = band*BAND_ROWS;
+					int y1 = Math.min(imgA.height,y0+BAND_ROWS);
+					double total = 0;
+					for( int y = y0; y < y1; y++ ) {
+						int indexA = imgA.startIndex + y*imgA.stride;
+						int indexB = imgB.startIndex + y*imgB.stride;
+						for (int x = 0; x < imgA.width; x++,indexA++,indexB++) {
+							double difference = (imgA.data[indexA])-(imgB.data[indexB]);
+							total += difference*difference;
+						}
+					}
+					partial[band] = total;
+				}
+			}
+		});
+
+		double total = 0;
+		for( int i = 0; i < numBands; i++ ) {
+			total += partial[i];
+		}
+		return total / (double)(imgA.width*imgA.height);
+	}
+
+	/**
+	 * Concurrent version of {@link ImageStatistics#meanDiffAbs(ImageFloat64, ImageFloat64)}
+	 */
+	public static double meanDiffAbs( final ImageFloat64 imgA, final ImageFloat64 imgB ) {
+		final int numBands = numBands(imgA.height);
+		final double partial[] = new double[numBands];
+
+		BoofConcurrency.loopBlocks(0,numBands,new IntRangeTask() {
+			@Override
+			public void run(int band0, int band1) {
+				for( int band = band0; band < band1; band++ ) {
+					int y0 = band*BAND_ROWS;
+					int y1 = Math.min(imgA.height,y0+BAND_ROWS);
+					double total = 0;
+					for( int y = y0; y < y1; y++ ) {
+						int indexA = imgA.startIndex + y*imgA.stride;
+						int indexB = imgB.startIndex + y*imgB.stride;
+						for (int x = 0; x < imgA.width; x++,indexA++,indexB++) {
+							double difference = (imgA.data[indexA])-(imgB.data[indexB]);
+							total += Math.abs(difference);
+						}
+					}
+					partial[band] = total;
+				}
+			}
+		});
+
+		double total = 0;
+		for( int i = 0; i < numBands; i++ ) {
+			total += partial[i];
+		}
+		return total / (double)(imgA.width*imgA.height);
+	}
+
+}
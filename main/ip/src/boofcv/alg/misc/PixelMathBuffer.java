@@ -0,0 +1,493 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.misc;
+
+import boofcv.alg.InputSanityCheck;
+import boofcv.struct.image.ImageBufferFloat32;
+import boofcv.struct.image.ImageBufferUInt8;
+
+/**
+ * <p>
+ * Basic pixel-wise math operations on {@link boofcv.struct.image.ImageBufferSingleBand} images.  Each
+ * function produces the same output as the function with the same name in {@link PixelMath}.  The input and
+ * output images can be the same instance.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class PixelMathBuffer {
+
+	/**
+	 * Sets each pixel in the output image to be the absolute value of the input image.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param output The output image. Modified.
+	 */
+	public static void abs( ImageBufferFloat32 input , ImageBufferFloat32 output ) {
+		InputSanityCheck.checkSameShape(input,output);
+
+		for( int y = 0; y < input.height; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
+			int end = indexSrc + input.width;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++ ) {
+				output.data.put(indexDst, (Math.abs((input.data.get(indexSrc)))));
+			}
+		}
+	}
+
+	/**
+	 * Changes the sign of every pixel in the image: output[x,y] = -input[x,y]
+	 *
+	 * @param input The input image. Not modified.
+	 * @param output The output image. Modified.
+	 */
+	public static void invert( ImageBufferFloat32 input , ImageBufferFloat32 output ) {
+		InputSanityCheck.checkSameShape(input,output);
+
+		for( int y = 0; y < input.height; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
+			int end = indexSrc + input.width;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++ ) {
+				output.data.put(indexDst, (-(input.data.get(indexSrc))));
+			}
+		}
+	}
+
+	/**
+	 * Multiply each element by a scalar value.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( ImageBufferUInt8 input , double value , ImageBufferUInt8 output ) {
+		InputSanityCheck.checkSameShape(input,output);
+
+		for( int y = 0; y < input.height; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
+			int end = indexSrc + input.width;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++ ) {
+				output.data.put(indexDst, (byte)((input.data.get(indexSrc) & 0xFF) * value));
+			}
+		}
+	}
+
+	/**
+	 * Multiply each element by a scalar value and bounds the result.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param lower Lower bound on output
+	 * @param upper Upper bound on output
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( ImageBufferUInt8 input , double value , int lower , int upper , ImageBufferUInt8 output ) {
+		InputSanityCheck.checkSameShape(input,output);
+
+		for( int y = 0; y < input.height; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
+			int end = indexSrc + input.width;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++ ) {
+				int val = (int)((input.data.get(indexSrc) & 0xFF) * value);
+				if( val < lower ) val = lower;
+				if( val > upper ) val = upper;
+				output.data.put(indexDst, (byte)val);
+			}
+		}
+	}
+
+	/**
+	 * Divide each element by a scalar value.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( ImageBufferUInt8 input , double denominator , ImageBufferUInt8 output ) {
+		InputSanityCheck.checkSameShape(input,output);
+
+		for( int y = 0; y < input.height; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
+			int end = indexSrc + input.width;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++ ) {
+				output.data.put(indexDst, (byte)((input.data.get(indexSrc) & 0xFF) / denominator));
+			}
+		}
+	}
+
+	/**
+	 * Divide each element by a scalar value and bounds the result.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param lower Lower bound on output
+	 * @param upper Upper bound on output
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( ImageBufferUInt8 input , double denominator , int lower , int upper , ImageBufferUInt8 output ) {
+		InputSanityCheck.checkSameShape(input,output);
+
+		for( int y = 0; y < input.height; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
+			int end = indexSrc + input.width;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++ ) {
+				int val = (int)((input.data.get(indexSrc) & 0xFF) / denominator);
+				if( val < lower ) val = lower;
+				if( val > upper ) val = upper;
+				output.data.put(indexDst, (byte)val);
+			}
+		}
+	}
+
+	/**
+	 * Add a scalar value to each element.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( ImageBufferUInt8 input , int value , ImageBufferUInt8 output ) {
+		InputSanityCheck.checkSameShape(input,output);
+
+		for( int y = 0; y < input.height; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
+			int end = indexSrc + input.width;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++ ) {
+				output.data.put(indexDst, (byte)((input.data.get(indexSrc) & 0xFF) + value));
+			}
+		}
+	}
+
+	/**
+	 * Add a scalar value to each element and bounds the result.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param lower Lower bound on output
+	 * @param upper Upper bound on output
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( ImageBufferUInt8 input , int value , int lower , int upper , ImageBufferUInt8 output ) {
+		InputSanityCheck.checkSameShape(input,output);
+
+		for( int y = 0; y < input.height; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
+			int end = indexSrc + input.width;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++ ) {
+				int val = (input.data.get(indexSrc) & 0xFF) + value;
+				if( val < lower ) val = lower;
+				if( val > upper ) val = upper;
+				output.data.put(indexDst, (byte)val);
+			}
+		}
+	}
+
+	/**
+	 * Multiply each element by a scalar value.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( ImageBufferFloat32 input , float value , ImageBufferFloat32 output ) {
+		InputSanityCheck.checkSameShape(input,output);
+
+		for( int y = 0; y < input.height; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
+			int end = indexSrc + input.width;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++ ) {
+				output.data.put(indexDst, ((input.data.get(indexSrc)) * value));
+			}
+		}
+	}
+
+	/**
+	 * Multiply each element by a scalar value and bounds the result.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param lower Lower bound on output
+	 * @param upper Upper bound on output
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( ImageBufferFloat32 input , float value , float lower , float upper , ImageBufferFloat32 output ) {
+		InputSanityCheck.checkSameShape(input,output);
+
+		for( int y = 0; y < input.height; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
+			int end = indexSrc + input.width;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++ ) {
+				float val = (input.data.get(indexSrc)) * value;
+				if( val < lower ) val = lower;
+				if( val > upper ) val = upper;
+				output.data.put(indexDst, val);
+			}
+		}
+	}
+
+	/**
+	 * Divide each element by a scalar value.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( ImageBufferFloat32 input , float denominator , ImageBufferFloat32 output ) {
+		InputSanityCheck.checkSameShape(input,output);
+
+		for( int y = 0; y < input.height; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
+			int end = indexSrc + input.width;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++ ) {
+				output.data.put(indexDst, ((input.data.get(indexSrc)) / denominator));
+			}
+		}
+	}
+
+	/**
+	 * Divide each element by a scalar value and bounds the result.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param lower Lower bound on output
+	 * @param upper Upper bound on output
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( ImageBufferFloat32 input , float denominator , float lower , float upper , ImageBufferFloat32 output ) {
+		InputSanityCheck.checkSameShape(input,output);
+
+		for( int y = 0; y < input.height; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
+			int end = indexSrc + input.width;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++ ) {
+				float val = (input.data.get(indexSrc)) / denominator;
+				if( val < lower ) val = lower;
+				if( val > upper ) val = upper;
+				output.data.put(indexDst, val);
+			}
+		}
+	}
+
+	/**
+	 * Add a scalar value to each element.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( ImageBufferFloat32 input , float value , ImageBufferFloat32 output ) {
+		InputSanityCheck.checkSameShape(input,output);
+
+		for( int y = 0; y < input.height; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
+			int end = indexSrc + input.width;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++ ) {
+				output.data.put(indexDst, ((input.data.get(indexSrc)) + value));
+			}
+		}
+	}
+
+	/**
+	 * Add a scalar value to each element and bounds the result.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param lower Lower bound on output
+	 * @param upper Upper bound on output
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( ImageBufferFloat32 input , float value , float lower , float upper , ImageBufferFloat32 output ) {
+		InputSanityCheck.checkSameShape(input,output);
+
+		for( int y = 0; y < input.height; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
+			int end = indexSrc + input.width;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++ ) {
+				float val = (input.data.get(indexSrc)) + value;
+				if( val < lower ) val = lower;
+				if( val > upper ) val = upper;
+				output.data.put(indexDst, val);
+			}
+		}
+	}
+
+	/**
+	 * Computes the absolute value of the difference between each pixel in the two images.<br>
+	 * d(x,y) = |img1(x,y) - img2(x,y)|
+	 *
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void diffAbs( ImageBufferUInt8 imgA , ImageBufferUInt8 imgB , ImageBufferUInt8 output ) {
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+
+		for( int y = 0; y < imgA.height; y++ ) {
+			int indexA = imgA.startIndex + y*imgA.stride;
+			int indexB = imgB.startIndex + y*imgB.stride;
+			int indexOut = output.startIndex + y*output.stride;
+			int end = indexA + imgA.width;
+
+			for( ; indexA < end; indexA++ , indexB++ , indexOut++ ) {
+				output.data.put(indexOut, (byte)(Math.abs((imgA.data.get(indexA) & 0xFF) - (imgB.data.get(indexB) & 0xFF))));
+			}
+		}
+	}
+
+	/**
+	 * Computes the absolute value of the difference between each pixel in the two images.<br>
+	 * d(x,y) = |img1(x,y) - img2(x,y)|
+	 *
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void diffAbs( ImageBufferFloat32 imgA , ImageBufferFloat32 imgB , ImageBufferFloat32 output ) {
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+
+		for( int y = 0; y < imgA.height; y++ ) {
+			int indexA = imgA.startIndex + y*imgA.stride;
+			int indexB = imgB.startIndex + y*imgB.stride;
+			int indexOut = output.startIndex + y*output.stride;
+			int end = indexA + imgA.width;
+
+			for( ; indexA < end; indexA++ , indexB++ , indexOut++ ) {
+				output.data.put(indexOut, (Math.abs((imgA.data.get(indexA)) - (imgB.data.get(indexB)))));
+			}
+		}
+	}
+
+	/**
+	 * Performs pixel-wise addition<br>
+	 * d(x,y) = imgA(x,y) + imgB(x,y)
+	 *
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void add( ImageBufferFloat32 imgA , ImageBufferFloat32 imgB , ImageBufferFloat32 output ) {
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+
+		for( int y = 0; y < imgA.height; y++ ) {
+			int indexA = imgA.startIndex + y*imgA.stride;
+			int indexB = imgB.startIndex + y*imgB.stride;
+			int indexOut = output.startIndex + y*output.stride;
+			int end = indexA + imgA.width;
+
+			for( ; indexA < end; indexA++ , indexB++ , indexOut++ ) {
+				output.data.put(indexOut, ((imgA.data.get(indexA)) + (imgB.data.get(indexB))));
+			}
+		}
+	}
+
+	/**
+	 * Performs pixel-wise subtraction.<br>
+	 * d(x,y) = imgA(x,y) - imgB(x,y)
+	 *
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void subtract( ImageBufferFloat32 imgA , ImageBufferFloat32 imgB , ImageBufferFloat32 output ) {
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+
+		for( int y = 0; y < imgA.height; y++ ) {
+			int indexA = imgA.startIndex + y*imgA.stride;
+			int indexB = imgB.startIndex + y*imgB.stride;
+			int indexOut = output.startIndex + y*output.stride;
+			int end = indexA + imgA.width;
+
+			for( ; indexA < end; indexA++ , indexB++ , indexOut++ ) {
+				output.data.put(indexOut, ((imgA.data.get(indexA)) - (imgB.data.get(indexB))));
+			}
+		}
+	}
+
+	/**
+	 * Bounds image pixels to be between these two values
+	 *
+	 * @param img Image
+	 * @param min minimum value.
+	 * @param max maximum value.
+	 */
+	public static void boundImage( ImageBufferUInt8 img , int min , int max ) {
+		for( int y = 0; y < img.height; y++ ) {
+			int index = img.startIndex + y*img.stride;
+			int end = index + img.width;
+
+			for( ; index < end; index++ ) {
+				int value = img.data.get(index) & 0xFF;
+				if( value < min )
+					img.data.put(index, (byte)min);
+				else if( value > max )
+					img.data.put(index, (byte)max);
+			}
+		}
+	}
+
+	/**
+	 * Bounds image pixels to be between these two values
+	 *
+	 * @param img Image
+	 * @param min minimum value.
+	 * @param max maximum value.
+	 */
+	public static void boundImage( ImageBufferFloat32 img , float min , float max ) {
+		for( int y = 0; y < img.height; y++ ) {
+			int index = img.startIndex + y*img.stride;
+			int end = index + img.width;
+
+			for( ; index < end; index++ ) {
+				float value = img.data.get(index);
+				if( value < min )
+					img.data.put(index, min);
+				else if( value > max )
+					img.data.put(index, max);
+			}
+		}
+	}
+}
@@ -0,0 +1,501 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.misc;
+
+import boofcv.alg.InputSanityCheck;
+import boofcv.struct.image.ImageInterleavedFloat32;
+import boofcv.struct.image.ImageInterleavedInt8;
+
+/**
+ * <p>
+ * Basic pixel-wise math operations on {@link boofcv.struct.image.ImageInterleaved} images.  Each
+ * function produces the same output as the function with the same name in {@link PixelMath} applied to
+ * every band.  Each row is processed as a single array of width*numBands elements.  The input and
+ * output images can be the same instance.  {@link ImageInterleavedInt8} is treated as unsigned.
+ * </p>
+ *
+ * <p>DO NOT MODIFY: Generated by {@link boofcv.alg.misc.GeneratePixelMathInterleaved}.</p>
+ *
+ * @author Peter Abeles
+ */
+public class PixelMathInterleaved {
+
+	/**
+	 * Multiply each element by a scalar value.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( ImageInterleavedInt8 input , double value , ImageInterleavedInt8 output ) {
+		InputSanityCheck.checkSameShape(input,output);
+
+		for( int y = 0; y < input.height; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
+			int end = indexSrc + input.width*input.numBands;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++ ) {
+				output.data[indexDst] = (byte)((input.data[indexSrc] & 0xFF) * value);
+			}
+		}
+	}
+
+	/**
+	 * Multiply each element by a scalar value and bounds the result.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param lower Lower bound on output
+	 * @param upper Upper bound on output
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( ImageInterleavedInt8 input , double value , int lower , int upper , ImageInterleavedInt8 output ) {
+		InputSanityCheck.checkSameShape(input,output);
+
+		for( int y = 0; y < input.height; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
+			int end = indexSrc + input.width*input.numBands;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++ ) {
+				int val = (int)((input.data[indexSrc] & 0xFF) * value);
+				if( val < lower ) val = lower;
+				if( val > upper ) val = upper;
+				output.data[indexDst] = (byte)val;
+			}
+		}
+	}
+
+	/**
+	 * Divide each element by a scalar value.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( ImageInterleavedInt8 input , double denominator , ImageInterleavedInt8 output ) {
+		InputSanityCheck.checkSameShape(input,output);
+
+		for( int y = 0; y < input.height; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
+			int end = indexSrc + input.width*input.numBands;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++ ) {
+				output.data[indexDst] = (byte)((input.data[indexSrc] & 0xFF) / denominator);
+			}
+		}
+	}
+
+	/**
+	 * Divide each element by a scalar value and bounds the result.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param lower Lower bound on output
+	 * @param upper Upper bound on output
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( ImageInterleavedInt8 input , double denominator , int lower , int upper , ImageInterleavedInt8 output ) {
+		InputSanityCheck.checkSameShape(input,output);
+
+		for( int y = 0; y < input.height; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
+			int end = indexSrc + input.width*input.numBands;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++ ) {
+				int val = (int)((input.data[indexSrc] & 0xFF) / denominator);
+				if( val < lower ) val = lower;
+				if( val > upper ) val = upper;
+				output.data[indexDst] = (byte)val;
+			}
+		}
+	}
+
+	/**
+	 * Add a scalar value to each element.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( ImageInterleavedInt8 input , int value , ImageInterleavedInt8 output ) {
+		InputSanityCheck.checkSameShape(input,output);
+
+		for( int y = 0; y < input.height; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
+			int end = indexSrc + input.width*input.numBands;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++ ) {
+				output.data[indexDst] = (byte)((input.data[indexSrc] & 0xFF) + value);
+			}
+		}
+	}
+
+	/**
+	 * Add a scalar value to each element and bounds the result.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param lower Lower bound on output
+	 * @param upper Upper bound on output
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( ImageInterleavedInt8 input , int value , int lower , int upper , ImageInterleavedInt8 output ) {
+		InputSanityCheck.checkSameShape(input,output);
+
+		for( int y = 0; y < input.height; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
+			int end = indexSrc + input.width*input.numBands;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++ ) {
+				int val = (input.data[indexSrc] & 0xFF) + value;
+				if( val < lower ) val = lower;
+				if( val > upper ) val = upper;
+				output.data[indexDst] = (byte)val;
+			}
+		}
+	}
+
+	/**
+	 * Computes the absolute value of the difference between each pixel in the two images.<br>
+	 * d(x,y) = |img1(x,y) - img2(x,y)|
+	 *
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void diffAbs( ImageInterleavedInt8 imgA , ImageInterleavedInt8 imgB , ImageInterleavedInt8 output ) {
+		InputSanityCheck.checkSameShape(imgA,imgB);
+		InputSanityCheck.checkSameShape(imgA,output);
+
+		for( int y = 0; y < imgA.height; y++ ) {
+			int indexA = imgA.startIndex + y*imgA.stride;
+			int indexB = imgB.startIndex + y*imgB.stride;
+			int indexOut = output.startIndex + y*output.stride;
+			int end = indexA + imgA.width*imgA.numBands;
+
+			for( ; indexA < end; indexA++ , indexB++ , indexOut++ ) {
+				output.data[indexOut] = (byte)Math.abs((imgA.data[indexA] & 0xFF) - (imgB.data[indexB] & 0xFF));
+			}
+		}
+	}
+
+	/**
+	 * Bounds image pixels to be between these two values
+	 *
+	 * @param img Image
+	 * @param min minimum value.
+	 * @param max maximum value.
+	 */
+	public static void boundImage( ImageInterleavedInt8 img , int min , int max ) {
+		for( int y = 0; y < img.height; y++ ) {
+			int index = img.startIndex + y*img.stride;
+			int end = index + img.width*img.numBands;
+
+			for( ; index < end; index++ ) {
+				int value = img.data[index] & 0xFF;
+				if( value < min )
+					img.data[index] = (byte)min;
+				else if( value > max )
+					img.data[index] = (byte)max;
+			}
+		}
+	}
+
+	/**
+	 * Sets each pixel in the output image to be the absolute value of the input image.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param output The output image. Modified.
+	 */
+	public static void abs( ImageInterleavedFloat32 input , ImageInterleavedFloat32 output ) {
+		InputSanityCheck.checkSameShape(input,output);
+
+		for( int y = 0; y < input.height; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
+			int end = indexSrc + input.width*input.numBands;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++ ) {
+				output.data[indexDst] = Math.abs(input.data[indexSrc]);
+			}
+		}
+	}
+
+	/**
+	 * Changes the sign of every pixel in the image: output[x,y] = -input[x,y]
+	 *
+	 * @param input The input image. Not modified.
+	 * @param output The output image. Modified.
+	 */
+	public static void invert( ImageInterleavedFloat32 input , ImageInterleavedFloat32 output ) {
+		InputSanityCheck.checkSameShape(input,output);
+
+		for( int y = 0; y < input.height; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
+			int end = indexSrc + input.width*input.numBands;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++ ) {
+				output.data[indexDst] = -input.data[indexSrc];
+			}
+		}
+	}
+
+	/**
+	 * Multiply each element by a scalar value.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( ImageInterleavedFloat32 input , float value , ImageInterleavedFloat32 output ) {
+		InputSanityCheck.checkSameShape(input,output);
+
+		for( int y = 0; y < input.height; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
+			int end = indexSrc + input.width*input.numBands;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++ ) {
+				output.data[indexDst] = (input.data[indexSrc] * value);
+			}
+		}
+	}
+
+	/**
+	 * Multiply each element by a scalar value and bounds the result.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What each element is multiplied by.
+	 * @param lower Lower bound on output
+	 * @param upper Upper bound on output
+	 * @param output The output image. Modified.
+	 */
+	public static void multiply( ImageInterleavedFloat32 input , float value , float lower , float upper , ImageInterleavedFloat32 output ) {
+		InputSanityCheck.checkSameShape(input,output);
+
+		for( int y = 0; y < input.height; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
+			int end = indexSrc + input.width*input.numBands;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++ ) {
+				float val = (input.data[indexSrc] * value);
+				if( val < lower ) val = lower;
+				if( val > upper ) val = upper;
+				output.data[indexDst] = val;
+			}
+		}
+	}
+
+	/**
+	 * Divide each element by a scalar value.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( ImageInterleavedFloat32 input , float denominator , ImageInterleavedFloat32 output ) {
+		InputSanityCheck.checkSameShape(input,output);
+
+		for( int y = 0; y < input.height; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
+			int end = indexSrc + input.width*input.numBands;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++ ) {
+				output.data[indexDst] = (input.data[indexSrc] / denominator);
+			}
+		}
+	}
+
+	/**
+	 * Divide each element by a scalar value and bounds the result.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param denominator What each element is divided by.
+	 * @param lower Lower bound on output
+	 * @param upper Upper bound on output
+	 * @param output The output image. Modified.
+	 */
+	public static void divide( ImageInterleavedFloat32 input , float denominator , float lower , float upper , ImageInterleavedFloat32 output ) {
+		InputSanityCheck.checkSameShape(input,output);
+
+		for( int y = 0; y < input.height; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
+			int end = indexSrc + input.width*input.numBands;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++ ) {
+				float val = (input.data[indexSrc] / denominator);
+				if( val < lower ) val = lower;
+				if( val > upper ) val = upper;
+				output.data[indexDst] = val;
+			}
+		}
+	}
+
+	/**
+	 * Add a scalar value to each element.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( ImageInterleavedFloat32 input , float value , ImageInterleavedFloat32 output ) {
+		InputSanityCheck.checkSameShape(input,output);
+
+		for( int y = 0; y < input.height; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
+			int end = indexSrc + input.width*input.numBands;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++ ) {
+				output.data[indexDst] = (input.data[indexSrc] + value);
+			}
+		}
+	}
+
+	/**
+	 * Add a scalar value to each element and bounds the result.
+	 *
+	 * @param input The input image. Not modified.
+	 * @param value What is added to each element.
+	 * @param lower Lower bound on output
+	 * @param upper Upper bound on output
+	 * @param output The output image. Modified.
+	 */
+	public static void plus( ImageInterleavedFloat32 input , float value , float lower , float upper , ImageInterleavedFloat32 output ) {
+		InputSanityCheck.checkSameShape(input,output);
+
+		for( int y = 0; y < input.height; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
+			int end = indexSrc + input.width*input.numBands;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++ ) {
+				float val = input.data[indexSrc] + value;
+				if( val < lower ) val = lower;
+				if( val > upper ) val = upper;
+				output.data[indexDst] = val;
+			}
+		}
+	}
+
+	/**
+	 * Computes the absolute value of the difference between each pixel in the two images.<br>
+	 * d(x,y) = |img1(x,y) - img2(x,y)|
+	 *
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void diffAbs( ImageInterleavedFloat32 imgA , ImageInterleavedFloat32 imgB , ImageInterleavedFloat32 output ) {
+		InputSanityCheck.checkSameShape(imgA,imgB);
+		InputSanityCheck.checkSameShape(imgA,output);
+
+		for( int y = 0; y < imgA.height; y++ ) {
+			int indexA = imgA.startIndex + y*imgA.stride;
+			int indexB = imgB.startIndex + y*imgB.stride;
+			int indexOut = output.startIndex + y*output.stride;
+			int end = indexA + imgA.width*imgA.numBands;
+
+			for( ; indexA < end; indexA++ , indexB++ , indexOut++ ) {
+				output.data[indexOut] = Math.abs(imgA.data[indexA] - imgB.data[indexB]);
+			}
+		}
+	}
+
+	/**
+	 * Performs pixel-wise addition<br>
+	 * d(x,y) = imgA(x,y) + imgB(x,y)
+	 *
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void add( ImageInterleavedFloat32 imgA , ImageInterleavedFloat32 imgB , ImageInterleavedFloat32 output ) {
+		InputSanityCheck.checkSameShape(imgA,imgB);
+		InputSanityCheck.checkSameShape(imgA,output);
+
+		for( int y = 0; y < imgA.height; y++ ) {
+			int indexA = imgA.startIndex + y*imgA.stride;
+			int indexB = imgB.startIndex + y*imgB.stride;
+			int indexOut = output.startIndex + y*output.stride;
+			int end = indexA + imgA.width*imgA.numBands;
+
+			for( ; indexA < end; indexA++ , indexB++ , indexOut++ ) {
+				output.data[indexOut] = imgA.data[indexA] + imgB.data[indexB];
+			}
+		}
+	}
+
+	/**
+	 * Performs pixel-wise subtraction.<br>
+	 * d(x,y) = imgA(x,y) - imgB(x,y)
+	 *
+	 * @param imgA Input image. Not modified.
+	 * @param imgB Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void subtract( ImageInterleavedFloat32 imgA , ImageInterleavedFloat32 imgB , ImageInterleavedFloat32 output ) {
+		InputSanityCheck.checkSameShape(imgA,imgB);
+		InputSanityCheck.checkSameShape(imgA,output);
+
+		for( int y = 0; y < imgA.height; y++ ) {
+			int indexA = imgA.startIndex + y*imgA.stride;
+			int indexB = imgB.startIndex + y*imgB.stride;
+			int indexOut = output.startIndex + y*output.stride;
+			int end = indexA + imgA.width*imgA.numBands;
+
+			for( ; indexA < end; indexA++ , indexB++ , indexOut++ ) {
+				output.data[indexOut] = imgA.data[indexA] - imgB.data[indexB];
+			}
+		}
+	}
+
+	/**
+	 * Bounds image pixels to be between these two values
+	 *
+	 * @param img Image
+	 * @param min minimum value.
+	 * @param max maximum value.
+	 */
+	public static void boundImage( ImageInterleavedFloat32 img , float min , float max ) {
+		for( int y = 0; y < img.height; y++ ) {
+			int index = img.startIndex + y*img.stride;
+			int end = index + img.width*img.numBands;
+
+			for( ; index < end; index++ ) {
+				float value = img.data[index];
+				if( value < min )
+					img.data[index] = min;
+				else if( value > max )
+					img.data[index] = max;
+			}
+		}
+	}
+
+}
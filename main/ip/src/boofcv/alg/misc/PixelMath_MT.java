@@ -0,0 +1,1520 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.misc;
+
+import boofcv.alg.InputSanityCheck;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
+import boofcv.struct.image.*;
+
+/**
+ * Concurrent implementations of functions in {@link PixelMath}.  The image is split into bands of rows which are
+ * processed at the same time.  The output is identical to the single threaded version.
+ *
+ * <p>DO NOT MODIFY: Generated by {@link boofcv.alg.misc.GeneratePixelMath}.</p>
+ *
+ * @author Peter Abeles
+ */
+public class PixelMath_MT {
+
+	/**
+	 * Concurrent version of {@link PixelMath#abs(ImageSInt8, ImageSInt8)}
+	 */
+	public static void abs( final ImageSInt8 input , final ImageSInt8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.abs(input.subimage(0,y0,input.width,y1),output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#invert(ImageSInt8, ImageSInt8)}
+	 */
+	public static void invert( final ImageSInt8 input , final ImageSInt8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.invert(input.subimage(0,y0,input.width,y1),output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#abs(ImageSInt16, ImageSInt16)}
+	 */
+	public static void abs( final ImageSInt16 input , final ImageSInt16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.abs(input.subimage(0,y0,input.width,y1),output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#invert(ImageSInt16, ImageSInt16)}
+	 */
+	public static void invert( final ImageSInt16 input , final ImageSInt16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.invert(input.subimage(0,y0,input.width,y1),output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#abs(ImageSInt32, ImageSInt32)}
+	 */
+	public static void abs( final ImageSInt32 input , final ImageSInt32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.abs(input.subimage(0,y0,input.width,y1),output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#invert(ImageSInt32, ImageSInt32)}
+	 */
+	public static void invert( final ImageSInt32 input , final ImageSInt32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.invert(input.subimage(0,y0,input.width,y1),output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#abs(ImageSInt64, ImageSInt64)}
+	 */
+	public static void abs( final ImageSInt64 input , final ImageSInt64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.abs(input.subimage(0,y0,input.width,y1),output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#invert(ImageSInt64, ImageSInt64)}
+	 */
+	public static void invert( final ImageSInt64 input , final ImageSInt64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.invert(input.subimage(0,y0,input.width,y1),output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#abs(ImageFloat32, ImageFloat32)}
+	 */
+	public static void abs( final ImageFloat32 input , final ImageFloat32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.abs(input.subimage(0,y0,input.width,y1),output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#invert(ImageFloat32, ImageFloat32)}
+	 */
+	public static void invert( final ImageFloat32 input , final ImageFloat32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.invert(input.subimage(0,y0,input.width,y1),output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#abs(ImageFloat64, ImageFloat64)}
+	 */
+	public static void abs( final ImageFloat64 input , final ImageFloat64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.abs(input.subimage(0,y0,input.width,y1),output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#invert(ImageFloat64, ImageFloat64)}
+	 */
+	public static void invert( final ImageFloat64 input , final ImageFloat64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.invert(input.subimage(0,y0,input.width,y1),output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#multiply(ImageUInt8, double, ImageUInt8)}
+	 */
+	public static void multiply( final ImageUInt8 input , final double value , final ImageUInt8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.multiply(input.subimage(0,y0,input.width,y1),value,output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#multiply(ImageUInt8, double, int, int, ImageUInt8)}
+	 */
+	public static void multiply( final ImageUInt8 input , final double value , final int lower , final int upper , final ImageUInt8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.multiply(input.subimage(0,y0,input.width,y1),value,lower,upper,output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#divide(ImageUInt8, double, ImageUInt8)}
+	 */
+	public static void divide( final ImageUInt8 input , final double denominator , final ImageUInt8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.divide(input.subimage(0,y0,input.width,y1),denominator,output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#divide(ImageUInt8, double, int, int, ImageUInt8)}
+	 */
+	public static void divide( final ImageUInt8 input , final double denominator , final int lower , final int upper , final ImageUInt8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.divide(input.subimage(0,y0,input.width,y1),denominator,lower,upper,output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#plus(ImageUInt8, int, ImageUInt8)}
+	 */
+	public static void plus( final ImageUInt8 input , final int value , final ImageUInt8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.plus(input.subimage(0,y0,input.width,y1),value,output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#plus(ImageUInt8, int, int, int, ImageUInt8)}
+	 */
+	public static void plus( final ImageUInt8 input , final int value , final int lower , final int upper , final ImageUInt8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.plus(input.subimage(0,y0,input.width,y1),value,lower,upper,output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#boundImage(ImageUInt8, int, int)}
+	 */
+	public static void boundImage( final ImageUInt8 img , final int min , final int max ) {
+
+		BoofConcurrency.loopBlocks(0,img.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.boundImage(img.subimage(0,y0,img.width,y1),min,max);
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#diffAbs(ImageUInt8, ImageUInt8, ImageUInt8)}
+	 */
+	public static void diffAbs( final ImageUInt8 imgA , final ImageUInt8 imgB , final ImageUInt8 diff ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,diff);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.diffAbs(imgA.subimage(0,y0,imgA.width,y1),imgB.subimage(0,y0,imgB.width,y1),diff.subimage(0,y0,diff.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#averageBand(MultiSpectral, ImageUInt8)}
+	 */
+	public static void averageBand( final MultiSpectral<ImageUInt8> input , final ImageUInt8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.averageBand(input.subimage(0,y0,input.width,y1),output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#multiply(ImageSInt8, double, ImageSInt8)}
+	 */
+	public static void multiply( final ImageSInt8 input , final double value , final ImageSInt8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.multiply(input.subimage(0,y0,input.width,y1),value,output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#multiply(ImageSInt8, double, int, int, ImageSInt8)}
+	 */
+	public static void multiply( final ImageSInt8 input , final double value , final int lower , final int upper , final ImageSInt8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.multiply(input.subimage(0,y0,input.width,y1),value,lower,upper,output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#divide(ImageSInt8, double, ImageSInt8)}
+	 */
+	public static void divide( final ImageSInt8 input , final double denominator , final ImageSInt8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.divide(input.subimage(0,y0,input.width,y1),denominator,output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#divide(ImageSInt8, double, int, int, ImageSInt8)}
+	 */
+	public static void divide( final ImageSInt8 input , final double denominator , final int lower , final int upper , final ImageSInt8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.divide(input.subimage(0,y0,input.width,y1),denominator,lower,upper,output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#plus(ImageSInt8, int, ImageSInt8)}
+	 */
+	public static void plus( final ImageSInt8 input , final int value , final ImageSInt8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.plus(input.subimage(0,y0,input.width,y1),value,output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#plus(ImageSInt8, int, int, int, ImageSInt8)}
+	 */
+	public static void plus( final ImageSInt8 input , final int value , final int lower , final int upper , final ImageSInt8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.plus(input.subimage(0,y0,input.width,y1),value,lower,upper,output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#boundImage(ImageSInt8, int, int)}
+	 */
+	public static void boundImage( final ImageSInt8 img , final int min , final int max ) {
+
+		BoofConcurrency.loopBlocks(0,img.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.boundImage(img.subimage(0,y0,img.width,y1),min,max);
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#diffAbs(ImageSInt8, ImageSInt8, ImageSInt8)}
+	 */
+	public static void diffAbs( final ImageSInt8 imgA , final ImageSInt8 imgB , final ImageSInt8 diff ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,diff);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.diffAbs(imgA.subimage(0,y0,imgA.width,y1),imgB.subimage(0,y0,imgB.width,y1),diff.subimage(0,y0,diff.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#averageBand(MultiSpectral, ImageSInt8)}
+	 */
+	public static void averageBand( final MultiSpectral<ImageSInt8> input , final ImageSInt8 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.averageBand(input.subimage(0,y0,input.width,y1),output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#multiply(ImageUInt16, double, ImageUInt16)}
+	 */
+	public static void multiply( final ImageUInt16 input , final double value , final ImageUInt16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.multiply(input.subimage(0,y0,input.width,y1),value,output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#multiply(ImageUInt16, double, int, int, ImageUInt16)}
+	 */
+	public static void multiply( final ImageUInt16 input , final double value , final int lower , final int upper , final ImageUInt16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.multiply(input.subimage(0,y0,input.width,y1),value,lower,upper,output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#divide(ImageUInt16, double, ImageUInt16)}
+	 */
+	public static void divide( final ImageUInt16 input , final double denominator , final ImageUInt16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.divide(input.subimage(0,y0,input.width,y1),denominator,output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#divide(ImageUInt16, double, int, int, ImageUInt16)}
+	 */
+	public static void divide( final ImageUInt16 input , final double denominator , final int lower , final int upper , final ImageUInt16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.divide(input.subimage(0,y0,input.width,y1),denominator,lower,upper,output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#plus(ImageUInt16, int, ImageUInt16)}
+	 */
+	public static void plus( final ImageUInt16 input , final int value , final ImageUInt16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.plus(input.subimage(0,y0,input.width,y1),value,output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#plus(ImageUInt16, int, int, int, ImageUInt16)}
+	 */
+	public static void plus( final ImageUInt16 input , final int value , final int lower , final int upper , final ImageUInt16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.plus(input.subimage(0,y0,input.width,y1),value,lower,upper,output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#boundImage(ImageUInt16, int, int)}
+	 */
+	public static void boundImage( final ImageUInt16 img , final int min , final int max ) {
+
+		BoofConcurrency.loopBlocks(0,img.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.boundImage(img.subimage(0,y0,img.width,y1),min,max);
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#diffAbs(ImageUInt16, ImageUInt16, ImageUInt16)}
+	 */
+	public static void diffAbs( final ImageUInt16 imgA , final ImageUInt16 imgB , final ImageUInt16 diff ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,diff);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.diffAbs(imgA.subimage(0,y0,imgA.width,y1),imgB.subimage(0,y0,imgB.width,y1),diff.subimage(0,y0,diff.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#averageBand(MultiSpectral, ImageUInt16)}
+	 */
+	public static void averageBand( final MultiSpectral<ImageUInt16> input , final ImageUInt16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.averageBand(input.subimage(0,y0,input.width,y1),output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#multiply(ImageSInt16, double, ImageSInt16)}
+	 */
+	public static void multiply( final ImageSInt16 input , final double value , final ImageSInt16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.multiply(input.subimage(0,y0,input.width,y1),value,output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#multiply(ImageSInt16, double, int, int, ImageSInt16)}
+	 */
+	public static void multiply( final ImageSInt16 input , final double value , final int lower , final int upper , final ImageSInt16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.multiply(input.subimage(0,y0,input.width,y1),value,lower,upper,output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#divide(ImageSInt16, double, ImageSInt16)}
+	 */
+	public static void divide( final ImageSInt16 input , final double denominator , final ImageSInt16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.divide(input.subimage(0,y0,input.width,y1),denominator,output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#divide(ImageSInt16, double, int, int, ImageSInt16)}
+	 */
+	public static void divide( final ImageSInt16 input , final double denominator , final int lower , final int upper , final ImageSInt16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.divide(input.subimage(0,y0,input.width,y1),denominator,lower,upper,output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#plus(ImageSInt16, int, ImageSInt16)}
+	 */
+	public static void plus( final ImageSInt16 input , final int value , final ImageSInt16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.plus(input.subimage(0,y0,input.width,y1),value,output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#plus(ImageSInt16, int, int, int, ImageSInt16)}
+	 */
+	public static void plus( final ImageSInt16 input , final int value , final int lower , final int upper , final ImageSInt16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.plus(input.subimage(0,y0,input.width,y1),value,lower,upper,output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#boundImage(ImageSInt16, int, int)}
+	 */
+	public static void boundImage( final ImageSInt16 img , final int min , final int max ) {
+
+		BoofConcurrency.loopBlocks(0,img.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.boundImage(img.subimage(0,y0,img.width,y1),min,max);
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#diffAbs(ImageSInt16, ImageSInt16, ImageSInt16)}
+	 */
+	public static void diffAbs( final ImageSInt16 imgA , final ImageSInt16 imgB , final ImageSInt16 diff ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,diff);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.diffAbs(imgA.subimage(0,y0,imgA.width,y1),imgB.subimage(0,y0,imgB.width,y1),diff.subimage(0,y0,diff.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#averageBand(MultiSpectral, ImageSInt16)}
+	 */
+	public static void averageBand( final MultiSpectral<ImageSInt16> input , final ImageSInt16 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.averageBand(input.subimage(0,y0,input.width,y1),output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#multiply(ImageSInt32, double, ImageSInt32)}
+	 */
+	public static void multiply( final ImageSInt32 input , final double value , final ImageSInt32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.multiply(input.subimage(0,y0,input.width,y1),value,output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#multiply(ImageSInt32, double, int, int, ImageSInt32)}
+	 */
+	public static void multiply( final ImageSInt32 input , final double value , final int lower , final int upper , final ImageSInt32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.multiply(input.subimage(0,y0,input.width,y1),value,lower,upper,output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#divide(ImageSInt32, double, ImageSInt32)}
+	 */
+	public static void divide( final ImageSInt32 input , final double denominator , final ImageSInt32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.divide(input.subimage(0,y0,input.width,y1),denominator,output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#divide(ImageSInt32, double, int, int, ImageSInt32)}
+	 */
+	public static void divide( final ImageSInt32 input , final double denominator , final int lower , final int upper , final ImageSInt32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.divide(input.subimage(0,y0,input.width,y1),denominator,lower,upper,output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#plus(ImageSInt32, int, ImageSInt32)}
+	 */
+	public static void plus( final ImageSInt32 input , final int value , final ImageSInt32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.plus(input.subimage(0,y0,input.width,y1),value,output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#plus(ImageSInt32, int, int, int, ImageSInt32)}
+	 */
+	public static void plus( final ImageSInt32 input , final int value , final int lower , final int upper , final ImageSInt32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.plus(input.subimage(0,y0,input.width,y1),value,lower,upper,output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#boundImage(ImageSInt32, int, int)}
+	 */
+	public static void boundImage( final ImageSInt32 img , final int min , final int max ) {
+
+		BoofConcurrency.loopBlocks(0,img.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.boundImage(img.subimage(0,y0,img.width,y1),min,max);
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#diffAbs(ImageSInt32, ImageSInt32, ImageSInt32)}
+	 */
+	public static void diffAbs( final ImageSInt32 imgA , final ImageSInt32 imgB , final ImageSInt32 diff ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,diff);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.diffAbs(imgA.subimage(0,y0,imgA.width,y1),imgB.subimage(0,y0,imgB.width,y1),diff.subimage(0,y0,diff.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#averageBand(MultiSpectral, ImageSInt32)}
+	 */
+	public static void averageBand( final MultiSpectral<ImageSInt32> input , final ImageSInt32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.averageBand(input.subimage(0,y0,input.width,y1),output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#multiply(ImageSInt64, double, ImageSInt64)}
+	 */
+	public static void multiply( final ImageSInt64 input , final double value , final ImageSInt64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.multiply(input.subimage(0,y0,input.width,y1),value,output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#multiply(ImageSInt64, double, long, long, ImageSInt64)}
+	 */
+	public static void multiply( final ImageSInt64 input , final double value , final long lower , final long upper , final ImageSInt64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.multiply(input.subimage(0,y0,input.width,y1),value,lower,upper,output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#divide(ImageSInt64, double, ImageSInt64)}
+	 */
+	public static void divide( final ImageSInt64 input , final double denominator , final ImageSInt64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.divide(input.subimage(0,y0,input.width,y1),denominator,output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#divide(ImageSInt64, double, long, long, ImageSInt64)}
+	 */
+	public static void divide( final ImageSInt64 input , final double denominator , final long lower , final long upper , final ImageSInt64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.divide(input.subimage(0,y0,input.width,y1),denominator,lower,upper,output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#plus(ImageSInt64, long, ImageSInt64)}
+	 */
+	public static void plus( final ImageSInt64 input , final long value , final ImageSInt64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.plus(input.subimage(0,y0,input.width,y1),value,output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#plus(ImageSInt64, long, long, long, ImageSInt64)}
+	 */
+	public static void plus( final ImageSInt64 input , final long value , final long lower , final long upper , final ImageSInt64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.plus(input.subimage(0,y0,input.width,y1),value,lower,upper,output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#boundImage(ImageSInt64, long, long)}
+	 */
+	public static void boundImage( final ImageSInt64 img , final long min , final long max ) {
+
+		BoofConcurrency.loopBlocks(0,img.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.boundImage(img.subimage(0,y0,img.width,y1),min,max);
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#diffAbs(ImageSInt64, ImageSInt64, ImageSInt64)}
+	 */
+	public static void diffAbs( final ImageSInt64 imgA , final ImageSInt64 imgB , final ImageSInt64 diff ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,diff);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.diffAbs(imgA.subimage(0,y0,imgA.width,y1),imgB.subimage(0,y0,imgB.width,y1),diff.subimage(0,y0,diff.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#averageBand(MultiSpectral, ImageSInt64)}
+	 */
+	public static void averageBand( final MultiSpectral<ImageSInt64> input , final ImageSInt64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.averageBand(input.subimage(0,y0,input.width,y1),output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#multiply(ImageFloat32, float, ImageFloat32)}
+	 */
+	public static void multiply( final ImageFloat32 input , final float value , final ImageFloat32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.multiply(input.subimage(0,y0,input.width,y1),value,output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#multiply(ImageFloat32, float, float, float, ImageFloat32)}
+	 */
+	public static void multiply( final ImageFloat32 input , final float value , final float lower , final float upper , final ImageFloat32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.multiply(input.subimage(0,y0,input.width,y1),value,lower,upper,output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#divide(ImageFloat32, float, ImageFloat32)}
+	 */
+	public static void divide( final ImageFloat32 input , final float denominator , final ImageFloat32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.divide(input.subimage(0,y0,input.width,y1),denominator,output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#divide(ImageFloat32, float, float, float, ImageFloat32)}
+	 */
+	public static void divide( final ImageFloat32 input , final float denominator , final float lower , final float upper , final ImageFloat32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.divide(input.subimage(0,y0,input.width,y1),denominator,lower,upper,output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#plus(ImageFloat32, float, ImageFloat32)}
+	 */
+	public static void plus( final ImageFloat32 input , final float value , final ImageFloat32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.plus(input.subimage(0,y0,input.width,y1),value,output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#plus(ImageFloat32, float, float, float, ImageFloat32)}
+	 */
+	public static void plus( final ImageFloat32 input , final float value , final float lower , final float upper , final ImageFloat32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.plus(input.subimage(0,y0,input.width,y1),value,lower,upper,output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#boundImage(ImageFloat32, float, float)}
+	 */
+	public static void boundImage( final ImageFloat32 img , final float min , final float max ) {
+
+		BoofConcurrency.loopBlocks(0,img.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.boundImage(img.subimage(0,y0,img.width,y1),min,max);
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#diffAbs(ImageFloat32, ImageFloat32, ImageFloat32)}
+	 */
+	public static void diffAbs( final ImageFloat32 imgA , final ImageFloat32 imgB , final ImageFloat32 diff ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,diff);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.diffAbs(imgA.subimage(0,y0,imgA.width,y1),imgB.subimage(0,y0,imgB.width,y1),diff.subimage(0,y0,diff.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#averageBand(MultiSpectral, ImageFloat32)}
+	 */
+	public static void averageBand( final MultiSpectral<ImageFloat32> input , final ImageFloat32 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.averageBand(input.subimage(0,y0,input.width,y1),output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#multiply(ImageFloat64, double, ImageFloat64)}
+	 */
+	public static void multiply( final ImageFloat64 input , final double value , final ImageFloat64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.multiply(input.subimage(0,y0,input.width,y1),value,output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#multiply(ImageFloat64, double, double, double, ImageFloat64)}
+	 */
+	public static void multiply( final ImageFloat64 input , final double value , final double lower , final double upper , final ImageFloat64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.multiply(input.subimage(0,y0,input.width,y1),value,lower,upper,output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#divide(ImageFloat64, double, ImageFloat64)}
+	 */
+	public static void divide( final ImageFloat64 input , final double denominator , final ImageFloat64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.divide(input.subimage(0,y0,input.width,y1),denominator,output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#divide(ImageFloat64, double, double, double, ImageFloat64)}
+	 */
+	public static void divide( final ImageFloat64 input , final double denominator , final double lower , final double upper , final ImageFloat64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.divide(input.subimage(0,y0,input.width,y1),denominator,lower,upper,output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#plus(ImageFloat64, double, ImageFloat64)}
+	 */
+	public static void plus( final ImageFloat64 input , final double value , final ImageFloat64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.plus(input.subimage(0,y0,input.width,y1),value,output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#plus(ImageFloat64, double, double, double, ImageFloat64)}
+	 */
+	public static void plus( final ImageFloat64 input , final double value , final double lower , final double upper , final ImageFloat64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.plus(input.subimage(0,y0,input.width,y1),value,lower,upper,output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#boundImage(ImageFloat64, double, double)}
+	 */
+	public static void boundImage( final ImageFloat64 img , final double min , final double max ) {
+
+		BoofConcurrency.loopBlocks(0,img.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.boundImage(img.subimage(0,y0,img.width,y1),min,max);
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#diffAbs(ImageFloat64, ImageFloat64, ImageFloat64)}
+	 */
+	public static void diffAbs( final ImageFloat64 imgA , final ImageFloat64 imgB , final ImageFloat64 diff ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,diff);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.diffAbs(imgA.subimage(0,y0,imgA.width,y1),imgB.subimage(0,y0,imgB.width,y1),diff.subimage(0,y0,diff.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#averageBand(MultiSpectral, ImageFloat64)}
+	 */
+	public static void averageBand( final MultiSpectral<ImageFloat64> input , final ImageFloat64 output ) {
+
+		InputSanityCheck.checkSameShape(input,output);
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.averageBand(input.subimage(0,y0,input.width,y1),output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#add(ImageUInt8, ImageUInt8, ImageUInt16)}
+	 */
+	public static void add( final ImageUInt8 imgA , final ImageUInt8 imgB , final ImageUInt16 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.add(imgA.subimage(0,y0,imgA.width,y1),imgB.subimage(0,y0,imgB.width,y1),output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#subtract(ImageUInt8, ImageUInt8, ImageInt16)}
+	 */
+	public static void subtract( final ImageUInt8 imgA , final ImageUInt8 imgB , final ImageInt16 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.subtract(imgA.subimage(0,y0,imgA.width,y1),imgB.subimage(0,y0,imgB.width,y1),(ImageInt16)output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#add(ImageSInt8, ImageSInt8, ImageSInt16)}
+	 */
+	public static void add( final ImageSInt8 imgA , final ImageSInt8 imgB , final ImageSInt16 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.add(imgA.subimage(0,y0,imgA.width,y1),imgB.subimage(0,y0,imgB.width,y1),output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#subtract(ImageSInt8, ImageSInt8, ImageSInt16)}
+	 */
+	public static void subtract( final ImageSInt8 imgA , final ImageSInt8 imgB , final ImageSInt16 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.subtract(imgA.subimage(0,y0,imgA.width,y1),imgB.subimage(0,y0,imgB.width,y1),output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#add(ImageUInt16, ImageUInt16, ImageSInt32)}
+	 */
+	public static void add( final ImageUInt16 imgA , final ImageUInt16 imgB , final ImageSInt32 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.add(imgA.subimage(0,y0,imgA.width,y1),imgB.subimage(0,y0,imgB.width,y1),output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#subtract(ImageUInt16, ImageUInt16, ImageSInt32)}
+	 */
+	public static void subtract( final ImageUInt16 imgA , final ImageUInt16 imgB , final ImageSInt32 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.subtract(imgA.subimage(0,y0,imgA.width,y1),imgB.subimage(0,y0,imgB.width,y1),output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#add(ImageSInt16, ImageSInt16, ImageSInt32)}
+	 */
+	public static void add( final ImageSInt16 imgA , final ImageSInt16 imgB , final ImageSInt32 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.add(imgA.subimage(0,y0,imgA.width,y1),imgB.subimage(0,y0,imgB.width,y1),output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#subtract(ImageSInt16, ImageSInt16, ImageSInt32)}
+	 */
+	public static void subtract( final ImageSInt16 imgA , final ImageSInt16 imgB , final ImageSInt32 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.subtract(imgA.subimage(0,y0,imgA.width,y1),imgB.subimage(0,y0,imgB.width,y1),output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#add(ImageSInt32, ImageSInt32, ImageSInt32)}
+	 */
+	public static void add( final ImageSInt32 imgA , final ImageSInt32 imgB , final ImageSInt32 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.add(imgA.subimage(0,y0,imgA.width,y1),imgB.subimage(0,y0,imgB.width,y1),output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#subtract(ImageSInt32, ImageSInt32, ImageSInt32)}
+	 */
+	public static void subtract( final ImageSInt32 imgA , final ImageSInt32 imgB , final ImageSInt32 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.subtract(imgA.subimage(0,y0,imgA.width,y1),imgB.subimage(0,y0,imgB.width,y1),output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#add(ImageSInt64, ImageSInt64, ImageSInt64)}
+	 */
+	public static void add( final ImageSInt64 imgA , final ImageSInt64 imgB , final ImageSInt64 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.add(imgA.subimage(0,y0,imgA.width,y1),imgB.subimage(0,y0,imgB.width,y1),output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#subtract(ImageSInt64, ImageSInt64, ImageSInt64)}
+	 */
+	public static void subtract( final ImageSInt64 imgA , final ImageSInt64 imgB , final ImageSInt64 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.subtract(imgA.subimage(0,y0,imgA.width,y1),imgB.subimage(0,y0,imgB.width,y1),output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#add(ImageFloat32, ImageFloat32, ImageFloat32)}
+	 */
+	public static void add( final ImageFloat32 imgA , final ImageFloat32 imgB , final ImageFloat32 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.add(imgA.subimage(0,y0,imgA.width,y1),imgB.subimage(0,y0,imgB.width,y1),output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#subtract(ImageFloat32, ImageFloat32, ImageFloat32)}
+	 */
+	public static void subtract( final ImageFloat32 imgA , final ImageFloat32 imgB , final ImageFloat32 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.subtract(imgA.subimage(0,y0,imgA.width,y1),imgB.subimage(0,y0,imgB.width,y1),output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#add(ImageFloat64, ImageFloat64, ImageFloat64)}
+	 */
+	public static void add( final ImageFloat64 imgA , final ImageFloat64 imgB , final ImageFloat64 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.add(imgA.subimage(0,y0,imgA.width,y1),imgB.subimage(0,y0,imgB.width,y1),output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link PixelMath#subtract(ImageFloat64, ImageFloat64, ImageFloat64)}
+	 */
+	public static void subtract( final ImageFloat64 imgA , final ImageFloat64 imgB , final ImageFloat64 output ) {
+
+		InputSanityCheck.checkSameShape(imgA,imgB,output);
+
+		BoofConcurrency.loopBlocks(0,imgA.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				PixelMath.subtract(imgA.subimage(0,y0,imgA.width,y1),imgB.subimage(0,y0,imgB.width,y1),output.subimage(0,y0,output.width,y1));
+			}
+		});
+	}
+
+}
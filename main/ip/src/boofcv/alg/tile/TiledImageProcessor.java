@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.tile;
+
+import boofcv.abst.filter.FilterImageInterface;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
+import boofcv.struct.image.ImagePool;
+import boofcv.struct.image.ImageSingleBand;
+import boofcv.struct.tile.TileStore;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>
+ * Applies a {@link FilterImageInterface} to an image in a {@link TileStore} one tile at a time, writing the
+ * results into another {@link TileStore}.  Only a few tiles are in memory at any one time, which allows images
+ * much larger than the heap to be processed.
+ * </p>
+ *
+ * <p>
+ * Each tile is read along with a halo of surrounding pixels.  If the halo is at least as large as the radius
+ * of the filter then the output is identical to filtering the whole image at once.  Filters which are
+ * applied in sequence need a halo equal to the sum of their radii.  At the image border the halo is truncated
+ * and the filter's own border handling is used.
+ * </p>
+ *
+ * <p>
+ * Tiles can be processed at the same time by providing more than one filter.  Each filter is only used by one
+ * thread at a time.  Memory used is approximately: (number of filters)*(tileSize+2*halo)<sup>2</sup>*(bytes
+ * per input and output pixel).  Work images are borrowed from the shared {@link ImagePool}.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+@SuppressWarnings({"unchecked"})
+public class TiledImageProcessor<I extends ImageSingleBand, O extends ImageSingleBand> {
+
+	// filters which are applied to the tiles.  One for each tile processed at the same time
+	private List<FilterImageInterface<I,O>> filters;
+
+	// length of a side of a tile
+	private int tileSize;
+	// number of pixels around each tile which are also read
+	private int halo;
+
+	/**
+	 * Creates a processor which processes one tile at a time.
+	 *
+	 * @param filter Filter which is applied to each tile.
+	 * @param tileSize Length of a side of a tile.
+	 * @param halo Number of pixels around each tile which the filter needs to compute the tile.
+	 */
+	public TiledImageProcessor( FilterImageInterface<I,O> filter , int tileSize , int halo ) {
+		this(single(filter),tileSize,halo);
+	}
+
+	/**
+	 * Creates a processor which can process several tiles at the same time, one for each filter.
+	 *
+	 * @param filters Filters which are applied to tiles.  Each filter must be a separate instance.
+	 * @param tileSize Length of a side of a tile.
+	 * @param halo Number of pixels around each tile which the filter needs to compute the tile.
+	 */
+	public TiledImageProcessor( List<FilterImageInterface<I,O>> filters , int tileSize , int halo ) {
+		if( filters.size() == 0 )
+			throw new IllegalArgumentException("At least one filter must be provided");
+		if( tileSize <= 0 )
+			throw new IllegalArgumentException("tileSize must be more than zero");
+		if( halo < 0 )
+			throw new IllegalArgumentException("halo can't be negative");
+
+		this.filters = filters;
+		this.tileSize = tileSize;
+		this.halo = halo;
+	}
+
+	/**
+	 * Filters the input image and writes the results into the output image.
+	 *
+	 * @param input Image being filtered. Not modified.
+	 * @param output Storage for the filtered image. Modified.
+	 */
+	public void process( final TileStore<I> input , final TileStore<O> output ) {
+		if( input.getWidth() != output.getWidth() || input.getHeight() != output.getHeight() )
+			throw new IllegalArgumentException("Input and output must have the same shape");
+
+		final int tilesX = (input.getWidth() + tileSize - 1)/tileSize;
+		final int totalTiles = tilesX*((input.getHeight() + tileSize - 1)/tileSize);
+		final int numWorkers = filters.size();
+
+		// tiles are interleaved between the workers so that each one gets a similar amount of work
+		BoofConcurrency.loopBlocks(0,numWorkers,new IntRangeTask() {
+			@Override
+			public void run(int worker0, int worker1) {
+				for( int worker = worker0; worker < worker1; worker++ ) {
+					FilterImageInterface<I,O> filter = filters.get(worker);
+					for( int tile = worker; tile < totalTiles; tile += numWorkers ) {
+						processTile(filter, input, output, tile % tilesX, tile / tilesX);
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Reads the tile and its halo, filters it, then writes the tile to the output.
+	 */
+	private void processTile( FilterImageInterface<I,O> filter , TileStore<I> input , TileStore<O> output ,
+							  int tileX , int tileY ) {
+		int width = input.getWidth();
+		int height = input.getHeight();
+
+		int x0 = tileX*tileSize;
+		int y0 = tileY*tileSize;
+		int x1 = Math.min(width,x0+tileSize);
+		int y1 = Math.min(height,y0+tileSize);
+
+		// region which is read, including the halo
+		int haloX0 = Math.max(0,x0-halo);
+		int haloY0 = Math.max(0,y0-halo);
+		int haloX1 = Math.min(width,x1+halo);
+		int haloY1 = Math.min(height,y1+halo);
+
+		ImagePool pool = ImagePool.getShared();
+		I workIn = pool.borrow(input.getImageType(),haloX1-haloX0,haloY1-haloY0);
+		O workOut = pool.borrow(output.getImageType(),haloX1-haloX0,haloY1-haloY0);
+		try {
+			// pixels along the border which the filter does not process should be the same for every tile
+			GImageMiscOps.fill(workOut,0);
+
+			input.read(haloX0,haloY0,workIn);
+			filter.process(workIn,workOut);
+			output.write(x0,y0,(O)workOut.subimage(x0-haloX0,y0-haloY0,x1-haloX0,y1-haloY0));
+		} finally {
+			pool.release(workIn);
+			pool.release(workOut);
+		}
+	}
+
+	private static <I extends ImageSingleBand, O extends ImageSingleBand>
+	List<FilterImageInterface<I,O>> single( FilterImageInterface<I,O> filter ) {
+		List<FilterImageInterface<I,O>> list = new ArrayList<FilterImageInterface<I,O>>();
+		list.add(filter);
+		return list;
+	}
+
+	public int getTileSize() {
+		return tileSize;
+	}
+
+	public int getHalo() {
+		return halo;
+	}
+}
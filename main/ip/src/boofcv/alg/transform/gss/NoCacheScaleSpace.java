@@ -20,6 +20,7 @@ package boofcv.alg.transform.gss;
 
 import boofcv.abst.filter.convolve.ConvolveInterface;
 import boofcv.abst.filter.derivative.AnyImageDerivative;
+import boofcv.alg.filter.blur.GBlurImageOps;
 import boofcv.alg.filter.derivative.GImageDerivativeOps;
 import boofcv.core.image.ImageGenerator;
 import boofcv.core.image.border.BorderType;
@@ -28,6 +29,8 @@ import boofcv.factory.filter.kernel.FactoryKernelGaussian;
 import boofcv.struct.BoofDefaults;
 import boofcv.struct.convolve.Kernel1D;
 import boofcv.struct.gss.GaussianScaleSpace;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImagePool;
 import boofcv.struct.image.ImageSingleBand;
 
 
@@ -54,7 +57,6 @@ public class NoCacheScaleSpace<I extends ImageSingleBand, D extends ImageSingleB
 	private double scales[];
 	private int currentScale;
 
-	private I workImage;
 	private I scaledImage;
 
 
@@ -62,6 +64,9 @@ public class NoCacheScaleSpace<I extends ImageSingleBand, D extends ImageSingleB
 	BorderType borderDeriv = BoofDefaults.DERIV_BORDER_TYPE;
 	BorderType borderBlur = BorderType.NORMALIZED;
 
+	// if true the scaled image is computed using a recursive Gaussian blur
+	boolean recursiveBlur = false;
+
 	/**
 	 * Declares internal data structures.
 	 *
@@ -89,10 +94,8 @@ public class NoCacheScaleSpace<I extends ImageSingleBand, D extends ImageSingleB
 
 		if( scaledImage == null ) {
 			scaledImage = inputGen.createInstance(input.getWidth(),input.getHeight());
-			workImage = inputGen.createInstance(input.getWidth(),input.getHeight());
 		} else if( scaledImage.width != input.width || scaledImage.height != input.height ) {
 			scaledImage.reshape(input.width,input.height);
-			workImage.reshape(input.width,input.height);
 		}
 	}
 
@@ -100,6 +103,33 @@ public class NoCacheScaleSpace<I extends ImageSingleBand, D extends ImageSingleB
 	public void setActiveScale(int index) {
 		this.currentScale = index;
 		double sigma = scales[index];
+
+		if( recursiveBlur ) {
+			blurRecursive(sigma);
+		} else {
+			blurConvolve(sigma);
+		}
+
+		anyDeriv.setInput(scaledImage);
+	}
+
+	/**
+	 * Computes the scaled image using {@link GBlurImageOps#gaussianRecursive}
+	 */
+	private void blurRecursive( double sigma ) {
+		ImagePool pool = ImagePool.getShared();
+		ImageFloat32 workImage = pool.borrow(ImageFloat32.class,originalImage.width,originalImage.height);
+		try {
+			GBlurImageOps.gaussianRecursive(originalImage,scaledImage,sigma,workImage);
+		} finally {
+			pool.release(workImage);
+		}
+	}
+
+	/**
+	 * Computes the scaled image by convolving it with a Gaussian kernel
+	 */
+	private void blurConvolve( double sigma ) {
 		int radius = FactoryKernelGaussian.radiusForSigma(sigma,0);
 
 		Class<I> inputType = inputGen.getType();
@@ -110,10 +140,14 @@ public class NoCacheScaleSpace<I extends ImageSingleBand, D extends ImageSingleB
 		ConvolveInterface<I, I> blurY = FactoryConvolve.convolve(kernel,inputType,inputType, borderBlur ,false);
 
 		// compute the scale image
-		blurX.process(originalImage,workImage);
-		blurY.process(workImage,scaledImage);
-
-		anyDeriv.setInput(scaledImage);
+		ImagePool pool = ImagePool.getShared();
+		I workImage = pool.borrow(inputType,originalImage.width,originalImage.height);
+		try {
+			blurX.process(originalImage,workImage);
+			blurY.process(workImage,scaledImage);
+		} finally {
+			pool.release(workImage);
+		}
 	}
 
 	@Override
@@ -143,6 +177,20 @@ public class NoCacheScaleSpace<I extends ImageSingleBand, D extends ImageSingleB
 		return borderDeriv;
 	}
 
+	public boolean isRecursiveBlur() {
+		return recursiveBlur;
+	}
+
+	/**
+	 * If true then the scaled image is computed using a recursive filter, whose cost does not depend on the scale.
+	 * Pixels outside the image are then assumed to have the value of the closest pixel and the border type
+	 * only changes how derivatives are computed.  Only {@link ImageFloat32} and {@link boofcv.struct.image.ImageUInt8}
+	 * images are supported and the scale must be at least 0.5.
+	 */
+	public void setRecursiveBlur(boolean recursiveBlur) {
+		this.recursiveBlur = recursiveBlur;
+	}
+
 	/**
 	 * Computes derivative images using previously computed lower level derivatives.  Only
 	 * computes/declares images as needed.
@@ -18,10 +18,7 @@
 
 package boofcv.alg.transform.ii;
 
-import boofcv.struct.image.ImageFloat32;
-import boofcv.struct.image.ImageSInt32;
-import boofcv.struct.image.ImageSingleBand;
-import boofcv.struct.image.ImageUInt8;
+import boofcv.struct.image.*;
 
 
 /**
@@ -43,6 +40,10 @@ public class GIntegralImageOps {
 			return (Class<II>)ImageSInt32.class;
 		} else if( inputType == ImageSInt32.class ){
 			return (Class<II>)ImageSInt32.class;
+		} else if( inputType == ImageFloat64.class ){
+			return (Class<II>)ImageFloat64.class;
+		} else if( inputType == ImageSInt64.class ){
+			return (Class<II>)ImageSInt64.class;
 		} else {
 			throw new IllegalArgumentException("Unknown input image type: "+inputType.getSimpleName());
 		}
@@ -57,12 +58,56 @@ public class GIntegralImageOps {
 	 */
 	public static <I extends ImageSingleBand, T extends ImageSingleBand>
 	T transform( I input , T transformed ) {
+		return transform(input,transformed,false);
+	}
+
+	/**
+	 * Converts a regular image into an integral image.  If the integral image is provided then its type
+	 * can be {@link ImageFloat64} or {@link ImageSInt64}, which have more precision or can't overflow.
+	 *
+	 * @param input Regular image. Not modified.
+	 * @param transformed Integral image. If null a new image of the type returned by {@link #getIntegralType}
+	 *                    will be created. Modified.
+	 * @param concurrent If true the transform is computed using multiple threads.
+	 * @return Integral image.
+	 */
+	public static <I extends ImageSingleBand, T extends ImageSingleBand>
+	T transform( I input , T transformed , boolean concurrent ) {
 		if( input instanceof ImageFloat32 ) {
+			if( transformed instanceof ImageFloat64 ) {
+				if( concurrent )
+					return (T)IntegralImageOps_MT.transform64((ImageFloat32)input,(ImageFloat64)transformed);
+				return (T)IntegralImageOps.transform64((ImageFloat32)input,(ImageFloat64)transformed);
+			}
+			if( concurrent )
+				return (T)IntegralImageOps_MT.transform((ImageFloat32)input,(ImageFloat32)transformed);
 			return (T)IntegralImageOps.transform((ImageFloat32)input,(ImageFloat32)transformed);
 		} else if( input instanceof ImageUInt8) {
+			if( transformed instanceof ImageSInt64 ) {
+				if( concurrent )
+					return (T)IntegralImageOps_MT.transform64((ImageUInt8)input,(ImageSInt64)transformed);
+				return (T)IntegralImageOps.transform64((ImageUInt8)input,(ImageSInt64)transformed);
+			}
+			if( concurrent )
+				return (T)IntegralImageOps_MT.transform((ImageUInt8)input,(ImageSInt32)transformed);
 			return (T)IntegralImageOps.transform((ImageUInt8)input,(ImageSInt32)transformed);
 		} else if( input instanceof ImageSInt32) {
+			if( transformed instanceof ImageSInt64 ) {
+				if( concurrent )
+					return (T)IntegralImageOps_MT.transform64((ImageSInt32)input,(ImageSInt64)transformed);
+				return (T)IntegralImageOps.transform64((ImageSInt32)input,(ImageSInt64)transformed);
+			}
+			if( concurrent )
+				return (T)IntegralImageOps_MT.transform((ImageSInt32)input,(ImageSInt32)transformed);
 			return (T)IntegralImageOps.transform((ImageSInt32)input,(ImageSInt32)transformed);
+		} else if( input instanceof ImageFloat64) {
+			if( concurrent )
+				return (T)IntegralImageOps_MT.transform((ImageFloat64)input,(ImageFloat64)transformed);
+			return (T)IntegralImageOps.transform((ImageFloat64)input,(ImageFloat64)transformed);
+		} else if( input instanceof ImageSInt64) {
+			if( concurrent )
+				return (T)IntegralImageOps_MT.transform((ImageSInt64)input,(ImageSInt64)transformed);
+			return (T)IntegralImageOps.transform((ImageSInt64)input,(ImageSInt64)transformed);
 		} else {
 			throw new IllegalArgumentException("Unknown input type");
 		}
@@ -84,6 +129,10 @@ public class GIntegralImageOps {
 			return (T)IntegralImageOps.convolve((ImageFloat32)integral,kernel,(ImageFloat32)output);
 		} else if( integral instanceof ImageSInt32) {
 			return (T)IntegralImageOps.convolve((ImageSInt32)integral,kernel,(ImageSInt32)output);
+		} else if( integral instanceof ImageFloat64) {
+			return (T)IntegralImageOps.convolve((ImageFloat64)integral,kernel,(ImageFloat64)output);
+		} else if( integral instanceof ImageSInt64) {
+			return (T)IntegralImageOps.convolve((ImageSInt64)integral,kernel,(ImageSInt64)output);
 		} else {
 			throw new IllegalArgumentException("Unknown input type");
 		}
@@ -106,6 +155,10 @@ public class GIntegralImageOps {
 			return (T)IntegralImageOps.convolveBorder((ImageFloat32)integral,kernel,(ImageFloat32)output,borderX,borderY);
 		} else if( integral instanceof ImageSInt32) {
 			return (T)IntegralImageOps.convolveBorder((ImageSInt32)integral,kernel,(ImageSInt32)output,borderX,borderY);
+		} else if( integral instanceof ImageFloat64) {
+			return (T)IntegralImageOps.convolveBorder((ImageFloat64)integral,kernel,(ImageFloat64)output,borderX,borderY);
+		} else if( integral instanceof ImageSInt64) {
+			return (T)IntegralImageOps.convolveBorder((ImageSInt64)integral,kernel,(ImageSInt64)output,borderX,borderY);
 		} else {
 			throw new IllegalArgumentException("Unknown input type");
 		}
@@ -128,6 +181,10 @@ public class GIntegralImageOps {
 			return IntegralImageOps.convolveSparse((ImageFloat32)integral,kernel,x,y);
 		} else if( integral instanceof ImageSInt32) {
 			return IntegralImageOps.convolveSparse((ImageSInt32)integral,kernel,x,y);
+		} else if( integral instanceof ImageFloat64) {
+			return IntegralImageOps.convolveSparse((ImageFloat64)integral,kernel,x,y);
+		} else if( integral instanceof ImageSInt64) {
+			return IntegralImageOps.convolveSparse((ImageSInt64)integral,kernel,x,y);
 		} else {
 			throw new IllegalArgumentException("Unknown input type");
 		}
@@ -21,9 +21,7 @@ package boofcv.alg.transform.ii;
 import boofcv.alg.InputSanityCheck;
 import boofcv.alg.transform.ii.impl.ImplIntegralImageOps;
 import boofcv.struct.ImageRectangle;
-import boofcv.struct.image.ImageFloat32;
-import boofcv.struct.image.ImageSInt32;
-import boofcv.struct.image.ImageUInt8;
+import boofcv.struct.image.*;
 
 
 /**
@@ -80,6 +78,126 @@ public class IntegralImageOps {
 		return transformed;
 	}
 
+	/**
+	 * Converts a regular image into an integral image.  Use this instead of the 32-bit integral
+	 * image when the sum of all the pixels can exceed 2<sup>31</sup>, or when more precision is needed.
+	 *
+	 * @param input Regular image. Not modified.
+	 * @param transformed Integral image. If null a new image will be created. Modified.
+	 * @return Integral image.
+	 */
+	public static ImageFloat64 transform64( ImageFloat32 input , ImageFloat64 transformed ) {
+		transformed = InputSanityCheck.checkDeclare(input,transformed,ImageFloat64.class);
+
+		ImplIntegralImageOps.transform(input,transformed);
+
+		return transformed;
+	}
+
+	/**
+	 * Converts a regular image into an integral image.
+	 *
+	 * @param input Regular image. Not modified.
+	 * @param transformed Integral image. If null a new image will be created. Modified.
+	 * @return Integral image.
+	 */
+	public static ImageFloat64 transform( ImageFloat64 input , ImageFloat64 transformed ) {
+		transformed = InputSanityCheck.checkDeclare(input,transformed,ImageFloat64.class);
+
+		ImplIntegralImageOps.transform(input,transformed);
+
+		return transformed;
+	}
+
+	/**
+	 * Converts a regular image into an integral image.  Use this instead of the 32-bit integral
+	 * image when the sum of all the pixels can exceed 2<sup>31</sup>, or when more precision is needed.
+	 *
+	 * @param input Regular image. Not modified.
+	 * @param transformed Integral image. If null a new image will be created. Modified.
+	 * @return Integral image.
+	 */
+	public static ImageSInt64 transform64( ImageUInt8 input , ImageSInt64 transformed ) {
+		transformed = InputSanityCheck.checkDeclare(input,transformed,ImageSInt64.class);
+
+		ImplIntegralImageOps.transform(input,transformed);
+
+		return transformed;
+	}
+
+	/**
+	 * Converts a regular image into an integral image.  Use this instead of the 32-bit integral
+	 * image when the sum of all the pixels can exceed 2<sup>31</sup>, or when more precision is needed.
+	 *
+	 * @param input Regular image. Not modified.
+	 * @param transformed Integral image. If null a new image will be created. Modified.
+	 * @return Integral image.
+	 */
+	public static ImageSInt64 transform64( ImageSInt32 input , ImageSInt64 transformed ) {
+		transformed = InputSanityCheck.checkDeclare(input,transformed,ImageSInt64.class);
+
+		ImplIntegralImageOps.transform(input,transformed);
+
+		return transformed;
+	}
+
+	/**
+	 * Converts a regular image into an integral image.
+	 *
+	 * @param input Regular image. Not modified.
+	 * @param transformed Integral image. If null a new image will be created. Modified.
+	 * @return Integral image.
+	 */
+	public static ImageSInt64 transform( ImageSInt64 input , ImageSInt64 transformed ) {
+		transformed = InputSanityCheck.checkDeclare(input,transformed,ImageSInt64.class);
+
+		ImplIntegralImageOps.transform(input,transformed);
+
+		return transformed;
+	}
+
+	/**
+	 * Computes the integral image and the integral image of the squared pixel values in a single pass.  Used to
+	 * find the variance inside of a block, see {@link #blockVariance}.
+	 *
+	 * @param input Regular image. Not modified.
+	 * @param transformed Integral image.  Same size as the input image.  Modified.
+	 * @param transformedSq Integral image of squared pixel values.  Same size as the input image.  Modified.
+	 */
+	public static void transformSquare( ImageFloat32 input , ImageFloat64 transformed , ImageFloat64 transformedSq ) {
+		InputSanityCheck.checkSameShape(input,transformed,transformedSq);
+
+		ImplIntegralImageOps.transformSquare(input,transformed,transformedSq);
+	}
+
+	/**
+	 * Computes the integral image and the integral image of the squared pixel values in a single pass.  Used to
+	 * find the variance inside of a block, see {@link #blockVariance}.
+	 *
+	 * @param input Regular image. Not modified.
+	 * @param transformed Integral image.  Same size as the input image.  Modified.
+	 * @param transformedSq Integral image of squared pixel values.  Same size as the input image.  Modified.
+	 */
+	public static void transformSquare( ImageFloat64 input , ImageFloat64 transformed , ImageFloat64 transformedSq ) {
+		InputSanityCheck.checkSameShape(input,transformed,transformedSq);
+
+		ImplIntegralImageOps.transformSquare(input,transformed,transformedSq);
+	}
+
+	/**
+	 * Computes the integral image and the integral image of the squared pixel values in a single pass.  Used to
+	 * find the variance inside of a block, see {@link #blockVariance}.
+	 *
+	 * @param input Regular image. Not modified.
+	 * @param transformed Integral image.  Same size as the input image.  Modified.
+	 * @param transformedSq Integral image of squared pixel values.  Same size as the input image.  Modified.
+	 */
+	public static void transformSquare( ImageUInt8 input , ImageSInt64 transformed , ImageSInt64 transformedSq ) {
+		InputSanityCheck.checkSameShape(input,transformed,transformedSq);
+
+		ImplIntegralImageOps.transformSquare(input,transformed,transformedSq);
+	}
+
 	/**
 	 * General code for convolving a box filter across an image using the integral image.
 	 *
@@ -118,6 +236,44 @@ public class IntegralImageOps {
 		return output;
 	}
 
+	/**
+	 * General code for convolving a box filter across an image using the integral image.
+	 *
+	 * @param integral Integral image.
+	 * @param kernel Convolution kernel.
+	 * @param output The convolved image. If null a new image will be declared and returned. Modified.
+	 * @return Convolved image.
+	 */
+	public static ImageFloat64 convolve( ImageFloat64 integral ,
+										 IntegralKernel kernel ,
+										 ImageFloat64 output )
+	{
+		output = InputSanityCheck.checkDeclare(integral,output);
+
+		ImplIntegralImageOps.convolve(integral,kernel.blocks,kernel.scales,output);
+
+		return output;
+	}
+
+	/**
+	 * General code for convolving a box filter across an image using the integral image.
+	 *
+	 * @param integral Integral image.
+	 * @param kernel Convolution kernel.
+	 * @param output The convolved image. If null a new image will be declared and returned. Modified.
+	 * @return Convolved image.
+	 */
+	public static ImageSInt64 convolve( ImageSInt64 integral ,
+										 IntegralKernel kernel ,
+										 ImageSInt64 output )
+	{
+		output = InputSanityCheck.checkDeclare(integral,output);
+
+		ImplIntegralImageOps.convolve(integral,kernel.blocks,kernel.scales,output);
+
+		return output;
+	}
+
 	/**
 	 * Convolves the kernel only across the image's border.
 	 *
@@ -158,6 +314,46 @@ public class IntegralImageOps {
 		return output;
 	}
 
+	/**
+	 * Convolves the kernel only across the image's border.
+	 *
+	 * @param integral Integral image. Not modified.
+	 * @param kernel Convolution kernel.
+	 * @param output The convolved image. If null a new image will be created. Modified.
+	 * @param borderX Size of the image border along the horizontal axis.
+	 * @param borderY size of the image border along the vertical axis.
+	 */
+	public static ImageFloat64 convolveBorder( ImageFloat64 integral ,
+											   IntegralKernel kernel ,
+											   ImageFloat64 output , int borderX , int borderY )
+	{
+		output = InputSanityCheck.checkDeclare(integral,output);
+
+		ImplIntegralImageOps.convolveBorder(integral,kernel.blocks,kernel.scales,output,borderX,borderY);
+
+		return output;
+	}
+
+	/**
+	 * Convolves the kernel only across the image's border.
+	 *
+	 * @param integral Integral image. Not modified.
+	 * @param kernel Convolution kernel.
+	 * @param output The convolved image. If null a new image will be created. Modified.
+	 * @param borderX Size of the image border along the horizontal axis.
+	 * @param borderY size of the image border along the vertical axis.
+	 */
+	public static ImageSInt64 convolveBorder( ImageSInt64 integral ,
+											   IntegralKernel kernel ,
+											   ImageSInt64 output , int borderX , int borderY )
+	{
+		output = InputSanityCheck.checkDeclare(integral,output);
+
+		ImplIntegralImageOps.convolveBorder(integral,kernel.blocks,kernel.scales,output,borderX,borderY);
+
+		return output;
+	}
+
 	/**
 	 * Convolves a kernel around a single point in the integral image.
 	 *
@@ -186,10 +382,38 @@ public class IntegralImageOps {
 		return ImplIntegralImageOps.convolveSparse(integral,kernel,x,y);
 	}
 
+	/**
+	 * Convolves a kernel around a single point in the integral image.
+	 *
+	 * @param integral Input integral image. Not modified.
+	 * @param kernel Convolution kernel.
+	 * @param x Pixel the convolution is performed at.
+	 * @param y Pixel the convolution is performed at.
+	 * @return Value of the convolution
+	 */
+	public static double convolveSparse( ImageFloat64 integral , IntegralKernel kernel , int x , int y )
+	{
+		return ImplIntegralImageOps.convolveSparse(integral,kernel,x,y);
+	}
+
+	/**
+	 * Convolves a kernel around a single point in the integral image.
+	 *
+	 * @param integral Input integral image. Not modified.
+	 * @param kernel Convolution kernel.
+	 * @param x Pixel the convolution is performed at.
+	 * @param y Pixel the convolution is performed at.
+	 * @return Value of the convolution
+	 */
+	public static long convolveSparse( ImageSInt64 integral , IntegralKernel kernel , int x , int y )
+	{
+		return ImplIntegralImageOps.convolveSparse(integral,kernel,x,y);
+	}
+
 	/**
 	 * <p>
 	 * Computes the value of a block inside an integral image without bounds checking.  The block is
-	 * defined as follows: x0 < x <= x1 and y0 < y < y1.
+	 * defined as follows: x0 < x <= x1 and y0 < y <= y1.
 	 * </p>
 	 *
 	 * @param integral Integral image.
@@ -207,7 +431,7 @@ public class IntegralImageOps {
 	/**
 	 * <p>
 	 * Computes the value of a block inside an integral image without bounds checking.  The block is
-	 * defined as follows: x0 < x <= x1 and y0 < y < y1.
+	 * defined as follows: x0 < x <= x1 and y0 < y <= y1.
 	 * </p>
 	 *
 	 * @param integral Integral image.
@@ -222,10 +446,46 @@ public class IntegralImageOps {
 		return ImplIntegralImageOps.block_unsafe(integral,x0,y0,x1,y1);
 	}
 
+	/**
+	 * <p>
+	 * Computes the value of a block inside an integral image without bounds checking.  The block is
+	 * defined as follows: x0 < x <= x1 and y0 < y <= y1.
+	 * </p>
+	 *
+	 * @param integral Integral image.
+	 * @param x0 Lower bound of the block.  Exclusive.
+	 * @param y0 Lower bound of the block.  Exclusive.
+	 * @param x1 Upper bound of the block.  Inclusive.
+	 * @param y1 Upper bound of the block.  Inclusive.
+	 * @return Value inside the block.
+	 */
+	public static double block_unsafe( ImageFloat64 integral , int x0 , int y0 , int x1 , int y1 )
+	{
+		return ImplIntegralImageOps.block_unsafe(integral,x0,y0,x1,y1);
+	}
+
+	/**
+	 * <p>
+	 * Computes the value of a block inside an integral image without bounds checking.  The block is
+	 * defined as follows: x0 < x <= x1 and y0 < y <= y1.
+	 * </p>
+	 *
+	 * @param integral Integral image.
+	 * @param x0 Lower bound of the block.  Exclusive.
+	 * @param y0 Lower bound of the block.  Exclusive.
+	 * @param x1 Upper bound of the block.  Inclusive.
+	 * @param y1 Upper bound of the block.  Inclusive.
+	 * @return Value inside the block.
+	 */
+	public static long block_unsafe( ImageSInt64 integral , int x0 , int y0 , int x1 , int y1 )
+	{
+		return ImplIntegralImageOps.block_unsafe(integral,x0,y0,x1,y1);
+	}
+
 	/**
 	 * <p>
 	 * Computes the value of a block inside an integral image and treats pixels outside of the
-	 * image as zero.  The block is defined as follows: x0 < x <= x1 and y0 < y < y1.
+	 * image as zero.  The block is defined as follows: x0 < x <= x1 and y0 < y <= y1.
 	 * </p>
 	 *
 	 * @param integral Integral image.
@@ -243,7 +503,7 @@ public class IntegralImageOps {
 	/**
 	 * <p>
 	 * Computes the value of a block inside an integral image and treats pixels outside of the
-	 * image as zero.  The block is defined as follows: x0 < x <= x1 and y0 < y < y1.
+	 * image as zero.  The block is defined as follows: x0 < x <= x1 and y0 < y <= y1.
 	 * </p>
 	 *
 	 * @param integral Integral image.
@@ -258,6 +518,82 @@ public class IntegralImageOps {
 		return ImplIntegralImageOps.block_zero(integral,x0,y0,x1,y1);
 	}
 
+	/**
+	 * <p>
+	 * Computes the value of a block inside an integral image and treats pixels outside of the
+	 * image as zero.  The block is defined as follows: x0 < x <= x1 and y0 < y <= y1.
+	 * </p>
+	 *
+	 * @param integral Integral image.
+	 * @param x0 Lower bound of the block.  Exclusive.
+	 * @param y0 Lower bound of the block.  Exclusive.
+	 * @param x1 Upper bound of the block.  Inclusive.
+	 * @param y1 Upper bound of the block.  Inclusive.
+	 * @return Value inside the block.
+	 */
+	public static double block_zero( ImageFloat64 integral , int x0 , int y0 , int x1 , int y1 )
+	{
+		return ImplIntegralImageOps.block_zero(integral,x0,y0,x1,y1);
+	}
+
+	/**
+	 * <p>
+	 * Computes the value of a block inside an integral image and treats pixels outside of the
+	 * image as zero.  The block is defined as follows: x0 < x <= x1 and y0 < y <= y1.
+	 * </p>
+	 *
+	 * @param integral Integral image.
+	 * @param x0 Lower bound of the block.  Exclusive.
+	 * @param y0 Lower bound of the block.  Exclusive.
+	 * @param x1 Upper bound of the block.  Inclusive.
+	 * @param y1 Upper bound of the block.  Inclusive.
+	 * @return Value inside the block.
+	 */
+	public static long block_zero( ImageSInt64 integral , int x0 , int y0 , int x1 , int y1 )
+	{
+		return ImplIntegralImageOps.block_zero(integral,x0,y0,x1,y1);
+	}
+
+	/**
+	 * <p>
+	 * Computes the variance of the pixels inside a block from the integral image and the integral image of squared
+	 * pixel values, see {@link #transformSquare}.  No bounds checking is done.  The block is defined as
+	 * follows: x0 < x <= x1 and y0 < y <= y1.
+	 * </p>
+	 *
+	 * @param integral Integral image.
+	 * @param integralSq Integral image of squared pixel values.
+	 * @param x0 Lower bound of the block.  Exclusive.
+	 * @param y0 Lower bound of the block.  Exclusive.
+	 * @param x1 Upper bound of the block.  Inclusive.
+	 * @param y1 Upper bound of the block.  Inclusive.
+	 * @return Variance of the pixels inside the block.
+	 */
+	public static double blockVariance( ImageSInt64 integral , ImageSInt64 integralSq ,
+										int x0 , int y0 , int x1 , int y1 )
+	{
+		double N = (x1-x0)*(y1-y0);
+		double mean = ImplIntegralImageOps.block_unsafe(integral,x0,y0,x1,y1)/N;
+		double meanSq = ImplIntegralImageOps.block_unsafe(integralSq,x0,y0,x1,y1)/N;
+
+		// round off error can make it slightly negative
+		return Math.max(0,meanSq - mean*mean);
+	}
+
+	/**
+	 * @see #blockVariance(ImageSInt64, ImageSInt64, int, int, int, int)
+	 */
+	public static double blockVariance( ImageFloat64 integral , ImageFloat64 integralSq ,
+										int x0 , int y0 , int x1 , int y1 )
+	{
+		double N = (x1-x0)*(y1-y0);
+		double mean = ImplIntegralImageOps.block_unsafe(integral,x0,y0,x1,y1)/N;
+		double meanSq = ImplIntegralImageOps.block_unsafe(integralSq,x0,y0,x1,y1)/N;
+
+		// round off error can make it slightly negative
+		return Math.max(0,meanSq - mean*mean);
+	}
+
 	/**
 	 * Prints out the kernel.
 	 * 
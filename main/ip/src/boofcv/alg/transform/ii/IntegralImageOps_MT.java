@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.ii;
+
+import boofcv.alg.InputSanityCheck;
+import boofcv.alg.transform.ii.impl.ImplIntegralImageOps_MT;
+import boofcv.struct.image.*;
+
+/**
+ * Concurrent implementations of the transforms in {@link IntegralImageOps}.  The output is identical to the
+ * single threaded versions.
+ *
+ * @author Peter Abeles
+ */
+public class IntegralImageOps_MT {
+
+	/**
+	 * Concurrent version of {@link IntegralImageOps#transform(ImageFloat32, ImageFloat32)}
+	 */
+	public static ImageFloat32 transform( ImageFloat32 input , ImageFloat32 transformed ) {
+		transformed = InputSanityCheck.checkDeclare(input,transformed,ImageFloat32.class);
+
+		ImplIntegralImageOps_MT.transform(input,transformed);
+
+		return transformed;
+	}
+
+	/**
+	 * Concurrent version of {@link IntegralImageOps#transform64(ImageFloat32, ImageFloat64)}
+	 */
+	public static ImageFloat64 transform64( ImageFloat32 input , ImageFloat64 transformed ) {
+		transformed = InputSanityCheck.checkDeclare(input,transformed,ImageFloat64.class);
+
+		ImplIntegralImageOps_MT.transform(input,transformed);
+
+		return transformed;
+	}
+
+	/**
+	 * Concurrent version of {@link IntegralImageOps#transform(ImageFloat64, ImageFloat64)}
+	 */
+	public static ImageFloat64 transform( ImageFloat64 input , ImageFloat64 transformed ) {
+		transformed = InputSanityCheck.checkDeclare(input,transformed,ImageFloat64.class);
+
+		ImplIntegralImageOps_MT.transform(input,transformed);
+
+		return transformed;
+	}
+
+	/**
+	 * Concurrent version of {@link IntegralImageOps#transform(ImageUInt8, ImageSInt32)}
+	 */
+	public static ImageSInt32 transform( ImageUInt8 input , ImageSInt32 transformed ) {
+		transformed = InputSanityCheck.checkDeclare(input,transformed,ImageSInt32.class);
+
+		ImplIntegralImageOps_MT.transform(input,transformed);
+
+		return transformed;
+	}
+
+	/**
+	 * Concurrent version of {@link IntegralImageOps#transform64(ImageUInt8, ImageSInt64)}
+	 */
+	public static ImageSInt64 transform64( ImageUInt8 input , ImageSInt64 transformed ) {
+		transformed = InputSanityCheck.checkDeclare(input,transformed,ImageSInt64.class);
+
+		ImplIntegralImageOps_MT.transform(input,transformed);
+
+		return transformed;
+	}
+
+	/**
+	 * Concurrent version of {@link IntegralImageOps#transform(ImageSInt32, ImageSInt32)}
+	 */
+	public static ImageSInt32 transform( ImageSInt32 input , ImageSInt32 transformed ) {
+		transformed = InputSanityCheck.checkDeclare(input,transformed,ImageSInt32.class);
+
+		ImplIntegralImageOps_MT.transform(input,transformed);
+
+		return transformed;
+	}
+
+	/**
+	 * Concurrent version of {@link IntegralImageOps#transform64(ImageSInt32, ImageSInt64)}
+	 */
+	public static ImageSInt64 transform64( ImageSInt32 input , ImageSInt64 transformed ) {
+		transformed = InputSanityCheck.checkDeclare(input,transformed,ImageSInt64.class);
+
+		ImplIntegralImageOps_MT.transform(input,transformed);
+
+		return transformed;
+	}
+
+	/**
+	 * Concurrent version of {@link IntegralImageOps#transform(ImageSInt64, ImageSInt64)}
+	 */
+	public static ImageSInt64 transform( ImageSInt64 input , ImageSInt64 transformed ) {
+		transformed = InputSanityCheck.checkDeclare(input,transformed,ImageSInt64.class);
+
+		ImplIntegralImageOps_MT.transform(input,transformed);
+
+		return transformed;
+	}
+
+	/**
+	 * Concurrent version of {@link IntegralImageOps#transformSquare(ImageFloat32, ImageFloat64, ImageFloat64)}
+	 */
+	public static void transformSquare( ImageFloat32 input , ImageFloat64 transformed , ImageFloat64 transformedSq ) {
+		InputSanityCheck.checkSameShape(input,transformed,transformedSq);
+
+		ImplIntegralImageOps_MT.transformSquare(input,transformed,transformedSq);
+	}
+
+	/**
+	 * Concurrent version of {@link IntegralImageOps#transformSquare(ImageFloat64, ImageFloat64, ImageFloat64)}
+	 */
+	public static void transformSquare( ImageFloat64 input , ImageFloat64 transformed , ImageFloat64 transformedSq ) {
+		InputSanityCheck.checkSameShape(input,transformed,transformedSq);
+
+		ImplIntegralImageOps_MT.transformSquare(input,transformed,transformedSq);
+	}
+
+	/**
+	 * Concurrent version of {@link IntegralImageOps#transformSquare(ImageUInt8, ImageSInt64, ImageSInt64)}
+	 */
+	public static void transformSquare( ImageUInt8 input , ImageSInt64 transformed , ImageSInt64 transformedSq ) {
+		InputSanityCheck.checkSameShape(input,transformed,transformedSq);
+
+		ImplIntegralImageOps_MT.transformSquare(input,transformed,transformedSq);
+	}
+}
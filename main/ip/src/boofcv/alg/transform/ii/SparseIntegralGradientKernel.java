@@ -69,6 +69,14 @@ public class SparseIntegralGradientKernel<T extends ImageSingleBand>
 		return ret;
 	}
 
+	@Override
+	public void compute(int[] x, int[] y, int length, double[] derivX, double[] derivY) {
+		for( int i = 0; i < length; i++ ) {
+			derivX[i] = GIntegralImageOps.convolveSparse(ii,kernelX,x[i],y[i]);
+			derivY[i] = GIntegralImageOps.convolveSparse(ii,kernelY,x[i],y[i]);
+		}
+	}
+
 	@Override
 	public Class<GradientValue_F64> getGradientType() {
 		return GradientValue_F64.class;
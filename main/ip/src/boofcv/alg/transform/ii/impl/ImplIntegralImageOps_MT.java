@@ -0,0 +1,377 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.ii.impl;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
+import boofcv.struct.image.*;
+
+/**
+ * <p>
+ * Concurrent implementations of the integral image transforms in {@link ImplIntegralImageOps}.  First the
+ * sum along each row is found for bands of rows at the same time, then the sums along bands of columns.  The
+ * additions are done in the same order as the single threaded version, so the output is identical.
+ * </p>
+ *
+ * <p>
+ * DO NOT MODIFY: Generated by {@link GenerateImplIntegralImageOps_MT}.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplIntegralImageOps_MT {
+
+	/**
+	 * Minimum number of columns a thread processes, to reduce the number of shared cache lines.
+	 */
+	public static final int MIN_COLUMNS = 64;
+
+	public static void transform( final ImageFloat32 input , final ImageFloat32 transformed )
+	{
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + input.stride*y;
+					int indexDst = transformed.startIndex + transformed.stride*y;
+					int end = indexSrc + input.width;
+
+					float total = 0;
+					for( ; indexSrc < end; indexSrc++ ) {
+						transformed.data[indexDst++] = total += input.data[indexSrc];
+					}
+				}
+			}
+		});
+
+		sumColumns(transformed);
+	}
+
+	public static void transform( final ImageFloat32 input , final ImageFloat64 transformed )
+	{
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + input.stride*y;
+					int indexDst = transformed.startIndex + transformed.stride*y;
+					int end = indexSrc + input.width;
+
+					double total = 0;
+					for( ; indexSrc < end; indexSrc++ ) {
+						transformed.data[indexDst++] = total += input.data[indexSrc];
+					}
+				}
+			}
+		});
+
+		sumColumns(transformed);
+	}
+
+	public static void transform( final ImageFloat64 input , final ImageFloat64 transformed )
+	{
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + input.stride*y;
+					int indexDst = transformed.startIndex + transformed.stride*y;
+					int end = indexSrc + input.width;
+
+					double total = 0;
+					for( ; indexSrc < end; indexSrc++ ) {
+						transformed.data[indexDst++] = total += input.data[indexSrc];
+					}
+				}
+			}
+		});
+
+		sumColumns(transformed);
+	}
+
+	public static void transform( final ImageUInt8 input , final ImageSInt32 transformed )
+	{
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + input.stride*y;
+					int indexDst = transformed.startIndex + transformed.stride*y;
+					int end = indexSrc + input.width;
+
+					int total = 0;
+					for( ; indexSrc < end; indexSrc++ ) {
+						transformed.data[indexDst++] = total += input.data[indexSrc]& 0xFF;
+					}
+				}
+			}
+		});
+
+		sumColumns(transformed);
+	}
+
+	public static void transform( final ImageUInt8 input , final ImageSInt64 transformed )
+	{
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + input.stride*y;
+					int indexDst = transformed.startIndex + transformed.stride*y;
+					int end = indexSrc + input.width;
+
+					long total = 0;
+					for( ; indexSrc < end; indexSrc++ ) {
+						transformed.data[indexDst++] = total += input.data[indexSrc]& 0xFF;
+					}
+				}
+			}
+		});
+
+		sumColumns(transformed);
+	}
+
+	public static void transform( final ImageSInt32 input , final ImageSInt32 transformed )
+	{
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + input.stride*y;
+					int indexDst = transformed.startIndex + transformed.stride*y;
+					int end = indexSrc + input.width;
+
+					int total = 0;
+					for( ; indexSrc < end; indexSrc++ ) {
+						transformed.data[indexDst++] = total += input.data[indexSrc];
+					}
+				}
+			}
+		});
+
+		sumColumns(transformed);
+	}
+
+	public static void transform( final ImageSInt32 input , final ImageSInt64 transformed )
+	{
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + input.stride*y;
+					int indexDst = transformed.startIndex + transformed.stride*y;
+					int end = indexSrc + input.width;
+
+					long total = 0;
+					for( ; indexSrc < end; indexSrc++ ) {
+						transformed.data[indexDst++] = total += input.data[indexSrc];
+					}
+				}
+			}
+		});
+
+		sumColumns(transformed);
+	}
+
+	public static void transform( final ImageSInt64 input , final ImageSInt64 transformed )
+	{
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + input.stride*y;
+					int indexDst = transformed.startIndex + transformed.stride*y;
+					int end = indexSrc + input.width;
+
+					long total = 0;
+					for( ; indexSrc < end; indexSrc++ ) {
+						transformed.data[indexDst++] = total += input.data[indexSrc];
+					}
+				}
+			}
+		});
+
+		sumColumns(transformed);
+	}
+
+	public static void transformSquare( final ImageFloat32 input ,
+										final ImageFloat64 transformed , final ImageFloat64 transformedSq )
+	{
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + input.stride*y;
+					int indexDst = transformed.startIndex + transformed.stride*y;
+					int indexDstSq = transformedSq.startIndex + transformedSq.stride*y;
+					int end = indexSrc + input.width;
+
+					double total = 0;
+					double totalSq = 0;
+					for( ; indexSrc < end; indexSrc++ ) {
+						double value = input.data[indexSrc];
+						transformed.data[indexDst++] = total += value;
+						transformedSq.data[indexDstSq++] = totalSq += value*value;
+					}
+				}
+			}
+		});
+
+		sumColumns(transformed);
+		sumColumns(transformedSq);
+	}
+
+	public static void transformSquare( final ImageFloat64 input ,
+										final ImageFloat64 transformed , final ImageFloat64 transformedSq )
+	{
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + input.stride*y;
+					int indexDst = transformed.startIndex + transformed.stride*y;
+					int indexDstSq = transformedSq.startIndex + transformedSq.stride*y;
+					int end = indexSrc + input.width;
+
+					double total = 0;
+					double totalSq = 0;
+					for( ; indexSrc < end; indexSrc++ ) {
+						double value = input.data[indexSrc];
+						transformed.data[indexDst++] = total += value;
+						transformedSq.data[indexDstSq++] = totalSq += value*value;
+					}
+				}
+			}
+		});
+
+		sumColumns(transformed);
+		sumColumns(transformedSq);
+	}
+
+	public static void transformSquare( final ImageUInt8 input ,
+										final ImageSInt64 transformed , final ImageSInt64 transformedSq )
+	{
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				for( int y = y0; y < y1; y++ ) {
+					int indexSrc = input.startIndex + input.stride*y;
+					int indexDst = transformed.startIndex + transformed.stride*y;
+					int indexDstSq = transformedSq.startIndex + transformedSq.stride*y;
+					int end = indexSrc + input.width;
+
+					long total = 0;
+					long totalSq = 0;
+					for( ; indexSrc < end; indexSrc++ ) {
+						long value = input.data[indexSrc]& 0xFF;
+						transformed.data[indexDst++] = total += value;
+						transformedSq.data[indexDstSq++] = totalSq += value*value;
+					}
+				}
+			}
+		});
+
+		sumColumns(transformed);
+		sumColumns(transformedSq);
+	}
+
+	/**
+	 * Adds the value of the pixel above to each pixel, going down the image, for bands of columns at the same time.
+	 */
+	private static void sumColumns( final ImageFloat32 transformed )
+	{
+		BoofConcurrency.loopBlocks(0,transformed.width,MIN_COLUMNS,new IntRangeTask() {
+			@Override
+			public void run(int x0, int x1) {
+				for( int y = 1; y < transformed.height; y++ ) {
+					int indexDst = transformed.startIndex + transformed.stride*y + x0;
+					int indexPrev = indexDst - transformed.stride;
+					int end = indexDst + (x1-x0);
+
+					for( ; indexDst < end; indexDst++ ) {
+						transformed.data[indexDst] = transformed.data[indexPrev++] + transformed.data[indexDst];
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Adds the value of the pixel above to each pixel, going down the image, for bands of columns at the same time.
+	 */
+	private static void sumColumns( final ImageFloat64 transformed )
+	{
+		BoofConcurrency.loopBlocks(0,transformed.width,MIN_COLUMNS,new IntRangeTask() {
+			@Override
+			public void run(int x0, int x1) {
+				for( int y = 1; y < transformed.height; y++ ) {
+					int indexDst = transformed.startIndex + transformed.stride*y + x0;
+					int indexPrev = indexDst - transformed.stride;
+					int end = indexDst + (x1-x0);
+
+					for( ; indexDst < end; indexDst++ ) {
+						transformed.data[indexDst] = transformed.data[indexPrev++] + transformed.data[indexDst];
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Adds the value of the pixel above to each pixel, going down the image, for bands of columns at the same time.
+	 */
+	private static void sumColumns( final ImageSInt32 transformed )
+	{
+		BoofConcurrency.loopBlocks(0,transformed.width,MIN_COLUMNS,new IntRangeTask() {
+			@Override
+			public void run(int x0, int x1) {
+				for( int y = 1; y < transformed.height; y++ ) {
+					int indexDst = transformed.startIndex + transformed.stride*y + x0;
+					int indexPrev = indexDst - transformed.stride;
+					int end = indexDst + (x1-x0);
+
+					for( ; indexDst < end; indexDst++ ) {
+						transformed.data[indexDst] = transformed.data[indexPrev++] + transformed.data[indexDst];
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * Adds the value of the pixel above to each pixel, going down the image, for bands of columns at the same time.
+	 */
+	private static void sumColumns( final ImageSInt64 transformed )
+	{
+		BoofConcurrency.loopBlocks(0,transformed.width,MIN_COLUMNS,new IntRangeTask() {
+			@Override
+			public void run(int x0, int x1) {
+				for( int y = 1; y < transformed.height; y++ ) {
+					int indexDst = transformed.startIndex + transformed.stride*y + x0;
+					int indexPrev = indexDst - transformed.stride;
+					int end = indexDst + (x1-x0);
+
+					for( ; indexDst < end; indexDst++ ) {
+						transformed.data[indexDst] = transformed.data[indexPrev++] + transformed.data[indexDst];
+					}
+				}
+			}
+		});
+	}
+}
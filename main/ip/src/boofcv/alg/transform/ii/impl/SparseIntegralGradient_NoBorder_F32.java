@@ -79,6 +79,42 @@ public class SparseIntegralGradient_NoBorder_F32
 		return ret;
 	}
 
+	@Override
+	public void compute(int[] x, int[] y, int length, double[] derivX, double[] derivY) {
+		final float[] data = input.data;
+		final int startIndex = input.startIndex;
+		final int stride = input.stride;
+
+		for( int i = 0; i < length; i++ ) {
+			int horizontalOffset = x[i]-r-1;
+			int indexSrc1 = startIndex + (y[i]-r-1)*stride + horizontalOffset;
+			int indexSrc2 = indexSrc1 + r*stride;
+			int indexSrc3 = indexSrc2 + stride;
+			int indexSrc4 = indexSrc3 + r*stride;
+
+			float p0 = data[indexSrc1];
+			float p1 = data[indexSrc1+r];
+			float p2 = data[indexSrc1+r+1];
+			float p3 = data[indexSrc1+w];
+			float p11 = data[indexSrc2];
+			float p4 = data[indexSrc2+w];
+			float p10 = data[indexSrc3];
+			float p5 = data[indexSrc3+w];
+			float p9 = data[indexSrc4];
+			float p8 = data[indexSrc4+r];
+			float p7 = data[indexSrc4+r+1];
+			float p6 = data[indexSrc4+w];
+
+			float left = p8-p9-p1+p0;
+			float right = p6-p7-p3+p2;
+			float top = p4-p11-p3+p0;
+			float bottom = p6-p9-p5+p10;
+
+			derivX[i] = right-left;
+			derivY[i] = bottom-top;
+		}
+	}
+
 	@Override
 	public Class<GradientValue_F32> getGradientType() {
 		return GradientValue_F32.class;
@@ -79,6 +79,42 @@ public class SparseIntegralGradient_NoBorder_I32
 		return ret;
 	}
 
+	@Override
+	public void compute(int[] x, int[] y, int length, double[] derivX, double[] derivY) {
+		final int[] data = input.data;
+		final int startIndex = input.startIndex;
+		final int stride = input.stride;
+
+		for( int i = 0; i < length; i++ ) {
+			int horizontalOffset = x[i]-r-1;
+			int indexSrc1 = startIndex + (y[i]-r-1)*stride + horizontalOffset;
+			int indexSrc2 = indexSrc1 + r*stride;
+			int indexSrc3 = indexSrc2 + stride;
+			int indexSrc4 = indexSrc3 + r*stride;
+
+			int p0 = data[indexSrc1];
+			int p1 = data[indexSrc1+r];
+			int p2 = data[indexSrc1+r+1];
+			int p3 = data[indexSrc1+w];
+			int p11 = data[indexSrc2];
+			int p4 = data[indexSrc2+w];
+			int p10 = data[indexSrc3];
+			int p5 = data[indexSrc3+w];
+			int p9 = data[indexSrc4];
+			int p8 = data[indexSrc4+r];
+			int p7 = data[indexSrc4+r+1];
+			int p6 = data[indexSrc4+w];
+
+			int left = p8-p9-p1+p0;
+			int right = p6-p7-p3+p2;
+			int top = p4-p11-p3+p0;
+			int bottom = p6-p9-p5+p10;
+
+			derivX[i] = right-left;
+			derivY[i] = bottom-top;
+		}
+	}
+
 	@Override
 	public Class<GradientValue_I32> getGradientType() {
 		return GradientValue_I32.class;
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.ii.impl;
+
+import boofcv.alg.transform.ii.SparseIntegralGradient_NoBorder;
+import boofcv.struct.image.ImageSInt64;
+import boofcv.struct.sparse.GradientValue_I64;
+
+
+/**
+ * Computes the gradient from an integral image.  Does not check for border conditions.
+ *
+ * @author Peter Abeles
+ */
+public class SparseIntegralGradient_NoBorder_I64
+		extends SparseIntegralGradient_NoBorder<ImageSInt64, GradientValue_I64>
+{
+
+	private GradientValue_I64 ret = new GradientValue_I64();
+
+	public SparseIntegralGradient_NoBorder_I64(int radius) {
+		super(radius);
+	}
+
+	@Override
+	public void setScale(double scale) {
+		super.setScale(scale);
+
+		x0 = y0 = -r-1;
+		x1 = y1 =  r;
+	}
+
+	@Override
+	public GradientValue_I64 compute(int x, int y) {
+
+		int horizontalOffset = x-r-1;
+		int indexSrc1 = input.startIndex + (y-r-1)*input.stride + horizontalOffset;
+		int indexSrc2 = indexSrc1 + r*input.stride;
+		int indexSrc3 = indexSrc2 + input.stride;
+		int indexSrc4 = indexSrc3 + r*input.stride;
+
+		long p0 = input.data[indexSrc1];
+		long p1 = input.data[indexSrc1+r];
+		long p2 = input.data[indexSrc1+r+1];
+		long p3 = input.data[indexSrc1+w];
+		long p11 = input.data[indexSrc2];
+		long p4 = input.data[indexSrc2+w];
+		long p10 = input.data[indexSrc3];
+		long p5 = input.data[indexSrc3+w];
+		long p9 = input.data[indexSrc4];
+		long p8 = input.data[indexSrc4+r];
+		long p7 = input.data[indexSrc4+r+1];
+		long p6 = input.data[indexSrc4+w];
+
+		long left = p8-p9-p1+p0;
+		long right = p6-p7-p3+p2;
+		long top = p4-p11-p3+p0;
+		long bottom = p6-p9-p5+p10;
+
+		ret.x = right-left;
+		ret.y = bottom-top;
+
+		return ret;
+	}
+
+	@Override
+	public void compute(int[] x, int[] y, int length, double[] derivX, double[] derivY) {
+		final long[] data = input.data;
+		final int startIndex = input.startIndex;
+		final int stride = input.stride;
+
+		for( int i = 0; i < length; i++ ) {
+			int horizontalOffset = x[i]-r-1;
+			int indexSrc1 = startIndex + (y[i]-r-1)*stride + horizontalOffset;
+			int indexSrc2 = indexSrc1 + r*stride;
+			int indexSrc3 = indexSrc2 + stride;
+			int indexSrc4 = indexSrc3 + r*stride;
+
+			long p0 = data[indexSrc1];
+			long p1 = data[indexSrc1+r];
+			long p2 = data[indexSrc1+r+1];
+			long p3 = data[indexSrc1+w];
+			long p11 = data[indexSrc2];
+			long p4 = data[indexSrc2+w];
+			long p10 = data[indexSrc3];
+			long p5 = data[indexSrc3+w];
+			long p9 = data[indexSrc4];
+			long p8 = data[indexSrc4+r];
+			long p7 = data[indexSrc4+r+1];
+			long p6 = data[indexSrc4+w];
+
+			long left = p8-p9-p1+p0;
+			long right = p6-p7-p3+p2;
+			long top = p4-p11-p3+p0;
+			long bottom = p6-p9-p5+p10;
+
+			derivX[i] = right-left;
+			derivY[i] = bottom-top;
+		}
+	}
+
+	@Override
+	public Class<GradientValue_I64> getGradientType() {
+		return GradientValue_I64.class;
+	}
+}
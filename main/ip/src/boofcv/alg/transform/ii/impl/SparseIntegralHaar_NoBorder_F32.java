@@ -77,6 +77,37 @@ public class SparseIntegralHaar_NoBorder_F32
 		return ret;
 	}
 
+	@Override
+	public void compute(int[] x, int[] y, int length, double[] derivX, double[] derivY) {
+		final float[] data = input.data;
+		final int startIndex = input.startIndex;
+		final int stride = input.stride;
+
+		for( int i = 0; i < length; i++ ) {
+			int horizontalOffset = x[i]-r;
+			int indexSrc1 = startIndex + (y[i]-r)*stride + horizontalOffset;
+			int indexSrc2 = startIndex + y[i]*stride + horizontalOffset;
+			int indexSrc3 = startIndex + (y[i]+r)*stride + horizontalOffset;
+
+			float p0 = data[indexSrc1];
+			float p1 = data[indexSrc1+r];
+			float p2 = data[indexSrc1+w];
+			float p3 = data[indexSrc2];
+			float p5 = data[indexSrc2+w];
+			float p6 = data[indexSrc3];
+			float p7 = data[indexSrc3+r];
+			float p8 = data[indexSrc3+w];
+
+			float left = p7-p1-p6+p0;
+			float right = p8-p2-p7+p1;
+			float top = p5-p2-p3+p0;
+			float bottom = p8-p5-p6+p3;
+
+			derivX[i] = right-left;
+			derivY[i] = bottom-top;
+		}
+	}
+
 	@Override
 	public Class<GradientValue_F32> getGradientType() {
 		return GradientValue_F32.class;
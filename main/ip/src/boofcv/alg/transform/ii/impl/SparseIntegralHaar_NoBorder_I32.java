@@ -77,6 +77,37 @@ public class SparseIntegralHaar_NoBorder_I32
 		return ret;
 	}
 
+	@Override
+	public void compute(int[] x, int[] y, int length, double[] derivX, double[] derivY) {
+		final int[] data = input.data;
+		final int startIndex = input.startIndex;
+		final int stride = input.stride;
+
+		for( int i = 0; i < length; i++ ) {
+			int horizontalOffset = x[i]-r;
+			int indexSrc1 = startIndex + (y[i]-r)*stride + horizontalOffset;
+			int indexSrc2 = startIndex + y[i]*stride + horizontalOffset;
+			int indexSrc3 = startIndex + (y[i]+r)*stride + horizontalOffset;
+
+			int p0 = data[indexSrc1];
+			int p1 = data[indexSrc1+r];
+			int p2 = data[indexSrc1+w];
+			int p3 = data[indexSrc2];
+			int p5 = data[indexSrc2+w];
+			int p6 = data[indexSrc3];
+			int p7 = data[indexSrc3+r];
+			int p8 = data[indexSrc3+w];
+
+			int left = p7-p1-p6+p0;
+			int right = p8-p2-p7+p1;
+			int top = p5-p2-p3+p0;
+			int bottom = p8-p5-p6+p3;
+
+			derivX[i] = right-left;
+			derivY[i] = bottom-top;
+		}
+	}
+
 	@Override
 	public Class<GradientValue_I32> getGradientType() {
 		return GradientValue_I32.class;
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.ii.impl;
+
+import boofcv.alg.transform.ii.SparseIntegralGradient_NoBorder;
+import boofcv.struct.image.ImageSInt64;
+import boofcv.struct.sparse.GradientValue_I64;
+
+
+/**
+ * Computes the gradient Haar wavelet from an integral image.  Does not check for border conditions.
+ *
+ * @author Peter Abeles
+ */
+public class SparseIntegralHaar_NoBorder_I64
+		extends SparseIntegralGradient_NoBorder<ImageSInt64, GradientValue_I64>
+{
+
+	private GradientValue_I64 ret = new GradientValue_I64();
+
+	public SparseIntegralHaar_NoBorder_I64(int radius) {
+		super(radius);
+
+	}
+
+	@Override
+	public void setScale(double scale) {
+		super.setScale(scale);
+		w = 2*r;
+		x0 = y0 = -r;
+		x1 = y1 = r;
+	}
+
+	@Override
+	public GradientValue_I64 compute(int x, int y) {
+
+		int horizontalOffset = x-r;
+		int indexSrc1 = input.startIndex + (y-r)*input.stride + horizontalOffset;
+		int indexSrc2 = input.startIndex + y*input.stride + horizontalOffset;
+		int indexSrc3 = input.startIndex + (y+r)*input.stride + horizontalOffset;
+
+
+		long p0 = input.data[indexSrc1];
+		long p1 = input.data[indexSrc1+r];
+		long p2 = input.data[indexSrc1+w];
+		long p3 = input.data[indexSrc2];
+		long p5 = input.data[indexSrc2+w];
+		long p6 = input.data[indexSrc3];
+		long p7 = input.data[indexSrc3+r];
+		long p8 = input.data[indexSrc3+w];
+
+
+		long left = p7-p1-p6+p0;
+		long right = p8-p2-p7+p1;
+		long top = p5-p2-p3+p0;
+		long bottom = p8-p5-p6+p3;
+
+		ret.x = right-left;
+		ret.y = bottom-top;
+
+		return ret;
+	}
+
+	@Override
+	public void compute(int[] x, int[] y, int length, double[] derivX, double[] derivY) {
+		final long[] data = input.data;
+		final int startIndex = input.startIndex;
+		final int stride = input.stride;
+
+		for( int i = 0; i < length; i++ ) {
+			int horizontalOffset = x[i]-r;
+			int indexSrc1 = startIndex + (y[i]-r)*stride + horizontalOffset;
+			int indexSrc2 = startIndex + y[i]*stride + horizontalOffset;
+			int indexSrc3 = startIndex + (y[i]+r)*stride + horizontalOffset;
+
+			long p0 = data[indexSrc1];
+			long p1 = data[indexSrc1+r];
+			long p2 = data[indexSrc1+w];
+			long p3 = data[indexSrc2];
+			long p5 = data[indexSrc2+w];
+			long p6 = data[indexSrc3];
+			long p7 = data[indexSrc3+r];
+			long p8 = data[indexSrc3+w];
+
+			long left = p7-p1-p6+p0;
+			long right = p8-p2-p7+p1;
+			long top = p5-p2-p3+p0;
+			long bottom = p8-p5-p6+p3;
+
+			derivX[i] = right-left;
+			derivY[i] = bottom-top;
+		}
+	}
+
+	@Override
+	public Class<GradientValue_I64> getGradientType() {
+		return GradientValue_I64.class;
+	}
+}
@@ -24,6 +24,7 @@ import boofcv.alg.distort.PixelTransformAffine_F32;
 import boofcv.alg.distort.impl.DistortSupport;
 import boofcv.alg.interpolate.InterpolatePixel;
 import boofcv.factory.filter.blur.FactoryBlurFilter;
+import boofcv.struct.image.ImagePool;
 import boofcv.struct.image.ImageSingleBand;
 import boofcv.struct.pyramid.ImagePyramid;
 import boofcv.struct.pyramid.PyramidFloat;
@@ -41,7 +42,8 @@ import boofcv.struct.pyramid.PyramidUpdaterFloat;
  * </p>
  *
  * <p>
- *
+ * The blurred image is stored in an image borrowed from the shared {@link ImagePool}.  The blur filter for each
+ * layer is created the first time the pyramid is updated and saved for later updates.
  * </p>
  *
  * <p>
@@ -57,12 +59,12 @@ public class PyramidUpdateGaussianScale< T extends ImageSingleBand> implements P
 	// interpolation algorithm
 	protected InterpolatePixel<T> interpolate;
 
-	// used to store the blurred image
-	protected T tempImage;
-
 	// how much each layer is blurred before sub-sampling
 	protected float[] sigmas;
 
+	// blur filter for each layer
+	protected BlurStorageFilter<T>[] blurs;
+
 	/**
 	 * Creates the updater.
 	 *
@@ -86,22 +88,30 @@ public class PyramidUpdateGaussianScale< T extends ImageSingleBand> implements P
 		if( pyramid.isSaveOriginalReference() )
 			throw new IllegalArgumentException("The original reference cannot be saved");
 
-		if( tempImage == null ) {
-			tempImage = (T)input._createNew(input.width,input.height);
+		if( blurs == null || blurs.length != pyramid.scale.length ) {
+			blurs = new BlurStorageFilter[ pyramid.scale.length ];
+			for( int i = 0; i < blurs.length; i++ )
+				blurs[i] = FactoryBlurFilter.gaussian(pyramid.getImageType(),sigmas[i],-1);
 		}
 
+		ImagePool pool = ImagePool.getShared();
+
 		for( int i = 0; i < pyramid.scale.length; i++ ) {
 			T prev = i == 0 ? input : pyramid.getLayer(i-1);
 			T layer = pyramid.getLayer(i);
 
+			BlurStorageFilter<T> blur = blurs[i];
 
-			BlurStorageFilter<T> blur = (BlurStorageFilter<T>) FactoryBlurFilter.gaussian(layer.getClass(),sigmas[i],-1);
-
-			tempImage.reshape(prev.width,prev.height);
-			blur.process(prev,tempImage);
+			// used to store the blurred image
+			T tempImage = pool.borrow((Class<T>)prev.getClass(),prev.width,prev.height);
+			try {
+				blur.process(prev,tempImage);
 
-			PixelTransformAffine_F32 model = DistortSupport.transformScale(layer,tempImage);
-			DistortImageOps.distortSingle(tempImage,layer,model,null,interpolate);
+				PixelTransformAffine_F32 model = DistortSupport.transformScale(layer,tempImage);
+				DistortImageOps.distortSingle(tempImage,layer,model,null,interpolate);
+			} finally {
+				pool.release(tempImage);
+			}
 		}
 	}
 
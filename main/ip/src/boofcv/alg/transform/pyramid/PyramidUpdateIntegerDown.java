@@ -19,10 +19,18 @@
 package boofcv.alg.transform.pyramid;
 
 import boofcv.abst.filter.convolve.GenericConvolveDown;
+import boofcv.alg.transform.pyramid.impl.ImplPyramidConvolveDown;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
 import boofcv.core.image.border.BorderType;
 import boofcv.factory.filter.convolve.FactoryConvolveDown;
 import boofcv.struct.convolve.Kernel1D;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel1D_I32;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImagePool;
 import boofcv.struct.image.ImageSingleBand;
+import boofcv.struct.image.ImageUInt8;
 import boofcv.struct.pyramid.PyramidDiscrete;
 import boofcv.struct.pyramid.PyramidUpdaterDiscrete;
 
@@ -37,17 +45,51 @@ import boofcv.struct.pyramid.PyramidUpdaterDiscrete;
  * have it dependent on each level's scale factor.
  * </p>
  *
+ * <p>
+ * For {@link ImageFloat32} and {@link ImageUInt8} the blur and down sampling are done in a single pass over
+ * bands of rows, see {@link ImplPyramidConvolveDown}, and if concurrent the bands are processed at the same time.
+ * Each layer depends on the previous one, so the layers themselves are processed in order.  The output is
+ * identical to convolving along each axis separately, which is done for other image types.  Storage for
+ * the intermediate results is borrowed from the shared {@link ImagePool}.
+ * </p>
+ *
  * @author Peter Abeles
  */
 @SuppressWarnings({"unchecked"})
 public class PyramidUpdateIntegerDown<T extends ImageSingleBand> implements PyramidUpdaterDiscrete<T> {
 
-	// stores the results from the first convolution
-	private T temp;
+	/**
+	 * Default number of output rows in each band processed by the fused convolution.  Selected so that the
+	 * intermediate results fit inside the cache.
+	 */
+	public static final int DEFAULT_BAND_ROWS = 32;
+
 	GenericConvolveDown<T,T> horizontal;
 	GenericConvolveDown<T,T> vertical;
 
+	Kernel1D kernel;
+	Class<T> imageType;
+
+	// should bands of rows be processed at the same time
+	boolean concurrent;
+	// number of output rows in each band
+	int bandRows = DEFAULT_BAND_ROWS;
+
 	public PyramidUpdateIntegerDown(Kernel1D kernel, Class<T> imageType ) {
+		this(kernel,imageType,BoofConcurrency.USE_CONCURRENT);
+	}
+
+	/**
+	 * Configures the pyramid updater.
+	 *
+	 * @param kernel Blur kernel.
+	 * @param imageType Type of image in the pyramid.
+	 * @param concurrent If true bands of rows are processed at the same time.
+	 */
+	public PyramidUpdateIntegerDown(Kernel1D kernel, Class<T> imageType , boolean concurrent ) {
+		this.kernel = kernel;
+		this.imageType = imageType;
+		this.concurrent = concurrent;
 
 		horizontal = FactoryConvolveDown.convolve(kernel,imageType,imageType,
 				BorderType.NORMALIZED,true,1);
@@ -64,10 +106,6 @@ public class PyramidUpdateIntegerDown<T extends ImageSingleBand> implements Pyra
 				pyramid.getInputHeight() != input.height )
 			pyramid.initialize(input.width,input.height);
 		
-		if( temp == null )
-			// declare it to be the latest image that it might need to be, resize below
-			temp = (T)input._createNew(input.width/2,input.height);
-
 		if (pyramid.scale[0] == 1) {
 			if (pyramid.isSaveOriginalReference()) {
 				pyramid.setFirstLayer(input);
@@ -80,22 +118,94 @@ public class PyramidUpdateIntegerDown<T extends ImageSingleBand> implements Pyra
 			horizontal.setSkip(skip);
 			vertical.setSkip(skip);
 
-			temp.reshape(input.width/skip,input.height);
-			horizontal.process(input,temp);
-			vertical.process(temp,pyramid.getLayer(0));
+			convolveDown(input,pyramid.getLayer(0),skip);
 		}
 
 		for (int index = 1; index < pyramid.getNumLayers(); index++) {
 			int skip = pyramid.scale[index]/pyramid.scale[index-1];
 			T prev = pyramid.getLayer(index-1);
-			temp.reshape(prev.width/skip,prev.height);
 
 			horizontal.setSkip(skip);
 			vertical.setSkip(skip);
 
-			horizontal.process(prev,temp);
-			vertical.process(temp,pyramid.getLayer(index));
+			convolveDown(prev,pyramid.getLayer(index),skip);
 		}
 	}
 
+	/**
+	 * Convolves along each axis while down sampling.  The intermediate results are stored in a borrowed image.
+	 */
+	private void convolveDown( T input , T output , int skip ) {
+		if( ImplPyramidConvolveDown.canFuse(kernel,input.width,input.height,skip) &&
+				(imageType == ImageFloat32.class || imageType == ImageUInt8.class) ) {
+			convolveDownFused(input,output,skip);
+			return;
+		}
+
+		ImagePool pool = ImagePool.getShared();
+		T temp = pool.borrow((Class<T>)input.getClass(),input.width/skip,input.height);
+		try {
+			horizontal.process(input,temp);
+			vertical.process(temp,output);
+		} finally {
+			pool.release(temp);
+		}
+	}
+
+	/**
+	 * Blurs and down samples bands of rows in a single pass, see {@link ImplPyramidConvolveDown}.
+	 */
+	private void convolveDownFused( final T input , final T output , final int skip ) {
+		final int workWidth = input.width/skip;
+		final int workHeight = ImplPyramidConvolveDown.workHeight(kernel,skip,bandRows);
+
+		IntRangeTask task = new IntRangeTask() {
+			@Override
+			public void run(int row0, int row1) {
+				ImagePool pool = ImagePool.getShared();
+				T work = pool.borrow(imageType,workWidth,workHeight);
+				try {
+					for( int y0 = row0; y0 < row1; y0 += bandRows ) {
+						int y1 = Math.min(row1,y0+bandRows);
+						if( imageType == ImageFloat32.class ) {
+							ImplPyramidConvolveDown.rows((Kernel1D_F32)kernel,(ImageFloat32)input,
+									(ImageFloat32)output,skip,y0,y1,(ImageFloat32)work);
+						} else {
+							ImplPyramidConvolveDown.rows((Kernel1D_I32)kernel,(ImageUInt8)input,
+									(ImageUInt8)output,skip,y0,y1,(ImageUInt8)work);
+						}
+					}
+				} finally {
+					pool.release(work);
+				}
+			}
+		};
+
+		int rows = input.height/skip;
+		if( concurrent )
+			BoofConcurrency.loopBlocks(0,rows,bandRows,task);
+		else
+			task.run(0,rows);
+	}
+
+	public boolean isConcurrent() {
+		return concurrent;
+	}
+
+	public void setConcurrent(boolean concurrent) {
+		this.concurrent = concurrent;
+	}
+
+	public int getBandRows() {
+		return bandRows;
+	}
+
+	/**
+	 * Specifies the number of output rows in each band processed by the fused convolution.
+	 */
+	public void setBandRows(int bandRows) {
+		if( bandRows <= 0 )
+			throw new IllegalArgumentException("Number of rows in a band must be positive");
+		this.bandRows = bandRows;
+	}
 }
@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.pyramid.impl;
+
+import boofcv.alg.filter.convolve.ConvolveDownNoBorder;
+import boofcv.alg.filter.convolve.ConvolveDownNormalized;
+import boofcv.alg.filter.convolve.down.UtilDownConvolve;
+import boofcv.struct.convolve.Kernel1D;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel1D_I32;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageUInt8;
+
+/**
+ * <p>
+ * Blurs and down samples a band of rows in an image in a single pass.  Only the input rows which are needed
+ * by the band are convolved horizontally and saved in a small work image, which is then convolved vertically
+ * directly into the output image using {@link ConvolveDownNoBorder}.  Because the work image is small it stays
+ * in the cache, unlike the full size intermediate image used when each axis is processed separately.
+ * </p>
+ *
+ * <p>
+ * The output is identical to {@link ConvolveDownNormalized#horizontal} followed by
+ * {@link ConvolveDownNormalized#vertical}, provided that {@link #canFuse} returns true.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImplPyramidConvolveDown {
+
+	/**
+	 * Checks to see if the fused convolution will produce the same output as convolving along
+	 * each axis independently.
+	 *
+	 * @param kernel The blur kernel.
+	 * @param width Width of the input image.
+	 * @param height Height of the input image.
+	 * @param skip Amount the image is down sampled by.
+	 * @return true if the fused convolution can be used.
+	 */
+	public static boolean canFuse( Kernel1D kernel , int width , int height , int skip ) {
+		int radius = kernel.getRadius();
+		int offset = UtilDownConvolve.computeOffset(skip,radius);
+
+		// the inner rows and border rows must not overlap and each band must be able to compute its last row
+		if( offset % skip != 0 || radius+1 < skip )
+			return false;
+		// the vertical convolution has a special case for small images
+		if( kernel.getWidth() >= width/skip )
+			return false;
+		return UtilDownConvolve.computeMaxSide(height,skip,radius) >= offset;
+	}
+
+	/**
+	 * Number of input rows which need to be convolved horizontally to compute the specified number of output rows.
+	 */
+	public static int workHeight( Kernel1D kernel , int skip , int rows ) {
+		int offset = UtilDownConvolve.computeOffset(skip,kernel.getRadius());
+		return (rows-1)*skip + offset + kernel.getRadius() + 1;
+	}
+
+	/**
+	 * Blurs then down samples the specified band of output rows.
+	 *
+	 * @param kernel The blur kernel.
+	 * @param input Input image.  Not modified.
+	 * @param output Output image.  Modified.
+	 * @param skip Amount the image is down sampled by.
+	 * @param row0 First output row in the band.
+	 * @param row1 One past the last output row in the band.
+	 * @param work Storage for the horizontal convolution.  Must be at least input.width/skip wide and
+	 *             {@link #workHeight} tall.
+	 */
+	public static void rows( Kernel1D_F32 kernel , ImageFloat32 input , ImageFloat32 output , int skip ,
+							 int row0 , int row1 , ImageFloat32 work ) {
+		final int radius = kernel.getRadius();
+		final int width = input.width/skip;
+		final int height = input.height;
+		final int offset = UtilDownConvolve.computeOffset(skip,radius);
+		final int maxSide = UtilDownConvolve.computeMaxSide(height,skip,radius);
+
+		// rows are aligned so that the inner rows can be passed in as a sub-image
+		final int rowStart = Math.max(0,row0*skip - offset);
+		final int rowEnd = Math.min(height,(row1-1)*skip + radius + 1);
+
+		ConvolveDownNormalized.horizontal(kernel,input.subimage(0,rowStart,input.width,rowEnd),work,skip);
+
+		// inner rows where the kernel doesn't need to be normalized
+		int inner0 = Math.max(row0,offset/skip);
+		int inner1 = Math.min(row1,maxSide/skip+1);
+		if( inner0 < inner1 ) {
+			int a = inner0*skip - offset;
+			int length = (inner1-1)*skip - a + radius + 1;
+			ConvolveDownNoBorder.vertical(kernel,work.subimage(0,a-rowStart,width,a-rowStart+length),
+					output.subimage(0,a/skip,width,a/skip+length/skip),skip);
+		}
+
+		// rows along the border
+		final float[] dataSrc = work.data;
+		final float[] dataDst = output.data;
+		final float[] dataKer = kernel.data;
+
+		for( int row = row0; row < row1; row++ ) {
+			if( row >= inner0 && row < inner1 )
+				continue;
+
+			final int y = row*skip;
+			final int indexRow = work.startIndex + (y-rowStart)*work.stride;
+			final int startKernel = y < offset ? -y : -radius;
+			final int endKernel = y < offset ? radius : Math.min(radius,height-y-1);
+			int indexDst = output.startIndex + row*output.stride;
+
+			for( int x = 0; x < width; x++ ) {
+				float total = 0;
+				float totalWeight = 0;
+				int indexSrc = indexRow + x;
+				for( int k = startKernel; k <= endKernel; k++ ) {
+					float w = dataKer[k+radius];
+					totalWeight += w;
+					total += (dataSrc[indexSrc+k*work.stride]) * w;
+				}
+				dataDst[indexDst++] = (total / totalWeight);
+			}
+		}
+	}
+
+	/**
+	 * Blurs then down samples the specified band of output rows.
+	 *
+	 * @param kernel The blur kernel.
+	 * @param input Input image.  Not modified.
+	 * @param output Output image.  Modified.
+	 * @param skip Amount the image is down sampled by.
+	 * @param row0 First output row in the band.
+	 * @param row1 One past the last output row in the band.
+	 * @param work Storage for the horizontal convolution.  Must be at least input.width/skip wide and
+	 *             {@link #workHeight} tall.
+	 */
+	public static void rows( Kernel1D_I32 kernel , ImageUInt8 input , ImageUInt8 output , int skip ,
+							 int row0 , int row1 , ImageUInt8 work ) {
+		final int radius = kernel.getRadius();
+		final int width = input.width/skip;
+		final int height = input.height;
+		final int offset = UtilDownConvolve.computeOffset(skip,radius);
+		final int maxSide = UtilDownConvolve.computeMaxSide(height,skip,radius);
+
+		// rows are aligned so that the inner rows can be passed in as a sub-image
+		final int rowStart = Math.max(0,row0*skip - offset);
+		final int rowEnd = Math.min(height,(row1-1)*skip + radius + 1);
+
+		ConvolveDownNormalized.horizontal(kernel,input.subimage(0,rowStart,input.width,rowEnd),work,skip);
+
+		// inner rows where the kernel doesn't need to be normalized
+		int inner0 = Math.max(row0,offset/skip);
+		int inner1 = Math.min(row1,maxSide/skip+1);
+		if( inner0 < inner1 ) {
+			int a = inner0*skip - offset;
+			int length = (inner1-1)*skip - a + radius + 1;
+			ConvolveDownNoBorder.vertical(kernel,work.subimage(0,a-rowStart,width,a-rowStart+length),
+					output.subimage(0,a/skip,width,a/skip+length/skip),skip,kernel.computeSum());
+		}
+
+		// rows along the border
+		final byte[] dataSrc = work.data;
+		final byte[] dataDst = output.data;
+		final int[] dataKer = kernel.data;
+
+		for( int row = row0; row < row1; row++ ) {
+			if( row >= inner0 && row < inner1 )
+				continue;
+
+			final int y = row*skip;
+			final int indexRow = work.startIndex + (y-rowStart)*work.stride;
+			final int startKernel = y < offset ? -y : -radius;
+			final int endKernel = y < offset ? radius : Math.min(radius,height-y-1);
+			int indexDst = output.startIndex + row*output.stride;
+
+			for( int x = 0; x < width; x++ ) {
+				int total = 0;
+				int totalWeight = 0;
+				int indexSrc = indexRow + x;
+				for( int k = startKernel; k <= endKernel; k++ ) {
+					int w = dataKer[k+radius];
+					totalWeight += w;
+					total += (dataSrc[indexSrc+k*work.stride] & 0xFF) * w;
+				}
+				dataDst[indexDst++] = (byte)(total / totalWeight);
+			}
+		}
+	}
+}
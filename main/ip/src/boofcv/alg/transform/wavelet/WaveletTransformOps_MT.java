@@ -0,0 +1,445 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.wavelet;
+
+import boofcv.alg.InputSanityCheck;
+import boofcv.alg.misc.PixelMath_MT;
+import boofcv.alg.transform.wavelet.impl.ImplWaveletTransformBorder;
+import boofcv.alg.transform.wavelet.impl.ImplWaveletTransformInner;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
+import boofcv.core.image.border.BorderIndex1D;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageSInt32;
+import boofcv.struct.wavelet.WaveletDescription;
+import boofcv.struct.wavelet.WlBorderCoef;
+import boofcv.struct.wavelet.WlCoef_F32;
+import boofcv.struct.wavelet.WlCoef_I32;
+
+/**
+ * <p>
+ * Concurrent implementation of {@link WaveletTransformOps}.  The output is identical to the single threaded version.
+ * </p>
+ *
+ * <p>
+ * Each level of the transform is split into two passes.  Horizontal passes are split into bands of rows and
+ * vertical passes into bands of columns, which are then processed by the single threaded code.  Column bands
+ * always start on an even column.  Images which are too small for the fast routines are processed in the
+ * calling thread.  All the bands share the border description, which is only ever set to the same length
+ * inside of a pass.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class WaveletTransformOps_MT {
+
+	/**
+	 * Concurrent version of {@link WaveletTransformOps#transform1(WaveletDescription, ImageFloat32, ImageFloat32, ImageFloat32)}
+	 */
+	public static void transform1( WaveletDescription<WlCoef_F32> desc ,
+								   final ImageFloat32 input , final ImageFloat32 output ,
+								   ImageFloat32 storage )
+	{
+		UtilWavelet.checkShape(input,output);
+
+		final WlCoef_F32 coef = desc.getForward();
+
+		if( output.width < coef.scaling.length || output.width < coef.wavelet.length )
+			throw new IllegalArgumentException("Wavelet is too large for provided image.");
+		if( output.height < coef.scaling.length || output.height < coef.wavelet.length )
+			throw new IllegalArgumentException("Wavelet is too large for provided image.");
+		storage = InputSanityCheck.checkDeclare(output, storage);
+
+		// the faster routines can only be run on images which are not too small
+		int minSize = Math.max(coef.getScalingLength(),coef.getWaveletLength())*3;
+
+		if( input.getWidth() <= minSize || input.getHeight() <= minSize ) {
+			WaveletTransformOps.transform1(desc,input,output,storage);
+			return;
+		}
+
+		final BorderIndex1D border = desc.getBorder();
+		final ImageFloat32 work = storage;
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				ImageFloat32 bandIn = input.subimage(0,y0,input.width,y1);
+				ImageFloat32 bandOut = work.subimage(0,y0,work.width,y1);
+				ImplWaveletTransformInner.horizontal(coef,bandIn,bandOut);
+				ImplWaveletTransformBorder.horizontal(border,coef,bandIn,bandOut);
+			}
+		});
+
+		// columns are processed in pairs so that the width of each band has the same parity as the image
+		BoofConcurrency.loopBlocks(0,work.width/2,new IntRangeTask() {
+			@Override
+			public void run(int x0, int x1) {
+				ImageFloat32 bandIn = work.subimage(x0*2,0,x1*2,work.height);
+				ImageFloat32 bandOut = output.subimage(x0*2,0,x1*2,output.height);
+				ImplWaveletTransformInner.vertical(coef,bandIn,bandOut);
+				ImplWaveletTransformBorder.vertical(border,coef,bandIn,bandOut);
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link WaveletTransformOps#transformN(WaveletDescription, ImageFloat32, ImageFloat32, ImageFloat32, int)}
+	 */
+	public static void transformN( WaveletDescription<WlCoef_F32> desc ,
+								   ImageFloat32 input , ImageFloat32 output ,
+								   ImageFloat32 storage ,
+								   int numLevels )
+	{
+		if( numLevels == 1 ) {
+			transform1(desc,input,output, storage);
+			return;
+		}
+
+		UtilWavelet.checkShape(desc.getForward(),input,output,numLevels);
+		storage = InputSanityCheck.checkDeclare(output, storage);
+		// modify the shape of a temporary image not the original
+		storage = storage.subimage(0,0,output.width,output.height);
+
+		transform1(desc,input,output, storage);
+
+		for( int i = 2; i <= numLevels; i++ ) {
+			int width = output.width/2;
+			int height = output.height/2;
+			width += width%2;
+			height += height%2;
+
+			input = input.subimage(0,0,width,height);
+			output = output.subimage(0,0,width,height);
+			input.setTo(output);
+
+			// transform the scaling image and save the results in the output image
+			storage.reshape(width,height);
+			transform1(desc,input,output,storage);
+		}
+	}
+
+	/**
+	 * Concurrent version of {@link WaveletTransformOps#inverse1(WaveletDescription, ImageFloat32, ImageFloat32, ImageFloat32, float, float)}
+	 */
+	public static void inverse1( WaveletDescription<WlCoef_F32> desc ,
+								 final ImageFloat32 input , final ImageFloat32 output ,
+								 ImageFloat32 storage , float minValue , float maxValue )
+	{
+		UtilWavelet.checkShape(output,input);
+		WlCoef_F32 coef = desc.getForward();
+		if( output.width < coef.scaling.length || output.width < coef.wavelet.length )
+			throw new IllegalArgumentException("Wavelet is too large for provided image.");
+		if( output.height < coef.scaling.length || output.height < coef.wavelet.length )
+			throw new IllegalArgumentException("Wavelet is too large for provided image.");
+		storage = InputSanityCheck.checkDeclare(input, storage);
+
+		// the faster routines can only be run on images which are not too small
+		int minSize = Math.max(coef.getScalingLength(),coef.getWaveletLength())*3;
+
+		if( output.getWidth() <= minSize || output.getHeight() <= minSize ) {
+			WaveletTransformOps.inverse1(desc,input,output,storage,minValue,maxValue);
+			return;
+		}
+
+		final BorderIndex1D border = desc.getBorder();
+		final WlBorderCoef<WlCoef_F32> inverse = desc.getInverse();
+		final WlCoef_F32 inner = inverse.getInnerCoefficients();
+		final ImageFloat32 work = storage;
+
+		// columns are processed in pairs so that the width of each band has the same parity as the image
+		BoofConcurrency.loopBlocks(0,input.width/2,new IntRangeTask() {
+			@Override
+			public void run(int x0, int x1) {
+				ImageFloat32 bandIn = input.subimage(x0*2,0,x1*2,input.height);
+				ImageFloat32 bandOut = work.subimage(x0*2,0,x1*2,work.height);
+				ImplWaveletTransformInner.verticalInverse(inner,bandIn,bandOut);
+				ImplWaveletTransformBorder.verticalInverse(border,inverse,bandIn,bandOut);
+			}
+		});
+
+		BoofConcurrency.loopBlocks(0,output.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				ImageFloat32 bandIn = work.subimage(0,y0,work.width,y1);
+				ImageFloat32 bandOut = output.subimage(0,y0,output.width,y1);
+				ImplWaveletTransformInner.horizontalInverse(inner,bandIn,bandOut);
+				ImplWaveletTransformBorder.horizontalInverse(border,inverse,bandIn,bandOut);
+			}
+		});
+
+		if( minValue != -Float.MAX_VALUE && maxValue != Float.MAX_VALUE )
+			PixelMath_MT.boundImage(output,minValue,maxValue);
+	}
+
+	/**
+	 * Concurrent version of {@link WaveletTransformOps#inverseN(WaveletDescription, ImageFloat32, ImageFloat32, ImageFloat32, int, float, float)}
+	 */
+	public static void inverseN( WaveletDescription<WlCoef_F32> desc ,
+								 ImageFloat32 input , ImageFloat32 output ,
+								 ImageFloat32 storage,
+								 int numLevels ,
+								 float minValue , float maxValue)
+	{
+		if( numLevels == 1 ) {
+			inverse1(desc,input,output, storage,minValue,maxValue);
+			return;
+		}
+
+		UtilWavelet.checkShape(desc.getForward(),output,input,numLevels);
+		storage = InputSanityCheck.checkDeclare(input, storage);
+		// modify the shape of a temporary image not the original
+		storage = storage.subimage(0,0,input.width,input.height);
+
+		int width,height;
+
+		int scale = UtilWavelet.computeScale(numLevels);
+		width = input.width/scale;
+		height = input.height/scale;
+		width += width%2;
+		height += height%2;
+
+		ImageFloat32 levelIn = input.subimage(0,0,width,height);
+		ImageFloat32 levelOut = output.subimage(0,0,width,height);
+		storage.reshape(width,height);
+		inverse1(desc,levelIn,levelOut, storage,-Float.MAX_VALUE,Float.MAX_VALUE);
+
+		for( int i = numLevels-1; i >= 1; i-- ) {
+			// copy the decoded segment into the input
+			levelIn.setTo(levelOut);
+			if( i > 1 ) {
+				scale /= 2;
+				width = input.width/scale;
+				height = input.height/scale;
+				width += width%2;
+				height += height%2;
+
+				storage.reshape(width,height);
+				levelIn = input.subimage(0,0,width,height);
+				levelOut = output.subimage(0,0,width,height);
+			} else {
+				levelIn = input;
+				levelOut = output;
+			}
+
+			storage.reshape(levelIn.width,levelIn.height);
+			inverse1(desc,levelIn,levelOut, storage,-Float.MAX_VALUE,Float.MAX_VALUE);
+		}
+
+		if( minValue != -Float.MAX_VALUE && maxValue != Float.MAX_VALUE )
+			PixelMath_MT.boundImage(output,minValue,maxValue);
+	}
+
+	/**
+	 * Concurrent version of {@link WaveletTransformOps#transform1(WaveletDescription, ImageSInt32, ImageSInt32, ImageSInt32)}
+	 */
+	public static void transform1( WaveletDescription<WlCoef_I32> desc ,
+								   final ImageSInt32 input , final ImageSInt32 output ,
+								   ImageSInt32 storage )
+	{
+		UtilWavelet.checkShape(input,output);
+
+		final WlCoef_I32 coef = desc.getForward();
+
+		if( output.width < coef.scaling.length || output.width < coef.wavelet.length )
+			throw new IllegalArgumentException("Wavelet is too large for provided image.");
+		if( output.height < coef.scaling.length || output.height < coef.wavelet.length )
+			throw new IllegalArgumentException("Wavelet is too large for provided image.");
+		storage = InputSanityCheck.checkDeclare(output, storage);
+
+		// the faster routines can only be run on images which are not too small
+		int minSize = Math.max(coef.getScalingLength(),coef.getWaveletLength())*3;
+
+		if( input.getWidth() <= minSize || input.getHeight() <= minSize ) {
+			WaveletTransformOps.transform1(desc,input,output,storage);
+			return;
+		}
+
+		final BorderIndex1D border = desc.getBorder();
+		final ImageSInt32 work = storage;
+
+		BoofConcurrency.loopBlocks(0,input.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				ImageSInt32 bandIn = input.subimage(0,y0,input.width,y1);
+				ImageSInt32 bandOut = work.subimage(0,y0,work.width,y1);
+				ImplWaveletTransformInner.horizontal(coef,bandIn,bandOut);
+				ImplWaveletTransformBorder.horizontal(border,coef,bandIn,bandOut);
+			}
+		});
+
+		// columns are processed in pairs so that the width of each band has the same parity as the image
+		BoofConcurrency.loopBlocks(0,work.width/2,new IntRangeTask() {
+			@Override
+			public void run(int x0, int x1) {
+				ImageSInt32 bandIn = work.subimage(x0*2,0,x1*2,work.height);
+				ImageSInt32 bandOut = output.subimage(x0*2,0,x1*2,output.height);
+				ImplWaveletTransformInner.vertical(coef,bandIn,bandOut);
+				ImplWaveletTransformBorder.vertical(border,coef,bandIn,bandOut);
+			}
+		});
+	}
+
+	/**
+	 * Concurrent version of {@link WaveletTransformOps#transformN(WaveletDescription, ImageSInt32, ImageSInt32, ImageSInt32, int)}
+	 */
+	public static void transformN( WaveletDescription<WlCoef_I32> desc ,
+								   ImageSInt32 input , ImageSInt32 output ,
+								   ImageSInt32 storage ,
+								   int numLevels )
+	{
+		if( numLevels == 1 ) {
+			transform1(desc,input,output, storage);
+			return;
+		}
+
+		UtilWavelet.checkShape(desc.getForward(),input,output,numLevels);
+		storage = InputSanityCheck.checkDeclare(output, storage);
+		// modify the shape of a temporary image not the original
+		storage = storage.subimage(0,0,output.width,output.height);
+
+		transform1(desc,input,output, storage);
+
+		for( int i = 2; i <= numLevels; i++ ) {
+			int width = output.width/2;
+			int height = output.height/2;
+			width += width%2;
+			height += height%2;
+
+			input = input.subimage(0,0,width,height);
+			output = output.subimage(0,0,width,height);
+			input.setTo(output);
+
+			// transform the scaling image and save the results in the output image
+			storage.reshape(width,height);
+			transform1(desc,input,output,storage);
+		}
+	}
+
+	/**
+	 * Concurrent version of {@link WaveletTransformOps#inverse1(WaveletDescription, ImageSInt32, ImageSInt32, ImageSInt32, int, int)}
+	 */
+	public static void inverse1( WaveletDescription<WlCoef_I32> desc ,
+								 final ImageSInt32 input , final ImageSInt32 output ,
+								 ImageSInt32 storage , int minValue , int maxValue )
+	{
+		UtilWavelet.checkShape(output,input);
+		WlCoef_I32 coef = desc.getForward();
+		if( output.width < coef.scaling.length || output.width < coef.wavelet.length )
+			throw new IllegalArgumentException("Wavelet is too large for provided image.");
+		if( output.height < coef.scaling.length || output.height < coef.wavelet.length )
+			throw new IllegalArgumentException("Wavelet is too large for provided image.");
+		storage = InputSanityCheck.checkDeclare(input, storage);
+
+		// the faster routines can only be run on images which are not too small
+		int minSize = Math.max(coef.getScalingLength(),coef.getWaveletLength())*3;
+
+		if( output.getWidth() <= minSize || output.getHeight() <= minSize ) {
+			WaveletTransformOps.inverse1(desc,input,output,storage,minValue,maxValue);
+			return;
+		}
+
+		final BorderIndex1D border = desc.getBorder();
+		final WlBorderCoef<WlCoef_I32> inverse = desc.getInverse();
+		final WlCoef_I32 inner = inverse.getInnerCoefficients();
+		final ImageSInt32 work = storage;
+
+		// columns are processed in pairs so that the width of each band has the same parity as the image
+		BoofConcurrency.loopBlocks(0,input.width/2,new IntRangeTask() {
+			@Override
+			public void run(int x0, int x1) {
+				ImageSInt32 bandIn = input.subimage(x0*2,0,x1*2,input.height);
+				ImageSInt32 bandOut = work.subimage(x0*2,0,x1*2,work.height);
+				ImplWaveletTransformInner.verticalInverse(inner,bandIn,bandOut);
+				ImplWaveletTransformBorder.verticalInverse(border,inverse,bandIn,bandOut);
+			}
+		});
+
+		BoofConcurrency.loopBlocks(0,output.height,new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				ImageSInt32 bandIn = work.subimage(0,y0,work.width,y1);
+				ImageSInt32 bandOut = output.subimage(0,y0,output.width,y1);
+				ImplWaveletTransformInner.horizontalInverse(inner,bandIn,bandOut);
+				ImplWaveletTransformBorder.horizontalInverse(border,inverse,bandIn,bandOut);
+			}
+		});
+
+		if( minValue != Integer.MIN_VALUE && maxValue != Integer.MAX_VALUE )
+			PixelMath_MT.boundImage(output,minValue,maxValue);
+	}
+
+	/**
+	 * Concurrent version of {@link WaveletTransformOps#inverseN(WaveletDescription, ImageSInt32, ImageSInt32, ImageSInt32, int, int, int)}
+	 */
+	public static void inverseN( WaveletDescription<WlCoef_I32> desc ,
+								 ImageSInt32 input , ImageSInt32 output ,
+								 ImageSInt32 storage,
+								 int numLevels ,
+								 int minValue , int maxValue)
+	{
+		if( numLevels == 1 ) {
+			inverse1(desc,input,output, storage,minValue,maxValue);
+			return;
+		}
+
+		UtilWavelet.checkShape(desc.getForward(),output,input,numLevels);
+		storage = InputSanityCheck.checkDeclare(input, storage);
+		// modify the shape of a temporary image not the original
+		storage = storage.subimage(0,0,input.width,input.height);
+
+		int width,height;
+
+		int scale = UtilWavelet.computeScale(numLevels);
+		width = input.width/scale;
+		height = input.height/scale;
+		width += width%2;
+		height += height%2;
+
+		ImageSInt32 levelIn = input.subimage(0,0,width,height);
+		ImageSInt32 levelOut = output.subimage(0,0,width,height);
+		storage.reshape(width,height);
+		inverse1(desc,levelIn,levelOut, storage,Integer.MIN_VALUE,Integer.MAX_VALUE);
+
+		for( int i = numLevels-1; i >= 1; i-- ) {
+			// copy the decoded segment into the input
+			levelIn.setTo(levelOut);
+			if( i > 1 ) {
+				scale /= 2;
+				width = input.width/scale;
+				height = input.height/scale;
+				width += width%2;
+				height += height%2;
+
+				storage.reshape(width,height);
+				levelIn = input.subimage(0,0,width,height);
+				levelOut = output.subimage(0,0,width,height);
+			} else {
+				levelIn = input;
+				levelOut = output;
+			}
+
+			storage.reshape(levelIn.width,levelIn.height);
+			inverse1(desc,levelIn,levelOut, storage,Integer.MIN_VALUE,Integer.MAX_VALUE);
+		}
+
+		if( minValue != Integer.MIN_VALUE && maxValue != Integer.MAX_VALUE )
+			PixelMath_MT.boundImage(output,minValue,maxValue);
+	}
+}
@@ -0,0 +1,263 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.concurrency;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+
+/**
+ * <p>
+ * Shared thread pool used by the concurrent (_MT) implementations of algorithms.  Work is split into contiguous
+ * blocks, e.g. bands of rows in an image, which are then processed at the same time.  The calling thread
+ * processes the first block itself and blocks until all the other blocks have finished.
+ * </p>
+ *
+ * <p>
+ * If a concurrent function is called from inside a thread owned by the pool then it is run in the calling thread.
+ * This prevents the pool from dead locking when concurrent functions are nested.
+ * </p>
+ *
+ * <p>
+ * Changing the number of threads with {@link #setMaxThreads} while other threads are processing is safe, in
+ * that work which has already started will finish using the old pool, but is not recommended.  Operations
+ * which call {@link #loopBlocks} several times can be split differently between calls.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class BoofConcurrency {
+
+	/**
+	 * If true then the generic functions and factories will select the concurrent implementation of an algorithm,
+	 * when one is available.
+	 */
+	public static boolean USE_CONCURRENT = false;
+
+	// maximum number of threads which will process blocks at the same time
+	private static int maxThreads = Runtime.getRuntime().availableProcessors();
+
+	// lazily created thread pool
+	private static ExecutorService pool;
+	// number of threads which are currently submitting tasks to each pool
+	private static final Map<ExecutorService,Integer> poolUsers = new IdentityHashMap<ExecutorService,Integer>();
+
+	// true for threads which are owned by the pool
+	private static final ThreadLocal<Boolean> insidePool = new ThreadLocal<Boolean>();
+
+	/**
+	 * Changes the maximum number of threads used.  If set to one then all the work is done in the calling thread.
+	 * The current pool is retired and is shut down once no thread is submitting tasks to it.  Should not be
+	 * called while processing, see class description.
+	 *
+	 * @param maxThreads Maximum number of threads. Must be &ge; 1.
+	 */
+	public static synchronized void setMaxThreads( int maxThreads ) {
+		if( maxThreads < 1 )
+			throw new IllegalArgumentException("Must be at least one thread");
+
+		if( pool != null ) {
+			if( !poolUsers.containsKey(pool) )
+				pool.shutdown();
+			pool = null;
+		}
+		BoofConcurrency.maxThreads = maxThreads;
+	}
+
+	public static synchronized int getMaxThreads() {
+		return maxThreads;
+	}
+
+	/**
+	 * Splits the range into blocks and processes them concurrently.
+	 *
+	 * @param start First index in the range.
+	 * @param end One past the last index in the range.
+	 * @param task Processes a block.
+	 */
+	public static void loopBlocks( int start , int end , IntRangeTask task ) {
+		loopBlocks(start, end, 1, task, null);
+	}
+
+	/**
+	 * Splits the range into blocks and processes them concurrently.
+	 *
+	 * @param start First index in the range.
+	 * @param end One past the last index in the range.
+	 * @param minBlock The minimum number of indexes in a block.
+	 * @param task Processes a block.
+	 */
+	public static void loopBlocks( int start , int end , int minBlock , IntRangeTask task ) {
+		loopBlocks(start, end, minBlock, task, null);
+	}
+
+	/**
+	 * Splits the range into blocks and processes them concurrently.  An additional task, which does not
+	 * write to the same memory as any of the blocks, is run at the same time.  Typically used to
+	 * process the image border while the inner image is processed.
+	 *
+	 * @param start First index in the range.
+	 * @param end One past the last index in the range.
+	 * @param task Processes a block.
+	 * @param concurrent Additional task which is run at the same time as the blocks.  Can be null.
+	 */
+	public static void loopBlocks( int start , int end , IntRangeTask task , Runnable concurrent ) {
+		loopBlocks(start, end, 1, task, concurrent);
+	}
+
+	/**
+	 * Splits the range into blocks and processes them concurrently.  See other functions for a description
+	 * of each parameter.
+	 */
+	public static void loopBlocks( int start , int end , int minBlock ,
+								   IntRangeTask task , Runnable concurrent ) {
+		if( minBlock < 1 )
+			throw new IllegalArgumentException("minBlock must be at least one");
+
+		int threads = getMaxThreads();
+		int length = Math.max(0,end-start);
+		int numBlocks = length == 0 ? 0 : Math.min(threads, Math.max(1,length/minBlock));
+		int numTasks = numBlocks + (concurrent == null ? 0 : 1);
+
+		if( threads == 1 || numTasks <= 1 || insidePool.get() != null ) {
+			if( numBlocks > 0 )
+				task.run(start, end);
+			if( concurrent != null )
+				concurrent.run();
+			return;
+		}
+
+		// the pool can't be shut down until all the tasks have been submitted
+		ExecutorService pool = acquirePool();
+		List<Future<?>> futures = new ArrayList<Future<?>>();
+		try {
+			for( int i = 1; i < numBlocks; i++ ) {
+				futures.add(pool.submit(new RangeRunner(task,blockIndex(start,length,numBlocks,i),
+						blockIndex(start,length,numBlocks,i+1))));
+			}
+			if( concurrent != null )
+				futures.add(pool.submit(concurrent));
+		} finally {
+			releasePool(pool);
+		}
+
+		try {
+			if( numBlocks > 0 )
+				task.run(start, blockIndex(start,length,numBlocks,1));
+		} finally {
+			waitForAll(futures);
+		}
+	}
+
+	/**
+	 * Index at which the specified block begins.  Blocks are assigned deterministically.
+	 */
+	private static int blockIndex( int start , int length , int numBlocks , int block ) {
+		return start + (int)((long)length*block/numBlocks);
+	}
+
+	private static void waitForAll( List<Future<?>> futures ) {
+		Throwable failure = null;
+		for( Future<?> f : futures ) {
+			try {
+				f.get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				if( failure == null )
+					failure = e;
+			} catch (ExecutionException e) {
+				if( failure == null )
+					failure = e.getCause();
+			}
+		}
+
+		if( failure == null )
+			return;
+		if( failure instanceof RuntimeException )
+			throw (RuntimeException)failure;
+		if( failure instanceof Error )
+			throw (Error)failure;
+		throw new RuntimeException(failure);
+	}
+
+	/**
+	 * Returns the current pool and marks it as being used.  Must be followed by a call to {@link #releasePool}.
+	 */
+	private static synchronized ExecutorService acquirePool() {
+		ExecutorService pool = getPool();
+		Integer users = poolUsers.get(pool);
+		poolUsers.put(pool, users == null ? 1 : users+1);
+		return pool;
+	}
+
+	/**
+	 * Marks the pool as no longer being used by the calling thread.  If the pool has been retired and nothing
+	 * else is using it then it is shut down.  Tasks which have already been submitted will still be run.
+	 */
+	private static synchronized void releasePool( ExecutorService released ) {
+		int users = poolUsers.get(released)-1;
+		if( users > 0 ) {
+			poolUsers.put(released,users);
+		} else {
+			poolUsers.remove(released);
+			if( released != pool )
+				released.shutdown();
+		}
+	}
+
+	private static synchronized ExecutorService getPool() {
+		if( pool == null ) {
+			pool = Executors.newFixedThreadPool(maxThreads, new ThreadFactory() {
+				int count = 0;
+
+				@Override
+				public Thread newThread(final Runnable r) {
+					Thread t = new Thread(new Runnable() {
+						@Override
+						public void run() {
+							insidePool.set(Boolean.TRUE);
+							r.run();
+						}
+					},"BoofCV-worker-"+(count++));
+					t.setDaemon(true);
+					return t;
+				}
+			});
+		}
+		return pool;
+	}
+
+	private static class RangeRunner implements Runnable {
+		IntRangeTask task;
+		int index0,index1;
+
+		private RangeRunner(IntRangeTask task, int index0, int index1) {
+			this.task = task;
+			this.index0 = index0;
+			this.index1 = index1;
+		}
+
+		@Override
+		public void run() {
+			task.run(index0,index1);
+		}
+	}
+}
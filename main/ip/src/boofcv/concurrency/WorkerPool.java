@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.concurrency;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>
+ * Recycled storage and algorithms for blocks which are processed at the same time, e.g. by
+ * {@link BoofConcurrency#loopBlocks}.  Each block claims its own worker and no two blocks get the same
+ * worker until the pool is reset.  Workers are created on demand by {@link #createWorker()} and are
+ * kept for the next time the pool is used.
+ * </p>
+ *
+ * <p>
+ * {@link #reset()} must not be called while blocks are still claiming workers.  If two threads can
+ * process with the same owner at the same time then each call must use its own pool.
+ * </p>
+ *
+ * @param <T> Type of worker
+ *
+ * @author Peter Abeles
+ */
+public abstract class WorkerPool<T> {
+
+	// every worker which has been created
+	private final List<T> workers = new ArrayList<T>();
+	// number of elements in workers which have been claimed since the last reset
+	private int used;
+
+	/**
+	 * Makes all the workers available again.
+	 */
+	public synchronized void reset() {
+		used = 0;
+	}
+
+	/**
+	 * Returns a worker which hasn't been claimed since the last reset.  A new one is created if needed.
+	 */
+	public synchronized T claim() {
+		if( used == workers.size() )
+			workers.add(createWorker());
+		return workers.get(used++);
+	}
+
+	/**
+	 * Number of workers which have been claimed since the last reset.
+	 */
+	public synchronized int getClaimed() {
+		return used;
+	}
+
+	/**
+	 * Returns a worker which has been claimed since the last reset.
+	 *
+	 * @param index Index of the worker, from 0 to {@link #getClaimed()}-1.
+	 */
+	public synchronized T getClaimed( int index ) {
+		if( index < 0 || index >= used )
+			throw new IllegalArgumentException("Index out of range: "+index);
+		return workers.get(index);
+	}
+
+	/**
+	 * Creates a new worker.  Called while the pool is locked.
+	 */
+	protected abstract T createWorker();
+}
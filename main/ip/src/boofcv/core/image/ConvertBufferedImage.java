@@ -18,9 +18,12 @@
 
 package boofcv.core.image;
 
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.concurrency.IntRangeTask;
 import boofcv.struct.image.*;
 import sun.awt.image.ByteInterleavedRaster;
 import sun.awt.image.IntegerInterleavedRaster;
+import sun.awt.image.ShortInterleavedRaster;
 
 import javax.swing.*;
 import java.awt.*;
@@ -35,6 +38,9 @@ import java.lang.reflect.Array;
  */
 public class ConvertBufferedImage {
 
+	// minimum number of rows processed by each thread in the concurrent functions
+	private static final int MIN_BLOCK_ROWS = 32;
+
 	/**
 	 * For BufferedImage stored as a byte array internally it extracts an
 	 * interlaced image.  The input image and the returned image will both
@@ -196,11 +202,40 @@ public class ConvertBufferedImage {
 		} else if( dst instanceof MultiSpectral ) {
 			MultiSpectral ms = (MultiSpectral)dst;
 			convertFromMulti(src,ms,ms.getType());
+		} else if( dst instanceof ImageInterleavedInt8 ) {
+			convertFrom(src, (ImageInterleavedInt8) dst);
 		} else {
 			throw new IllegalArgumentException("Unknown type " + dst.getClass().getSimpleName());
 		}
 	}
 
+	/**
+	 * Converts a buffered image into an image of the specified type.  If concurrent is true then the
+	 * image is split into bands of rows which are converted at the same time.
+	 *
+	 * @param src Input BufferedImage which is to be converted
+	 * @param dst The image which it is being converted into.  Must have the same shape as src.
+	 * @param concurrent If true the conversion is done using multiple threads.
+	 */
+	public static <T extends ImageBase> void convertFrom(final BufferedImage src, final T dst , boolean concurrent ) {
+		if( !concurrent ) {
+			convertFrom(src, dst);
+			return;
+		}
+
+		if (src.getWidth() != dst.getWidth() || src.getHeight() != dst.getHeight()) {
+			throw new IllegalArgumentException("image dimension are different");
+		}
+
+		final int width = src.getWidth();
+		BoofConcurrency.loopBlocks(0, src.getHeight(), MIN_BLOCK_ROWS, new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				convertFrom(src.getSubimage(0, y0, width, y1 - y0), dst.subimage(0, y0, width, y1));
+			}
+		});
+	}
+
 	/**
 	 * Converts a buffered image into an image of the specified type.  In a 'dst' image is provided
 	 * it will be used for output, otherwise a new image will be created.
@@ -238,6 +273,8 @@ public class ConvertBufferedImage {
 				ConvertRaster.bufferedToGray((ByteInterleavedRaster) src.getRaster(), dst);
 			} else if (src.getRaster() instanceof IntegerInterleavedRaster) {
 				ConvertRaster.bufferedToGray((IntegerInterleavedRaster) src.getRaster(), dst);
+			} else if (isShortGray(src)) {
+				ConvertRaster.bufferedToGray((ShortInterleavedRaster) src.getRaster(), dst);
 			} else {
 				ConvertRaster.bufferedToGray(src, dst);
 			}
@@ -272,6 +309,8 @@ public class ConvertBufferedImage {
 				ConvertRaster.bufferedToGray((ByteInterleavedRaster) src.getRaster(), dst);
 			} else if (src.getRaster() instanceof IntegerInterleavedRaster) {
 				ConvertRaster.bufferedToGray((IntegerInterleavedRaster) src.getRaster(), dst);
+			} else if (isShortGray(src)) {
+				ConvertRaster.bufferedToGray((ShortInterleavedRaster) src.getRaster(), dst);
 			} else {
 				ConvertRaster.bufferedToGray(src, dst);
 			}
@@ -283,6 +322,61 @@ public class ConvertBufferedImage {
 		return dst;
 	}
 
+	/**
+	 * Converts the buffered image into an {@link boofcv.struct.image.ImageInterleavedInt8}.  When the
+	 * BufferedImage's raster can be accessed the bands are in the same order as the raster, e.g. B,G,R for
+	 * TYPE_3BYTE_BGR or A,R,G,B for TYPE_INT_ARGB.  Otherwise they are in R,G,B order.
+	 *
+	 * @param src Input image.
+	 * @param dst Where the converted image is written to.  If null a new image is created.
+	 * @return Converted image.
+	 */
+	public static ImageInterleavedInt8 convertFrom(BufferedImage src, ImageInterleavedInt8 dst) {
+		try {
+			WritableRaster raster = src.getRaster();
+
+			boolean byteRaster = raster instanceof ByteInterleavedRaster &&
+					src.getType() != BufferedImage.TYPE_BYTE_INDEXED;
+			boolean intRaster = raster instanceof IntegerInterleavedRaster;
+
+			int numBands;
+			if( byteRaster || intRaster )
+				numBands = raster.getNumBands();
+			else
+				numBands = src.getColorModel().hasAlpha() ? 4 : 3;
+
+			dst = checkInterleaved(src, dst, numBands);
+
+			if( byteRaster ) {
+				ConvertRaster.bufferedToInterleaved((ByteInterleavedRaster) raster, dst);
+			} else if( intRaster ) {
+				ConvertRaster.bufferedToInterleaved((IntegerInterleavedRaster) raster, dst);
+			} else {
+				ConvertRaster.bufferedToInterleaved(src, dst);
+			}
+		} catch( java.security.AccessControlException e) {
+			// Applets don't allow access to the raster()
+			dst = checkInterleaved(src, dst, 3);
+			ConvertRaster.bufferedToInterleaved(src, dst);
+		}
+
+		return dst;
+	}
+
+	/**
+	 * If null a new image is declared, otherwise it checks to see if the 'dst' has the same shape as 'src'.
+	 */
+	private static ImageInterleavedInt8 checkInterleaved(BufferedImage src, ImageInterleavedInt8 dst, int numBands) {
+		if (dst == null)
+			return new ImageInterleavedInt8(src.getWidth(), src.getHeight(), numBands);
+
+		if (src.getWidth() != dst.getWidth() || src.getHeight() != dst.getHeight())
+			throw new IllegalArgumentException("image dimension are different");
+		if (dst.getNumBands() != numBands)
+			throw new IllegalArgumentException("Expected "+numBands+" bands in dst not "+dst.getNumBands());
+		return dst;
+	}
+
 	/**
 	 * Converts the buffered image into an {@link boofcv.struct.image.MultiSpectral} image of the specified
 	 * type. 
@@ -320,12 +414,15 @@ public class ConvertBufferedImage {
 						src.getType() != BufferedImage.TYPE_BYTE_INDEXED ) {
 					if( src.getType() == BufferedImage.TYPE_BYTE_GRAY)  {
 						for( int i = 0; i < dst.getNumBands(); i++ )
-							ConvertRaster.bufferedToGray(src, ((MultiSpectral<ImageUInt8>) dst).getBand(i));
+							ConvertRaster.bufferedToGray((ByteInterleavedRaster) src.getRaster(), ((MultiSpectral<ImageUInt8>)dst).getBand(i));
 					} else {
 						ConvertRaster.bufferedToMulti_U8((ByteInterleavedRaster) src.getRaster(), (MultiSpectral<ImageUInt8>)dst);
 					}
 				} else if (src.getRaster() instanceof IntegerInterleavedRaster) {
 					ConvertRaster.bufferedToMulti_U8((IntegerInterleavedRaster) src.getRaster(), (MultiSpectral<ImageUInt8>)dst);
+				} else if (isShortGray(src)) {
+					for( int i = 0; i < dst.getNumBands(); i++ )
+						ConvertRaster.bufferedToGray((ShortInterleavedRaster) src.getRaster(), ((MultiSpectral<ImageUInt8>)dst).getBand(i));
 				} else {
 					ConvertRaster.bufferedToMulti_U8(src, (MultiSpectral<ImageUInt8>)dst);
 				}
@@ -334,12 +431,15 @@ public class ConvertBufferedImage {
 						src.getType() != BufferedImage.TYPE_BYTE_INDEXED  ) {
 					if( src.getType() == BufferedImage.TYPE_BYTE_GRAY)  {
 						for( int i = 0; i < dst.getNumBands(); i++ )
-							ConvertRaster.bufferedToGray(src,((MultiSpectral<ImageFloat32>)dst).getBand(i));
+							ConvertRaster.bufferedToGray((ByteInterleavedRaster) src.getRaster(), ((MultiSpectral<ImageFloat32>)dst).getBand(i));
 					} else {
 						ConvertRaster.bufferedToMulti_F32((ByteInterleavedRaster) src.getRaster(), (MultiSpectral<ImageFloat32>)dst);
 					}
 				} else if (src.getRaster() instanceof IntegerInterleavedRaster) {
 					ConvertRaster.bufferedToMulti_F32((IntegerInterleavedRaster) src.getRaster(), (MultiSpectral<ImageFloat32>)dst);
+				} else if (isShortGray(src)) {
+					for( int i = 0; i < dst.getNumBands(); i++ )
+						ConvertRaster.bufferedToGray((ShortInterleavedRaster) src.getRaster(), ((MultiSpectral<ImageFloat32>)dst).getBand(i));
 				} else {
 					ConvertRaster.bufferedToMulti_F32(src, (MultiSpectral<ImageFloat32>)dst);
 				}
@@ -389,11 +489,43 @@ public class ConvertBufferedImage {
 			} else {
 				throw new IllegalArgumentException("MultiSpectral type is not yet supported: "+ ms.getType().getSimpleName());
 			}
+		} else if( src instanceof ImageInterleavedInt8 ) {
+			return convertTo((ImageInterleavedInt8)src,dst);
 		}
 
 		throw new IllegalArgumentException("Image type is not yet supported: "+src.getClass().getSimpleName());
 	}
 
+	/**
+	 * Converts an image into a BufferedImage.  If concurrent is true then the image is split into bands of rows
+	 * which are converted at the same time.
+	 *
+	 * @param src Input image.
+	 * @param dst Where the converted image is written to.  If null a new image is created.
+	 * @param concurrent If true the conversion is done using multiple threads.
+	 * @return Converted image.
+	 */
+	public static BufferedImage convertTo( final ImageBase src, BufferedImage dst , boolean concurrent ) {
+		if( !concurrent )
+			return convertTo(src, dst);
+
+		if( src instanceof ImageInterleavedInt8 )
+			dst = checkInputs(src, dst, ((ImageInterleavedInt8) src).getNumBands());
+		else
+			dst = checkInputs(src, dst);
+
+		final BufferedImage output = dst;
+		final int width = src.getWidth();
+		BoofConcurrency.loopBlocks(0, src.getHeight(), MIN_BLOCK_ROWS, new IntRangeTask() {
+			@Override
+			public void run(int y0, int y1) {
+				convertTo(src.subimage(0, y0, width, y1), output.getSubimage(0, y0, width, y1 - y0));
+			}
+		});
+
+		return dst;
+	}
+
 	/**
 	 * Converts a {@link boofcv.struct.image.ImageUInt8} into a BufferedImage.  If the buffered image
 	 * has multiple channels the intensities of each channel are averaged together.
@@ -411,11 +543,12 @@ public class ConvertBufferedImage {
 				ConvertRaster.grayToBuffered(src, (ByteInterleavedRaster) dst.getRaster());
 			} else if (dst.getRaster() instanceof IntegerInterleavedRaster) {
 				ConvertRaster.grayToBuffered(src, (IntegerInterleavedRaster) dst.getRaster());
+			} else if (isShortGray(dst)) {
+				ConvertRaster.grayToBuffered(src, (ShortInterleavedRaster) dst.getRaster());
 			} else {
 				ConvertRaster.grayToBuffered(src, dst);
 			}
-			// hack so that it knows the buffer has been modified
-			dst.setRGB(0,0,dst.getRGB(0,0));
+			markModified(dst);
 		} catch( java.security.AccessControlException e) {
 			ConvertRaster.grayToBuffered(src, dst);
 		}
@@ -443,8 +576,7 @@ public class ConvertBufferedImage {
 			} else {
 				ConvertRaster.grayToBuffered(src, dst);
 			}
-			// hack so that it knows the buffer has been modified
-			dst.setRGB(0,0,dst.getRGB(0,0));
+			markModified(dst);
 		} catch( java.security.AccessControlException e) {
 			ConvertRaster.grayToBuffered(src, dst);
 		}
@@ -470,11 +602,12 @@ public class ConvertBufferedImage {
 				ConvertRaster.grayToBuffered(src, (ByteInterleavedRaster) dst.getRaster());
 			} else if (dst.getRaster() instanceof IntegerInterleavedRaster) {
 				ConvertRaster.grayToBuffered(src, (IntegerInterleavedRaster) dst.getRaster());
+			} else if (isShortGray(dst)) {
+				ConvertRaster.grayToBuffered(src, (ShortInterleavedRaster) dst.getRaster());
 			} else {
 				ConvertRaster.grayToBuffered(src, dst);
 			}
-			// hack so that it knows the buffer has been modified
-			dst.setRGB(0,0,dst.getRGB(0,0));
+			markModified(dst);
 		} catch( java.security.AccessControlException e) {
 			ConvertRaster.grayToBuffered(src, dst);
 		}
@@ -499,11 +632,12 @@ public class ConvertBufferedImage {
 				ConvertRaster.multToBuffered_U8(src, (ByteInterleavedRaster) dst.getRaster());
 			} else if (dst.getRaster() instanceof IntegerInterleavedRaster) {
 				ConvertRaster.multToBuffered_U8(src, (IntegerInterleavedRaster) dst.getRaster());
+			} else if (isShortGray(dst) && src.getNumBands() == 1) {
+				ConvertRaster.grayToBuffered(src.getBand(0), (ShortInterleavedRaster) dst.getRaster());
 			} else {
 				ConvertRaster.multToBuffered_U8(src, dst);
 			}
-			// hack so that it knows the buffer has been modified
-			dst.setRGB(0,0,dst.getRGB(0,0));
+			markModified(dst);
 		} catch( java.security.AccessControlException e) {
 			ConvertRaster.multToBuffered_U8(src, dst);
 		}
@@ -528,27 +662,72 @@ public class ConvertBufferedImage {
 				ConvertRaster.multToBuffered_F32(src, (ByteInterleavedRaster) dst.getRaster());
 			} else if (dst.getRaster() instanceof IntegerInterleavedRaster) {
 				ConvertRaster.multToBuffered_F32(src, (IntegerInterleavedRaster) dst.getRaster());
+			} else if (isShortGray(dst) && src.getNumBands() == 1) {
+				ConvertRaster.grayToBuffered(src.getBand(0), (ShortInterleavedRaster) dst.getRaster());
 			} else {
 				ConvertRaster.multToBuffered_F32(src, dst);
 			}
-			// hack so that it knows the buffer has been modified
-			dst.setRGB(0,0,dst.getRGB(0,0));
+			markModified(dst);
 		} catch( java.security.AccessControlException e) {
 			ConvertRaster.multToBuffered_F32(src, dst);
 		}
 
 		return dst;
 	}
+
+	/**
+	 * Converts a {@link boofcv.struct.image.ImageInterleavedInt8} into a BufferedImage.  The bands are
+	 * assumed to be in the same order as the BufferedImage's raster, see {@link #convertFrom(BufferedImage, ImageInterleavedInt8)}.
+	 *
+	 * @param src Input image.
+	 * @param dst Where the converted image is written to.  If null a new image is created.
+	 * @return Converted image.
+	 */
+	public static BufferedImage convertTo(ImageInterleavedInt8 src, BufferedImage dst) {
+		dst = checkInputs(src, dst, src.getNumBands());
+
+		try {
+			if (dst.getRaster() instanceof ByteInterleavedRaster &&
+					dst.getType() != BufferedImage.TYPE_BYTE_INDEXED ) {
+				ConvertRaster.interleavedToBuffered(src, (ByteInterleavedRaster) dst.getRaster());
+			} else if (dst.getRaster() instanceof IntegerInterleavedRaster) {
+				ConvertRaster.interleavedToBuffered(src, (IntegerInterleavedRaster) dst.getRaster());
+			} else {
+				ConvertRaster.interleavedToBuffered(src, dst);
+			}
+			markModified(dst);
+		} catch( java.security.AccessControlException e) {
+			ConvertRaster.interleavedToBuffered(src, dst);
+		}
+
+		return dst;
+	}
+
 	/**
 	 * If null the dst is declared, otherwise it checks to see if the 'dst' as the same shape as 'src'.
 	 */
 	public static BufferedImage checkInputs(ImageBase src, BufferedImage dst) {
+		return checkInputs(src, dst, 3);
+	}
+
+	/**
+	 * If null the dst is declared, otherwise it checks to see if the 'dst' as the same shape as 'src'.  A new
+	 * image will be of type TYPE_BYTE_GRAY, TYPE_3BYTE_BGR, or TYPE_4BYTE_ABGR depending on the number of bands.
+	 */
+	public static BufferedImage checkInputs(ImageBase src, BufferedImage dst, int numBands) {
 		if (dst != null) {
 			if (dst.getWidth() != src.getWidth() || dst.getHeight() != src.getHeight()) {
 				throw new IllegalArgumentException("image dimension are different");
 			}
 		} else {
-			dst = new BufferedImage(src.getWidth(), src.getHeight(), BufferedImage.TYPE_3BYTE_BGR);
+			int type;
+			if( numBands == 1 )
+				type = BufferedImage.TYPE_BYTE_GRAY;
+			else if( numBands == 4 )
+				type = BufferedImage.TYPE_4BYTE_ABGR;
+			else
+				type = BufferedImage.TYPE_3BYTE_BGR;
+			dst = new BufferedImage(src.getWidth(), src.getHeight(), type);
 		}
 		return dst;
 	}
@@ -612,6 +791,23 @@ public class ConvertBufferedImage {
 		}
 	}
 
+	/**
+	 * Hack so that the BufferedImage knows its buffer has been modified.  The raw pixel value is written
+	 * back instead of using get/setRGB(), which would alter gray scale images.
+	 */
+	private static void markModified( BufferedImage img ) {
+		WritableRaster raster = img.getRaster();
+		raster.setDataElements(0, 0, raster.getDataElements(0, 0, null));
+	}
+
+	/**
+	 * True if the image is a single band 16-bit image whose raster can be accessed directly.
+	 */
+	private static boolean isShortGray( BufferedImage img ) {
+		WritableRaster raster = img.getRaster();
+		return raster instanceof ShortInterleavedRaster && raster.getNumBands() == 1;
+	}
+
 	/**
 	 * Checks to see if the input image is a subImage().
 	 * @param img
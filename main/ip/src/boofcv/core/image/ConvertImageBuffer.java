@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.core.image;
+
+import boofcv.alg.InputSanityCheck;
+import boofcv.struct.image.ImageBufferFloat32;
+import boofcv.struct.image.ImageBufferUInt8;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageUInt8;
+
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+
+/**
+ * <p>
+ * Functions for converting between buffer images and between buffer images and array images.  Conversions
+ * follow the same rules as {@link ConvertImage}.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ConvertImageBuffer {
+
+	/**
+	 * Copies the pixels from an array image into a buffer image.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void copy( ImageUInt8 input , ImageBufferUInt8 output ) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		ByteBuffer dst = output.data.duplicate();
+		for( int y = 0; y < input.height; y++ ) {
+			dst.position(output.startIndex + y*output.stride);
+			dst.put(input.data, input.startIndex + y*input.stride, input.width);
+		}
+	}
+
+	/**
+	 * Copies the pixels from a buffer image into an array image.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void copy( ImageBufferUInt8 input , ImageUInt8 output ) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		ByteBuffer src = input.data.duplicate();
+		for( int y = 0; y < input.height; y++ ) {
+			src.position(input.startIndex + y*input.stride);
+			src.get(output.data, output.startIndex + y*output.stride, input.width);
+		}
+	}
+
+	/**
+	 * Copies the pixels from an array image into a buffer image.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void copy( ImageFloat32 input , ImageBufferFloat32 output ) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		FloatBuffer dst = output.data.duplicate();
+		for( int y = 0; y < input.height; y++ ) {
+			dst.position(output.startIndex + y*output.stride);
+			dst.put(input.data, input.startIndex + y*input.stride, input.width);
+		}
+	}
+
+	/**
+	 * Copies the pixels from a buffer image into an array image.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void copy( ImageBufferFloat32 input , ImageFloat32 output ) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		FloatBuffer src = input.data.duplicate();
+		for( int y = 0; y < input.height; y++ ) {
+			src.position(input.startIndex + y*input.stride);
+			src.get(output.data, output.startIndex + y*output.stride, input.width);
+		}
+	}
+
+	/**
+	 * Converts a buffer image into a float image.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void convert( ImageBufferUInt8 input , ImageBufferFloat32 output ) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		final ByteBuffer src = input.data;
+		final FloatBuffer dst = output.data;
+
+		for( int y = 0; y < input.height; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
+			int end = indexSrc + input.width;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++ ) {
+				dst.put(indexDst, src.get(indexSrc) & 0xFF);
+			}
+		}
+	}
+
+	/**
+	 * Converts a buffer image into a float image.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void convert( ImageBufferUInt8 input , ImageFloat32 output ) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		final ByteBuffer src = input.data;
+		final float dst[] = output.data;
+
+		for( int y = 0; y < input.height; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
+			int end = indexSrc + input.width;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++ ) {
+				dst[indexDst] = src.get(indexSrc) & 0xFF;
+			}
+		}
+	}
+
+	/**
+	 * Converts a float buffer image into an 8-bit buffer image.  Values are typecast.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void convert( ImageBufferFloat32 input , ImageBufferUInt8 output ) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		final FloatBuffer src = input.data;
+		final ByteBuffer dst = output.data;
+
+		for( int y = 0; y < input.height; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
+			int end = indexSrc + input.width;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++ ) {
+				dst.put(indexDst, (byte)src.get(indexSrc));
+			}
+		}
+	}
+
+	/**
+	 * Converts a float buffer image into an 8-bit image.  Values are typecast.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void convert( ImageBufferFloat32 input , ImageUInt8 output ) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		final FloatBuffer src = input.data;
+		final byte dst[] = output.data;
+
+		for( int y = 0; y < input.height; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
+			int end = indexSrc + input.width;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++ ) {
+				dst[indexDst] = (byte)src.get(indexSrc);
+			}
+		}
+	}
+}
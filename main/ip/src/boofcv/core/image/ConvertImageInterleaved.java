@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.core.image;
+
+import boofcv.alg.InputSanityCheck;
+import boofcv.struct.image.*;
+
+/**
+ * <p>
+ * Functions for converting interleaved images to and from other image types.  Conversions
+ * follow the same rules as {@link ConvertImage} and {@link ImageInterleavedInt8} is treated as unsigned.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ConvertImageInterleaved {
+
+	/**
+	 * Converts an 8-bit interleaved image into a float interleaved image.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void convert( ImageInterleavedInt8 input , ImageInterleavedFloat32 output ) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		for( int y = 0; y < input.height; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
+			int end = indexSrc + input.width*input.numBands;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++ ) {
+				output.data[indexDst] = input.data[indexSrc] & 0xFF;
+			}
+		}
+	}
+
+	/**
+	 * Converts a float interleaved image into an 8-bit interleaved image.  Values are typecast.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void convert( ImageInterleavedFloat32 input , ImageInterleavedInt8 output ) {
+		InputSanityCheck.checkSameShape(input, output);
+
+		for( int y = 0; y < input.height; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
+			int end = indexSrc + input.width*input.numBands;
+
+			for( ; indexSrc < end; indexSrc++ , indexDst++ ) {
+				output.data[indexDst] = (byte)input.data[indexSrc];
+			}
+		}
+	}
+
+	/**
+	 * Converts an interleaved image into a {@link MultiSpectral} image by copying each band into its own image.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void convert( ImageInterleavedInt8 input , MultiSpectral<ImageUInt8> output ) {
+		checkBands(input, output);
+
+		final int numBands = input.numBands;
+		for( int band = 0; band < numBands; band++ ) {
+			ImageUInt8 b = output.getBand(band);
+
+			for( int y = 0; y < input.height; y++ ) {
+				int indexSrc = input.startIndex + y*input.stride + band;
+				int indexDst = b.startIndex + y*b.stride;
+				int end = indexDst + input.width;
+
+				for( ; indexDst < end; indexDst++ , indexSrc += numBands ) {
+					b.data[indexDst] = input.data[indexSrc];
+				}
+			}
+		}
+	}
+
+	/**
+	 * Converts a {@link MultiSpectral} image into an interleaved image by copying each band into the interleaved
+	 * pixels.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void convert( MultiSpectral<ImageUInt8> input , ImageInterleavedInt8 output ) {
+		checkBands(output, input);
+
+		final int numBands = output.numBands;
+		for( int band = 0; band < numBands; band++ ) {
+			ImageUInt8 b = input.getBand(band);
+
+			for( int y = 0; y < input.height; y++ ) {
+				int indexSrc = b.startIndex + y*b.stride;
+				int indexDst = output.startIndex + y*output.stride + band;
+				int end = indexSrc + input.width;
+
+				for( ; indexSrc < end; indexSrc++ , indexDst += numBands ) {
+					output.data[indexDst] = b.data[indexSrc];
+				}
+			}
+		}
+	}
+
+	/**
+	 * Converts an interleaved image into a single band image by computing the average value of each pixel
+	 * across all the bands.  Produces the same output as {@link ConvertImage#average(MultiSpectral, ImageUInt8)}.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output (Optional) The single band output image.  If null a new image is created. Modified.
+	 * @return Converted image.
+	 */
+	public static ImageUInt8 average( ImageInterleavedInt8 input , ImageUInt8 output ) {
+		if (output == null) {
+			output = new ImageUInt8(input.width, input.height);
+		} else {
+			InputSanityCheck.checkSameShape(input, output);
+		}
+
+		final int numBands = input.numBands;
+
+		for( int y = 0; y < input.height; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
+			int end = indexDst + input.width;
+
+			for( ; indexDst < end; indexDst++ ) {
+				int sum = 0;
+				for( int band = 0; band < numBands; band++ ) {
+					sum += input.data[indexSrc++] & 0xFF;
+				}
+				output.data[indexDst] = (byte)(sum/numBands);
+			}
+		}
+
+		return output;
+	}
+
+	/**
+	 * Converts an interleaved image into a {@link MultiSpectral} image by copying each band into its own image.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void convert( ImageInterleavedFloat32 input , MultiSpectral<ImageFloat32> output ) {
+		checkBands(input, output);
+
+		final int numBands = input.numBands;
+		for( int band = 0; band < numBands; band++ ) {
+			ImageFloat32 b = output.getBand(band);
+
+			for( int y = 0; y < input.height; y++ ) {
+				int indexSrc = input.startIndex + y*input.stride + band;
+				int indexDst = b.startIndex + y*b.stride;
+				int end = indexDst + input.width;
+
+				for( ; indexDst < end; indexDst++ , indexSrc += numBands ) {
+					b.data[indexDst] = input.data[indexSrc];
+				}
+			}
+		}
+	}
+
+	/**
+	 * Converts a {@link MultiSpectral} image into an interleaved image by copying each band into the interleaved
+	 * pixels.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output Output image. Modified.
+	 */
+	public static void convert( MultiSpectral<ImageFloat32> input , ImageInterleavedFloat32 output ) {
+		checkBands(output, input);
+
+		final int numBands = output.numBands;
+		for( int band = 0; band < numBands; band++ ) {
+			ImageFloat32 b = input.getBand(band);
+
+			for( int y = 0; y < input.height; y++ ) {
+				int indexSrc = b.startIndex + y*b.stride;
+				int indexDst = output.startIndex + y*output.stride + band;
+				int end = indexSrc + input.width;
+
+				for( ; indexSrc < end; indexSrc++ , indexDst += numBands ) {
+					output.data[indexDst] = b.data[indexSrc];
+				}
+			}
+		}
+	}
+
+	/**
+	 * Converts an interleaved image into a single band image by computing the average value of each pixel
+	 * across all the bands.  Produces the same output as {@link ConvertImage#average(MultiSpectral, ImageFloat32)}.
+	 *
+	 * @param input Input image. Not modified.
+	 * @param output (Optional) The single band output image.  If null a new image is created. Modified.
+	 * @return Converted image.
+	 */
+	public static ImageFloat32 average( ImageInterleavedFloat32 input , ImageFloat32 output ) {
+		if (output == null) {
+			output = new ImageFloat32(input.width, input.height);
+		} else {
+			InputSanityCheck.checkSameShape(input, output);
+		}
+
+		final int numBands = input.numBands;
+
+		for( int y = 0; y < input.height; y++ ) {
+			int indexSrc = input.startIndex + y*input.stride;
+			int indexDst = output.startIndex + y*output.stride;
+			int end = indexDst + input.width;
+
+			for( ; indexDst < end; indexDst++ ) {
+				float sum = 0;
+				for( int band = 0; band < numBands; band++ ) {
+					sum += input.data[indexSrc++];
+				}
+				output.data[indexDst] = (sum/numBands);
+			}
+		}
+
+		return output;
+	}
+
+	private static void checkBands( ImageInterleaved interleaved , MultiSpectral multi ) {
+		InputSanityCheck.checkSameShape(interleaved, multi);
+		if( interleaved.getNumBands() != multi.getNumBands() )
+			throw new IllegalArgumentException("Number of bands do not match.");
+	}
+}
@@ -19,11 +19,13 @@
 package boofcv.core.image;
 
 import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageInterleavedInt8;
 import boofcv.struct.image.ImageSInt16;
 import boofcv.struct.image.ImageUInt8;
 import boofcv.struct.image.MultiSpectral;
 import sun.awt.image.ByteInterleavedRaster;
 import sun.awt.image.IntegerInterleavedRaster;
+import sun.awt.image.ShortInterleavedRaster;
 
 import java.awt.image.BufferedImage;
 import java.awt.image.WritableRaster;
@@ -359,23 +361,50 @@ public class ConvertRaster {
 		int srcOffset = src.getDataOffset(0)-src.getPixelStride()+1;
 		int srcStrideDiff = srcStride-src.getPixelStride()*dst.width;
 
-		byte[] data1 = dst.getBand(0).data;
-		byte[] data2 = dst.getBand(1).data;
-		byte[] data3 = dst.getBand(2).data;
+		int numBands = src.getNumBands();
 
-		int indexSrc = srcOffset;
-		for (int y = 0; y < dst.height; y++) {
-			int indexDst = dst.startIndex + y * dst.stride;
-			for (int x = 0; x < dst.width; x++, indexDst++) {
+		if (numBands == 3) {
+			byte[] data1 = dst.getBand(0).data;
+			byte[] data2 = dst.getBand(1).data;
+			byte[] data3 = dst.getBand(2).data;
 
-				int rgb = srcData[indexSrc++];
+			int indexSrc = srcOffset;
+			for (int y = 0; y < dst.height; y++) {
+				int indexDst = dst.startIndex + y * dst.stride;
+				for (int x = 0; x < dst.width; x++, indexDst++) {
+
+					int rgb = srcData[indexSrc++];
 
-				data1[indexDst] = (byte) (rgb >>> 16);
-				data2[indexDst] = (byte) (rgb >>> 8);
-				data3[indexDst] = (byte) rgb;
+					data1[indexDst] = (byte) (rgb >>> 16);
+					data2[indexDst] = (byte) (rgb >>> 8);
+					data3[indexDst] = (byte) rgb;
+				}
+
+				indexSrc += srcStrideDiff;
 			}
+		} else if (numBands == 4) {
+			byte[] data1 = dst.getBand(0).data;
+			byte[] data2 = dst.getBand(1).data;
+			byte[] data3 = dst.getBand(2).data;
+			byte[] data4 = dst.getBand(3).data;
 
-			indexSrc += srcStrideDiff;
+			int indexSrc = srcOffset;
+			for (int y = 0; y < dst.height; y++) {
+				int indexDst = dst.startIndex + y * dst.stride;
+				for (int x = 0; x < dst.width; x++, indexDst++) {
+
+					int argb = srcData[indexSrc++];
+
+					data1[indexDst] = (byte) (argb >>> 24);
+					data2[indexDst] = (byte) (argb >>> 16);
+					data3[indexDst] = (byte) (argb >>> 8);
+					data4[indexDst] = (byte) argb;
+				}
+
+				indexSrc += srcStrideDiff;
+			}
+		} else {
+			throw new RuntimeException("Code more here");
 		}
 	}
 
@@ -389,23 +418,166 @@ public class ConvertRaster {
 		int srcOffset = src.getDataOffset(0)-src.getPixelStride()+1;
 		int srcStrideDiff = srcStride-src.getPixelStride()*dst.width;
 
-		float[] data1 = dst.getBand(0).data;
-		float[] data2 = dst.getBand(1).data;
-		float[] data3 = dst.getBand(2).data;
+		int numBands = src.getNumBands();
+
+		if (numBands == 3) {
+			float[] data1 = dst.getBand(0).data;
+			float[] data2 = dst.getBand(1).data;
+			float[] data3 = dst.getBand(2).data;
+
+			int indexSrc = srcOffset;
+			for (int y = 0; y < dst.height; y++) {
+				int indexDst = dst.startIndex + y * dst.stride;
+				for (int x = 0; x < dst.width; x++, indexDst++) {
+
+					int rgb = srcData[indexSrc++];
+
+					data1[indexDst] = (rgb >>> 16) & 0xFF;
+					data2[indexDst] = (rgb >>> 8) & 0xFF;
+					data3[indexDst] = rgb & 0xFF;
+				}
+
+				indexSrc += srcStrideDiff;
+			}
+		} else if (numBands == 4) {
+			float[] data1 = dst.getBand(0).data;
+			float[] data2 = dst.getBand(1).data;
+			float[] data3 = dst.getBand(2).data;
+			float[] data4 = dst.getBand(3).data;
+
+			int indexSrc = srcOffset;
+			for (int y = 0; y < dst.height; y++) {
+				int indexDst = dst.startIndex + y * dst.stride;
+				for (int x = 0; x < dst.width; x++, indexDst++) {
+
+					int argb = srcData[indexSrc++];
+
+					data1[indexDst] = argb >>> 24;
+					data2[indexDst] = (argb >>> 16) & 0xFF;
+					data3[indexDst] = (argb >>> 8) & 0xFF;
+					data4[indexDst] = argb & 0xFF;
+				}
+
+				indexSrc += srcStrideDiff;
+			}
+		} else {
+			throw new RuntimeException("Code more here");
+		}
+	}
+
+	/**
+	 * A faster convert that works directly with a specific raster.  The 16-bit samples are scaled
+	 * down to 8-bits by discarding the lower byte.
+	 */
+	public static void bufferedToGray(ShortInterleavedRaster src, ImageUInt8 dst) {
+		if (src.getNumBands() != 1)
+			throw new IllegalArgumentException("Only single band short rasters are supported");
+
+		short[] srcData = src.getDataStorage();
+
+		byte[] data = dst.data;
+
+		int srcStride = src.getScanlineStride();
+		int srcOffset = src.getDataOffset(0)-src.getPixelStride()+1;
 
-		int indexSrc = srcOffset;
 		for (int y = 0; y < dst.height; y++) {
+			int indexSrc = srcOffset + y * srcStride;
 			int indexDst = dst.startIndex + y * dst.stride;
-			for (int x = 0; x < dst.width; x++, indexDst++) {
+			int indexDstEnd = indexDst + dst.width;
+			for (; indexDst < indexDstEnd; indexDst++) {
+				data[indexDst] = (byte) ((srcData[indexSrc++] & 0xFFFF) >>> 8);
+			}
+		}
+	}
 
-				int rgb = srcData[indexSrc++];
+	/**
+	 * A faster convert that works directly with a specific raster.  The 16-bit samples are scaled
+	 * to have a range from 0 to 255.
+	 */
+	public static void bufferedToGray(ShortInterleavedRaster src, ImageFloat32 dst) {
+		if (src.getNumBands() != 1)
+			throw new IllegalArgumentException("Only single band short rasters are supported");
 
-				data1[indexDst] = (rgb >>> 16) & 0xFF;
-				data2[indexDst] = (rgb >>> 8) & 0xFF;
-				data3[indexDst] = rgb & 0xFF;
+		short[] srcData = src.getDataStorage();
+
+		float[] data = dst.data;
+
+		int srcStride = src.getScanlineStride();
+		int srcOffset = src.getDataOffset(0)-src.getPixelStride()+1;
+
+		for (int y = 0; y < dst.height; y++) {
+			int indexSrc = srcOffset + y * srcStride;
+			int indexDst = dst.startIndex + y * dst.stride;
+			int indexDstEnd = indexDst + dst.width;
+			for (; indexDst < indexDstEnd; indexDst++) {
+				data[indexDst] = (srcData[indexSrc++] & 0xFFFF) / 257.0f;
 			}
+		}
+	}
 
-			indexSrc += srcStrideDiff;
+	/**
+	 * A faster convert that works directly with a specific raster.  Bands are copied in the same order
+	 * as they are stored inside the raster.
+	 */
+	public static void bufferedToInterleaved(ByteInterleavedRaster src, ImageInterleavedInt8 dst) {
+		if (src.getNumBands() != dst.numBands)
+			throw new IllegalArgumentException("Unequal number of bands src = " + src.getNumBands() + " dst = " + dst.numBands);
+
+		byte[] srcData = src.getDataStorage();
+
+		int srcStride = src.getScanlineStride();
+		int srcOffset = src.getDataOffset(0)-src.getPixelStride()+1;
+
+		int length = dst.width * dst.numBands;
+
+		for (int y = 0; y < dst.height; y++) {
+			System.arraycopy(srcData, srcOffset + y * srcStride, dst.data, dst.startIndex + y * dst.stride, length);
+		}
+	}
+
+	/**
+	 * A faster convert that works directly with a specific raster.  Bands are ordered from the most to
+	 * the least significant byte, e.g. R,G,B for TYPE_INT_RGB and A,R,G,B for TYPE_INT_ARGB.
+	 */
+	public static void bufferedToInterleaved(IntegerInterleavedRaster src, ImageInterleavedInt8 dst) {
+		int numBands = src.getNumBands();
+		if (numBands != dst.numBands)
+			throw new IllegalArgumentException("Unequal number of bands src = " + numBands + " dst = " + dst.numBands);
+
+		int[] srcData = src.getDataStorage();
+
+		byte[] data = dst.data;
+
+		int srcStride = src.getScanlineStride();
+		int srcOffset = src.getDataOffset(0)-src.getPixelStride()+1;
+
+		if (numBands == 3) {
+			for (int y = 0; y < dst.height; y++) {
+				int indexSrc = srcOffset + y * srcStride;
+				int indexDst = dst.startIndex + y * dst.stride;
+				for (int x = 0; x < dst.width; x++) {
+					int rgb = srcData[indexSrc++];
+
+					data[indexDst++] = (byte) (rgb >>> 16);
+					data[indexDst++] = (byte) (rgb >>> 8);
+					data[indexDst++] = (byte) rgb;
+				}
+			}
+		} else if (numBands == 4) {
+			for (int y = 0; y < dst.height; y++) {
+				int indexSrc = srcOffset + y * srcStride;
+				int indexDst = dst.startIndex + y * dst.stride;
+				for (int x = 0; x < dst.width; x++) {
+					int argb = srcData[indexSrc++];
+
+					data[indexDst++] = (byte) (argb >>> 24);
+					data[indexDst++] = (byte) (argb >>> 16);
+					data[indexDst++] = (byte) (argb >>> 8);
+					data[indexDst++] = (byte) argb;
+				}
+			}
+		} else {
+			throw new RuntimeException("Code more here");
 		}
 	}
 
@@ -588,18 +760,67 @@ public class ConvertRaster {
 		}
 	}
 
+	/**
+	 * <p>
+	 * Converts a buffered image into an interleaved image using the BufferedImage's RGB interface.  Bands
+	 * are written in R,G,B order, or A,R,G,B if the output has four bands.
+	 * </p>
+	 * <p>
+	 * This is much slower than working directly with the BufferedImage's internal raster and should be
+	 * avoided if possible.
+	 * </p>
+	 *
+	 * @param src Input image.
+	 * @param dst Output image.
+	 */
+	public static void bufferedToInterleaved(BufferedImage src, ImageInterleavedInt8 dst) {
+		final int width = src.getWidth();
+		final int height = src.getHeight();
+
+		byte[] data = dst.data;
+
+		if (dst.numBands == 3) {
+			for (int y = 0; y < height; y++) {
+				int index = dst.startIndex + y * dst.stride;
+				for (int x = 0; x < width; x++) {
+					int argb = src.getRGB(x, y);
+
+					data[index++] = (byte) (argb >>> 16);
+					data[index++] = (byte) (argb >>> 8);
+					data[index++] = (byte) argb;
+				}
+			}
+		} else if (dst.numBands == 4) {
+			for (int y = 0; y < height; y++) {
+				int index = dst.startIndex + y * dst.stride;
+				for (int x = 0; x < width; x++) {
+					int argb = src.getRGB(x, y);
+
+					data[index++] = (byte) (argb >>> 24);
+					data[index++] = (byte) (argb >>> 16);
+					data[index++] = (byte) (argb >>> 8);
+					data[index++] = (byte) argb;
+				}
+			}
+		} else {
+			throw new IllegalArgumentException("dst must have three or four bands");
+		}
+	}
+
 	public static void grayToBuffered(ImageUInt8 src, ByteInterleavedRaster dst) {
 
 		final byte[] srcData = src.data;
 		final byte[] dstData = dst.getDataStorage();
+		final int dstStride = dst.getScanlineStride();
+		final int dstOffset = dst.getDataOffset(0)-dst.getPixelStride()+1;
 
 		final int numBands = dst.getNumBands();
 
 		final int size = src.getWidth() * src.getHeight();
 
 		if (numBands == 3) {
-			int indexDst = 0;
 			for (int y = 0; y < src.height; y++) {
+				int indexDst = dstOffset + dstStride * y;
 				int indexSrc = src.startIndex + src.stride * y;
 				int indexSrcEnd = indexSrc + src.width;
 
@@ -612,19 +833,19 @@ public class ConvertRaster {
 				}
 			}
 		} else if (numBands == 1) {
-			if (src.startIndex == 0 && src.width == src.stride) {
+			if (src.startIndex == 0 && src.width == src.stride && dstOffset == 0 && dstStride == src.width) {
 				System.arraycopy(srcData, 0, dstData, 0, size);
 			} else {
 				for (int y = 0; y < src.height; y++) {
 					int indexSrc = src.startIndex + src.stride * y;
-					int indexDst = src.width * y;
+					int indexDst = dstOffset + dstStride * y;
 
 					System.arraycopy(srcData, indexSrc, dstData, indexDst, src.width);
 				}
 			}
 		} else if (numBands == 4) {
-			int indexDst = 0;
 			for (int y = 0; y < src.height; y++) {
+				int indexDst = dstOffset + dstStride * y;
 				int indexSrc = src.startIndex + src.stride * y;
 				int indexSrcEnd = indexSrc + src.width;
 
@@ -646,12 +867,14 @@ public class ConvertRaster {
 
 		final short[] srcData = src.data;
 		final byte[] dstData = dst.getDataStorage();
+		final int dstStride = dst.getScanlineStride();
+		final int dstOffset = dst.getDataOffset(0)-dst.getPixelStride()+1;
 
 		final int numBands = dst.getNumBands();
 
 		if (numBands == 3) {
-			int indexDst = 0;
 			for (int y = 0; y < src.height; y++) {
+				int indexDst = dstOffset + dstStride * y;
 				int indexSrc = src.startIndex + src.stride * y;
 				int indexSrcEnd = indexSrc + src.width;
 
@@ -664,8 +887,8 @@ public class ConvertRaster {
 				}
 			}
 		} else if (numBands == 1) {
-			int indexDst = 0;
 			for (int y = 0; y < src.height; y++) {
+				int indexDst = dstOffset + dstStride * y;
 				int indexSrc = src.startIndex + src.stride * y;
 				int indexSrcEnd = indexSrc + src.width;
 
@@ -674,8 +897,8 @@ public class ConvertRaster {
 				}
 			}
 		} else if (numBands == 4) {
-			int indexDst = 0;
 			for (int y = 0; y < src.height; y++) {
+				int indexDst = dstOffset + dstStride * y;
 				int indexSrc = src.startIndex + src.stride * y;
 				int indexSrcEnd = indexSrc + src.width;
 
@@ -697,12 +920,14 @@ public class ConvertRaster {
 
 		final float[] srcData = src.data;
 		final byte[] dstData = dst.getDataStorage();
+		final int dstStride = dst.getScanlineStride();
+		final int dstOffset = dst.getDataOffset(0)-dst.getPixelStride()+1;
 
 		final int numBands = dst.getNumBands();
 
 		if (numBands == 3) {
-			int indexDst = 0;
 			for (int y = 0; y < src.height; y++) {
+				int indexDst = dstOffset + dstStride * y;
 				int indexSrc = src.startIndex + src.stride * y;
 				int indexSrcEnd = indexSrc + src.width;
 
@@ -715,8 +940,8 @@ public class ConvertRaster {
 				}
 			}
 		} else if (numBands == 1) {
-			int indexDst = 0;
 			for (int y = 0; y < src.height; y++) {
+				int indexDst = dstOffset + dstStride * y;
 				int indexSrc = src.startIndex + src.stride * y;
 				int indexSrcEnd = indexSrc + src.width;
 
@@ -725,8 +950,8 @@ public class ConvertRaster {
 				}
 			}
 		} else if (numBands == 4) {
-			int indexDst = 0;
 			for (int y = 0; y < src.height; y++) {
+				int indexDst = dstOffset + dstStride * y;
 				int indexSrc = src.startIndex + src.stride * y;
 				int indexSrcEnd = indexSrc + src.width;
 
@@ -750,6 +975,8 @@ public class ConvertRaster {
 			throw new IllegalArgumentException("Unequal number of bands src = " + src.getNumBands() + " dst = " + dst.getNumBands());
 
 		final byte[] dstData = dst.getDataStorage();
+		final int dstStride = dst.getScanlineStride();
+		final int dstOffset = dst.getDataOffset(0)-dst.getPixelStride()+1;
 
 		final int numBands = dst.getNumBands();
 
@@ -758,8 +985,8 @@ public class ConvertRaster {
 			final byte[] band2 = src.getBand(1).data;
 			final byte[] band3 = src.getBand(2).data;
 
-			int indexDst = 0;
 			for (int y = 0; y < src.height; y++) {
+				int indexDst = dstOffset + dstStride * y;
 				int indexSrc = src.startIndex + src.stride * y;
 				int indexSrcEnd = indexSrc + src.width;
 
@@ -775,8 +1002,8 @@ public class ConvertRaster {
 				bands[i] = src.getBand(i).data;
 			}
 
-			int indexDst = 0;
 			for (int y = 0; y < src.height; y++) {
+				int indexDst = dstOffset + dstStride * y;
 				int indexSrc = src.startIndex + src.stride * y;
 				int indexSrcEnd = indexSrc + src.width;
 
@@ -794,6 +1021,8 @@ public class ConvertRaster {
 			throw new IllegalArgumentException("Unequal number of bands src = " + src.getNumBands() + " dst = " + dst.getNumBands());
 
 		final byte[] dstData = dst.getDataStorage();
+		final int dstStride = dst.getScanlineStride();
+		final int dstOffset = dst.getDataOffset(0)-dst.getPixelStride()+1;
 
 		final int numBands = dst.getNumBands();
 
@@ -802,8 +1031,8 @@ public class ConvertRaster {
 			final float[] band2 = src.getBand(1).data;
 			final float[] band3 = src.getBand(2).data;
 
-			int indexDst = 0;
 			for (int y = 0; y < src.height; y++) {
+				int indexDst = dstOffset + dstStride * y;
 				int indexSrc = src.startIndex + src.stride * y;
 				int indexSrcEnd = indexSrc + src.width;
 
@@ -819,8 +1048,8 @@ public class ConvertRaster {
 				bands[i] = src.getBand(i).data;
 			}
 
-			int indexDst = 0;
 			for (int y = 0; y < src.height; y++) {
+				int indexDst = dstOffset + dstStride * y;
 				int indexSrc = src.startIndex + src.stride * y;
 				int indexSrcEnd = indexSrc + src.width;
 
@@ -836,12 +1065,14 @@ public class ConvertRaster {
 
 		final byte[] srcData = src.data;
 		final int[] dstData = dst.getDataStorage();
+		final int dstStride = dst.getScanlineStride();
+		final int dstOffset = dst.getDataOffset(0)-dst.getPixelStride()+1;
 
 		final int numBands = dst.getNumBands();
 
 		if (numBands == 3) {
-			int indexDst = 0;
 			for (int y = 0; y < src.height; y++) {
+				int indexDst = dstOffset + dstStride * y;
 				int indexSrc = src.startIndex + y * src.stride;
 
 				for (int x = 0; x < src.width; x++) {
@@ -850,6 +1081,17 @@ public class ConvertRaster {
 					dstData[indexDst++] = v << 16 | v << 8 | v;
 				}
 			}
+		} else if (numBands == 4) {
+			for (int y = 0; y < src.height; y++) {
+				int indexDst = dstOffset + dstStride * y;
+				int indexSrc = src.startIndex + y * src.stride;
+
+				for (int x = 0; x < src.width; x++) {
+					int v = srcData[indexSrc++] & 0xFF;
+
+					dstData[indexDst++] = 0xFF << 24 | v << 16 | v << 8 | v;
+				}
+			}
 		} else {
 			throw new RuntimeException("Code more here");
 		}
@@ -858,12 +1100,14 @@ public class ConvertRaster {
 	public static void grayToBuffered(ImageSInt16 src, IntegerInterleavedRaster dst) {
 		final short[] srcData = src.data;
 		final int[] dstData = dst.getDataStorage();
+		final int dstStride = dst.getScanlineStride();
+		final int dstOffset = dst.getDataOffset(0)-dst.getPixelStride()+1;
 
 		final int numBands = dst.getNumBands();
 
 		if (numBands == 3) {
-			int indexDst = 0;
 			for (int y = 0; y < src.height; y++) {
+				int indexDst = dstOffset + dstStride * y;
 				int indexSrc = src.startIndex + y * src.stride;
 
 				for (int x = 0; x < src.width; x++) {
@@ -872,6 +1116,17 @@ public class ConvertRaster {
 					dstData[indexDst++] = v << 16 | v << 8 | v;
 				}
 			}
+		} else if (numBands == 4) {
+			for (int y = 0; y < src.height; y++) {
+				int indexDst = dstOffset + dstStride * y;
+				int indexSrc = src.startIndex + y * src.stride;
+
+				for (int x = 0; x < src.width; x++) {
+					int v = (int) srcData[indexSrc++];
+
+					dstData[indexDst++] = 0xFF << 24 | v << 16 | v << 8 | v;
+				}
+			}
 		} else {
 			throw new RuntimeException("Code more here");
 		}
@@ -880,12 +1135,14 @@ public class ConvertRaster {
 	public static void grayToBuffered(ImageFloat32 src, IntegerInterleavedRaster dst) {
 		final float[] srcData = src.data;
 		final int[] dstData = dst.getDataStorage();
+		final int dstStride = dst.getScanlineStride();
+		final int dstOffset = dst.getDataOffset(0)-dst.getPixelStride()+1;
 
 		final int numBands = dst.getNumBands();
 
 		if (numBands == 3) {
-			int indexDst = 0;
 			for (int y = 0; y < src.height; y++) {
+				int indexDst = dstOffset + dstStride * y;
 				int indexSrc = src.startIndex + y * src.stride;
 
 				for (int x = 0; x < src.width; x++) {
@@ -895,8 +1152,8 @@ public class ConvertRaster {
 				}
 			}
 		} else if (numBands == 4) {
-			int indexDst = 0;
 			for (int y = 0; y < src.height; y++) {
+				int indexDst = dstOffset + dstStride * y;
 				int indexSrc = src.startIndex + y * src.stride;
 
 				for (int x = 0; x < src.width; x++) {
@@ -916,6 +1173,8 @@ public class ConvertRaster {
 			throw new IllegalArgumentException("Unequal number of bands src = " + src.getNumBands() + " dst = " + dst.getNumBands());
 
 		final int[] dstData = dst.getDataStorage();
+		final int dstStride = dst.getScanlineStride();
+		final int dstOffset = dst.getDataOffset(0)-dst.getPixelStride()+1;
 
 		final int numBands = dst.getNumBands();
 
@@ -924,8 +1183,8 @@ public class ConvertRaster {
 			final byte[] band2 = src.getBand(1).data;
 			final byte[] band3 = src.getBand(2).data;
 
-			int indexDst = 0;
 			for (int y = 0; y < src.height; y++) {
+				int indexDst = dstOffset + dstStride * y;
 				int indexSrc = src.startIndex + y * src.stride;
 
 				for (int x = 0; x < src.width; x++, indexSrc++) {
@@ -936,6 +1195,25 @@ public class ConvertRaster {
 					dstData[indexDst++] = c1 << 16 | c2 << 8 | c3;
 				}
 			}
+		} else if (numBands == 4) {
+			final byte[] band1 = src.getBand(0).data;
+			final byte[] band2 = src.getBand(1).data;
+			final byte[] band3 = src.getBand(2).data;
+			final byte[] band4 = src.getBand(3).data;
+
+			for (int y = 0; y < src.height; y++) {
+				int indexDst = dstOffset + dstStride * y;
+				int indexSrc = src.startIndex + y * src.stride;
+
+				for (int x = 0; x < src.width; x++, indexSrc++) {
+					int c1 = band1[indexSrc] & 0xFF;
+					int c2 = band2[indexSrc] & 0xFF;
+					int c3 = band3[indexSrc] & 0xFF;
+					int c4 = band4[indexSrc] & 0xFF;
+
+					dstData[indexDst++] = c1 << 24 | c2 << 16 | c3 << 8 | c4;
+				}
+			}
 		} else {
 			throw new RuntimeException("Code more here");
 		}
@@ -947,6 +1225,8 @@ public class ConvertRaster {
 			throw new IllegalArgumentException("Unequal number of bands src = " + src.getNumBands() + " dst = " + dst.getNumBands());
 
 		final int[] dstData = dst.getDataStorage();
+		final int dstStride = dst.getScanlineStride();
+		final int dstOffset = dst.getDataOffset(0)-dst.getPixelStride()+1;
 
 		final int numBands = dst.getNumBands();
 
@@ -955,8 +1235,8 @@ public class ConvertRaster {
 			final float[] band2 = src.getBand(1).data;
 			final float[] band3 = src.getBand(2).data;
 
-			int indexDst = 0;
 			for (int y = 0; y < src.height; y++) {
+				int indexDst = dstOffset + dstStride * y;
 				int indexSrc = src.startIndex + y * src.stride;
 
 				for (int x = 0; x < src.width; x++, indexSrc++) {
@@ -967,6 +1247,25 @@ public class ConvertRaster {
 					dstData[indexDst++] = c1 << 16 | c2 << 8 | c3;
 				}
 			}
+		} else if (numBands == 4) {
+			final float[] band1 = src.getBand(0).data;
+			final float[] band2 = src.getBand(1).data;
+			final float[] band3 = src.getBand(2).data;
+			final float[] band4 = src.getBand(3).data;
+
+			for (int y = 0; y < src.height; y++) {
+				int indexDst = dstOffset + dstStride * y;
+				int indexSrc = src.startIndex + y * src.stride;
+
+				for (int x = 0; x < src.width; x++, indexSrc++) {
+					int c1 = (int) band1[indexSrc];
+					int c2 = (int) band2[indexSrc];
+					int c3 = (int) band3[indexSrc];
+					int c4 = (int) band4[indexSrc];
+
+					dstData[indexDst++] = c1 << 24 | c2 << 16 | c3 << 8 | c4;
+				}
+			}
 		} else {
 			throw new RuntimeException("Code more here");
 		}
@@ -1082,4 +1381,139 @@ public class ConvertRaster {
 			}
 		}
 	}
+
+	public static void grayToBuffered(ImageUInt8 src, ShortInterleavedRaster dst) {
+		if (dst.getNumBands() != 1)
+			throw new IllegalArgumentException("Only single band short rasters are supported");
+
+		final byte[] srcData = src.data;
+		final short[] dstData = dst.getDataStorage();
+		final int dstStride = dst.getScanlineStride();
+		final int dstOffset = dst.getDataOffset(0)-dst.getPixelStride()+1;
+
+		for (int y = 0; y < src.height; y++) {
+			int indexDst = dstOffset + dstStride * y;
+			int indexSrc = src.startIndex + y * src.stride;
+			int indexSrcEnd = indexSrc + src.width;
+
+			for (; indexSrc < indexSrcEnd; indexSrc++) {
+				dstData[indexDst++] = (short) ((srcData[indexSrc] & 0xFF) * 257);
+			}
+		}
+	}
+
+	public static void grayToBuffered(ImageFloat32 src, ShortInterleavedRaster dst) {
+		if (dst.getNumBands() != 1)
+			throw new IllegalArgumentException("Only single band short rasters are supported");
+
+		final float[] srcData = src.data;
+		final short[] dstData = dst.getDataStorage();
+		final int dstStride = dst.getScanlineStride();
+		final int dstOffset = dst.getDataOffset(0)-dst.getPixelStride()+1;
+
+		for (int y = 0; y < src.height; y++) {
+			int indexDst = dstOffset + dstStride * y;
+			int indexSrc = src.startIndex + y * src.stride;
+			int indexSrcEnd = indexSrc + src.width;
+
+			for (; indexSrc < indexSrcEnd; indexSrc++) {
+				dstData[indexDst++] = (short) (srcData[indexSrc] * 257);
+			}
+		}
+	}
+
+	public static void interleavedToBuffered(ImageInterleavedInt8 src, ByteInterleavedRaster dst) {
+		if (src.numBands != dst.getNumBands())
+			throw new IllegalArgumentException("Unequal number of bands src = " + src.numBands + " dst = " + dst.getNumBands());
+
+		final byte[] dstData = dst.getDataStorage();
+		final int dstStride = dst.getScanlineStride();
+		final int dstOffset = dst.getDataOffset(0)-dst.getPixelStride()+1;
+
+		final int length = src.width * src.numBands;
+
+		for (int y = 0; y < src.height; y++) {
+			System.arraycopy(src.data, src.startIndex + y * src.stride, dstData, dstOffset + dstStride * y, length);
+		}
+	}
+
+	public static void interleavedToBuffered(ImageInterleavedInt8 src, IntegerInterleavedRaster dst) {
+		if (src.numBands != dst.getNumBands())
+			throw new IllegalArgumentException("Unequal number of bands src = " + src.numBands + " dst = " + dst.getNumBands());
+
+		final byte[] srcData = src.data;
+		final int[] dstData = dst.getDataStorage();
+		final int dstStride = dst.getScanlineStride();
+		final int dstOffset = dst.getDataOffset(0)-dst.getPixelStride()+1;
+
+		final int numBands = dst.getNumBands();
+
+		if (numBands == 3) {
+			for (int y = 0; y < src.height; y++) {
+				int indexDst = dstOffset + dstStride * y;
+				int indexSrc = src.startIndex + y * src.stride;
+
+				for (int x = 0; x < src.width; x++) {
+					int c1 = srcData[indexSrc++] & 0xFF;
+					int c2 = srcData[indexSrc++] & 0xFF;
+					int c3 = srcData[indexSrc++] & 0xFF;
+
+					dstData[indexDst++] = c1 << 16 | c2 << 8 | c3;
+				}
+			}
+		} else if (numBands == 4) {
+			for (int y = 0; y < src.height; y++) {
+				int indexDst = dstOffset + dstStride * y;
+				int indexSrc = src.startIndex + y * src.stride;
+
+				for (int x = 0; x < src.width; x++) {
+					int c1 = srcData[indexSrc++] & 0xFF;
+					int c2 = srcData[indexSrc++] & 0xFF;
+					int c3 = srcData[indexSrc++] & 0xFF;
+					int c4 = srcData[indexSrc++] & 0xFF;
+
+					dstData[indexDst++] = c1 << 24 | c2 << 16 | c3 << 8 | c4;
+				}
+			}
+		} else {
+			throw new RuntimeException("Code more here");
+		}
+	}
+
+	public static void interleavedToBuffered(ImageInterleavedInt8 src, BufferedImage dst) {
+
+		final int width = dst.getWidth();
+		final int height = dst.getHeight();
+
+		byte[] data = src.data;
+
+		if (src.numBands == 3) {
+			for (int y = 0; y < height; y++) {
+				int indexSrc = src.startIndex + src.stride * y;
+
+				for (int x = 0; x < width; x++) {
+					int c1 = data[indexSrc++] & 0xFF;
+					int c2 = data[indexSrc++] & 0xFF;
+					int c3 = data[indexSrc++] & 0xFF;
+
+					dst.setRGB(x, y, c1 << 16 | c2 << 8 | c3);
+				}
+			}
+		} else if (src.numBands == 4) {
+			for (int y = 0; y < height; y++) {
+				int indexSrc = src.startIndex + src.stride * y;
+
+				for (int x = 0; x < width; x++) {
+					int c1 = data[indexSrc++] & 0xFF;
+					int c2 = data[indexSrc++] & 0xFF;
+					int c3 = data[indexSrc++] & 0xFF;
+					int c4 = data[indexSrc++] & 0xFF;
+
+					dst.setRGB(x, y, c1 << 24 | c2 << 16 | c3 << 8 | c4);
+				}
+			}
+		} else {
+			throw new IllegalArgumentException("src must have three or four bands");
+		}
+	}
 }
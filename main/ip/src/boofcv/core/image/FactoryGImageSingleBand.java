@@ -31,6 +31,26 @@ import boofcv.struct.image.*;
  */
 public class FactoryGImageSingleBand {
 
+	/**
+	 * Creates a generalized image for the specified image type which doesn't wrap any image yet.  Images
+	 * are then provided with {@link GImageSingleBand#wrap(ImageSingleBand)}.
+	 *
+	 * @param imageType Type of image which is to be wrapped.
+	 * @return Generalized image
+	 */
+	public static GImageSingleBand create( Class imageType ) {
+		if( ImageInteger.class.isAssignableFrom(imageType) )
+			return new GSingle_I32( null );
+		else if( imageType == ImageSInt64.class )
+			return new GSingle_I64( null );
+		else if( imageType == ImageFloat32.class )
+			return new GSingle_F32( null );
+		else if( imageType == ImageFloat64.class )
+			return new GSingle_F64( null );
+		else
+			throw new IllegalArgumentException("Unknown image type: "+imageType);
+	}
+
 	public static GImageSingleBand wrap( ImageSingleBand image ) {
 		if( ImageInteger.class.isAssignableFrom(image.getClass()) )
 			return new GSingle_I32( (ImageInteger)image );
@@ -219,6 +239,11 @@ public class FactoryGImageSingleBand {
 			this.image = image;
 		}
 
+		@Override
+		public void wrap(ImageSingleBand image) {
+			this.image = (T)image;
+		}
+
 		@Override
 		public int getWidth() {
 			return image.getWidth();
@@ -243,6 +268,11 @@ public class FactoryGImageSingleBand {
 			this.image = image;
 		}
 
+		@Override
+		public void wrap(ImageSingleBand image) {
+			this.image.setImage(image);
+		}
+
 		@Override
 		public int getWidth() {
 			return image.getImage().getWidth();
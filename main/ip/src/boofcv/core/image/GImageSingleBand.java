@@ -22,12 +22,20 @@ import boofcv.struct.image.ImageSingleBand;
 
 /**
  * Generalized interface for single banded images.  Due to the slow performance associated with working with this
- * interface its usage is not recommended except for testing purposes.
+ * interface its usage is not recommended except for testing purposes.  When the same type of image is processed
+ * repeatedly, create the wrapper once and call {@link #wrap} for each image so the image type is only resolved once.
  *
  * @author Peter Abeles
  */
 public interface GImageSingleBand {
 
+	/**
+	 * Changes the image being wrapped.  Must be the same type of image the wrapper was created for.
+	 *
+	 * @param image The image which is to be wrapped.
+	 */
+	void wrap( ImageSingleBand image );
+
 	int getWidth();
 
 	int getHeight();
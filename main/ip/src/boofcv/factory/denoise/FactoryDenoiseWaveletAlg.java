@@ -24,6 +24,7 @@ import boofcv.alg.denoise.wavelet.DenoiseBayesShrink_F32;
 import boofcv.alg.denoise.wavelet.DenoiseSureShrink_F32;
 import boofcv.alg.denoise.wavelet.DenoiseVisuShrink_F32;
 import boofcv.alg.denoise.wavelet.ShrinkThresholdSoft_F32;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.image.ImageFloat32;
 import boofcv.struct.image.ImageSingleBand;
 
@@ -44,13 +45,27 @@ public class FactoryDenoiseWaveletAlg {
 	 * @return Bayes Shrink
 	 */
 	public static <T extends ImageSingleBand> DenoiseWavelet<T> bayes( ShrinkThresholdRule<T> rule , Class<T> imageType )
+	{
+		return bayes(rule,imageType,BoofConcurrency.USE_CONCURRENT);
+	}
+
+	/**
+	 * Returns {@link DenoiseBayesShrink_F32 Bayes shrink} wavelet based image denoiser.
+	 *
+	 * @param rule Shrinkage rule. If null then a {@link ShrinkThresholdSoft_F32 soft threshold} rule will be used.
+	 * @param imageType Type of image it will process.
+	 * @param concurrent If true the subbands will be processed by multiple threads.  See {@link BoofConcurrency}.
+	 * @return Bayes Shrink
+	 */
+	public static <T extends ImageSingleBand> DenoiseWavelet<T> bayes( ShrinkThresholdRule<T> rule , Class<T> imageType ,
+																	   boolean concurrent )
 	{
 		if( rule == null ) {
 			rule = (ShrinkThresholdRule<T>)new ShrinkThresholdSoft_F32();
 		}
 
 		if( imageType == ImageFloat32.class ) {
-			return (DenoiseWavelet<T>)new DenoiseBayesShrink_F32((ShrinkThresholdRule<ImageFloat32>)rule);
+			return (DenoiseWavelet<T>)new DenoiseBayesShrink_F32((ShrinkThresholdRule<ImageFloat32>)rule,concurrent);
 		} else {
 			throw new IllegalArgumentException("Unsupported image type "+imageType);
 		}
@@ -63,9 +78,21 @@ public class FactoryDenoiseWaveletAlg {
 	 * @return Bayes Shrink
 	 */
 	public static <T extends ImageSingleBand> DenoiseWavelet<T> sure( Class<T> imageType )
+	{
+		return sure(imageType,BoofConcurrency.USE_CONCURRENT);
+	}
+
+	/**
+	 * Returns {@link DenoiseSureShrink_F32 sure shrink} wavelet based image denoiser.
+	 *
+	 * @param imageType Type of image it will process.
+	 * @param concurrent If true the subbands will be processed by multiple threads.  See {@link BoofConcurrency}.
+	 * @return Bayes Shrink
+	 */
+	public static <T extends ImageSingleBand> DenoiseWavelet<T> sure( Class<T> imageType , boolean concurrent )
 	{
 		if( imageType == ImageFloat32.class ) {
-			return (DenoiseWavelet<T>)new DenoiseSureShrink_F32();
+			return (DenoiseWavelet<T>)new DenoiseSureShrink_F32(concurrent);
 		} else {
 			throw new IllegalArgumentException("Unsupported image type "+imageType);
 		}
@@ -78,9 +105,21 @@ public class FactoryDenoiseWaveletAlg {
 	 * @return Bayes Shrink
 	 */
 	public static <T extends ImageSingleBand> DenoiseWavelet<T> visu( Class<T> imageType )
+	{
+		return visu(imageType,BoofConcurrency.USE_CONCURRENT);
+	}
+
+	/**
+	 * Returns {@link DenoiseVisuShrink_F32 visu shrink} wavelet based image denoiser.
+	 *
+	 * @param imageType Type of image it will process.
+	 * @param concurrent If true the wavelet coefficients will be processed by multiple threads.  See {@link BoofConcurrency}.
+	 * @return Bayes Shrink
+	 */
+	public static <T extends ImageSingleBand> DenoiseWavelet<T> visu( Class<T> imageType , boolean concurrent )
 	{
 		if( imageType == ImageFloat32.class ) {
-			return (DenoiseWavelet<T>)new DenoiseVisuShrink_F32();
+			return (DenoiseWavelet<T>)new DenoiseVisuShrink_F32(concurrent);
 		} else {
 			throw new IllegalArgumentException("Unsupported image type "+imageType);
 		}
@@ -21,6 +21,7 @@ package boofcv.factory.distort;
 import boofcv.alg.distort.ImageDistort;
 import boofcv.alg.distort.impl.*;
 import boofcv.alg.interpolate.InterpolatePixel;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.core.image.border.ImageBorder;
 import boofcv.struct.image.*;
 
@@ -79,4 +80,48 @@ public class FactoryDistort {
 			throw new IllegalArgumentException("Image type not supported: "+imageType.getSimpleName());
 		}
 	}
+
+	/**
+	 * Creates an {@link ImageDistort} which uses bilinear interpolation and precomputes a compact fixed point
+	 * remap table.  Faster and uses less memory than {@link #distortCached} when the distortion and output
+	 * image size are both constant.  Only {@link ImageUInt8}, {@link ImageSInt16}, and {@link ImageFloat32}
+	 * are supported.
+	 *
+	 * @see boofcv.alg.distort.ImageDistortRemap
+	 *
+	 * @param border Specifies how requests to pixels outside the image should be handled.  If null then no change
+	 * @param imageType Type of image being processed.
+	 * @param concurrent If true the image will be processed using multiple threads
+	 * @return Image distort which uses a remap table.
+	 */
+	public static <T extends ImageSingleBand>
+	ImageDistort<T> distortRemap(ImageBorder border , Class<T> imageType , boolean concurrent )
+	{
+		if( imageType == ImageFloat32.class ) {
+			return (ImageDistort<T>)new ImplImageDistortRemap_F32(border,concurrent);
+		} else if( imageType == ImageSInt16.class ) {
+			return (ImageDistort<T>)new ImplImageDistortRemap_S16(border,concurrent);
+		} else if( imageType == ImageUInt8.class ) {
+			return (ImageDistort<T>)new ImplImageDistortRemap_U8(border,concurrent);
+		} else {
+			throw new IllegalArgumentException("Image type not supported: "+imageType.getSimpleName());
+		}
+	}
+
+	/**
+	 * Same as {@link #distortRemap(ImageBorder, Class, boolean)}, but is concurrent if
+	 * {@link BoofConcurrency#USE_CONCURRENT} is true.
+	 */
+	public static <T extends ImageSingleBand>
+	ImageDistort<T> distortRemap(ImageBorder border , Class<T> imageType )
+	{
+		return distortRemap(border, imageType, BoofConcurrency.USE_CONCURRENT);
+	}
+
+	/**
+	 * Returns true if {@link #distortRemap} supports the image type
+	 */
+	public static boolean isRemapSupported( Class imageType ) {
+		return imageType == ImageFloat32.class || imageType == ImageSInt16.class || imageType == ImageUInt8.class;
+	}
 }
@@ -22,6 +22,7 @@ import boofcv.abst.filter.FilterImageInterface;
 import boofcv.abst.filter.FilterImageReflection;
 import boofcv.abst.filter.binary.FilterLabelBlobs;
 import boofcv.alg.filter.binary.BinaryImageOps;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.image.ImageSInt32;
 import boofcv.struct.image.ImageUInt8;
 
@@ -29,6 +30,9 @@ import boofcv.struct.image.ImageUInt8;
  * {@link FilterImageInterface} wrappers around functions inside of {@link BinaryImageOps}.
  *
  * NOTE:: Not all functions inside of {@link BinaryImageOps} are contained here.
+ *
+ * The functions are found using reflection when the filter is created, but are called directly when an image
+ * is processed.
  */
 public class FactoryBinaryImageOps {
 
@@ -36,70 +40,128 @@ public class FactoryBinaryImageOps {
 	 * Filter implementation of {@link BinaryImageOps#erode4(boofcv.struct.image.ImageUInt8, boofcv.struct.image.ImageUInt8)}
 	 */
 	public static FilterImageInterface<ImageUInt8, ImageUInt8> erode4() {
-		return new FilterImageReflection<ImageUInt8, ImageUInt8>(BinaryImageOps.class, "erode4", 0, 0, ImageUInt8.class, ImageUInt8.class);
+		return new FilterImageReflection<ImageUInt8, ImageUInt8>(BinaryImageOps.class, "erode4", 0, 0, ImageUInt8.class, ImageUInt8.class) {
+			@Override
+			protected void apply(ImageUInt8 input, ImageUInt8 output) {
+				BinaryImageOps.erode4(input, output);
+			}
+		};
 	}
 
 	/**
 	 * Filter implementation of {@link BinaryImageOps#erode8(boofcv.struct.image.ImageUInt8, boofcv.struct.image.ImageUInt8)}
 	 */
 	public static FilterImageInterface<ImageUInt8, ImageUInt8> erode8() {
-		return new FilterImageReflection<ImageUInt8, ImageUInt8>(BinaryImageOps.class, "erode8", 0, 0, ImageUInt8.class, ImageUInt8.class);
+		return new FilterImageReflection<ImageUInt8, ImageUInt8>(BinaryImageOps.class, "erode8", 0, 0, ImageUInt8.class, ImageUInt8.class) {
+			@Override
+			protected void apply(ImageUInt8 input, ImageUInt8 output) {
+				BinaryImageOps.erode8(input, output);
+			}
+		};
 	}
 
 	/**
 	 * Filter implementation of {@link BinaryImageOps#dilate4(boofcv.struct.image.ImageUInt8, boofcv.struct.image.ImageUInt8)}
 	 */
 	public static FilterImageInterface<ImageUInt8, ImageUInt8> dilate4() {
-		return new FilterImageReflection<ImageUInt8, ImageUInt8>(BinaryImageOps.class, "dilate4", 0, 0, ImageUInt8.class, ImageUInt8.class);
+		return new FilterImageReflection<ImageUInt8, ImageUInt8>(BinaryImageOps.class, "dilate4", 0, 0, ImageUInt8.class, ImageUInt8.class) {
+			@Override
+			protected void apply(ImageUInt8 input, ImageUInt8 output) {
+				BinaryImageOps.dilate4(input, output);
+			}
+		};
 	}
 
 	/**
 	 * Filter implementation of {@link BinaryImageOps#dilate8(boofcv.struct.image.ImageUInt8, boofcv.struct.image.ImageUInt8)}
 	 */
 	public static FilterImageInterface<ImageUInt8, ImageUInt8> dilate8() {
-		return new FilterImageReflection<ImageUInt8, ImageUInt8>(BinaryImageOps.class, "dilate8", 0, 0, ImageUInt8.class, ImageUInt8.class);
+		return new FilterImageReflection<ImageUInt8, ImageUInt8>(BinaryImageOps.class, "dilate8", 0, 0, ImageUInt8.class, ImageUInt8.class) {
+			@Override
+			protected void apply(ImageUInt8 input, ImageUInt8 output) {
+				BinaryImageOps.dilate8(input, output);
+			}
+		};
 	}
 
 	/**
 	 * Filter implementation of {@link BinaryImageOps#edge4(boofcv.struct.image.ImageUInt8, boofcv.struct.image.ImageUInt8)}
 	 */
 	public static FilterImageInterface<ImageUInt8, ImageUInt8> edge4() {
-		return new FilterImageReflection<ImageUInt8, ImageUInt8>(BinaryImageOps.class, "edge4", 0, 0, ImageUInt8.class, ImageUInt8.class);
+		return new FilterImageReflection<ImageUInt8, ImageUInt8>(BinaryImageOps.class, "edge4", 0, 0, ImageUInt8.class, ImageUInt8.class) {
+			@Override
+			protected void apply(ImageUInt8 input, ImageUInt8 output) {
+				BinaryImageOps.edge4(input, output);
+			}
+		};
 	}
 
 	/**
 	 * Filter implementation of {@link BinaryImageOps#edge8(boofcv.struct.image.ImageUInt8, boofcv.struct.image.ImageUInt8)}
 	 */
 	public static FilterImageInterface<ImageUInt8, ImageUInt8> edge8() {
-		return new FilterImageReflection<ImageUInt8, ImageUInt8>(BinaryImageOps.class, "edge8", 0, 0, ImageUInt8.class, ImageUInt8.class);
+		return new FilterImageReflection<ImageUInt8, ImageUInt8>(BinaryImageOps.class, "edge8", 0, 0, ImageUInt8.class, ImageUInt8.class) {
+			@Override
+			protected void apply(ImageUInt8 input, ImageUInt8 output) {
+				BinaryImageOps.edge8(input, output);
+			}
+		};
 	}
 
 	/**
 	 * Filter implementation of {@link BinaryImageOps#removePointNoise(boofcv.struct.image.ImageUInt8, boofcv.struct.image.ImageUInt8)}
 	 */
 	public static FilterImageInterface<ImageUInt8, ImageUInt8> removePointNoise() {
-		return new FilterImageReflection<ImageUInt8, ImageUInt8>(BinaryImageOps.class, "removePointNoise", 0, 0, ImageUInt8.class, ImageUInt8.class);
+		return new FilterImageReflection<ImageUInt8, ImageUInt8>(BinaryImageOps.class, "removePointNoise", 0, 0, ImageUInt8.class, ImageUInt8.class) {
+			@Override
+			protected void apply(ImageUInt8 input, ImageUInt8 output) {
+				BinaryImageOps.removePointNoise(input, output);
+			}
+		};
 	}
 
 	/**
 	 * Filter implementation of {@link BinaryImageOps#labelBlobs4(boofcv.struct.image.ImageUInt8, boofcv.struct.image.ImageSInt32)}
 	 */
 	public static FilterLabelBlobs labelBlobs4() {
-		return new FilterLabelBlobs(true);
+		return labelBlobs4(BoofConcurrency.USE_CONCURRENT);
+	}
+
+	/**
+	 * Filter implementation of {@link BinaryImageOps#labelBlobs4(boofcv.struct.image.ImageUInt8, boofcv.struct.image.ImageSInt32)}
+	 *
+	 * @param concurrent If true the image will be labeled using multiple threads.
+	 */
+	public static FilterLabelBlobs labelBlobs4( boolean concurrent ) {
+		return new FilterLabelBlobs(true,concurrent);
 	}
 
 	/**
 	 * Filter implementation of {@link BinaryImageOps#labelBlobs8(boofcv.struct.image.ImageUInt8, boofcv.struct.image.ImageSInt32)}
 	 */
 	public static FilterLabelBlobs labelBlobs8() {
-		return new FilterLabelBlobs(false);
+		return labelBlobs8(BoofConcurrency.USE_CONCURRENT);
+	}
+
+	/**
+	 * Filter implementation of {@link BinaryImageOps#labelBlobs8(boofcv.struct.image.ImageUInt8, boofcv.struct.image.ImageSInt32)}
+	 *
+	 * @param concurrent If true the image will be labeled using multiple threads.
+	 */
+	public static FilterLabelBlobs labelBlobs8( boolean concurrent ) {
+		return new FilterLabelBlobs(false,concurrent);
 	}
 
 	/**
 	 * Filter implementation of {@link BinaryImageOps#labelToBinary(boofcv.struct.image.ImageSInt32, boofcv.struct.image.ImageUInt8)}
 	 */
 	public static FilterImageInterface<ImageSInt32, ImageUInt8> labelToBinary() {
-		return new FilterImageReflection<ImageSInt32, ImageUInt8>(BinaryImageOps.class, "labelToBinary", 0, 0, ImageSInt32.class, ImageUInt8.class);
+		return new FilterImageReflection<ImageSInt32, ImageUInt8>(BinaryImageOps.class, "labelToBinary", 0, 0, ImageSInt32.class, ImageUInt8.class) {
+			@Override
+			protected void apply(ImageSInt32 input, ImageUInt8 output) {
+				BinaryImageOps.labelToBinary(input, output);
+			}
+		};
 	}
 
 }
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.factory.filter.binary;
+
+import boofcv.abst.filter.FilterImageInterface;
+import boofcv.abst.filter.binary.FilterThresholdLocal;
+import boofcv.alg.filter.binary.ThresholdLocalMean;
+import boofcv.alg.filter.binary.ThresholdNiblack;
+import boofcv.alg.filter.binary.ThresholdSauvola;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.ImageSingleBand;
+import boofcv.struct.image.ImageUInt8;
+
+/**
+ * Factory for creating filters which convert an image into a binary image using an adaptive threshold.
+ * {@link boofcv.struct.image.ImageUInt8} and {@link boofcv.struct.image.ImageFloat32} input images are supported.
+ *
+ * @author Peter Abeles
+ */
+public class FactoryThresholdBinary {
+
+	/**
+	 * @see ThresholdLocalMean
+	 *
+	 * @param radius Radius of the square region.
+	 * @param scale The local mean is multiplied by this value to find the threshold.  Try 0.95
+	 * @param down If true inliers are below the threshold and false they are above the threshold.
+	 * @param inputType Type of input image.
+	 * @return Filter which produces a binary image.
+	 */
+	public static <T extends ImageSingleBand>
+	FilterImageInterface<T,ImageUInt8> localMean( int radius , double scale , boolean down , Class<T> inputType ) {
+		return localMean(radius,scale,down,inputType,BoofConcurrency.USE_CONCURRENT);
+	}
+
+	/**
+	 * @see ThresholdLocalMean
+	 *
+	 * @param radius Radius of the square region.
+	 * @param scale The local mean is multiplied by this value to find the threshold.  Try 0.95
+	 * @param down If true inliers are below the threshold and false they are above the threshold.
+	 * @param inputType Type of input image.
+	 * @param concurrent If true bands of rows will be processed using multiple threads.
+	 * @return Filter which produces a binary image.
+	 */
+	public static <T extends ImageSingleBand>
+	FilterImageInterface<T,ImageUInt8> localMean( int radius , double scale , boolean down , Class<T> inputType ,
+												  boolean concurrent ) {
+		return new FilterThresholdLocal<T>(new ThresholdLocalMean<T>(radius,scale,down,concurrent,inputType));
+	}
+
+	/**
+	 * @see ThresholdSauvola
+	 *
+	 * @param radius Radius of the square region.
+	 * @param k Positive parameter which controls how much the threshold is lowered in low contrast regions.
+	 *          Try 0.3
+	 * @param down If true inliers are below the threshold and false they are above the threshold.
+	 * @param inputType Type of input image.  Pixel values are assumed to be from 0 to 255.
+	 * @return Filter which produces a binary image.
+	 */
+	public static <T extends ImageSingleBand>
+	FilterImageInterface<T,ImageUInt8> localSauvola( int radius , double k , boolean down , Class<T> inputType ) {
+		return localSauvola(radius,k,down,inputType,BoofConcurrency.USE_CONCURRENT);
+	}
+
+	/**
+	 * @see ThresholdSauvola
+	 *
+	 * @param radius Radius of the square region.
+	 * @param k Positive parameter which controls how much the threshold is lowered in low contrast regions.
+	 *          Try 0.3
+	 * @param down If true inliers are below the threshold and false they are above the threshold.
+	 * @param inputType Type of input image.  Pixel values are assumed to be from 0 to 255.
+	 * @param concurrent If true bands of rows will be processed using multiple threads.
+	 * @return Filter which produces a binary image.
+	 */
+	public static <T extends ImageSingleBand>
+	FilterImageInterface<T,ImageUInt8> localSauvola( int radius , double k , boolean down , Class<T> inputType ,
+													 boolean concurrent ) {
+		return new FilterThresholdLocal<T>(new ThresholdSauvola<T>(radius,k,128,down,concurrent,inputType));
+	}
+
+	/**
+	 * @see ThresholdNiblack
+	 *
+	 * @param radius Radius of the square region.
+	 * @param k Multiple of the standard deviation that's added to the mean.  Try -0.2 when thresholding down.
+	 * @param down If true inliers are below the threshold and false they are above the threshold.
+	 * @param inputType Type of input image.
+	 * @return Filter which produces a binary image.
+	 */
+	public static <T extends ImageSingleBand>
+	FilterImageInterface<T,ImageUInt8> localNiblack( int radius , double k , boolean down , Class<T> inputType ) {
+		return localNiblack(radius,k,down,inputType,BoofConcurrency.USE_CONCURRENT);
+	}
+
+	/**
+	 * @see ThresholdNiblack
+	 *
+	 * @param radius Radius of the square region.
+	 * @param k Multiple of the standard deviation that's added to the mean.  Try -0.2 when thresholding down.
+	 * @param down If true inliers are below the threshold and false they are above the threshold.
+	 * @param inputType Type of input image.
+	 * @param concurrent If true bands of rows will be processed using multiple threads.
+	 * @return Filter which produces a binary image.
+	 */
+	public static <T extends ImageSingleBand>
+	FilterImageInterface<T,ImageUInt8> localNiblack( int radius , double k , boolean down , Class<T> inputType ,
+													 boolean concurrent ) {
+		return new FilterThresholdLocal<T>(new ThresholdNiblack<T>(radius,k,down,concurrent,inputType));
+	}
+}
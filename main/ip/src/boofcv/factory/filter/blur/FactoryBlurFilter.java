@@ -18,12 +18,23 @@
 
 package boofcv.factory.filter.blur;
 
+import boofcv.abst.filter.blur.BlurSpecialized;
 import boofcv.abst.filter.blur.BlurStorageFilter;
 import boofcv.abst.filter.blur.MedianImageFilter;
+import boofcv.alg.filter.blur.BlurImageOps;
+import boofcv.alg.filter.blur.BlurImageOps_MT;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.factory.filter.kernel.FactoryKernelGaussian;
+import boofcv.struct.BoofDefaults;
+import boofcv.struct.image.ImageFloat32;
 import boofcv.struct.image.ImageSingleBand;
+import boofcv.testing.BoofTesting;
+
+import java.lang.reflect.Method;
 
 /**
- * Factory for creating different blur image filters.
+ * Factory for creating different blur image filters.  The blur function is found using reflection when the
+ * filter is created, but is called directly when an image is processed.
  *
  * @author Peter Abeles
  */
@@ -37,7 +48,27 @@ public class FactoryBlurFilter {
 	 * @return Median image filter.
 	 */
 	public static <T extends ImageSingleBand> MedianImageFilter<T> median( Class<T> type , int radius ) {
-		return new MedianImageFilter<T>(type,radius);
+		return median(type,radius,BoofConcurrency.USE_CONCURRENT);
+	}
+
+	/**
+	 * Creates a median filter for the specified image type.
+	 *
+	 * @param type Image type.
+	 * @param radius Size of the filter.
+	 * @param concurrent If true the image will be processed by multiple threads.  See {@link BoofConcurrency}.
+	 * @return Median image filter.
+	 */
+	public static <T extends ImageSingleBand> MedianImageFilter<T> median( Class<T> type , int radius ,
+																		   boolean concurrent ) {
+		Method m = MedianImageFilter.findFunction(type,concurrent);
+
+		MedianImageFilter<T> ret = BlurSpecialized.median(m,type,radius);
+		if( ret == null ) {
+			checkReflection(m);
+			ret = new MedianImageFilter<T>(m,type,radius);
+		}
+		return ret;
 	}
 
 	/**
@@ -48,7 +79,8 @@ public class FactoryBlurFilter {
 	 * @return mean image filter.
 	 */
 	public static <T extends ImageSingleBand> BlurStorageFilter<T> mean( Class<T> type , int radius ) {
-		return new BlurStorageFilter<T>("mean",type,radius);
+		Method m = BoofTesting.findMethod(BlurImageOps.class,"mean",type,type,int.class,type);
+		return storage(m,type,0,radius);
 	}
 
 	/**
@@ -59,6 +91,88 @@ public class FactoryBlurFilter {
 	 * @return mean image filter.
 	 */
 	public static <T extends ImageSingleBand> BlurStorageFilter<T> gaussian( Class<T> type , double sigma , int radius ) {
-		return new BlurStorageFilter<T>("gaussian",type,sigma,radius);
+		Method m = BoofTesting.findMethod(BlurImageOps.class,"gaussian",type,type,double.class,int.class,type);
+		return storage(m,type,sigma,radius);
+	}
+
+	/**
+	 * Creates a Gaussian filter which uses a recursive filter.  The time it takes does not depend on sigma.
+	 *
+	 * @see BlurImageOps#gaussianRecursive
+	 *
+	 * @param type Image type.
+	 * @param sigma The Gaussian's standard deviation.  Must be at least 0.5.
+	 * @return Gaussian image filter.
+	 */
+	public static <T extends ImageSingleBand> BlurStorageFilter<T> gaussianRecursive( Class<T> type , double sigma ) {
+		return gaussianRecursive(type,sigma,BoofConcurrency.USE_CONCURRENT);
+	}
+
+	/**
+	 * Creates a Gaussian filter which uses a recursive filter.  The time it takes does not depend on sigma.
+	 *
+	 * @see BlurImageOps#gaussianRecursive
+	 *
+	 * @param type Image type.
+	 * @param sigma The Gaussian's standard deviation.  Must be at least 0.5.
+	 * @param concurrent If true the image will be processed by multiple threads.  See {@link BoofConcurrency}.
+	 * @return Gaussian image filter.
+	 */
+	public static <T extends ImageSingleBand> BlurStorageFilter<T> gaussianRecursive( Class<T> type , double sigma ,
+																					  boolean concurrent ) {
+		Class owner = concurrent ? BlurImageOps_MT.class : BlurImageOps.class;
+		Method m = BoofTesting.findMethod(owner,"gaussianRecursive",type,type,double.class,ImageFloat32.class);
+		return storage(m,type,sigma,FactoryKernelGaussian.radiusForSigma(sigma,0));
+	}
+
+	/**
+	 * Creates a Gaussian filter which is approximated by several box filters.  The time it takes does not
+	 * depend on sigma.
+	 *
+	 * @see BlurImageOps#gaussianBox
+	 *
+	 * @param type Image type.
+	 * @param sigma The Gaussian's standard deviation.
+	 * @return Gaussian image filter.
+	 */
+	public static <T extends ImageSingleBand> BlurStorageFilter<T> gaussianBox( Class<T> type , double sigma ) {
+		return gaussianBox(type,sigma,BoofConcurrency.USE_CONCURRENT);
+	}
+
+	/**
+	 * Creates a Gaussian filter which is approximated by several box filters.  The time it takes does not
+	 * depend on sigma.
+	 *
+	 * @see BlurImageOps#gaussianBox
+	 *
+	 * @param type Image type.
+	 * @param sigma The Gaussian's standard deviation.
+	 * @param concurrent If true the image will be processed by multiple threads.  See {@link BoofConcurrency}.
+	 * @return Gaussian image filter.
+	 */
+	public static <T extends ImageSingleBand> BlurStorageFilter<T> gaussianBox( Class<T> type , double sigma ,
+																				boolean concurrent ) {
+		Class owner = concurrent ? BlurImageOps_MT.class : BlurImageOps.class;
+		Method m = BoofTesting.findMethod(owner,"gaussianBox",type,type,double.class,ImageFloat32.class);
+		return storage(m,type,sigma,FactoryKernelGaussian.radiusForSigma(sigma,0));
+	}
+
+	/**
+	 * Creates a filter which calls the blur function directly, if a specialized implementation is available.
+	 */
+	private static <T extends ImageSingleBand>
+	BlurStorageFilter<T> storage( Method m , Class<T> type , double sigma , int radius ) {
+		BlurStorageFilter<T> ret = BlurSpecialized.storage(m,type,sigma,radius);
+		if( ret == null ) {
+			checkReflection(m);
+			ret = new BlurStorageFilter<T>(m,type,sigma,radius);
+		}
+		return ret;
+	}
+
+	private static void checkReflection( Method m ) {
+		if( !BoofDefaults.ALLOW_REFLECTION )
+			throw new IllegalArgumentException("There is no specialized filter for "+m+
+					".  Run GenerateBlurSpecialized or set BoofDefaults.ALLOW_REFLECTION to true.");
 	}
 }
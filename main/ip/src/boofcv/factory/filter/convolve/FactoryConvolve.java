@@ -19,12 +19,13 @@
 package boofcv.factory.filter.convolve;
 
 import boofcv.abst.filter.convolve.ConvolveInterface;
+import boofcv.abst.filter.convolve.ConvolveSpecialized;
 import boofcv.abst.filter.convolve.GenericConvolve;
-import boofcv.alg.filter.convolve.ConvolveImageNoBorder;
-import boofcv.alg.filter.convolve.ConvolveNormalized;
-import boofcv.alg.filter.convolve.ConvolveWithBorder;
+import boofcv.alg.filter.convolve.*;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.core.image.border.BorderType;
 import boofcv.core.image.border.FactoryImageBorder;
+import boofcv.struct.BoofDefaults;
 import boofcv.struct.convolve.Kernel1D;
 import boofcv.struct.convolve.Kernel2D;
 import boofcv.struct.image.ImageSingleBand;
@@ -51,33 +52,54 @@ public class FactoryConvolve {
 	public static <Input extends ImageSingleBand, Output extends ImageSingleBand>
 	ConvolveInterface<Input,Output>
 	convolve( Kernel1D kernel, Class<Input> inputType, Class<Output> outputType , BorderType border , boolean isHorizontal )
+	{
+		return convolve(kernel,inputType,outputType,border,isHorizontal,BoofConcurrency.USE_CONCURRENT);
+	}
+
+	/**
+	 * Creates a filter for convolving 1D kernels along the image.
+	 *
+	 * @param kernel Convolution kernel.
+	 * @param inputType Specifies input image type.
+	 * @param outputType Specifies input image type.
+	 * @param border How the image border is handled.
+	 * @param concurrent If true the image will be processed by multiple threads.  See {@link BoofConcurrency}.
+	 * @return FilterInterface which will perform the specified convolution.
+	 */
+	public static <Input extends ImageSingleBand, Output extends ImageSingleBand>
+	ConvolveInterface<Input,Output>
+	convolve( Kernel1D kernel, Class<Input> inputType, Class<Output> outputType , BorderType border ,
+			  boolean isHorizontal , boolean concurrent )
 	{
 		outputType = BoofTesting.convertToGenericType(outputType);
 
 		Class<?> borderClassType = FactoryImageBorder.lookupBorderClassType((Class)inputType);
 		String direction = isHorizontal ? "horizontal" : "vertical";
+		Class<?> noBorderClass = concurrent ? ConvolveImageNoBorder_MT.class : ConvolveImageNoBorder.class;
+		Class<?> withBorderClass = concurrent ? ConvolveWithBorder_MT.class : ConvolveWithBorder.class;
+		Class<?> normalizedClass = concurrent ? ConvolveNormalized_MT.class : ConvolveNormalized.class;
 		Method m;
 		try {
 			switch( border ) {
 				case SKIP:
-					m = ConvolveImageNoBorder.class.
+					m = noBorderClass.
 							getMethod(direction,kernel.getClass(),inputType,outputType,boolean.class);
 					break;
 
 				case EXTENDED:
-					m = BoofTesting.findMethod(ConvolveWithBorder.class,direction,kernel.getClass(),inputType,outputType,borderClassType);
+					m = BoofTesting.findMethod(withBorderClass,direction,kernel.getClass(),inputType,outputType,borderClassType);
 					break;
 
 				case REFLECT:
-					m = BoofTesting.findMethod(ConvolveWithBorder.class,direction,kernel.getClass(),inputType,outputType,borderClassType);
+					m = BoofTesting.findMethod(withBorderClass,direction,kernel.getClass(),inputType,outputType,borderClassType);
 					break;
 
 				case WRAP:
-					m = BoofTesting.findMethod(ConvolveWithBorder.class,direction,kernel.getClass(),inputType,outputType,borderClassType);
+					m = BoofTesting.findMethod(withBorderClass,direction,kernel.getClass(),inputType,outputType,borderClassType);
 					break;
 
 				case NORMALIZED:
-					m = ConvolveNormalized.class.
+					m = normalizedClass.
 							getMethod(direction,kernel.getClass(),inputType,outputType);
 					break;
 
@@ -89,7 +111,13 @@ public class FactoryConvolve {
 			throw new IllegalArgumentException("The specified convolution cannot be found");
 		}
 
-		return new GenericConvolve<Input,Output>(m,kernel,border,inputType);
+		// call the function directly if possible to avoid the overhead of reflection
+		GenericConvolve<Input,Output> ret = ConvolveSpecialized.convolve(m,kernel,border,inputType);
+		if( ret == null ) {
+			checkReflection(m);
+			ret = new GenericConvolve<Input,Output>(m,kernel,border,inputType);
+		}
+		return ret;
 	}
 
 	/**
@@ -104,32 +132,53 @@ public class FactoryConvolve {
 	public static <Input extends ImageSingleBand, Output extends ImageSingleBand>
 	ConvolveInterface<Input,Output>
 	convolve( Kernel2D kernel, Class<Input> inputType, Class<Output> outputType , BorderType borderType)
+	{
+		return convolve(kernel,inputType,outputType,borderType,BoofConcurrency.USE_CONCURRENT);
+	}
+
+	/**
+	 * Creates a filter for convolving 2D kernels along the image axis.
+	 *
+	 * @param kernel Convolution kernel.
+	 * @param inputType Specifies input image type.
+	 * @param outputType Specifies input image type.
+	 * @param borderType How the image border is handled.
+	 * @param concurrent If true the image will be processed by multiple threads.  See {@link BoofConcurrency}.
+	 * @return FilterInterface which will perform the specified convolution.
+	 */
+	public static <Input extends ImageSingleBand, Output extends ImageSingleBand>
+	ConvolveInterface<Input,Output>
+	convolve( Kernel2D kernel, Class<Input> inputType, Class<Output> outputType , BorderType borderType ,
+			  boolean concurrent )
 	{
 		outputType = BoofTesting.convertToGenericType(outputType);
 
 		Class<?> borderClassType = FactoryImageBorder.lookupBorderClassType((Class)inputType);
+		Class<?> noBorderClass = concurrent ? ConvolveImageNoBorder_MT.class : ConvolveImageNoBorder.class;
+		Class<?> withBorderClass = concurrent ? ConvolveWithBorder_MT.class : ConvolveWithBorder.class;
+		Class<?> normalizedClass = concurrent ? ConvolveNormalized_MT.class : ConvolveNormalized.class;
 		Method m;
 		try {
 			switch(borderType) {
 				case SKIP:
-					m = ConvolveImageNoBorder.class.
+					m = noBorderClass.
 							getMethod("convolve",kernel.getClass(),inputType,outputType);
 					break;
 
 				case EXTENDED:
-					m = BoofTesting.findMethod(ConvolveWithBorder.class,"convolve",kernel.getClass(),inputType,outputType,borderClassType);
+					m = BoofTesting.findMethod(withBorderClass,"convolve",kernel.getClass(),inputType,outputType,borderClassType);
 					break;
 
 				case REFLECT:
-					m = BoofTesting.findMethod(ConvolveWithBorder.class,"convolve",kernel.getClass(),inputType,outputType,borderClassType);
+					m = BoofTesting.findMethod(withBorderClass,"convolve",kernel.getClass(),inputType,outputType,borderClassType);
 					break;
 
 				case WRAP:
-					m = BoofTesting.findMethod(ConvolveWithBorder.class,"convolve",kernel.getClass(),inputType,outputType,borderClassType);
+					m = BoofTesting.findMethod(withBorderClass,"convolve",kernel.getClass(),inputType,outputType,borderClassType);
 					break;
 
 				case NORMALIZED:
-					m = ConvolveNormalized.class.
+					m = normalizedClass.
 							getMethod("convolve",kernel.getClass(),inputType,outputType);
 					break;
 
@@ -141,6 +190,18 @@ public class FactoryConvolve {
 			throw new IllegalArgumentException("The specified convolution cannot be found");
 		}
 
-		return new GenericConvolve<Input,Output>(m,kernel, borderType,inputType);
+		// call the function directly if possible to avoid the overhead of reflection
+		GenericConvolve<Input,Output> ret = ConvolveSpecialized.convolve(m,kernel,borderType,inputType);
+		if( ret == null ) {
+			checkReflection(m);
+			ret = new GenericConvolve<Input,Output>(m,kernel,borderType,inputType);
+		}
+		return ret;
+	}
+
+	private static void checkReflection( Method m ) {
+		if( !BoofDefaults.ALLOW_REFLECTION )
+			throw new IllegalArgumentException("There is no specialized filter for "+m+
+					".  Run GenerateConvolveSpecialized or set BoofDefaults.ALLOW_REFLECTION to true.");
 	}
 }
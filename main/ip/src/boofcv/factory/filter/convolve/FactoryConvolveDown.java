@@ -18,10 +18,12 @@
 
 package boofcv.factory.filter.convolve;
 
+import boofcv.abst.filter.convolve.ConvolveSpecialized;
 import boofcv.abst.filter.convolve.GenericConvolveDown;
 import boofcv.alg.filter.convolve.ConvolveDownNoBorder;
 import boofcv.alg.filter.convolve.ConvolveDownNormalized;
 import boofcv.core.image.border.BorderType;
+import boofcv.struct.BoofDefaults;
 import boofcv.struct.convolve.Kernel1D;
 import boofcv.struct.convolve.Kernel2D;
 import boofcv.struct.image.ImageSingleBand;
@@ -79,7 +81,13 @@ public class FactoryConvolveDown {
 			throw new IllegalArgumentException("The specified convolution cannot be found");
 		}
 
-		return new GenericConvolveDown<Input,Output>(m,kernel,border,skip,inputType);
+		// call the function directly if possible to avoid the overhead of reflection
+		GenericConvolveDown<Input,Output> ret = ConvolveSpecialized.convolveDown(m,kernel,border,skip,inputType);
+		if( ret == null ) {
+			checkReflection(m);
+			ret = new GenericConvolveDown<Input,Output>(m,kernel,border,skip,inputType);
+		}
+		return ret;
 	}
 
 	/**
@@ -121,6 +129,18 @@ public class FactoryConvolveDown {
 			throw new IllegalArgumentException("The specified convolution cannot be found");
 		}
 
-		return new GenericConvolveDown<Input,Output>(m,kernel,border,skip,inputType);
+		// call the function directly if possible to avoid the overhead of reflection
+		GenericConvolveDown<Input,Output> ret = ConvolveSpecialized.convolveDown(m,kernel,border,skip,inputType);
+		if( ret == null ) {
+			checkReflection(m);
+			ret = new GenericConvolveDown<Input,Output>(m,kernel,border,skip,inputType);
+		}
+		return ret;
+	}
+
+	private static void checkReflection( Method m ) {
+		if( !BoofDefaults.ALLOW_REFLECTION )
+			throw new IllegalArgumentException("There is no specialized filter for "+m+
+					".  Run GenerateConvolveSpecialized or set BoofDefaults.ALLOW_REFLECTION to true.");
 	}
 }
@@ -23,6 +23,7 @@ import boofcv.alg.filter.derivative.*;
 import boofcv.core.image.GeneralizedImageOps;
 import boofcv.core.image.border.ImageBorder_F32;
 import boofcv.core.image.border.ImageBorder_I32;
+import boofcv.struct.BoofDefaults;
 import boofcv.struct.image.ImageFloat32;
 import boofcv.struct.image.ImageSInt16;
 import boofcv.struct.image.ImageSingleBand;
@@ -59,41 +60,41 @@ public class FactoryDerivative {
 	ImageGradient<I,D> prewitt( Class<I> inputType , Class<D> derivType)
 	{
 		Method m = findDerivative(GradientPrewitt.class,inputType,derivType);
-		return new ImageGradient_Reflection<I,D>(m);
+		return createGradient(m);
 	}
 
 	public static <I extends ImageSingleBand, D extends ImageSingleBand>
 	ImageGradient<I,D> sobel( Class<I> inputType , Class<D> derivType)
 	{
 		Method m = findDerivative(GradientSobel.class,inputType,derivType);
-		return new ImageGradient_Reflection<I,D>(m);
+		return createGradient(m);
 	}
 
 	public static <I extends ImageSingleBand, D extends ImageSingleBand>
 	ImageGradient<I,D> three( Class<I> inputType , Class<D> derivType)
 	{
 		Method m = findDerivative(GradientThree.class,inputType,derivType);
-		return new ImageGradient_Reflection<I,D>(m);
+		return createGradient(m);
 	}
 
 	public static <I extends ImageSingleBand, D extends ImageSingleBand>
 	ImageHessianDirect<I,D> hessianDirectThree( Class<I> inputType , Class<D> derivType)
 	{
 		Method m = findHessian(HessianThree.class,inputType,derivType);
-		return new ImageHessianDirect_Reflection<I,D>(m);
+		return createHessianDirect(m);
 	}
 
 	public static <I extends ImageSingleBand, D extends ImageSingleBand>
 	ImageHessianDirect<I,D> hessianDirectSobel( Class<I> inputType , Class<D> derivType)
 	{
 		Method m = findHessian(HessianSobel.class,inputType,derivType);
-		return new ImageHessianDirect_Reflection<I,D>(m);
+		return createHessianDirect(m);
 	}
 
 	public static <D extends ImageSingleBand>
 	ImageHessian<D> hessian( Class<?> gradientType , Class<D> derivType ) {
 		Method m = findHessianFromGradient(gradientType,derivType);
-		return new ImageHessian_Reflection<D>(m);
+		return createHessian(m);
 	}
 
 	public static <I extends ImageSingleBand, D extends ImageSingleBand>
@@ -168,6 +169,40 @@ public class FactoryDerivative {
 			throw new IllegalArgumentException("Not supported yet");
 	}
 
+	/**
+	 * Creates a gradient which calls the derivative function directly, if a specialized implementation
+	 * is available, and otherwise through reflection if {@link BoofDefaults#ALLOW_REFLECTION} is true.
+	 */
+	private static <I extends ImageSingleBand, D extends ImageSingleBand>
+	ImageGradient<I,D> createGradient( Method m ) {
+		ImageGradient<I,D> ret = DerivativeSpecialized.gradient(m);
+		if( ret == null ) {
+			checkReflection(m);
+			ret = new ImageGradient_Reflection<I,D>(m);
+		}
+		return ret;
+	}
+
+	private static <I extends ImageSingleBand, D extends ImageSingleBand>
+	ImageHessianDirect<I,D> createHessianDirect( Method m ) {
+		ImageHessianDirect<I,D> ret = DerivativeSpecialized.hessianDirect(m);
+		if( ret == null ) {
+			checkReflection(m);
+			ret = new ImageHessianDirect_Reflection<I,D>(m);
+		}
+		return ret;
+	}
+
+	private static <D extends ImageSingleBand>
+	ImageHessian<D> createHessian( Method m ) {
+		ImageHessian<D> ret = DerivativeSpecialized.hessian(m);
+		if( ret == null ) {
+			checkReflection(m);
+			ret = new ImageHessian_Reflection<D>(m);
+		}
+		return ret;
+	}
+
 	private static Method findDerivative(Class<?> derivativeClass,
 										 Class<?> inputType , Class<?> derivType ) {
 		Method m;
@@ -203,4 +238,10 @@ public class FactoryDerivative {
 		}
 		return m;
 	}
+
+	private static void checkReflection( Method m ) {
+		if( !BoofDefaults.ALLOW_REFLECTION )
+			throw new IllegalArgumentException("There is no specialized filter for "+m+
+					".  Run GenerateDerivativeSpecialized or set BoofDefaults.ALLOW_REFLECTION to true.");
+	}
 }
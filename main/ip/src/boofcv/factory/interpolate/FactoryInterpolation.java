@@ -19,6 +19,7 @@
 package boofcv.factory.interpolate;
 
 import boofcv.alg.interpolate.InterpolatePixel;
+import boofcv.alg.interpolate.InterpolatePixelInterleaved;
 import boofcv.alg.interpolate.InterpolateRectangle;
 import boofcv.alg.interpolate.TypeInterpolate;
 import boofcv.alg.interpolate.impl.*;
@@ -73,6 +74,15 @@ public class FactoryInterpolation {
 			throw new RuntimeException("Unknown image type: "+type.getName());
 	}
 
+	public static <T extends ImageInterleaved> InterpolatePixelInterleaved<T> bilinearPixelInterleaved(Class<T> type ) {
+		if( type == ImageInterleavedFloat32.class )
+			return (InterpolatePixelInterleaved<T>)new ImplBilinearPixelInterleaved_F32();
+		else if( type == ImageInterleavedInt8.class )
+			return (InterpolatePixelInterleaved<T>)new ImplBilinearPixelInterleaved_U8();
+		else
+			throw new RuntimeException("Unknown image type: "+type.getName());
+	}
+
 	public static <T extends ImageSingleBand> InterpolateRectangle<T> bilinearRectangle( T image ) {
 
 		InterpolateRectangle<T> ret = bilinearRectangle((Class)image.getClass());
@@ -44,6 +44,22 @@ public class FactoryGaussianScaleSpace {
 		}
 	}
 
+	/**
+	 * Creates a {@link NoCacheScaleSpace} which can compute the scaled image using a recursive Gaussian blur,
+	 * whose cost does not depend on the scale.
+	 *
+	 * @see NoCacheScaleSpace#setRecursiveBlur(boolean)
+	 *
+	 * @param imageType Type of input image.
+	 * @param recursiveBlur If true the scaled image is computed using a recursive Gaussian blur.
+	 */
+	public static <T extends ImageSingleBand, D extends ImageSingleBand>
+	NoCacheScaleSpace<T,D> nocache( Class<T> imageType , boolean recursiveBlur ) {
+		NoCacheScaleSpace<T,D> ret = nocache(imageType);
+		ret.setRecursiveBlur(recursiveBlur);
+		return ret;
+	}
+
 	public static NoCacheScaleSpace<ImageFloat32,ImageFloat32> nocache_F32() {
 		ImageGenerator<ImageFloat32> imageGen = new SingleBandGenerator<ImageFloat32>(ImageFloat32.class);
 		return new NoCacheScaleSpace<ImageFloat32,ImageFloat32>(imageGen,imageGen);
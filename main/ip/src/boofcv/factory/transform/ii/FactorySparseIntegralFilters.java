@@ -19,9 +19,7 @@
 package boofcv.factory.transform.ii;
 
 import boofcv.alg.transform.ii.impl.*;
-import boofcv.struct.image.ImageFloat32;
-import boofcv.struct.image.ImageSInt32;
-import boofcv.struct.image.ImageSingleBand;
+import boofcv.struct.image.*;
 import boofcv.struct.sparse.SparseScaleGradient;
 import boofcv.struct.sparse.SparseScaleSample;
 
@@ -39,6 +37,10 @@ public class FactorySparseIntegralFilters {
 			return (SparseScaleSample<T>)new SparseIntegralSample_F32(radius);
 		else if( imageType == ImageSInt32.class )
 			return (SparseScaleSample<T>)new SparseIntegralSample_I32(radius);
+		else if( imageType == ImageFloat64.class )
+			return (SparseScaleSample<T>)new SparseIntegralSample_F64(radius);
+		else if( imageType == ImageSInt64.class )
+			return (SparseScaleSample<T>)new SparseIntegralSample_I64(radius);
 		else
 			throw new IllegalArgumentException("Unsupported image type: "+imageType.getSimpleName());
 	}
@@ -49,6 +51,10 @@ public class FactorySparseIntegralFilters {
 			return (SparseScaleGradient<T,?>)new SparseIntegralGradient_NoBorder_F32(radius);
 		else if( imageType == ImageSInt32.class )
 			return (SparseScaleGradient<T,?>)new SparseIntegralGradient_NoBorder_I32(radius);
+		else if( imageType == ImageFloat64.class )
+			return (SparseScaleGradient<T,?>)new SparseIntegralGradient_NoBorder_F64(radius);
+		else if( imageType == ImageSInt64.class )
+			return (SparseScaleGradient<T,?>)new SparseIntegralGradient_NoBorder_I64(radius);
 		else
 			throw new IllegalArgumentException("Unsupported image type: "+imageType.getSimpleName());
 	}
@@ -59,6 +65,10 @@ public class FactorySparseIntegralFilters {
 			return (SparseScaleGradient<T,?>)new SparseIntegralHaar_NoBorder_F32(radius);
 		else if( imageType == ImageSInt32.class )
 			return (SparseScaleGradient<T,?>)new SparseIntegralHaar_NoBorder_I32(radius);
+		else if( imageType == ImageFloat64.class )
+			return (SparseScaleGradient<T,?>)new SparseIntegralHaar_NoBorder_F64(radius);
+		else if( imageType == ImageSInt64.class )
+			return (SparseScaleGradient<T,?>)new SparseIntegralHaar_NoBorder_I64(radius);
 		else
 			throw new IllegalArgumentException("Unsupported image type: "+imageType.getSimpleName());
 	}
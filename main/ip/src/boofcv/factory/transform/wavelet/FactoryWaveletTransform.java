@@ -21,6 +21,7 @@ package boofcv.factory.transform.wavelet;
 import boofcv.abst.wavelet.WaveletTransform;
 import boofcv.abst.wavelet.impl.WaveletTransformFloat32;
 import boofcv.abst.wavelet.impl.WaveletTransformInt;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.image.ImageFloat32;
 import boofcv.struct.image.ImageInteger;
 import boofcv.struct.image.ImageSInt32;
@@ -40,17 +41,35 @@ import boofcv.struct.wavelet.WlCoef_I32;
 public class FactoryWaveletTransform {
 
 
-	@SuppressWarnings({"unchecked"})
 	public static <T extends ImageSingleBand, W extends ImageSingleBand, C extends WlCoef>
 	WaveletTransform<T,W,C> create( Class<T> imageType , WaveletDescription<C> waveletDesc , int numLevels ,
 									double minPixelValue , double maxPixelValue)
+	{
+		return create(imageType,waveletDesc,numLevels,minPixelValue,maxPixelValue,BoofConcurrency.USE_CONCURRENT);
+	}
+
+	/**
+	 * Creates a wavelet transform for the specified image type.
+	 *
+	 * @param imageType Type of input image.
+	 * @param waveletDesc Description of the wavelet.
+	 * @param numLevels Number of levels in the multi-level transform.
+	 * @param minPixelValue Minimum pixel intensity value
+	 * @param maxPixelValue Maximum pixel intensity value
+	 * @param concurrent If true the image will be processed by multiple threads.  See {@link BoofConcurrency}.
+	 * @return The transform class.
+	 */
+	@SuppressWarnings({"unchecked"})
+	public static <T extends ImageSingleBand, W extends ImageSingleBand, C extends WlCoef>
+	WaveletTransform<T,W,C> create( Class<T> imageType , WaveletDescription<C> waveletDesc , int numLevels ,
+									double minPixelValue , double maxPixelValue , boolean concurrent )
 	{
 		if( waveletDesc.getForward().getType() == float.class ) {
 			return (WaveletTransform<T,W,C>)create_F32((WaveletDescription)waveletDesc,numLevels,
-					(float)minPixelValue,(float)maxPixelValue);
+					(float)minPixelValue,(float)maxPixelValue,concurrent);
 		} else if( waveletDesc.getForward().getType() == int.class ) {
 			return (WaveletTransform<T,W,C>)create_I((WaveletDescription)waveletDesc,numLevels,
-			(int)minPixelValue,(int)maxPixelValue,(Class)imageType);
+			(int)minPixelValue,(int)maxPixelValue,(Class)imageType,concurrent);
 		} else {
 			throw new RuntimeException("Add support for this image type");
 		}
@@ -71,7 +90,26 @@ public class FactoryWaveletTransform {
 			  int numLevels , int minPixelValue , int maxPixelValue ,
 			  Class<T> imageType )
 	{
-		return new WaveletTransformInt<T>(waveletDesc,numLevels,minPixelValue,maxPixelValue,imageType);
+		return create_I(waveletDesc,numLevels,minPixelValue,maxPixelValue,imageType,BoofConcurrency.USE_CONCURRENT);
+	}
+
+	/**
+	 * Creates a wavelet transform for images that are derived from {@link ImageInteger}.
+	 *
+	 * @param waveletDesc Description of the wavelet.
+	 * @param numLevels Number of levels in the multi-level transform.
+	 * @param minPixelValue Minimum pixel intensity value
+	 * @param maxPixelValue Maximum pixel intensity value
+	 * @param concurrent If true the image will be processed by multiple threads.  See {@link BoofConcurrency}.
+	 * @return The transform class.
+	 */
+	public static <T extends ImageInteger>
+	WaveletTransform<T, ImageSInt32,WlCoef_I32>
+	create_I( WaveletDescription<WlCoef_I32> waveletDesc ,
+			  int numLevels , int minPixelValue , int maxPixelValue ,
+			  Class<T> imageType , boolean concurrent )
+	{
+		return new WaveletTransformInt<T>(waveletDesc,numLevels,minPixelValue,maxPixelValue,imageType,concurrent);
 	}
 
 	/**
@@ -88,6 +126,24 @@ public class FactoryWaveletTransform {
 	create_F32( WaveletDescription<WlCoef_F32> waveletDesc ,
 				int numLevels, float minPixelValue , float maxPixelValue )
 	{
-		return new WaveletTransformFloat32(waveletDesc,numLevels,minPixelValue,maxPixelValue);
+		return create_F32(waveletDesc,numLevels,minPixelValue,maxPixelValue,BoofConcurrency.USE_CONCURRENT);
+	}
+
+	/**
+	 * Creates a wavelet transform for images that are of type {@link ImageFloat32}.
+	 *
+	 * @param waveletDesc Description of the wavelet.
+	 * @param numLevels Number of levels in the multi-level transform.
+	 * @param minPixelValue Minimum pixel intensity value
+	 * @param maxPixelValue Maximum pixel intensity value
+	 * @param concurrent If true the image will be processed by multiple threads.  See {@link BoofConcurrency}.
+	 * @return The transform class.
+	 */
+	public static
+	WaveletTransform<ImageFloat32, ImageFloat32,WlCoef_F32>
+	create_F32( WaveletDescription<WlCoef_F32> waveletDesc ,
+				int numLevels, float minPixelValue , float maxPixelValue , boolean concurrent )
+	{
+		return new WaveletTransformFloat32(waveletDesc,numLevels,minPixelValue,maxPixelValue,concurrent);
 	}
 }
@@ -38,4 +38,10 @@ public class BoofDefaults {
 
 	// multiplication factor to go from scale to pixel radius
 	public static final double SCALE_SPACE_CANONICAL_RADIUS = 2.5;
+
+	/**
+	 * If true then filter factories which can't find a generated type specific implementation of a function
+	 * will invoke the function through reflection.  If false, the default, they throw an exception instead.
+	 */
+	public static boolean ALLOW_REFLECTION = false;
 }
@@ -39,8 +39,12 @@ public class FactoryImage {
 			return (T)new ImageSInt16(width,height);
 		} else if( type == ImageSInt32.class) {
 			return (T)new ImageSInt32(width,height);
+		} else if( type == ImageSInt64.class) {
+			return (T)new ImageSInt64(width,height);
 		} else if( type == ImageFloat32.class) {
 			return (T)new ImageFloat32(width,height);
+		} else if( type == ImageFloat64.class) {
+			return (T)new ImageFloat64(width,height);
 		} else{
 			throw new IllegalArgumentException("Unknown image type: "+type);
 		}
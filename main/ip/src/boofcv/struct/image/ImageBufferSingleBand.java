@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.struct.image;
+
+/**
+ * <p>
+ * Base class for single band images whose pixels are stored inside a {@link java.nio.Buffer} instead of a Java
+ * array.  This allows memory which is owned by native code, e.g. frames from a capture device or memory mapped
+ * files, to be processed in place without first being copied into an {@link ImageSingleBand}.  The
+ * buffer can be direct, mapped, or heap.
+ * </p>
+ *
+ * <p>
+ * Pixels are accessed using the same startIndex and stride as other images, where index zero is the first element
+ * in the buffer.  Absolute get/put is used and the buffer's position and limit are ignored.  Only functions
+ * which explicitly support buffer images, e.g. {@link boofcv.alg.misc.PixelMathBuffer}, can process these images.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public abstract class ImageBufferSingleBand<T extends ImageBufferSingleBand> extends ImageBase<T> {
+
+	/**
+	 * Number of elements in the buffer
+	 */
+	protected abstract int _capacity();
+
+	/**
+	 * Replaces the buffer with a new direct buffer that has the specified number of elements
+	 */
+	protected abstract void _allocate( int length );
+
+	/**
+	 * Makes the provided image reference the same buffer as this image
+	 */
+	protected abstract void _shareBuffer( T image );
+
+	@Override
+	public T subimage(int x0, int y0, int x1, int y1) {
+		if (x0 < 0 || y0 < 0)
+			throw new IllegalArgumentException("x0 or y0 is less than zero");
+		if (x1 < x0 || y1 < y0)
+			throw new IllegalArgumentException("x1 or y1 is less than x0 or y0 respectively");
+		if (x1 > width || y1 > height)
+			throw new IllegalArgumentException("x1 or y1 is more than the width or height respectively");
+
+		T ret = _createNew(-1, -1);
+		_shareBuffer(ret);
+		ret.stride = Math.max(width, stride);
+		ret.width = x1 - x0;
+		ret.height = y1 - y0;
+		ret.startIndex = startIndex + y0 * stride + x0;
+
+		return ret;
+	}
+
+	/**
+	 * Changes the image's shape.  A new direct buffer is only allocated if the current buffer is too small.
+	 */
+	@Override
+	public void reshape(int width, int height) {
+		if( isSubimage() )
+			throw new IllegalArgumentException("Can't reshape sub-images");
+
+		if( _capacity() < width*height )
+			_allocate(width*height);
+
+		this.stride = width;
+		this.width = width;
+		this.height = height;
+	}
+
+	/**
+	 * Checks to see if the buffer is large enough for the image's shape
+	 */
+	protected void checkCapacity() {
+		if( startIndex < 0 || stride < width )
+			throw new IllegalArgumentException("Invalid startIndex or stride");
+		if( height > 0 && width > 0 && startIndex + (height-1)*stride + width > _capacity() )
+			throw new IllegalArgumentException("Buffer is too small for the image");
+	}
+}
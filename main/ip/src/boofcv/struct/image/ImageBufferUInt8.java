@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.struct.image;
+
+import java.nio.ByteBuffer;
+
+/**
+ * <p>
+ * Image with a pixel type of unsigned 8-bit integer that is stored inside a {@link ByteBuffer}.
+ * </p>
+ *
+ * @see ImageBufferSingleBand
+ *
+ * @author Peter Abeles
+ */
+public class ImageBufferUInt8 extends ImageBufferSingleBand<ImageBufferUInt8> {
+
+	public ByteBuffer data;
+
+	/**
+	 * Creates a new image with an arbitrary shape which is stored in a new direct buffer.
+	 *
+	 * @param width  Image's width.
+	 * @param height Image's height.
+	 */
+	public ImageBufferUInt8(int width, int height) {
+		_allocate(width*height);
+		this.stride = width;
+		this.width = width;
+		this.height = height;
+	}
+
+	/**
+	 * Creates an image which references an existing buffer.  No data is copied.
+	 *
+	 * @param data Buffer which contains the image.
+	 * @param width  Image's width.
+	 * @param height Image's height.
+	 * @param startIndex Index of the first pixel in the buffer.
+	 * @param stride Number of elements between the start of each row.
+	 */
+	public ImageBufferUInt8(ByteBuffer data, int width, int height, int startIndex, int stride) {
+		this.data = data;
+		this.width = width;
+		this.height = height;
+		this.startIndex = startIndex;
+		this.stride = stride;
+		checkCapacity();
+	}
+
+	public ImageBufferUInt8() {
+	}
+
+	/**
+	 * Returns the value of the specified pixel.
+	 *
+	 * @param x pixel coordinate.
+	 * @param y pixel coordinate.
+	 * @return Pixel intensity value.
+	 */
+	public int get(int x, int y) {
+		if (!isInBounds(x, y))
+			throw new ImageAccessException("Requested pixel is out of bounds: "+x+" "+y);
+
+		return unsafe_get(x,y);
+	}
+
+	public int unsafe_get(int x, int y) {
+		return data.get(getIndex(x, y)) & 0xFF;
+	}
+
+	/**
+	 * Sets the value of the specified pixel.
+	 *
+	 * @param x	 pixel coordinate.
+	 * @param y	 pixel coordinate.
+	 * @param value The pixel's new value.
+	 */
+	public void set(int x, int y, int value) {
+		if (!isInBounds(x, y))
+			throw new ImageAccessException("Requested pixel is out of bounds: "+x+" "+y);
+
+		unsafe_set(x,y,value);
+	}
+
+	public void unsafe_set(int x, int y, int value) {
+		data.put(getIndex(x, y), (byte) value);
+	}
+
+	@Override
+	public void setTo(ImageBufferUInt8 orig) {
+		if (orig.width != width || orig.height != height)
+			throw new IllegalArgumentException("The width and/or height of 'orig' is not the same as this class");
+
+		ByteBuffer src = orig.data.duplicate();
+		ByteBuffer dst = data.duplicate();
+
+		for (int y = 0; y < height; y++) {
+			int indexSrc = orig.startIndex + y*orig.stride;
+			src.limit(indexSrc + width).position(indexSrc);
+			dst.position(startIndex + y*stride);
+			dst.put(src);
+		}
+	}
+
+	@Override
+	protected int _capacity() {
+		return data == null ? 0 : data.capacity();
+	}
+
+	@Override
+	protected void _allocate(int length) {
+		data = ByteBuffer.allocateDirect(length);
+	}
+
+	@Override
+	protected void _shareBuffer(ImageBufferUInt8 image) {
+		image.data = data;
+	}
+
+	@Override
+	public ImageBufferUInt8 _createNew(int imgWidth, int imgHeight) {
+		if (imgWidth == -1 || imgHeight == -1)
+			return new ImageBufferUInt8();
+		return new ImageBufferUInt8(imgWidth, imgHeight);
+	}
+}
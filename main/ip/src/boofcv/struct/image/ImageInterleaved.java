@@ -93,12 +93,12 @@ public abstract class ImageInterleaved<T extends ImageInterleaved> extends Image
 
 		if( Array.getLength(data) < width*height*numBands ) {
 			ImageInterleaved<?> a = _createNew(width,height);
-			_setData(a);
+			_setData(a._getData());
 		}
 
 		this.width = width;
 		this.height = height;
-		this.stride = width;
+		this.stride = width*numBands;
 	}
 
 	@Override
@@ -0,0 +1,301 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.struct.image;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>
+ * Thread safe pool of images which algorithms use for temporary storage.  Instead of each instance of an algorithm
+ * holding onto its own work images, an image is borrowed from the pool when it is needed and returned
+ * once the algorithm is done with it.  When many algorithms are run at the same time, e.g. one per video stream,
+ * the same memory is recycled between them instead of being garbage collected.
+ * </p>
+ *
+ * <p>
+ * Images are matched by type and shape.  The contents of a borrowed image are undefined.  The total amount of
+ * memory held by the pool is bounded.  If returning an image would exceed the bound then the images which have
+ * been in the pool the longest are discarded first.
+ * </p>
+ *
+ * <p>
+ * Usage:
+ * <pre>
+ * ImageFloat32 work = pool.borrow(ImageFloat32.class,width,height);
+ * try {
+ *     ...
+ * } finally {
+ *     pool.release(work);
+ * }
+ * </pre>
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public class ImagePool {
+
+	/**
+	 * Upper limit on the number of bytes held by the shared pool.  Large enough for several 4K (3840x2160)
+	 * {@link ImageFloat32} images, which are 33 MB each.
+	 */
+	public static final long DEFAULT_MAX_BYTES = 256*1024*1024;
+
+	// pool shared by all algorithms
+	private static final ImagePool shared = new ImagePool(defaultMaxBytes());
+
+	// images which are available, for each type and shape
+	private Map<Key,List<ImageSingleBand>> available = new HashMap<Key,List<ImageSingleBand>>();
+	// all available images, ordered from the first returned to the most recently returned
+	private LinkedList<ImageSingleBand> age = new LinkedList<ImageSingleBand>();
+
+	// maximum number of bytes in available images
+	private long maxBytes;
+	// number of bytes in available images
+	private long totalBytes;
+
+	// statistics
+	private long hits;
+	private long misses;
+	private long discarded;
+
+	// used to look up images without declaring a new key
+	private Key lookup = new Key();
+
+	/**
+	 * Creates a new pool.
+	 *
+	 * @param maxBytes Maximum number of bytes held by images in the pool.
+	 */
+	public ImagePool( long maxBytes ) {
+		setMaxBytes(maxBytes);
+	}
+
+	/**
+	 * Maximum number of bytes used by the shared pool.  It's {@link #DEFAULT_MAX_BYTES} or one quarter of
+	 * the maximum heap size, whichever is smaller, so that a small heap isn't filled with unused images.
+	 */
+	public static long defaultMaxBytes() {
+		return Math.min(DEFAULT_MAX_BYTES, Runtime.getRuntime().maxMemory()/4);
+	}
+
+	/**
+	 * Returns the pool which is shared by all algorithms, by default.  Its size is set by
+	 * {@link #defaultMaxBytes()}.
+	 */
+	public static ImagePool getShared() {
+		return shared;
+	}
+
+	/**
+	 * Returns an image of the specified type and shape.  If none are available a new image is declared.
+	 *
+	 * @param type Type of image.
+	 * @param width Image width.
+	 * @param height Image height.
+	 * @return An image whose contents are undefined.
+	 */
+	@SuppressWarnings({"unchecked"})
+	public <T extends ImageSingleBand> T borrow( Class<T> type , int width , int height ) {
+		synchronized( this ) {
+			lookup.set(type,width,height);
+			List<ImageSingleBand> list = available.get(lookup);
+			if( list != null && list.size() > 0 ) {
+				ImageSingleBand image = list.remove(list.size()-1);
+				age.removeLastOccurrence(image);
+				totalBytes -= sizeOf(image);
+				hits++;
+				return (T)image;
+			}
+			misses++;
+		}
+		return FactoryImage.create(type,width,height);
+	}
+
+	/**
+	 * Returns an image to the pool.  After being returned the image must not be referenced by the caller.
+	 *
+	 * @param image Image which is being returned.  Can't be a sub-image or already in the pool.
+	 *              If null nothing happens.
+	 */
+	public synchronized void release( ImageSingleBand image ) {
+		if( image == null )
+			return;
+		if( image.isSubimage() )
+			throw new IllegalArgumentException("Sub-images can't be returned to the pool");
+
+		// if the same image was in the pool twice it would be given to two different borrowers
+		lookup.set(image.getClass(),image.width,image.height);
+		List<ImageSingleBand> list = available.get(lookup);
+		if( list != null ) {
+			for( int i = 0; i < list.size(); i++ ) {
+				if( list.get(i) == image )
+					throw new IllegalArgumentException("The image has already been returned to the pool");
+			}
+		}
+
+		long size = sizeOf(image);
+		if( size > maxBytes ) {
+			discarded++;
+			return;
+		}
+
+		while( totalBytes + size > maxBytes ) {
+			discardOldest();
+		}
+
+		// discarding images can remove the list and modifies the lookup key
+		lookup.set(image.getClass(),image.width,image.height);
+		list = available.get(lookup);
+		if( list == null ) {
+			list = new ArrayList<ImageSingleBand>();
+			available.put(new Key(image.getClass(),image.width,image.height),list);
+		}
+		list.add(image);
+		age.addLast(image);
+		totalBytes += size;
+	}
+
+	/**
+	 * Discards all the images in the pool.  Statistics are not modified.
+	 */
+	public synchronized void clear() {
+		available.clear();
+		age.clear();
+		totalBytes = 0;
+	}
+
+	/**
+	 * Sets the statistics back to zero.
+	 */
+	public synchronized void resetStatistics() {
+		hits = misses = discarded = 0;
+	}
+
+	/**
+	 * Changes the maximum number of bytes held by the pool.  Images are discarded if needed.
+	 */
+	public synchronized void setMaxBytes( long maxBytes ) {
+		if( maxBytes < 0 )
+			throw new IllegalArgumentException("maxBytes must be >= 0");
+		this.maxBytes = maxBytes;
+		while( totalBytes > maxBytes )
+			discardOldest();
+	}
+
+	public synchronized long getMaxBytes() {
+		return maxBytes;
+	}
+
+	/**
+	 * Number of bytes in images which are currently in the pool.
+	 */
+	public synchronized long getTotalBytes() {
+		return totalBytes;
+	}
+
+	/**
+	 * Number of images currently in the pool.
+	 */
+	public synchronized int getTotalImages() {
+		return age.size();
+	}
+
+	/**
+	 * Number of times an image was borrowed and one was available.
+	 */
+	public synchronized long getHits() {
+		return hits;
+	}
+
+	/**
+	 * Number of times an image was borrowed and a new one needed to be declared.
+	 */
+	public synchronized long getMisses() {
+		return misses;
+	}
+
+	/**
+	 * Number of images which were discarded to keep the pool inside its memory bound.
+	 */
+	public synchronized long getDiscarded() {
+		return discarded;
+	}
+
+	@Override
+	public synchronized String toString() {
+		return "ImagePool{ hits = "+hits+" misses = "+misses+" discarded = "+discarded+
+				" images = "+age.size()+" bytes = "+totalBytes+" }";
+	}
+
+	private void discardOldest() {
+		ImageSingleBand image = age.removeFirst();
+		lookup.set(image.getClass(),image.width,image.height);
+		List<ImageSingleBand> list = available.get(lookup);
+		// the oldest image for a key is always the first one in its list
+		list.remove(0);
+		if( list.size() == 0 )
+			available.remove(lookup);
+		totalBytes -= sizeOf(image);
+		discarded++;
+	}
+
+	private static long sizeOf( ImageSingleBand image ) {
+		return (long)Array.getLength(image._getData())*(image.getTypeInfo().getNumBits()/8);
+	}
+
+	/**
+	 * Type and shape of an image
+	 */
+	private static class Key {
+		Class type;
+		int width;
+		int height;
+
+		private Key() {
+		}
+
+		private Key(Class type, int width, int height) {
+			set(type,width,height);
+		}
+
+		public void set(Class type, int width, int height) {
+			this.type = type;
+			this.width = width;
+			this.height = height;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if( !(o instanceof Key) )
+				return false;
+			Key k = (Key)o;
+			return type == k.type && width == k.width && height == k.height;
+		}
+
+		@Override
+		public int hashCode() {
+			return (type.hashCode()*31 + width)*31 + height;
+		}
+	}
+}
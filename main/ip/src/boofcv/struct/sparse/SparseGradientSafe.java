@@ -62,6 +62,33 @@ public class SparseGradientSafe<T extends ImageSingleBand, G extends GradientVal
 			return zero;
 	}
 
+	/**
+	 * If every point is inside the image then the wrapped gradient's batch function is used, otherwise
+	 * each point is checked and the gradient is set to zero for points outside the image.
+	 */
+	@Override
+	public void compute(int[] x, int[] y, int length, double[] derivX, double[] derivY) {
+		boolean inside = true;
+		for( int i = 0; i < length && inside; i++ ) {
+			inside = wrap.isInBounds(x[i],y[i]);
+		}
+
+		if( inside ) {
+			wrap.compute(x,y,length,derivX,derivY);
+		} else {
+			for( int i = 0; i < length; i++ ) {
+				if( wrap.isInBounds(x[i],y[i]) ) {
+					G g = wrap.compute(x[i],y[i]);
+					derivX[i] = g.getX();
+					derivY[i] = g.getY();
+				} else {
+					derivX[i] = 0;
+					derivY[i] = 0;
+				}
+			}
+		}
+	}
+
 	@Override
 	public Class<G> getGradientType() {
 		return wrap.getGradientType();
@@ -37,6 +37,19 @@ public interface SparseImageGradient<T extends ImageSingleBand, G extends Gradie
 	 * @return Gradient at that point.
 	 */
 	public G compute( int x , int y );
+
+	/**
+	 * Computes the gradient at a set of points.  Produces the same results as calling {@link #compute(int, int)}
+	 * for each point, but the per call overhead is only paid once for the whole set, e.g. all the samples
+	 * in a descriptor's grid.
+	 *
+	 * @param x x-axis pixel coordinate of each point.
+	 * @param y y-axis pixel coordinate of each point.
+	 * @param length Number of points.
+	 * @param derivX (Output) Gradient along the x-axis at each point.
+	 * @param derivY (Output) Gradient along the y-axis at each point.
+	 */
+	public void compute( int x[] , int y[] , int length , double derivX[] , double derivY[] );
 	
 	public Class<G> getGradientType();
 }
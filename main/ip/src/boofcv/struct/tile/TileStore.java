@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.struct.tile;
+
+import boofcv.struct.image.ImageSingleBand;
+
+/**
+ * <p>
+ * Storage for an image which is accessed one rectangular region at a time, e.g. an image which is too large
+ * to fit inside a single array or on the heap.  Regions are copied into and out of regular images, which can
+ * then be processed by any algorithm.
+ * </p>
+ *
+ * <p>
+ * Implementations must allow regions which do not overlap to be read and written by different threads at the
+ * same time.
+ * </p>
+ *
+ * @author Peter Abeles
+ */
+public interface TileStore<T extends ImageSingleBand> {
+
+	/**
+	 * Width of the stored image.
+	 */
+	public int getWidth();
+
+	/**
+	 * Height of the stored image.
+	 */
+	public int getHeight();
+
+	/**
+	 * Type of image which regions are read into and written from.
+	 */
+	public Class<T> getImageType();
+
+	/**
+	 * Copies a region of the stored image into 'output'.  The region has the same shape as 'output' and
+	 * must be entirely inside the stored image.
+	 *
+	 * @param x0 x-coordinate of the region's top-left corner.
+	 * @param y0 y-coordinate of the region's top-left corner.
+	 * @param output Storage for the region. Modified.
+	 */
+	public void read( int x0 , int y0 , T output );
+
+	/**
+	 * Copies 'input' into a region of the stored image.  The region has the same shape as 'input' and
+	 * must be entirely inside the stored image.
+	 *
+	 * @param x0 x-coordinate of the region's top-left corner.
+	 * @param y0 y-coordinate of the region's top-left corner.
+	 * @param input Image which is written. Not modified.
+	 */
+	public void write( int x0 , int y0 , T input );
+}
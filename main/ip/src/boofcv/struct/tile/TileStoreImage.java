@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.struct.tile;
+
+import boofcv.struct.image.ImageSingleBand;
+
+/**
+ * {@link TileStore} for an image which is in memory.
+ *
+ * @author Peter Abeles
+ */
+@SuppressWarnings({"unchecked"})
+public class TileStoreImage<T extends ImageSingleBand> implements TileStore<T> {
+
+	T image;
+
+	public TileStoreImage(T image) {
+		this.image = image;
+	}
+
+	@Override
+	public int getWidth() {
+		return image.width;
+	}
+
+	@Override
+	public int getHeight() {
+		return image.height;
+	}
+
+	@Override
+	public Class<T> getImageType() {
+		return (Class<T>)image.getClass();
+	}
+
+	@Override
+	public void read(int x0, int y0, T output) {
+		output.setTo(image.subimage(x0, y0, x0 + output.width, y0 + output.height));
+	}
+
+	@Override
+	public void write(int x0, int y0, T input) {
+		image.subimage(x0, y0, x0 + input.width, y0 + input.height).setTo(input);
+	}
+
+	public T getImage() {
+		return image;
+	}
+}
@@ -23,6 +23,7 @@ import boofcv.core.image.GImageSingleBand;
 import boofcv.core.image.GeneralizedImageOps;
 import boofcv.struct.image.*;
 import sun.awt.image.ByteInterleavedRaster;
+import sun.awt.image.ShortInterleavedRaster;
 
 import java.awt.image.BufferedImage;
 import java.lang.reflect.InvocationTargetException;
@@ -576,6 +577,21 @@ public class BoofTesting {
 				}
 				return;
 			}
+		} else if (isShortGray(imgA)) {
+			ShortInterleavedRaster raster = (ShortInterleavedRaster) imgA.getRaster();
+			int strideA = raster.getScanlineStride();
+			int offsetA = raster.getDataOffset(0);
+
+			for (int i = 0; i < imgA.getHeight(); i++) {
+				for (int j = 0; j < imgA.getWidth(); j++) {
+					int valB = imgB.get(j, i);
+					int valA = (raster.getDataStorage()[offsetA + i*strideA + j] & 0xFFFF) >>> 8;
+
+					if (valA != valB)
+						throw new RuntimeException("Images are not equal: "+valA+" "+valB);
+				}
+			}
+			return;
 		}
 
 		for (int y = 0; y < imgA.getHeight(); y++) {
@@ -623,6 +639,21 @@ public class BoofTesting {
 				}
 				return;
 			}
+		} else if (isShortGray(imgA)) {
+			ShortInterleavedRaster raster = (ShortInterleavedRaster) imgA.getRaster();
+			int strideA = raster.getScanlineStride();
+			int offsetA = raster.getDataOffset(0);
+
+			for (int i = 0; i < imgA.getHeight(); i++) {
+				for (int j = 0; j < imgA.getWidth(); j++) {
+					float valB = imgB.get(j, i);
+					float valA = (raster.getDataStorage()[offsetA + i*strideA + j] & 0xFFFF) / 257.0f;
+
+					if (Math.abs(valA - valB) > tol)
+						throw new RuntimeException("Images are not equal: A = " + valA + " B = " + valB);
+				}
+			}
+			return;
 		}
 
 		for (int y = 0; y < imgA.getHeight(); y++) {
@@ -647,15 +678,19 @@ public class BoofTesting {
 	 */
 	public static void checkEquals(BufferedImage imgA, ImageInterleavedInt8 imgB) {
 
-		if (imgA.getRaster() instanceof ByteInterleavedRaster) {
+		if (imgA.getRaster() instanceof ByteInterleavedRaster &&
+				imgA.getType() != BufferedImage.TYPE_BYTE_INDEXED ) {
 			ByteInterleavedRaster raster = (ByteInterleavedRaster) imgA.getRaster();
 
 			if (raster.getNumBands() == 1) {
+				int strideA = raster.getScanlineStride();
+				int offsetA = raster.getDataOffset(0);
+
 				// handle a special case where the RGB conversion is screwed
 				for (int i = 0; i < imgA.getHeight(); i++) {
 					for (int j = 0; j < imgA.getWidth(); j++) {
 						int valB = imgB.getBand(j, i, 0);
-						int valA = raster.getDataStorage()[i * imgA.getWidth() + j];
+						int valA = raster.getDataStorage()[offsetA + i * strideA + j];
 
 						if (valA != valB)
 							throw new RuntimeException("Images are not equal");
@@ -665,6 +700,8 @@ public class BoofTesting {
 			}
 		}
 
+		int[] bands = rgbBandIndexes(imgA);
+
 		for (int y = 0; y < imgA.getHeight(); y++) {
 			for (int x = 0; x < imgA.getWidth(); x++) {
 				int rgb = imgA.getRGB(x, y);
@@ -673,16 +710,42 @@ public class BoofTesting {
 				int g = (rgb >>> 8) & 0xFF;
 				int b = rgb & 0xFF;
 
-				if (Math.abs(b - imgB.getBand(x, y, 0) & 0xFF) != 0)
+				if (Math.abs(r - imgB.getBand(x, y, bands[0]) & 0xFF) != 0)
 					throw new RuntimeException("images are not equal: ");
-				if (Math.abs(g - imgB.getBand(x, y, 1) & 0xFF) != 0)
+				if (Math.abs(g - imgB.getBand(x, y, bands[1]) & 0xFF) != 0)
 					throw new RuntimeException("images are not equal: ");
-				if (Math.abs(r - imgB.getBand(x, y, 2) & 0xFF) != 0)
+				if (Math.abs(b - imgB.getBand(x, y, bands[2]) & 0xFF) != 0)
 					throw new RuntimeException("images are not equal: ");
 			}
 		}
 	}
 
+	/**
+	 * Returns the index of the red, green, and blue bands in an image which was converted from the BufferedImage.
+	 */
+	private static int[] rgbBandIndexes(BufferedImage img) {
+		if (img.getType() == BufferedImage.TYPE_3BYTE_BGR ||
+				img.getType() == BufferedImage.TYPE_INT_BGR ) {
+			return new int[]{2,1,0};
+		} else if (img.getType() == BufferedImage.TYPE_INT_RGB ||
+				img.getType() == BufferedImage.TYPE_BYTE_INDEXED ) {
+			return new int[]{0,1,2};
+		} else if (img.getType() == BufferedImage.TYPE_4BYTE_ABGR) {
+			return new int[]{3,2,1};
+		} else if (img.getType() == BufferedImage.TYPE_INT_ARGB) {
+			return new int[]{1,2,3};
+		} else {
+			throw new RuntimeException("Handle this case");
+		}
+	}
+
+	/**
+	 * True if the image is a single band 16-bit image
+	 */
+	private static boolean isShortGray(BufferedImage img) {
+		return img.getRaster() instanceof ShortInterleavedRaster && img.getRaster().getNumBands() == 1;
+	}
+
 	public static void checkEquals(BufferedImage imgA, MultiSpectral imgB, float tol) {
 
 		if (imgA.getRaster() instanceof ByteInterleavedRaster &&
@@ -708,31 +771,33 @@ public class BoofTesting {
 				}
 				return;
 			}
+		} else if (isShortGray(imgA)) {
+			ShortInterleavedRaster raster = (ShortInterleavedRaster) imgA.getRaster();
+			int strideA = raster.getScanlineStride();
+			int offsetA = raster.getDataOffset(0);
+
+			for (int b = 0; b < imgB.getNumBands(); b++) {
+				GImageSingleBand band = FactoryGImageSingleBand.wrap(imgB.getBand(b));
+
+				for (int i = 0; i < imgA.getHeight(); i++) {
+					for (int j = 0; j < imgA.getWidth(); j++) {
+						double valB = band.get(j, i).doubleValue();
+						int valA = (raster.getDataStorage()[offsetA + i * strideA + j] & 0xFFFF) >>> 8;
+
+						if (Math.abs(valA - valB) > tol)
+							throw new RuntimeException("Images are not equal: A = " + valA + " B = " + valB);
+					}
+				}
+			}
+			return;
 		}
 
 		GImageSingleBand band1, band2, band3;
 
-		if (imgA.getType() == BufferedImage.TYPE_3BYTE_BGR ||
-				imgA.getType() == BufferedImage.TYPE_INT_BGR ) {
-			band1 = FactoryGImageSingleBand.wrap(imgB.getBand(2));
-			band2 = FactoryGImageSingleBand.wrap(imgB.getBand(1));
-			band3 = FactoryGImageSingleBand.wrap(imgB.getBand(0));
-		} else if (imgA.getType() == BufferedImage.TYPE_INT_RGB ||
-				imgA.getType() == BufferedImage.TYPE_BYTE_INDEXED ) {
-			band1 = FactoryGImageSingleBand.wrap(imgB.getBand(0));
-			band2 = FactoryGImageSingleBand.wrap(imgB.getBand(1));
-			band3 = FactoryGImageSingleBand.wrap(imgB.getBand(2));
-		} else if (imgA.getType() == BufferedImage.TYPE_4BYTE_ABGR) {
-			band1 = FactoryGImageSingleBand.wrap(imgB.getBand(3));
-			band2 = FactoryGImageSingleBand.wrap(imgB.getBand(2));
-			band3 = FactoryGImageSingleBand.wrap(imgB.getBand(1));
-		} else if (imgA.getType() == BufferedImage.TYPE_INT_ARGB) {
-			band1 = FactoryGImageSingleBand.wrap(imgB.getBand(1));
-			band2 = FactoryGImageSingleBand.wrap(imgB.getBand(2));
-			band3 = FactoryGImageSingleBand.wrap(imgB.getBand(3));
-		} else {
-			throw new RuntimeException("Handle this case");
-		}
+		int[] bands = rgbBandIndexes(imgA);
+		band1 = FactoryGImageSingleBand.wrap(imgB.getBand(bands[0]));
+		band2 = FactoryGImageSingleBand.wrap(imgB.getBand(bands[1]));
+		band3 = FactoryGImageSingleBand.wrap(imgB.getBand(bands[2]));
 
 		for (int y = 0; y < imgA.getHeight(); y++) {
 			for (int x = 0; x < imgA.getWidth(); x++) {
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.abst.filter.blur;
+
+import boofcv.alg.filter.blur.BlurImageOps;
+import boofcv.alg.filter.blur.BlurImageOps_MT;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.factory.filter.blur.FactoryBlurFilter;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageSingleBand;
+import boofcv.struct.image.ImageUInt8;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+
+/**
+ * Compares each specialized blur filter against the same function being invoked using reflection.
+ *
+ * @author Peter Abeles
+ */
+@SuppressWarnings({"unchecked"})
+public class TestBlurSpecialized {
+
+	double sigma = 1.5;
+	int radius = 3;
+	Random rand = new Random(2342);
+
+	int width = 30;
+	int height = 40;
+
+	@Test
+	public void storage() {
+		int total = 0;
+		total += compareAllStorage(BlurImageOps.class);
+		total += compareAllStorage(BlurImageOps_MT.class);
+
+		assertTrue(total > 0);
+	}
+
+	@Test
+	public void median() {
+		int total = 0;
+		total += compareAllMedian(BlurImageOps.class);
+		total += compareAllMedian(BlurImageOps_MT.class);
+
+		assertTrue(total > 0);
+	}
+
+	/**
+	 * Functions which don't have a specialized filter should return null
+	 */
+	@Test
+	public void notSpecialized() throws NoSuchMethodException {
+		Method m = Object.class.getMethod("hashCode");
+
+		assertNull(BlurSpecialized.storage(m,ImageFloat32.class,sigma,radius));
+		assertNull(BlurSpecialized.median(m,ImageFloat32.class,radius));
+	}
+
+	/**
+	 * The factory should return the specialized filters
+	 */
+	@Test
+	public void factoryIsSpecialized() {
+		Class types[] = new Class[]{ImageUInt8.class,ImageFloat32.class};
+		for( Class type : types ) {
+			assertTrue(FactoryBlurFilter.mean(type,radius).getClass() != BlurStorageFilter.class);
+			assertTrue(FactoryBlurFilter.gaussian(type,sigma,radius).getClass() != BlurStorageFilter.class);
+			assertTrue(FactoryBlurFilter.median(type,radius).getClass() != MedianImageFilter.class);
+		}
+	}
+
+	private int compareAllStorage( Class<?> owner ) {
+		int total = 0;
+		for( Method m : owner.getMethods() ) {
+			if( !isBlur(m,owner) )
+				continue;
+
+			Class<?> params[] = m.getParameterTypes();
+			Class imageType = params[0];
+
+			BlurStorageFilter found = BlurSpecialized.storage(m,imageType,sigma,radius);
+			if( m.getName().equals("median") ) {
+				assertNull(found);
+				continue;
+			}
+			assertNotNull(m.toString(),found);
+			BlurStorageFilter expected = new BlurStorageFilter(m,imageType,sigma,radius);
+
+			compare(found,expected,imageType);
+			total++;
+		}
+		return total;
+	}
+
+	private int compareAllMedian( Class<?> owner ) {
+		int total = 0;
+		for( Method m : owner.getMethods() ) {
+			if( !isBlur(m,owner) || !m.getName().equals("median") )
+				continue;
+
+			Class imageType = m.getParameterTypes()[0];
+
+			MedianImageFilter found = BlurSpecialized.median(m,imageType,radius);
+			assertNotNull(m.toString(),found);
+			MedianImageFilter expected = new MedianImageFilter(m,imageType,radius);
+
+			compare(found,expected,imageType);
+			total++;
+		}
+		return total;
+	}
+
+	private void compare( BlurFilter found , BlurFilter expected , Class imageType ) {
+		ImageSingleBand input = GeneralizedImageOps.createSingleBand(imageType,width,height);
+		ImageSingleBand outFound = GeneralizedImageOps.createSingleBand(imageType,width,height);
+		ImageSingleBand outExpected = GeneralizedImageOps.createSingleBand(imageType,width,height);
+
+		GImageMiscOps.fillUniform(input,rand,0,100);
+
+		found.process(input,outFound);
+		expected.process(input,outExpected);
+
+		BoofTesting.assertEquals(outExpected,outFound,1e-4);
+	}
+
+	/**
+	 * Checks to see if the function has the same signature as the functions which the factories look up
+	 */
+	private static boolean isBlur( Method m , Class<?> owner ) {
+		if( !Modifier.isStatic(m.getModifiers()) || m.getDeclaringClass() != owner )
+			return false;
+		Class<?> params[] = m.getParameterTypes();
+		if( params.length < 3 || params[0] != params[1] || params[0] == ImageSingleBand.class ||
+				!ImageSingleBand.class.isAssignableFrom(params[0]) )
+			return false;
+		if( m.getName().equals("median") )
+			return params.length == 3 && params[2] == int.class;
+		if( params.length == 4 )
+			return (params[2] == int.class || params[2] == double.class) &&
+					ImageSingleBand.class.isAssignableFrom(params[3]);
+		return params.length == 5 && params[2] == double.class && params[3] == int.class &&
+				ImageSingleBand.class.isAssignableFrom(params[4]);
+	}
+}
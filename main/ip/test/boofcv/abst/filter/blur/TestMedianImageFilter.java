@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.abst.filter.blur;
+
+import boofcv.alg.filter.blur.BlurImageOps;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageSInt16;
+import boofcv.struct.image.ImageUInt8;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestMedianImageFilter {
+
+	Random rand = new Random(234);
+	int width = 40;
+	int height = 35;
+
+	/**
+	 * Concurrent and single threaded filters should produce the same results
+	 */
+	@Test
+	public void concurrent_U8() {
+		int originalThreads = BoofConcurrency.getMaxThreads();
+		BoofConcurrency.setMaxThreads(3);
+		try {
+			ImageUInt8 input = new ImageUInt8(width,height);
+			ImageMiscOps.fillUniform(input,rand,0,200);
+
+			ImageUInt8 expected = new ImageUInt8(width,height);
+			BlurImageOps.median(input,expected,2);
+
+			ImageUInt8 found = new ImageUInt8(width,height);
+			new MedianImageFilter<ImageUInt8>(ImageUInt8.class,2,true).process(input,found);
+
+			BoofTesting.assertEquals(expected,found,0);
+		} finally {
+			BoofConcurrency.setMaxThreads(originalThreads);
+		}
+	}
+
+	/**
+	 * There is no concurrent implementation for ImageFloat32, so the single threaded one is used
+	 */
+	@Test
+	public void concurrent_F32() {
+		ImageFloat32 input = new ImageFloat32(width,height);
+		ImageMiscOps.fillUniform(input,rand,0,200);
+
+		ImageFloat32 expected = new ImageFloat32(width,height);
+		BlurImageOps.median(input,expected,2);
+
+		ImageFloat32 found = new ImageFloat32(width,height);
+		new MedianImageFilter<ImageFloat32>(ImageFloat32.class,2,true).process(input,found);
+
+		BoofTesting.assertEquals(expected,found,0);
+	}
+
+	/**
+	 * Failing to find the function should not be hidden
+	 */
+	@Test(expected=RuntimeException.class)
+	public void unsupportedType() {
+		new MedianImageFilter<ImageSInt16>(ImageSInt16.class,2,true);
+	}
+}
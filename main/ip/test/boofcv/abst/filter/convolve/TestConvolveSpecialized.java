@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.abst.filter.convolve;
+
+import boofcv.alg.filter.convolve.*;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.core.image.border.BorderType;
+import boofcv.core.image.border.ImageBorder;
+import boofcv.factory.filter.kernel.FactoryKernel;
+import boofcv.struct.convolve.KernelBase;
+import boofcv.struct.image.*;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Random;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * Compares each specialized convolution against the same function being invoked using reflection.
+ *
+ * @author Peter Abeles
+ */
+@SuppressWarnings({"unchecked"})
+public class TestConvolveSpecialized {
+
+	int skip = 2;
+	int radius = 2;
+	Random rand = new Random(2342);
+
+	int width = 30;
+	int height = 40;
+
+	@Test
+	public void convolve() {
+		int total = 0;
+		total += compareAll(ConvolveImageNoBorder.class, BorderType.SKIP);
+		total += compareAll(ConvolveImageNoBorder_MT.class, BorderType.SKIP);
+		total += compareAll(ConvolveWithBorder.class, BorderType.EXTENDED);
+		total += compareAll(ConvolveWithBorder_MT.class, BorderType.EXTENDED);
+		total += compareAll(ConvolveNormalized.class, BorderType.NORMALIZED);
+		total += compareAll(ConvolveNormalized_MT.class, BorderType.NORMALIZED);
+
+		assertTrue(total > 0);
+	}
+
+	@Test
+	public void convolveDown() {
+		int total = 0;
+		total += compareAllDown(ConvolveDownNoBorder.class, BorderType.SKIP);
+		total += compareAllDown(ConvolveDownNormalized.class, BorderType.NORMALIZED);
+
+		assertTrue(total > 0);
+	}
+
+	private int compareAll( Class<?> owner , BorderType type ) {
+		int total = 0;
+		for( Method m : owner.getMethods() ) {
+			if( !isConvolution(m,owner,false) )
+				continue;
+
+			Class<?> params[] = m.getParameterTypes();
+			KernelBase kernel = FactoryKernel.random(params[0],radius,1,6,rand);
+			Class inputType = concrete(params[1]);
+			Class outputType = concrete(params[2]);
+
+			// the 2D no border functions don't have the extra argument and are treated as a normalized convolution
+			BorderType borderType = type == BorderType.SKIP && params.length == 3 ? BorderType.NORMALIZED : type;
+
+			GenericConvolve found = ConvolveSpecialized.convolve(m,kernel,borderType,inputType);
+			assertNotNull(m.toString(),found);
+			GenericConvolve expected = new GenericConvolve(m,kernel,borderType,inputType);
+
+			compare(found,expected,inputType,outputType,width,height);
+			total++;
+		}
+		return total;
+	}
+
+	private int compareAllDown( Class<?> owner , BorderType type ) {
+		int total = 0;
+		for( Method m : owner.getMethods() ) {
+			if( !isConvolution(m,owner,true) )
+				continue;
+
+			Class<?> params[] = m.getParameterTypes();
+			KernelBase kernel = FactoryKernel.random(params[0],radius,1,6,rand);
+			Class inputType = concrete(params[1]);
+			Class outputType = concrete(params[2]);
+
+			GenericConvolveDown found = ConvolveSpecialized.convolveDown(m,kernel,type,skip,inputType);
+			assertNotNull(m.toString(),found);
+			GenericConvolveDown expected = new GenericConvolveDown(m,kernel,type,skip,inputType);
+
+			int outputWidth = m.getName().equals("vertical") ? width : width/skip;
+			int outputHeight = m.getName().equals("horizontal") ? height : height/skip;
+
+			compare(found,expected,inputType,outputType,outputWidth,outputHeight);
+			total++;
+		}
+		return total;
+	}
+
+	private void compare( ConvolveInterface found , ConvolveInterface expected ,
+						  Class inputType , Class outputType , int outputWidth , int outputHeight ) {
+		ImageSingleBand input = GeneralizedImageOps.createSingleBand(inputType,width,height);
+		ImageSingleBand outFound = GeneralizedImageOps.createSingleBand(outputType,outputWidth,outputHeight);
+		ImageSingleBand outExpected = GeneralizedImageOps.createSingleBand(outputType,outputWidth,outputHeight);
+
+		GImageMiscOps.fillUniform(input,rand,0,20);
+
+		found.process(input,outFound);
+		expected.process(input,outExpected);
+
+		BoofTesting.assertEquals(outExpected,outFound,1e-4);
+	}
+
+	/**
+	 * Checks to see if the function has the same signature as the functions which the factories look up
+	 */
+	private static boolean isConvolution( Method m , Class<?> owner , boolean down ) {
+		if( !Modifier.isStatic(m.getModifiers()) || m.getDeclaringClass() != owner )
+			return false;
+		String name = m.getName();
+		if( !name.equals("horizontal") && !name.equals("vertical") && !name.equals("convolve") )
+			return false;
+		Class<?> params[] = m.getParameterTypes();
+		if( params.length < 3 || !KernelBase.class.isAssignableFrom(params[0]) ||
+				!ImageSingleBand.class.isAssignableFrom(params[1]) ||
+				!ImageSingleBand.class.isAssignableFrom(params[2]) )
+			return false;
+		if( down )
+			return params.length == 4 && params[3] == int.class;
+		return params.length == 3 ||
+				(params.length == 4 && (params[3] == boolean.class || ImageBorder.class.isAssignableFrom(params[3])));
+	}
+
+	/**
+	 * Selects an image type which can be passed in to a function with the specified parameter type
+	 */
+	private static Class concrete( Class<?> type ) {
+		if( type == ImageInt16.class )
+			return ImageSInt16.class;
+		else if( type == ImageInt8.class )
+			return ImageSInt8.class;
+		return type;
+	}
+}
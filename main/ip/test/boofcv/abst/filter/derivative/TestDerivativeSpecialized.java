@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.abst.filter.derivative;
+
+import boofcv.alg.filter.derivative.*;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.core.image.border.ImageBorder;
+import boofcv.struct.image.ImageSingleBand;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * Compares each specialized derivative against the same function being invoked using reflection.
+ *
+ * @author Peter Abeles
+ */
+@SuppressWarnings({"unchecked"})
+public class TestDerivativeSpecialized {
+
+	Random rand = new Random(234);
+
+	int width = 20;
+	int height = 30;
+
+	@Test
+	public void gradient() {
+		int total = 0;
+		for( Class<?> owner : new Class[]{GradientPrewitt.class,GradientSobel.class,GradientThree.class}) {
+			for( Method m : findFunctions(owner,"process",4) ) {
+				ImageGradient found = DerivativeSpecialized.gradient(m);
+				assertNotNull(m.toString(),found);
+				ImageGradient expected = new ImageGradient_Reflection(m);
+
+				Class<?> params[] = m.getParameterTypes();
+				ImageSingleBand input = createRandom(params[0]);
+				ImageSingleBand foundX = create(params[1]), foundY = create(params[1]);
+				ImageSingleBand expectedX = create(params[1]), expectedY = create(params[1]);
+
+				found.process(input,foundX,foundY);
+				expected.process(input,expectedX,expectedY);
+
+				BoofTesting.assertEquals(expectedX,foundX,1e-4);
+				BoofTesting.assertEquals(expectedY,foundY,1e-4);
+				total++;
+			}
+		}
+		assertTrue(total > 0);
+	}
+
+	@Test
+	public void hessianDirect() {
+		int total = 0;
+		for( Class<?> owner : new Class[]{HessianSobel.class,HessianThree.class}) {
+			for( Method m : findFunctions(owner,"process",5) ) {
+				ImageHessianDirect found = DerivativeSpecialized.hessianDirect(m);
+				assertNotNull(m.toString(),found);
+				ImageHessianDirect expected = new ImageHessianDirect_Reflection(m);
+
+				Class<?> params[] = m.getParameterTypes();
+				ImageSingleBand input = createRandom(params[0]);
+				ImageSingleBand found1 = create(params[1]), found2 = create(params[1]), found3 = create(params[1]);
+				ImageSingleBand expected1 = create(params[1]), expected2 = create(params[1]), expected3 = create(params[1]);
+
+				found.process(input,found1,found2,found3);
+				expected.process(input,expected1,expected2,expected3);
+
+				BoofTesting.assertEquals(expected1,found1,1e-4);
+				BoofTesting.assertEquals(expected2,found2,1e-4);
+				BoofTesting.assertEquals(expected3,found3,1e-4);
+				total++;
+			}
+		}
+		assertTrue(total > 0);
+	}
+
+	@Test
+	public void hessian() {
+		int total = 0;
+		for( Method m : findFunctions(HessianFromGradient.class,"hessian",6) ) {
+			ImageHessian found = DerivativeSpecialized.hessian(m);
+			assertNotNull(m.toString(),found);
+			ImageHessian expected = new ImageHessian_Reflection(m);
+
+			Class<?> params[] = m.getParameterTypes();
+			ImageSingleBand derivX = createRandom(params[0]), derivY = createRandom(params[0]);
+			ImageSingleBand found1 = create(params[0]), found2 = create(params[0]), found3 = create(params[0]);
+			ImageSingleBand expected1 = create(params[0]), expected2 = create(params[0]), expected3 = create(params[0]);
+
+			found.process(derivX,derivY,found1,found2,found3);
+			expected.process(derivX,derivY,expected1,expected2,expected3);
+
+			BoofTesting.assertEquals(expected1,found1,1e-4);
+			BoofTesting.assertEquals(expected2,found2,1e-4);
+			BoofTesting.assertEquals(expected3,found3,1e-4);
+			total++;
+		}
+		assertTrue(total > 0);
+	}
+
+	private static List<Method> findFunctions( Class<?> owner , String prefix , int numArgs ) {
+		List<Method> ret = new ArrayList<Method>();
+		for( Method m : owner.getMethods() ) {
+			if( !Modifier.isStatic(m.getModifiers()) || m.getDeclaringClass() != owner )
+				continue;
+			Class<?> params[] = m.getParameterTypes();
+			if( m.getName().startsWith(prefix) && params.length == numArgs &&
+					ImageBorder.class.isAssignableFrom(params[numArgs-1]) )
+				ret.add(m);
+		}
+		return ret;
+	}
+
+	private ImageSingleBand create( Class type ) {
+		return GeneralizedImageOps.createSingleBand(type,width,height);
+	}
+
+	private ImageSingleBand createRandom( Class type ) {
+		ImageSingleBand ret = create(type);
+		GImageMiscOps.fillUniform(ret,rand,0,20);
+		return ret;
+	}
+}
@@ -19,12 +19,18 @@
 package boofcv.alg.denoise.impl;
 
 import boofcv.abst.wavelet.WaveletTransform;
+import boofcv.alg.denoise.DenoiseWavelet;
 import boofcv.alg.denoise.GenericDenoiseTests;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.factory.transform.wavelet.FactoryWaveletTransform;
+import boofcv.struct.image.ImageFloat32;
 import boofcv.struct.image.ImageSingleBand;
 import boofcv.struct.wavelet.WaveletDescription;
 import boofcv.testing.BoofTesting;
 
+import java.util.Random;
+
 
 /**
  * Handles the forward and inverse wavelet transform
@@ -61,4 +67,30 @@ public abstract class GenericWaveletDenoiseTests<T extends ImageSingleBand> exte
 
 		transform.invert(transformedImg,imageDenoised);
 	}
+
+	/**
+	 * Checks to see if the concurrent denoiser produces the same results as the single threaded version.  The same
+	 * instance is used on transforms of different sizes to make sure internal storage is correctly reused.
+	 */
+	public static void checkConcurrent( DenoiseWavelet<ImageFloat32> serial , DenoiseWavelet<ImageFloat32> concurrent ) {
+		Random rand = new Random(234);
+		int originalThreads = BoofConcurrency.getMaxThreads();
+		try {
+			BoofConcurrency.setMaxThreads(3);
+
+			int sizes[][] = new int[][]{{64,48},{96,80},{40,56}};
+			for( int[] size : sizes ) {
+				ImageFloat32 expected = new ImageFloat32(size[0],size[1]);
+				GImageMiscOps.fillGaussian(expected,rand,0,20,-200,200);
+				ImageFloat32 found = expected.clone();
+
+				serial.denoise(expected,3);
+				concurrent.denoise(found,3);
+
+				BoofTesting.assertEquals(expected,found,0);
+			}
+		} finally {
+			BoofConcurrency.setMaxThreads(originalThreads);
+		}
+	}
 }
@@ -40,6 +40,11 @@ public class TestDenoiseBayesShrink_F32 extends GenericWaveletDenoiseTests<Image
 		performTest();
 	}
 
+	@Test
+	public void concurrent() {
+		checkConcurrent(new DenoiseBayesShrink_F32(new ShrinkThresholdSoft_F32()),new DenoiseBayesShrink_F32(new ShrinkThresholdSoft_F32(),true));
+	}
+
 	@Override
 	public void denoiseWavelet(ImageSingleBand transformedImg, int numLevels ) {
 		DenoiseBayesShrink_F32 alg = new DenoiseBayesShrink_F32(new ShrinkThresholdSoft_F32());
@@ -96,6 +96,26 @@ public abstract class CommonImageDistortCacheTests<T extends ImageSingleBand> {
 		BoofTesting.assertEquals(dst0, dst1, 1e-4);
 	}
 	
+	/**
+	 * The output image is a sub-image
+	 */
+	@Test
+	public void compareSubImage() {
+
+		ImageDistort<T> standard = FactoryDistort.distort(interp,border,imageType);
+		ImageDistortCache<T> alg = create(interp,border,imageType);
+
+		standard.setModel(tran);
+		alg.setModel(tran);
+
+		T sub = BoofTesting.createSubImageOf(dst1);
+
+		standard.apply(src,dst0);
+		alg.apply(src,sub);
+
+		BoofTesting.assertEquals(dst0, sub, 1e-4);
+	}
+
 	public abstract ImageDistortCache<T> 
 	create(InterpolatePixel<T> interp, ImageBorder<T> border , Class<T> imageType );
 }
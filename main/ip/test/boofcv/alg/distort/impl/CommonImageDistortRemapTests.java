@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.distort.impl;
+
+import boofcv.alg.distort.ImageDistort;
+import boofcv.alg.distort.ImageDistortRemap;
+import boofcv.alg.distort.PixelTransformAffine_F32;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.core.image.border.BorderType;
+import boofcv.core.image.border.FactoryImageBorder;
+import boofcv.core.image.border.ImageBorder;
+import boofcv.factory.distort.FactoryDistort;
+import boofcv.factory.interpolate.FactoryInterpolation;
+import boofcv.struct.image.ImageSingleBand;
+import boofcv.testing.BoofTesting;
+import georegression.struct.affine.Affine2D_F32;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+public abstract class CommonImageDistortRemapTests<T extends ImageSingleBand> {
+
+	Class<T> imageType;
+
+	Random rand = new Random(234234);
+
+	// rotates and scales the image with some of the pixels being outside the source image
+	Affine2D_F32 affine = new Affine2D_F32(0.9f,0.15f,-0.2f,1.1f,5.5f,-3.2f);
+	PixelTransformAffine_F32 tran = new PixelTransformAffine_F32(affine);
+
+	// tolerance when compared against floating point bilinear interpolation
+	double tol;
+
+	T src;
+	T dst0;
+	T dst1;
+
+	protected CommonImageDistortRemapTests(Class<T> imageType, double tol ) {
+		this.imageType = imageType;
+		this.tol = tol;
+
+		src = GeneralizedImageOps.createSingleBand(imageType,200,300);
+		dst0 = GeneralizedImageOps.createSingleBand(imageType,180,310);
+		dst1 = GeneralizedImageOps.createSingleBand(imageType,180,310);
+
+		GImageMiscOps.fillUniform(src, rand, 0, 100);
+	}
+
+	@Test
+	public void compareNoCrop() {
+		for( BorderType type : new BorderType[]{BorderType.VALUE,BorderType.EXTENDED}) {
+			ImageBorder<T> border = type == BorderType.VALUE ?
+					FactoryImageBorder.value(imageType, 1) : FactoryImageBorder.general(imageType,type);
+
+			ImageDistort<T> standard = FactoryDistort.distort(FactoryInterpolation.bilinearPixel(imageType),border,imageType);
+			ImageDistortRemap<T> alg = create(border,false);
+
+			standard.setModel(tran);
+			alg.setModel(tran);
+
+			standard.apply(src,dst0);
+			alg.apply(src,dst1);
+
+			BoofTesting.assertEquals(dst0, dst1, tol);
+		}
+	}
+
+	@Test
+	public void compareCrop() {
+		ImageBorder<T> border = FactoryImageBorder.value(imageType, 1);
+		ImageDistort<T> standard = FactoryDistort.distort(FactoryInterpolation.bilinearPixel(imageType),border,imageType);
+		ImageDistortRemap<T> alg = create(border,false);
+
+		standard.setModel(tran);
+		alg.setModel(tran);
+
+		standard.apply(src,dst0,10,30,80,60);
+		alg.apply(src,dst1,10,30,80,60);
+
+		BoofTesting.assertEquals(dst0, dst1, tol);
+	}
+
+	/**
+	 * Pixels outside the source image should not be modified if there is no border
+	 */
+	@Test
+	public void noBorder() {
+		ImageDistort<T> standard = FactoryDistort.distort(FactoryInterpolation.bilinearPixel(imageType),null,imageType);
+		ImageDistortRemap<T> alg = create(null,false);
+
+		GImageMiscOps.fill(dst0,7);
+		GImageMiscOps.fill(dst1,7);
+
+		standard.setModel(tran);
+		alg.setModel(tran);
+
+		standard.apply(src,dst0);
+		alg.apply(src,dst1);
+
+		BoofTesting.assertEquals(dst0, dst1, tol);
+	}
+
+	/**
+	 * The concurrent implementation should produce identical results
+	 */
+	@Test
+	public void concurrent() {
+		int originalThreads = BoofConcurrency.getMaxThreads();
+		BoofConcurrency.setMaxThreads(3);
+		try {
+			ImageBorder<T> border = FactoryImageBorder.value(imageType, 1);
+			ImageDistortRemap<T> serial = create(border,false);
+			ImageDistortRemap<T> alg = create(border,true);
+
+			serial.setModel(tran);
+			alg.setModel(tran);
+
+			serial.apply(src,dst0);
+			alg.apply(src,dst1);
+
+			BoofTesting.assertEquals(dst0, dst1, 0);
+		} finally {
+			BoofConcurrency.setMaxThreads(originalThreads);
+		}
+	}
+
+	/**
+	 * The remap table should be recomputed when the model changes
+	 */
+	@Test
+	public void changeModel() {
+		ImageBorder<T> border = FactoryImageBorder.value(imageType, 1);
+		ImageDistortRemap<T> alg = create(border,false);
+
+		alg.setModel(new PixelTransformAffine_F32(new Affine2D_F32(1,0,0,1,2,3)));
+		alg.apply(src,dst0);
+		alg.setModel(tran);
+		alg.apply(src,dst0);
+
+		ImageDistortRemap<T> fresh = create(border,false);
+		fresh.setModel(tran);
+		fresh.apply(src,dst1);
+
+		BoofTesting.assertEquals(dst0, dst1, 0);
+	}
+
+	public abstract ImageDistortRemap<T> create( ImageBorder<T> border , boolean concurrent );
+}
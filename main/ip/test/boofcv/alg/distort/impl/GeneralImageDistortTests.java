@@ -19,6 +19,7 @@
 package boofcv.alg.distort.impl;
 
 import boofcv.alg.distort.ImageDistort;
+import boofcv.alg.distort.PixelTransformAffine_F32;
 import boofcv.alg.interpolate.InterpolatePixel;
 import boofcv.alg.misc.GImageMiscOps;
 import boofcv.core.image.GeneralizedImageOps;
@@ -30,6 +31,7 @@ import boofcv.core.image.inst.FactoryImageGenerator;
 import boofcv.factory.interpolate.FactoryInterpolation;
 import boofcv.struct.distort.PixelTransform_F32;
 import boofcv.struct.image.ImageSingleBand;
+import georegression.struct.affine.Affine2D_F32;
 import org.junit.Test;
 
 import java.util.Random;
@@ -192,6 +194,62 @@ public abstract class GeneralImageDistortTests<T extends ImageSingleBand> {
 		}
 	}
 
+	/**
+	 * Distorts the image using affine transforms and compares the results against interpolating each pixel
+	 * individually.  Scale and translation interpolates along rows in the source image while a rotation doesn't.
+	 */
+	@Test
+	public void testAffine() {
+		InterpolatePixel<T> interp = FactoryInterpolation.bilinearPixel((Class<T>)imageType);
+
+		// scale and translation only
+		testAffine(new Affine2D_F32(0.7f, 0, 0, 1.3f, -2.5f, 1.1f), interp, true);
+		testAffine(new Affine2D_F32(0.7f, 0, 0, 1.3f, -2.5f, 1.1f), interp, false);
+		// rotation
+		testAffine(new Affine2D_F32(0.8f, -0.3f, 0.2f, 0.9f, 1.5f, -1.2f), interp, true);
+		testAffine(new Affine2D_F32(0.8f, -0.3f, 0.2f, 0.9f, 1.5f, -1.2f), interp, false);
+	}
+
+	public void testAffine( Affine2D_F32 affine , InterpolatePixel<T> interp , boolean withBorder ) {
+		T src = generator.createInstance(width,height);
+		T dst = generator.createInstance(width,height);
+
+		GImageMiscOps.fillUniform(src, rand, 0, 10);
+
+		ImageBorder border = withBorder ? this.border : null;
+		PixelTransformAffine_F32 dstToSrc = new PixelTransformAffine_F32(affine);
+
+		ImageDistort<T> tran = createDistort(dstToSrc,interp,border);
+		tran.apply(src,dst);
+
+		T expected = generator.createInstance(width,height);
+		interp.setImage(src);
+		if( withBorder )
+			border.setImage(src);
+		for( int y = 0; y < height; y++ ) {
+			for( int x = 0; x < width; x++ ) {
+				dstToSrc.compute(x,y);
+				float sx = dstToSrc.distX;
+				float sy = dstToSrc.distY;
+
+				if( sx >= 0 && sy >= 0 && sx < width && sy < height ) {
+					if( interp.isInSafeBounds(sx,sy) )
+						GeneralizedImageOps.set(expected,x,y,interp.get_unsafe(sx,sy));
+					else
+						GeneralizedImageOps.set(expected,x,y,interp.get(sx,sy));
+				} else if( withBorder ) {
+					GeneralizedImageOps.set(expected,x,y,border.getGeneral((int)sx,(int)sy));
+				}
+			}
+		}
+
+		for( int y = 0; y < height; y++ ) {
+			for( int x = 0; x < width; x++ ) {
+				assertEquals(GeneralizedImageOps.get(expected,x,y),GeneralizedImageOps.get(dst,x,y),1e-4);
+			}
+		}
+	}
+
 	public class BasicTransform extends PixelTransform_F32 {
 
 
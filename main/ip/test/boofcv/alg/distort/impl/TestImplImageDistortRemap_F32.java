@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.distort.impl;
+
+import boofcv.alg.distort.ImageDistortRemap;
+import boofcv.core.image.border.ImageBorder;
+import boofcv.struct.image.ImageFloat32;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplImageDistortRemap_F32 extends CommonImageDistortRemapTests<ImageFloat32> {
+
+	public TestImplImageDistortRemap_F32() {
+		super(ImageFloat32.class,0.5);
+	}
+
+	@Override
+	public ImageDistortRemap<ImageFloat32> create(ImageBorder<ImageFloat32> border, boolean concurrent) {
+		return new ImplImageDistortRemap_F32(border,concurrent);
+	}
+}
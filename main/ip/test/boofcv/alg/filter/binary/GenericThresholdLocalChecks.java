@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.binary;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.FactoryGImageSingleBand;
+import boofcv.core.image.GImageSingleBand;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageSingleBand;
+import boofcv.struct.image.ImageUInt8;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Compares implementations of {@link ThresholdLocal} against a brute force computation of each pixel's
+ * threshold.
+ *
+ * @author Peter Abeles
+ */
+public abstract class GenericThresholdLocalChecks {
+
+	Random rand = new Random(234);
+
+	int width = 35;
+	int height = 40;
+
+	Class types[] = new Class[]{ImageUInt8.class,ImageFloat32.class};
+
+	public abstract <T extends ImageSingleBand>
+	ThresholdLocal<T> createAlg( int radius , boolean down , boolean concurrent , Class<T> type );
+
+	/**
+	 * Computes the threshold given the local region's statistics
+	 */
+	public abstract float computeThreshold( double mean , double variance );
+
+	@Test
+	public void compareToNaive() {
+		for( Class type : types ) {
+			for( int radius : new int[]{1,4,30}) {
+				for( boolean down : new boolean[]{true,false}) {
+					ImageSingleBand input = GeneralizedImageOps.createSingleBand(type,width,height);
+					GImageMiscOps.fillUniform(input,rand,0,255);
+
+					ImageUInt8 expected = new ImageUInt8(width,height);
+					ImageUInt8 found = new ImageUInt8(width,height);
+
+					naive(input,radius,down,expected);
+					createAlg(radius,down,false,type).process(input,found);
+
+					BoofTesting.assertEquals(expected,found,0);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void subimage() {
+		for( Class type : types ) {
+			ImageSingleBand input = GeneralizedImageOps.createSingleBand(type,width,height);
+			GImageMiscOps.fillUniform(input,rand,0,255);
+
+			ImageUInt8 expected = new ImageUInt8(width,height);
+			createAlg(3,true,false,type).process(input,expected);
+
+			ImageSingleBand subInput = BoofTesting.createSubImageOf(input);
+			ImageUInt8 found = BoofTesting.createSubImageOf(expected);
+			ImageMiscOps.fill(found,2);
+			createAlg(3,true,false,type).process(subInput,found);
+
+			BoofTesting.assertEquals(expected,found,0);
+		}
+	}
+
+	/**
+	 * The concurrent implementation should produce identical results
+	 */
+	@Test
+	public void concurrent() {
+		int before = BoofConcurrency.getMaxThreads();
+		BoofConcurrency.setMaxThreads(3);
+		try {
+			for( Class type : types ) {
+				ImageSingleBand input = GeneralizedImageOps.createSingleBand(type,width,height);
+				GImageMiscOps.fillUniform(input,rand,0,255);
+
+				ImageUInt8 expected = new ImageUInt8(width,height);
+				ImageUInt8 found = new ImageUInt8(width,height);
+
+				createAlg(2,true,false,type).process(input,expected);
+				createAlg(2,true,true,type).process(input,found);
+
+				BoofTesting.assertEquals(expected,found,0);
+			}
+		} finally {
+			BoofConcurrency.setMaxThreads(before);
+		}
+	}
+
+	/**
+	 * The same instance should work when called with images of different sizes
+	 */
+	@Test
+	public void differentSizes() {
+		ThresholdLocal<ImageUInt8> alg = createAlg(2,false,false,ImageUInt8.class);
+
+		for( int w : new int[]{20,50,10} ) {
+			ImageUInt8 input = new ImageUInt8(w,15);
+			GImageMiscOps.fillUniform(input,rand,0,255);
+
+			ImageUInt8 expected = new ImageUInt8(w,15);
+			ImageUInt8 found = new ImageUInt8(w,15);
+
+			naive(input,2,false,expected);
+			alg.process(input,found);
+
+			BoofTesting.assertEquals(expected,found,0);
+		}
+	}
+
+	private void naive( ImageSingleBand input , int radius , boolean down , ImageUInt8 output ) {
+		GImageSingleBand g = FactoryGImageSingleBand.wrap(input);
+
+		for( int y = 0; y < input.height; y++ ) {
+			int y0 = Math.max(0,y-radius), y1 = Math.min(input.height,y+radius+1);
+			for( int x = 0; x < input.width; x++ ) {
+				int x0 = Math.max(0,x-radius), x1 = Math.min(input.width,x+radius+1);
+
+				double sum = 0, sumSq = 0;
+				for( int i = y0; i < y1; i++ ) {
+					for( int j = x0; j < x1; j++ ) {
+						double v = g.get(j,i).doubleValue();
+						sum += v;
+						sumSq += v*v;
+					}
+				}
+				int N = (y1-y0)*(x1-x0);
+				double mean = sum/N;
+				double variance = Math.max(0,sumSq/N - mean*mean);
+
+				float threshold = computeThreshold(mean,variance);
+				float value = g.get(x,y).floatValue();
+
+				if( down )
+					output.set(x,y, value <= threshold ? 1 : 0);
+				else
+					output.set(x,y, value >= threshold ? 1 : 0);
+			}
+		}
+	}
+
+	@Test
+	public void checkInputType() {
+		assertEquals(ImageFloat32.class,createAlg(2,true,false,ImageFloat32.class).getInputType());
+	}
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.binary;
+
+import boofcv.alg.filter.binary.impl.TestImplBinaryBlobLabeling;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.struct.image.ImageSInt32;
+import boofcv.struct.image.ImageUInt8;
+import boofcv.testing.BoofTesting;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestLabelBlobsUnionFind {
+
+	Random rand = new Random(234);
+
+	int maxThreads;
+
+	@Before
+	public void before() {
+		maxThreads = BoofConcurrency.getMaxThreads();
+		BoofConcurrency.setMaxThreads(3);
+	}
+
+	@After
+	public void after() {
+		BoofConcurrency.setMaxThreads(maxThreads);
+	}
+
+	@Test
+	public void knownResults() {
+		ImageUInt8 input = new ImageUInt8(13,8);
+		input.data = TestImplBinaryBlobLabeling.TEST1;
+
+		ImageSInt32 expected = new ImageSInt32(13,8);
+		ImageSInt32 found = new ImageSInt32(13,8);
+
+		expected.data = TestImplBinaryBlobLabeling.BLOBS8;
+		assertEquals(1,new LabelBlobsUnionFind(true,false).process(input,found));
+		BoofTesting.assertEquals(expected,found,0);
+
+		expected.data = TestImplBinaryBlobLabeling.BLOBS4;
+		assertEquals(2,new LabelBlobsUnionFind(false,false).process(input,found));
+		BoofTesting.assertEquals(expected,found,0);
+	}
+
+	/**
+	 * Compare against the original implementation on random images with a variety of densities
+	 */
+	@Test
+	public void compareToBinaryImageOps() {
+		for( boolean rule8 : new boolean[]{true,false}) {
+			for( boolean concurrent : new boolean[]{true,false}) {
+				LabelBlobsUnionFind alg = new LabelBlobsUnionFind(rule8,concurrent);
+				for( double density : new double[]{0.1,0.4,0.6,0.9}) {
+					compare(alg,60,20,density);
+					compare(alg,37,150,density);
+					compare(alg,123,211,density);
+				}
+			}
+		}
+	}
+
+	private void compare( LabelBlobsUnionFind alg , int width , int height , double density ) {
+		ImageUInt8 input = new ImageUInt8(width,height);
+		for( int i = 0; i < input.data.length; i++ ) {
+			input.data[i] = (byte)(rand.nextDouble() < density ? 1 : 0);
+		}
+
+		ImageSInt32 expected = new ImageSInt32(width,height);
+		ImageSInt32 found = new ImageSInt32(width,height);
+		// make sure old results are overwritten
+		ImageMiscOps.fill(found,5);
+
+		int numExpected = alg.isRule8() ? BinaryImageOps.labelBlobs8(input,expected) :
+				BinaryImageOps.labelBlobs4(input,expected);
+
+		BoofTesting.checkSubImage(this,"checkCompare",true,alg,input,found,expected,numExpected);
+	}
+
+	public void checkCompare( LabelBlobsUnionFind alg , ImageUInt8 input , ImageSInt32 found ,
+							  ImageSInt32 expected , Integer numExpected ) {
+		int numFound = alg.process(input,found);
+
+		assertEquals(numExpected.intValue(),numFound);
+		BoofTesting.assertEquals(expected,found,0);
+	}
+
+	/**
+	 * A single blob which spans all the bands
+	 */
+	@Test
+	public void spanBands() {
+		ImageUInt8 input = new ImageUInt8(50,200);
+		// vertical line and a diagonal line which only connects with an 8-rule
+		for( int y = 0; y < input.height; y++ ) {
+			input.set(2,y,1);
+			input.set(10+(y%2),y,1);
+		}
+
+		ImageSInt32 found = new ImageSInt32(50,200);
+		assertEquals(2, new LabelBlobsUnionFind(true, true).process(input, found));
+		assertEquals(1+input.height, new LabelBlobsUnionFind(false,true).process(input,found));
+	}
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.binary;
+
+import boofcv.struct.image.ImageSingleBand;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestThresholdSauvola extends GenericThresholdLocalChecks {
+
+	double k = 0.3;
+	double R = 128;
+
+	@Override
+	public <T extends ImageSingleBand> ThresholdLocal<T>
+	createAlg(int radius, boolean down, boolean concurrent, Class<T> type) {
+		return new ThresholdSauvola<T>(radius,k,R,down,concurrent,type);
+	}
+
+	@Override
+	public float computeThreshold(double mean, double variance) {
+		return (float)(mean*(1.0 + k*(Math.sqrt(variance)/R - 1.0)));
+	}
+}
@@ -100,7 +100,8 @@ public class TestBlurImageOps {
 
 		GImageMiscOps.fillUniform(input, rand, 0, 20);
 
-		for( int radius = 1; radius <= 4; radius++ ) {
+		// larger radii use a different algorithm
+		for( int radius = 1; radius <= BlurImageOps.MEDIAN_COLUMN_RADIUS+1; radius++ ) {
 			ImplMedianSortNaive.process(input,expected,radius,null);
 			BlurImageOps.median(input,found,radius);
 
@@ -175,4 +176,68 @@ public class TestBlurImageOps {
 			BoofTesting.assertEquals(expected,found,1e-4);
 		}
 	}
+
+	/**
+	 * Compare to convolution away from the image border.  The recursive filter is only an approximation
+	 * and its response has longer tails, so a larger border is ignored.
+	 */
+	@Test
+	public void gaussianRecursive_U8() {
+		ImageUInt8 input = new ImageUInt8(100,110);
+		ImageMiscOps.fillUniform(input, rand, 0, 100);
+
+		for( double sigma : new double[]{2,3,8}) {
+			int radius = FactoryKernelGaussian.radiusForSigma(sigma,0);
+			ImageUInt8 expected = BlurImageOps.gaussian(input,null,sigma,radius,null);
+			ImageUInt8 found = BlurImageOps.gaussianRecursive(input,null,sigma,null);
+
+			BoofTesting.assertEqualsInner(expected,found,3.5,2*radius,2*radius,false);
+		}
+	}
+
+	@Test
+	public void gaussianRecursive_F32() {
+		ImageFloat32 input = new ImageFloat32(100,110);
+		ImageMiscOps.fillUniform(input, rand, 0, 100);
+
+		for( double sigma : new double[]{2,3,8}) {
+			int radius = FactoryKernelGaussian.radiusForSigma(sigma,0);
+			ImageFloat32 expected = BlurImageOps.gaussian(input,null,sigma,radius,null);
+			ImageFloat32 found = BlurImageOps.gaussianRecursive(input,null,sigma,null);
+
+			BoofTesting.assertEqualsInner(expected,found,2.5,2*radius,2*radius,false);
+		}
+	}
+
+	/**
+	 * Compare to convolution away from the image border.  Box filters are only an approximation.  Small
+	 * values of sigma are not tested since box filters can't approximate them well.
+	 */
+	@Test
+	public void gaussianBox_U8() {
+		ImageUInt8 input = new ImageUInt8(100,110);
+		ImageMiscOps.fillUniform(input, rand, 0, 100);
+
+		for( double sigma : new double[]{2,3,8}) {
+			int radius = FactoryKernelGaussian.radiusForSigma(sigma,0);
+			ImageUInt8 expected = BlurImageOps.gaussian(input,null,sigma,radius,null);
+			ImageUInt8 found = BlurImageOps.gaussianBox(input,null,sigma,null);
+
+			BoofTesting.assertEqualsInner(expected,found,3.5,2*radius,2*radius,false);
+		}
+	}
+
+	@Test
+	public void gaussianBox_F32() {
+		ImageFloat32 input = new ImageFloat32(100,110);
+		ImageMiscOps.fillUniform(input, rand, 0, 100);
+
+		for( double sigma : new double[]{2,3,8}) {
+			int radius = FactoryKernelGaussian.radiusForSigma(sigma,0);
+			ImageFloat32 expected = BlurImageOps.gaussian(input,null,sigma,radius,null);
+			ImageFloat32 found = BlurImageOps.gaussianBox(input,null,sigma,null);
+
+			BoofTesting.assertEqualsInner(expected,found,2.5,2*radius,2*radius,false);
+		}
+	}
 }
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.blur;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.core.image.ConvertImageBuffer;
+import boofcv.struct.image.ImageBufferFloat32;
+import boofcv.struct.image.ImageBufferUInt8;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageUInt8;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * Compares results against {@link BlurImageOps}
+ *
+ * @author Peter Abeles
+ */
+public class TestBlurImageOpsBuffer {
+
+	Random rand = new Random(234);
+	int width = 20;
+	int height = 25;
+
+	@Test
+	public void mean_U8() {
+		for( int radius = 1; radius <= 4; radius++ ) {
+			ImageUInt8 input = createU8();
+			ImageUInt8 expected = BlurImageOps.mean(input,null,radius,null);
+
+			ImageBufferUInt8 found = BlurImageOpsBuffer.mean(toBuffer(input),null,radius,null);
+			compare(expected,found);
+
+			ImageBufferUInt8 sub = createSubU8();
+			BlurImageOpsBuffer.mean(toBuffer(input),sub,radius,createSubU8());
+			compare(expected,sub);
+		}
+	}
+
+	@Test
+	public void gaussian_U8() {
+		for( int radius = 1; radius <= 4; radius++ ) {
+			ImageUInt8 input = createU8();
+			ImageUInt8 expected = BlurImageOps.gaussian(input,null,-1,radius,null);
+
+			ImageBufferUInt8 found = BlurImageOpsBuffer.gaussian(toBuffer(input),null,-1,radius,null);
+			compare(expected,found);
+
+			ImageBufferUInt8 sub = createSubU8();
+			BlurImageOpsBuffer.gaussian(toBuffer(input),sub,-1,radius,createSubU8());
+			compare(expected,sub);
+		}
+	}
+
+	@Test
+	public void mean_F32() {
+		for( int radius = 1; radius <= 4; radius++ ) {
+			ImageFloat32 input = createF32();
+			ImageFloat32 expected = BlurImageOps.mean(input,null,radius,null);
+
+			ImageBufferFloat32 found = BlurImageOpsBuffer.mean(toBuffer(input),null,radius,null);
+			compare(expected,found);
+
+			ImageBufferFloat32 sub = createSubF32();
+			BlurImageOpsBuffer.mean(toBuffer(input),sub,radius,createSubF32());
+			compare(expected,sub);
+		}
+	}
+
+	@Test
+	public void gaussian_F32() {
+		for( int radius = 1; radius <= 4; radius++ ) {
+			ImageFloat32 input = createF32();
+			ImageFloat32 expected = BlurImageOps.gaussian(input,null,-1,radius,null);
+
+			ImageBufferFloat32 found = BlurImageOpsBuffer.gaussian(toBuffer(input),null,-1,radius,null);
+			compare(expected,found);
+
+			ImageBufferFloat32 sub = createSubF32();
+			BlurImageOpsBuffer.gaussian(toBuffer(input),sub,-1,radius,createSubF32());
+			compare(expected,sub);
+		}
+	}
+
+	private ImageUInt8 createU8() {
+		ImageUInt8 img = new ImageUInt8(width,height);
+		ImageMiscOps.fillUniform(img,rand,0,256);
+		return img;
+	}
+
+	private ImageFloat32 createF32() {
+		ImageFloat32 img = new ImageFloat32(width,height);
+		ImageMiscOps.fillUniform(img,rand,0,100);
+		return img;
+	}
+
+	private ImageBufferUInt8 createSubU8() {
+		return new ImageBufferUInt8(width+10,height+12).subimage(5,6,5+width,6+height);
+	}
+
+	private ImageBufferFloat32 createSubF32() {
+		return new ImageBufferFloat32(width+10,height+12).subimage(5,6,5+width,6+height);
+	}
+
+	private ImageBufferUInt8 toBuffer( ImageUInt8 img ) {
+		ImageBufferUInt8 ret = new ImageBufferUInt8(img.width,img.height);
+		ConvertImageBuffer.copy(img,ret);
+		return ret;
+	}
+
+	private ImageBufferFloat32 toBuffer( ImageFloat32 img ) {
+		ImageBufferFloat32 ret = new ImageBufferFloat32(img.width,img.height);
+		ConvertImageBuffer.copy(img,ret);
+		return ret;
+	}
+
+	private void compare( ImageUInt8 expected , ImageBufferUInt8 found ) {
+		ImageUInt8 heap = new ImageUInt8(found.width,found.height);
+		ConvertImageBuffer.copy(found,heap);
+		BoofTesting.assertEquals(expected,heap,0);
+	}
+
+	private void compare( ImageFloat32 expected , ImageBufferFloat32 found ) {
+		ImageFloat32 heap = new ImageFloat32(found.width,found.height);
+		ConvertImageBuffer.copy(found,heap);
+		BoofTesting.assertEquals(expected,heap,1e-3);
+	}
+}
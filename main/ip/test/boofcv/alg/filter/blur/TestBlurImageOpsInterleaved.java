@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.blur;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.core.image.ConvertImageInterleaved;
+import boofcv.struct.image.*;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * Compares results against {@link BlurImageOps} applied to each band
+ *
+ * @author Peter Abeles
+ */
+public class TestBlurImageOpsInterleaved {
+
+	Random rand = new Random(234);
+	int width = 20;
+	int height = 25;
+	int numBands = 3;
+
+	@Test
+	public void mean_U8() {
+		for( int radius = 1; radius <= 4; radius++ ) {
+			MultiSpectral<ImageUInt8> input = createU8();
+			MultiSpectral<ImageUInt8> expected = createU8();
+			for( int band = 0; band < numBands; band++ )
+				BlurImageOps.mean(input.getBand(band),expected.getBand(band),radius,null);
+
+			ImageInterleavedInt8 found = BlurImageOpsInterleaved.mean(toInterleavedU8(input),null,radius,null);
+			compare(expected,found);
+
+			ImageInterleavedInt8 sub = createSubU8();
+			BlurImageOpsInterleaved.mean(toInterleavedU8(input),sub,radius,createSubU8());
+			compare(expected,sub);
+		}
+	}
+
+	@Test
+	public void gaussian_U8() {
+		for( int radius = 1; radius <= 4; radius++ ) {
+			MultiSpectral<ImageUInt8> input = createU8();
+			MultiSpectral<ImageUInt8> expected = createU8();
+			for( int band = 0; band < numBands; band++ )
+				BlurImageOps.gaussian(input.getBand(band),expected.getBand(band),-1,radius,null);
+
+			ImageInterleavedInt8 found = BlurImageOpsInterleaved.gaussian(toInterleavedU8(input),null,-1,radius,null);
+			compare(expected,found);
+
+			ImageInterleavedInt8 sub = createSubU8();
+			BlurImageOpsInterleaved.gaussian(toInterleavedU8(input),sub,-1,radius,createSubU8());
+			compare(expected,sub);
+		}
+	}
+
+	@Test
+	public void mean_F32() {
+		for( int radius = 1; radius <= 4; radius++ ) {
+			MultiSpectral<ImageFloat32> input = createF32();
+			MultiSpectral<ImageFloat32> expected = createF32();
+			for( int band = 0; band < numBands; band++ )
+				BlurImageOps.mean(input.getBand(band),expected.getBand(band),radius,null);
+
+			ImageInterleavedFloat32 found = BlurImageOpsInterleaved.mean(toInterleavedF32(input),null,radius,null);
+			compare(expected,found);
+
+			ImageInterleavedFloat32 sub = createSubF32();
+			BlurImageOpsInterleaved.mean(toInterleavedF32(input),sub,radius,createSubF32());
+			compare(expected,sub);
+		}
+	}
+
+	@Test
+	public void gaussian_F32() {
+		for( int radius = 1; radius <= 4; radius++ ) {
+			MultiSpectral<ImageFloat32> input = createF32();
+			MultiSpectral<ImageFloat32> expected = createF32();
+			for( int band = 0; band < numBands; band++ )
+				BlurImageOps.gaussian(input.getBand(band),expected.getBand(band),-1,radius,null);
+
+			ImageInterleavedFloat32 found = BlurImageOpsInterleaved.gaussian(toInterleavedF32(input),null,-1,radius,null);
+			compare(expected,found);
+
+			ImageInterleavedFloat32 sub = createSubF32();
+			BlurImageOpsInterleaved.gaussian(toInterleavedF32(input),sub,-1,radius,createSubF32());
+			compare(expected,sub);
+		}
+	}
+
+	private MultiSpectral<ImageUInt8> createU8() {
+		MultiSpectral<ImageUInt8> img = new MultiSpectral<ImageUInt8>(ImageUInt8.class,width,height,numBands);
+		GImageMiscOps.fillUniform(img,rand,0,256);
+		return img;
+	}
+
+	private MultiSpectral<ImageFloat32> createF32() {
+		MultiSpectral<ImageFloat32> img = new MultiSpectral<ImageFloat32>(ImageFloat32.class,width,height,numBands);
+		GImageMiscOps.fillUniform(img,rand,0,100);
+		return img;
+	}
+
+	private ImageInterleavedInt8 createSubU8() {
+		return new ImageInterleavedInt8(width+10,height+12,numBands).subimage(5,6,5+width,6+height);
+	}
+
+	private ImageInterleavedFloat32 createSubF32() {
+		return new ImageInterleavedFloat32(width+10,height+12,numBands).subimage(5,6,5+width,6+height);
+	}
+
+	private ImageInterleavedInt8 toInterleavedU8( MultiSpectral<ImageUInt8> img ) {
+		ImageInterleavedInt8 ret = new ImageInterleavedInt8(img.width,img.height,img.getNumBands());
+		ConvertImageInterleaved.convert(img,ret);
+		return ret;
+	}
+
+	private ImageInterleavedFloat32 toInterleavedF32( MultiSpectral<ImageFloat32> img ) {
+		ImageInterleavedFloat32 ret = new ImageInterleavedFloat32(img.width,img.height,img.getNumBands());
+		ConvertImageInterleaved.convert(img,ret);
+		return ret;
+	}
+
+	private void compare( MultiSpectral<ImageUInt8> expected , ImageInterleavedInt8 found ) {
+		MultiSpectral<ImageUInt8> ms = new MultiSpectral<ImageUInt8>(ImageUInt8.class,found.width,found.height,found.numBands);
+		ConvertImageInterleaved.convert(found,ms);
+		for( int band = 0; band < numBands; band++ )
+			BoofTesting.assertEquals(expected.getBand(band),ms.getBand(band),0);
+	}
+
+	private void compare( MultiSpectral<ImageFloat32> expected , ImageInterleavedFloat32 found ) {
+		MultiSpectral<ImageFloat32> ms = new MultiSpectral<ImageFloat32>(ImageFloat32.class,found.width,found.height,found.numBands);
+		ConvertImageInterleaved.convert(found,ms);
+		for( int band = 0; band < numBands; band++ )
+			BoofTesting.assertEquals(expected.getBand(band),ms.getBand(band),1e-3);
+	}
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.blur;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageSingleBand;
+import boofcv.struct.image.ImageUInt8;
+import boofcv.struct.image.MultiSpectral;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.fail;
+
+/**
+ * Compares results against {@link BlurImageOps} applied to each band
+ *
+ * @author Peter Abeles
+ */
+public class TestBlurImageOpsMultiSpectral {
+
+	Random rand = new Random(234);
+	int width = 20;
+	int height = 25;
+	int numBands = 3;
+
+	@Test
+	public void gaussian_U8() {
+		for( int radius = 1; radius <= 4; radius++ ) {
+			MultiSpectral<ImageUInt8> input = new MultiSpectral<ImageUInt8>(ImageUInt8.class,width,height,numBands);
+			GImageMiscOps.fillUniform(input,rand,0,256);
+			MultiSpectral<ImageUInt8> expected = input._createNew(width,height);
+			for( int band = 0; band < numBands; band++ )
+				BlurImageOps.gaussian(input.getBand(band),expected.getBand(band),-1,radius,null);
+
+			MultiSpectral<ImageUInt8> found = BlurImageOpsMultiSpectral.gaussian(input,null,-1,radius,null);
+			BoofTesting.assertEquals(expected,found,0);
+		}
+	}
+
+	@Test
+	public void gaussian_F32() {
+		for( int radius = 1; radius <= 4; radius++ ) {
+			MultiSpectral<ImageFloat32> input = new MultiSpectral<ImageFloat32>(ImageFloat32.class,width,height,numBands);
+			GImageMiscOps.fillUniform(input,rand,0,100);
+			MultiSpectral<ImageFloat32> expected = input._createNew(width,height);
+			for( int band = 0; band < numBands; band++ )
+				BlurImageOps.gaussian(input.getBand(band),expected.getBand(band),-1,radius,null);
+
+			MultiSpectral<ImageFloat32> found = BlurImageOpsMultiSpectral.gaussian(input,null,-1,radius,null);
+			BoofTesting.assertEquals(expected,found,1e-4);
+		}
+	}
+
+	@Test
+	public void checkNumberOfBands() {
+		MultiSpectral<ImageUInt8> input = new MultiSpectral<ImageUInt8>(ImageUInt8.class,width,height,3);
+		MultiSpectral<ImageUInt8> output = new MultiSpectral<ImageUInt8>(ImageUInt8.class,width,height,4);
+
+		try {
+			BlurImageOpsMultiSpectral.gaussian(input,output,-1,2,null);
+			fail("Should have thrown an exception");
+		} catch( IllegalArgumentException ignore ) {}
+	}
+
+	/**
+	 * The generic functions in {@link GBlurImageOps} have an overload for {@link MultiSpectral} and the
+	 * original single band signature is unchanged.
+	 */
+	@Test
+	public void generic() throws NoSuchMethodException {
+		MultiSpectral<ImageFloat32> input = new MultiSpectral<ImageFloat32>(ImageFloat32.class,width,height,numBands);
+		GImageMiscOps.fillUniform(input,rand,0,100);
+
+		MultiSpectral<ImageFloat32> expected = BlurImageOpsMultiSpectral.gaussian(input,null,-1,2,null);
+		MultiSpectral<ImageFloat32> found = GBlurImageOps.gaussian(input,null,-1,2,null);
+		BoofTesting.assertEquals(expected,found,1e-4);
+
+		GBlurImageOps.class.getMethod("gaussian",ImageSingleBand.class,ImageSingleBand.class,
+				double.class,int.class,ImageSingleBand.class);
+	}
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.blur;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.ConvertImageInterleaved;
+import boofcv.struct.image.*;
+import boofcv.testing.BoofTesting;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestBlurImageOps_MT {
+
+	Random rand = new Random(234);
+
+	int maxThreads;
+
+	@Before
+	public void before() {
+		maxThreads = BoofConcurrency.getMaxThreads();
+		BoofConcurrency.setMaxThreads(3);
+	}
+
+	@After
+	public void after() {
+		BoofConcurrency.setMaxThreads(maxThreads);
+	}
+
+	@Test
+	public void median_U8() {
+		ImageUInt8 input = new ImageUInt8(30,40);
+		ImageMiscOps.fillUniform(input, rand, 0, 100);
+
+		for( int radius = 1; radius <= 7; radius += 3 ) {
+			ImageUInt8 expected = BlurImageOps.median(input,null,radius);
+			ImageUInt8 found = BlurImageOps_MT.median(input,null,radius);
+
+			BoofTesting.assertEquals(expected,found,0);
+		}
+	}
+
+	@Test
+	public void gaussianRecursive() {
+		ImageUInt8 inputU8 = new ImageUInt8(50,40);
+		ImageMiscOps.fillUniform(inputU8, rand, 0, 100);
+		ImageFloat32 inputF32 = new ImageFloat32(50,40);
+		ImageMiscOps.fillUniform(inputF32, rand, 0, 100);
+
+		for( double sigma = 0.5; sigma <= 8; sigma *= 4 ) {
+			BoofTesting.assertEquals(BlurImageOps.gaussianRecursive(inputU8,null,sigma,null),
+					BlurImageOps_MT.gaussianRecursive(inputU8,null,sigma,null),0);
+			BoofTesting.assertEquals(BlurImageOps.gaussianRecursive(inputF32,null,sigma,null),
+					BlurImageOps_MT.gaussianRecursive(inputF32,null,sigma,null),0);
+		}
+	}
+
+	@Test
+	public void gaussianBox() {
+		ImageUInt8 inputU8 = new ImageUInt8(50,40);
+		ImageMiscOps.fillUniform(inputU8, rand, 0, 100);
+		ImageFloat32 inputF32 = new ImageFloat32(50,40);
+		ImageMiscOps.fillUniform(inputF32, rand, 0, 100);
+
+		for( double sigma = 0.5; sigma <= 8; sigma *= 4 ) {
+			BoofTesting.assertEquals(BlurImageOps.gaussianBox(inputU8,null,sigma,null),
+					BlurImageOps_MT.gaussianBox(inputU8,null,sigma,null),0);
+			BoofTesting.assertEquals(BlurImageOps.gaussianBox(inputF32,null,sigma,null),
+					BlurImageOps_MT.gaussianBox(inputF32,null,sigma,null),0);
+		}
+	}
+
+	@Test
+	public void gaussian_MultiSpectral() {
+		MultiSpectral<ImageUInt8> inputU8 = new MultiSpectral<ImageUInt8>(ImageUInt8.class,50,40,3);
+		GImageMiscOps.fillUniform(inputU8, rand, 0, 100);
+		MultiSpectral<ImageFloat32> inputF32 = new MultiSpectral<ImageFloat32>(ImageFloat32.class,50,40,3);
+		GImageMiscOps.fillUniform(inputF32, rand, 0, 100);
+
+		for( int radius = 1; radius <= 7; radius += 3 ) {
+			BoofTesting.assertEquals(BlurImageOpsMultiSpectral.gaussian(inputU8,null,-1,radius,null),
+					BlurImageOps_MT.gaussian(inputU8,null,-1,radius,null),0);
+			BoofTesting.assertEquals(BlurImageOpsMultiSpectral.gaussian(inputF32,null,-1,radius,null),
+					BlurImageOps_MT.gaussian(inputF32,null,-1,radius,null),0);
+		}
+	}
+
+	@Test
+	public void gaussian_Interleaved() {
+		MultiSpectral<ImageUInt8> msU8 = new MultiSpectral<ImageUInt8>(ImageUInt8.class,50,40,3);
+		GImageMiscOps.fillUniform(msU8, rand, 0, 100);
+		MultiSpectral<ImageFloat32> msF32 = new MultiSpectral<ImageFloat32>(ImageFloat32.class,50,40,3);
+		GImageMiscOps.fillUniform(msF32, rand, 0, 100);
+
+		ImageInterleavedInt8 inputU8 = new ImageInterleavedInt8(50,40,3);
+		ConvertImageInterleaved.convert(msU8,inputU8);
+		ImageInterleavedFloat32 inputF32 = new ImageInterleavedFloat32(50,40,3);
+		ConvertImageInterleaved.convert(msF32,inputF32);
+
+		for( int radius = 1; radius <= 7; radius += 3 ) {
+			assertArrayEquals(BlurImageOpsInterleaved.gaussian(inputU8,null,-1,radius,null).data,
+					BlurImageOps_MT.gaussian(inputU8,null,-1,radius,null).data);
+			assertArrayEquals(BlurImageOpsInterleaved.gaussian(inputF32,null,-1,radius,null).data,
+					BlurImageOps_MT.gaussian(inputF32,null,-1,radius,null).data,0);
+		}
+	}
+}
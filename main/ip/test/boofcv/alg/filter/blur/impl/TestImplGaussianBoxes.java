@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.blur.impl;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplGaussianBoxes {
+
+	Random rand = new Random(234);
+
+	/**
+	 * The variance of all the boxes combined should be close to sigma squared
+	 */
+	@Test
+	public void selectRadii() {
+		for( double sigma = 1; sigma < 20; sigma += 0.7 ) {
+			int radii[] = ImplGaussianBoxes.selectRadii(sigma,3);
+
+			double variance = 0;
+			for( int r : radii ) {
+				int w = 2*r+1;
+				variance += (w*w-1)/12.0;
+			}
+
+			// the widths can only change in steps of two
+			assertEquals(sigma*sigma,variance,2*sigma+1);
+		}
+	}
+
+	/**
+	 * Compare against a naive implementation of box filters
+	 */
+	@Test
+	public void process() {
+		float line[] = new float[40];
+		for( int i = 0; i < line.length; i++ )
+			line[i] = rand.nextFloat()*100;
+
+		ImplGaussianBoxes alg = new ImplGaussianBoxes(3.5,3);
+
+		float expected[] = line.clone();
+		for( int r : alg.radii )
+			expected = naiveBox(expected,r);
+
+		float found[] = new float[50];
+		System.arraycopy(line,0,found,5,line.length);
+		alg.process(found,5,line.length);
+
+		for( int i = 0; i < line.length; i++ )
+			assertEquals(expected[i],found[i+5],1e-3f);
+	}
+
+	private float[] naiveBox( float line[] , int radius ) {
+		float ret[] = new float[line.length];
+		for( int i = 0; i < line.length; i++ ) {
+			float sum = 0;
+			for( int j = -radius; j <= radius; j++ ) {
+				int index = Math.max(0,Math.min(line.length-1,i+j));
+				sum += line[index];
+			}
+			ret[i] = sum/(2*radius+1);
+		}
+		return ret;
+	}
+}
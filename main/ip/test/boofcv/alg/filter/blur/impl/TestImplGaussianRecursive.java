@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.blur.impl;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplGaussianRecursive {
+
+	/**
+	 * A constant line should not be changed
+	 */
+	@Test
+	public void constant() {
+		float line[] = new float[50];
+		for( int i = 0; i < line.length; i++ )
+			line[i] = 12.5f;
+
+		new ImplGaussianRecursive(4).process(line,0,line.length);
+
+		for( int i = 0; i < line.length; i++ )
+			assertEquals(12.5f,line[i],1e-3f);
+	}
+
+	/**
+	 * The impulse response should sum to one, be centered, and be close to a Gaussian
+	 */
+	@Test
+	public void impulseResponse() {
+		for( double sigma : new double[]{1,2,5,10}) {
+			float line[] = new float[400];
+			int center = 200;
+			line[center] = 1;
+
+			new ImplGaussianRecursive(sigma).process(line,0,line.length);
+
+			double sum = 0, mean = 0;
+			for( int i = 0; i < line.length; i++ ) {
+				sum += line[i];
+				mean += i*line[i];
+			}
+			mean /= sum;
+
+			assertEquals(1,sum,1e-4);
+			assertEquals(center,mean,1e-3);
+
+			// error relative to the Gaussian's peak value
+			double peak = 1.0/(Math.sqrt(2*Math.PI)*sigma);
+			for( int i = 0; i < line.length; i++ ) {
+				double x = i-center;
+				double expected = peak*Math.exp(-x*x/(2*sigma*sigma));
+				assertEquals(expected,line[i],peak*0.1);
+			}
+		}
+	}
+
+	/**
+	 * Only the specified part of the array should be processed
+	 */
+	@Test
+	public void offset() {
+		float line[] = new float[30];
+		float expected[] = new float[20];
+		for( int i = 0; i < 20; i++ ) {
+			line[i+5] = expected[i] = i*i;
+		}
+
+		new ImplGaussianRecursive(2).process(line,5,20);
+		new ImplGaussianRecursive(2).process(expected,0,20);
+
+		for( int i = 0; i < 20; i++ )
+			assertEquals(expected[i],line[i+5],1e-6f);
+		for( int i = 25; i < 30; i++ )
+			assertEquals(0,line[i],1e-6f);
+	}
+}
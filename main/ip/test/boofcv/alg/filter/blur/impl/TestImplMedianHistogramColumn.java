@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.blur.impl;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.ImageUInt8;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplMedianHistogramColumn {
+
+	Random rand = new Random(234);
+
+	@Test
+	public void compareToSort() {
+		ImageUInt8 image = new ImageUInt8(20,30);
+		ImageMiscOps.fillUniform(image,rand, 0, 256);
+
+		ImageUInt8 found = new ImageUInt8( image.width , image.height );
+		ImageUInt8 expected = new ImageUInt8( image.width , image.height );
+
+		BoofTesting.checkSubImage(this, "compareToSort", true, image, found, expected);
+	}
+
+	public void compareToSort(ImageUInt8 image, ImageUInt8 found, ImageUInt8 expected) {
+		// the larger radii are bigger than the image
+		for( int radius = 1; radius <= 17; radius += 2 ) {
+			ImplMedianHistogramColumn.process(image,found,radius);
+			ImplMedianSortNaive.process(image,expected,radius,null);
+
+			BoofTesting.assertEquals(expected,found,0);
+		}
+	}
+
+	/**
+	 * Only a few values are present so the median is often at the edge of a segment in the histogram
+	 */
+	@Test
+	public void fewValues() {
+		ImageUInt8 image = new ImageUInt8(25,22);
+		ImageUInt8 found = new ImageUInt8( image.width , image.height );
+		ImageUInt8 expected = new ImageUInt8( image.width , image.height );
+
+		for( int i = 0; i < image.data.length; i++ ) {
+			image.data[i] = (byte)(rand.nextBoolean() ? 15 : 16*rand.nextInt(16));
+		}
+
+		for( int radius = 1; radius <= 4; radius++ ) {
+			ImplMedianHistogramColumn.process(image,found,radius);
+			ImplMedianSortNaive.process(image,expected,radius,null);
+
+			BoofTesting.assertEquals(expected,found,0);
+		}
+	}
+
+	/**
+	 * Process the image in bands, reusing the same instance
+	 */
+	@Test
+	public void process_bands() {
+		ImageUInt8 image = new ImageUInt8(20,30);
+		ImageMiscOps.fillUniform(image,rand, 0, 256);
+		ImageUInt8 found = new ImageUInt8( image.width , image.height );
+		ImageUInt8 expected = new ImageUInt8( image.width , image.height );
+
+		ImplMedianHistogramColumn alg = new ImplMedianHistogramColumn();
+		int radius = 3;
+		alg.process(image,found,radius,0,7);
+		alg.process(image,found,radius,7,8);
+		alg.process(image,found,radius,8,30);
+
+		ImplMedianSortNaive.process(image,expected,radius,null);
+		BoofTesting.assertEquals(expected,found,0);
+	}
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.blur.impl;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageUInt8;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplSeparableLineBlur {
+
+	Random rand = new Random(234);
+	int width = 37;
+	int height = 25;
+
+	LineBlur_F32 blur = new ImplGaussianRecursive(1.5);
+
+	@Test
+	public void horizontal_F32() {
+		ImageFloat32 input = new ImageFloat32(width,height);
+		ImageMiscOps.fillUniform(input,rand,0,100);
+		ImageFloat32 output = new ImageFloat32(width,height);
+
+		BoofTesting.checkSubImage(this,"horizontal_F32",true,input,output);
+	}
+
+	public void horizontal_F32( ImageFloat32 input , ImageFloat32 output ) {
+		ImplSeparableLineBlur.horizontal(input,output,blur,2,height);
+
+		for( int y = 2; y < height; y++ ) {
+			float line[] = new float[width];
+			for( int x = 0; x < width; x++ )
+				line[x] = input.get(x,y);
+			blur.process(line,0,width);
+			for( int x = 0; x < width; x++ )
+				assertEquals(line[x],output.get(x,y),1e-4f);
+		}
+		for( int x = 0; x < width; x++ )
+			assertEquals(0,output.get(x,1),1e-4f);
+	}
+
+	@Test
+	public void horizontal_U8() {
+		ImageUInt8 input = new ImageUInt8(width,height);
+		ImageMiscOps.fillUniform(input,rand,0,100);
+		ImageFloat32 output = new ImageFloat32(width,height);
+
+		BoofTesting.checkSubImage(this,"horizontal_U8",true,input,output);
+	}
+
+	public void horizontal_U8( ImageUInt8 input , ImageFloat32 output ) {
+		ImplSeparableLineBlur.horizontal(input,output,blur,0,height);
+
+		for( int y = 0; y < height; y++ ) {
+			float line[] = new float[width];
+			for( int x = 0; x < width; x++ )
+				line[x] = input.get(x,y);
+			blur.process(line,0,width);
+			for( int x = 0; x < width; x++ )
+				assertEquals(line[x],output.get(x,y),1e-4f);
+		}
+	}
+
+	@Test
+	public void vertical_F32() {
+		ImageFloat32 input = new ImageFloat32(width,height);
+		ImageMiscOps.fillUniform(input,rand,0,100);
+		ImageFloat32 output = new ImageFloat32(width,height);
+
+		BoofTesting.checkSubImage(this,"vertical_F32",true,input,output);
+	}
+
+	public void vertical_F32( ImageFloat32 input , ImageFloat32 output ) {
+		// the range doesn't line up with the strips
+		ImplSeparableLineBlur.vertical(input,output,blur,1,width,ImplSeparableLineBlur.declareWork(height));
+
+		for( int x = 1; x < width; x++ ) {
+			float line[] = new float[height];
+			for( int y = 0; y < height; y++ )
+				line[y] = input.get(x,y);
+			blur.process(line,0,height);
+			for( int y = 0; y < height; y++ )
+				assertEquals(line[y],output.get(x,y),1e-4f);
+		}
+		for( int y = 0; y < height; y++ )
+			assertEquals(0,output.get(0,y),1e-4f);
+	}
+
+	@Test
+	public void vertical_U8() {
+		ImageFloat32 input = new ImageFloat32(width,height);
+		ImageMiscOps.fillUniform(input,rand,0,100);
+		ImageUInt8 output = new ImageUInt8(width,height);
+
+		BoofTesting.checkSubImage(this,"vertical_U8",true,input,output);
+	}
+
+	public void vertical_U8( ImageFloat32 input , ImageUInt8 output ) {
+		ImplSeparableLineBlur.vertical(input,output,blur,0,width,ImplSeparableLineBlur.declareWork(height));
+
+		for( int x = 0; x < width; x++ ) {
+			float line[] = new float[height];
+			for( int y = 0; y < height; y++ )
+				line[y] = input.get(x,y);
+			blur.process(line,0,height);
+			for( int y = 0; y < height; y++ )
+				assertEquals(Math.round(line[y]),output.get(x,y));
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void vertical_badWork() {
+		ImageFloat32 input = new ImageFloat32(width,height);
+		ImageFloat32 output = new ImageFloat32(width,height);
+
+		ImplSeparableLineBlur.vertical(input,output,blur,0,width,ImplSeparableLineBlur.declareWork(height-1));
+	}
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.convolve;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.core.image.ConvertImageBuffer;
+import boofcv.factory.filter.kernel.FactoryKernel;
+import boofcv.struct.image.ImageBufferFloat32;
+import boofcv.struct.image.ImageBufferUInt8;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageUInt8;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * Compares results against normalized convolution with a table kernel
+ *
+ * @author Peter Abeles
+ */
+public class TestConvolveImageMeanBuffer {
+
+	Random rand = new Random(234);
+	int width = 15;
+	int height = 20;
+
+	@Test
+	public void horizontal_vertical_F32() {
+		for( int radius = 1; radius <= 9; radius += 4 ) {
+			ImageFloat32 input = new ImageFloat32(width,height);
+			ImageMiscOps.fillUniform(input,rand,0,100);
+			ImageBufferFloat32 bufferIn = new ImageBufferFloat32(width,height);
+			ConvertImageBuffer.copy(input,bufferIn);
+
+			ImageFloat32 expected = new ImageFloat32(width,height);
+			ImageFloat32 found = new ImageFloat32(width,height);
+			ImageBufferFloat32 bufferOut = new ImageBufferFloat32(width+2,height+2).subimage(1,2,1+width,2+height);
+
+			ConvolveNormalized.horizontal(FactoryKernel.table1D_F32(radius,true),input,expected);
+			ConvolveImageMeanBuffer.horizontal(bufferIn,bufferOut,radius);
+			ConvertImageBuffer.copy(bufferOut,found);
+			BoofTesting.assertEquals(expected,found,1e-3);
+
+			ConvolveNormalized.vertical(FactoryKernel.table1D_F32(radius,true),input,expected);
+			ConvolveImageMeanBuffer.vertical(bufferIn,bufferOut,radius);
+			ConvertImageBuffer.copy(bufferOut,found);
+			BoofTesting.assertEquals(expected,found,1e-3);
+		}
+	}
+
+	@Test
+	public void horizontal_vertical_U8() {
+		for( int radius = 1; radius <= 9; radius += 4 ) {
+			ImageUInt8 input = new ImageUInt8(width,height);
+			ImageMiscOps.fillUniform(input,rand,0,256);
+			ImageBufferUInt8 bufferIn = new ImageBufferUInt8(width,height);
+			ConvertImageBuffer.copy(input,bufferIn);
+
+			ImageUInt8 expected = new ImageUInt8(width,height);
+			ImageUInt8 found = new ImageUInt8(width,height);
+			ImageBufferUInt8 bufferOut = new ImageBufferUInt8(width+2,height+2).subimage(1,2,1+width,2+height);
+
+			ConvolveNormalized.horizontal(FactoryKernel.table1D_I32(radius),input,expected);
+			ConvolveImageMeanBuffer.horizontal(bufferIn,bufferOut,radius);
+			ConvertImageBuffer.copy(bufferOut,found);
+			BoofTesting.assertEquals(expected,found,0);
+
+			ConvolveNormalized.vertical(FactoryKernel.table1D_I32(radius),input,expected);
+			ConvolveImageMeanBuffer.vertical(bufferIn,bufferOut,radius);
+			ConvertImageBuffer.copy(bufferOut,found);
+			BoofTesting.assertEquals(expected,found,0);
+		}
+	}
+}
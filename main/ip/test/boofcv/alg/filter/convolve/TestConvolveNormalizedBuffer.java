@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.convolve;
+
+import boofcv.alg.filter.convolve.normalized.ConvolveNormalizedNaive;
+import boofcv.alg.filter.kernel.KernelMath;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.core.image.ConvertImageBuffer;
+import boofcv.factory.filter.kernel.FactoryKernel;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel1D_I32;
+import boofcv.struct.image.ImageBufferFloat32;
+import boofcv.struct.image.ImageBufferUInt8;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageUInt8;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * Compares results against the naive normalized convolution.  Kernels which are larger than the image are
+ * also tested.
+ *
+ * @author Peter Abeles
+ */
+public class TestConvolveNormalizedBuffer {
+
+	Random rand = new Random(234);
+	int width = 12;
+	int height = 15;
+
+	@Test
+	public void horizontal_vertical_F32() {
+		for( int radius = 1; radius <= 8; radius += 7 ) {
+			Kernel1D_F32 kernel = FactoryKernel.random1D_F32(radius,0,5,rand);
+			KernelMath.normalizeSumToOne(kernel);
+
+			ImageFloat32 input = new ImageFloat32(width,height);
+			ImageMiscOps.fillUniform(input,rand,0,100);
+			ImageBufferFloat32 bufferIn = new ImageBufferFloat32(width,height);
+			ConvertImageBuffer.copy(input,bufferIn);
+
+			ImageFloat32 expected = new ImageFloat32(width,height);
+			ImageFloat32 found = new ImageFloat32(width,height);
+			ImageBufferFloat32 bufferOut = new ImageBufferFloat32(width+4,height+3).subimage(2,1,2+width,1+height);
+
+			ConvolveNormalizedNaive.horizontal(kernel,input,expected);
+			ConvolveNormalizedBuffer.horizontal(kernel,bufferIn,bufferOut);
+			ConvertImageBuffer.copy(bufferOut,found);
+			BoofTesting.assertEquals(expected,found,1e-3);
+
+			ConvolveNormalizedNaive.vertical(kernel,input,expected);
+			ConvolveNormalizedBuffer.vertical(kernel,bufferIn,bufferOut);
+			ConvertImageBuffer.copy(bufferOut,found);
+			BoofTesting.assertEquals(expected,found,1e-3);
+		}
+	}
+
+	@Test
+	public void horizontal_vertical_U8() {
+		for( int radius = 1; radius <= 8; radius += 7 ) {
+			Kernel1D_I32 kernel = FactoryKernel.random1D_I32(radius,1,5,rand);
+
+			ImageUInt8 input = new ImageUInt8(width,height);
+			ImageMiscOps.fillUniform(input,rand,0,256);
+			ImageBufferUInt8 bufferIn = new ImageBufferUInt8(width,height);
+			ConvertImageBuffer.copy(input,bufferIn);
+
+			ImageUInt8 expected = new ImageUInt8(width,height);
+			ImageUInt8 found = new ImageUInt8(width,height);
+			ImageBufferUInt8 bufferOut = new ImageBufferUInt8(width+4,height+3).subimage(2,1,2+width,1+height);
+
+			ConvolveNormalizedNaive.horizontal(kernel,input,expected);
+			ConvolveNormalizedBuffer.horizontal(kernel,bufferIn,bufferOut);
+			ConvertImageBuffer.copy(bufferOut,found);
+			BoofTesting.assertEquals(expected,found,0);
+
+			ConvolveNormalizedNaive.vertical(kernel,input,expected);
+			ConvolveNormalizedBuffer.vertical(kernel,bufferIn,bufferOut);
+			ConvertImageBuffer.copy(bufferOut,found);
+			BoofTesting.assertEquals(expected,found,0);
+		}
+	}
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.convolve;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.ConvertImageInterleaved;
+import boofcv.factory.filter.kernel.FactoryKernelGaussian;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel1D_I32;
+import boofcv.struct.image.*;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestConvolveNormalizedInterleaved_MT {
+
+	Random rand = new Random(234);
+	int numBands = 3;
+
+	int originalThreads;
+
+	@Before
+	public void before() {
+		originalThreads = BoofConcurrency.getMaxThreads();
+		BoofConcurrency.setMaxThreads(3);
+	}
+
+	@After
+	public void after() {
+		BoofConcurrency.setMaxThreads(originalThreads);
+	}
+
+	@Test
+	public void compareToSingleThread_F32() {
+		for( int radius = 1; radius <= 8; radius += 7 ) {
+			Kernel1D_F32 kernel = FactoryKernelGaussian.gaussian(Kernel1D_F32.class,-1,radius);
+			ImageInterleavedFloat32 input = new ImageInterleavedFloat32(30,25,numBands);
+			ConvertImageInterleaved.convert(randomMS(ImageFloat32.class,100),input);
+
+			ImageInterleavedFloat32 expected = new ImageInterleavedFloat32(30,25,numBands);
+			ImageInterleavedFloat32 found = new ImageInterleavedFloat32(30,25,numBands);
+
+			ConvolveNormalizedInterleaved.horizontal(kernel,input,expected);
+			ConvolveNormalizedInterleaved_MT.horizontal(kernel,input,found);
+			assertArrayEquals(expected.data,found.data,0);
+
+			ConvolveNormalizedInterleaved.vertical(kernel,input,expected);
+			ConvolveNormalizedInterleaved_MT.vertical(kernel,input,found);
+			assertArrayEquals(expected.data,found.data,0);
+		}
+	}
+
+	@Test
+	public void compareToSingleThread_U8() {
+		for( int radius = 1; radius <= 8; radius += 7 ) {
+			Kernel1D_I32 kernel = FactoryKernelGaussian.gaussian(Kernel1D_I32.class,-1,radius);
+			ImageInterleavedInt8 input = new ImageInterleavedInt8(30,25,numBands);
+			ConvertImageInterleaved.convert(randomMS(ImageUInt8.class,256),input);
+
+			ImageInterleavedInt8 expected = new ImageInterleavedInt8(30,25,numBands);
+			ImageInterleavedInt8 found = new ImageInterleavedInt8(30,25,numBands);
+
+			ConvolveNormalizedInterleaved.horizontal(kernel,input,expected);
+			ConvolveNormalizedInterleaved_MT.horizontal(kernel,input,found);
+			assertArrayEquals(expected.data,found.data);
+
+			ConvolveNormalizedInterleaved.vertical(kernel,input,expected);
+			ConvolveNormalizedInterleaved_MT.vertical(kernel,input,found);
+			assertArrayEquals(expected.data,found.data);
+		}
+	}
+
+	private <T extends ImageSingleBand> MultiSpectral<T> randomMS( Class<T> type , double max ) {
+		MultiSpectral<T> ret = new MultiSpectral<T>(type,30,25,numBands);
+		GImageMiscOps.fillUniform(ret,rand,0,max);
+		return ret;
+	}
+}
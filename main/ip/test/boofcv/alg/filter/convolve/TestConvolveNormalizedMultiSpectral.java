@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.convolve;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.factory.filter.kernel.FactoryKernelGaussian;
+import boofcv.struct.convolve.Kernel1D;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel1D_I32;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageSingleBand;
+import boofcv.struct.image.ImageUInt8;
+import boofcv.struct.image.MultiSpectral;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * Compares results against {@link ConvolveNormalized} applied to each band
+ *
+ * @author Peter Abeles
+ */
+public class TestConvolveNormalizedMultiSpectral {
+
+	Random rand = new Random(234);
+	int width = 20;
+	int height = 25;
+	int numBands = 3;
+
+	/**
+	 * Images which are smaller than the kernel
+	 */
+	@Test
+	public void smallImage() {
+		width = 3;
+		height = 4;
+		horizontal_F32();
+		vertical_F32();
+		horizontal_U8();
+		vertical_U8();
+	}
+
+	@Test
+	public void horizontal_F32() {
+		for( int radius = 1; radius <= 4; radius++ ) {
+			Kernel1D_F32 kernel = FactoryKernelGaussian.gaussian(Kernel1D_F32.class,-1,radius);
+			MultiSpectral<ImageFloat32> input = createF32();
+			MultiSpectral<ImageFloat32> expected = createF32();
+			for( int band = 0; band < numBands; band++ )
+				ConvolveNormalized.horizontal(kernel,input.getBand(band),expected.getBand(band));
+
+			MultiSpectral<ImageFloat32> found = createF32();
+			ConvolveNormalizedMultiSpectral.horizontal(kernel,input,found);
+			BoofTesting.assertEquals(expected,found,1e-4);
+
+			MultiSpectral<ImageFloat32> sub = createSubF32();
+			ConvolveNormalizedMultiSpectral.horizontal(kernel,createSubImageOf(input),sub);
+			BoofTesting.assertEquals(expected,sub,1e-4);
+		}
+	}
+
+	@Test
+	public void vertical_F32() {
+		for( int radius = 1; radius <= 4; radius++ ) {
+			Kernel1D_F32 kernel = FactoryKernelGaussian.gaussian(Kernel1D_F32.class,-1,radius);
+			MultiSpectral<ImageFloat32> input = createF32();
+			MultiSpectral<ImageFloat32> expected = createF32();
+			for( int band = 0; band < numBands; band++ )
+				ConvolveNormalized.vertical(kernel,input.getBand(band),expected.getBand(band));
+
+			MultiSpectral<ImageFloat32> found = createF32();
+			ConvolveNormalizedMultiSpectral.vertical(kernel,input,found);
+			BoofTesting.assertEquals(expected,found,1e-4);
+
+			MultiSpectral<ImageFloat32> sub = createSubF32();
+			ConvolveNormalizedMultiSpectral.vertical(kernel,createSubImageOf(input),sub);
+			BoofTesting.assertEquals(expected,sub,1e-4);
+		}
+	}
+
+	@Test
+	public void horizontal_U8() {
+		for( int radius = 1; radius <= 4; radius++ ) {
+			Kernel1D_I32 kernel = FactoryKernelGaussian.gaussian(Kernel1D_I32.class,-1,radius);
+			MultiSpectral<ImageUInt8> input = createU8();
+			MultiSpectral<ImageUInt8> expected = createU8();
+			for( int band = 0; band < numBands; band++ )
+				ConvolveNormalized.horizontal(kernel,input.getBand(band),expected.getBand(band));
+
+			MultiSpectral<ImageUInt8> found = createU8();
+			ConvolveNormalizedMultiSpectral.horizontal(kernel,input,found);
+			BoofTesting.assertEquals(expected,found,0);
+
+			MultiSpectral<ImageUInt8> sub = createSubU8();
+			ConvolveNormalizedMultiSpectral.horizontal(kernel,createSubImageOf(input),sub);
+			BoofTesting.assertEquals(expected,sub,0);
+		}
+	}
+
+	@Test
+	public void vertical_U8() {
+		for( int radius = 1; radius <= 4; radius++ ) {
+			Kernel1D_I32 kernel = FactoryKernelGaussian.gaussian(Kernel1D_I32.class,-1,radius);
+			MultiSpectral<ImageUInt8> input = createU8();
+			MultiSpectral<ImageUInt8> expected = createU8();
+			for( int band = 0; band < numBands; band++ )
+				ConvolveNormalized.vertical(kernel,input.getBand(band),expected.getBand(band));
+
+			MultiSpectral<ImageUInt8> found = createU8();
+			ConvolveNormalizedMultiSpectral.vertical(kernel,input,found);
+			BoofTesting.assertEquals(expected,found,0);
+
+			MultiSpectral<ImageUInt8> sub = createSubU8();
+			ConvolveNormalizedMultiSpectral.vertical(kernel,createSubImageOf(input),sub);
+			BoofTesting.assertEquals(expected,sub,0);
+		}
+	}
+
+	private MultiSpectral<ImageUInt8> createU8() {
+		MultiSpectral<ImageUInt8> img = new MultiSpectral<ImageUInt8>(ImageUInt8.class,width,height,numBands);
+		GImageMiscOps.fillUniform(img,rand,0,256);
+		return img;
+	}
+
+	private MultiSpectral<ImageFloat32> createF32() {
+		MultiSpectral<ImageFloat32> img = new MultiSpectral<ImageFloat32>(ImageFloat32.class,width,height,numBands);
+		GImageMiscOps.fillUniform(img,rand,0,100);
+		return img;
+	}
+
+	/**
+	 * Creates a sub-image which is a copy of the input image
+	 */
+	private <T extends ImageSingleBand> MultiSpectral<T> createSubImageOf( MultiSpectral<T> input ) {
+		MultiSpectral<T> ret = new MultiSpectral<T>(input.getType(),width+10,height+12,numBands).
+				subimage(5,6,5+width,6+height);
+		ret.setTo(input);
+		return ret;
+	}
+
+	private MultiSpectral<ImageUInt8> createSubU8() {
+		return new MultiSpectral<ImageUInt8>(ImageUInt8.class,width+10,height+12,numBands).subimage(5,6,5+width,6+height);
+	}
+
+	private MultiSpectral<ImageFloat32> createSubF32() {
+		return new MultiSpectral<ImageFloat32>(ImageFloat32.class,width+10,height+12,numBands).subimage(5,6,5+width,6+height);
+	}
+
+	/**
+	 * The generic functions in {@link GConvolveImageOps} have an overload for {@link MultiSpectral} and the
+	 * original single band signatures are unchanged.
+	 */
+	@Test
+	public void generic() throws NoSuchMethodException {
+		Kernel1D_F32 kernel = FactoryKernelGaussian.gaussian(Kernel1D_F32.class,-1,2);
+		MultiSpectral<ImageFloat32> input = createF32();
+
+		MultiSpectral<ImageFloat32> expected = createF32();
+		MultiSpectral<ImageFloat32> found = createF32();
+		ConvolveNormalizedMultiSpectral.horizontal(kernel,input,expected);
+		GConvolveImageOps.horizontalNormalized(kernel,input,found);
+		BoofTesting.assertEquals(expected,found,1e-4);
+
+		ConvolveNormalizedMultiSpectral.vertical(kernel,input,expected);
+		GConvolveImageOps.verticalNormalized(kernel,input,found);
+		BoofTesting.assertEquals(expected,found,1e-4);
+
+		for( String name : new String[]{"horizontalNormalized","verticalNormalized"})
+			GConvolveImageOps.class.getMethod(name,Kernel1D.class,ImageSingleBand.class,ImageSingleBand.class);
+	}
+}
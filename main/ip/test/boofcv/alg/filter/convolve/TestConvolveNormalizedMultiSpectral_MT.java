@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.convolve;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.factory.filter.kernel.FactoryKernelGaussian;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel1D_I32;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageUInt8;
+import boofcv.struct.image.MultiSpectral;
+import boofcv.testing.BoofTesting;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestConvolveNormalizedMultiSpectral_MT {
+
+	Random rand = new Random(234);
+	int numBands = 3;
+
+	int originalThreads;
+
+	@Before
+	public void before() {
+		originalThreads = BoofConcurrency.getMaxThreads();
+		BoofConcurrency.setMaxThreads(3);
+	}
+
+	@After
+	public void after() {
+		BoofConcurrency.setMaxThreads(originalThreads);
+	}
+
+	@Test
+	public void compareToSingleThread_F32() {
+		for( int radius = 1; radius <= 8; radius += 7 ) {
+			Kernel1D_F32 kernel = FactoryKernelGaussian.gaussian(Kernel1D_F32.class,-1,radius);
+			MultiSpectral<ImageFloat32> input = new MultiSpectral<ImageFloat32>(ImageFloat32.class,30,25,numBands);
+			GImageMiscOps.fillUniform(input,rand,0,100);
+
+			MultiSpectral<ImageFloat32> expected = input._createNew(input.width,input.height);
+			MultiSpectral<ImageFloat32> found = input._createNew(input.width,input.height);
+
+			ConvolveNormalizedMultiSpectral.horizontal(kernel,input,expected);
+			ConvolveNormalizedMultiSpectral_MT.horizontal(kernel,input,found);
+			BoofTesting.assertEquals(expected,found,0);
+
+			ConvolveNormalizedMultiSpectral.vertical(kernel,input,expected);
+			ConvolveNormalizedMultiSpectral_MT.vertical(kernel,input,found);
+			BoofTesting.assertEquals(expected,found,0);
+		}
+	}
+
+	@Test
+	public void compareToSingleThread_U8() {
+		for( int radius = 1; radius <= 8; radius += 7 ) {
+			Kernel1D_I32 kernel = FactoryKernelGaussian.gaussian(Kernel1D_I32.class,-1,radius);
+			MultiSpectral<ImageUInt8> input = new MultiSpectral<ImageUInt8>(ImageUInt8.class,30,25,numBands);
+			GImageMiscOps.fillUniform(input,rand,0,256);
+
+			MultiSpectral<ImageUInt8> expected = input._createNew(input.width,input.height);
+			MultiSpectral<ImageUInt8> found = input._createNew(input.width,input.height);
+
+			ConvolveNormalizedMultiSpectral.horizontal(kernel,input,expected);
+			ConvolveNormalizedMultiSpectral_MT.horizontal(kernel,input,found);
+			BoofTesting.assertEquals(expected,found,0);
+
+			ConvolveNormalizedMultiSpectral.vertical(kernel,input,expected);
+			ConvolveNormalizedMultiSpectral_MT.vertical(kernel,input,found);
+			BoofTesting.assertEquals(expected,found,0);
+		}
+	}
+}
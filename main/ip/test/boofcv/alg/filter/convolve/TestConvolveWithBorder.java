@@ -43,6 +43,10 @@ public class TestConvolveWithBorder extends CompareImageBorder {
 		super(ConvolveWithBorder.class);
 	}
 
+	protected TestConvolveWithBorder( Class<?> testClass ) {
+		super(testClass);
+	}
+
 	@Test
 	public void compareToNoBorder() {
 		performTests(12);
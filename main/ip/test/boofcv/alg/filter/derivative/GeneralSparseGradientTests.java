@@ -68,6 +68,7 @@ public abstract class GeneralSparseGradientTests
 			throw new RuntimeException("must setup alg!");
 		testCenterImage();
 		testSubImage();
+		testBatch();
 		isInBounds(alg);
 		if( includeBorder )
 			testBorder();
@@ -113,6 +114,35 @@ public abstract class GeneralSparseGradientTests
 	}
 
 
+	/**
+	 * The batch function should produce the same results as computing each point individually
+	 */
+	public void testBatch() {
+		T subImage = BoofTesting.createSubImageOf(input);
+		alg.setImage(subImage);
+
+		int N = (height-sampleBoxY1-1+sampleBoxY0)*(width-sampleBoxX1-1+sampleBoxX0);
+		int xs[] = new int[N];
+		int ys[] = new int[N];
+		int i = 0;
+		for( int y = -sampleBoxY0; y < height-sampleBoxY1-1; y++ ) {
+			for( int x = -sampleBoxX0; x < width-sampleBoxX1-1; x++ , i++ ) {
+				xs[i] = x;
+				ys[i] = y;
+			}
+		}
+
+		double foundX[] = new double[N];
+		double foundY[] = new double[N];
+		alg.compute(xs,ys,N,foundX,foundY);
+
+		for( i = 0; i < N; i++ ) {
+			G g = alg.compute(xs[i],ys[i]);
+			assertEquals(g.getX(),foundX[i],1e-8);
+			assertEquals(g.getY(),foundY[i],1e-8);
+		}
+	}
+
 	/**
 	 * Compute the input along the image border and see if has the expected results
 	 */
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.filter.derivative;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.core.image.ConvertImageBuffer;
+import boofcv.core.image.border.BorderType;
+import boofcv.core.image.border.FactoryImageBorder;
+import boofcv.core.image.border.ImageBorder_F32;
+import boofcv.core.image.border.ImageBorder_I32;
+import boofcv.struct.image.*;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * Compares results against {@link GradientThree}
+ *
+ * @author Peter Abeles
+ */
+public class TestGradientThreeBuffer {
+
+	Random rand = new Random(234);
+	int width = 20;
+	int height = 25;
+
+	@Test
+	public void compareToHeap() {
+		BorderType types[] = new BorderType[]{null,BorderType.EXTENDED,BorderType.REFLECT,BorderType.WRAP};
+
+		for( BorderType type : types ) {
+			ImageFloat32 input = new ImageFloat32(width,height);
+			ImageMiscOps.fillUniform(input,rand,0,100);
+			ImageFloat32 expectedX = new ImageFloat32(width,height);
+			ImageFloat32 expectedY = new ImageFloat32(width,height);
+
+			ImageBorder_F32 border = type == null ? null :
+					(ImageBorder_F32)FactoryImageBorder.general(input,type);
+			GradientThree.process(input,expectedX,expectedY,border);
+
+			ImageBufferFloat32 bufferIn = new ImageBufferFloat32(width+3,height+2).subimage(2,1,2+width,1+height);
+			ConvertImageBuffer.copy(input,bufferIn);
+			ImageBufferFloat32 derivX = new ImageBufferFloat32(width,height);
+			ImageBufferFloat32 derivY = new ImageBufferFloat32(width+4,height+5).subimage(1,3,1+width,3+height);
+
+			GradientThreeBuffer.process(bufferIn,derivX,derivY,type);
+
+			ImageFloat32 foundX = new ImageFloat32(width,height);
+			ImageFloat32 foundY = new ImageFloat32(width,height);
+			ConvertImageBuffer.copy(derivX,foundX);
+			ConvertImageBuffer.copy(derivY,foundY);
+
+			BoofTesting.assertEquals(expectedX,foundX,1e-4);
+			BoofTesting.assertEquals(expectedY,foundY,1e-4);
+		}
+	}
+
+	@Test
+	public void compareToHeap_U8() {
+		BorderType types[] = new BorderType[]{null,BorderType.EXTENDED,BorderType.REFLECT,BorderType.WRAP};
+
+		for( BorderType type : types ) {
+			ImageUInt8 input = new ImageUInt8(width,height);
+			ImageMiscOps.fillUniform(input,rand,0,255);
+			ImageSInt16 expectedX = new ImageSInt16(width,height);
+			ImageSInt16 expectedY = new ImageSInt16(width,height);
+
+			ImageBorder_I32 border = type == null ? null :
+					(ImageBorder_I32)FactoryImageBorder.general(input,type);
+			GradientThree.process(input,expectedX,expectedY,border);
+
+			ImageBufferUInt8 bufferIn = new ImageBufferUInt8(width+3,height+2).subimage(2,1,2+width,1+height);
+			ConvertImageBuffer.copy(input,bufferIn);
+			ImageSInt16 foundX = new ImageSInt16(width,height);
+			ImageSInt16 foundY = new ImageSInt16(width+4,height+5).subimage(1,3,1+width,3+height);
+
+			GradientThreeBuffer.process(bufferIn,foundX,foundY,type);
+
+			BoofTesting.assertEquals(expectedX,foundX,0);
+			BoofTesting.assertEquals(expectedY,foundY,0);
+		}
+	}
+}
@@ -138,6 +138,91 @@ public abstract class GeneralInterpolationPixelChecks< T extends ImageSingleBand
 		assertEquals(interp.get(10.8f, 10.6f), interp.get_unsafe(10.8f, 10.6f), 1e-6);
 	}
 
+	/**
+	 * Compares the batch get() against calling get() and get_unsafe() for each point.  Points outside the
+	 * image should be skipped.
+	 */
+	@Test
+	public void get_batch() {
+		T img = createImage(width, height);
+		GImageMiscOps.fillUniform(img, rand, 0, 100);
+
+		BoofTesting.checkSubImage(this, "get_batch", false, img);
+	}
+
+	public void get_batch(T img) {
+		InterpolatePixel<T> interp = wrap(img, 0, 100);
+
+		int offset = 3;
+		int N = 500;
+		float x[] = new float[N+offset];
+		float y[] = new float[N+offset];
+		for( int i = 0; i < x.length; i++ ) {
+			x[i] = rand.nextFloat()*(width+10)-5;
+			y[i] = rand.nextFloat()*(height+10)-5;
+		}
+		// points exactly along the border
+		x[offset] = 0; y[offset] = 0;
+		x[offset+1] = width-0.01f; y[offset+1] = height-0.01f;
+		x[offset+2] = width; y[offset+2] = 5;
+
+		float values[] = new float[N];
+		for( int i = 0; i < N; i++ )
+			values[i] = -1;
+		interp.get(x, y, offset, N, values);
+
+		for( int i = 0; i < N; i++ ) {
+			checkBatchValue(interp, x[offset+i], y[offset+i], values[i]);
+		}
+	}
+
+	/**
+	 * Compares getRow() against calling get() and get_unsafe() for each point.  Points outside the
+	 * image should be skipped.
+	 */
+	@Test
+	public void getRow() {
+		T img = createImage(width, height);
+		GImageMiscOps.fillUniform(img, rand, 0, 100);
+
+		BoofTesting.checkSubImage(this, "getRow", false, img);
+	}
+
+	public void getRow(T img) {
+		InterpolatePixel<T> interp = wrap(img, 0, 100);
+
+		float rows[] = new float[]{-0.5f, 0, 1.2f, height/2+0.3f, height-1.5f, height-0.01f, height};
+		float steps[] = new float[]{0.5f, 1, 1.7f};
+		int indexStart = 4;
+		int N = 300;
+		float values[] = new float[N];
+
+		for( float row : rows ) {
+			for( float step : steps ) {
+				float offsetX = -3.1f;
+				for( int i = 0; i < N; i++ )
+					values[i] = -1;
+				interp.getRow(row, step, offsetX, indexStart, N, values);
+
+				for( int i = 0; i < N; i++ ) {
+					float x = step*(indexStart+i) + offsetX;
+					checkBatchValue(interp, x, row, values[i]);
+				}
+			}
+		}
+	}
+
+	private void checkBatchValue( InterpolatePixel<T> interp , float x , float y , float found ) {
+		if( x < 0 || y < 0 || x >= width || y >= height ) {
+			assertEquals(-1, found, 1e-8f);
+		} else if( x >= interp.getUnsafeBorderX() && x < width - interp.getUnsafeBorderX() &&
+				y >= interp.getUnsafeBorderY() && y < height - interp.getUnsafeBorderY() ) {
+			assertEquals(interp.get_unsafe(x, y), found, 1e-4f);
+		} else {
+			assertEquals(interp.get(x, y), found, 1e-4f);
+		}
+	}
+
 	@Test
 	public void getImage() {
 		T img = createImage(width, height);
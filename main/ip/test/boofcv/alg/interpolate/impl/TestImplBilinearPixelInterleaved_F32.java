@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.interpolate.impl;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.core.image.ConvertImageInterleaved;
+import boofcv.struct.image.ImageInterleavedFloat32;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.MultiSpectral;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * Compares results against {@link ImplBilinearPixel_F32} applied to each band
+ *
+ * @author Peter Abeles
+ */
+public class TestImplBilinearPixelInterleaved_F32 {
+
+	Random rand = new Random(234);
+	int width = 20;
+	int height = 25;
+	int numBands = 3;
+
+	@Test
+	public void compareToSingleBand() {
+		MultiSpectral<ImageFloat32> ms = new MultiSpectral<ImageFloat32>(ImageFloat32.class,width,height,numBands);
+		GImageMiscOps.fillUniform(ms,rand,-20,20);
+
+		ImageInterleavedFloat32 inter = new ImageInterleavedFloat32(width+10,height+12,numBands).subimage(5,6,5+width,6+height);
+		ConvertImageInterleaved.convert(ms,inter);
+
+		ImplBilinearPixelInterleaved_F32 alg = new ImplBilinearPixelInterleaved_F32(inter);
+		ImplBilinearPixel_F32 single = new ImplBilinearPixel_F32();
+
+		float found[] = new float[numBands];
+		for( int i = 0; i < 200; i++ ) {
+			float x = rand.nextFloat()*width;
+			float y = rand.nextFloat()*height;
+			// include the image border
+			if( i % 10 == 0 ) x = width-0.5f;
+			if( i % 15 == 0 ) y = height-0.5f;
+
+			assertEquals(true,alg.isInSafeBounds(x,y));
+			alg.get(x,y,found);
+			for( int band = 0; band < numBands; band++ ) {
+				single.setImage(ms.getBand(band));
+				assertEquals(single.get(x,y),found[band],0);
+			}
+			alg.get_unsafe(x,y,found);
+			for( int band = 0; band < numBands; band++ ) {
+				single.setImage(ms.getBand(band));
+				assertEquals(single.get_unsafe(x,y),found[band],0);
+			}
+		}
+	}
+
+	@Test
+	public void outsideImage() {
+		ImplBilinearPixelInterleaved_F32 alg =
+				new ImplBilinearPixelInterleaved_F32(new ImageInterleavedFloat32(width,height,numBands));
+
+		assertEquals(false,alg.isInSafeBounds(-0.5f,2));
+		assertEquals(false,alg.isInSafeBounds(2,height));
+
+		try {
+			alg.get(width,2,new float[numBands]);
+			fail("Should have thrown an exception");
+		} catch( IllegalArgumentException ignore ) {}
+	}
+}
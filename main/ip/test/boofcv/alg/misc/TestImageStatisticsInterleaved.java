@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.misc;
+
+import boofcv.core.image.ConvertImageInterleaved;
+import boofcv.struct.image.*;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Compares results against {@link ImageStatistics} applied to each band
+ *
+ * @author Peter Abeles
+ */
+public class TestImageStatisticsInterleaved {
+
+	Random rand = new Random(234);
+	int width = 20;
+	int height = 25;
+	int numBands = 3;
+
+	@Test
+	public void all_U8() {
+		MultiSpectral<ImageUInt8> ms = new MultiSpectral<ImageUInt8>(ImageUInt8.class,width,height,numBands);
+		GImageMiscOps.fillUniform(ms,rand,0,256);
+
+		for( int i = 0; i < 2; i++ ) {
+			ImageInterleavedInt8 img = i == 0 ? new ImageInterleavedInt8(width,height,numBands) :
+					new ImageInterleavedInt8(width+10,height+12,numBands).subimage(5,6,5+width,6+height);
+			ConvertImageInterleaved.convert(ms,img);
+
+			int min = Integer.MAX_VALUE, max = -Integer.MAX_VALUE;
+			for( int band = 0; band < numBands; band++ ) {
+				min = Math.min(min,ImageStatistics.min(ms.getBand(band)));
+				max = Math.max(max,ImageStatistics.max(ms.getBand(band)));
+			}
+			assertEquals(min,ImageStatisticsInterleaved.min(img));
+			assertEquals(max,ImageStatisticsInterleaved.max(img));
+
+			int sum[] = ImageStatisticsInterleaved.sum(img,null);
+			double mean[] = ImageStatisticsInterleaved.mean(img,null);
+			double variance[] = ImageStatisticsInterleaved.variance(img,mean,null);
+
+			for( int band = 0; band < numBands; band++ ) {
+				ImageUInt8 b = ms.getBand(band);
+				double m = ImageStatistics.mean(b);
+				assertEquals(ImageStatistics.sum(b),sum[band]);
+				assertEquals(m,mean[band],1e-8);
+				assertEquals(ImageStatistics.variance(b,m),variance[band],1e-8);
+			}
+		}
+	}
+
+	@Test
+	public void all_F32() {
+		MultiSpectral<ImageFloat32> ms = new MultiSpectral<ImageFloat32>(ImageFloat32.class,width,height,numBands);
+		GImageMiscOps.fillUniform(ms,rand,-20,20);
+
+		for( int i = 0; i < 2; i++ ) {
+			ImageInterleavedFloat32 img = i == 0 ? new ImageInterleavedFloat32(width,height,numBands) :
+					new ImageInterleavedFloat32(width+10,height+12,numBands).subimage(5,6,5+width,6+height);
+			ConvertImageInterleaved.convert(ms,img);
+
+			float min = Float.MAX_VALUE, max = -Float.MAX_VALUE;
+			for( int band = 0; band < numBands; band++ ) {
+				min = Math.min(min,ImageStatistics.min(ms.getBand(band)));
+				max = Math.max(max,ImageStatistics.max(ms.getBand(band)));
+			}
+			assertEquals(min,ImageStatisticsInterleaved.min(img),0);
+			assertEquals(max,ImageStatisticsInterleaved.max(img),0);
+
+			float sum[] = ImageStatisticsInterleaved.sum(img,new float[numBands]);
+			double mean[] = ImageStatisticsInterleaved.mean(img,null);
+			double variance[] = ImageStatisticsInterleaved.variance(img,mean,null);
+
+			for( int band = 0; band < numBands; band++ ) {
+				ImageFloat32 b = ms.getBand(band);
+				double m = ImageStatistics.mean(b);
+				assertEquals(ImageStatistics.sum(b),sum[band],1e-4);
+				assertEquals(m,mean[band],1e-6);
+				assertEquals(ImageStatistics.variance(b,m),variance[band],1e-4);
+			}
+		}
+	}
+}
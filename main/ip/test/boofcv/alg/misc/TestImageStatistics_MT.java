@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.misc;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.struct.image.ImageSingleBand;
+import boofcv.testing.BoofTesting;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImageStatistics_MT {
+
+	Random rand = new Random(234);
+	int width = 25;
+	int height = ImageStatistics_MT.BAND_ROWS*3+5;
+
+	int originalThreads;
+
+	@Before
+	public void before() {
+		originalThreads = BoofConcurrency.getMaxThreads();
+		BoofConcurrency.setMaxThreads(3);
+	}
+
+	@After
+	public void after() {
+		BoofConcurrency.setMaxThreads(originalThreads);
+	}
+
+	/**
+	 * Integer images should produce identical results and floating point images results which are
+	 * the same up to round off error.
+	 */
+	@Test
+	public void compareToSingleThread() throws InvocationTargetException, IllegalAccessException {
+		int total = 0;
+		for( Method m : ImageStatistics_MT.class.getMethods() ) {
+			if( m.getDeclaringClass() != ImageStatistics_MT.class )
+				continue;
+
+			Method serial = BoofTesting.findMethod(ImageStatistics.class,m.getName(),m.getParameterTypes());
+			Object args[] = createArguments(m.getParameterTypes());
+
+			double expected = ((Number)serial.invoke(null,args)).doubleValue();
+			double found = ((Number)m.invoke(null,args)).doubleValue();
+
+			boolean isFloat = GeneralizedImageOps.isFloatingPoint(m.getParameterTypes()[0]);
+			if( isFloat )
+				assertEquals(m.getName(),expected,found,Math.abs(expected)*1e-5);
+			else
+				assertEquals(m.getName(),expected,found,0);
+
+			total++;
+		}
+
+		assertEquals(8*8,total);
+	}
+
+	/**
+	 * The result should not depend on the number of threads
+	 */
+	@Test
+	public void independentOfThreads() throws InvocationTargetException, IllegalAccessException {
+		for( Method m : ImageStatistics_MT.class.getMethods() ) {
+			if( m.getDeclaringClass() != ImageStatistics_MT.class )
+				continue;
+
+			Object args[] = createArguments(m.getParameterTypes());
+
+			BoofConcurrency.setMaxThreads(1);
+			Object expected = m.invoke(null,args);
+			BoofConcurrency.setMaxThreads(3);
+			Object found = m.invoke(null,args);
+
+			assertEquals(m.getName(),expected,found);
+		}
+	}
+
+	private Object[] createArguments( Class<?> types[] ) {
+		Object args[] = new Object[types.length];
+		for( int i = 0; i < types.length; i++ ) {
+			Class<?> type = types[i];
+			if( type == double.class ) {
+				args[i] = 12.5;
+			} else {
+				ImageSingleBand img = GeneralizedImageOps.createSingleBand((Class)type,width,height);
+				img = BoofTesting.createSubImageOf(img);
+				GImageMiscOps.fillUniform(img,rand,-20,100);
+				args[i] = img;
+			}
+		}
+		return args;
+	}
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.misc;
+
+import boofcv.core.image.ConvertImageBuffer;
+import boofcv.struct.image.*;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Compares each function against the equivalent function in {@link PixelMath}
+ *
+ * @author Peter Abeles
+ */
+public class TestPixelMathBuffer {
+
+	Random rand = new Random(234);
+	int width = 20;
+	int height = 25;
+
+	@Test
+	public void compareToPixelMath() throws Exception {
+		int total = 0;
+		for( Method m : PixelMathBuffer.class.getMethods() ) {
+			if( !Modifier.isStatic(m.getModifiers()) || m.getDeclaringClass() != PixelMathBuffer.class )
+				continue;
+
+			Class<?> params[] = m.getParameterTypes();
+			Class<?> heapParams[] = new Class<?>[ params.length ];
+			for( int i = 0; i < params.length; i++ ) {
+				heapParams[i] = toHeapType(params[i]);
+			}
+
+			Method heap = PixelMath.class.getMethod(m.getName(),heapParams);
+
+			compare(m,heap,false);
+			compare(m,heap,true);
+			total++;
+		}
+
+		assertEquals(20,total);
+	}
+
+	private void compare( Method m , Method heap , boolean sub ) throws Exception {
+		Class<?> params[] = m.getParameterTypes();
+
+		Object argsBuffer[] = new Object[ params.length ];
+		Object argsHeap[] = new Object[ params.length ];
+
+		// the first numerical argument in boundImage is a lower bound
+		int numeric = m.getName().equals("boundImage") ? 1 : 0;
+
+		for( int i = 0; i < params.length; i++ ) {
+			if( params[i] == ImageBufferUInt8.class ) {
+				ImageUInt8 img = new ImageUInt8(width,height);
+				ImageMiscOps.fillUniform(img,rand,0,256);
+				ImageBufferUInt8 b = sub ? new ImageBufferUInt8(width+10,height+12).subimage(5,6,5+width,6+height) :
+						new ImageBufferUInt8(width,height);
+				ConvertImageBuffer.copy(img,b);
+				argsHeap[i] = img;
+				argsBuffer[i] = b;
+			} else if( params[i] == ImageBufferFloat32.class ) {
+				ImageFloat32 img = new ImageFloat32(width,height);
+				ImageMiscOps.fillUniform(img,rand,-20,20);
+				ImageBufferFloat32 b = sub ? new ImageBufferFloat32(width+10,height+12).subimage(5,6,5+width,6+height) :
+						new ImageBufferFloat32(width,height);
+				ConvertImageBuffer.copy(img,b);
+				argsHeap[i] = img;
+				argsBuffer[i] = b;
+			} else {
+				argsHeap[i] = argsBuffer[i] = numericValue(params[i],numeric++);
+			}
+		}
+
+		heap.invoke(null,argsHeap);
+		m.invoke(null,argsBuffer);
+
+		// compare all the images since some functions modify the input
+		for( int i = 0; i < params.length; i++ ) {
+			if( argsHeap[i] instanceof ImageUInt8 ) {
+				ImageUInt8 found = new ImageUInt8(width,height);
+				ConvertImageBuffer.copy((ImageBufferUInt8)argsBuffer[i],found);
+				BoofTesting.assertEquals((ImageUInt8)argsHeap[i],found,0);
+			} else if( argsHeap[i] instanceof ImageFloat32 ) {
+				ImageFloat32 found = new ImageFloat32(width,height);
+				ConvertImageBuffer.copy((ImageBufferFloat32)argsBuffer[i],found);
+				BoofTesting.assertEquals((ImageFloat32)argsHeap[i],found,0);
+			}
+		}
+	}
+
+	/**
+	 * Selects the value of a numerical argument based on its order.  Order is value, lower, upper.
+	 */
+	private Object numericValue( Class<?> type , int order ) {
+		if( type == int.class )
+			return new int[]{5,10,200}[order];
+		else if( type == float.class )
+			return new float[]{2.5f,-4f,15f}[order];
+		else if( type == double.class )
+			return new double[]{2.5,-4,15}[order];
+		throw new RuntimeException("Unexpected type "+type.getSimpleName());
+	}
+
+	private static Class<?> toHeapType( Class<?> type ) {
+		if( type == ImageBufferUInt8.class )
+			return ImageUInt8.class;
+		else if( type == ImageBufferFloat32.class )
+			return ImageFloat32.class;
+		assertTrue(type.isPrimitive());
+		return type;
+	}
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.misc;
+
+import boofcv.core.image.ConvertImageInterleaved;
+import boofcv.struct.image.*;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Compares each function against the equivalent function in {@link PixelMath} applied to each band
+ *
+ * @author Peter Abeles
+ */
+public class TestPixelMathInterleaved {
+
+	Random rand = new Random(234);
+	int width = 20;
+	int height = 25;
+	int numBands = 3;
+
+	@Test
+	public void compareToPixelMath() throws Exception {
+		int total = 0;
+		for( Method m : PixelMathInterleaved.class.getMethods() ) {
+			if( !Modifier.isStatic(m.getModifiers()) || m.getDeclaringClass() != PixelMathInterleaved.class )
+				continue;
+
+			Class<?> params[] = m.getParameterTypes();
+			Class<?> bandParams[] = new Class<?>[ params.length ];
+			for( int i = 0; i < params.length; i++ ) {
+				bandParams[i] = toBandType(params[i]);
+			}
+
+			Method single = PixelMath.class.getMethod(m.getName(),bandParams);
+
+			compare(m,single,false);
+			compare(m,single,true);
+			total++;
+		}
+
+		assertEquals(20,total);
+	}
+
+	private void compare( Method m , Method single , boolean sub ) throws Exception {
+		Class<?> params[] = m.getParameterTypes();
+
+		Object argsInterleaved[] = new Object[ params.length ];
+		Object argsMulti[] = new Object[ params.length ];
+
+		// the first numerical argument in boundImage is a lower bound
+		int numeric = m.getName().equals("boundImage") ? 1 : 0;
+
+		for( int i = 0; i < params.length; i++ ) {
+			if( params[i] == ImageInterleavedInt8.class ) {
+				MultiSpectral<ImageUInt8> ms = new MultiSpectral<ImageUInt8>(ImageUInt8.class,width,height,numBands);
+				GImageMiscOps.fillUniform(ms,rand,0,256);
+				ImageInterleavedInt8 b = sub ? new ImageInterleavedInt8(width+10,height+12,numBands).subimage(5,6,5+width,6+height) :
+						new ImageInterleavedInt8(width,height,numBands);
+				ConvertImageInterleaved.convert(ms,b);
+				argsMulti[i] = ms;
+				argsInterleaved[i] = b;
+			} else if( params[i] == ImageInterleavedFloat32.class ) {
+				MultiSpectral<ImageFloat32> ms = new MultiSpectral<ImageFloat32>(ImageFloat32.class,width,height,numBands);
+				GImageMiscOps.fillUniform(ms,rand,-20,20);
+				ImageInterleavedFloat32 b = sub ? new ImageInterleavedFloat32(width+10,height+12,numBands).subimage(5,6,5+width,6+height) :
+						new ImageInterleavedFloat32(width,height,numBands);
+				ConvertImageInterleaved.convert(ms,b);
+				argsMulti[i] = ms;
+				argsInterleaved[i] = b;
+			} else {
+				argsMulti[i] = argsInterleaved[i] = numericValue(params[i],numeric++);
+			}
+		}
+
+		Object argsBand[] = new Object[ params.length ];
+		for( int band = 0; band < numBands; band++ ) {
+			for( int i = 0; i < params.length; i++ ) {
+				if( argsMulti[i] instanceof MultiSpectral )
+					argsBand[i] = ((MultiSpectral)argsMulti[i]).getBand(band);
+				else
+					argsBand[i] = argsMulti[i];
+			}
+			single.invoke(null,argsBand);
+		}
+		m.invoke(null,argsInterleaved);
+
+		// compare all the images since some functions modify the input
+		for( int i = 0; i < params.length; i++ ) {
+			if( argsInterleaved[i] instanceof ImageInterleavedInt8 ) {
+				MultiSpectral<ImageUInt8> found = new MultiSpectral<ImageUInt8>(ImageUInt8.class,width,height,numBands);
+				ConvertImageInterleaved.convert((ImageInterleavedInt8)argsInterleaved[i],found);
+				for( int band = 0; band < numBands; band++ )
+					BoofTesting.assertEquals(((MultiSpectral<ImageUInt8>)argsMulti[i]).getBand(band),found.getBand(band),0);
+			} else if( argsInterleaved[i] instanceof ImageInterleavedFloat32 ) {
+				MultiSpectral<ImageFloat32> found = new MultiSpectral<ImageFloat32>(ImageFloat32.class,width,height,numBands);
+				ConvertImageInterleaved.convert((ImageInterleavedFloat32)argsInterleaved[i],found);
+				for( int band = 0; band < numBands; band++ )
+					BoofTesting.assertEquals(((MultiSpectral<ImageFloat32>)argsMulti[i]).getBand(band),found.getBand(band),0);
+			}
+		}
+	}
+
+	/**
+	 * Selects the value of a numerical argument based on its order.  Order is value, lower, upper.
+	 */
+	private Object numericValue( Class<?> type , int order ) {
+		if( type == int.class )
+			return new int[]{5,10,200}[order];
+		else if( type == float.class )
+			return new float[]{2.5f,-4f,15f}[order];
+		else if( type == double.class )
+			return new double[]{2.5,-4,15}[order];
+		throw new RuntimeException("Unexpected type "+type.getSimpleName());
+	}
+
+	private static Class<?> toBandType( Class<?> type ) {
+		if( type == ImageInterleavedInt8.class )
+			return ImageUInt8.class;
+		else if( type == ImageInterleavedFloat32.class )
+			return ImageFloat32.class;
+		assertTrue(type.isPrimitive());
+		return type;
+	}
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.misc;
+
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.struct.image.ImageInt16;
+import boofcv.struct.image.ImageSInt16;
+import boofcv.struct.image.ImageSingleBand;
+import boofcv.struct.image.MultiSpectral;
+import boofcv.testing.BoofTesting;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestPixelMath_MT {
+
+	Random rand = new Random(234);
+	int width = 25;
+	int height = 70;
+
+	int originalThreads;
+
+	@Before
+	public void before() {
+		originalThreads = BoofConcurrency.getMaxThreads();
+		BoofConcurrency.setMaxThreads(3);
+	}
+
+	@After
+	public void after() {
+		BoofConcurrency.setMaxThreads(originalThreads);
+	}
+
+	/**
+	 * Every function should produce the same output as the single threaded version
+	 */
+	@Test
+	public void compareToSingleThread() throws InvocationTargetException, IllegalAccessException {
+		int total = 0;
+		for( Method m : PixelMath_MT.class.getMethods() ) {
+			if( m.getDeclaringClass() != PixelMath_MT.class )
+				continue;
+
+			Method serial = BoofTesting.findMethod(PixelMath.class,m.getName(),m.getParameterTypes());
+
+			Object argsConc[] = createArguments(m.getParameterTypes());
+			Object argsSerial[] = new Object[argsConc.length];
+			for( int i = 0; i < argsConc.length; i++ ) {
+				if( argsConc[i] instanceof ImageSingleBand )
+					argsSerial[i] = ((ImageSingleBand)argsConc[i]).clone();
+				else
+					argsSerial[i] = argsConc[i];
+			}
+
+			m.invoke(null,argsConc);
+			serial.invoke(null,argsSerial);
+
+			for( int i = 0; i < argsConc.length; i++ ) {
+				if( argsConc[i] instanceof ImageSingleBand )
+					BoofTesting.assertEquals((ImageSingleBand)argsSerial[i],(ImageSingleBand)argsConc[i],0);
+			}
+			total++;
+		}
+
+		// abs and invert for 6 signed types, 9 functions for 8 types, and add/subtract for 8 types
+		assertEquals(6*2+8*9+8*2,total);
+	}
+
+	/**
+	 * Images are filled with random values and are sub-images.  Scalar parameters are assigned increasing
+	 * values so that the lower bound is less than the upper bound.
+	 */
+	private Object[] createArguments( Class<?> types[] ) {
+		double scalars[] = new double[]{3,10,60};
+		int numScalars = 0;
+
+		Object args[] = new Object[types.length];
+		for( int i = 0; i < types.length; i++ ) {
+			Class<?> type = types[i];
+			if( type == MultiSpectral.class ) {
+				// the type of band is specified by the output image
+				Class bandType = types[i+1];
+				MultiSpectral ms = new MultiSpectral(bandType,width,height,3);
+				for( int band = 0; band < ms.getNumBands(); band++ )
+					GImageMiscOps.fillUniform(ms.getBand(band),rand,-20,100);
+				args[i] = ms;
+			} else if( ImageSingleBand.class.isAssignableFrom(type) ) {
+				if( type == ImageInt16.class )
+					type = ImageSInt16.class;
+				ImageSingleBand img = GeneralizedImageOps.createSingleBand((Class)type,width,height);
+				img = BoofTesting.createSubImageOf(img);
+				GImageMiscOps.fillUniform(img,rand,-20,100);
+				args[i] = img;
+			} else if( type == double.class ) {
+				args[i] = scalars[numScalars++];
+			} else if( type == float.class ) {
+				args[i] = (float)scalars[numScalars++];
+			} else if( type == int.class ) {
+				args[i] = (int)scalars[numScalars++];
+			} else if( type == long.class ) {
+				args[i] = (long)scalars[numScalars++];
+			} else {
+				throw new RuntimeException("Unknown type "+type.getSimpleName());
+			}
+		}
+		return args;
+	}
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.tile;
+
+import boofcv.abst.filter.FilterImageInterface;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.factory.filter.blur.FactoryBlurFilter;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageUInt8;
+import boofcv.struct.tile.TileStoreImage;
+import boofcv.testing.BoofTesting;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestTiledImageProcessor {
+
+	Random rand = new Random(234);
+
+	int width = 75;
+	int height = 62;
+
+	int maxThreads;
+
+	@Before
+	public void before() {
+		maxThreads = BoofConcurrency.getMaxThreads();
+		BoofConcurrency.setMaxThreads(3);
+	}
+
+	@After
+	public void after() {
+		BoofConcurrency.setMaxThreads(maxThreads);
+	}
+
+	/**
+	 * Results should be identical to processing the whole image when the halo is the filter's radius
+	 */
+	@Test
+	public void compareToWholeImage_blur() {
+		ImageFloat32 input = new ImageFloat32(width,height);
+		ImageMiscOps.fillUniform(input,rand,0,100);
+
+		FilterImageInterface<ImageFloat32,ImageFloat32> filter = FactoryBlurFilter.gaussian(ImageFloat32.class,-1,4);
+		ImageFloat32 expected = new ImageFloat32(width,height);
+		filter.process(input,expected);
+
+		// try tiles which do and do not evenly divide the image
+		for( int tileSize : new int[]{10,16,31,100}) {
+			ImageFloat32 found = new ImageFloat32(width,height);
+			TiledImageProcessor<ImageFloat32,ImageFloat32> alg =
+					new TiledImageProcessor<ImageFloat32,ImageFloat32>(filter,tileSize,4);
+			alg.process(new TileStoreImage<ImageFloat32>(input),new TileStoreImage<ImageFloat32>(found));
+
+			BoofTesting.assertEquals(expected,found,1e-4);
+		}
+	}
+
+	@Test
+	public void compareToWholeImage_median() {
+		ImageUInt8 input = new ImageUInt8(width,height);
+		ImageMiscOps.fillUniform(input,rand,0,100);
+
+		FilterImageInterface<ImageUInt8,ImageUInt8> filter = FactoryBlurFilter.median(ImageUInt8.class,3);
+		ImageUInt8 expected = new ImageUInt8(width,height);
+		filter.process(input,expected);
+
+		ImageUInt8 found = new ImageUInt8(width,height);
+		TiledImageProcessor<ImageUInt8,ImageUInt8> alg =
+				new TiledImageProcessor<ImageUInt8,ImageUInt8>(filter,20,3);
+		alg.process(new TileStoreImage<ImageUInt8>(input),new TileStoreImage<ImageUInt8>(found));
+
+		BoofTesting.assertEquals(expected,found,0);
+	}
+
+	/**
+	 * Several filters process tiles at the same time
+	 */
+	@Test
+	public void concurrent() {
+		ImageFloat32 input = new ImageFloat32(width,height);
+		ImageMiscOps.fillUniform(input,rand,0,100);
+
+		List<FilterImageInterface<ImageFloat32,ImageFloat32>> filters =
+				new ArrayList<FilterImageInterface<ImageFloat32,ImageFloat32>>();
+		for( int i = 0; i < 3; i++ )
+			filters.add(FactoryBlurFilter.mean(ImageFloat32.class,2));
+
+		ImageFloat32 expected = new ImageFloat32(width,height);
+		filters.get(0).process(input,expected);
+
+		ImageFloat32 found = new ImageFloat32(width,height);
+		TiledImageProcessor<ImageFloat32,ImageFloat32> alg =
+				new TiledImageProcessor<ImageFloat32,ImageFloat32>(filters,16,2);
+		alg.process(new TileStoreImage<ImageFloat32>(input),new TileStoreImage<ImageFloat32>(found));
+
+		BoofTesting.assertEquals(expected,found,1e-4);
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void process_differentShape() {
+		TiledImageProcessor<ImageUInt8,ImageUInt8> alg = new TiledImageProcessor<ImageUInt8,ImageUInt8>(
+				FactoryBlurFilter.median(ImageUInt8.class,3),20,3);
+		alg.process(new TileStoreImage<ImageUInt8>(new ImageUInt8(10,12)),
+				new TileStoreImage<ImageUInt8>(new ImageUInt8(10,11)));
+	}
+}
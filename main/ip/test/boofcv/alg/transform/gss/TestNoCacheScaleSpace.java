@@ -67,6 +67,22 @@ public class TestNoCacheScaleSpace {
 		BoofTesting.assertEquals(expected,found, 1e-4);
 	}
 
+	@Test
+	public void getScaledImage_recursive() {
+		NoCacheScaleSpace<ImageFloat32,ImageFloat32> alg =
+				new NoCacheScaleSpace<ImageFloat32,ImageFloat32>(generator,generator);
+		alg.setRecursiveBlur(true);
+
+		ImageFloat32 expected = BlurImageOps.gaussianRecursive(original,null,2.3,null);
+
+		alg.setScales(1.2,2.3,3.5);
+		alg.setImage(original);
+		alg.setActiveScale(1);
+		ImageFloat32 found = alg.getScaledImage();
+
+		BoofTesting.assertEquals(expected,found, 1e-4);
+	}
+
 	@Test
 	public void getDerivative() {
 		NoCacheScaleSpace<ImageFloat32,ImageFloat32> alg =
@@ -54,6 +54,12 @@ public class TestIntegralImageOps {
 	@Test
 	public void transform() {
 		int numFound = BoofTesting.findMethodThenCall(this,"transform",IntegralImageOps.class,"transform");
+		Assert.assertEquals(5, numFound);
+	}
+
+	@Test
+	public void transform64() {
+		int numFound = BoofTesting.findMethodThenCall(this,"transform",IntegralImageOps.class,"transform64");
 		Assert.assertEquals(3, numFound);
 	}
 
@@ -95,7 +101,7 @@ public class TestIntegralImageOps {
 	@Test
 	public void convolve() {
 		int numFound = BoofTesting.findMethodThenCall(this,"convolve",IntegralImageOps.class,"convolve");
-		assertEquals(2,numFound);
+		assertEquals(4,numFound);
 	}
 
 	public void convolve( Method m ) throws InvocationTargetException, IllegalAccessException {
@@ -110,10 +116,11 @@ public class TestIntegralImageOps {
 		GImageMiscOps.fillUniform(input, rand, 0, 10);
 		GIntegralImageOps.transform(input,integral);
 
-		ImageSingleBand expected = GeneralizedImageOps.createSingleBand(outputType, width, height);
+		Class expectedType = GeneralizedImageOps.isFloatingPoint(inputType) ? ImageFloat32.class : ImageSInt32.class;
+		ImageSingleBand expected = GeneralizedImageOps.createSingleBand(expectedType, width, height);
 		ImageSingleBand found = GeneralizedImageOps.createSingleBand(outputType, width, height);
 
-		if( paramType[0] == ImageFloat32.class ) {
+		if( GeneralizedImageOps.isFloatingPoint(inputType) ) {
 			Kernel2D_F32 kernel = new Kernel2D_F32(3, new float[]{1,1,1,2,2,2,1,1,1});
 			ImageBorder_F32 border = (ImageBorder_F32)FactoryImageBorderAlgs.value((ImageFloat32) input, 0);
 			ConvolveWithBorder.convolve(kernel,(ImageFloat32)input,(ImageFloat32)expected,border);
@@ -137,7 +144,7 @@ public class TestIntegralImageOps {
 	@Test
 	public void convolveBorder() {
 		int numFound = BoofTesting.findMethodThenCall(this,"convolveBorder",IntegralImageOps.class,"convolveBorder");
-		assertEquals(2,numFound);
+		assertEquals(4,numFound);
 	}
 
 	public void convolveBorder( Method m ) throws InvocationTargetException, IllegalAccessException {
@@ -152,10 +159,11 @@ public class TestIntegralImageOps {
 		GImageMiscOps.fillUniform(input, rand, 0, 10);
 		GIntegralImageOps.transform(input,integral);
 
-		ImageSingleBand expected = GeneralizedImageOps.createSingleBand(outputType, width, height);
+		Class expectedType = GeneralizedImageOps.isFloatingPoint(inputType) ? ImageFloat32.class : ImageSInt32.class;
+		ImageSingleBand expected = GeneralizedImageOps.createSingleBand(expectedType, width, height);
 		ImageSingleBand found = GeneralizedImageOps.createSingleBand(outputType, width, height);
 
-		if( paramType[0] == ImageFloat32.class ) {
+		if( GeneralizedImageOps.isFloatingPoint(inputType) ) {
 			Kernel2D_F32 kernel = new Kernel2D_F32(3, new float[]{1,1,1,2,2,2,1,1,1});
 			ImageBorder_F32 border = (ImageBorder_F32)FactoryImageBorderAlgs.value((ImageFloat32) input, 0);
 			ConvolveWithBorder.convolve(kernel,(ImageFloat32)input,(ImageFloat32)expected,border);
@@ -178,7 +186,7 @@ public class TestIntegralImageOps {
 	@Test
 	public void convolveSparse() {
 		int numFound = BoofTesting.findMethodThenCall(this,"convolveSparse",IntegralImageOps.class,"convolveSparse");
-		assertEquals(2,numFound);
+		assertEquals(4,numFound);
 	}
 
 	public void convolveSparse( Method m ) throws InvocationTargetException, IllegalAccessException {
@@ -212,7 +220,7 @@ public class TestIntegralImageOps {
 	@Test
 	public void block_unsafe() {
 		int numFound = BoofTesting.findMethodThenCall(this,"block_unsafe",IntegralImageOps.class,"block_unsafe");
-		assertEquals(2,numFound);
+		assertEquals(4,numFound);
 	}
 	
 	public void block_unsafe( Method m ) throws InvocationTargetException, IllegalAccessException {
@@ -234,7 +242,7 @@ public class TestIntegralImageOps {
 	@Test
 	public void block_zero() {
 		int numFound = BoofTesting.findMethodThenCall(this,"block_zero",IntegralImageOps.class,"block_zero");
-		assertEquals(2,numFound);
+		assertEquals(4,numFound);
 	}
 
 	public void block_zero( Method m ) throws InvocationTargetException, IllegalAccessException {
@@ -264,6 +272,77 @@ public class TestIntegralImageOps {
 		assertEquals(0,found,1e-4f);
 	}
 	
+	@Test
+	public void transformSquare() {
+		int numFound = BoofTesting.findMethodThenCall(this,"transformSquare",IntegralImageOps.class,"transformSquare");
+		assertEquals(3,numFound);
+	}
+
+	public void transformSquare( Method m ) throws InvocationTargetException, IllegalAccessException {
+		Class paramType[] = m.getParameterTypes();
+
+		ImageSingleBand input = GeneralizedImageOps.createSingleBand(paramType[0], width, height);
+		ImageSingleBand integral = GeneralizedImageOps.createSingleBand(paramType[1], width, height);
+		ImageSingleBand integralSq = GeneralizedImageOps.createSingleBand(paramType[2], width, height);
+		ImageSingleBand expected = GeneralizedImageOps.createSingleBand(paramType[1], width, height);
+
+		GImageMiscOps.fillUniform(input, rand, 0, 100);
+
+		m.invoke(null,input,integral,integralSq);
+
+		GIntegralImageOps.transform(input,expected);
+		BoofTesting.assertEquals(expected,integral,1e-4);
+
+		GImageSingleBand a = FactoryGImageSingleBand.wrap(input);
+		GImageSingleBand b = FactoryGImageSingleBand.wrap(integralSq);
+		double total = 0;
+		for( int y = 0; y < height; y++ ) {
+			for( int x = 0; x < width; x++ ) {
+				double v = a.get(x,y).doubleValue();
+				total += v*v;
+			}
+		}
+		assertEquals(total,b.get(width-1,height-1).doubleValue(),total*1e-8);
+	}
+
+	@Test
+	public void blockVariance() {
+		ImageUInt8 input = new ImageUInt8(width,height);
+		GImageMiscOps.fillUniform(input, rand, 0, 255);
+
+		ImageSInt64 ii = new ImageSInt64(width,height);
+		ImageSInt64 iiSq = new ImageSInt64(width,height);
+		IntegralImageOps.transformSquare(input,ii,iiSq);
+
+		ImageFloat64 input64 = new ImageFloat64(width,height);
+		GImageMiscOps.fillUniform(input64, rand, 0, 255);
+
+		ImageFloat64 ii64 = new ImageFloat64(width,height);
+		ImageFloat64 iiSq64 = new ImageFloat64(width,height);
+		IntegralImageOps.transformSquare(input64,ii64,iiSq64);
+
+		// block is x0 < x <= x1 and y0 < y <= y1
+		int x0 = 3, y0 = 4, x1 = 12, y1 = 20;
+		assertEquals(variance(input,x0,y0,x1,y1),IntegralImageOps.blockVariance(ii,iiSq,x0,y0,x1,y1),1e-6);
+		assertEquals(variance(input64,x0,y0,x1,y1),IntegralImageOps.blockVariance(ii64,iiSq64,x0,y0,x1,y1),1e-6);
+	}
+
+	private double variance( ImageSingleBand image , int x0 , int y0 , int x1 , int y1 ) {
+		GImageSingleBand g = FactoryGImageSingleBand.wrap(image);
+		double sum = 0, sumSq = 0;
+		int N = 0;
+		for( int y = y0+1; y <= y1; y++ ) {
+			for( int x = x0+1; x <= x1; x++ ) {
+				double v = g.get(x,y).doubleValue();
+				sum += v;
+				sumSq += v*v;
+				N++;
+			}
+		}
+		double mean = sum/N;
+		return sumSq/N - mean*mean;
+	}
+
 	@Test
 	public void isInBounds() {
 		IntegralKernel kernel = new IntegralKernel(2);
@@ -21,10 +21,7 @@ package boofcv.alg.transform.ii.impl;
 import boofcv.alg.misc.GImageMiscOps;
 import boofcv.core.image.FactoryGImageSingleBand;
 import boofcv.core.image.GImageSingleBand;
-import boofcv.struct.image.ImageFloat32;
-import boofcv.struct.image.ImageSInt32;
-import boofcv.struct.image.ImageSingleBand;
-import boofcv.struct.image.ImageUInt8;
+import boofcv.struct.image.*;
 import boofcv.testing.BoofTesting;
 import org.junit.Test;
 
@@ -64,6 +61,135 @@ public class TestImplIntegralImageOps {
 		BoofTesting.checkSubImage(this,"checkResults",true,a,b);
 	}
 
+	@Test
+	public void transform_F32_F64() {
+		ImageFloat32 a = new ImageFloat32(width,height);
+		GImageMiscOps.fillUniform(a, rand, 0, 100);
+
+		ImageFloat64 b = new ImageFloat64(width,height);
+		ImplIntegralImageOps.transform(a,b);
+
+		BoofTesting.checkSubImage(this,"checkResults",true,a,b);
+	}
+
+	@Test
+	public void transform_F64() {
+		ImageFloat64 a = new ImageFloat64(width,height);
+		GImageMiscOps.fillUniform(a, rand, 0, 100);
+
+		ImageFloat64 b = new ImageFloat64(width,height);
+		ImplIntegralImageOps.transform(a,b);
+
+		BoofTesting.checkSubImage(this,"checkResults",true,a,b);
+	}
+
+	@Test
+	public void transform_U8_S64() {
+		ImageUInt8 a = new ImageUInt8(width,height);
+		GImageMiscOps.fillUniform(a, rand, 0, 100);
+
+		ImageSInt64 b = new ImageSInt64(width,height);
+		ImplIntegralImageOps.transform(a,b);
+
+		BoofTesting.checkSubImage(this,"checkResults",true,a,b);
+	}
+
+	@Test
+	public void transform_S32_S64() {
+		ImageSInt32 a = new ImageSInt32(width,height);
+		GImageMiscOps.fillUniform(a, rand, -100, 100);
+
+		ImageSInt64 b = new ImageSInt64(width,height);
+		ImplIntegralImageOps.transform(a,b);
+
+		BoofTesting.checkSubImage(this,"checkResults",true,a,b);
+	}
+
+	@Test
+	public void transform_S64() {
+		ImageSInt64 a = new ImageSInt64(width,height);
+		GImageMiscOps.fillUniform(a, rand, -100, 100);
+
+		ImageSInt64 b = new ImageSInt64(width,height);
+		ImplIntegralImageOps.transform(a,b);
+
+		BoofTesting.checkSubImage(this,"checkResults",true,a,b);
+	}
+
+	/**
+	 * The sum of a large image with bright pixels would overflow a 32-bit integer
+	 */
+	@Test
+	public void transform_U8_S64_overflow() {
+		ImageUInt8 a = new ImageUInt8(3000,3000);
+		GImageMiscOps.fill(a, 255);
+
+		ImageSInt64 b = new ImageSInt64(a.width,a.height);
+		ImplIntegralImageOps.transform(a,b);
+
+		assertEquals(255L*3000*3000,b.get(2999,2999));
+	}
+
+	@Test
+	public void transformSquare_F32() {
+		ImageFloat32 a = new ImageFloat32(width,height);
+		GImageMiscOps.fillUniform(a, rand, 0, 100);
+
+		ImageFloat64 b = new ImageFloat64(width,height);
+		ImageFloat64 c = new ImageFloat64(width,height);
+		ImplIntegralImageOps.transformSquare(a,b,c);
+
+		BoofTesting.checkSubImage(this,"checkResults",true,a,b);
+		BoofTesting.checkSubImage(this,"checkResultsSquare",true,a,c);
+	}
+
+	@Test
+	public void transformSquare_F64() {
+		ImageFloat64 a = new ImageFloat64(width,height);
+		GImageMiscOps.fillUniform(a, rand, 0, 100);
+
+		ImageFloat64 b = new ImageFloat64(width,height);
+		ImageFloat64 c = new ImageFloat64(width,height);
+		ImplIntegralImageOps.transformSquare(a,b,c);
+
+		BoofTesting.checkSubImage(this,"checkResults",true,a,b);
+		BoofTesting.checkSubImage(this,"checkResultsSquare",true,a,c);
+	}
+
+	@Test
+	public void transformSquare_U8() {
+		ImageUInt8 a = new ImageUInt8(width,height);
+		GImageMiscOps.fillUniform(a, rand, 0, 255);
+
+		ImageSInt64 b = new ImageSInt64(width,height);
+		ImageSInt64 c = new ImageSInt64(width,height);
+		ImplIntegralImageOps.transformSquare(a,b,c);
+
+		BoofTesting.checkSubImage(this,"checkResults",true,a,b);
+		BoofTesting.checkSubImage(this,"checkResultsSquare",true,a,c);
+	}
+
+	public void checkResultsSquare(ImageSingleBand a, ImageSingleBand b) {
+
+		GImageSingleBand aa = FactoryGImageSingleBand.wrap(a);
+		GImageSingleBand bb = FactoryGImageSingleBand.wrap(b);
+
+		for( int y = 0; y < height; y++ ) {
+			for( int x = 0; x < width; x++ ) {
+				double total = 0;
+
+				for( int i = 0; i <= y; i++ ) {
+					for( int j = 0; j <= x; j++ ) {
+						double v = aa.get(j,i).doubleValue();
+						total += v*v;
+					}
+				}
+
+				assertEquals(x+" "+y,total,bb.get(x,y).doubleValue(),1e-4*total);
+			}
+		}
+	}
+
 	public void checkResults(ImageSingleBand a, ImageSingleBand b) {
 
 		GImageSingleBand aa = FactoryGImageSingleBand.wrap(a);
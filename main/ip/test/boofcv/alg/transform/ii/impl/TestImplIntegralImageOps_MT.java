@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.ii.impl;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.struct.image.ImageSingleBand;
+import boofcv.struct.image.ImageUInt8;
+import boofcv.testing.BoofTesting;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplIntegralImageOps_MT {
+
+	Random rand = new Random(234);
+	// wide enough for the columns to be split between threads
+	int width = 200;
+	int height = 70;
+
+	int originalThreads;
+
+	@Before
+	public void before() {
+		originalThreads = BoofConcurrency.getMaxThreads();
+		BoofConcurrency.setMaxThreads(3);
+	}
+
+	@After
+	public void after() {
+		BoofConcurrency.setMaxThreads(originalThreads);
+	}
+
+	/**
+	 * Every function should produce the same output as the single threaded version
+	 */
+	@Test
+	public void compareToSingleThread() throws InvocationTargetException, IllegalAccessException {
+		int total = 0;
+		for( Method m : ImplIntegralImageOps_MT.class.getMethods() ) {
+			if( m.getDeclaringClass() != ImplIntegralImageOps_MT.class )
+				continue;
+
+			Method serial = BoofTesting.findMethod(ImplIntegralImageOps.class,m.getName(),m.getParameterTypes());
+
+			Class params[] = m.getParameterTypes();
+			Object argsConc[] = new Object[params.length];
+			Object argsSerial[] = new Object[params.length];
+			for( int i = 0; i < params.length; i++ ) {
+				ImageSingleBand image = GeneralizedImageOps.createSingleBand(params[i],width,height);
+				if( i == 0 ) {
+					double max = params[i] == ImageUInt8.class ? 255 : 1000;
+					GImageMiscOps.fillUniform(image,rand,0,max);
+				}
+				argsConc[i] = image;
+				argsSerial[i] = image.clone();
+			}
+
+			m.invoke(null,argsConc);
+			serial.invoke(null,argsSerial);
+
+			for( int i = 1; i < params.length; i++ ) {
+				BoofTesting.assertEquals((ImageSingleBand)argsSerial[i],(ImageSingleBand)argsConc[i],0);
+			}
+			total++;
+		}
+
+		assertEquals(11,total);
+	}
+}
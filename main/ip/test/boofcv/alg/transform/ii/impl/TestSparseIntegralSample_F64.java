@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.ii.impl;
+
+import boofcv.alg.filter.derivative.GeneralSparseSampleTests;
+import boofcv.struct.image.ImageFloat64;
+import org.junit.Test;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestSparseIntegralSample_F64 extends GeneralSparseSampleTests<ImageFloat64> {
+
+	private static int baseR = 2;
+	
+	public TestSparseIntegralSample_F64() {
+		super(ImageFloat64.class, new SparseIntegralSample_F64(baseR),-baseR-1,-baseR-1,baseR,baseR);
+	}
+
+	@Test
+	public void testAll() {
+		super.performAllTests();
+	}
+}
@@ -18,16 +18,27 @@
 
 package boofcv.alg.transform.pyramid;
 
+import boofcv.alg.filter.convolve.ConvolveDownNormalized;
 import boofcv.alg.filter.convolve.ConvolveNormalized;
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.GeneralizedImageOps;
+import boofcv.factory.filter.kernel.FactoryKernel;
 import boofcv.factory.filter.kernel.FactoryKernelGaussian;
+import boofcv.struct.convolve.Kernel1D;
 import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel1D_I32;
 import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageSingleBand;
+import boofcv.struct.image.ImageUInt8;
 import boofcv.struct.pyramid.ImagePyramid;
 import boofcv.struct.pyramid.PyramidDiscrete;
 import boofcv.struct.pyramid.PyramidUpdater;
 import boofcv.testing.BoofTesting;
 import org.junit.Test;
 
+import java.util.Random;
+
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
@@ -118,6 +129,54 @@ public class TestPyramidUpdateIntegerDown extends GenericPyramidUpdateTests<Imag
 		}
 	}
 
+	/**
+	 * The single pass and concurrent update must produce the same output as convolving along each axis separately
+	 */
+	@Test
+	public void compareToTwoPass() {
+		int maxThreads = BoofConcurrency.getMaxThreads();
+		try {
+			BoofConcurrency.setMaxThreads(3);
+
+			for( boolean concurrent : new boolean[]{false,true}) {
+				compareToTwoPass(ImageFloat32.class,concurrent);
+				compareToTwoPass(ImageUInt8.class,concurrent);
+			}
+		} finally {
+			BoofConcurrency.setMaxThreads(maxThreads);
+		}
+	}
+
+	private <T extends ImageSingleBand> void compareToTwoPass( Class<T> type , boolean concurrent ) {
+		Class<Kernel1D> kernelType = FactoryKernel.getKernelType(type,1);
+		Kernel1D kernel = FactoryKernelGaussian.gaussian(kernelType,-1,2);
+
+		T input = GeneralizedImageOps.createSingleBand(type,101,83);
+		GImageMiscOps.fillUniform(input,new Random(234),0,100);
+
+		PyramidUpdateIntegerDown<T> alg = new PyramidUpdateIntegerDown<T>(kernel,type,concurrent);
+		alg.setBandRows(4);
+		PyramidDiscrete<T> pyramid = new PyramidDiscrete<T>(type,true,1,2,4,8);
+		alg.update(input,pyramid);
+
+		for( int i = 1; i < pyramid.getNumLayers(); i++ ) {
+			T prev = pyramid.getLayer(i-1);
+			T temp = GeneralizedImageOps.createSingleBand(type,prev.width/2,prev.height);
+			T expected = GeneralizedImageOps.createSingleBand(type,prev.width/2,prev.height/2);
+
+			if( type == ImageFloat32.class ) {
+				ConvolveDownNormalized.horizontal((Kernel1D_F32)kernel,(ImageFloat32)prev,(ImageFloat32)temp,2);
+				ConvolveDownNormalized.vertical((Kernel1D_F32)kernel,(ImageFloat32)temp,(ImageFloat32)expected,2);
+			} else {
+				ConvolveDownNormalized.horizontal((Kernel1D_I32)kernel,(ImageUInt8)prev,(ImageUInt8)temp,2);
+				ConvolveDownNormalized.vertical((Kernel1D_I32)kernel,(ImageUInt8)temp,(ImageUInt8)expected,2);
+			}
+
+			T found = (T)pyramid.getLayer(i).subimage(0,0,expected.width,expected.height);
+			BoofTesting.assertEquals(expected,found,0);
+		}
+	}
+
 	@Override
 	protected PyramidUpdater createUpdater() {
 		Kernel1D_F32 kernel = FactoryKernelGaussian.gaussian(Kernel1D_F32.class,-1,3);
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.pyramid.impl;
+
+import boofcv.alg.filter.convolve.ConvolveDownNormalized;
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.factory.filter.kernel.FactoryKernelGaussian;
+import boofcv.struct.convolve.Kernel1D_F32;
+import boofcv.struct.convolve.Kernel1D_I32;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageUInt8;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImplPyramidConvolveDown {
+
+	Random rand = new Random(234);
+
+	/**
+	 * Compares against convolving along each axis independently for several image shapes, kernels, and band sizes.
+	 * The output must be identical.
+	 */
+	@Test
+	public void rows_F32() {
+		int numFused = 0;
+		for( int skip = 1; skip <= 4; skip++ ) {
+			for( int radius = 1; radius <= 4; radius++ ) {
+				Kernel1D_F32 kernel = FactoryKernelGaussian.gaussian(Kernel1D_F32.class,-1,radius);
+				for( int size = 20; size <= 35; size += 5 ) {
+					ImageFloat32 input = new ImageFloat32(size+3,size);
+					ImageMiscOps.fillUniform(input,rand,0,100);
+
+					if( !ImplPyramidConvolveDown.canFuse(kernel,input.width,input.height,skip) )
+						continue;
+					numFused++;
+
+					ImageFloat32 temp = new ImageFloat32(input.width/skip,input.height);
+					ImageFloat32 expected = new ImageFloat32(input.width/skip,input.height/skip);
+					ConvolveDownNormalized.horizontal(kernel,input,temp,skip);
+					ConvolveDownNormalized.vertical(kernel,temp,expected,skip);
+
+					for( int band = 1; band <= 7; band += 3 ) {
+						ImageFloat32 work = new ImageFloat32(input.width/skip,
+								ImplPyramidConvolveDown.workHeight(kernel,skip,band));
+						ImageFloat32 found = new ImageFloat32(expected.width,expected.height);
+
+						for( int y = 0; y < found.height; y += band ) {
+							int y1 = Math.min(found.height,y+band);
+							ImplPyramidConvolveDown.rows(kernel,input,found,skip,y,y1,work);
+						}
+
+						BoofTesting.assertEquals(expected,found,0);
+					}
+				}
+			}
+		}
+		assertTrue(numFused > 0);
+	}
+
+	/**
+	 * Compares against convolving along each axis independently for several image shapes, kernels, and band sizes.
+	 * The output must be identical.
+	 */
+	@Test
+	public void rows_U8() {
+		int numFused = 0;
+		for( int skip = 1; skip <= 4; skip++ ) {
+			for( int radius = 1; radius <= 4; radius++ ) {
+				Kernel1D_I32 kernel = FactoryKernelGaussian.gaussian(Kernel1D_I32.class,-1,radius);
+				for( int size = 20; size <= 35; size += 5 ) {
+					ImageUInt8 input = new ImageUInt8(size+3,size);
+					ImageMiscOps.fillUniform(input,rand,0,100);
+
+					if( !ImplPyramidConvolveDown.canFuse(kernel,input.width,input.height,skip) )
+						continue;
+					numFused++;
+
+					ImageUInt8 temp = new ImageUInt8(input.width/skip,input.height);
+					ImageUInt8 expected = new ImageUInt8(input.width/skip,input.height/skip);
+					ConvolveDownNormalized.horizontal(kernel,input,temp,skip);
+					ConvolveDownNormalized.vertical(kernel,temp,expected,skip);
+
+					for( int band = 1; band <= 7; band += 3 ) {
+						ImageUInt8 work = new ImageUInt8(input.width/skip,
+								ImplPyramidConvolveDown.workHeight(kernel,skip,band));
+						ImageUInt8 found = new ImageUInt8(expected.width,expected.height);
+
+						for( int y = 0; y < found.height; y += band ) {
+							int y1 = Math.min(found.height,y+band);
+							ImplPyramidConvolveDown.rows(kernel,input,found,skip,y,y1,work);
+						}
+
+						BoofTesting.assertEquals(expected,found,0);
+					}
+				}
+			}
+		}
+		assertTrue(numFused > 0);
+	}
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.alg.transform.wavelet;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
+import boofcv.core.image.border.BorderType;
+import boofcv.factory.transform.wavelet.FactoryWaveletDaub;
+import boofcv.struct.image.ImageDimension;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageSInt32;
+import boofcv.struct.wavelet.WaveletDescription;
+import boofcv.struct.wavelet.WlCoef_F32;
+import boofcv.struct.wavelet.WlCoef_I32;
+import boofcv.testing.BoofTesting;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestWaveletTransformOps_MT {
+
+	Random rand = new Random(234);
+
+	int originalThreads;
+
+	@Before
+	public void before() {
+		originalThreads = BoofConcurrency.getMaxThreads();
+		BoofConcurrency.setMaxThreads(3);
+	}
+
+	@After
+	public void after() {
+		BoofConcurrency.setMaxThreads(originalThreads);
+	}
+
+	/**
+	 * Compare the forward and inverse transforms against the single threaded version
+	 */
+	@Test
+	public void compare_F32() {
+		WaveletDescription<WlCoef_F32> desc = FactoryWaveletDaub.daubJ_F32(4);
+
+		for( int adjust = 0; adjust < 3; adjust++ ) {
+			int w = 63+adjust;
+			int h = 50+adjust;
+			ImageFloat32 input = new ImageFloat32(w,h);
+			GImageMiscOps.fillUniform(input, rand, 0, 100);
+
+			for( int level = 1; level <= 3; level++ ) {
+				ImageDimension dim = UtilWavelet.transformDimension(w,h,level);
+				ImageFloat32 expected = new ImageFloat32(dim.width,dim.height);
+				ImageFloat32 found = new ImageFloat32(dim.width,dim.height);
+
+				WaveletTransformOps.transformN(desc,input.clone(),expected,null,level);
+				WaveletTransformOps_MT.transformN(desc,input.clone(),found,null,level);
+				BoofTesting.assertEquals(expected, found, 1e-4f);
+
+				ImageFloat32 invExpected = new ImageFloat32(w,h);
+				ImageFloat32 invFound = new ImageFloat32(w,h);
+				WaveletTransformOps.inverseN(desc,expected.clone(),invExpected,null,level,0,100);
+				WaveletTransformOps_MT.inverseN(desc,expected.clone(),invFound,null,level,0,100);
+				BoofTesting.assertEquals(invExpected, invFound, 1e-4f);
+			}
+		}
+	}
+
+	/**
+	 * Compare the forward and inverse transforms against the single threaded version
+	 */
+	@Test
+	public void compare_I32() {
+		WaveletDescription<WlCoef_I32> desc = FactoryWaveletDaub.biorthogonal_I32(5, BorderType.REFLECT);
+
+		for( int adjust = 0; adjust < 3; adjust++ ) {
+			int w = 63+adjust;
+			int h = 50+adjust;
+			ImageSInt32 input = new ImageSInt32(w,h);
+			GImageMiscOps.fillUniform(input, rand, 0, 100);
+
+			for( int level = 1; level <= 3; level++ ) {
+				ImageDimension dim = UtilWavelet.transformDimension(w,h,level);
+				ImageSInt32 expected = new ImageSInt32(dim.width,dim.height);
+				ImageSInt32 found = new ImageSInt32(dim.width,dim.height);
+
+				WaveletTransformOps.transformN(desc,input.clone(),expected,null,level);
+				WaveletTransformOps_MT.transformN(desc,input.clone(),found,null,level);
+				BoofTesting.assertEquals(expected, found, 0);
+
+				ImageSInt32 invExpected = new ImageSInt32(w,h);
+				ImageSInt32 invFound = new ImageSInt32(w,h);
+				WaveletTransformOps.inverseN(desc,expected.clone(),invExpected,null,level,0,100);
+				WaveletTransformOps_MT.inverseN(desc,expected.clone(),invFound,null,level,0,100);
+				BoofTesting.assertEquals(invExpected, invFound, 0);
+			}
+		}
+	}
+
+	/**
+	 * Images which are too small for the fast routines
+	 */
+	@Test
+	public void smallImage() {
+		WaveletDescription<WlCoef_F32> desc = FactoryWaveletDaub.daubJ_F32(4);
+
+		ImageFloat32 input = new ImageFloat32(9,10);
+		GImageMiscOps.fillUniform(input, rand, 0, 100);
+
+		ImageFloat32 expected = new ImageFloat32(10,10);
+		ImageFloat32 found = new ImageFloat32(10,10);
+
+		WaveletTransformOps.transform1(desc,input,expected,null);
+		WaveletTransformOps_MT.transform1(desc,input,found,null);
+		BoofTesting.assertEquals(expected, found, 1e-4f);
+	}
+}
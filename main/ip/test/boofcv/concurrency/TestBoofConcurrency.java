@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package boofcv.concurrency;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestBoofConcurrency {
+
+	int originalThreads;
+
+	@Before
+	public void before() {
+		originalThreads = BoofConcurrency.getMaxThreads();
+		BoofConcurrency.setMaxThreads(4);
+	}
+
+	@After
+	public void after() {
+		BoofConcurrency.setMaxThreads(originalThreads);
+	}
+
+	/**
+	 * Every index should be processed exactly once
+	 */
+	@Test
+	public void loopBlocks_coverage() {
+		for( int length = 0; length < 12; length++ ) {
+			final int counts[] = new int[length+5];
+
+			BoofConcurrency.loopBlocks(5,5+length,new IntRangeTask() {
+				@Override
+				public void run(int index0, int index1) {
+					assertTrue(index0 < index1);
+					for( int i = index0; i < index1; i++ )
+						counts[i]++;
+				}
+			});
+
+			for( int i = 0; i < counts.length; i++ )
+				assertEquals(i < 5 ? 0 : 1, counts[i]);
+		}
+	}
+
+	@Test
+	public void loopBlocks_minBlock() {
+		final int numBlocks[] = new int[1];
+		BoofConcurrency.loopBlocks(0,10,6,new IntRangeTask() {
+			@Override
+			public void run(int index0, int index1) {
+				synchronized ( numBlocks ) {
+					numBlocks[0]++;
+				}
+			}
+		});
+		assertEquals(1,numBlocks[0]);
+	}
+
+	@Test
+	public void loopBlocks_concurrentTask() {
+		final boolean ran[] = new boolean[1];
+		BoofConcurrency.loopBlocks(0,0,new IntRangeTask() {
+			@Override
+			public void run(int index0, int index1) {
+				fail("There are no blocks");
+			}
+		},new Runnable() {
+			@Override
+			public void run() {
+				ran[0] = true;
+			}
+		});
+		assertTrue(ran[0]);
+	}
+
+	/**
+	 * Exceptions thrown inside of a thread should be passed on to the caller
+	 */
+	@Test
+	public void loopBlocks_exception() {
+		try {
+			BoofConcurrency.loopBlocks(0,100,new IntRangeTask() {
+				@Override
+				public void run(int index0, int index1) {
+					if( index0 > 0 )
+						throw new IllegalArgumentException("Bad block");
+				}
+			});
+			fail("Exception should have been thrown");
+		} catch( IllegalArgumentException e ) {
+			assertEquals("Bad block",e.getMessage());
+		}
+	}
+
+	/**
+	 * Changing the number of threads while another thread is processing should not cause the
+	 * processing to fail
+	 */
+	@Test
+	public void setMaxThreads_whileProcessing() throws InterruptedException {
+		final AtomicBoolean finished = new AtomicBoolean(false);
+		Thread changer = new Thread() {
+			@Override
+			public void run() {
+				int trial = 0;
+				while( !finished.get() ) {
+					BoofConcurrency.setMaxThreads(2 + (trial++ % 3));
+				}
+			}
+		};
+		changer.start();
+
+		try {
+			for( int trial = 0; trial < 2000; trial++ ) {
+				final int counts[] = new int[50];
+				BoofConcurrency.loopBlocks(0,counts.length,new IntRangeTask() {
+					@Override
+					public void run(int index0, int index1) {
+						for( int i = index0; i < index1; i++ )
+							counts[i]++;
+					}
+				});
+				for( int i = 0; i < counts.length; i++ )
+					assertEquals(1,counts[i]);
+			}
+		} finally {
+			finished.set(true);
+			changer.join();
+		}
+	}
+
+	/**
+	 * Calling a concurrent function from inside a worker thread should not dead lock
+	 */
+	@Test
+	public void loopBlocks_nested() {
+		final int counts[] = new int[20*20];
+
+		BoofConcurrency.loopBlocks(0,20,new IntRangeTask() {
+			@Override
+			public void run(int index0, int index1) {
+				for( int i = index0; i < index1; i++ ) {
+					final int row = i;
+					BoofConcurrency.loopBlocks(0,20,new IntRangeTask() {
+						@Override
+						public void run(int index0, int index1) {
+							for( int j = index0; j < index1; j++ )
+								counts[row*20+j]++;
+						}
+					});
+				}
+			}
+		});
+
+		for( int i = 0; i < counts.length; i++ )
+			assertEquals(1,counts[i]);
+	}
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.concurrency;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestWorkerPool {
+
+	@Test
+	public void claim_reset() {
+		Pool pool = new Pool();
+
+		List<Object> first = new ArrayList<Object>();
+		for( int i = 0; i < 3; i++ )
+			first.add(pool.claim());
+		assertEquals(3,pool.created);
+		assertEquals(3,pool.getClaimed());
+		assertEquals(3,new HashSet<Object>(first).size());
+		for( int i = 0; i < 3; i++ )
+			assertSame(first.get(i),pool.getClaimed(i));
+
+		// workers are recycled after a reset and only created when more are needed
+		pool.reset();
+		assertEquals(0,pool.getClaimed());
+		for( int i = 0; i < 4; i++ ) {
+			Object o = pool.claim();
+			if( i < 3 )
+				assertSame(first.get(i),o);
+		}
+		assertEquals(4,pool.created);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void getClaimed_notClaimed() {
+		Pool pool = new Pool();
+		pool.claim();
+		pool.reset();
+		pool.getClaimed(0);
+	}
+
+	/**
+	 * Blocks which are processed at the same time must get different workers
+	 */
+	@Test
+	public void concurrent() {
+		int maxThreads = BoofConcurrency.getMaxThreads();
+		try {
+			BoofConcurrency.setMaxThreads(4);
+			final Pool pool = new Pool();
+			for( int trial = 0; trial < 20; trial++ ) {
+				pool.reset();
+				final List<Object> claimed = new ArrayList<Object>();
+				BoofConcurrency.loopBlocks(0,100,1,new IntRangeTask() {
+					@Override
+					public void run(int index0, int index1) {
+						Object o = pool.claim();
+						synchronized( claimed ) {
+							claimed.add(o);
+						}
+					}
+				});
+				Set<Object> unique = new HashSet<Object>(claimed);
+				assertEquals(claimed.size(),unique.size());
+				assertEquals(claimed.size(),pool.getClaimed());
+			}
+		} finally {
+			BoofConcurrency.setMaxThreads(maxThreads);
+		}
+	}
+
+	private static class Pool extends WorkerPool<Object> {
+		int created;
+
+		@Override
+		protected Object createWorker() {
+			created++;
+			return new Object();
+		}
+	}
+}
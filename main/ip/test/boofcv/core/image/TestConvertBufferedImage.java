@@ -21,6 +21,7 @@ package boofcv.core.image;
 import boofcv.alg.misc.GImageMiscOps;
 import boofcv.alg.misc.ImageInterleavedTestingOps;
 import boofcv.alg.misc.ImageMiscOps;
+import boofcv.concurrency.BoofConcurrency;
 import boofcv.struct.image.*;
 import boofcv.testing.BoofTesting;
 import org.junit.Test;
@@ -170,18 +171,8 @@ public class TestConvertBufferedImage {
 	public void convertFromSingle() {
 		BufferedImage origImg;
 
-		for( int i = 0; i < 4; i++ ) {
-
-			if( i == 0 )
-				origImg = TestConvertRaster.createByteBuff(imgWidth, imgHeight, 1, rand);
-			else if( i == 1 )
-				origImg = TestConvertRaster.createByteBuff(imgWidth, imgHeight, 3, rand);
-			else if( i == 2 )
-				origImg = TestConvertRaster.createByteBuff(imgWidth, imgHeight, 4, rand);
-			else if( i == 3 )
-				origImg = TestConvertRaster.createByteIndexed(imgWidth, imgHeight, rand );
-			else
-				origImg = TestConvertRaster.createIntBuff(imgWidth,imgHeight,rand);
+		for( int i = 0; i < 7; i++ ) {
+			origImg = createTestImage(i);
 
 			for( int j = 0; j < 2; j++ ) {
 				if( j == 1 ) {
@@ -205,18 +196,8 @@ public class TestConvertBufferedImage {
 	public void convertFromMulti() {
 		BufferedImage origImg;
 
-		for( int i = 0; i < 4; i++ ) {
-
-			if( i == 0 )
-				origImg = TestConvertRaster.createByteBuff(imgWidth, imgHeight, 1, rand);
-			else if( i == 1 )
-				origImg = TestConvertRaster.createByteBuff(imgWidth, imgHeight, 3, rand);
-			else if( i == 2 )
-				origImg = TestConvertRaster.createByteBuff(imgWidth, imgHeight, 4, rand);
-			else if( i == 3 )
-				origImg = TestConvertRaster.createByteIndexed(imgWidth, imgHeight, rand );
-			else
-				origImg = TestConvertRaster.createIntBuff(imgWidth, imgHeight, rand);
+		for( int i = 0; i < 7; i++ ) {
+			origImg = createTestImage(i);
 
 			for( int j = 0; j < 2; j++ ) {
 				if( j == 1 ) {
@@ -235,6 +216,40 @@ public class TestConvertBufferedImage {
 		}
 	}
 
+	@Test
+	public void convertFrom_interleaved() {
+		for( int i = 0; i < 6; i++ ) {
+			BufferedImage origImg = createTestImage(i);
+
+			for( int j = 0; j < 2; j++ ) {
+				if( j == 1 ) {
+					origImg = origImg.getSubimage(1,2,imgWidth-1,imgHeight-2);
+				}
+
+				ImageInterleavedInt8 found = ConvertBufferedImage.convertFrom(origImg, (ImageInterleavedInt8)null);
+				assertEquals(origImg.getWidth(), found.width);
+				assertEquals(origImg.getHeight(), found.height);
+				BoofTesting.checkEquals(origImg, found);
+			}
+		}
+	}
+
+	/**
+	 * Creates a BufferedImage of the specified type.  Each type is stored using a different raster.
+	 */
+	private BufferedImage createTestImage( int which ) {
+		switch( which ) {
+			case 0: return TestConvertRaster.createByteBuff(imgWidth, imgHeight, 1, rand);
+			case 1: return TestConvertRaster.createByteBuff(imgWidth, imgHeight, 3, rand);
+			case 2: return TestConvertRaster.createByteBuff(imgWidth, imgHeight, 4, rand);
+			case 3: return TestConvertRaster.createByteIndexed(imgWidth, imgHeight, rand);
+			case 4: return TestConvertRaster.createIntBuff(imgWidth, imgHeight, rand);
+			case 5: return TestConvertRaster.createIntBuff(imgWidth, imgHeight, BufferedImage.TYPE_INT_ARGB, rand);
+			case 6: return TestConvertRaster.createShortBuff(imgWidth, imgHeight, rand);
+			default: throw new IllegalArgumentException("Unknown");
+		}
+	}
+
 	/**
 	 * Create an image and convert it into a buffered image
 	 */
@@ -264,6 +279,123 @@ public class TestConvertBufferedImage {
 		BoofTesting.checkEquals(dstImg, srcImg, 1);
 	}
 
+	@Test
+	public void convertTo_interleaved() {
+		int types[] = new int[]{BufferedImage.TYPE_3BYTE_BGR,BufferedImage.TYPE_4BYTE_ABGR,
+				BufferedImage.TYPE_INT_RGB,BufferedImage.TYPE_INT_ARGB};
+		int bands[] = new int[]{3,4,3,4};
+
+		for( int i = 0; i < types.length; i++ ) {
+			ImageInterleavedInt8 image = new ImageInterleavedInt8(imgWidth,imgHeight,bands[i]);
+			for( int j = 0; j < image.data.length; j++ )
+				image.data[j] = (byte)rand.nextInt(256);
+
+			BufferedImage found = new BufferedImage(imgWidth,imgHeight,types[i]);
+			ConvertBufferedImage.convertTo(image, found);
+			BoofTesting.checkEquals(found, image);
+
+			// sub-images should work too
+			found = found.getSubimage(1,2,imgWidth-1,imgHeight-2);
+			image = image.subimage(1,2,imgWidth,imgHeight);
+			ConvertBufferedImage.convertTo(image, found);
+			BoofTesting.checkEquals(found, image);
+		}
+
+		// see if it creates a compatible image
+		ImageInterleavedInt8 image = new ImageInterleavedInt8(imgWidth,imgHeight,4);
+		BufferedImage found = ConvertBufferedImage.convertTo(image, null);
+		assertEquals(BufferedImage.TYPE_4BYTE_ABGR, found.getType());
+	}
+
+	/**
+	 * The concurrent conversion should produce the same results as the single threaded version
+	 */
+	@Test
+	public void convertFrom_concurrent() {
+		int originalThreads = BoofConcurrency.getMaxThreads();
+		BoofConcurrency.setMaxThreads(3);
+		try {
+			int width = 30, height = 100;
+			BufferedImage orig[] = new BufferedImage[]{
+					TestConvertRaster.createByteBuff(width, height, 1, rand),
+					TestConvertRaster.createByteBuff(width, height, 3, rand),
+					TestConvertRaster.createIntBuff(width, height, BufferedImage.TYPE_INT_ARGB, rand),
+					TestConvertRaster.createShortBuff(width, height, rand)};
+
+			for( BufferedImage b : orig ) {
+				int numBands = b.getRaster().getNumBands();
+				// there is no direct conversion from a 16-bit raster so RGB is used
+				int interleavedBands = b.getType() == BufferedImage.TYPE_USHORT_GRAY ? 3 : numBands;
+				ImageBase images[] = new ImageBase[]{
+						new ImageUInt8(width,height),new ImageFloat32(width,height),
+						new MultiSpectral<ImageUInt8>(ImageUInt8.class,width,height,numBands),
+						new ImageInterleavedInt8(width,height,interleavedBands)};
+
+				for( ImageBase expected : images ) {
+					ImageBase found = expected._createNew(width,height);
+					ConvertBufferedImage.convertFrom(b, expected, false);
+					ConvertBufferedImage.convertFrom(b, found, true);
+
+					BoofTesting.assertEquals(expected, found, 1e-4);
+				}
+			}
+		} finally {
+			BoofConcurrency.setMaxThreads(originalThreads);
+		}
+	}
+
+	/**
+	 * The concurrent conversion should produce the same results as the single threaded version
+	 */
+	@Test
+	public void convertTo_concurrent() {
+		int originalThreads = BoofConcurrency.getMaxThreads();
+		BoofConcurrency.setMaxThreads(3);
+		try {
+			int width = 30, height = 100;
+			int types[] = new int[]{BufferedImage.TYPE_BYTE_GRAY,BufferedImage.TYPE_3BYTE_BGR,
+					BufferedImage.TYPE_INT_RGB,BufferedImage.TYPE_USHORT_GRAY};
+
+			for( int type : types ) {
+				ImageBase images[] = new ImageBase[]{
+						new ImageUInt8(width,height),new ImageFloat32(width,height),
+						new MultiSpectral<ImageUInt8>(ImageUInt8.class,width,height,3),
+						new ImageInterleavedInt8(width,height,3)};
+
+				for( ImageBase src : images ) {
+					// only gray scale images can be written into single band BufferedImages
+					int bufferedBands = new BufferedImage(1,1,type).getRaster().getNumBands();
+					if( bufferedBands == 1 && !(src instanceof ImageSingleBand) )
+						continue;
+
+					if( src instanceof ImageInterleavedInt8 ) {
+						byte data[] = ((ImageInterleavedInt8)src).data;
+						for( int i = 0; i < data.length; i++ )
+							data[i] = (byte)rand.nextInt(256);
+					} else {
+						GImageMiscOps.fillUniform(src, rand, 0, 255);
+					}
+
+					BufferedImage expected = new BufferedImage(width,height,type);
+					BufferedImage found = new BufferedImage(width,height,type);
+					ConvertBufferedImage.convertTo(src, expected, false);
+					ConvertBufferedImage.convertTo(src, found, true);
+
+					for( int y = 0; y < height; y++ ) {
+						for( int x = 0; x < width; x++ ) {
+							for( int band = 0; band < expected.getRaster().getNumBands(); band++ ) {
+								assertEquals(expected.getRaster().getSample(x,y,band),
+										found.getRaster().getSample(x,y,band));
+							}
+						}
+					}
+				}
+			}
+		} finally {
+			BoofConcurrency.setMaxThreads(originalThreads);
+		}
+	}
+
 	@Test
 	public void convertTo_JComponent() {
 		JLabel label = new JLabel("Hi");
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.core.image;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.ImageBufferFloat32;
+import boofcv.struct.image.ImageBufferUInt8;
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageUInt8;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestConvertImageBuffer {
+
+	Random rand = new Random(234);
+	int width = 20;
+	int height = 25;
+
+	@Test
+	public void copy_U8() {
+		for( boolean sub : new boolean[]{false,true}) {
+			ImageUInt8 input = new ImageUInt8(width,height);
+			ImageMiscOps.fillUniform(input,rand,0,256);
+
+			ImageBufferUInt8 buffer = createU8(sub);
+			ImageUInt8 found = new ImageUInt8(width,height);
+
+			ConvertImageBuffer.copy(input,buffer);
+			ConvertImageBuffer.copy(buffer,found);
+
+			BoofTesting.assertEquals(input,found,0);
+		}
+	}
+
+	@Test
+	public void copy_F32() {
+		for( boolean sub : new boolean[]{false,true}) {
+			ImageFloat32 input = new ImageFloat32(width,height);
+			ImageMiscOps.fillUniform(input,rand,-100,100);
+
+			ImageBufferFloat32 buffer = createF32(sub);
+			ImageFloat32 found = new ImageFloat32(width,height);
+
+			ConvertImageBuffer.copy(input,buffer);
+			ConvertImageBuffer.copy(buffer,found);
+
+			BoofTesting.assertEquals(input,found,0);
+		}
+	}
+
+	@Test
+	public void convert_U8_F32() {
+		for( boolean sub : new boolean[]{false,true}) {
+			ImageUInt8 input = new ImageUInt8(width,height);
+			ImageMiscOps.fillUniform(input,rand,0,256);
+			ImageFloat32 expected = ConvertImage.convert(input,(ImageFloat32)null);
+
+			ImageBufferUInt8 bufferIn = createU8(sub);
+			ConvertImageBuffer.copy(input,bufferIn);
+
+			ImageFloat32 found = new ImageFloat32(width,height);
+			ConvertImageBuffer.convert(bufferIn,found);
+			BoofTesting.assertEquals(expected,found,0);
+
+			ImageBufferFloat32 bufferOut = createF32(sub);
+			ConvertImageBuffer.convert(bufferIn,bufferOut);
+			ConvertImageBuffer.copy(bufferOut,found);
+			BoofTesting.assertEquals(expected,found,0);
+		}
+	}
+
+	@Test
+	public void convert_F32_U8() {
+		for( boolean sub : new boolean[]{false,true}) {
+			ImageFloat32 input = new ImageFloat32(width,height);
+			ImageMiscOps.fillUniform(input,rand,0,255);
+			ImageUInt8 expected = ConvertImage.convert(input,(ImageUInt8)null);
+
+			ImageBufferFloat32 bufferIn = createF32(sub);
+			ConvertImageBuffer.copy(input,bufferIn);
+
+			ImageUInt8 found = new ImageUInt8(width,height);
+			ConvertImageBuffer.convert(bufferIn,found);
+			BoofTesting.assertEquals(expected,found,0);
+
+			ImageBufferUInt8 bufferOut = createU8(sub);
+			ConvertImageBuffer.convert(bufferIn,bufferOut);
+			ConvertImageBuffer.copy(bufferOut,found);
+			BoofTesting.assertEquals(expected,found,0);
+		}
+	}
+
+	private ImageBufferUInt8 createU8( boolean sub ) {
+		if( sub )
+			return new ImageBufferUInt8(width+10,height+12).subimage(5,6,5+width,6+height);
+		return new ImageBufferUInt8(width,height);
+	}
+
+	private ImageBufferFloat32 createF32( boolean sub ) {
+		if( sub )
+			return new ImageBufferFloat32(width+10,height+12).subimage(5,6,5+width,6+height);
+		return new ImageBufferFloat32(width,height);
+	}
+}
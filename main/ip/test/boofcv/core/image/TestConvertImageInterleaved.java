@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.core.image;
+
+import boofcv.alg.misc.GImageMiscOps;
+import boofcv.alg.misc.ImageInterleavedTestingOps;
+import boofcv.struct.image.*;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestConvertImageInterleaved {
+
+	Random rand = new Random(234);
+	int width = 20;
+	int height = 25;
+	int numBands = 3;
+
+	@Test
+	public void convert_U8_F32() {
+		ImageInterleavedInt8 src = createSubU8();
+		ImageInterleavedTestingOps.randomize(src,rand);
+
+		ImageInterleavedFloat32 dst = createSubF32();
+		ConvertImageInterleaved.convert(src,dst);
+
+		for( int y = 0; y < height; y++ ) {
+			for( int x = 0; x < width; x++ ) {
+				for( int band = 0; band < numBands; band++ ) {
+					assertEquals(src.getBand(x,y,band) & 0xFF,dst.getBand(x,y,band),0);
+				}
+			}
+		}
+
+		ImageInterleavedInt8 back = new ImageInterleavedInt8(width,height,numBands);
+		ConvertImageInterleaved.convert(dst,back);
+		for( int y = 0; y < height; y++ ) {
+			for( int x = 0; x < width; x++ ) {
+				for( int band = 0; band < numBands; band++ ) {
+					assertEquals(src.getBand(x,y,band),back.getBand(x,y,band));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void convert_MultiSpectral_U8() {
+		MultiSpectral<ImageUInt8> ms = new MultiSpectral<ImageUInt8>(ImageUInt8.class,width,height,numBands);
+		GImageMiscOps.fillUniform(ms,rand,0,256);
+
+		ImageInterleavedInt8 inter = createSubU8();
+		ConvertImageInterleaved.convert(ms,inter);
+
+		for( int y = 0; y < height; y++ ) {
+			for( int x = 0; x < width; x++ ) {
+				for( int band = 0; band < numBands; band++ ) {
+					assertEquals(ms.getBand(band).get(x,y),inter.getBand(x,y,band) & 0xFF);
+				}
+			}
+		}
+
+		MultiSpectral<ImageUInt8> back = new MultiSpectral<ImageUInt8>(ImageUInt8.class,width,height,numBands);
+		ConvertImageInterleaved.convert(inter,back);
+		for( int band = 0; band < numBands; band++ )
+			BoofTesting.assertEquals(ms.getBand(band),back.getBand(band),0);
+	}
+
+	@Test
+	public void convert_MultiSpectral_F32() {
+		MultiSpectral<ImageFloat32> ms = new MultiSpectral<ImageFloat32>(ImageFloat32.class,width,height,numBands);
+		GImageMiscOps.fillUniform(ms,rand,-20,20);
+
+		ImageInterleavedFloat32 inter = createSubF32();
+		ConvertImageInterleaved.convert(ms,inter);
+
+		for( int y = 0; y < height; y++ ) {
+			for( int x = 0; x < width; x++ ) {
+				for( int band = 0; band < numBands; band++ ) {
+					assertEquals(ms.getBand(band).get(x,y),inter.getBand(x,y,band),0);
+				}
+			}
+		}
+
+		MultiSpectral<ImageFloat32> back = new MultiSpectral<ImageFloat32>(ImageFloat32.class,width,height,numBands);
+		ConvertImageInterleaved.convert(inter,back);
+		for( int band = 0; band < numBands; band++ )
+			BoofTesting.assertEquals(ms.getBand(band),back.getBand(band),0);
+	}
+
+	@Test
+	public void average_U8() {
+		for( int bands = 1; bands <= 4; bands++ ) {
+			MultiSpectral<ImageUInt8> ms = new MultiSpectral<ImageUInt8>(ImageUInt8.class,width,height,bands);
+			GImageMiscOps.fillUniform(ms,rand,0,256);
+			ImageInterleavedInt8 inter = new ImageInterleavedInt8(width+10,height+12,bands).subimage(5,6,5+width,6+height);
+			ConvertImageInterleaved.convert(ms,inter);
+
+			ImageUInt8 expected = ConvertImage.average(ms,null);
+			ImageUInt8 found = ConvertImageInterleaved.average(inter,null);
+			BoofTesting.assertEquals(expected,found,0);
+		}
+	}
+
+	@Test
+	public void average_F32() {
+		for( int bands = 1; bands <= 4; bands++ ) {
+			MultiSpectral<ImageFloat32> ms = new MultiSpectral<ImageFloat32>(ImageFloat32.class,width,height,bands);
+			GImageMiscOps.fillUniform(ms,rand,-20,20);
+			ImageInterleavedFloat32 inter = new ImageInterleavedFloat32(width+10,height+12,bands).subimage(5,6,5+width,6+height);
+			ConvertImageInterleaved.convert(ms,inter);
+
+			ImageFloat32 expected = ConvertImage.average(ms,null);
+			ImageFloat32 found = ConvertImageInterleaved.average(inter,null);
+			BoofTesting.assertEquals(expected,found,1e-4);
+		}
+	}
+
+	private ImageInterleavedInt8 createSubU8() {
+		return new ImageInterleavedInt8(width+10,height+12,numBands).subimage(5,6,5+width,6+height);
+	}
+
+	private ImageInterleavedFloat32 createSubF32() {
+		return new ImageInterleavedFloat32(width+10,height+12,numBands).subimage(5,6,5+width,6+height);
+	}
+}
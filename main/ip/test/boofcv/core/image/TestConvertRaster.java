@@ -24,6 +24,7 @@ import boofcv.testing.BoofTesting;
 import org.junit.Test;
 import sun.awt.image.ByteInterleavedRaster;
 import sun.awt.image.IntegerInterleavedRaster;
+import sun.awt.image.ShortInterleavedRaster;
 
 import java.awt.image.BufferedImage;
 import java.awt.image.Raster;
@@ -44,7 +45,7 @@ public class TestConvertRaster {
 	int imgWidth = 10;
 	int imgHeight = 20;
 
-	int numMethods = 27;
+	int numMethods = 37;
 
 	/**
 	 * Use reflections to test all the functions.
@@ -143,6 +144,8 @@ public class TestConvertRaster {
 		ImageBase output;
 		if (ImageSingleBand.class.isAssignableFrom(imageType)) {
 			output = GeneralizedImageOps.createSingleBand(imageType, inputBuff.getWidth(), inputBuff.getHeight());
+		} else if (ImageInterleavedInt8.class == imageType) {
+			output = new ImageInterleavedInt8(inputBuff.getWidth(), inputBuff.getHeight(), numBands);
 		} else {
 			Class type;
 			if (m.getName().contains("U8")) {
@@ -170,7 +173,11 @@ public class TestConvertRaster {
 					createByteBuff(imgWidth, imgHeight, 3, rand),
 					createByteBuff(imgWidth, imgHeight, 1, rand)};
 		} else if (paramType == IntegerInterleavedRaster.class) {
-			input = new BufferedImage[]{createIntBuff(imgWidth, imgHeight, rand)};
+			input = new BufferedImage[]{
+					createIntBuff(imgWidth, imgHeight, rand),
+					createIntBuff(imgWidth, imgHeight, BufferedImage.TYPE_INT_ARGB, rand)};
+		} else if (paramType == ShortInterleavedRaster.class) {
+			input = new BufferedImage[]{createShortBuff(imgWidth, imgHeight, rand)};
 		} else if (paramType == BufferedImage.class) {
 			// just pick an arbitrary image type here
 			input = new BufferedImage[]{createIntBuff(imgWidth, imgHeight, rand)};
@@ -202,10 +209,28 @@ public class TestConvertRaster {
 		BufferedImage output[] = createBufferedTestImages(paramTypes[1]);
 
 		for (int i = 0; i < output.length; i++) {
+			// regular image
 			ImageBase input = createImage(m, paramTypes[0], output[i]);
-			GImageMiscOps.fillUniform(input, rand, 0, 50);
+			fillUniform(input);
 
 			BoofTesting.checkSubImage(this, "performGrayTo", true, m, input, output[i]);
+
+			// subimage output
+			BufferedImage subimage = output[i].getSubimage(1,2,imgWidth-1,imgHeight-2);
+			input = createImage(m, paramTypes[0], subimage);
+			fillUniform(input);
+
+			BoofTesting.checkSubImage(this, "performGrayTo", true, m, input, subimage);
+		}
+	}
+
+	private void fillUniform(ImageBase image) {
+		if (image instanceof ImageInterleavedInt8) {
+			ImageInterleavedInt8 inter = (ImageInterleavedInt8) image;
+			for (int i = 0; i < inter.data.length; i++)
+				inter.data[i] = (byte) rand.nextInt(50);
+		} else {
+			GImageMiscOps.fillUniform(image, rand, 0, 50);
 		}
 	}
 
@@ -252,7 +277,17 @@ public class TestConvertRaster {
 	}
 
 	public static BufferedImage createIntBuff(int width, int height, Random rand) {
-		BufferedImage ret = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		return createIntBuff(width, height, BufferedImage.TYPE_INT_RGB, rand);
+	}
+
+	public static BufferedImage createIntBuff(int width, int height, int type, Random rand) {
+		BufferedImage ret = new BufferedImage(width, height, type);
+		randomize(ret, rand);
+		return ret;
+	}
+
+	public static BufferedImage createShortBuff(int width, int height, Random rand) {
+		BufferedImage ret = new BufferedImage(width, height, BufferedImage.TYPE_USHORT_GRAY);
 		randomize(ret, rand);
 		return ret;
 	}
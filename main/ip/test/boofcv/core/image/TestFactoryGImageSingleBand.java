@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.core.image;
+
+import boofcv.struct.image.ImageFloat32;
+import boofcv.struct.image.ImageUInt8;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestFactoryGImageSingleBand {
+
+	/**
+	 * Create the wrapper once and provide images to it later
+	 */
+	@Test
+	public void create_wrap() {
+		ImageFloat32 a = new ImageFloat32(5,6);
+		ImageFloat32 b = new ImageFloat32(7,8);
+		a.set(1,2,3.5f);
+		b.set(1,2,4.5f);
+
+		GImageSingleBand g = FactoryGImageSingleBand.create(ImageFloat32.class);
+		assertTrue(g.isFloatingPoint());
+
+		g.wrap(a);
+		assertTrue(a == g.getImage());
+		assertEquals(5,g.getWidth());
+		assertEquals(3.5f,g.get(1,2).floatValue(),1e-8);
+
+		g.wrap(b);
+		assertTrue(b == g.getImage());
+		assertEquals(7,g.getWidth());
+		assertEquals(4.5f,g.get(1,2).floatValue(),1e-8);
+
+		g = FactoryGImageSingleBand.create(ImageUInt8.class);
+		assertFalse(g.isFloatingPoint());
+		ImageUInt8 c = new ImageUInt8(5,6);
+		g.wrap(c);
+		g.set(2,3,200);
+		assertEquals(200,c.get(2,3));
+	}
+}
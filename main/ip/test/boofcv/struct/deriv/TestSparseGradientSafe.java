@@ -52,17 +52,58 @@ public class TestSparseGradientSafe {
 		// read inside and see if it has the expected results
 		assertTrue(safe.compute(width/2,height/2) == null);
 	}
+
+	/**
+	 * The batch function should only call the wrapped batch function when all the points are inside
+	 */
+	@Test
+	public void checkMakeBorderSafe_batch() {
+		Dummy d = new Dummy();
+		SparseImageGradient<ImageFloat32,GradientValue_F32> safe =
+				new SparseGradientSafe<ImageFloat32, GradientValue_F32>(d);
+
+		int x[] = new int[]{width/2,width/2+1,width/2+2};
+		int y[] = new int[]{height/2,height/2,height/2};
+		double derivX[] = new double[3];
+		double derivY[] = new double[3];
+
+		safe.compute(x,y,3,derivX,derivY);
+		for( int i = 0; i < 3; i++ ) {
+			assertTrue(derivX[i]==1);
+			assertTrue(derivY[i]==1);
+		}
+
+		// include a point along the border
+		d.inside = new GradientValue_F32();
+		d.inside.x = 2; d.inside.y = 3;
+		x[1] = 0;
+		safe.compute(x,y,3,derivX,derivY);
+		assertTrue(derivX[0]==2 && derivY[0]==3);
+		assertTrue(derivX[1]==0 && derivY[1]==0);
+		assertTrue(derivX[2]==2 && derivY[2]==3);
+	}
 	
 	
 	private static class Dummy implements SparseImageGradient<ImageFloat32,GradientValue_F32>
 	{
+		// value returned for points inside the image
+		GradientValue_F32 inside;
 
 		@Override
 		public GradientValue_F32 compute(int x, int y) {
 			if( !isInBounds(x,y) )
 				throw new RuntimeException("Bad stuff");
 			
-			return null;
+			return inside;
+		}
+
+		@Override
+		public void compute(int[] x, int[] y, int length, double[] derivX, double[] derivY) {
+			for( int i = 0; i < length; i++ ) {
+				if( !isInBounds(x[i],y[i]) )
+					throw new RuntimeException("Bad stuff");
+				derivX[i] = derivY[i] = 1;
+			}
 		}
 
 		@Override
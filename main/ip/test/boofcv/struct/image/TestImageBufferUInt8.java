@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.struct.image;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImageBufferUInt8 {
+
+	@Test
+	public void constructor() {
+		ImageBufferUInt8 img = new ImageBufferUInt8(10,12);
+		assertEquals(10,img.width);
+		assertEquals(12,img.height);
+		assertEquals(10,img.stride);
+		assertEquals(0,img.startIndex);
+		assertTrue(img.data.isDirect());
+		assertTrue(img.data.capacity() >= 120);
+	}
+
+	@Test
+	public void wrap() {
+		ByteBuffer buffer = ByteBuffer.allocate(100);
+		buffer.put(5+2*12+3,(byte)200);
+
+		ImageBufferUInt8 img = new ImageBufferUInt8(buffer,10,8,5,12);
+		assertEquals(200,img.get(3,2));
+
+		// changes should be visible in the original buffer
+		img.set(1,1,23);
+		assertEquals(23,buffer.get(5+12+1));
+
+		// buffer is too small
+		try {
+			new ImageBufferUInt8(buffer,10,9,5,12);
+			fail("Exception should have been thrown");
+		} catch( IllegalArgumentException ignore ){}
+	}
+
+	@Test
+	public void getSet() {
+		ImageBufferUInt8 img = new ImageBufferUInt8(10,12);
+		img.set(4,5,255);
+		assertEquals(255,img.get(4,5));
+		img.unsafe_set(4,5,3);
+		assertEquals(3,img.unsafe_get(4,5));
+
+		try {
+			img.get(10,5);
+			fail("Exception should have been thrown");
+		} catch( ImageAccessException ignore ){}
+	}
+
+	@Test
+	public void subimage() {
+		ImageBufferUInt8 img = new ImageBufferUInt8(10,12);
+		ImageBufferUInt8 sub = img.subimage(2,3,6,8);
+
+		assertTrue(sub.data == img.data);
+		assertEquals(4,sub.width);
+		assertEquals(5,sub.height);
+		assertTrue(sub.isSubimage());
+
+		sub.set(1,2,100);
+		assertEquals(100,img.get(3,5));
+	}
+
+	@Test
+	public void reshape() {
+		ImageBufferUInt8 img = new ImageBufferUInt8(10,12);
+		ByteBuffer original = img.data;
+
+		// should not allocate new memory if it is smaller
+		img.reshape(5,6);
+		assertTrue(original == img.data);
+		assertEquals(5,img.width);
+		assertEquals(6,img.height);
+		assertEquals(5,img.stride);
+
+		img.reshape(20,8);
+		assertTrue(original != img.data);
+		assertTrue(img.data.capacity() >= 160);
+	}
+
+	@Test
+	public void setTo() {
+		ImageBufferUInt8 a = new ImageBufferUInt8(10,12);
+		for( int i = 0; i < 120; i++ )
+			a.data.put(i,(byte)i);
+
+		ImageBufferUInt8 b = new ImageBufferUInt8(20,22).subimage(3,4,13,16);
+		b.setTo(a);
+
+		for( int y = 0; y < 12; y++ )
+			for( int x = 0; x < 10; x++ )
+				assertEquals(a.get(x,y),b.get(x,y));
+
+		// position of the buffers should not be modified
+		assertEquals(0,a.data.position());
+		assertEquals(0,b.data.position());
+	}
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.struct.image;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestImagePool {
+
+	@Test
+	public void borrow_release() {
+		ImagePool alg = new ImagePool(10000);
+
+		ImageFloat32 a = alg.borrow(ImageFloat32.class,10,15);
+		assertEquals(10,a.width);
+		assertEquals(15,a.height);
+		assertEquals(0,alg.getHits());
+		assertEquals(1,alg.getMisses());
+
+		alg.release(a);
+		assertEquals(1,alg.getTotalImages());
+		assertEquals(10*15*4,alg.getTotalBytes());
+
+		// should get the same image back
+		assertTrue(a == alg.borrow(ImageFloat32.class,10,15));
+		assertEquals(1,alg.getHits());
+		assertEquals(0,alg.getTotalImages());
+		assertEquals(0,alg.getTotalBytes());
+	}
+
+	@Test
+	public void borrow_matchTypeAndShape() {
+		ImagePool alg = new ImagePool(10000);
+
+		ImageFloat32 a = alg.borrow(ImageFloat32.class,10,15);
+		alg.release(a);
+
+		assertTrue(a != alg.borrow(ImageFloat32.class,15,10));
+		assertTrue(alg.borrow(ImageUInt8.class,10,15) instanceof ImageUInt8);
+		assertTrue(alg.borrow(ImageFloat64.class,10,15) instanceof ImageFloat64);
+		assertEquals(0,alg.getHits());
+		assertEquals(4,alg.getMisses());
+		assertEquals(1,alg.getTotalImages());
+	}
+
+	@Test
+	public void release_bounded() {
+		// room for two images
+		ImagePool alg = new ImagePool(2*10*10*4+5);
+
+		ImageFloat32 a = alg.borrow(ImageFloat32.class,10,10);
+		ImageFloat32 b = alg.borrow(ImageFloat32.class,10,10);
+		ImageSInt32 c = alg.borrow(ImageSInt32.class,10,10);
+
+		alg.release(a);
+		alg.release(b);
+		alg.release(c);
+
+		// the oldest image should have been discarded
+		assertEquals(2,alg.getTotalImages());
+		assertEquals(1,alg.getDiscarded());
+		assertTrue(c == alg.borrow(ImageSInt32.class,10,10));
+		assertTrue(b == alg.borrow(ImageFloat32.class,10,10));
+		assertEquals(0,alg.getTotalImages());
+
+		// images larger than the pool are discarded
+		alg.release(new ImageFloat32(100,100));
+		assertEquals(0,alg.getTotalImages());
+		assertEquals(2,alg.getDiscarded());
+	}
+
+	@Test
+	public void setMaxBytes() {
+		ImagePool alg = new ImagePool(10000);
+		alg.release(new ImageUInt8(10,10));
+		alg.release(new ImageUInt8(10,10));
+
+		alg.setMaxBytes(150);
+		assertEquals(1,alg.getTotalImages());
+		assertEquals(100,alg.getTotalBytes());
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void release_subimage() {
+		ImagePool alg = new ImagePool(10000);
+		alg.release(new ImageUInt8(10,10).subimage(1,1,5,5));
+	}
+
+	/**
+	 * Returning the same image twice would cause it to be borrowed twice
+	 */
+	@Test
+	public void release_twice() {
+		ImagePool alg = new ImagePool(10000);
+		ImageUInt8 image = alg.borrow(ImageUInt8.class,10,10);
+		alg.release(alg.borrow(ImageUInt8.class,10,10));
+		alg.release(image);
+		try {
+			alg.release(image);
+			fail("Exception should have been thrown");
+		} catch( IllegalArgumentException ignore ) {}
+
+		assertEquals(2,alg.getTotalImages());
+		assertTrue(alg.borrow(ImageUInt8.class,10,10) != alg.borrow(ImageUInt8.class,10,10));
+	}
+
+	/**
+	 * The shared pool should be able to hold the work images needed to process 4K images
+	 */
+	@Test
+	public void defaultMaxBytes() {
+		long expected = Math.min(ImagePool.DEFAULT_MAX_BYTES,Runtime.getRuntime().maxMemory()/4);
+		assertEquals(expected,ImagePool.defaultMaxBytes());
+		assertEquals(expected,ImagePool.getShared().getMaxBytes());
+		assertTrue(ImagePool.DEFAULT_MAX_BYTES >= 2L*3840*2160*4);
+	}
+
+	@Test
+	public void clear_resetStatistics() {
+		ImagePool alg = new ImagePool(10000);
+		alg.release(alg.borrow(ImageUInt8.class,10,10));
+		alg.clear();
+		assertEquals(0,alg.getTotalImages());
+		assertEquals(0,alg.getTotalBytes());
+		assertEquals(1,alg.getMisses());
+
+		alg.resetStatistics();
+		assertEquals(0,alg.getMisses());
+		assertEquals(0,alg.getHits());
+		assertEquals(0,alg.getDiscarded());
+	}
+
+	/**
+	 * Several threads borrow and release images at the same time.  The same image should never be
+	 * borrowed by two threads at once.
+	 */
+	@Test
+	public void multipleThreads() throws InterruptedException {
+		final ImagePool alg = new ImagePool(1000000);
+		final List<Throwable> errors = new ArrayList<Throwable>();
+
+		List<Thread> threads = new ArrayList<Thread>();
+		for( int i = 0; i < 4; i++ ) {
+			final int value = i+1;
+			threads.add(new Thread() {
+				@Override
+				public void run() {
+					try {
+						for( int trial = 0; trial < 500; trial++ ) {
+							ImageSInt32 img = alg.borrow(ImageSInt32.class,20,10);
+							img.data[0] = value;
+							Thread.yield();
+							assertEquals(value,img.data[0]);
+							alg.release(img);
+						}
+					} catch( Throwable t ) {
+						synchronized( errors ) {
+							errors.add(t);
+						}
+					}
+				}
+			});
+		}
+		for( Thread t : threads )
+			t.start();
+		for( Thread t : threads )
+			t.join();
+
+		assertEquals(0,errors.size());
+		assertEquals(4*500,alg.getHits()+alg.getMisses());
+		assertTrue(alg.getMisses() <= 4);
+	}
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2011-2013, Peter Abeles. All Rights Reserved.
+ *
+ * This file is part of BoofCV (http://boofcv.org).
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package boofcv.struct.tile;
+
+import boofcv.alg.misc.ImageMiscOps;
+import boofcv.struct.image.ImageUInt8;
+import boofcv.testing.BoofTesting;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Peter Abeles
+ */
+public class TestTileStoreImage {
+
+	Random rand = new Random(234);
+
+	@Test
+	public void read_write() {
+		ImageUInt8 image = new ImageUInt8(30,40);
+		ImageMiscOps.fillUniform(image,rand,0,100);
+		ImageUInt8 original = image.clone();
+
+		TileStoreImage<ImageUInt8> alg = new TileStoreImage<ImageUInt8>(image);
+		assertEquals(30,alg.getWidth());
+		assertEquals(40,alg.getHeight());
+		assertTrue(ImageUInt8.class == alg.getImageType());
+
+		ImageUInt8 region = new ImageUInt8(5,7);
+		alg.read(3,4,region);
+		BoofTesting.assertEquals(original.subimage(3,4,8,11),region,0);
+
+		ImageMiscOps.fill(region,200);
+		alg.write(10,12,region);
+		BoofTesting.assertEquals(region,image.subimage(10,12,15,19),0);
+		assertEquals(original.get(9,12),image.get(9,12));
+		assertEquals(original.get(15,18),image.get(15,18));
+	}
+}